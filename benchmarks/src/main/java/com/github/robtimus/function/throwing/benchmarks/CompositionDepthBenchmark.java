@@ -0,0 +1,103 @@
+/*
+ * CompositionDepthBenchmark.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import com.github.robtimus.function.throwing.ThrowingFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for chains of composed functions. Each step in the chain adds a level to the call stack, and deep enough chains exceed the JIT's
+ * inlining limits.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompositionDepthBenchmark {
+
+    @Param({ "1", "4", "16", "64" })
+    public int depth;
+
+    private int input = 42;
+
+    private Function<Integer, Integer> raw;
+    private Function<Integer, Integer> andThen;
+    private Function<Integer, Integer> compose;
+
+    @Setup
+    public void setup() {
+        Function<Integer, Integer> rawChain = i -> i ^ 1;
+        ThrowingFunction<Integer, Integer, IOException> andThenChain = i -> i ^ 1;
+        ThrowingFunction<Integer, Integer, IOException> composeChain = i -> i ^ 1;
+        for (int i = 1; i < depth; i++) {
+            rawChain = rawChain.andThen(j -> j ^ 1);
+            andThenChain = andThenChain.andThen(j -> j ^ 1);
+            composeChain = composeChain.compose(j -> j ^ 1);
+        }
+        raw = rawChain;
+        andThen = andThenChain.unchecked();
+        compose = composeChain.unchecked();
+    }
+
+    /**
+     * Measures a chain created using {@link Function#andThen(Function)} as baseline.
+     *
+     * @return The result of the chain.
+     */
+    @Benchmark
+    public Integer raw() {
+        return raw.apply(input);
+    }
+
+    /**
+     * Measures a chain created using {@link ThrowingFunction#andThen(ThrowingFunction)}.
+     *
+     * @return The result of the chain.
+     */
+    @Benchmark
+    public Integer andThen() {
+        return andThen.apply(input);
+    }
+
+    /**
+     * Measures a chain created using {@link ThrowingFunction#compose(ThrowingFunction)}.
+     *
+     * @return The result of the chain.
+     */
+    @Benchmark
+    public Integer compose() {
+        return compose.apply(input);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Failures.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import com.github.robtimus.function.throwing.UncheckedException;
+
+/**
+ * Pre-allocated exceptions thrown by the benchmarked functions.
+ * These are shared so the exception path measures the cost of the adapters, not the cost of creating the original exception.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("nls")
+final class Failures {
+
+    static final IOException CHECKED = new IOException("failure");
+
+    static final UncheckedIOException UNCHECKED = new UncheckedIOException(CHECKED);
+
+    static final UncheckedException WRAPPED = UncheckedException.withoutStackTrace(CHECKED);
+
+    private Failures() {
+    }
+}
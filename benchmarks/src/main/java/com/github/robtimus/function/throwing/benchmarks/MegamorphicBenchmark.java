@@ -0,0 +1,114 @@
+/*
+ * MegamorphicBenchmark.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import com.github.robtimus.function.throwing.ThrowingFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for call sites that see several {@link Function} implementations created by {@link ThrowingFunction} adapters.
+ * With {@code types=1} the call site is monomorphic, with {@code types=2} it is bimorphic, and with {@code types=4} it is megamorphic.
+ * Comparing the adapters with plain lambdas shows whether the adapters add type profile pollution on top of the lambdas themselves.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("nls")
+public class MegamorphicBenchmark {
+
+    private static final int SIZE = 16;
+
+    @Param({ "1", "2", "4" })
+    public int types;
+
+    private String input = "input";
+
+    private List<Function<String, Integer>> raw;
+    private List<Function<String, Integer>> adapters;
+
+    @Setup
+    public void setup() {
+        List<Function<String, Integer>> rawTypes = List.of(
+                s -> s.length(),
+                s -> s.length() + 1,
+                s -> s.length() + 2,
+                s -> s.length() + 3);
+
+        ThrowingFunction<String, Integer, IOException> throwing = String::length;
+        List<Function<String, Integer>> adapterTypes = List.of(
+                throwing.unchecked(),
+                throwing.onErrorReturn(-1),
+                throwing.onErrorHandleUnchecked(e -> -1),
+                throwing.onErrorGetUnchecked(() -> -1));
+
+        raw = new ArrayList<>(SIZE);
+        adapters = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            raw.add(rawTypes.get(i % types));
+            adapters.add(adapterTypes.get(i % types));
+        }
+    }
+
+    /**
+     * Measures a call site that sees plain {@link Function} lambdas as baseline.
+     *
+     * @param blackhole The blackhole to consume the results.
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void raw(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(raw.get(i).apply(input));
+        }
+    }
+
+    /**
+     * Measures a call site that sees {@link Function} instances returned by different {@link ThrowingFunction} adapters.
+     *
+     * @param blackhole The blackhole to consume the results.
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void adapters(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(adapters.get(i).apply(input));
+        }
+    }
+}
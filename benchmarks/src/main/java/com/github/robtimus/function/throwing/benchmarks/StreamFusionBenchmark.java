@@ -0,0 +1,163 @@
+/*
+ * StreamFusionBenchmark.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import com.github.robtimus.function.throwing.ThrowingFunction;
+import com.github.robtimus.function.throwing.ThrowingPredicate;
+import com.github.robtimus.function.throwing.ThrowingStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for pipelines of alternating {@code map} and {@code filter} operations, using {@link Stream} and {@link ThrowingStream}.
+ * Each operation uses a different lambda, so the call sites inside the pipeline see many receiver types, like they do in real applications.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StreamFusionBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    private static final List<Function<Integer, Integer>> MAPPERS = List.of(
+            i -> i + 1, i -> i ^ 3, i -> i * 3, i -> i - 7, i -> i | 1);
+
+    private static final List<Predicate<Integer>> FILTERS = List.of(
+            i -> (i & 15) != 0, i -> i % 7 != 0, i -> i != 12_345, i -> (i & 255) != 3, i -> i > -5);
+
+    private static final List<ThrowingFunction<Integer, Integer, IOException>> THROWING_MAPPERS = List.of(
+            i -> i + 1, i -> i ^ 3, i -> i * 3, i -> i - 7, i -> i | 1);
+
+    private static final List<ThrowingPredicate<Integer, IOException>> THROWING_FILTERS = List.of(
+            i -> (i & 15) != 0, i -> i % 7 != 0, i -> i != 12_345, i -> (i & 255) != 3, i -> i > -5);
+
+    @Param({ "2", "6", "10" })
+    public int stages;
+
+    private List<Integer> elements;
+
+    @Setup
+    public void setup() throws IOException {
+        elements = IntStream.range(0, SIZE)
+                .boxed()
+                .collect(Collectors.toList());
+        // Run each pipeline shape once, so the profiles of shared call sites include all lambdas, not just those of the current parameter
+        for (int i = 2; i <= 10; i += 4) {
+            javaUtilStream(i);
+            throwingStream(i);
+        }
+    }
+
+    /**
+     * Measures a {@link Stream} pipeline as baseline.
+     *
+     * @return The sum of the pipeline's elements.
+     */
+    @Benchmark
+    public long javaUtilStream() {
+        return javaUtilStream(stages);
+    }
+
+    private long javaUtilStream(int stageCount) {
+        Stream<Integer> stream = elements.stream();
+        for (int i = 0; i < stageCount; i++) {
+            stream = i % 2 == 0
+                    ? stream.map(MAPPERS.get(i / 2))
+                    : stream.filter(FILTERS.get(i / 2));
+        }
+        return stream.mapToLong(Integer::longValue).sum();
+    }
+
+    /**
+     * Measures a {@link ThrowingStream} pipeline, where the {@code map} and {@code filter} operations are fused.
+     *
+     * @return The sum of the pipeline's elements.
+     * @throws IOException Never thrown; required by the pipeline's operations.
+     */
+    @Benchmark
+    public long throwingStream() throws IOException {
+        return throwingStream(stages);
+    }
+
+    private long throwingStream(int stageCount) throws IOException {
+        ThrowingStream<Integer, IOException> stream = ThrowingStream.of(elements.stream());
+        for (int i = 0; i < stageCount; i++) {
+            stream = i % 2 == 0
+                    ? stream.map(THROWING_MAPPERS.get(i / 2))
+                    : stream.filter(THROWING_FILTERS.get(i / 2));
+        }
+        return stream.mapToLong(Integer::longValue).sum();
+    }
+
+    /**
+     * Measures a {@link Stream} pipeline that ends with {@link Stream#forEach(java.util.function.Consumer) forEach} as baseline.
+     *
+     * @param blackhole The blackhole to consume elements.
+     */
+    @Benchmark
+    public void javaUtilStreamForEach(Blackhole blackhole) {
+        Stream<Integer> stream = elements.stream();
+        for (int i = 0; i < stages; i++) {
+            stream = i % 2 == 0
+                    ? stream.map(MAPPERS.get(i / 2))
+                    : stream.filter(FILTERS.get(i / 2));
+        }
+        stream.forEach(blackhole::consume);
+    }
+
+    /**
+     * Measures a {@link ThrowingStream} pipeline that ends with {@link ThrowingStream#forEach(com.github.robtimus.function.throwing.ThrowingConsumer)
+     * forEach}, where the {@code map} and {@code filter} operations are fused into the action.
+     *
+     * @param blackhole The blackhole to consume elements.
+     * @throws IOException Never thrown; required by the pipeline's operations.
+     */
+    @Benchmark
+    public void throwingStreamForEach(Blackhole blackhole) throws IOException {
+        ThrowingStream<Integer, IOException> stream = ThrowingStream.of(elements.stream());
+        for (int i = 0; i < stages; i++) {
+            stream = i % 2 == 0
+                    ? stream.map(THROWING_MAPPERS.get(i / 2))
+                    : stream.filter(THROWING_FILTERS.get(i / 2));
+        }
+        stream.forEach(blackhole::consume);
+    }
+}
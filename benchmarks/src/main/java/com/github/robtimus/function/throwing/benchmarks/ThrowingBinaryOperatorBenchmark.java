@@ -0,0 +1,165 @@
+/*
+ * ThrowingBinaryOperatorBenchmark.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import com.github.robtimus.function.throwing.ThrowingBinaryOperator;
+import com.github.robtimus.function.throwing.UncheckedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the adapters of {@link ThrowingBinaryOperator}.
+ * Each benchmark is run for the success path ({@code fail=false}) and the exception path ({@code fail=true}).
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("nls")
+public class ThrowingBinaryOperatorBenchmark {
+
+    private static final String FALLBACK = "fallback";
+
+    @Param({ "false", "true" })
+    public boolean fail;
+
+    private String input = "input";
+
+    private BinaryOperator<String> raw;
+    private BinaryOperator<String> unchecked;
+    private BinaryOperator<String> onErrorReturn;
+    private BinaryOperator<String> onErrorHandleUnchecked;
+    private ThrowingBinaryOperator<String, IOException> checked;
+
+    @Setup
+    public void setup() {
+        boolean failing = fail;
+        ThrowingBinaryOperator<String, IOException> throwing = (t, u) -> {
+            if (failing) {
+                throw Failures.CHECKED;
+            }
+            return t;
+        };
+        raw = (t, u) -> {
+            if (failing) {
+                throw Failures.UNCHECKED;
+            }
+            return t;
+        };
+        unchecked = ThrowingBinaryOperator.unchecked(throwing);
+        onErrorReturn = throwing.onErrorReturn(FALLBACK);
+        onErrorHandleUnchecked = throwing.onErrorHandleUnchecked(e -> FALLBACK);
+        BinaryOperator<String> wrapping = (t, u) -> {
+            if (failing) {
+                throw Failures.WRAPPED;
+            }
+            return t;
+        };
+        checked = ThrowingBinaryOperator.checked(wrapping, IOException.class);
+    }
+
+    /**
+     * Measures a plain {@link BinaryOperator} as baseline.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void raw(Blackhole blackhole) {
+        try {
+            blackhole.consume(raw.apply(input, input));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingBinaryOperator#unchecked()}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void unchecked(Blackhole blackhole) {
+        try {
+            blackhole.consume(unchecked.apply(input, input));
+        } catch (UncheckedException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingBinaryOperator#onErrorReturn(Object)}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void onErrorReturn(Blackhole blackhole) {
+        try {
+            blackhole.consume(onErrorReturn.apply(input, input));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingBinaryOperator#onErrorHandleUnchecked(java.util.function.Function)}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void onErrorHandleUnchecked(Blackhole blackhole) {
+        try {
+            blackhole.consume(onErrorHandleUnchecked.apply(input, input));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingBinaryOperator#checked(BinaryOperator, Class)} applied to a plain {@link BinaryOperator} that throws an
+     * {@link UncheckedException}. The result of {@link ThrowingBinaryOperator#unchecked()} is not used, because {@code checked} collapses it into a
+     * single adapter that does not wrap and unwrap exceptions.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void checked(Blackhole blackhole) {
+        try {
+            blackhole.consume(checked.apply(input, input));
+        } catch (IOException e) {
+            blackhole.consume(e);
+        }
+    }
+}
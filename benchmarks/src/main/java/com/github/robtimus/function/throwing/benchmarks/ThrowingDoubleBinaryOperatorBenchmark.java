@@ -0,0 +1,163 @@
+/*
+ * ThrowingDoubleBinaryOperatorBenchmark.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleBinaryOperator;
+import com.github.robtimus.function.throwing.ThrowingDoubleBinaryOperator;
+import com.github.robtimus.function.throwing.UncheckedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the adapters of {@link ThrowingDoubleBinaryOperator}.
+ * Each benchmark is run for the success path ({@code fail=false}) and the exception path ({@code fail=true}).
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("nls")
+public class ThrowingDoubleBinaryOperatorBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean fail;
+
+    private double doubleInput = 42D;
+
+    private DoubleBinaryOperator raw;
+    private DoubleBinaryOperator unchecked;
+    private DoubleBinaryOperator onErrorReturn;
+    private DoubleBinaryOperator onErrorHandleUnchecked;
+    private ThrowingDoubleBinaryOperator<IOException> checked;
+
+    @Setup
+    public void setup() {
+        boolean failing = fail;
+        ThrowingDoubleBinaryOperator<IOException> throwing = (left, right) -> {
+            if (failing) {
+                throw Failures.CHECKED;
+            }
+            return (int) left + (int) right;
+        };
+        raw = (left, right) -> {
+            if (failing) {
+                throw Failures.UNCHECKED;
+            }
+            return (int) left + (int) right;
+        };
+        unchecked = ThrowingDoubleBinaryOperator.unchecked(throwing);
+        onErrorReturn = throwing.onErrorReturn(-1D);
+        onErrorHandleUnchecked = throwing.onErrorHandleUnchecked(e -> -1D);
+        DoubleBinaryOperator wrapping = (left, right) -> {
+            if (failing) {
+                throw Failures.WRAPPED;
+            }
+            return (int) left + (int) right;
+        };
+        checked = ThrowingDoubleBinaryOperator.checked(wrapping, IOException.class);
+    }
+
+    /**
+     * Measures a plain {@link DoubleBinaryOperator} as baseline.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void raw(Blackhole blackhole) {
+        try {
+            blackhole.consume(raw.applyAsDouble(doubleInput, doubleInput));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoubleBinaryOperator#unchecked()}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void unchecked(Blackhole blackhole) {
+        try {
+            blackhole.consume(unchecked.applyAsDouble(doubleInput, doubleInput));
+        } catch (UncheckedException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoubleBinaryOperator#onErrorReturn(double)}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void onErrorReturn(Blackhole blackhole) {
+        try {
+            blackhole.consume(onErrorReturn.applyAsDouble(doubleInput, doubleInput));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoubleBinaryOperator#onErrorHandleUnchecked(java.util.function.ToDoubleFunction)}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void onErrorHandleUnchecked(Blackhole blackhole) {
+        try {
+            blackhole.consume(onErrorHandleUnchecked.applyAsDouble(doubleInput, doubleInput));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoubleBinaryOperator#checked(DoubleBinaryOperator, Class)} applied to a plain {@link DoubleBinaryOperator} that throws
+     * an {@link UncheckedException}. The result of {@link ThrowingDoubleBinaryOperator#unchecked()} is not used, because {@code checked} collapses it
+     * into a single adapter that does not wrap and unwrap exceptions.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void checked(Blackhole blackhole) {
+        try {
+            blackhole.consume(checked.applyAsDouble(doubleInput, doubleInput));
+        } catch (IOException e) {
+            blackhole.consume(e);
+        }
+    }
+}
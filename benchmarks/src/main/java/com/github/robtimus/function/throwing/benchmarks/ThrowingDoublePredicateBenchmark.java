@@ -0,0 +1,163 @@
+/*
+ * ThrowingDoublePredicateBenchmark.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoublePredicate;
+import com.github.robtimus.function.throwing.ThrowingDoublePredicate;
+import com.github.robtimus.function.throwing.UncheckedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the adapters of {@link ThrowingDoublePredicate}.
+ * Each benchmark is run for the success path ({@code fail=false}) and the exception path ({@code fail=true}).
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("nls")
+public class ThrowingDoublePredicateBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean fail;
+
+    private double doubleInput = 42D;
+
+    private DoublePredicate raw;
+    private DoublePredicate unchecked;
+    private DoublePredicate onErrorReturn;
+    private DoublePredicate onErrorHandleUnchecked;
+    private ThrowingDoublePredicate<IOException> checked;
+
+    @Setup
+    public void setup() {
+        boolean failing = fail;
+        ThrowingDoublePredicate<IOException> throwing = value -> {
+            if (failing) {
+                throw Failures.CHECKED;
+            }
+            return ((int) value & 1) == 0;
+        };
+        raw = value -> {
+            if (failing) {
+                throw Failures.UNCHECKED;
+            }
+            return ((int) value & 1) == 0;
+        };
+        unchecked = ThrowingDoublePredicate.unchecked(throwing);
+        onErrorReturn = throwing.onErrorReturn(false);
+        onErrorHandleUnchecked = throwing.onErrorHandleUnchecked(e -> false);
+        DoublePredicate wrapping = value -> {
+            if (failing) {
+                throw Failures.WRAPPED;
+            }
+            return ((int) value & 1) == 0;
+        };
+        checked = ThrowingDoublePredicate.checked(wrapping, IOException.class);
+    }
+
+    /**
+     * Measures a plain {@link DoublePredicate} as baseline.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void raw(Blackhole blackhole) {
+        try {
+            blackhole.consume(raw.test(doubleInput));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoublePredicate#unchecked()}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void unchecked(Blackhole blackhole) {
+        try {
+            blackhole.consume(unchecked.test(doubleInput));
+        } catch (UncheckedException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoublePredicate#onErrorReturn(boolean)}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void onErrorReturn(Blackhole blackhole) {
+        try {
+            blackhole.consume(onErrorReturn.test(doubleInput));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoublePredicate#onErrorHandleUnchecked(java.util.function.Predicate)}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void onErrorHandleUnchecked(Blackhole blackhole) {
+        try {
+            blackhole.consume(onErrorHandleUnchecked.test(doubleInput));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoublePredicate#checked(DoublePredicate, Class)} applied to a plain {@link DoublePredicate} that throws an
+     * {@link UncheckedException}. The result of {@link ThrowingDoublePredicate#unchecked()} is not used, because {@code checked} collapses it into a
+     * single adapter that does not wrap and unwrap exceptions.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void checked(Blackhole blackhole) {
+        try {
+            blackhole.consume(checked.test(doubleInput));
+        } catch (IOException e) {
+            blackhole.consume(e);
+        }
+    }
+}
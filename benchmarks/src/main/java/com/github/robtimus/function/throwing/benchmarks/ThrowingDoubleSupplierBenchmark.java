@@ -0,0 +1,163 @@
+/*
+ * ThrowingDoubleSupplierBenchmark.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import com.github.robtimus.function.throwing.ThrowingDoubleSupplier;
+import com.github.robtimus.function.throwing.UncheckedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the adapters of {@link ThrowingDoubleSupplier}.
+ * Each benchmark is run for the success path ({@code fail=false}) and the exception path ({@code fail=true}).
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("nls")
+public class ThrowingDoubleSupplierBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean fail;
+
+    private String input = "input";
+
+    private DoubleSupplier raw;
+    private DoubleSupplier unchecked;
+    private DoubleSupplier onErrorReturn;
+    private DoubleSupplier onErrorHandleUnchecked;
+    private ThrowingDoubleSupplier<IOException> checked;
+
+    @Setup
+    public void setup() {
+        boolean failing = fail;
+        ThrowingDoubleSupplier<IOException> throwing = () -> {
+            if (failing) {
+                throw Failures.CHECKED;
+            }
+            return input.length();
+        };
+        raw = () -> {
+            if (failing) {
+                throw Failures.UNCHECKED;
+            }
+            return input.length();
+        };
+        unchecked = ThrowingDoubleSupplier.unchecked(throwing);
+        onErrorReturn = throwing.onErrorReturn(-1D);
+        onErrorHandleUnchecked = throwing.onErrorHandleUnchecked(e -> -1D);
+        DoubleSupplier wrapping = () -> {
+            if (failing) {
+                throw Failures.WRAPPED;
+            }
+            return input.length();
+        };
+        checked = ThrowingDoubleSupplier.checked(wrapping, IOException.class);
+    }
+
+    /**
+     * Measures a plain {@link DoubleSupplier} as baseline.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void raw(Blackhole blackhole) {
+        try {
+            blackhole.consume(raw.getAsDouble());
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoubleSupplier#unchecked()}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void unchecked(Blackhole blackhole) {
+        try {
+            blackhole.consume(unchecked.getAsDouble());
+        } catch (UncheckedException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoubleSupplier#onErrorReturn(double)}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void onErrorReturn(Blackhole blackhole) {
+        try {
+            blackhole.consume(onErrorReturn.getAsDouble());
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoubleSupplier#onErrorHandleUnchecked(java.util.function.ToDoubleFunction)}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void onErrorHandleUnchecked(Blackhole blackhole) {
+        try {
+            blackhole.consume(onErrorHandleUnchecked.getAsDouble());
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoubleSupplier#checked(DoubleSupplier, Class)} applied to a plain {@link DoubleSupplier} that throws an
+     * {@link UncheckedException}. The result of {@link ThrowingDoubleSupplier#unchecked()} is not used, because {@code checked} collapses it into a
+     * single adapter that does not wrap and unwrap exceptions.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void checked(Blackhole blackhole) {
+        try {
+            blackhole.consume(checked.getAsDouble());
+        } catch (IOException e) {
+            blackhole.consume(e);
+        }
+    }
+}
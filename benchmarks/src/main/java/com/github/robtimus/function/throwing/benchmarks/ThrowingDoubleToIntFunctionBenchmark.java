@@ -0,0 +1,163 @@
+/*
+ * ThrowingDoubleToIntFunctionBenchmark.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleToIntFunction;
+import com.github.robtimus.function.throwing.ThrowingDoubleToIntFunction;
+import com.github.robtimus.function.throwing.UncheckedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the adapters of {@link ThrowingDoubleToIntFunction}.
+ * Each benchmark is run for the success path ({@code fail=false}) and the exception path ({@code fail=true}).
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("nls")
+public class ThrowingDoubleToIntFunctionBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean fail;
+
+    private double doubleInput = 42D;
+
+    private DoubleToIntFunction raw;
+    private DoubleToIntFunction unchecked;
+    private DoubleToIntFunction onErrorReturn;
+    private DoubleToIntFunction onErrorHandleUnchecked;
+    private ThrowingDoubleToIntFunction<IOException> checked;
+
+    @Setup
+    public void setup() {
+        boolean failing = fail;
+        ThrowingDoubleToIntFunction<IOException> throwing = value -> {
+            if (failing) {
+                throw Failures.CHECKED;
+            }
+            return (int) value;
+        };
+        raw = value -> {
+            if (failing) {
+                throw Failures.UNCHECKED;
+            }
+            return (int) value;
+        };
+        unchecked = ThrowingDoubleToIntFunction.unchecked(throwing);
+        onErrorReturn = throwing.onErrorReturn(-1);
+        onErrorHandleUnchecked = throwing.onErrorHandleUnchecked(e -> -1);
+        DoubleToIntFunction wrapping = value -> {
+            if (failing) {
+                throw Failures.WRAPPED;
+            }
+            return (int) value;
+        };
+        checked = ThrowingDoubleToIntFunction.checked(wrapping, IOException.class);
+    }
+
+    /**
+     * Measures a plain {@link DoubleToIntFunction} as baseline.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void raw(Blackhole blackhole) {
+        try {
+            blackhole.consume(raw.applyAsInt(doubleInput));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoubleToIntFunction#unchecked()}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void unchecked(Blackhole blackhole) {
+        try {
+            blackhole.consume(unchecked.applyAsInt(doubleInput));
+        } catch (UncheckedException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoubleToIntFunction#onErrorReturn(int)}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void onErrorReturn(Blackhole blackhole) {
+        try {
+            blackhole.consume(onErrorReturn.applyAsInt(doubleInput));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoubleToIntFunction#onErrorHandleUnchecked(java.util.function.ToIntFunction)}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void onErrorHandleUnchecked(Blackhole blackhole) {
+        try {
+            blackhole.consume(onErrorHandleUnchecked.applyAsInt(doubleInput));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingDoubleToIntFunction#checked(DoubleToIntFunction, Class)} applied to a plain {@link DoubleToIntFunction} that throws an
+     * {@link UncheckedException}. The result of {@link ThrowingDoubleToIntFunction#unchecked()} is not used, because {@code checked} collapses it
+     * into a single adapter that does not wrap and unwrap exceptions.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void checked(Blackhole blackhole) {
+        try {
+            blackhole.consume(checked.applyAsInt(doubleInput));
+        } catch (IOException e) {
+            blackhole.consume(e);
+        }
+    }
+}
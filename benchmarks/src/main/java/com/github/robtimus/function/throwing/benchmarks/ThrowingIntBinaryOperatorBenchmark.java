@@ -0,0 +1,163 @@
+/*
+ * ThrowingIntBinaryOperatorBenchmark.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntBinaryOperator;
+import com.github.robtimus.function.throwing.ThrowingIntBinaryOperator;
+import com.github.robtimus.function.throwing.UncheckedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the adapters of {@link ThrowingIntBinaryOperator}.
+ * Each benchmark is run for the success path ({@code fail=false}) and the exception path ({@code fail=true}).
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("nls")
+public class ThrowingIntBinaryOperatorBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean fail;
+
+    private int intInput = 42;
+
+    private IntBinaryOperator raw;
+    private IntBinaryOperator unchecked;
+    private IntBinaryOperator onErrorReturn;
+    private IntBinaryOperator onErrorHandleUnchecked;
+    private ThrowingIntBinaryOperator<IOException> checked;
+
+    @Setup
+    public void setup() {
+        boolean failing = fail;
+        ThrowingIntBinaryOperator<IOException> throwing = (left, right) -> {
+            if (failing) {
+                throw Failures.CHECKED;
+            }
+            return left + right;
+        };
+        raw = (left, right) -> {
+            if (failing) {
+                throw Failures.UNCHECKED;
+            }
+            return left + right;
+        };
+        unchecked = ThrowingIntBinaryOperator.unchecked(throwing);
+        onErrorReturn = throwing.onErrorReturn(-1);
+        onErrorHandleUnchecked = throwing.onErrorHandleUnchecked(e -> -1);
+        IntBinaryOperator wrapping = (left, right) -> {
+            if (failing) {
+                throw Failures.WRAPPED;
+            }
+            return left + right;
+        };
+        checked = ThrowingIntBinaryOperator.checked(wrapping, IOException.class);
+    }
+
+    /**
+     * Measures a plain {@link IntBinaryOperator} as baseline.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void raw(Blackhole blackhole) {
+        try {
+            blackhole.consume(raw.applyAsInt(intInput, intInput));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingIntBinaryOperator#unchecked()}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void unchecked(Blackhole blackhole) {
+        try {
+            blackhole.consume(unchecked.applyAsInt(intInput, intInput));
+        } catch (UncheckedException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingIntBinaryOperator#onErrorReturn(int)}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void onErrorReturn(Blackhole blackhole) {
+        try {
+            blackhole.consume(onErrorReturn.applyAsInt(intInput, intInput));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingIntBinaryOperator#onErrorHandleUnchecked(java.util.function.ToIntFunction)}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void onErrorHandleUnchecked(Blackhole blackhole) {
+        try {
+            blackhole.consume(onErrorHandleUnchecked.applyAsInt(intInput, intInput));
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingIntBinaryOperator#checked(IntBinaryOperator, Class)} applied to a plain {@link IntBinaryOperator} that throws an
+     * {@link UncheckedException}. The result of {@link ThrowingIntBinaryOperator#unchecked()} is not used, because {@code checked} collapses it into
+     * a single adapter that does not wrap and unwrap exceptions.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void checked(Blackhole blackhole) {
+        try {
+            blackhole.consume(checked.applyAsInt(intInput, intInput));
+        } catch (IOException e) {
+            blackhole.consume(e);
+        }
+    }
+}
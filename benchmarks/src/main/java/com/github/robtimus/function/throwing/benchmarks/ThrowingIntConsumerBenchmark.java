@@ -0,0 +1,169 @@
+/*
+ * ThrowingIntConsumerBenchmark.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import com.github.robtimus.function.throwing.ThrowingIntConsumer;
+import com.github.robtimus.function.throwing.UncheckedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the adapters of {@link ThrowingIntConsumer}.
+ * Each benchmark is run for the success path ({@code fail=false}) and the exception path ({@code fail=true}).
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("nls")
+public class ThrowingIntConsumerBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean fail;
+
+    private int intInput = 42;
+    private int consumed;
+
+    private IntConsumer raw;
+    private IntConsumer unchecked;
+    private IntConsumer onErrorDiscard;
+    private IntConsumer onErrorHandleUnchecked;
+    private ThrowingIntConsumer<IOException> checked;
+
+    @Setup
+    public void setup() {
+        boolean failing = fail;
+        ThrowingIntConsumer<IOException> throwing = value -> {
+            if (failing) {
+                throw Failures.CHECKED;
+            }
+            consumed = value;
+        };
+        raw = value -> {
+            if (failing) {
+                throw Failures.UNCHECKED;
+            }
+            consumed = value;
+        };
+        unchecked = ThrowingIntConsumer.unchecked(throwing);
+        onErrorDiscard = throwing.onErrorDiscard();
+        onErrorHandleUnchecked = throwing.onErrorHandleUnchecked(e -> consumed = -1);
+        IntConsumer wrapping = value -> {
+            if (failing) {
+                throw Failures.WRAPPED;
+            }
+            consumed = value;
+        };
+        checked = ThrowingIntConsumer.checked(wrapping, IOException.class);
+    }
+
+    /**
+     * Measures a plain {@link IntConsumer} as baseline.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void raw(Blackhole blackhole) {
+        try {
+            raw.accept(intInput);
+            blackhole.consume(consumed);
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingIntConsumer#unchecked()}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void unchecked(Blackhole blackhole) {
+        try {
+            unchecked.accept(intInput);
+            blackhole.consume(consumed);
+        } catch (UncheckedException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingIntConsumer#onErrorDiscard()}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void onErrorDiscard(Blackhole blackhole) {
+        try {
+            onErrorDiscard.accept(intInput);
+            blackhole.consume(consumed);
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingIntConsumer#onErrorHandleUnchecked(java.util.function.Consumer)}.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void onErrorHandleUnchecked(Blackhole blackhole) {
+        try {
+            onErrorHandleUnchecked.accept(intInput);
+            blackhole.consume(consumed);
+        } catch (UncheckedIOException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Measures {@link ThrowingIntConsumer#checked(IntConsumer, Class)} applied to a plain {@link IntConsumer} that throws an
+     * {@link UncheckedException}. The result of {@link ThrowingIntConsumer#unchecked()} is not used, because {@code checked} collapses it into a
+     * single adapter that does not wrap and unwrap exceptions.
+     *
+     * @param blackhole The blackhole to consume the result or thrown exception.
+     */
+    @Benchmark
+    public void checked(Blackhole blackhole) {
+        try {
+            checked.accept(intInput);
+            blackhole.consume(consumed);
+        } catch (IOException e) {
+            blackhole.consume(e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Adapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Utility methods for the adapters between the functional interfaces of this library and their {@code java.util.function} equivalents.
+ * Functional interfaces without such an equivalent, like {@link ThrowingObjIntFunction}, use the same interface with {@link RuntimeException} as
+ * type of checked exception instead.
+ * <p>
+ * For each functional interface, a class like {@link FunctionAdapters} contains the adapters that are returned by its {@code checked},
+ * {@code unchecked} and {@code sneaky} methods. Because these adapters are classes and not lambdas, these methods can recognize each other's
+ * adapters. Where the result would behave the same as the original function, they return the original function instead of adding another layer:
+ * <ul>
+ *   <li>{@code sneaky(checked(f))} returns {@code f}. Both {@code f} and the result relay any exception as-is.</li>
+ *   <li>{@code checked(sneaky(f))} returns {@code f}. Both {@code f} and the result relay any exception as-is.</li>
+ * </ul>
+ * {@code unchecked(checked(f))} and {@code unchecked(checked(f, errorType))} cannot return {@code f}. Although {@code f} does not declare any
+ * checked exceptions, it can still throw them, for instance if it is the result of {@code sneaky}, if it uses Lombok's {@code @SneakyThrows}, or
+ * if it is written in another JVM language like Kotlin. The result must wrap such exceptions in an {@link UncheckedException}, so these methods
+ * always add an unchecked adapter around the checked adapter.
+ * <p>
+ * {@code checked(unchecked(f))} and {@code checked(unchecked(f), errorType)} cannot return {@code f}, because {@code f} may throw checked
+ * exceptions that the result must wrap in an {@link UncheckedException}. Instead, they return a single adapter that calls {@code f} with the
+ * combined exception handling of both adapters.
+ *
+ * @author Rob Spoor
+ */
+final class Adapters {
+
+    private Adapters() {
+    }
+
+    /**
+     * Returns an {@link UncheckedException} to throw from a checked adapter, or throws its cause.
+     *
+     * @param <X> The type of checked exception that the adapter can throw.
+     * @param exception The exception that was thrown by the wrapped function.
+     * @param errorType The type of checked exception that the adapter can throw, or {@code null} if it does not unwrap exceptions.
+     * @return The given exception, if its cause is not an instance of {@code errorType}.
+     * @throws X The cause of the given exception, if it is an instance of {@code errorType}.
+     */
+    static <X extends Throwable> UncheckedException unwrap(UncheckedException exception, Class<X> errorType) throws X {
+        if (errorType != null) {
+            Throwable cause = exception.getCause();
+            if (errorType.isInstance(cause)) {
+                throw errorType.cast(cause);
+            }
+        }
+        return exception;
+    }
+
+    /**
+     * Returns an {@link UncheckedException} that wraps a checked exception, or throws the checked exception as-is.
+     *
+     * @param <X> The type of checked exception that the adapter can throw.
+     * @param throwable The checked exception that was thrown by the wrapped function.
+     * @param errorType The type of checked exception that the adapter can throw, or {@code null} if all checked exceptions should be wrapped.
+     * @param source The wrapped function.
+     * @return An {@link UncheckedException} that wraps the given checked exception, if it is not an instance of {@code errorType}.
+     * @throws X The given checked exception, if it is an instance of {@code errorType}.
+     */
+    static <X extends Throwable> UncheckedException wrap(Throwable throwable, Class<X> errorType, Object source) throws X {
+        if (errorType != null && errorType.isInstance(throwable)) {
+            throw errorType.cast(throwable);
+        }
+        return unchecked(throwable, source);
+    }
+
+    /**
+     * Returns an {@link UncheckedException} that wraps a checked exception.
+     * If an {@link UncheckedExceptionListener} is installed, it is notified of the returned exception.
+     *
+     * @param throwable The checked exception that was thrown by the wrapped function.
+     * @param source The wrapped function.
+     * @return An {@link UncheckedException} that wraps the given checked exception.
+     */
+    static UncheckedException unchecked(Throwable throwable, Object source) {
+        UncheckedException exception = UncheckedException.withoutStackTrace(throwable);
+        // LISTENER is static final, so if no listener is installed the JIT compiler can remove this check
+        if (UncheckedExceptionListeners.LISTENER != null) {
+            UncheckedExceptionListeners.notify(UncheckedExceptionListeners.LISTENER, exception, source);
+        }
+        return exception;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * BatchingFunction.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link ThrowingFunction} that groups concurrent calls into bulk calls of another {@link ThrowingFunction}.
+ * <p>
+ * Calls are added to a bounded queue. The caller that adds a call while no other caller is collecting a batch becomes the leader. The leader waits
+ * until either the queue contains enough calls for a full batch, or the maximum delay has passed. It then takes a batch from the queue, and performs
+ * the bulk call in its own thread. If calls remain in the queue, the caller of the first remaining call is promoted to leader before the bulk call
+ * starts, so the next batch is collected while the current one is being loaded. This approach does not need any background threads.
+ * <p>
+ * If the queue is full, callers wait until there is room. All waiting uses {@link Lock} and {@link Condition} instances, so waiting virtual threads
+ * don't pin their carrier thread.
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of values.
+ * @param <X> The type of checked exception that can be thrown.
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class BatchingFunction<K, V, X extends Throwable> implements ThrowingFunction<K, V, X> {
+
+    // The value used to tell the caller of a queued call that it has been promoted to leader
+    private static final Object LEAD = new Object();
+
+    private final ThrowingFunction<? super List<K>, ? extends Map<? extends K, ? extends V>, ? extends X> loader;
+    private final int maxBatchSize;
+    private final long maxDelay;
+    private final int maxQueueSize;
+
+    private final Lock lock;
+    private final Condition batchFull;
+    private final Condition spaceAvailable;
+    private final Queue<Call<K>> queue;
+    private boolean leaderActive;
+
+    BatchingFunction(ThrowingFunction<? super List<K>, ? extends Map<? extends K, ? extends V>, ? extends X> loader, int maxBatchSize,
+            Duration maxDelay, int maxQueueSize) {
+
+        this.loader = Objects.requireNonNull(loader);
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize); //$NON-NLS-1$
+        }
+        Objects.requireNonNull(maxDelay);
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("maxDelay must not be negative: " + maxDelay); //$NON-NLS-1$
+        }
+        if (maxQueueSize < maxBatchSize) {
+            throw new IllegalArgumentException("maxQueueSize must not be smaller than maxBatchSize: " + maxQueueSize); //$NON-NLS-1$
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay.toNanos();
+        this.maxQueueSize = maxQueueSize;
+
+        this.lock = new ReentrantLock();
+        this.batchFull = lock.newCondition();
+        this.spaceAvailable = lock.newCondition();
+        this.queue = new ArrayDeque<>();
+    }
+
+    @Override
+    public V apply(K key) throws X {
+        Call<K> call = new Call<>(key);
+        // Read the result before the call is enqueued; once it is, the current leader may replace it and complete this one with LEAD
+        PendingResult<Object> result = call.result;
+        boolean leader = enqueue(call);
+        while (true) {
+            if (leader) {
+                dispatch();
+                // The call was part of the dispatched batch, so its result is no longer replaced
+                result = call.result;
+            }
+            result.await();
+            Throwable failure = result.failure();
+            if (failure != null) {
+                throw PendingResult.<X>relay(failure);
+            }
+            Object value = result.value();
+            if (value != LEAD) {
+                // This cast is safe, because calls are only completed with LEAD or values returned by the loader
+                @SuppressWarnings("unchecked")
+                V v = (V) value;
+                return v;
+            }
+            leader = true;
+        }
+    }
+
+    private boolean enqueue(Call<K> call) {
+        lock.lock();
+        try {
+            while (queue.size() >= maxQueueSize) {
+                spaceAvailable.awaitUninterruptibly();
+            }
+            queue.add(call);
+            if (queue.size() >= maxBatchSize) {
+                batchFull.signal();
+            }
+            if (leaderActive) {
+                return false;
+            }
+            leaderActive = true;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatch() {
+        List<Call<K>> batch = new ArrayList<>(maxBatchSize);
+        PendingResult<Object> nextResult = null;
+
+        lock.lock();
+        try {
+            long remaining = maxDelay;
+            while (queue.size() < maxBatchSize && remaining > 0) {
+                remaining = awaitNanos(remaining);
+            }
+            while (batch.size() < maxBatchSize && !queue.isEmpty()) {
+                batch.add(queue.remove());
+            }
+            spaceAvailable.signalAll();
+
+            if (queue.isEmpty()) {
+                leaderActive = false;
+            } else {
+                // Give the promoted call a new result, so the current result can be used to notify its caller
+                Call<K> next = queue.element();
+                nextResult = next.result;
+                next.result = new PendingResult<>(null);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (nextResult != null) {
+            nextResult.complete(LEAD);
+        }
+        load(batch);
+    }
+
+    private long awaitNanos(long nanos) {
+        try {
+            return batchFull.awaitNanos(nanos);
+        } catch (@SuppressWarnings("unused") InterruptedException e) {
+            // Stop collecting calls, but restore the interrupted status for the caller
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    private void load(List<Call<K>> batch) {
+        Set<K> keys = new LinkedHashSet<>();
+        for (Call<K> call : batch) {
+            keys.add(call.key);
+        }
+
+        Map<? extends K, ? extends V> values;
+        try {
+            values = Objects.requireNonNull(loader.apply(new ArrayList<>(keys)), "loader returned null"); //$NON-NLS-1$
+        } catch (Throwable throwable) {
+            // This includes Error and RuntimeException; every caller in the batch gets the same exception
+            for (Call<K> call : batch) {
+                call.result.fail(throwable);
+            }
+            return;
+        }
+        for (Call<K> call : batch) {
+            // Looking up a value can fail as well, for instance for a null key in a map that does not support null keys.
+            // Every call must be completed, otherwise its caller would wait forever
+            Object value;
+            try {
+                value = values.get(call.key);
+            } catch (Throwable throwable) {
+                call.result.fail(throwable);
+                continue;
+            }
+            call.result.complete(value);
+        }
+    }
+
+    private static final class Call<K> {
+
+        private final K key;
+        // Only replaced while holding the lock, before the previous result is completed with LEAD.
+        // The caller must therefore only read it before enqueueing the call, or after dispatching a batch itself
+        private volatile PendingResult<Object> result;
+
+        private Call(K key) {
+            this.key = key;
+            // The caller waits for its own result, so there is no owner that should not wait for it
+            this.result = new PendingResult<>(null);
+        }
+    }
+}
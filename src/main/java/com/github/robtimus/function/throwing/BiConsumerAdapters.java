@@ -0,0 +1,130 @@
+/*
+ * BiConsumerAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Adapters between {@link ThrowingBiConsumer} and {@link BiConsumer}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class BiConsumerAdapters {
+
+    private BiConsumerAdapters() {
+    }
+
+    static <T, U, X extends Throwable> ThrowingBiConsumer<T, U, X> checked(BiConsumer<? super T, ? super U> operation, Class<X> errorType) {
+        if (operation instanceof Sneaky<?, ?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingBiConsumer<T, U, X> original = (ThrowingBiConsumer<T, U, X>) ((Sneaky<?, ?>) operation).operation;
+            return original;
+        }
+        if (operation instanceof Unchecked<?, ?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingBiConsumer
+            @SuppressWarnings("unchecked")
+            ThrowingBiConsumer<? super T, ? super U, ?> original =
+                    (ThrowingBiConsumer<? super T, ? super U, ?>) ((Unchecked<?, ?>) operation).operation;
+            return (t, u) -> {
+                try {
+                    original.accept(t, u);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operation, errorType);
+    }
+
+    static <T, U> BiConsumer<T, U> unchecked(ThrowingBiConsumer<? super T, ? super U, ?> operation) {
+        return new Unchecked<>(operation);
+    }
+
+    static <T, U> BiConsumer<T, U> sneaky(ThrowingBiConsumer<? super T, ? super U, ?> operation) {
+        if (operation instanceof Checked<?, ?, ?> && ((Checked<?, ?, ?>) operation).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible BiConsumer
+            @SuppressWarnings("unchecked")
+            BiConsumer<T, U> original = (BiConsumer<T, U>) ((Checked<?, ?, ?>) operation).operation;
+            return original;
+        }
+        return new Sneaky<>(operation);
+    }
+
+    private static final class Checked<T, U, X extends Throwable> implements ThrowingBiConsumer<T, U, X> {
+
+        private final BiConsumer<? super T, ? super U> operation;
+        private final Class<X> errorType;
+
+        private Checked(BiConsumer<? super T, ? super U> operation, Class<X> errorType) {
+            this.operation = operation;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public void accept(T t, U u) throws X {
+            try {
+                operation.accept(t, u);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T, U> implements BiConsumer<T, U> {
+
+        private final ThrowingBiConsumer<? super T, ? super U, ?> operation;
+
+        private Unchecked(ThrowingBiConsumer<? super T, ? super U, ?> operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public void accept(T t, U u) {
+            try {
+                operation.accept(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operation);
+            }
+        }
+    }
+
+    private static final class Sneaky<T, U> implements BiConsumer<T, U> {
+
+        private final ThrowingBiConsumer<? super T, ? super U, RuntimeException> operation;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingBiConsumer<? super T, ? super U, ?> operation) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operation = (ThrowingBiConsumer<? super T, ? super U, RuntimeException>) operation;
+        }
+
+        @Override
+        public void accept(T t, U u) {
+            operation.accept(t, u);
+        }
+    }
+}
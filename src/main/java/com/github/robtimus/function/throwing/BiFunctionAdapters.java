@@ -0,0 +1,132 @@
+/*
+ * BiFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.BiFunction;
+
+/**
+ * Adapters between {@link ThrowingBiFunction} and {@link BiFunction}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class BiFunctionAdapters {
+
+    private BiFunctionAdapters() {
+    }
+
+    static <T, U, R, X extends Throwable> ThrowingBiFunction<T, U, R, X> checked(BiFunction<? super T, ? super U, ? extends R> function,
+            Class<X> errorType) {
+
+        if (function instanceof Sneaky<?, ?, ?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingBiFunction<T, U, R, X> original = (ThrowingBiFunction<T, U, R, X>) ((Sneaky<?, ?, ?>) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked<?, ?, ?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingBiFunction
+            @SuppressWarnings("unchecked")
+            ThrowingBiFunction<? super T, ? super U, ? extends R, ?> original =
+                    (ThrowingBiFunction<? super T, ? super U, ? extends R, ?>) ((Unchecked<?, ?, ?>) function).function;
+            return (t, u) -> {
+                try {
+                    return original.apply(t, u);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static <T, U, R> BiFunction<T, U, R> unchecked(ThrowingBiFunction<? super T, ? super U, ? extends R, ?> function) {
+        return new Unchecked<>(function);
+    }
+
+    static <T, U, R> BiFunction<T, U, R> sneaky(ThrowingBiFunction<? super T, ? super U, ? extends R, ?> function) {
+        if (function instanceof Checked<?, ?, ?, ?> && ((Checked<?, ?, ?, ?>) function).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible BiFunction
+            @SuppressWarnings("unchecked")
+            BiFunction<T, U, R> original = (BiFunction<T, U, R>) ((Checked<?, ?, ?, ?>) function).function;
+            return original;
+        }
+        return new Sneaky<>(function);
+    }
+
+    private static final class Checked<T, U, R, X extends Throwable> implements ThrowingBiFunction<T, U, R, X> {
+
+        private final BiFunction<? super T, ? super U, ? extends R> function;
+        private final Class<X> errorType;
+
+        private Checked(BiFunction<? super T, ? super U, ? extends R> function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public R apply(T t, U u) throws X {
+            try {
+                return function.apply(t, u);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T, U, R> implements BiFunction<T, U, R> {
+
+        private final ThrowingBiFunction<? super T, ? super U, ? extends R, ?> function;
+
+        private Unchecked(ThrowingBiFunction<? super T, ? super U, ? extends R, ?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R apply(T t, U u) {
+            try {
+                return function.apply(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky<T, U, R> implements BiFunction<T, U, R> {
+
+        private final ThrowingBiFunction<? super T, ? super U, ? extends R, RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingBiFunction<? super T, ? super U, ? extends R, ?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingBiFunction<? super T, ? super U, ? extends R, RuntimeException>) function;
+        }
+
+        @Override
+        public R apply(T t, U u) {
+            return function.apply(t, u);
+        }
+    }
+}
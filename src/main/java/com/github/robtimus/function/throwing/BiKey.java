@@ -0,0 +1,61 @@
+/*
+ * BiKey.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Objects;
+
+/**
+ * A cache key for functions with two inputs. Either input may be {@code null}.
+ *
+ * @param <T> The type of the first input.
+ * @param <U> The type of the second input.
+ * @author Rob Spoor
+ */
+final class BiKey<T, U> {
+
+    final T first;
+    final U second;
+
+    BiKey(T first, U second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BiKey<?, ?> other = (BiKey<?, ?>) o;
+        return Objects.equals(first, other.first) && Objects.equals(second, other.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(first) + Objects.hashCode(second);
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * BiPredicateAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.BiPredicate;
+
+/**
+ * Adapters between {@link ThrowingBiPredicate} and {@link BiPredicate}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class BiPredicateAdapters {
+
+    private BiPredicateAdapters() {
+    }
+
+    static <T, U, X extends Throwable> ThrowingBiPredicate<T, U, X> checked(BiPredicate<? super T, ? super U> predicate, Class<X> errorType) {
+        if (predicate instanceof Sneaky<?, ?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingBiPredicate<T, U, X> original = (ThrowingBiPredicate<T, U, X>) ((Sneaky<?, ?>) predicate).predicate;
+            return original;
+        }
+        if (predicate instanceof Unchecked<?, ?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingBiPredicate
+            @SuppressWarnings("unchecked")
+            ThrowingBiPredicate<? super T, ? super U, ?> original =
+                    (ThrowingBiPredicate<? super T, ? super U, ?>) ((Unchecked<?, ?>) predicate).predicate;
+            return (t, u) -> {
+                try {
+                    return original.test(t, u);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(predicate, errorType);
+    }
+
+    static <T, U> BiPredicate<T, U> unchecked(ThrowingBiPredicate<? super T, ? super U, ?> predicate) {
+        return new Unchecked<>(predicate);
+    }
+
+    static <T, U> BiPredicate<T, U> sneaky(ThrowingBiPredicate<? super T, ? super U, ?> predicate) {
+        if (predicate instanceof Checked<?, ?, ?> && ((Checked<?, ?, ?>) predicate).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible BiPredicate
+            @SuppressWarnings("unchecked")
+            BiPredicate<T, U> original = (BiPredicate<T, U>) ((Checked<?, ?, ?>) predicate).predicate;
+            return original;
+        }
+        return new Sneaky<>(predicate);
+    }
+
+    private static final class Checked<T, U, X extends Throwable> implements ThrowingBiPredicate<T, U, X> {
+
+        private final BiPredicate<? super T, ? super U> predicate;
+        private final Class<X> errorType;
+
+        private Checked(BiPredicate<? super T, ? super U> predicate, Class<X> errorType) {
+            this.predicate = predicate;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public boolean test(T t, U u) throws X {
+            try {
+                return predicate.test(t, u);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T, U> implements BiPredicate<T, U> {
+
+        private final ThrowingBiPredicate<? super T, ? super U, ?> predicate;
+
+        private Unchecked(ThrowingBiPredicate<? super T, ? super U, ?> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(T t, U u) {
+            try {
+                return predicate.test(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, predicate);
+            }
+        }
+    }
+
+    private static final class Sneaky<T, U> implements BiPredicate<T, U> {
+
+        private final ThrowingBiPredicate<? super T, ? super U, RuntimeException> predicate;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingBiPredicate<? super T, ? super U, ?> predicate) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.predicate = (ThrowingBiPredicate<? super T, ? super U, RuntimeException>) predicate;
+        }
+
+        @Override
+        public boolean test(T t, U u) {
+            return predicate.test(t, u);
+        }
+    }
+}
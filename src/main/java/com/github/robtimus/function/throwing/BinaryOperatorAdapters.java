@@ -0,0 +1,129 @@
+/*
+ * BinaryOperatorAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * Adapters between {@link ThrowingBinaryOperator} and {@link BinaryOperator}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class BinaryOperatorAdapters {
+
+    private BinaryOperatorAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingBinaryOperator<T, X> checked(BinaryOperator<T> operator, Class<X> errorType) {
+        if (operator instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingBinaryOperator<T, X> original = (ThrowingBinaryOperator<T, X>) ((Sneaky<?>) operator).operator;
+            return original;
+        }
+        if (operator instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingBinaryOperator
+            @SuppressWarnings("unchecked")
+            ThrowingBinaryOperator<T, ?> original = (ThrowingBinaryOperator<T, ?>) ((Unchecked<?>) operator).operator;
+            return (t, u) -> {
+                try {
+                    return original.apply(t, u);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operator, errorType);
+    }
+
+    static <T> BinaryOperator<T> unchecked(ThrowingBinaryOperator<T, ?> operator) {
+        return new Unchecked<>(operator);
+    }
+
+    static <T> BinaryOperator<T> sneaky(ThrowingBinaryOperator<T, ?> operator) {
+        if (operator instanceof Checked<?, ?> && ((Checked<?, ?>) operator).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible BinaryOperator
+            @SuppressWarnings("unchecked")
+            BinaryOperator<T> original = (BinaryOperator<T>) ((Checked<?, ?>) operator).operator;
+            return original;
+        }
+        return new Sneaky<>(operator);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingBinaryOperator<T, X> {
+
+        private final BinaryOperator<T> operator;
+        private final Class<X> errorType;
+
+        private Checked(BinaryOperator<T> operator, Class<X> errorType) {
+            this.operator = operator;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public T apply(T t, T u) throws X {
+            try {
+                return operator.apply(t, u);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements BinaryOperator<T> {
+
+        private final ThrowingBinaryOperator<T, ?> operator;
+
+        private Unchecked(ThrowingBinaryOperator<T, ?> operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public T apply(T t, T u) {
+            try {
+                return operator.apply(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operator);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements BinaryOperator<T> {
+
+        private final ThrowingBinaryOperator<T, RuntimeException> operator;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingBinaryOperator<T, ?> operator) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operator = (ThrowingBinaryOperator<T, RuntimeException>) operator;
+        }
+
+        @Override
+        public T apply(T t, T u) {
+            return operator.apply(t, u);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * BooleanSupplierAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Adapters between {@link ThrowingBooleanSupplier} and {@link BooleanSupplier}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class BooleanSupplierAdapters {
+
+    private BooleanSupplierAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingBooleanSupplier<X> checked(BooleanSupplier supplier, Class<X> errorType) {
+        if (supplier instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingBooleanSupplier<X> original = (ThrowingBooleanSupplier<X>) ((Sneaky) supplier).supplier;
+            return original;
+        }
+        if (supplier instanceof Unchecked) {
+            ThrowingBooleanSupplier<?> original = ((Unchecked) supplier).supplier;
+            return () -> {
+                try {
+                    return original.getAsBoolean();
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(supplier, errorType);
+    }
+
+    static BooleanSupplier unchecked(ThrowingBooleanSupplier<?> supplier) {
+        return new Unchecked(supplier);
+    }
+
+    static BooleanSupplier sneaky(ThrowingBooleanSupplier<?> supplier) {
+        if (supplier instanceof Checked<?> && ((Checked<?>) supplier).errorType == null) {
+            BooleanSupplier original = ((Checked<?>) supplier).supplier;
+            return original;
+        }
+        return new Sneaky(supplier);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingBooleanSupplier<X> {
+
+        private final BooleanSupplier supplier;
+        private final Class<X> errorType;
+
+        private Checked(BooleanSupplier supplier, Class<X> errorType) {
+            this.supplier = supplier;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public boolean getAsBoolean() throws X {
+            try {
+                return supplier.getAsBoolean();
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements BooleanSupplier {
+
+        private final ThrowingBooleanSupplier<?> supplier;
+
+        private Unchecked(ThrowingBooleanSupplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            try {
+                return supplier.getAsBoolean();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, supplier);
+            }
+        }
+    }
+
+    private static final class Sneaky implements BooleanSupplier {
+
+        private final ThrowingBooleanSupplier<RuntimeException> supplier;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingBooleanSupplier<?> supplier) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.supplier = (ThrowingBooleanSupplier<RuntimeException>) supplier;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            return supplier.getAsBoolean();
+        }
+    }
+}
@@ -0,0 +1,370 @@
+/*
+ * BoundedCache.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded cache that computes values for keys at most once.
+ * <p>
+ * Lookups are performed on a {@link ConcurrentHashMap}. The eviction policy is a segmented LRU: new entries are added to a probationary segment,
+ * and are moved to a protected segment when they are accessed again. When the cache is full, the least recently used probationary entry is
+ * evicted first. This prevents entries that are accessed only once from pushing out frequently accessed entries.
+ * <p>
+ * To reduce contention, the eviction policy is split into several stripes, each with its own lock and a part of the maximum size. Recording an
+ * access only tries to acquire the lock of the stripe; if it's not available, the access is not recorded. This makes the policy an approximation
+ * under contention, but lets cache hits never block.
+ * <p>
+ * If a value is requested for a key that is being computed, the caller waits for that computation to finish, and gets the same result or
+ * exception. By default, failed computations are not cached. Optionally, checked exceptions can be cached for a limited time; these count
+ * towards the maximum size like values do. Each time a cached exception is rethrown, it can be replaced by a copy, so callers in different threads
+ * don't share the same exception instance.
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of values.
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class BoundedCache<K, V> {
+
+    private static final Object NULL_KEY = new Object();
+
+    private static final int MAX_STRIPES = 16;
+    // Stripes are only added if each stripe can contain at least this many entries, to keep the policy close to a true segmented LRU
+    private static final int MIN_STRIPE_SIZE = 32;
+
+    private final ConcurrentMap<Object, Node<V>> map;
+    private final Stripe<V>[] stripes;
+    private final CacheStatistics statistics;
+
+    // 0 if failures are not cached
+    private final long failureTimeToLive;
+    private final Function<Throwable, Throwable> failureCopier;
+    private final LongSupplier nanoTime;
+
+    BoundedCache(int maxSize, CacheStatistics statistics) {
+        this(maxSize, statistics, 0, null, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    BoundedCache(int maxSize, CacheStatistics statistics, long failureTimeToLive, Function<Throwable, Throwable> failureCopier,
+            LongSupplier nanoTime) {
+
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize); //$NON-NLS-1$
+        }
+
+        int stripeCount = 1;
+        while (stripeCount < MAX_STRIPES && stripeCount * 2 * MIN_STRIPE_SIZE <= maxSize) {
+            stripeCount *= 2;
+        }
+
+        this.map = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+        this.stripes = (Stripe<V>[]) new Stripe<?>[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            int capacity = maxSize / stripeCount + (i < maxSize % stripeCount ? 1 : 0);
+            stripes[i] = new Stripe<>(capacity, map, statistics);
+        }
+        this.statistics = statistics;
+        this.failureTimeToLive = failureTimeToLive;
+        this.failureCopier = failureCopier;
+        this.nanoTime = nanoTime;
+    }
+
+    static <K, V, X extends Throwable> BoundedCache<K, V> withFailureCaching(int maxSize, Duration failureTimeToLive,
+            Function<? super X, ? extends X> failureCopier) {
+
+        long nanos = failureTimeToLive.toNanos();
+        if (nanos <= 0) {
+            throw new IllegalArgumentException("failureTimeToLive must be positive: " + failureTimeToLive); //$NON-NLS-1$
+        }
+        // This cast is safe, because the copier is only called with cached failures, and only checked exceptions (X) are cached
+        @SuppressWarnings("unchecked")
+        Function<Throwable, Throwable> copier = (Function<Throwable, Throwable>) (Function<?, ?>) failureCopier;
+        return new BoundedCache<>(maxSize, null, nanos, copier, System::nanoTime);
+    }
+
+    <X extends Throwable> V get(K key, ThrowingFunction<? super K, ? extends V, ? extends X> loader) throws X {
+        Object mapKey = key == null ? NULL_KEY : key;
+
+        while (true) {
+            Node<V> node = map.get(mapKey);
+            if (node == null) {
+                Node<V> newNode = new Node<>(mapKey, hash(mapKey));
+                node = map.putIfAbsent(mapKey, newNode);
+                if (node == null) {
+                    return load(key, newNode, loader);
+                }
+            }
+            node.await();
+            if (node.failureCached && nanoTime.getAsLong() - node.failureExpiresAt >= 0) {
+                // The cached failure has expired; remove it and try again
+                map.remove(mapKey, node);
+                stripeFor(node).remove(node);
+            } else {
+                return result(node);
+            }
+        }
+    }
+
+    private <X extends Throwable> V load(K key, Node<V> node, ThrowingFunction<? super K, ? extends V, ? extends X> loader) throws X {
+        recordMiss();
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (Error | RuntimeException e) {
+            fail(node, e);
+            throw e;
+        } catch (Throwable throwable) {
+            if (failureTimeToLive > 0) {
+                cacheFailure(node, throwable);
+            } else {
+                fail(node, throwable);
+            }
+            // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+            @SuppressWarnings("unchecked")
+            X x = (X) throwable;
+            throw x;
+        }
+        node.complete(value);
+        stripeFor(node).add(node);
+        return value;
+    }
+
+    private void fail(Node<V> node, Throwable throwable) {
+        // Remove the node first, so callers that arrive after this point will start a new computation
+        map.remove(node.key, node);
+        node.fail(throwable);
+    }
+
+    private void cacheFailure(Node<V> node, Throwable throwable) {
+        node.failureExpiresAt = nanoTime.getAsLong() + failureTimeToLive;
+        node.failureCached = true;
+        node.fail(throwable);
+        stripeFor(node).add(node);
+    }
+
+    private <X extends Throwable> V result(Node<V> node) throws X {
+        Throwable failure = node.failure();
+        if (failure != null) {
+            if (node.failureCached) {
+                recordHit();
+                stripeFor(node).recordAccess(node);
+            } else {
+                recordMiss();
+            }
+            throw PendingResult.<X>relay(copy(failure));
+        }
+        recordHit();
+        stripeFor(node).recordAccess(node);
+        return node.value();
+    }
+
+    private Throwable copy(Throwable failure) {
+        // Only checked exceptions are cached, and the copier only accepts those
+        return failureCopier == null || failure instanceof Error || failure instanceof RuntimeException
+                ? failure
+                : failureCopier.apply(failure);
+    }
+
+    private Stripe<V> stripeFor(Node<V> node) {
+        return stripes[node.hash & (stripes.length - 1)];
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private void recordHit() {
+        if (statistics != null) {
+            statistics.recordHit();
+        }
+    }
+
+    private void recordMiss() {
+        if (statistics != null) {
+            statistics.recordMiss();
+        }
+    }
+
+    int size() {
+        return map.size();
+    }
+
+    private static final class Stripe<V> {
+
+        private final int capacity;
+        private final int protectedCapacity;
+
+        private final ConcurrentMap<Object, Node<V>> map;
+        private final CacheStatistics statistics;
+
+        // A lock is used instead of synchronized, so waiting virtual threads don't pin their carrier thread
+        private final Lock lock;
+
+        // Both lists are circular, with the sentinel's next being the least recently used node
+        private final Node<V> probation;
+        private final Node<V> protectedNodes;
+
+        private int size;
+        private int protectedSize;
+
+        private Stripe(int capacity, ConcurrentMap<Object, Node<V>> map, CacheStatistics statistics) {
+            this.capacity = capacity;
+            this.protectedCapacity = capacity * 4 / 5;
+            this.map = map;
+            this.statistics = statistics;
+            this.lock = new ReentrantLock();
+            this.probation = Node.sentinel();
+            this.protectedNodes = Node.sentinel();
+        }
+
+        private void add(Node<V> node) {
+            lock.lock();
+            try {
+                node.linkBefore(probation);
+                size++;
+                while (size > capacity) {
+                    evict();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void remove(Node<V> node) {
+            lock.lock();
+            try {
+                if (node.isLinked()) {
+                    if (node.inProtected) {
+                        protectedSize--;
+                    }
+                    node.unlink();
+                    size--;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void evict() {
+            Node<V> victim = probation.next != probation ? probation.next : protectedNodes.next;
+            if (victim.inProtected) {
+                protectedSize--;
+            }
+            victim.unlink();
+            size--;
+            map.remove(victim.key, victim);
+            if (statistics != null) {
+                statistics.recordEviction();
+            }
+        }
+
+        private void recordAccess(Node<V> node) {
+            // Accesses are not recorded if the stripe is busy; this keeps cache hits from blocking
+            if (lock.tryLock()) {
+                try {
+                    if (node.isLinked()) {
+                        access(node);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        private void access(Node<V> node) {
+            node.unlink();
+            if (node.inProtected || protectedCapacity == 0) {
+                node.linkBefore(node.inProtected ? protectedNodes : probation);
+                return;
+            }
+            node.inProtected = true;
+            node.linkBefore(protectedNodes);
+            protectedSize++;
+            if (protectedSize > protectedCapacity) {
+                // Demote the least recently used protected node; it gets another chance in the probationary segment
+                Node<V> demoted = protectedNodes.next;
+                demoted.unlink();
+                demoted.inProtected = false;
+                demoted.linkBefore(probation);
+                protectedSize--;
+            }
+        }
+    }
+
+    private static final class Node<V> extends PendingResult<V> {
+
+        private final Object key;
+        private final int hash;
+
+        // Only set before the result is completed, and only read after it has been completed
+        private boolean failureCached;
+        private long failureExpiresAt;
+
+        // Guarded by the lock of the stripe
+        private Node<V> prev;
+        private Node<V> next;
+        private boolean inProtected;
+
+        private Node(Object key, int hash) {
+            this.key = key;
+            this.hash = hash;
+        }
+
+        private Node(Thread owner) {
+            super(owner);
+            this.key = null;
+            this.hash = 0;
+        }
+
+        private static <V> Node<V> sentinel() {
+            // Sentinels are never completed, so they must not keep a reference to the thread that created the cache
+            Node<V> sentinel = new Node<>(null);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+
+        private boolean isLinked() {
+            return next != null;
+        }
+
+        private void linkBefore(Node<V> sentinel) {
+            // Linking before the sentinel makes this node the most recently used one
+            prev = sentinel.prev;
+            next = sentinel;
+            prev.next = this;
+            sentinel.prev = this;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * ByteConsumerAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingByteConsumer} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ByteConsumerAdapters {
+
+    private ByteConsumerAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingByteConsumer<X> checked(ThrowingByteConsumer<? extends RuntimeException> operation, Class<X> errorType) {
+        if (operation instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingByteConsumer<X> original = (ThrowingByteConsumer<X>) ((Sneaky) operation).operation;
+            return original;
+        }
+        if (operation instanceof Unchecked) {
+            ThrowingByteConsumer<?> original = ((Unchecked) operation).operation;
+            return value -> {
+                try {
+                    original.accept(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operation, errorType);
+    }
+
+    static ThrowingByteConsumer<RuntimeException> unchecked(ThrowingByteConsumer<?> operation) {
+        return new Unchecked(operation);
+    }
+
+    static ThrowingByteConsumer<RuntimeException> sneaky(ThrowingByteConsumer<?> operation) {
+        if (operation instanceof Checked<?> && ((Checked<?>) operation).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingByteConsumer
+            @SuppressWarnings("unchecked")
+            ThrowingByteConsumer<RuntimeException> original = (ThrowingByteConsumer<RuntimeException>) ((Checked<?>) operation).operation;
+            return original;
+        }
+        return new Sneaky(operation);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingByteConsumer<X> {
+
+        private final ThrowingByteConsumer<? extends RuntimeException> operation;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingByteConsumer<? extends RuntimeException> operation, Class<X> errorType) {
+            this.operation = operation;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public void accept(byte value) throws X {
+            try {
+                operation.accept(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements ThrowingByteConsumer<RuntimeException> {
+
+        private final ThrowingByteConsumer<?> operation;
+
+        private Unchecked(ThrowingByteConsumer<?> operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public void accept(byte value) {
+            try {
+                operation.accept(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operation);
+            }
+        }
+    }
+
+    private static final class Sneaky implements ThrowingByteConsumer<RuntimeException> {
+
+        private final ThrowingByteConsumer<RuntimeException> operation;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingByteConsumer<?> operation) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operation = (ThrowingByteConsumer<RuntimeException>) operation;
+        }
+
+        @Override
+        public void accept(byte value) {
+            operation.accept(value);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * BytePredicateAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingBytePredicate} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class BytePredicateAdapters {
+
+    private BytePredicateAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingBytePredicate<X> checked(ThrowingBytePredicate<? extends RuntimeException> predicate, Class<X> errorType) {
+        if (predicate instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingBytePredicate<X> original = (ThrowingBytePredicate<X>) ((Sneaky) predicate).predicate;
+            return original;
+        }
+        if (predicate instanceof Unchecked) {
+            ThrowingBytePredicate<?> original = ((Unchecked) predicate).predicate;
+            return value -> {
+                try {
+                    return original.test(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(predicate, errorType);
+    }
+
+    static ThrowingBytePredicate<RuntimeException> unchecked(ThrowingBytePredicate<?> predicate) {
+        return new Unchecked(predicate);
+    }
+
+    static ThrowingBytePredicate<RuntimeException> sneaky(ThrowingBytePredicate<?> predicate) {
+        if (predicate instanceof Checked<?> && ((Checked<?>) predicate).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingBytePredicate
+            @SuppressWarnings("unchecked")
+            ThrowingBytePredicate<RuntimeException> original = (ThrowingBytePredicate<RuntimeException>) ((Checked<?>) predicate).predicate;
+            return original;
+        }
+        return new Sneaky(predicate);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingBytePredicate<X> {
+
+        private final ThrowingBytePredicate<? extends RuntimeException> predicate;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingBytePredicate<? extends RuntimeException> predicate, Class<X> errorType) {
+            this.predicate = predicate;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public boolean test(byte value) throws X {
+            try {
+                return predicate.test(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements ThrowingBytePredicate<RuntimeException> {
+
+        private final ThrowingBytePredicate<?> predicate;
+
+        private Unchecked(ThrowingBytePredicate<?> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(byte value) {
+            try {
+                return predicate.test(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, predicate);
+            }
+        }
+    }
+
+    private static final class Sneaky implements ThrowingBytePredicate<RuntimeException> {
+
+        private final ThrowingBytePredicate<RuntimeException> predicate;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingBytePredicate<?> predicate) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.predicate = (ThrowingBytePredicate<RuntimeException>) predicate;
+        }
+
+        @Override
+        public boolean test(byte value) {
+            return predicate.test(value);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * ByteUnaryOperatorAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingByteUnaryOperator} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ByteUnaryOperatorAdapters {
+
+    private ByteUnaryOperatorAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingByteUnaryOperator<X> checked(ThrowingByteUnaryOperator<? extends RuntimeException> operator,
+            Class<X> errorType) {
+
+        if (operator instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingByteUnaryOperator<X> original = (ThrowingByteUnaryOperator<X>) ((Sneaky) operator).operator;
+            return original;
+        }
+        if (operator instanceof Unchecked) {
+            ThrowingByteUnaryOperator<?> original = ((Unchecked) operator).operator;
+            return operand -> {
+                try {
+                    return original.applyAsByte(operand);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operator, errorType);
+    }
+
+    static ThrowingByteUnaryOperator<RuntimeException> unchecked(ThrowingByteUnaryOperator<?> operator) {
+        return new Unchecked(operator);
+    }
+
+    static ThrowingByteUnaryOperator<RuntimeException> sneaky(ThrowingByteUnaryOperator<?> operator) {
+        if (operator instanceof Checked<?> && ((Checked<?>) operator).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingByteUnaryOperator
+            @SuppressWarnings("unchecked")
+            ThrowingByteUnaryOperator<RuntimeException> original = (ThrowingByteUnaryOperator<RuntimeException>) ((Checked<?>) operator).operator;
+            return original;
+        }
+        return new Sneaky(operator);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingByteUnaryOperator<X> {
+
+        private final ThrowingByteUnaryOperator<? extends RuntimeException> operator;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingByteUnaryOperator<? extends RuntimeException> operator, Class<X> errorType) {
+            this.operator = operator;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public byte applyAsByte(byte operand) throws X {
+            try {
+                return operator.applyAsByte(operand);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements ThrowingByteUnaryOperator<RuntimeException> {
+
+        private final ThrowingByteUnaryOperator<?> operator;
+
+        private Unchecked(ThrowingByteUnaryOperator<?> operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public byte applyAsByte(byte operand) {
+            try {
+                return operator.applyAsByte(operand);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operator);
+            }
+        }
+    }
+
+    private static final class Sneaky implements ThrowingByteUnaryOperator<RuntimeException> {
+
+        private final ThrowingByteUnaryOperator<RuntimeException> operator;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingByteUnaryOperator<?> operator) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operator = (ThrowingByteUnaryOperator<RuntimeException>) operator;
+        }
+
+        @Override
+        public byte applyAsByte(byte operand) {
+            return operator.applyAsByte(operand);
+        }
+    }
+}
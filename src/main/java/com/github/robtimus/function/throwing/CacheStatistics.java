@@ -0,0 +1,115 @@
+/*
+ * CacheStatistics.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics for memoized functions.
+ * An instance of this class can be passed to methods like {@link ThrowingFunction#memoize(int, CacheStatistics)}, which will then record the
+ * cache hits, cache misses and evictions of the returned function.
+ * <p>
+ * Instances of this class are thread-safe. Counters are kept using {@link LongAdder}, so updating them is cheap even under contention.
+ * The same instance can be shared by multiple memoized functions to collect aggregated statistics.
+ *
+ * @author Rob Spoor
+ */
+public final class CacheStatistics {
+
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder evictionCount;
+
+    /**
+     * Creates a new instance with all counters set to {@code 0}.
+     */
+    public CacheStatistics() {
+        hitCount = new LongAdder();
+        missCount = new LongAdder();
+        evictionCount = new LongAdder();
+    }
+
+    void recordHit() {
+        hitCount.increment();
+    }
+
+    void recordMiss() {
+        missCount.increment();
+    }
+
+    void recordEviction() {
+        evictionCount.increment();
+    }
+
+    /**
+     * Returns the number of times a cached result was returned.
+     *
+     * @return The number of times a cached result was returned.
+     */
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of times a result needed to be computed.
+     *
+     * @return The number of times a result needed to be computed.
+     */
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of cached results that were removed to make room for new results.
+     *
+     * @return The number of cached results that were removed to make room for new results.
+     */
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the total number of requests; this is the sum of the {@link #hitCount() hit count} and the {@link #missCount() miss count}.
+     *
+     * @return The total number of requests.
+     */
+    public long requestCount() {
+        return hitCount() + missCount();
+    }
+
+    /**
+     * Returns the ratio of requests that returned a cached result. If there have been no requests yet, this method returns {@code 1}.
+     *
+     * @return The ratio of requests that returned a cached result, between {@code 0} and {@code 1}.
+     */
+    public double hitRate() {
+        long hits = hitCount();
+        long requests = hits + missCount();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return getClass().getSimpleName()
+                + "[hitCount=" + hitCount()
+                + ",missCount=" + missCount()
+                + ",evictionCount=" + evictionCount()
+                + "]";
+    }
+}
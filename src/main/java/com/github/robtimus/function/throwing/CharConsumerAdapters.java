@@ -0,0 +1,125 @@
+/*
+ * CharConsumerAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingCharConsumer} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class CharConsumerAdapters {
+
+    private CharConsumerAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingCharConsumer<X> checked(ThrowingCharConsumer<? extends RuntimeException> operation, Class<X> errorType) {
+        if (operation instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingCharConsumer<X> original = (ThrowingCharConsumer<X>) ((Sneaky) operation).operation;
+            return original;
+        }
+        if (operation instanceof Unchecked) {
+            ThrowingCharConsumer<?> original = ((Unchecked) operation).operation;
+            return value -> {
+                try {
+                    original.accept(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operation, errorType);
+    }
+
+    static ThrowingCharConsumer<RuntimeException> unchecked(ThrowingCharConsumer<?> operation) {
+        return new Unchecked(operation);
+    }
+
+    static ThrowingCharConsumer<RuntimeException> sneaky(ThrowingCharConsumer<?> operation) {
+        if (operation instanceof Checked<?> && ((Checked<?>) operation).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingCharConsumer
+            @SuppressWarnings("unchecked")
+            ThrowingCharConsumer<RuntimeException> original = (ThrowingCharConsumer<RuntimeException>) ((Checked<?>) operation).operation;
+            return original;
+        }
+        return new Sneaky(operation);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingCharConsumer<X> {
+
+        private final ThrowingCharConsumer<? extends RuntimeException> operation;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingCharConsumer<? extends RuntimeException> operation, Class<X> errorType) {
+            this.operation = operation;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public void accept(char value) throws X {
+            try {
+                operation.accept(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements ThrowingCharConsumer<RuntimeException> {
+
+        private final ThrowingCharConsumer<?> operation;
+
+        private Unchecked(ThrowingCharConsumer<?> operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public void accept(char value) {
+            try {
+                operation.accept(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operation);
+            }
+        }
+    }
+
+    private static final class Sneaky implements ThrowingCharConsumer<RuntimeException> {
+
+        private final ThrowingCharConsumer<RuntimeException> operation;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingCharConsumer<?> operation) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operation = (ThrowingCharConsumer<RuntimeException>) operation;
+        }
+
+        @Override
+        public void accept(char value) {
+            operation.accept(value);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * CharFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingCharFunction} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class CharFunctionAdapters {
+
+    private CharFunctionAdapters() {
+    }
+
+    static <R, X extends Throwable> ThrowingCharFunction<R, X> checked(ThrowingCharFunction<? extends R, ? extends RuntimeException> function,
+            Class<X> errorType) {
+
+        if (function instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingCharFunction<R, X> original = (ThrowingCharFunction<R, X>) ((Sneaky<?>) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingCharFunction
+            @SuppressWarnings("unchecked")
+            ThrowingCharFunction<? extends R, ?> original = (ThrowingCharFunction<? extends R, ?>) ((Unchecked<?>) function).function;
+            return value -> {
+                try {
+                    return original.apply(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static <R> ThrowingCharFunction<R, RuntimeException> unchecked(ThrowingCharFunction<? extends R, ?> function) {
+        return new Unchecked<>(function);
+    }
+
+    static <R> ThrowingCharFunction<R, RuntimeException> sneaky(ThrowingCharFunction<? extends R, ?> function) {
+        if (function instanceof Checked<?, ?> && ((Checked<?, ?>) function).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingCharFunction
+            @SuppressWarnings("unchecked")
+            ThrowingCharFunction<R, RuntimeException> original = (ThrowingCharFunction<R, RuntimeException>) ((Checked<?, ?>) function).function;
+            return original;
+        }
+        return new Sneaky<>(function);
+    }
+
+    private static final class Checked<R, X extends Throwable> implements ThrowingCharFunction<R, X> {
+
+        private final ThrowingCharFunction<? extends R, ? extends RuntimeException> function;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingCharFunction<? extends R, ? extends RuntimeException> function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public R apply(char value) throws X {
+            try {
+                return function.apply(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<R> implements ThrowingCharFunction<R, RuntimeException> {
+
+        private final ThrowingCharFunction<? extends R, ?> function;
+
+        private Unchecked(ThrowingCharFunction<? extends R, ?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R apply(char value) {
+            try {
+                return function.apply(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky<R> implements ThrowingCharFunction<R, RuntimeException> {
+
+        private final ThrowingCharFunction<? extends R, RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingCharFunction<? extends R, ?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingCharFunction<? extends R, RuntimeException>) function;
+        }
+
+        @Override
+        public R apply(char value) {
+            return function.apply(value);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * CharSupplierAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingCharSupplier} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class CharSupplierAdapters {
+
+    private CharSupplierAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingCharSupplier<X> checked(ThrowingCharSupplier<? extends RuntimeException> supplier, Class<X> errorType) {
+        if (supplier instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingCharSupplier<X> original = (ThrowingCharSupplier<X>) ((Sneaky) supplier).supplier;
+            return original;
+        }
+        if (supplier instanceof Unchecked) {
+            ThrowingCharSupplier<?> original = ((Unchecked) supplier).supplier;
+            return () -> {
+                try {
+                    return original.getAsChar();
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(supplier, errorType);
+    }
+
+    static ThrowingCharSupplier<RuntimeException> unchecked(ThrowingCharSupplier<?> supplier) {
+        return new Unchecked(supplier);
+    }
+
+    static ThrowingCharSupplier<RuntimeException> sneaky(ThrowingCharSupplier<?> supplier) {
+        if (supplier instanceof Checked<?> && ((Checked<?>) supplier).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingCharSupplier
+            @SuppressWarnings("unchecked")
+            ThrowingCharSupplier<RuntimeException> original = (ThrowingCharSupplier<RuntimeException>) ((Checked<?>) supplier).supplier;
+            return original;
+        }
+        return new Sneaky(supplier);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingCharSupplier<X> {
+
+        private final ThrowingCharSupplier<? extends RuntimeException> supplier;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingCharSupplier<? extends RuntimeException> supplier, Class<X> errorType) {
+            this.supplier = supplier;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public char getAsChar() throws X {
+            try {
+                return supplier.getAsChar();
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements ThrowingCharSupplier<RuntimeException> {
+
+        private final ThrowingCharSupplier<?> supplier;
+
+        private Unchecked(ThrowingCharSupplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public char getAsChar() {
+            try {
+                return supplier.getAsChar();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, supplier);
+            }
+        }
+    }
+
+    private static final class Sneaky implements ThrowingCharSupplier<RuntimeException> {
+
+        private final ThrowingCharSupplier<RuntimeException> supplier;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingCharSupplier<?> supplier) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.supplier = (ThrowingCharSupplier<RuntimeException>) supplier;
+        }
+
+        @Override
+        public char getAsChar() {
+            return supplier.getAsChar();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * CompositeConsumer.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Objects;
+
+/**
+ * A {@link ThrowingConsumer} that performs a sequence of operations on the same input.
+ * <p>
+ * Composing operations using nested lambdas results in a call stack that is as deep as the number of composed operations. Instead, instances of
+ * this class perform their operations in a loop. Composing an instance of this class with another operation copies its operations instead of
+ * nesting it, so the loop never contains other instances of this class. Composing an operation with the
+ * {@linkplain ThrowingConsumer#noop() no-op operation} returns the operation itself.
+ * <p>
+ * Exceptions thrown by any of the operations are relayed as-is, and any remaining operations are not performed.
+ *
+ * @param <T> The type of the input to the operation.
+ * @param <X> The type of checked exception that can be thrown.
+ * @author Rob Spoor
+ */
+final class CompositeConsumer<T, X extends Throwable> implements ThrowingConsumer<T, X> {
+
+    private final ThrowingConsumer<? super T, ? extends X>[] operations;
+
+    private CompositeConsumer(ThrowingConsumer<? super T, ? extends X>[] operations) {
+        this.operations = operations;
+    }
+
+    static <T, X extends Throwable> ThrowingConsumer<T, X> of(ThrowingConsumer<? super T, ? extends X> first,
+            ThrowingConsumer<? super T, ? extends X> second) {
+
+        Objects.requireNonNull(first);
+        Objects.requireNonNull(second);
+
+        // No-op operations are skipped, so they don't add a step
+        if (KnownFunctions.isNoOp(first)) {
+            @SuppressWarnings("unchecked")
+            ThrowingConsumer<T, X> result = (ThrowingConsumer<T, X>) second;
+            return result;
+        }
+        if (KnownFunctions.isNoOp(second)) {
+            @SuppressWarnings("unchecked")
+            ThrowingConsumer<T, X> result = (ThrowingConsumer<T, X>) first;
+            return result;
+        }
+
+        ThrowingConsumer<?, ?>[] firstOperations = operations(first);
+        ThrowingConsumer<?, ?>[] secondOperations = operations(second);
+
+        // These casts are safe, because the operations of a composite accept at least T and throw no more than X, or they could not have been used
+        @SuppressWarnings("unchecked")
+        ThrowingConsumer<? super T, ? extends X>[] operations = (ThrowingConsumer<? super T, ? extends X>[])
+                new ThrowingConsumer<?, ?>[firstOperations.length + secondOperations.length];
+        System.arraycopy(firstOperations, 0, operations, 0, firstOperations.length);
+        System.arraycopy(secondOperations, 0, operations, firstOperations.length, secondOperations.length);
+        return new CompositeConsumer<>(operations);
+    }
+
+    private static ThrowingConsumer<?, ?>[] operations(ThrowingConsumer<?, ?> operation) {
+        return operation instanceof CompositeConsumer<?, ?>
+                ? ((CompositeConsumer<?, ?>) operation).operations
+                : new ThrowingConsumer<?, ?>[] { operation };
+    }
+
+    @Override
+    public void accept(T t) throws X {
+        for (ThrowingConsumer<? super T, ? extends X> operation : operations) {
+            operation.accept(t);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * CompositeFunction.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Objects;
+
+/**
+ * A {@link ThrowingFunction} that applies a sequence of functions, each to the result of the previous one.
+ * <p>
+ * Composing functions using nested lambdas results in a call stack that is as deep as the number of composed functions, and deep call stacks
+ * prevent the JIT from inlining. Instead, instances of this class apply their functions in a loop. Composing an instance of this class with another
+ * function copies its functions instead of nesting it, so the loop never contains other instances of this class. Composing a function with the
+ * {@linkplain ThrowingFunction#identity() identity function} returns the function itself.
+ * <p>
+ * Exceptions thrown by any of the functions are relayed as-is, and any remaining functions are not applied.
+ *
+ * @param <T> The type of the input to the function.
+ * @param <R> The type of the result of the function.
+ * @param <X> The type of checked exception that can be thrown.
+ * @author Rob Spoor
+ */
+final class CompositeFunction<T, R, X extends Throwable> implements ThrowingFunction<T, R, X> {
+
+    private final ThrowingFunction<Object, Object, ? extends X>[] functions;
+
+    private CompositeFunction(ThrowingFunction<Object, Object, ? extends X>[] functions) {
+        this.functions = functions;
+    }
+
+    static <T, R, X extends Throwable> ThrowingFunction<T, R, X> of(ThrowingFunction<? super T, ?, ? extends X> first,
+            ThrowingFunction<?, ? extends R, ? extends X> second) {
+
+        Objects.requireNonNull(first);
+        Objects.requireNonNull(second);
+
+        // Identity functions are skipped, so they don't add a step. Because they return their input, the other function can be returned as-is.
+        if (KnownFunctions.isIdentity(first)) {
+            @SuppressWarnings("unchecked")
+            ThrowingFunction<T, R, X> result = (ThrowingFunction<T, R, X>) second;
+            return result;
+        }
+        if (KnownFunctions.isIdentity(second)) {
+            @SuppressWarnings("unchecked")
+            ThrowingFunction<T, R, X> result = (ThrowingFunction<T, R, X>) first;
+            return result;
+        }
+
+        ThrowingFunction<?, ?, ?>[] firstFunctions = functions(first);
+        ThrowingFunction<?, ?, ?>[] secondFunctions = functions(second);
+
+        // These casts are safe, because the functions are called in order, each with the result of the previous one, and none throws more than X
+        @SuppressWarnings("unchecked")
+        ThrowingFunction<Object, Object, ? extends X>[] functions = (ThrowingFunction<Object, Object, ? extends X>[])
+                new ThrowingFunction<?, ?, ?>[firstFunctions.length + secondFunctions.length];
+        System.arraycopy(firstFunctions, 0, functions, 0, firstFunctions.length);
+        System.arraycopy(secondFunctions, 0, functions, firstFunctions.length, secondFunctions.length);
+        return new CompositeFunction<>(functions);
+    }
+
+    private static ThrowingFunction<?, ?, ?>[] functions(ThrowingFunction<?, ?, ?> function) {
+        return function instanceof CompositeFunction<?, ?, ?>
+                ? ((CompositeFunction<?, ?, ?>) function).functions
+                : new ThrowingFunction<?, ?, ?>[] { function };
+    }
+
+    @Override
+    public R apply(T t) throws X {
+        Object result = t;
+        for (ThrowingFunction<Object, Object, ? extends X> function : functions) {
+            result = function.apply(result);
+        }
+        // This cast is safe, because the result is returned by the last function
+        @SuppressWarnings("unchecked")
+        R r = (R) result;
+        return r;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * ConcurrentApplier.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Applies a {@link ThrowingFunction} to a number of inputs concurrently.
+ * <p>
+ * A fixed number of worker threads is started, each of which repeatedly takes the next input that has not been processed yet. This limits the
+ * number of concurrent calls without the need for a semaphore or executor. As soon as a call fails, workers stop taking inputs, and all workers are
+ * interrupted so calls that are in progress can stop early. Workers are started using {@link Threads}, so on Java 21 and up they are virtual
+ * threads.
+ *
+ * @param <T> The type of inputs.
+ * @param <R> The type of results.
+ * @param <X> The type of checked exception that can be thrown.
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ConcurrentApplier<T, R, X extends Throwable> {
+
+    private final ThrowingFunction<? super T, ? extends R, ? extends X> function;
+    private final Object[] inputs;
+    private final Object[] results;
+
+    private final AtomicInteger nextIndex;
+    private final AtomicReference<Throwable> failure;
+    private final CountDownLatch finished;
+    private final Lock workersLock;
+    private final Thread[] workers;
+
+    private ConcurrentApplier(ThrowingFunction<? super T, ? extends R, ? extends X> function, Object[] inputs, int workerCount) {
+        this.function = function;
+        this.inputs = inputs;
+        this.results = new Object[inputs.length];
+
+        this.nextIndex = new AtomicInteger();
+        this.failure = new AtomicReference<>();
+        this.finished = new CountDownLatch(workerCount);
+        this.workersLock = new ReentrantLock();
+        this.workers = new Thread[workerCount];
+    }
+
+    static <T, R, X extends Throwable> List<R> applyAll(ThrowingFunction<? super T, ? extends R, ? extends X> function,
+            Collection<? extends T> inputs, int maxConcurrency) throws X, InterruptedException {
+
+        Objects.requireNonNull(inputs);
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency); //$NON-NLS-1$
+        }
+        if (inputs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Object[] inputArray = inputs.toArray();
+        ConcurrentApplier<T, R, X> applier = new ConcurrentApplier<>(function, inputArray, Math.min(maxConcurrency, inputArray.length));
+        return applier.run();
+    }
+
+    private List<R> run() throws X, InterruptedException {
+        // Hold the lock while starting workers, so workers that fail early see all other workers when interrupting them
+        workersLock.lock();
+        try {
+            for (int i = 0; i < workers.length; i++) {
+                workers[i] = Threads.start(this::work);
+            }
+        } finally {
+            workersLock.unlock();
+        }
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            cancel(e);
+            awaitUninterruptibly();
+            throw e;
+        }
+
+        Throwable throwable = failure.get();
+        if (throwable != null) {
+            throw PendingResult.<X>relay(throwable);
+        }
+        // This cast is safe, because results only contains values returned by the function
+        @SuppressWarnings("unchecked")
+        List<R> list = (List<R>) Collections.unmodifiableList(Arrays.asList(results));
+        return list;
+    }
+
+    private void work() {
+        try {
+            while (failure.get() == null) {
+                int index = nextIndex.getAndIncrement();
+                if (index >= inputs.length) {
+                    return;
+                }
+                // This cast is safe, because inputs only contains elements of the collection of inputs
+                @SuppressWarnings("unchecked")
+                T input = (T) inputs[index];
+                results[index] = function.apply(input);
+            }
+        } catch (Throwable throwable) {
+            cancel(throwable);
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    private void cancel(Throwable cause) {
+        if (failure.compareAndSet(null, cause)) {
+            Thread current = Thread.currentThread();
+            workersLock.lock();
+            try {
+                for (Thread worker : workers) {
+                    if (worker != null && worker != current) {
+                        worker.interrupt();
+                    }
+                }
+            } finally {
+                workersLock.unlock();
+            }
+        }
+    }
+
+    private void awaitUninterruptibly() {
+        // The caller will get an InterruptedException, so any further interrupts can be ignored
+        while (true) {
+            try {
+                finished.await();
+                return;
+            } catch (@SuppressWarnings("unused") InterruptedException e) {
+                // ignore
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * ConsumerAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.Consumer;
+
+/**
+ * Adapters between {@link ThrowingConsumer} and {@link Consumer}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ConsumerAdapters {
+
+    private ConsumerAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingConsumer<T, X> checked(Consumer<? super T> operation, Class<X> errorType) {
+        if (operation instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingConsumer<T, X> original = (ThrowingConsumer<T, X>) ((Sneaky<?>) operation).operation;
+            return original;
+        }
+        if (operation instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingConsumer
+            @SuppressWarnings("unchecked")
+            ThrowingConsumer<? super T, ?> original = (ThrowingConsumer<? super T, ?>) ((Unchecked<?>) operation).operation;
+            return t -> {
+                try {
+                    original.accept(t);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operation, errorType);
+    }
+
+    static <T> Consumer<T> unchecked(ThrowingConsumer<? super T, ?> operation) {
+        return new Unchecked<>(operation);
+    }
+
+    static <T> Consumer<T> sneaky(ThrowingConsumer<? super T, ?> operation) {
+        if (operation instanceof Checked<?, ?> && ((Checked<?, ?>) operation).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible Consumer
+            @SuppressWarnings("unchecked")
+            Consumer<T> original = (Consumer<T>) ((Checked<?, ?>) operation).operation;
+            return original;
+        }
+        return new Sneaky<>(operation);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingConsumer<T, X> {
+
+        private final Consumer<? super T> operation;
+        private final Class<X> errorType;
+
+        private Checked(Consumer<? super T> operation, Class<X> errorType) {
+            this.operation = operation;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public void accept(T t) throws X {
+            try {
+                operation.accept(t);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements Consumer<T> {
+
+        private final ThrowingConsumer<? super T, ?> operation;
+
+        private Unchecked(ThrowingConsumer<? super T, ?> operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public void accept(T t) {
+            try {
+                operation.accept(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operation);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements Consumer<T> {
+
+        private final ThrowingConsumer<? super T, RuntimeException> operation;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingConsumer<? super T, ?> operation) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operation = (ThrowingConsumer<? super T, RuntimeException>) operation;
+        }
+
+        @Override
+        public void accept(T t) {
+            operation.accept(t);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * DoubleBiPredicateAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingDoubleBiPredicate} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class DoubleBiPredicateAdapters {
+
+    private DoubleBiPredicateAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingDoubleBiPredicate<X> checked(ThrowingDoubleBiPredicate<? extends RuntimeException> predicate,
+            Class<X> errorType) {
+
+        if (predicate instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingDoubleBiPredicate<X> original = (ThrowingDoubleBiPredicate<X>) ((Sneaky) predicate).predicate;
+            return original;
+        }
+        if (predicate instanceof Unchecked) {
+            ThrowingDoubleBiPredicate<?> original = ((Unchecked) predicate).predicate;
+            return (left, right) -> {
+                try {
+                    return original.test(left, right);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(predicate, errorType);
+    }
+
+    static ThrowingDoubleBiPredicate<RuntimeException> unchecked(ThrowingDoubleBiPredicate<?> predicate) {
+        return new Unchecked(predicate);
+    }
+
+    static ThrowingDoubleBiPredicate<RuntimeException> sneaky(ThrowingDoubleBiPredicate<?> predicate) {
+        if (predicate instanceof Checked<?> && ((Checked<?>) predicate).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingDoubleBiPredicate
+            @SuppressWarnings("unchecked")
+            ThrowingDoubleBiPredicate<RuntimeException> original = (ThrowingDoubleBiPredicate<RuntimeException>) ((Checked<?>) predicate).predicate;
+            return original;
+        }
+        return new Sneaky(predicate);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingDoubleBiPredicate<X> {
+
+        private final ThrowingDoubleBiPredicate<? extends RuntimeException> predicate;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingDoubleBiPredicate<? extends RuntimeException> predicate, Class<X> errorType) {
+            this.predicate = predicate;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public boolean test(double left, double right) throws X {
+            try {
+                return predicate.test(left, right);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements ThrowingDoubleBiPredicate<RuntimeException> {
+
+        private final ThrowingDoubleBiPredicate<?> predicate;
+
+        private Unchecked(ThrowingDoubleBiPredicate<?> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(double left, double right) {
+            try {
+                return predicate.test(left, right);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, predicate);
+            }
+        }
+    }
+
+    private static final class Sneaky implements ThrowingDoubleBiPredicate<RuntimeException> {
+
+        private final ThrowingDoubleBiPredicate<RuntimeException> predicate;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingDoubleBiPredicate<?> predicate) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.predicate = (ThrowingDoubleBiPredicate<RuntimeException>) predicate;
+        }
+
+        @Override
+        public boolean test(double left, double right) {
+            return predicate.test(left, right);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * DoubleBinaryOperatorAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * Adapters between {@link ThrowingDoubleBinaryOperator} and {@link DoubleBinaryOperator}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class DoubleBinaryOperatorAdapters {
+
+    private DoubleBinaryOperatorAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingDoubleBinaryOperator<X> checked(DoubleBinaryOperator operator, Class<X> errorType) {
+        if (operator instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingDoubleBinaryOperator<X> original = (ThrowingDoubleBinaryOperator<X>) ((Sneaky) operator).operator;
+            return original;
+        }
+        if (operator instanceof Unchecked) {
+            ThrowingDoubleBinaryOperator<?> original = ((Unchecked) operator).operator;
+            return (left, right) -> {
+                try {
+                    return original.applyAsDouble(left, right);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operator, errorType);
+    }
+
+    static DoubleBinaryOperator unchecked(ThrowingDoubleBinaryOperator<?> operator) {
+        return new Unchecked(operator);
+    }
+
+    static DoubleBinaryOperator sneaky(ThrowingDoubleBinaryOperator<?> operator) {
+        if (operator instanceof Checked<?> && ((Checked<?>) operator).errorType == null) {
+            DoubleBinaryOperator original = ((Checked<?>) operator).operator;
+            return original;
+        }
+        return new Sneaky(operator);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingDoubleBinaryOperator<X> {
+
+        private final DoubleBinaryOperator operator;
+        private final Class<X> errorType;
+
+        private Checked(DoubleBinaryOperator operator, Class<X> errorType) {
+            this.operator = operator;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public double applyAsDouble(double left, double right) throws X {
+            try {
+                return operator.applyAsDouble(left, right);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements DoubleBinaryOperator {
+
+        private final ThrowingDoubleBinaryOperator<?> operator;
+
+        private Unchecked(ThrowingDoubleBinaryOperator<?> operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public double applyAsDouble(double left, double right) {
+            try {
+                return operator.applyAsDouble(left, right);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operator);
+            }
+        }
+    }
+
+    private static final class Sneaky implements DoubleBinaryOperator {
+
+        private final ThrowingDoubleBinaryOperator<RuntimeException> operator;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingDoubleBinaryOperator<?> operator) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operator = (ThrowingDoubleBinaryOperator<RuntimeException>) operator;
+        }
+
+        @Override
+        public double applyAsDouble(double left, double right) {
+            return operator.applyAsDouble(left, right);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * DoublePredicateAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.DoublePredicate;
+
+/**
+ * Adapters between {@link ThrowingDoublePredicate} and {@link DoublePredicate}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class DoublePredicateAdapters {
+
+    private DoublePredicateAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingDoublePredicate<X> checked(DoublePredicate predicate, Class<X> errorType) {
+        if (predicate instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingDoublePredicate<X> original = (ThrowingDoublePredicate<X>) ((Sneaky) predicate).predicate;
+            return original;
+        }
+        if (predicate instanceof Unchecked) {
+            ThrowingDoublePredicate<?> original = ((Unchecked) predicate).predicate;
+            return value -> {
+                try {
+                    return original.test(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(predicate, errorType);
+    }
+
+    static DoublePredicate unchecked(ThrowingDoublePredicate<?> predicate) {
+        return new Unchecked(predicate);
+    }
+
+    static DoublePredicate sneaky(ThrowingDoublePredicate<?> predicate) {
+        if (predicate instanceof Checked<?> && ((Checked<?>) predicate).errorType == null) {
+            DoublePredicate original = ((Checked<?>) predicate).predicate;
+            return original;
+        }
+        return new Sneaky(predicate);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingDoublePredicate<X> {
+
+        private final DoublePredicate predicate;
+        private final Class<X> errorType;
+
+        private Checked(DoublePredicate predicate, Class<X> errorType) {
+            this.predicate = predicate;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public boolean test(double value) throws X {
+            try {
+                return predicate.test(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements DoublePredicate {
+
+        private final ThrowingDoublePredicate<?> predicate;
+
+        private Unchecked(ThrowingDoublePredicate<?> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(double value) {
+            try {
+                return predicate.test(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, predicate);
+            }
+        }
+    }
+
+    private static final class Sneaky implements DoublePredicate {
+
+        private final ThrowingDoublePredicate<RuntimeException> predicate;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingDoublePredicate<?> predicate) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.predicate = (ThrowingDoublePredicate<RuntimeException>) predicate;
+        }
+
+        @Override
+        public boolean test(double value) {
+            return predicate.test(value);
+        }
+    }
+}
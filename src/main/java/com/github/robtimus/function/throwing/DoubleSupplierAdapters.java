@@ -0,0 +1,125 @@
+/*
+ * DoubleSupplierAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Adapters between {@link ThrowingDoubleSupplier} and {@link DoubleSupplier}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class DoubleSupplierAdapters {
+
+    private DoubleSupplierAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingDoubleSupplier<X> checked(DoubleSupplier supplier, Class<X> errorType) {
+        if (supplier instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingDoubleSupplier<X> original = (ThrowingDoubleSupplier<X>) ((Sneaky) supplier).supplier;
+            return original;
+        }
+        if (supplier instanceof Unchecked) {
+            ThrowingDoubleSupplier<?> original = ((Unchecked) supplier).supplier;
+            return () -> {
+                try {
+                    return original.getAsDouble();
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(supplier, errorType);
+    }
+
+    static DoubleSupplier unchecked(ThrowingDoubleSupplier<?> supplier) {
+        return new Unchecked(supplier);
+    }
+
+    static DoubleSupplier sneaky(ThrowingDoubleSupplier<?> supplier) {
+        if (supplier instanceof Checked<?> && ((Checked<?>) supplier).errorType == null) {
+            DoubleSupplier original = ((Checked<?>) supplier).supplier;
+            return original;
+        }
+        return new Sneaky(supplier);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingDoubleSupplier<X> {
+
+        private final DoubleSupplier supplier;
+        private final Class<X> errorType;
+
+        private Checked(DoubleSupplier supplier, Class<X> errorType) {
+            this.supplier = supplier;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public double getAsDouble() throws X {
+            try {
+                return supplier.getAsDouble();
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements DoubleSupplier {
+
+        private final ThrowingDoubleSupplier<?> supplier;
+
+        private Unchecked(ThrowingDoubleSupplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public double getAsDouble() {
+            try {
+                return supplier.getAsDouble();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, supplier);
+            }
+        }
+    }
+
+    private static final class Sneaky implements DoubleSupplier {
+
+        private final ThrowingDoubleSupplier<RuntimeException> supplier;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingDoubleSupplier<?> supplier) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.supplier = (ThrowingDoubleSupplier<RuntimeException>) supplier;
+        }
+
+        @Override
+        public double getAsDouble() {
+            return supplier.getAsDouble();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * DoubleToIntFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.DoubleToIntFunction;
+
+/**
+ * Adapters between {@link ThrowingDoubleToIntFunction} and {@link DoubleToIntFunction}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class DoubleToIntFunctionAdapters {
+
+    private DoubleToIntFunctionAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingDoubleToIntFunction<X> checked(DoubleToIntFunction function, Class<X> errorType) {
+        if (function instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingDoubleToIntFunction<X> original = (ThrowingDoubleToIntFunction<X>) ((Sneaky) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked) {
+            ThrowingDoubleToIntFunction<?> original = ((Unchecked) function).function;
+            return value -> {
+                try {
+                    return original.applyAsInt(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static DoubleToIntFunction unchecked(ThrowingDoubleToIntFunction<?> function) {
+        return new Unchecked(function);
+    }
+
+    static DoubleToIntFunction sneaky(ThrowingDoubleToIntFunction<?> function) {
+        if (function instanceof Checked<?> && ((Checked<?>) function).errorType == null) {
+            DoubleToIntFunction original = ((Checked<?>) function).function;
+            return original;
+        }
+        return new Sneaky(function);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingDoubleToIntFunction<X> {
+
+        private final DoubleToIntFunction function;
+        private final Class<X> errorType;
+
+        private Checked(DoubleToIntFunction function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public int applyAsInt(double value) throws X {
+            try {
+                return function.applyAsInt(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements DoubleToIntFunction {
+
+        private final ThrowingDoubleToIntFunction<?> function;
+
+        private Unchecked(ThrowingDoubleToIntFunction<?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public int applyAsInt(double value) {
+            try {
+                return function.applyAsInt(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky implements DoubleToIntFunction {
+
+        private final ThrowingDoubleToIntFunction<RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingDoubleToIntFunction<?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingDoubleToIntFunction<RuntimeException>) function;
+        }
+
+        @Override
+        public int applyAsInt(double value) {
+            return function.applyAsInt(value);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * DoubleToLongFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.DoubleToLongFunction;
+
+/**
+ * Adapters between {@link ThrowingDoubleToLongFunction} and {@link DoubleToLongFunction}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class DoubleToLongFunctionAdapters {
+
+    private DoubleToLongFunctionAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingDoubleToLongFunction<X> checked(DoubleToLongFunction function, Class<X> errorType) {
+        if (function instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingDoubleToLongFunction<X> original = (ThrowingDoubleToLongFunction<X>) ((Sneaky) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked) {
+            ThrowingDoubleToLongFunction<?> original = ((Unchecked) function).function;
+            return value -> {
+                try {
+                    return original.applyAsLong(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static DoubleToLongFunction unchecked(ThrowingDoubleToLongFunction<?> function) {
+        return new Unchecked(function);
+    }
+
+    static DoubleToLongFunction sneaky(ThrowingDoubleToLongFunction<?> function) {
+        if (function instanceof Checked<?> && ((Checked<?>) function).errorType == null) {
+            DoubleToLongFunction original = ((Checked<?>) function).function;
+            return original;
+        }
+        return new Sneaky(function);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingDoubleToLongFunction<X> {
+
+        private final DoubleToLongFunction function;
+        private final Class<X> errorType;
+
+        private Checked(DoubleToLongFunction function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public long applyAsLong(double value) throws X {
+            try {
+                return function.applyAsLong(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements DoubleToLongFunction {
+
+        private final ThrowingDoubleToLongFunction<?> function;
+
+        private Unchecked(ThrowingDoubleToLongFunction<?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public long applyAsLong(double value) {
+            try {
+                return function.applyAsLong(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky implements DoubleToLongFunction {
+
+        private final ThrowingDoubleToLongFunction<RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingDoubleToLongFunction<?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingDoubleToLongFunction<RuntimeException>) function;
+        }
+
+        @Override
+        public long applyAsLong(double value) {
+            return function.applyAsLong(value);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * DoubleUnaryOperatorAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Adapters between {@link ThrowingDoubleUnaryOperator} and {@link DoubleUnaryOperator}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class DoubleUnaryOperatorAdapters {
+
+    private DoubleUnaryOperatorAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingDoubleUnaryOperator<X> checked(DoubleUnaryOperator operator, Class<X> errorType) {
+        if (operator instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingDoubleUnaryOperator<X> original = (ThrowingDoubleUnaryOperator<X>) ((Sneaky) operator).operator;
+            return original;
+        }
+        if (operator instanceof Unchecked) {
+            ThrowingDoubleUnaryOperator<?> original = ((Unchecked) operator).operator;
+            return operand -> {
+                try {
+                    return original.applyAsDouble(operand);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operator, errorType);
+    }
+
+    static DoubleUnaryOperator unchecked(ThrowingDoubleUnaryOperator<?> operator) {
+        return new Unchecked(operator);
+    }
+
+    static DoubleUnaryOperator sneaky(ThrowingDoubleUnaryOperator<?> operator) {
+        if (operator instanceof Checked<?> && ((Checked<?>) operator).errorType == null) {
+            DoubleUnaryOperator original = ((Checked<?>) operator).operator;
+            return original;
+        }
+        return new Sneaky(operator);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingDoubleUnaryOperator<X> {
+
+        private final DoubleUnaryOperator operator;
+        private final Class<X> errorType;
+
+        private Checked(DoubleUnaryOperator operator, Class<X> errorType) {
+            this.operator = operator;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public double applyAsDouble(double operand) throws X {
+            try {
+                return operator.applyAsDouble(operand);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements DoubleUnaryOperator {
+
+        private final ThrowingDoubleUnaryOperator<?> operator;
+
+        private Unchecked(ThrowingDoubleUnaryOperator<?> operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public double applyAsDouble(double operand) {
+            try {
+                return operator.applyAsDouble(operand);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operator);
+            }
+        }
+    }
+
+    private static final class Sneaky implements DoubleUnaryOperator {
+
+        private final ThrowingDoubleUnaryOperator<RuntimeException> operator;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingDoubleUnaryOperator<?> operator) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operator = (ThrowingDoubleUnaryOperator<RuntimeException>) operator;
+        }
+
+        @Override
+        public double applyAsDouble(double operand) {
+            return operator.applyAsDouble(operand);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * ExpiringMemoizingSupplier.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link ThrowingSupplier} that caches the value of another {@link ThrowingSupplier} for a limited amount of time.
+ * <p>
+ * If an {@link Executor} is given, the value is refreshed in the background once it has reached a configured age, while the current value is still
+ * returned. At most one refresh is active at any time. If a refresh fails, the current value remains available for an additional grace period.
+ * <p>
+ * If the value has expired, or there is no value yet, the next call will compute it synchronously. Only one caller will call the delegate;
+ * other callers will wait for it to finish. If a refresh is running at that time, callers will wait for the refresh to finish instead.
+ * Exceptions thrown by synchronous computations are relayed and not cached.
+ *
+ * @param <T> The type of the results supplied by the supplier.
+ * @param <X> The type of checked exception that can be thrown.
+ * @author Rob Spoor
+ */
+final class ExpiringMemoizingSupplier<T, X extends Throwable> implements ThrowingSupplier<T, X> {
+
+    private final ThrowingSupplier<? extends T, ? extends X> supplier;
+
+    private final long timeToLive;
+    private final long refreshAfter;
+    private final long gracePeriod;
+    private final Executor executor;
+
+    private final LongSupplier nanoTime;
+
+    // A lock is used instead of synchronized, so waiting virtual threads don't pin their carrier thread
+    private final Lock lock;
+    private final Condition refreshFinished;
+    // Set when a refresh is submitted, to prevent multiple refreshes
+    private final AtomicBoolean refreshing;
+    // Set while a refresh is calling the delegate; guarded by lock
+    private boolean refreshRunning;
+
+    private volatile Entry<T> entry;
+
+    ExpiringMemoizingSupplier(ThrowingSupplier<? extends T, ? extends X> supplier, Duration timeToLive, Duration refreshAfter, Duration gracePeriod,
+            Executor executor, LongSupplier nanoTime) {
+
+        this.supplier = Objects.requireNonNull(supplier);
+        this.timeToLive = positiveNanos(timeToLive, "timeToLive"); //$NON-NLS-1$
+        this.refreshAfter = refreshAfter == null ? this.timeToLive : positiveNanos(refreshAfter, "refreshAfter"); //$NON-NLS-1$
+        this.gracePeriod = gracePeriod == null ? 0 : nonNegativeNanos(gracePeriod, "gracePeriod"); //$NON-NLS-1$
+        this.executor = executor;
+        this.nanoTime = nanoTime;
+
+        if (executor != null && this.refreshAfter >= this.timeToLive) {
+            throw new IllegalArgumentException("refreshAfter must be smaller than timeToLive"); //$NON-NLS-1$
+        }
+
+        this.lock = new ReentrantLock();
+        this.refreshFinished = lock.newCondition();
+        this.refreshing = new AtomicBoolean(false);
+    }
+
+    static <T, X extends Throwable> ThrowingSupplier<T, X> of(ThrowingSupplier<T, X> supplier, Duration timeToLive) {
+        return new ExpiringMemoizingSupplier<>(supplier, timeToLive, null, null, null, System::nanoTime);
+    }
+
+    static <T, X extends Throwable> ThrowingSupplier<T, X> of(ThrowingSupplier<T, X> supplier, Duration timeToLive, Duration refreshAfter,
+            Duration gracePeriod, Executor executor) {
+
+        Objects.requireNonNull(refreshAfter);
+        Objects.requireNonNull(gracePeriod);
+        Objects.requireNonNull(executor);
+        return new ExpiringMemoizingSupplier<>(supplier, timeToLive, refreshAfter, gracePeriod, executor, System::nanoTime);
+    }
+
+    private static long positiveNanos(Duration duration, String name) {
+        long nanos = duration.toNanos();
+        if (nanos <= 0) {
+            throw new IllegalArgumentException(name + " must be positive: " + duration); //$NON-NLS-1$
+        }
+        return nanos;
+    }
+
+    private static long nonNegativeNanos(Duration duration, String name) {
+        long nanos = duration.toNanos();
+        if (nanos < 0) {
+            throw new IllegalArgumentException(name + " must not be negative: " + duration); //$NON-NLS-1$
+        }
+        return nanos;
+    }
+
+    @Override
+    public T get() throws X {
+        Entry<T> current = entry;
+        if (current != null) {
+            long now = nanoTime.getAsLong();
+            // Compare differences instead of absolute values, as System.nanoTime() may overflow
+            if (now - current.expiresAt < 0) {
+                if (executor != null && now - current.refreshAt >= 0) {
+                    startRefresh(current);
+                }
+                return current.value;
+            }
+        }
+        return load();
+    }
+
+    private T load() throws X {
+        lock.lock();
+        try {
+            // Don't call the delegate while a refresh is calling it; the refresh will most likely provide a valid value
+            while (refreshRunning) {
+                refreshFinished.awaitUninterruptibly();
+            }
+            Entry<T> current = entry;
+            if (current != null && nanoTime.getAsLong() - current.expiresAt < 0) {
+                // Another caller or a refresh has computed the value while this caller was waiting
+                return current.value;
+            }
+            T value = supplier.get();
+            entry = newEntry(value);
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry<T> newEntry(T value) {
+        long now = nanoTime.getAsLong();
+        return new Entry<>(value, now + refreshAfter, now + timeToLive, false);
+    }
+
+    private void startRefresh(Entry<T> current) {
+        if (refreshing.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> refresh(current));
+            } catch (RejectedExecutionException e) {
+                // The current value remains valid; the next call after the refresh age will try again
+                refreshing.set(false);
+            }
+        }
+    }
+
+    @SuppressWarnings("squid:S1181")
+    private void refresh(Entry<T> current) {
+        if (!startRefreshRunning(current)) {
+            return;
+        }
+        Entry<T> refreshed = null;
+        try {
+            refreshed = newEntry(supplier.get());
+        } catch (Throwable throwable) {
+            if (throwable instanceof Error) {
+                throw (Error) throwable;
+            }
+        } finally {
+            refreshCompleted(current, refreshed);
+        }
+    }
+
+    private boolean startRefreshRunning(Entry<T> current) {
+        lock.lock();
+        try {
+            if (entry != current) {
+                // A synchronous computation has replaced the entry while the refresh was waiting to be executed
+                refreshing.set(false);
+                return false;
+            }
+            refreshRunning = true;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refreshCompleted(Entry<T> current, Entry<T> refreshed) {
+        lock.lock();
+        try {
+            // Only replace the entry if no other caller has replaced it in the meantime
+            if (entry == current) {
+                if (refreshed != null) {
+                    entry = refreshed;
+                } else if (!current.extended) {
+                    // The refresh failed; only extend the entry once
+                    entry = new Entry<>(current.value, current.refreshAt, current.expiresAt + gracePeriod, true);
+                }
+            }
+            refreshRunning = false;
+            refreshing.set(false);
+            refreshFinished.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final T value;
+        private final long refreshAt;
+        private final long expiresAt;
+        private final boolean extended;
+
+        private Entry(T value, long refreshAt, long expiresAt, boolean extended) {
+            this.value = value;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+            this.extended = extended;
+        }
+    }
+}
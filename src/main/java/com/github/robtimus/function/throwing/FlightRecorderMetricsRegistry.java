@@ -0,0 +1,119 @@
+/*
+ * FlightRecorderMetricsRegistry.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.time.Duration;
+import java.util.Objects;
+import jdk.jfr.EventType;
+
+/**
+ * A {@link MetricsRegistry} that emits Java Flight Recorder events.
+ * For each instrumented function, the following events are emitted:
+ * <ul>
+ *   <li>{@code com.github.robtimus.function.throwing.InvocationFailed} for each invocation that throws an exception or error.
+ *       This event contains the name the function was instrumented with, the duration of the invocation, the type and message of the
+ *       exception or error, and the type of its cause, if any.</li>
+ *   <li>{@code com.github.robtimus.function.throwing.SlowInvocation} for each invocation that completes normally but takes at least as long
+ *       as the slow invocation threshold.
+ *       This event contains the name the function was instrumented with, the duration of the invocation, and the threshold.</li>
+ * </ul>
+ * Both events belong to the {@code Throwing Functions} category, and can be enabled and disabled like any other Java Flight Recorder event.
+ * If neither event is enabled, for instance because no recording is active, no events are created at all.
+ * <p>
+ * This class depends on the {@code jdk.jfr} module. This module is not required by this library; applications that run on the module path
+ * and use this class must make sure that module is resolved, for instance using {@code --add-modules jdk.jfr}.
+ * <p>
+ * Instances of this class are thread-safe.
+ *
+ * @author Rob Spoor
+ */
+public final class FlightRecorderMetricsRegistry implements MetricsRegistry {
+
+    private static final EventType FAILED_EVENT_TYPE = EventType.getEventType(InvocationFailedEvent.class);
+    private static final EventType SLOW_EVENT_TYPE = EventType.getEventType(SlowInvocationEvent.class);
+
+    private final long slowInvocationThreshold;
+
+    /**
+     * Creates a new registry.
+     *
+     * @param slowInvocationThreshold The minimal duration of an invocation that completes normally to be reported as slow.
+     * @throws NullPointerException If {@code slowInvocationThreshold} is {@code null}.
+     * @throws IllegalArgumentException If {@code slowInvocationThreshold} is negative.
+     */
+    public FlightRecorderMetricsRegistry(Duration slowInvocationThreshold) {
+        long nanos = slowInvocationThreshold.toNanos();
+        if (nanos < 0) {
+            throw new IllegalArgumentException("slowInvocationThreshold must not be negative: " + slowInvocationThreshold); //$NON-NLS-1$
+        }
+        this.slowInvocationThreshold = nanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException If {@code name} is {@code null}.
+     */
+    @Override
+    public InvocationRecorder recorder(String name) {
+        Objects.requireNonNull(name);
+        return new Recorder(name, slowInvocationThreshold);
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return getClass().getSimpleName() + "[slowInvocationThreshold=" + Duration.ofNanos(slowInvocationThreshold) + "]";
+    }
+
+    private static final class Recorder implements InvocationRecorder {
+
+        private final String name;
+        private final long slowInvocationThreshold;
+
+        private Recorder(String name, long slowInvocationThreshold) {
+            this.name = name;
+            this.slowInvocationThreshold = slowInvocationThreshold;
+        }
+
+        @Override
+        public void recordSuccess(long durationNanos) {
+            if (durationNanos >= slowInvocationThreshold && SLOW_EVENT_TYPE.isEnabled()) {
+                SlowInvocationEvent event = new SlowInvocationEvent();
+                event.name = name;
+                event.invocationDuration = durationNanos;
+                event.threshold = slowInvocationThreshold;
+                event.commit();
+            }
+        }
+
+        @Override
+        public void recordFailure(long durationNanos, Throwable error) {
+            if (FAILED_EVENT_TYPE.isEnabled()) {
+                InvocationFailedEvent event = new InvocationFailedEvent();
+                event.name = name;
+                event.invocationDuration = durationNanos;
+                event.exceptionType = error.getClass();
+                event.exceptionMessage = error.getMessage();
+                Throwable cause = error.getCause();
+                event.causeType = cause == null ? null : cause.getClass();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * FloatFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingFloatFunction} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class FloatFunctionAdapters {
+
+    private FloatFunctionAdapters() {
+    }
+
+    static <R, X extends Throwable> ThrowingFloatFunction<R, X> checked(ThrowingFloatFunction<? extends R, ? extends RuntimeException> function,
+            Class<X> errorType) {
+
+        if (function instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingFloatFunction<R, X> original = (ThrowingFloatFunction<R, X>) ((Sneaky<?>) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingFloatFunction
+            @SuppressWarnings("unchecked")
+            ThrowingFloatFunction<? extends R, ?> original = (ThrowingFloatFunction<? extends R, ?>) ((Unchecked<?>) function).function;
+            return value -> {
+                try {
+                    return original.apply(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static <R> ThrowingFloatFunction<R, RuntimeException> unchecked(ThrowingFloatFunction<? extends R, ?> function) {
+        return new Unchecked<>(function);
+    }
+
+    static <R> ThrowingFloatFunction<R, RuntimeException> sneaky(ThrowingFloatFunction<? extends R, ?> function) {
+        if (function instanceof Checked<?, ?> && ((Checked<?, ?>) function).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingFloatFunction
+            @SuppressWarnings("unchecked")
+            ThrowingFloatFunction<R, RuntimeException> original = (ThrowingFloatFunction<R, RuntimeException>) ((Checked<?, ?>) function).function;
+            return original;
+        }
+        return new Sneaky<>(function);
+    }
+
+    private static final class Checked<R, X extends Throwable> implements ThrowingFloatFunction<R, X> {
+
+        private final ThrowingFloatFunction<? extends R, ? extends RuntimeException> function;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingFloatFunction<? extends R, ? extends RuntimeException> function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public R apply(float value) throws X {
+            try {
+                return function.apply(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<R> implements ThrowingFloatFunction<R, RuntimeException> {
+
+        private final ThrowingFloatFunction<? extends R, ?> function;
+
+        private Unchecked(ThrowingFloatFunction<? extends R, ?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R apply(float value) {
+            try {
+                return function.apply(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky<R> implements ThrowingFloatFunction<R, RuntimeException> {
+
+        private final ThrowingFloatFunction<? extends R, RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingFloatFunction<? extends R, ?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingFloatFunction<? extends R, RuntimeException>) function;
+        }
+
+        @Override
+        public R apply(float value) {
+            return function.apply(value);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * FloatPredicateAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingFloatPredicate} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class FloatPredicateAdapters {
+
+    private FloatPredicateAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingFloatPredicate<X> checked(ThrowingFloatPredicate<? extends RuntimeException> predicate, Class<X> errorType) {
+        if (predicate instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingFloatPredicate<X> original = (ThrowingFloatPredicate<X>) ((Sneaky) predicate).predicate;
+            return original;
+        }
+        if (predicate instanceof Unchecked) {
+            ThrowingFloatPredicate<?> original = ((Unchecked) predicate).predicate;
+            return value -> {
+                try {
+                    return original.test(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(predicate, errorType);
+    }
+
+    static ThrowingFloatPredicate<RuntimeException> unchecked(ThrowingFloatPredicate<?> predicate) {
+        return new Unchecked(predicate);
+    }
+
+    static ThrowingFloatPredicate<RuntimeException> sneaky(ThrowingFloatPredicate<?> predicate) {
+        if (predicate instanceof Checked<?> && ((Checked<?>) predicate).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingFloatPredicate
+            @SuppressWarnings("unchecked")
+            ThrowingFloatPredicate<RuntimeException> original = (ThrowingFloatPredicate<RuntimeException>) ((Checked<?>) predicate).predicate;
+            return original;
+        }
+        return new Sneaky(predicate);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingFloatPredicate<X> {
+
+        private final ThrowingFloatPredicate<? extends RuntimeException> predicate;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingFloatPredicate<? extends RuntimeException> predicate, Class<X> errorType) {
+            this.predicate = predicate;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public boolean test(float value) throws X {
+            try {
+                return predicate.test(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements ThrowingFloatPredicate<RuntimeException> {
+
+        private final ThrowingFloatPredicate<?> predicate;
+
+        private Unchecked(ThrowingFloatPredicate<?> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(float value) {
+            try {
+                return predicate.test(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, predicate);
+            }
+        }
+    }
+
+    private static final class Sneaky implements ThrowingFloatPredicate<RuntimeException> {
+
+        private final ThrowingFloatPredicate<RuntimeException> predicate;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingFloatPredicate<?> predicate) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.predicate = (ThrowingFloatPredicate<RuntimeException>) predicate;
+        }
+
+        @Override
+        public boolean test(float value) {
+            return predicate.test(value);
+        }
+    }
+}
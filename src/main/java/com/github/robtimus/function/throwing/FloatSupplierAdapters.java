@@ -0,0 +1,125 @@
+/*
+ * FloatSupplierAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingFloatSupplier} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class FloatSupplierAdapters {
+
+    private FloatSupplierAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingFloatSupplier<X> checked(ThrowingFloatSupplier<? extends RuntimeException> supplier, Class<X> errorType) {
+        if (supplier instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingFloatSupplier<X> original = (ThrowingFloatSupplier<X>) ((Sneaky) supplier).supplier;
+            return original;
+        }
+        if (supplier instanceof Unchecked) {
+            ThrowingFloatSupplier<?> original = ((Unchecked) supplier).supplier;
+            return () -> {
+                try {
+                    return original.getAsFloat();
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(supplier, errorType);
+    }
+
+    static ThrowingFloatSupplier<RuntimeException> unchecked(ThrowingFloatSupplier<?> supplier) {
+        return new Unchecked(supplier);
+    }
+
+    static ThrowingFloatSupplier<RuntimeException> sneaky(ThrowingFloatSupplier<?> supplier) {
+        if (supplier instanceof Checked<?> && ((Checked<?>) supplier).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingFloatSupplier
+            @SuppressWarnings("unchecked")
+            ThrowingFloatSupplier<RuntimeException> original = (ThrowingFloatSupplier<RuntimeException>) ((Checked<?>) supplier).supplier;
+            return original;
+        }
+        return new Sneaky(supplier);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingFloatSupplier<X> {
+
+        private final ThrowingFloatSupplier<? extends RuntimeException> supplier;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingFloatSupplier<? extends RuntimeException> supplier, Class<X> errorType) {
+            this.supplier = supplier;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public float getAsFloat() throws X {
+            try {
+                return supplier.getAsFloat();
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements ThrowingFloatSupplier<RuntimeException> {
+
+        private final ThrowingFloatSupplier<?> supplier;
+
+        private Unchecked(ThrowingFloatSupplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public float getAsFloat() {
+            try {
+                return supplier.getAsFloat();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, supplier);
+            }
+        }
+    }
+
+    private static final class Sneaky implements ThrowingFloatSupplier<RuntimeException> {
+
+        private final ThrowingFloatSupplier<RuntimeException> supplier;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingFloatSupplier<?> supplier) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.supplier = (ThrowingFloatSupplier<RuntimeException>) supplier;
+        }
+
+        @Override
+        public float getAsFloat() {
+            return supplier.getAsFloat();
+        }
+    }
+}
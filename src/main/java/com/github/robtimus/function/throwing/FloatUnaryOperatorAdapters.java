@@ -0,0 +1,127 @@
+/*
+ * FloatUnaryOperatorAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingFloatUnaryOperator} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class FloatUnaryOperatorAdapters {
+
+    private FloatUnaryOperatorAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingFloatUnaryOperator<X> checked(ThrowingFloatUnaryOperator<? extends RuntimeException> operator,
+            Class<X> errorType) {
+
+        if (operator instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingFloatUnaryOperator<X> original = (ThrowingFloatUnaryOperator<X>) ((Sneaky) operator).operator;
+            return original;
+        }
+        if (operator instanceof Unchecked) {
+            ThrowingFloatUnaryOperator<?> original = ((Unchecked) operator).operator;
+            return operand -> {
+                try {
+                    return original.applyAsFloat(operand);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operator, errorType);
+    }
+
+    static ThrowingFloatUnaryOperator<RuntimeException> unchecked(ThrowingFloatUnaryOperator<?> operator) {
+        return new Unchecked(operator);
+    }
+
+    static ThrowingFloatUnaryOperator<RuntimeException> sneaky(ThrowingFloatUnaryOperator<?> operator) {
+        if (operator instanceof Checked<?> && ((Checked<?>) operator).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingFloatUnaryOperator
+            @SuppressWarnings("unchecked")
+            ThrowingFloatUnaryOperator<RuntimeException> original = (ThrowingFloatUnaryOperator<RuntimeException>) ((Checked<?>) operator).operator;
+            return original;
+        }
+        return new Sneaky(operator);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingFloatUnaryOperator<X> {
+
+        private final ThrowingFloatUnaryOperator<? extends RuntimeException> operator;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingFloatUnaryOperator<? extends RuntimeException> operator, Class<X> errorType) {
+            this.operator = operator;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public float applyAsFloat(float operand) throws X {
+            try {
+                return operator.applyAsFloat(operand);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements ThrowingFloatUnaryOperator<RuntimeException> {
+
+        private final ThrowingFloatUnaryOperator<?> operator;
+
+        private Unchecked(ThrowingFloatUnaryOperator<?> operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public float applyAsFloat(float operand) {
+            try {
+                return operator.applyAsFloat(operand);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operator);
+            }
+        }
+    }
+
+    private static final class Sneaky implements ThrowingFloatUnaryOperator<RuntimeException> {
+
+        private final ThrowingFloatUnaryOperator<RuntimeException> operator;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingFloatUnaryOperator<?> operator) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operator = (ThrowingFloatUnaryOperator<RuntimeException>) operator;
+        }
+
+        @Override
+        public float applyAsFloat(float operand) {
+            return operator.applyAsFloat(operand);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * FusedStages.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A sequence of consecutive {@code map}, {@code filter} and {@code peek} operations of a {@link ThrowingStream}, that are applied to stream
+ * elements using a single loop.
+ * <p>
+ * In a {@link Stream}, each intermediate operation adds a stage to the pipeline, and elements are passed from one stage to the next with a call that
+ * quickly becomes megamorphic. Instances of this class instead collect these operations, and add them to the pipeline as a single {@code map}
+ * operation, followed by a single {@code filter} operation if any of the operations is a {@code filter} operation. Elements that are rejected by a
+ * filter are replaced by a marker that the trailing {@code filter} operation removes. Because that can add up to two stages, fewer than three
+ * operations are added to the pipeline separately instead.
+ * <p>
+ * Instances are immutable; adding an operation returns a new instance that shares its previous operations with the original instance. Only when
+ * the operations are added to a pipeline, they are copied into arrays that are iterated for each element.
+ *
+ * @author Rob Spoor
+ */
+final class FusedStages {
+
+    private static final byte MAP = 0;
+    private static final byte FILTER = 1;
+    private static final byte PEEK = 2;
+
+    // Returned by Fused.apply for elements that were rejected by a filter
+    private static final Object SKIP = new Object();
+
+    private static final Predicate<Object> NOT_SKIPPED = value -> value != SKIP;
+
+    // Fusing fewer operations adds as many stages as it saves, and the loop only adds overhead
+    private static final int MIN_FUSED_COUNT = 3;
+
+    private final FusedStages previous;
+    private final byte kind;
+    private final Object operation;
+    private final int count;
+
+    private FusedStages(FusedStages previous, byte kind, Object operation) {
+        this.previous = previous;
+        this.kind = kind;
+        this.operation = Objects.requireNonNull(operation);
+        this.count = previous == null ? 1 : previous.count + 1;
+    }
+
+    // The following methods cast the operations to types that can only throw RuntimeException. This is safe, because checked exceptions are only
+    // checked by the compiler, not by the JVM. It allows any checked exception to be relayed as-is, without creating a sneaky wrapper per operation.
+
+    @SuppressWarnings("unchecked")
+    static FusedStages map(FusedStages previous, ThrowingFunction<?, ?, ?> mapper) {
+        return new FusedStages(previous, MAP, (ThrowingFunction<Object, Object, RuntimeException>) mapper);
+    }
+
+    @SuppressWarnings("unchecked")
+    static FusedStages filter(FusedStages previous, ThrowingPredicate<?, ?> predicate) {
+        return new FusedStages(previous, FILTER, (ThrowingPredicate<Object, RuntimeException>) predicate);
+    }
+
+    @SuppressWarnings("unchecked")
+    static FusedStages peek(FusedStages previous, ThrowingConsumer<?, ?> action) {
+        return new FusedStages(previous, PEEK, (ThrowingConsumer<Object, RuntimeException>) action);
+    }
+
+    <T> Stream<T> appendTo(Stream<?> stream) {
+        // These casts are safe, because the operations were added with matching types, and skipped elements are removed if needed
+        @SuppressWarnings("unchecked")
+        Stream<Object> objectStream = (Stream<Object>) stream;
+        Stream<Object> appended;
+        if (count < MIN_FUSED_COUNT) {
+            appended = appendSeparately(objectStream);
+        } else {
+            Fused fused = new Fused(this);
+            appended = objectStream.map(fused);
+            if (fused.filtering) {
+                appended = appended.filter(NOT_SKIPPED);
+            }
+        }
+        @SuppressWarnings("unchecked")
+        Stream<T> result = (Stream<T>) appended;
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Stream<Object> appendSeparately(Stream<Object> stream) {
+        Stream<Object> appended = previous == null ? stream : previous.appendSeparately(stream);
+        switch (kind) {
+            case MAP:
+                return appended.map(ThrowingFunction.sneaky((ThrowingFunction<Object, Object, ?>) operation));
+            case FILTER:
+                return appended.filter(ThrowingPredicate.sneaky((ThrowingPredicate<Object, ?>) operation));
+            case PEEK:
+                return appended.peek(ThrowingConsumer.sneaky((ThrowingConsumer<Object, ?>) operation));
+            default:
+                throw new IllegalStateException("Unsupported kind: " + kind); //$NON-NLS-1$
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Consumer<Object> andThen(ThrowingConsumer<? super T, ?> action) {
+        Objects.requireNonNull(action);
+        Fused fused = new Fused(this);
+        ThrowingConsumer<Object, RuntimeException> relaying = (ThrowingConsumer<Object, RuntimeException>) action;
+        return value -> {
+            Object result = fused.apply(value);
+            if (result != SKIP) {
+                relaying.accept(result);
+            }
+        };
+    }
+
+    private static final class Fused implements Function<Object, Object> {
+
+        private final byte[] kinds;
+        private final Object[] operations;
+        private final boolean filtering;
+
+        private Fused(FusedStages stages) {
+            int count = stages.count;
+            kinds = new byte[count];
+            operations = new Object[count];
+            boolean hasFilter = false;
+            FusedStages current = stages;
+            for (int i = count - 1; i >= 0; i--) {
+                kinds[i] = current.kind;
+                operations[i] = current.operation;
+                hasFilter |= current.kind == FILTER;
+                current = current.previous;
+            }
+            filtering = hasFilter;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object apply(Object value) {
+            Object result = value;
+            for (int i = 0; i < kinds.length; i++) {
+                switch (kinds[i]) {
+                    case MAP:
+                        result = ((ThrowingFunction<Object, Object, RuntimeException>) operations[i]).apply(result);
+                        break;
+                    case FILTER:
+                        if (!((ThrowingPredicate<Object, RuntimeException>) operations[i]).test(result)) {
+                            return SKIP;
+                        }
+                        break;
+                    case PEEK:
+                        ((ThrowingConsumer<Object, RuntimeException>) operations[i]).accept(result);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unsupported kind: " + kinds[i]); //$NON-NLS-1$
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * InFlightCalls.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps track of calls that are in progress, so concurrent calls with equal keys can share a single invocation.
+ * <p>
+ * The first caller for a key performs the call; callers that arrive while the call is in progress wait for it, and get the same result or
+ * exception. Once a call has finished, it is removed, so callers that arrive after that will perform a new call. No results are retained.
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of results.
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class InFlightCalls<K, V> {
+
+    private static final Object NULL_KEY = new Object();
+
+    private final ConcurrentMap<Object, PendingResult<V>> calls;
+
+    InFlightCalls() {
+        calls = new ConcurrentHashMap<>();
+    }
+
+    <X extends Throwable> V call(K key, ThrowingFunction<? super K, ? extends V, ? extends X> function) throws X {
+        Object mapKey = key == null ? NULL_KEY : key;
+
+        PendingResult<V> call = new PendingResult<>();
+        PendingResult<V> existing = calls.putIfAbsent(mapKey, call);
+        if (existing != null) {
+            existing.await();
+            Throwable failure = existing.failure();
+            if (failure != null) {
+                throw PendingResult.<X>relay(failure);
+            }
+            return existing.value();
+        }
+
+        V value;
+        try {
+            value = function.apply(key);
+        } catch (Error | RuntimeException e) {
+            finish(mapKey, call).fail(e);
+            throw e;
+        } catch (Throwable throwable) {
+            finish(mapKey, call).fail(throwable);
+            // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+            @SuppressWarnings("unchecked")
+            X x = (X) throwable;
+            throw x;
+        }
+        finish(mapKey, call).complete(value);
+        return value;
+    }
+
+    private PendingResult<V> finish(Object mapKey, PendingResult<V> call) {
+        // Remove the call before completing it, so callers that arrive after this point will perform a new call
+        calls.remove(mapKey, call);
+        return call;
+    }
+
+    int size() {
+        return calls.size();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * InMemoryMetricsRegistry.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link MetricsRegistry} that keeps its metrics in memory.
+ * For each name, an {@link InvocationMetrics} instance is created the first time a function is instrumented with that name.
+ * Functions that are instrumented with the same name share the same metrics.
+ * <p>
+ * Instances of this class are thread-safe.
+ *
+ * @author Rob Spoor
+ */
+public final class InMemoryMetricsRegistry implements MetricsRegistry {
+
+    private final ConcurrentMap<String, InvocationMetrics> metrics;
+
+    /**
+     * Creates a new registry without any metrics.
+     */
+    public InMemoryMetricsRegistry() {
+        metrics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException If {@code name} is {@code null}.
+     */
+    @Override
+    public InvocationMetrics recorder(String name) {
+        Objects.requireNonNull(name);
+        return metrics.computeIfAbsent(name, k -> new InvocationMetrics());
+    }
+
+    /**
+     * Returns the metrics for invocations with a specific name.
+     *
+     * @param name The name of the invocations.
+     * @return The metrics for invocations with the given name, or {@code null} if no function has been instrumented with the given name.
+     * @throws NullPointerException If {@code name} is {@code null}.
+     */
+    public InvocationMetrics metrics(String name) {
+        Objects.requireNonNull(name);
+        return metrics.get(name);
+    }
+
+    /**
+     * Returns the names for which metrics are available.
+     *
+     * @return An unmodifiable view of the names for which metrics are available.
+     */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(metrics.keySet());
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return getClass().getSimpleName() + metrics;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Instrumentation.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Objects;
+
+/**
+ * Utility methods for the {@code instrumented} methods of the functional interfaces of this library.
+ *
+ * @author Rob Spoor
+ */
+final class Instrumentation {
+
+    private Instrumentation() {
+    }
+
+    /**
+     * Returns the recorder for an instrumented function.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return The recorder that the given registry returns for the given name.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns {@code null}.
+     */
+    static InvocationRecorder recorder(String name, MetricsRegistry registry) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(registry);
+        return Objects.requireNonNull(registry.recorder(name));
+    }
+
+    /**
+     * Returns a sampler for an instrumented function.
+     *
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations is sampled.
+     * @return A sampler with the given sample rate.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    static Sampler sampler(int sampleRate) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("sampleRate must be positive: " + sampleRate); //$NON-NLS-1$
+        }
+        return new Sampler(sampleRate);
+    }
+
+    /**
+     * A sampler that selects one in every {@code sampleRate} invocations, using a counter per thread.
+     * Because the counters are not shared between threads, sampling does not cause any contention.
+     * The first invocation of each thread is always sampled.
+     */
+    static final class Sampler {
+
+        private final int sampleRate;
+        private final ThreadLocal<int[]> countdowns;
+
+        private Sampler(int sampleRate) {
+            this.sampleRate = sampleRate;
+            this.countdowns = ThreadLocal.withInitial(() -> new int[1]);
+        }
+
+        /**
+         * Returns whether or not the next invocation of the current thread should be sampled.
+         *
+         * @return {@code true} if the next invocation of the current thread should be sampled, or {@code false} otherwise.
+         */
+        boolean sample() {
+            int[] countdown = countdowns.get();
+            if (--countdown[0] <= 0) {
+                countdown[0] = sampleRate;
+                return true;
+            }
+            return false;
+        }
+    }
+}
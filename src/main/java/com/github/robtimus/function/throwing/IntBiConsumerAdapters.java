@@ -0,0 +1,125 @@
+/*
+ * IntBiConsumerAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingIntBiConsumer} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class IntBiConsumerAdapters {
+
+    private IntBiConsumerAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingIntBiConsumer<X> checked(ThrowingIntBiConsumer<? extends RuntimeException> operation, Class<X> errorType) {
+        if (operation instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingIntBiConsumer<X> original = (ThrowingIntBiConsumer<X>) ((Sneaky) operation).operation;
+            return original;
+        }
+        if (operation instanceof Unchecked) {
+            ThrowingIntBiConsumer<?> original = ((Unchecked) operation).operation;
+            return (left, right) -> {
+                try {
+                    original.accept(left, right);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operation, errorType);
+    }
+
+    static ThrowingIntBiConsumer<RuntimeException> unchecked(ThrowingIntBiConsumer<?> operation) {
+        return new Unchecked(operation);
+    }
+
+    static ThrowingIntBiConsumer<RuntimeException> sneaky(ThrowingIntBiConsumer<?> operation) {
+        if (operation instanceof Checked<?> && ((Checked<?>) operation).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingIntBiConsumer
+            @SuppressWarnings("unchecked")
+            ThrowingIntBiConsumer<RuntimeException> original = (ThrowingIntBiConsumer<RuntimeException>) ((Checked<?>) operation).operation;
+            return original;
+        }
+        return new Sneaky(operation);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingIntBiConsumer<X> {
+
+        private final ThrowingIntBiConsumer<? extends RuntimeException> operation;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingIntBiConsumer<? extends RuntimeException> operation, Class<X> errorType) {
+            this.operation = operation;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public void accept(int left, int right) throws X {
+            try {
+                operation.accept(left, right);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements ThrowingIntBiConsumer<RuntimeException> {
+
+        private final ThrowingIntBiConsumer<?> operation;
+
+        private Unchecked(ThrowingIntBiConsumer<?> operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public void accept(int left, int right) {
+            try {
+                operation.accept(left, right);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operation);
+            }
+        }
+    }
+
+    private static final class Sneaky implements ThrowingIntBiConsumer<RuntimeException> {
+
+        private final ThrowingIntBiConsumer<RuntimeException> operation;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingIntBiConsumer<?> operation) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operation = (ThrowingIntBiConsumer<RuntimeException>) operation;
+        }
+
+        @Override
+        public void accept(int left, int right) {
+            operation.accept(left, right);
+        }
+    }
+}
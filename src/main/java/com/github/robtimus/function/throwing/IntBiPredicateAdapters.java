@@ -0,0 +1,125 @@
+/*
+ * IntBiPredicateAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingIntBiPredicate} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class IntBiPredicateAdapters {
+
+    private IntBiPredicateAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingIntBiPredicate<X> checked(ThrowingIntBiPredicate<? extends RuntimeException> predicate, Class<X> errorType) {
+        if (predicate instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingIntBiPredicate<X> original = (ThrowingIntBiPredicate<X>) ((Sneaky) predicate).predicate;
+            return original;
+        }
+        if (predicate instanceof Unchecked) {
+            ThrowingIntBiPredicate<?> original = ((Unchecked) predicate).predicate;
+            return (left, right) -> {
+                try {
+                    return original.test(left, right);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(predicate, errorType);
+    }
+
+    static ThrowingIntBiPredicate<RuntimeException> unchecked(ThrowingIntBiPredicate<?> predicate) {
+        return new Unchecked(predicate);
+    }
+
+    static ThrowingIntBiPredicate<RuntimeException> sneaky(ThrowingIntBiPredicate<?> predicate) {
+        if (predicate instanceof Checked<?> && ((Checked<?>) predicate).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingIntBiPredicate
+            @SuppressWarnings("unchecked")
+            ThrowingIntBiPredicate<RuntimeException> original = (ThrowingIntBiPredicate<RuntimeException>) ((Checked<?>) predicate).predicate;
+            return original;
+        }
+        return new Sneaky(predicate);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingIntBiPredicate<X> {
+
+        private final ThrowingIntBiPredicate<? extends RuntimeException> predicate;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingIntBiPredicate<? extends RuntimeException> predicate, Class<X> errorType) {
+            this.predicate = predicate;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public boolean test(int left, int right) throws X {
+            try {
+                return predicate.test(left, right);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements ThrowingIntBiPredicate<RuntimeException> {
+
+        private final ThrowingIntBiPredicate<?> predicate;
+
+        private Unchecked(ThrowingIntBiPredicate<?> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(int left, int right) {
+            try {
+                return predicate.test(left, right);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, predicate);
+            }
+        }
+    }
+
+    private static final class Sneaky implements ThrowingIntBiPredicate<RuntimeException> {
+
+        private final ThrowingIntBiPredicate<RuntimeException> predicate;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingIntBiPredicate<?> predicate) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.predicate = (ThrowingIntBiPredicate<RuntimeException>) predicate;
+        }
+
+        @Override
+        public boolean test(int left, int right) {
+            return predicate.test(left, right);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * IntBinaryOperatorAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Adapters between {@link ThrowingIntBinaryOperator} and {@link IntBinaryOperator}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class IntBinaryOperatorAdapters {
+
+    private IntBinaryOperatorAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingIntBinaryOperator<X> checked(IntBinaryOperator operator, Class<X> errorType) {
+        if (operator instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingIntBinaryOperator<X> original = (ThrowingIntBinaryOperator<X>) ((Sneaky) operator).operator;
+            return original;
+        }
+        if (operator instanceof Unchecked) {
+            ThrowingIntBinaryOperator<?> original = ((Unchecked) operator).operator;
+            return (left, right) -> {
+                try {
+                    return original.applyAsInt(left, right);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operator, errorType);
+    }
+
+    static IntBinaryOperator unchecked(ThrowingIntBinaryOperator<?> operator) {
+        return new Unchecked(operator);
+    }
+
+    static IntBinaryOperator sneaky(ThrowingIntBinaryOperator<?> operator) {
+        if (operator instanceof Checked<?> && ((Checked<?>) operator).errorType == null) {
+            IntBinaryOperator original = ((Checked<?>) operator).operator;
+            return original;
+        }
+        return new Sneaky(operator);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingIntBinaryOperator<X> {
+
+        private final IntBinaryOperator operator;
+        private final Class<X> errorType;
+
+        private Checked(IntBinaryOperator operator, Class<X> errorType) {
+            this.operator = operator;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public int applyAsInt(int left, int right) throws X {
+            try {
+                return operator.applyAsInt(left, right);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements IntBinaryOperator {
+
+        private final ThrowingIntBinaryOperator<?> operator;
+
+        private Unchecked(ThrowingIntBinaryOperator<?> operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public int applyAsInt(int left, int right) {
+            try {
+                return operator.applyAsInt(left, right);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operator);
+            }
+        }
+    }
+
+    private static final class Sneaky implements IntBinaryOperator {
+
+        private final ThrowingIntBinaryOperator<RuntimeException> operator;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingIntBinaryOperator<?> operator) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operator = (ThrowingIntBinaryOperator<RuntimeException>) operator;
+        }
+
+        @Override
+        public int applyAsInt(int left, int right) {
+            return operator.applyAsInt(left, right);
+        }
+    }
+}
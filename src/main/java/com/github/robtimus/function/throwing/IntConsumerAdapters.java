@@ -0,0 +1,125 @@
+/*
+ * IntConsumerAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Adapters between {@link ThrowingIntConsumer} and {@link IntConsumer}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class IntConsumerAdapters {
+
+    private IntConsumerAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingIntConsumer<X> checked(IntConsumer operation, Class<X> errorType) {
+        if (operation instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingIntConsumer<X> original = (ThrowingIntConsumer<X>) ((Sneaky) operation).operation;
+            return original;
+        }
+        if (operation instanceof Unchecked) {
+            ThrowingIntConsumer<?> original = ((Unchecked) operation).operation;
+            return value -> {
+                try {
+                    original.accept(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operation, errorType);
+    }
+
+    static IntConsumer unchecked(ThrowingIntConsumer<?> operation) {
+        return new Unchecked(operation);
+    }
+
+    static IntConsumer sneaky(ThrowingIntConsumer<?> operation) {
+        if (operation instanceof Checked<?> && ((Checked<?>) operation).errorType == null) {
+            IntConsumer original = ((Checked<?>) operation).operation;
+            return original;
+        }
+        return new Sneaky(operation);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingIntConsumer<X> {
+
+        private final IntConsumer operation;
+        private final Class<X> errorType;
+
+        private Checked(IntConsumer operation, Class<X> errorType) {
+            this.operation = operation;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public void accept(int value) throws X {
+            try {
+                operation.accept(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements IntConsumer {
+
+        private final ThrowingIntConsumer<?> operation;
+
+        private Unchecked(ThrowingIntConsumer<?> operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public void accept(int value) {
+            try {
+                operation.accept(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operation);
+            }
+        }
+    }
+
+    private static final class Sneaky implements IntConsumer {
+
+        private final ThrowingIntConsumer<RuntimeException> operation;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingIntConsumer<?> operation) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operation = (ThrowingIntConsumer<RuntimeException>) operation;
+        }
+
+        @Override
+        public void accept(int value) {
+            operation.accept(value);
+        }
+    }
+}
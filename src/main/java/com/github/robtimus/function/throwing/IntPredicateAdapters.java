@@ -0,0 +1,125 @@
+/*
+ * IntPredicateAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Adapters between {@link ThrowingIntPredicate} and {@link IntPredicate}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class IntPredicateAdapters {
+
+    private IntPredicateAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingIntPredicate<X> checked(IntPredicate predicate, Class<X> errorType) {
+        if (predicate instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingIntPredicate<X> original = (ThrowingIntPredicate<X>) ((Sneaky) predicate).predicate;
+            return original;
+        }
+        if (predicate instanceof Unchecked) {
+            ThrowingIntPredicate<?> original = ((Unchecked) predicate).predicate;
+            return value -> {
+                try {
+                    return original.test(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(predicate, errorType);
+    }
+
+    static IntPredicate unchecked(ThrowingIntPredicate<?> predicate) {
+        return new Unchecked(predicate);
+    }
+
+    static IntPredicate sneaky(ThrowingIntPredicate<?> predicate) {
+        if (predicate instanceof Checked<?> && ((Checked<?>) predicate).errorType == null) {
+            IntPredicate original = ((Checked<?>) predicate).predicate;
+            return original;
+        }
+        return new Sneaky(predicate);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingIntPredicate<X> {
+
+        private final IntPredicate predicate;
+        private final Class<X> errorType;
+
+        private Checked(IntPredicate predicate, Class<X> errorType) {
+            this.predicate = predicate;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public boolean test(int value) throws X {
+            try {
+                return predicate.test(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements IntPredicate {
+
+        private final ThrowingIntPredicate<?> predicate;
+
+        private Unchecked(ThrowingIntPredicate<?> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(int value) {
+            try {
+                return predicate.test(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, predicate);
+            }
+        }
+    }
+
+    private static final class Sneaky implements IntPredicate {
+
+        private final ThrowingIntPredicate<RuntimeException> predicate;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingIntPredicate<?> predicate) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.predicate = (ThrowingIntPredicate<RuntimeException>) predicate;
+        }
+
+        @Override
+        public boolean test(int value) {
+            return predicate.test(value);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * IntSupplierAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Adapters between {@link ThrowingIntSupplier} and {@link IntSupplier}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class IntSupplierAdapters {
+
+    private IntSupplierAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingIntSupplier<X> checked(IntSupplier supplier, Class<X> errorType) {
+        if (supplier instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingIntSupplier<X> original = (ThrowingIntSupplier<X>) ((Sneaky) supplier).supplier;
+            return original;
+        }
+        if (supplier instanceof Unchecked) {
+            ThrowingIntSupplier<?> original = ((Unchecked) supplier).supplier;
+            return () -> {
+                try {
+                    return original.getAsInt();
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(supplier, errorType);
+    }
+
+    static IntSupplier unchecked(ThrowingIntSupplier<?> supplier) {
+        return new Unchecked(supplier);
+    }
+
+    static IntSupplier sneaky(ThrowingIntSupplier<?> supplier) {
+        if (supplier instanceof Checked<?> && ((Checked<?>) supplier).errorType == null) {
+            IntSupplier original = ((Checked<?>) supplier).supplier;
+            return original;
+        }
+        return new Sneaky(supplier);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingIntSupplier<X> {
+
+        private final IntSupplier supplier;
+        private final Class<X> errorType;
+
+        private Checked(IntSupplier supplier, Class<X> errorType) {
+            this.supplier = supplier;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public int getAsInt() throws X {
+            try {
+                return supplier.getAsInt();
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements IntSupplier {
+
+        private final ThrowingIntSupplier<?> supplier;
+
+        private Unchecked(ThrowingIntSupplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public int getAsInt() {
+            try {
+                return supplier.getAsInt();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, supplier);
+            }
+        }
+    }
+
+    private static final class Sneaky implements IntSupplier {
+
+        private final ThrowingIntSupplier<RuntimeException> supplier;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingIntSupplier<?> supplier) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.supplier = (ThrowingIntSupplier<RuntimeException>) supplier;
+        }
+
+        @Override
+        public int getAsInt() {
+            return supplier.getAsInt();
+        }
+    }
+}
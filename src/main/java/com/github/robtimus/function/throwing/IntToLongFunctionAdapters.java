@@ -0,0 +1,125 @@
+/*
+ * IntToLongFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.IntToLongFunction;
+
+/**
+ * Adapters between {@link ThrowingIntToLongFunction} and {@link IntToLongFunction}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class IntToLongFunctionAdapters {
+
+    private IntToLongFunctionAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingIntToLongFunction<X> checked(IntToLongFunction function, Class<X> errorType) {
+        if (function instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingIntToLongFunction<X> original = (ThrowingIntToLongFunction<X>) ((Sneaky) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked) {
+            ThrowingIntToLongFunction<?> original = ((Unchecked) function).function;
+            return value -> {
+                try {
+                    return original.applyAsLong(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static IntToLongFunction unchecked(ThrowingIntToLongFunction<?> function) {
+        return new Unchecked(function);
+    }
+
+    static IntToLongFunction sneaky(ThrowingIntToLongFunction<?> function) {
+        if (function instanceof Checked<?> && ((Checked<?>) function).errorType == null) {
+            IntToLongFunction original = ((Checked<?>) function).function;
+            return original;
+        }
+        return new Sneaky(function);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingIntToLongFunction<X> {
+
+        private final IntToLongFunction function;
+        private final Class<X> errorType;
+
+        private Checked(IntToLongFunction function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public long applyAsLong(int value) throws X {
+            try {
+                return function.applyAsLong(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements IntToLongFunction {
+
+        private final ThrowingIntToLongFunction<?> function;
+
+        private Unchecked(ThrowingIntToLongFunction<?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public long applyAsLong(int value) {
+            try {
+                return function.applyAsLong(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky implements IntToLongFunction {
+
+        private final ThrowingIntToLongFunction<RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingIntToLongFunction<?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingIntToLongFunction<RuntimeException>) function;
+        }
+
+        @Override
+        public long applyAsLong(int value) {
+            return function.applyAsLong(value);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * IntUnaryOperatorAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Adapters between {@link ThrowingIntUnaryOperator} and {@link IntUnaryOperator}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class IntUnaryOperatorAdapters {
+
+    private IntUnaryOperatorAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingIntUnaryOperator<X> checked(IntUnaryOperator operator, Class<X> errorType) {
+        if (operator instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingIntUnaryOperator<X> original = (ThrowingIntUnaryOperator<X>) ((Sneaky) operator).operator;
+            return original;
+        }
+        if (operator instanceof Unchecked) {
+            ThrowingIntUnaryOperator<?> original = ((Unchecked) operator).operator;
+            return operand -> {
+                try {
+                    return original.applyAsInt(operand);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operator, errorType);
+    }
+
+    static IntUnaryOperator unchecked(ThrowingIntUnaryOperator<?> operator) {
+        return new Unchecked(operator);
+    }
+
+    static IntUnaryOperator sneaky(ThrowingIntUnaryOperator<?> operator) {
+        if (operator instanceof Checked<?> && ((Checked<?>) operator).errorType == null) {
+            IntUnaryOperator original = ((Checked<?>) operator).operator;
+            return original;
+        }
+        return new Sneaky(operator);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingIntUnaryOperator<X> {
+
+        private final IntUnaryOperator operator;
+        private final Class<X> errorType;
+
+        private Checked(IntUnaryOperator operator, Class<X> errorType) {
+            this.operator = operator;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public int applyAsInt(int operand) throws X {
+            try {
+                return operator.applyAsInt(operand);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements IntUnaryOperator {
+
+        private final ThrowingIntUnaryOperator<?> operator;
+
+        private Unchecked(ThrowingIntUnaryOperator<?> operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public int applyAsInt(int operand) {
+            try {
+                return operator.applyAsInt(operand);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operator);
+            }
+        }
+    }
+
+    private static final class Sneaky implements IntUnaryOperator {
+
+        private final ThrowingIntUnaryOperator<RuntimeException> operator;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingIntUnaryOperator<?> operator) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operator = (ThrowingIntUnaryOperator<RuntimeException>) operator;
+        }
+
+        @Override
+        public int applyAsInt(int operand) {
+            return operator.applyAsInt(operand);
+        }
+    }
+}
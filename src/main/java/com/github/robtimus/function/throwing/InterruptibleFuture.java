@@ -0,0 +1,109 @@
+/*
+ * InterruptibleFuture.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link CompletableFuture} that is completed by running a {@link ThrowingSupplier}.
+ * <p>
+ * Unlike {@link CompletableFuture#supplyAsync(java.util.function.Supplier, Executor)}, any exception thrown by the supplier is used to complete the
+ * future as-is; checked exceptions don't need to be wrapped. In addition, {@link #cancel(boolean) cancel(true)} interrupts the thread that is
+ * running the supplier, if any. If the future is cancelled before the supplier is started, the supplier is not called at all.
+ *
+ * @param <T> The type of result.
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class InterruptibleFuture<T> extends CompletableFuture<T> implements Runnable {
+
+    private final ThrowingSupplier<? extends T, ?> supplier;
+
+    // Guards runner, so cancel can never interrupt a thread that has already moved on to another task
+    private final Lock runnerLock;
+    private Thread runner;
+    private boolean started;
+
+    private InterruptibleFuture(ThrowingSupplier<? extends T, ?> supplier) {
+        this.supplier = supplier;
+        this.runnerLock = new ReentrantLock();
+    }
+
+    static <T> CompletableFuture<T> execute(ThrowingSupplier<? extends T, ?> supplier, Executor executor) {
+        Objects.requireNonNull(executor);
+        InterruptibleFuture<T> future = new InterruptibleFuture<>(supplier);
+        executor.execute(future);
+        return future;
+    }
+
+    @Override
+    public void run() {
+        if (!start()) {
+            return;
+        }
+        try {
+            if (!isDone()) {
+                complete(supplier.get());
+            }
+        } catch (Throwable throwable) {
+            // This includes Error and RuntimeException; the future is the only place they are reported, like for CompletableFuture.supplyAsync
+            completeExceptionally(throwable);
+        } finally {
+            runnerLock.lock();
+            try {
+                runner = null;
+            } finally {
+                runnerLock.unlock();
+            }
+        }
+    }
+
+    private boolean start() {
+        runnerLock.lock();
+        try {
+            if (started) {
+                return false;
+            }
+            started = true;
+            runner = Thread.currentThread();
+            return true;
+        } finally {
+            runnerLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+        if (cancelled && mayInterruptIfRunning) {
+            runnerLock.lock();
+            try {
+                if (runner != null) {
+                    runner.interrupt();
+                }
+            } finally {
+                runnerLock.unlock();
+            }
+        }
+        return cancelled;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * InvocationFailedEvent.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Java Flight Recorder event for an invocation of an instrumented function that threw an exception or error.
+ *
+ * @author Rob Spoor
+ */
+@Name(InvocationFailedEvent.NAME)
+@Label("Invocation Failed")
+@Description("An invocation of an instrumented function threw an exception or error")
+@Category("Throwing Functions")
+@StackTrace(true)
+@SuppressWarnings("nls")
+final class InvocationFailedEvent extends Event {
+
+    static final String NAME = "com.github.robtimus.function.throwing.InvocationFailed";
+
+    @Label("Name")
+    @Description("The name the function was instrumented with")
+    String name;
+
+    @Label("Invocation Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long invocationDuration;
+
+    @Label("Exception Type")
+    Class<?> exceptionType;
+
+    @Label("Exception Message")
+    String exceptionMessage;
+
+    @Label("Cause Type")
+    @Description("The type of the cause of the exception, for instance the checked exception wrapped in an UncheckedException")
+    Class<?> causeType;
+}
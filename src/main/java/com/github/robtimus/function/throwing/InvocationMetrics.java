@@ -0,0 +1,171 @@
+/*
+ * InvocationMetrics.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory metrics for the invocations of instrumented functions.
+ * Instances of this class are returned by {@link InMemoryMetricsRegistry#recorder(String)}. They record the number of successful invocations,
+ * the number of failed invocations per type of exception or error, and a {@link LatencyHistogram} of the durations of all invocations.
+ * <p>
+ * Instances of this class are thread-safe. Counters are kept using {@link LongAdder}, so updating them is cheap even under contention.
+ * Recording an invocation does not allocate objects, except when an invocation fails with a type of exception or error for the first time.
+ * <p>
+ * For functions that are instrumented with a sample rate, the success count and latency histogram are estimates that are extrapolated from the
+ * sampled invocations, but the failure counts are exact.
+ *
+ * @author Rob Spoor
+ */
+public final class InvocationMetrics implements InvocationRecorder {
+
+    private final LongAdder successCount;
+    private final ConcurrentMap<Class<?>, LongAdder> failureCounts;
+    private final LatencyHistogram latencies;
+
+    InvocationMetrics() {
+        successCount = new LongAdder();
+        failureCounts = new ConcurrentHashMap<>();
+        latencies = new LatencyHistogram();
+    }
+
+    @Override
+    public void recordSuccess(long durationNanos) {
+        successCount.increment();
+        latencies.record(durationNanos);
+    }
+
+    @Override
+    public void recordFailure(long durationNanos, Throwable error) {
+        incrementFailureCount(error);
+        latencies.record(durationNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation adds {@code sampleRate} to the {@link #successCount() success count}, and records the duration {@code sampleRate}
+     * times in the {@link #latencies() latency histogram}.
+     */
+    @Override
+    public void recordSampledSuccess(long durationNanos, int sampleRate) {
+        successCount.add(sampleRate);
+        latencies.record(durationNanos, sampleRate);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation only updates the {@link #failureCount(Class) failure count}; the {@link #latencies() latency histogram} is not updated.
+     */
+    @Override
+    public void recordUntimedFailure(Throwable error) {
+        incrementFailureCount(error);
+    }
+
+    private void incrementFailureCount(Throwable error) {
+        Class<?> errorType = error.getClass();
+        LongAdder failureCount = failureCounts.get(errorType);
+        if (failureCount == null) {
+            failureCount = failureCounts.computeIfAbsent(errorType, k -> new LongAdder());
+        }
+        failureCount.increment();
+    }
+
+    /**
+     * Returns the total number of invocations; this is the sum of the {@link #successCount() success count} and the
+     * {@link #failureCount() failure count}.
+     *
+     * @return The total number of invocations.
+     */
+    public long invocationCount() {
+        return successCount() + failureCount();
+    }
+
+    /**
+     * Returns the number of invocations that completed normally.
+     *
+     * @return The number of invocations that completed normally.
+     */
+    public long successCount() {
+        return successCount.sum();
+    }
+
+    /**
+     * Returns the number of invocations that threw an exception or error.
+     *
+     * @return The number of invocations that threw an exception or error.
+     */
+    public long failureCount() {
+        long count = 0;
+        for (LongAdder failureCount : failureCounts.values()) {
+            count += failureCount.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of invocations that threw a specific type of exception or error.
+     * Only exceptions and errors of exactly the given type are counted, not those of sub types.
+     *
+     * @param errorType The type of exception or error.
+     * @return The number of invocations that threw an exception or error of the given type.
+     * @throws NullPointerException If {@code errorType} is {@code null}.
+     */
+    public long failureCount(Class<? extends Throwable> errorType) {
+        LongAdder failureCount = failureCounts.get(errorType);
+        return failureCount == null ? 0 : failureCount.sum();
+    }
+
+    /**
+     * Returns the number of failed invocations for each type of exception or error that has been thrown.
+     *
+     * @return An unmodifiable snapshot of the number of failed invocations per type of exception or error.
+     */
+    public Map<Class<? extends Throwable>, Long> failureCounts() {
+        Map<Class<? extends Throwable>, Long> result = new HashMap<>();
+        failureCounts.forEach((errorType, failureCount) -> result.put(errorType.asSubclass(Throwable.class), failureCount.sum()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Returns the histogram of the durations of all invocations.
+     * For functions that are instrumented with a sample rate, this histogram contains only the durations of timed invocations, where each sampled
+     * invocation that completed normally is counted as many times as the sample rate.
+     *
+     * @return The histogram of the durations of all invocations.
+     */
+    public LatencyHistogram latencies() {
+        return latencies;
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return getClass().getSimpleName()
+                + "[successCount=" + successCount()
+                + ",failureCount=" + failureCount()
+                + ",latencies=" + latencies
+                + "]";
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * InvocationRecorder.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * A recorder of the invocations of an instrumented function.
+ * Instances are returned by {@link MetricsRegistry#recorder(String)}, and are used by methods like
+ * {@link ThrowingFunction#instrumented(String, MetricsRegistry)} to record each invocation of the returned function.
+ * <p>
+ * Implementations must be thread-safe. Because they are called for every invocation, they should not block or allocate objects.
+ *
+ * @author Rob Spoor
+ */
+public interface InvocationRecorder {
+
+    /**
+     * Records an invocation that completed normally.
+     *
+     * @param durationNanos The duration of the invocation, in nanoseconds.
+     */
+    void recordSuccess(long durationNanos);
+
+    /**
+     * Records an invocation that completed by throwing an exception or error.
+     *
+     * @param durationNanos The duration of the invocation, in nanoseconds.
+     * @param error The exception or error that was thrown.
+     */
+    void recordFailure(long durationNanos, Throwable error);
+
+    /**
+     * Records a sampled invocation that completed normally.
+     * This method is used by methods like {@link ThrowingFunction#instrumented(String, MetricsRegistry, int)}, that time only one in every
+     * {@code sampleRate} invocations. The recorded invocation is therefore representative for {@code sampleRate} invocations that completed
+     * normally.
+     * <p>
+     * The default implementation calls {@link #recordSuccess(long)}, and therefore does not extrapolate. Implementations should override this
+     * method if they need to report estimated invocation counts.
+     *
+     * @param durationNanos The duration of the sampled invocation, in nanoseconds.
+     * @param sampleRate The number of invocations the sampled invocation is representative for.
+     */
+    default void recordSampledSuccess(long durationNanos, int sampleRate) {
+        recordSuccess(durationNanos);
+    }
+
+    /**
+     * Records an invocation that completed by throwing an exception or error, but that was not timed.
+     * This method is used by methods like {@link ThrowingFunction#instrumented(String, MetricsRegistry, int)} for invocations that were not
+     * sampled, so failures are always recorded even if their durations are not.
+     * <p>
+     * The default implementation calls {@link #recordFailure(long, Throwable)} with a duration of {@code 0}.
+     *
+     * @param error The exception or error that was thrown.
+     */
+    default void recordUntimedFailure(Throwable error) {
+        recordFailure(0, error);
+    }
+}
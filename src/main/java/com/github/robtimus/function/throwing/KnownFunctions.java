@@ -0,0 +1,98 @@
+/*
+ * KnownFunctions.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Singleton instances of functions that are recognized when composing functions.
+ * <p>
+ * Composing a function with an identity function, or an operation with a no-op operation, can return the other function or operation as-is.
+ * That requires these functions and operations to be recognizable, so factory methods return the same instance each time, and composition
+ * methods compare against these instances. Because none of them throws any exception, each instance can be used for any type of checked
+ * exception.
+ *
+ * @author Rob Spoor
+ */
+final class KnownFunctions {
+
+    private static final ThrowingUnaryOperator<Object, RuntimeException> IDENTITY = t -> t;
+    private static final ThrowingIntUnaryOperator<RuntimeException> INT_IDENTITY = t -> t;
+    private static final ThrowingLongUnaryOperator<RuntimeException> LONG_IDENTITY = t -> t;
+    private static final ThrowingDoubleUnaryOperator<RuntimeException> DOUBLE_IDENTITY = t -> t;
+
+    private static final ThrowingConsumer<Object, RuntimeException> NO_OP_CONSUMER = t -> { /* do nothing */ };
+    private static final ThrowingRunnable<RuntimeException> NO_OP_RUNNABLE = () -> { /* do nothing */ };
+
+    private KnownFunctions() {
+    }
+
+    static boolean isIdentity(ThrowingFunction<?, ?, ?> function) {
+        return function == IDENTITY;
+    }
+
+    static boolean isIntIdentity(ThrowingIntUnaryOperator<?> operator) {
+        return operator == INT_IDENTITY;
+    }
+
+    static boolean isLongIdentity(ThrowingLongUnaryOperator<?> operator) {
+        return operator == LONG_IDENTITY;
+    }
+
+    static boolean isDoubleIdentity(ThrowingDoubleUnaryOperator<?> operator) {
+        return operator == DOUBLE_IDENTITY;
+    }
+
+    static boolean isNoOp(ThrowingConsumer<?, ?> operation) {
+        return operation == NO_OP_CONSUMER;
+    }
+
+    static boolean isNoOp(ThrowingRunnable<?> task) {
+        return task == NO_OP_RUNNABLE;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, X extends Throwable> ThrowingUnaryOperator<T, X> identity() {
+        // This cast is safe, because the identity function returns its input and does not throw any exception
+        return (ThrowingUnaryOperator<T, X>) IDENTITY;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <X extends Throwable> ThrowingIntUnaryOperator<X> intIdentity() {
+        return (ThrowingIntUnaryOperator<X>) INT_IDENTITY;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <X extends Throwable> ThrowingLongUnaryOperator<X> longIdentity() {
+        return (ThrowingLongUnaryOperator<X>) LONG_IDENTITY;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <X extends Throwable> ThrowingDoubleUnaryOperator<X> doubleIdentity() {
+        return (ThrowingDoubleUnaryOperator<X>) DOUBLE_IDENTITY;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, X extends Throwable> ThrowingConsumer<T, X> noOpConsumer() {
+        // This cast is safe, because the no-op operation ignores its input and does not throw any exception
+        return (ThrowingConsumer<T, X>) NO_OP_CONSUMER;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <X extends Throwable> ThrowingRunnable<X> noOpRunnable() {
+        return (ThrowingRunnable<X>) NO_OP_RUNNABLE;
+    }
+}
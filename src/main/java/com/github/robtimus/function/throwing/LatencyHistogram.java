@@ -0,0 +1,195 @@
+/*
+ * LatencyHistogram.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of invocation durations, in nanoseconds.
+ * Durations are counted in logarithmic buckets: bucket {@code 0} contains durations of {@code 0}, and bucket {@code i} for {@code i > 0} contains
+ * durations from <code>2<sup>i-1</sup></code> up to and including <code>2<sup>i</sup> - 1</code>. Percentiles are therefore estimates, that
+ * are at most a factor 2 larger than the actual values.
+ * <p>
+ * Instances of this class are thread-safe. Recording a duration is lock-free and does not allocate objects; each bucket is a {@link LongAdder},
+ * so concurrent invocations do not contend on a single counter.
+ *
+ * @author Rob Spoor
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = Long.SIZE;
+
+    private final LongAdder[] buckets;
+    private final LongAdder totalNanos;
+    private final LongAccumulator maxNanos;
+
+    LatencyHistogram() {
+        buckets = new LongAdder[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+        totalNanos = new LongAdder();
+        maxNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    void record(long durationNanos) {
+        record(durationNanos, 1);
+    }
+
+    void record(long durationNanos, int count) {
+        // System.nanoTime() is not guaranteed to be monotonic on all platforms
+        long duration = Math.max(durationNanos, 0);
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(duration)].add(count);
+        totalNanos.add(duration * count);
+        maxNanos.accumulate(duration);
+    }
+
+    /**
+     * Returns the number of buckets of this histogram.
+     *
+     * @return The number of buckets of this histogram.
+     */
+    public int bucketCount() {
+        return BUCKET_COUNT;
+    }
+
+    /**
+     * Returns the number of recorded durations in a specific bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return The number of recorded durations in the given bucket.
+     * @throws IndexOutOfBoundsException If {@code bucket} is negative or not smaller than the {@link #bucketCount() bucket count}.
+     */
+    public long count(int bucket) {
+        return buckets[checkBucket(bucket)].sum();
+    }
+
+    /**
+     * Returns the smallest duration that is counted in a specific bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return The smallest duration that is counted in the given bucket, in nanoseconds.
+     * @throws IndexOutOfBoundsException If {@code bucket} is negative or not smaller than the {@link #bucketCount() bucket count}.
+     */
+    public long lowerBoundNanos(int bucket) {
+        return checkBucket(bucket) == 0 ? 0 : 1L << (bucket - 1);
+    }
+
+    /**
+     * Returns the largest duration that is counted in a specific bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return The largest duration that is counted in the given bucket, in nanoseconds.
+     * @throws IndexOutOfBoundsException If {@code bucket} is negative or not smaller than the {@link #bucketCount() bucket count}.
+     */
+    public long upperBoundNanos(int bucket) {
+        return checkBucket(bucket) == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    private static int checkBucket(int bucket) {
+        if (bucket < 0 || bucket >= BUCKET_COUNT) {
+            throw new IndexOutOfBoundsException(Integer.toString(bucket));
+        }
+        return bucket;
+    }
+
+    /**
+     * Returns the total number of recorded durations.
+     *
+     * @return The total number of recorded durations.
+     */
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of all recorded durations.
+     *
+     * @return The sum of all recorded durations, in nanoseconds.
+     */
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Returns the largest recorded duration.
+     *
+     * @return The largest recorded duration in nanoseconds, or {@code 0} if no durations have been recorded yet.
+     */
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the mean of all recorded durations.
+     *
+     * @return The mean of all recorded durations in nanoseconds, or {@code 0} if no durations have been recorded yet.
+     */
+    public double meanNanos() {
+        long count = count();
+        return count == 0 ? 0 : (double) totalNanos() / count;
+    }
+
+    /**
+     * Returns an estimate of a percentile of the recorded durations.
+     * The result is the upper bound of the bucket that contains the percentile, but never more than the {@link #maxNanos() largest recorded
+     * duration}.
+     *
+     * @param percentile The percentile to return, between {@code 0} and {@code 100}.
+     * @return An estimate of the given percentile in nanoseconds, or {@code 0} if no durations have been recorded yet.
+     * @throws IllegalArgumentException If {@code percentile} is not between {@code 0} and {@code 100}.
+     */
+    public long percentileNanos(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile); //$NON-NLS-1$
+        }
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundNanos(i), maxNanos());
+            }
+        }
+        return maxNanos();
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return getClass().getSimpleName()
+                + "[count=" + count()
+                + ",totalNanos=" + totalNanos()
+                + ",maxNanos=" + maxNanos()
+                + "]";
+    }
+}
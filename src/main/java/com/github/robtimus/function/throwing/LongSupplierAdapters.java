@@ -0,0 +1,125 @@
+/*
+ * LongSupplierAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Adapters between {@link ThrowingLongSupplier} and {@link LongSupplier}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class LongSupplierAdapters {
+
+    private LongSupplierAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingLongSupplier<X> checked(LongSupplier supplier, Class<X> errorType) {
+        if (supplier instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingLongSupplier<X> original = (ThrowingLongSupplier<X>) ((Sneaky) supplier).supplier;
+            return original;
+        }
+        if (supplier instanceof Unchecked) {
+            ThrowingLongSupplier<?> original = ((Unchecked) supplier).supplier;
+            return () -> {
+                try {
+                    return original.getAsLong();
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(supplier, errorType);
+    }
+
+    static LongSupplier unchecked(ThrowingLongSupplier<?> supplier) {
+        return new Unchecked(supplier);
+    }
+
+    static LongSupplier sneaky(ThrowingLongSupplier<?> supplier) {
+        if (supplier instanceof Checked<?> && ((Checked<?>) supplier).errorType == null) {
+            LongSupplier original = ((Checked<?>) supplier).supplier;
+            return original;
+        }
+        return new Sneaky(supplier);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingLongSupplier<X> {
+
+        private final LongSupplier supplier;
+        private final Class<X> errorType;
+
+        private Checked(LongSupplier supplier, Class<X> errorType) {
+            this.supplier = supplier;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public long getAsLong() throws X {
+            try {
+                return supplier.getAsLong();
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements LongSupplier {
+
+        private final ThrowingLongSupplier<?> supplier;
+
+        private Unchecked(ThrowingLongSupplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public long getAsLong() {
+            try {
+                return supplier.getAsLong();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, supplier);
+            }
+        }
+    }
+
+    private static final class Sneaky implements LongSupplier {
+
+        private final ThrowingLongSupplier<RuntimeException> supplier;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingLongSupplier<?> supplier) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.supplier = (ThrowingLongSupplier<RuntimeException>) supplier;
+        }
+
+        @Override
+        public long getAsLong() {
+            return supplier.getAsLong();
+        }
+    }
+}
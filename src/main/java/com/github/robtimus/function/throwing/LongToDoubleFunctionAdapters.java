@@ -0,0 +1,125 @@
+/*
+ * LongToDoubleFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Adapters between {@link ThrowingLongToDoubleFunction} and {@link LongToDoubleFunction}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class LongToDoubleFunctionAdapters {
+
+    private LongToDoubleFunctionAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingLongToDoubleFunction<X> checked(LongToDoubleFunction function, Class<X> errorType) {
+        if (function instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingLongToDoubleFunction<X> original = (ThrowingLongToDoubleFunction<X>) ((Sneaky) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked) {
+            ThrowingLongToDoubleFunction<?> original = ((Unchecked) function).function;
+            return value -> {
+                try {
+                    return original.applyAsDouble(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static LongToDoubleFunction unchecked(ThrowingLongToDoubleFunction<?> function) {
+        return new Unchecked(function);
+    }
+
+    static LongToDoubleFunction sneaky(ThrowingLongToDoubleFunction<?> function) {
+        if (function instanceof Checked<?> && ((Checked<?>) function).errorType == null) {
+            LongToDoubleFunction original = ((Checked<?>) function).function;
+            return original;
+        }
+        return new Sneaky(function);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingLongToDoubleFunction<X> {
+
+        private final LongToDoubleFunction function;
+        private final Class<X> errorType;
+
+        private Checked(LongToDoubleFunction function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public double applyAsDouble(long value) throws X {
+            try {
+                return function.applyAsDouble(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements LongToDoubleFunction {
+
+        private final ThrowingLongToDoubleFunction<?> function;
+
+        private Unchecked(ThrowingLongToDoubleFunction<?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public double applyAsDouble(long value) {
+            try {
+                return function.applyAsDouble(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky implements LongToDoubleFunction {
+
+        private final ThrowingLongToDoubleFunction<RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingLongToDoubleFunction<?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingLongToDoubleFunction<RuntimeException>) function;
+        }
+
+        @Override
+        public double applyAsDouble(long value) {
+            return function.applyAsDouble(value);
+        }
+    }
+}
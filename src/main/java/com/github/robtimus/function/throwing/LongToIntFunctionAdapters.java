@@ -0,0 +1,125 @@
+/*
+ * LongToIntFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.LongToIntFunction;
+
+/**
+ * Adapters between {@link ThrowingLongToIntFunction} and {@link LongToIntFunction}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class LongToIntFunctionAdapters {
+
+    private LongToIntFunctionAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingLongToIntFunction<X> checked(LongToIntFunction function, Class<X> errorType) {
+        if (function instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingLongToIntFunction<X> original = (ThrowingLongToIntFunction<X>) ((Sneaky) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked) {
+            ThrowingLongToIntFunction<?> original = ((Unchecked) function).function;
+            return value -> {
+                try {
+                    return original.applyAsInt(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static LongToIntFunction unchecked(ThrowingLongToIntFunction<?> function) {
+        return new Unchecked(function);
+    }
+
+    static LongToIntFunction sneaky(ThrowingLongToIntFunction<?> function) {
+        if (function instanceof Checked<?> && ((Checked<?>) function).errorType == null) {
+            LongToIntFunction original = ((Checked<?>) function).function;
+            return original;
+        }
+        return new Sneaky(function);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingLongToIntFunction<X> {
+
+        private final LongToIntFunction function;
+        private final Class<X> errorType;
+
+        private Checked(LongToIntFunction function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public int applyAsInt(long value) throws X {
+            try {
+                return function.applyAsInt(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements LongToIntFunction {
+
+        private final ThrowingLongToIntFunction<?> function;
+
+        private Unchecked(ThrowingLongToIntFunction<?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public int applyAsInt(long value) {
+            try {
+                return function.applyAsInt(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky implements LongToIntFunction {
+
+        private final ThrowingLongToIntFunction<RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingLongToIntFunction<?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingLongToIntFunction<RuntimeException>) function;
+        }
+
+        @Override
+        public int applyAsInt(long value) {
+            return function.applyAsInt(value);
+        }
+    }
+}
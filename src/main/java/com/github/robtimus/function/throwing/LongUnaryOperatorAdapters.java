@@ -0,0 +1,125 @@
+/*
+ * LongUnaryOperatorAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Adapters between {@link ThrowingLongUnaryOperator} and {@link LongUnaryOperator}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class LongUnaryOperatorAdapters {
+
+    private LongUnaryOperatorAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingLongUnaryOperator<X> checked(LongUnaryOperator operator, Class<X> errorType) {
+        if (operator instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingLongUnaryOperator<X> original = (ThrowingLongUnaryOperator<X>) ((Sneaky) operator).operator;
+            return original;
+        }
+        if (operator instanceof Unchecked) {
+            ThrowingLongUnaryOperator<?> original = ((Unchecked) operator).operator;
+            return operand -> {
+                try {
+                    return original.applyAsLong(operand);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operator, errorType);
+    }
+
+    static LongUnaryOperator unchecked(ThrowingLongUnaryOperator<?> operator) {
+        return new Unchecked(operator);
+    }
+
+    static LongUnaryOperator sneaky(ThrowingLongUnaryOperator<?> operator) {
+        if (operator instanceof Checked<?> && ((Checked<?>) operator).errorType == null) {
+            LongUnaryOperator original = ((Checked<?>) operator).operator;
+            return original;
+        }
+        return new Sneaky(operator);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingLongUnaryOperator<X> {
+
+        private final LongUnaryOperator operator;
+        private final Class<X> errorType;
+
+        private Checked(LongUnaryOperator operator, Class<X> errorType) {
+            this.operator = operator;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public long applyAsLong(long operand) throws X {
+            try {
+                return operator.applyAsLong(operand);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements LongUnaryOperator {
+
+        private final ThrowingLongUnaryOperator<?> operator;
+
+        private Unchecked(ThrowingLongUnaryOperator<?> operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public long applyAsLong(long operand) {
+            try {
+                return operator.applyAsLong(operand);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operator);
+            }
+        }
+    }
+
+    private static final class Sneaky implements LongUnaryOperator {
+
+        private final ThrowingLongUnaryOperator<RuntimeException> operator;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingLongUnaryOperator<?> operator) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operator = (ThrowingLongUnaryOperator<RuntimeException>) operator;
+        }
+
+        @Override
+        public long applyAsLong(long operand) {
+            return operator.applyAsLong(operand);
+        }
+    }
+}
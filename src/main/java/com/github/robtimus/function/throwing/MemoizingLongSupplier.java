@@ -0,0 +1,74 @@
+/*
+ * MemoizingLongSupplier.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link ThrowingLongSupplier} that calls another {@link ThrowingLongSupplier} only once.
+ * After the value has been computed, it is returned using a single volatile read.
+ * Exceptions are not cached; if the delegate throws an exception, the next call will call the delegate again.
+ *
+ * @param <X> The type of checked exception that can be thrown.
+ * @author Rob Spoor
+ */
+final class MemoizingLongSupplier<X extends Throwable> implements ThrowingLongSupplier<X> {
+
+    // A lock is used instead of synchronized, so waiting virtual threads don't pin their carrier thread
+    private final Lock lock;
+
+    // Set to null once the value has been computed, so the delegate can be garbage collected
+    private ThrowingLongSupplier<? extends X> supplier;
+    private volatile boolean computed;
+    private long value;
+
+    private MemoizingLongSupplier(ThrowingLongSupplier<? extends X> supplier) {
+        this.lock = new ReentrantLock();
+        this.supplier = supplier;
+    }
+
+    static <X extends Throwable> ThrowingLongSupplier<X> of(ThrowingLongSupplier<X> supplier) {
+        Objects.requireNonNull(supplier);
+        return supplier instanceof MemoizingLongSupplier ? supplier : new MemoizingLongSupplier<>(supplier);
+    }
+
+    @Override
+    public long getAsLong() throws X {
+        if (!computed) {
+            lock.lock();
+            try {
+                if (!computed) {
+                    value = supplier.getAsLong();
+                    // The write to value happens-before the write to computed, and therefore before any read that sees computed as true
+                    computed = true;
+                    supplier = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public ThrowingLongSupplier<X> memoize() {
+        return this;
+    }
+}
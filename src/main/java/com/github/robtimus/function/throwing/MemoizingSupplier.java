@@ -0,0 +1,75 @@
+/*
+ * MemoizingSupplier.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link ThrowingSupplier} that calls another {@link ThrowingSupplier} only once.
+ * After the value has been computed, it is returned using a single volatile read.
+ * Exceptions are not cached; if the delegate throws an exception, the next call will call the delegate again.
+ *
+ * @param <T> The type of the results supplied by the supplier.
+ * @param <X> The type of checked exception that can be thrown.
+ * @author Rob Spoor
+ */
+final class MemoizingSupplier<T, X extends Throwable> implements ThrowingSupplier<T, X> {
+
+    // A lock is used instead of synchronized, so waiting virtual threads don't pin their carrier thread
+    private final Lock lock;
+
+    // Set to null once the value has been computed, so the delegate can be garbage collected
+    private ThrowingSupplier<? extends T, ? extends X> supplier;
+    private volatile boolean computed;
+    private T value;
+
+    private MemoizingSupplier(ThrowingSupplier<? extends T, ? extends X> supplier) {
+        this.lock = new ReentrantLock();
+        this.supplier = supplier;
+    }
+
+    static <T, X extends Throwable> ThrowingSupplier<T, X> of(ThrowingSupplier<T, X> supplier) {
+        Objects.requireNonNull(supplier);
+        return supplier instanceof MemoizingSupplier ? supplier : new MemoizingSupplier<>(supplier);
+    }
+
+    @Override
+    public T get() throws X {
+        if (!computed) {
+            lock.lock();
+            try {
+                if (!computed) {
+                    value = supplier.get();
+                    // The write to value happens-before the write to computed, and therefore before any read that sees computed as true
+                    computed = true;
+                    supplier = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public ThrowingSupplier<T, X> memoize() {
+        return this;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * MetricsRegistry.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * A registry of invocation metrics.
+ * An instance of this interface can be passed to methods like {@link ThrowingFunction#instrumented(String, MetricsRegistry)}, which will then
+ * record each invocation of the returned function in the {@link InvocationRecorder} that is returned for the given name.
+ * <p>
+ * This interface allows invocations to be recorded in any metrics library. {@link InMemoryMetricsRegistry} is an implementation that keeps the
+ * metrics in memory, and does not depend on any other library.
+ *
+ * @author Rob Spoor
+ */
+@FunctionalInterface
+public interface MetricsRegistry {
+
+    /**
+     * Returns the recorder for invocations with a specific name.
+     * This method is called once for each instrumented function, and not for each invocation.
+     * Implementations should return the same recorder for the same name, so instrumented functions with the same name share their metrics.
+     *
+     * @param name The name of the invocations to record.
+     * @return The recorder for invocations with the given name; never {@code null}.
+     */
+    InvocationRecorder recorder(String name);
+}
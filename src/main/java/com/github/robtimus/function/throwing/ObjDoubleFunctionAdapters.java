@@ -0,0 +1,131 @@
+/*
+ * ObjDoubleFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingObjDoubleFunction} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ObjDoubleFunctionAdapters {
+
+    private ObjDoubleFunctionAdapters() {
+    }
+
+    static <T, R, X extends Throwable> ThrowingObjDoubleFunction<T, R, X> checked(
+            ThrowingObjDoubleFunction<? super T, ? extends R, ? extends RuntimeException> function, Class<X> errorType) {
+
+        if (function instanceof Sneaky<?, ?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingObjDoubleFunction<T, R, X> original = (ThrowingObjDoubleFunction<T, R, X>) ((Sneaky<?, ?>) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked<?, ?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingObjDoubleFunction
+            @SuppressWarnings("unchecked")
+            ThrowingObjDoubleFunction<? super T, ? extends R, ?> original =
+                    (ThrowingObjDoubleFunction<? super T, ? extends R, ?>) ((Unchecked<?, ?>) function).function;
+            return (t, value) -> {
+                try {
+                    return original.apply(t, value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static <T, R> ThrowingObjDoubleFunction<T, R, RuntimeException> unchecked(ThrowingObjDoubleFunction<? super T, ? extends R, ?> function) {
+        return new Unchecked<>(function);
+    }
+
+    static <T, R> ThrowingObjDoubleFunction<T, R, RuntimeException> sneaky(ThrowingObjDoubleFunction<? super T, ? extends R, ?> function) {
+        if (function instanceof Checked<?, ?, ?> && ((Checked<?, ?, ?>) function).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingObjDoubleFunction
+            @SuppressWarnings("unchecked")
+            ThrowingObjDoubleFunction<T, R, RuntimeException> original =
+                    (ThrowingObjDoubleFunction<T, R, RuntimeException>) ((Checked<?, ?, ?>) function).function;
+            return original;
+        }
+        return new Sneaky<>(function);
+    }
+
+    private static final class Checked<T, R, X extends Throwable> implements ThrowingObjDoubleFunction<T, R, X> {
+
+        private final ThrowingObjDoubleFunction<? super T, ? extends R, ? extends RuntimeException> function;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingObjDoubleFunction<? super T, ? extends R, ? extends RuntimeException> function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public R apply(T t, double value) throws X {
+            try {
+                return function.apply(t, value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T, R> implements ThrowingObjDoubleFunction<T, R, RuntimeException> {
+
+        private final ThrowingObjDoubleFunction<? super T, ? extends R, ?> function;
+
+        private Unchecked(ThrowingObjDoubleFunction<? super T, ? extends R, ?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R apply(T t, double value) {
+            try {
+                return function.apply(t, value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky<T, R> implements ThrowingObjDoubleFunction<T, R, RuntimeException> {
+
+        private final ThrowingObjDoubleFunction<? super T, ? extends R, RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingObjDoubleFunction<? super T, ? extends R, ?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingObjDoubleFunction<? super T, ? extends R, RuntimeException>) function;
+        }
+
+        @Override
+        public R apply(T t, double value) {
+            return function.apply(t, value);
+        }
+    }
+}
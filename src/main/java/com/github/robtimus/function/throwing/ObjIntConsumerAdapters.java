@@ -0,0 +1,129 @@
+/*
+ * ObjIntConsumerAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Adapters between {@link ThrowingObjIntConsumer} and {@link ObjIntConsumer}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ObjIntConsumerAdapters {
+
+    private ObjIntConsumerAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingObjIntConsumer<T, X> checked(ObjIntConsumer<? super T> operation, Class<X> errorType) {
+        if (operation instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingObjIntConsumer<T, X> original = (ThrowingObjIntConsumer<T, X>) ((Sneaky<?>) operation).operation;
+            return original;
+        }
+        if (operation instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingObjIntConsumer
+            @SuppressWarnings("unchecked")
+            ThrowingObjIntConsumer<? super T, ?> original = (ThrowingObjIntConsumer<? super T, ?>) ((Unchecked<?>) operation).operation;
+            return (t, value) -> {
+                try {
+                    original.accept(t, value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operation, errorType);
+    }
+
+    static <T> ObjIntConsumer<T> unchecked(ThrowingObjIntConsumer<? super T, ?> operation) {
+        return new Unchecked<>(operation);
+    }
+
+    static <T> ObjIntConsumer<T> sneaky(ThrowingObjIntConsumer<? super T, ?> operation) {
+        if (operation instanceof Checked<?, ?> && ((Checked<?, ?>) operation).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ObjIntConsumer
+            @SuppressWarnings("unchecked")
+            ObjIntConsumer<T> original = (ObjIntConsumer<T>) ((Checked<?, ?>) operation).operation;
+            return original;
+        }
+        return new Sneaky<>(operation);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingObjIntConsumer<T, X> {
+
+        private final ObjIntConsumer<? super T> operation;
+        private final Class<X> errorType;
+
+        private Checked(ObjIntConsumer<? super T> operation, Class<X> errorType) {
+            this.operation = operation;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public void accept(T t, int value) throws X {
+            try {
+                operation.accept(t, value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements ObjIntConsumer<T> {
+
+        private final ThrowingObjIntConsumer<? super T, ?> operation;
+
+        private Unchecked(ThrowingObjIntConsumer<? super T, ?> operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public void accept(T t, int value) {
+            try {
+                operation.accept(t, value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operation);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements ObjIntConsumer<T> {
+
+        private final ThrowingObjIntConsumer<? super T, RuntimeException> operation;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingObjIntConsumer<? super T, ?> operation) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operation = (ThrowingObjIntConsumer<? super T, RuntimeException>) operation;
+        }
+
+        @Override
+        public void accept(T t, int value) {
+            operation.accept(t, value);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * ObjIntPredicateAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingObjIntPredicate} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ObjIntPredicateAdapters {
+
+    private ObjIntPredicateAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingObjIntPredicate<T, X> checked(ThrowingObjIntPredicate<? super T, ? extends RuntimeException> predicate,
+            Class<X> errorType) {
+
+        if (predicate instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingObjIntPredicate<T, X> original = (ThrowingObjIntPredicate<T, X>) ((Sneaky<?>) predicate).predicate;
+            return original;
+        }
+        if (predicate instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingObjIntPredicate
+            @SuppressWarnings("unchecked")
+            ThrowingObjIntPredicate<? super T, ?> original = (ThrowingObjIntPredicate<? super T, ?>) ((Unchecked<?>) predicate).predicate;
+            return (t, value) -> {
+                try {
+                    return original.test(t, value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(predicate, errorType);
+    }
+
+    static <T> ThrowingObjIntPredicate<T, RuntimeException> unchecked(ThrowingObjIntPredicate<? super T, ?> predicate) {
+        return new Unchecked<>(predicate);
+    }
+
+    static <T> ThrowingObjIntPredicate<T, RuntimeException> sneaky(ThrowingObjIntPredicate<? super T, ?> predicate) {
+        if (predicate instanceof Checked<?, ?> && ((Checked<?, ?>) predicate).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingObjIntPredicate
+            @SuppressWarnings("unchecked")
+            ThrowingObjIntPredicate<T, RuntimeException> original =
+                    (ThrowingObjIntPredicate<T, RuntimeException>) ((Checked<?, ?>) predicate).predicate;
+            return original;
+        }
+        return new Sneaky<>(predicate);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingObjIntPredicate<T, X> {
+
+        private final ThrowingObjIntPredicate<? super T, ? extends RuntimeException> predicate;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingObjIntPredicate<? super T, ? extends RuntimeException> predicate, Class<X> errorType) {
+            this.predicate = predicate;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public boolean test(T t, int value) throws X {
+            try {
+                return predicate.test(t, value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements ThrowingObjIntPredicate<T, RuntimeException> {
+
+        private final ThrowingObjIntPredicate<? super T, ?> predicate;
+
+        private Unchecked(ThrowingObjIntPredicate<? super T, ?> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(T t, int value) {
+            try {
+                return predicate.test(t, value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, predicate);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements ThrowingObjIntPredicate<T, RuntimeException> {
+
+        private final ThrowingObjIntPredicate<? super T, RuntimeException> predicate;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingObjIntPredicate<? super T, ?> predicate) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.predicate = (ThrowingObjIntPredicate<? super T, RuntimeException>) predicate;
+        }
+
+        @Override
+        public boolean test(T t, int value) {
+            return predicate.test(t, value);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * ObjIntToDoubleFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingObjIntToDoubleFunction} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ObjIntToDoubleFunctionAdapters {
+
+    private ObjIntToDoubleFunctionAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingObjIntToDoubleFunction<T, X> checked(
+            ThrowingObjIntToDoubleFunction<? super T, ? extends RuntimeException> function, Class<X> errorType) {
+
+        if (function instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingObjIntToDoubleFunction<T, X> original = (ThrowingObjIntToDoubleFunction<T, X>) ((Sneaky<?>) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingObjIntToDoubleFunction
+            @SuppressWarnings("unchecked")
+            ThrowingObjIntToDoubleFunction<? super T, ?> original = (ThrowingObjIntToDoubleFunction<? super T, ?>) ((Unchecked<?>) function).function;
+            return (t, value) -> {
+                try {
+                    return original.applyAsDouble(t, value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static <T> ThrowingObjIntToDoubleFunction<T, RuntimeException> unchecked(ThrowingObjIntToDoubleFunction<? super T, ?> function) {
+        return new Unchecked<>(function);
+    }
+
+    static <T> ThrowingObjIntToDoubleFunction<T, RuntimeException> sneaky(ThrowingObjIntToDoubleFunction<? super T, ?> function) {
+        if (function instanceof Checked<?, ?> && ((Checked<?, ?>) function).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingObjIntToDoubleFunction
+            @SuppressWarnings("unchecked")
+            ThrowingObjIntToDoubleFunction<T, RuntimeException> original =
+                    (ThrowingObjIntToDoubleFunction<T, RuntimeException>) ((Checked<?, ?>) function).function;
+            return original;
+        }
+        return new Sneaky<>(function);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingObjIntToDoubleFunction<T, X> {
+
+        private final ThrowingObjIntToDoubleFunction<? super T, ? extends RuntimeException> function;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingObjIntToDoubleFunction<? super T, ? extends RuntimeException> function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public double applyAsDouble(T t, int value) throws X {
+            try {
+                return function.applyAsDouble(t, value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements ThrowingObjIntToDoubleFunction<T, RuntimeException> {
+
+        private final ThrowingObjIntToDoubleFunction<? super T, ?> function;
+
+        private Unchecked(ThrowingObjIntToDoubleFunction<? super T, ?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public double applyAsDouble(T t, int value) {
+            try {
+                return function.applyAsDouble(t, value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements ThrowingObjIntToDoubleFunction<T, RuntimeException> {
+
+        private final ThrowingObjIntToDoubleFunction<? super T, RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingObjIntToDoubleFunction<? super T, ?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingObjIntToDoubleFunction<? super T, RuntimeException>) function;
+        }
+
+        @Override
+        public double applyAsDouble(T t, int value) {
+            return function.applyAsDouble(t, value);
+        }
+    }
+}
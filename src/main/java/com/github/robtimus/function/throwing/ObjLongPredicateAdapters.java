@@ -0,0 +1,130 @@
+/*
+ * ObjLongPredicateAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingObjLongPredicate} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ObjLongPredicateAdapters {
+
+    private ObjLongPredicateAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingObjLongPredicate<T, X> checked(ThrowingObjLongPredicate<? super T, ? extends RuntimeException> predicate,
+            Class<X> errorType) {
+
+        if (predicate instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingObjLongPredicate<T, X> original = (ThrowingObjLongPredicate<T, X>) ((Sneaky<?>) predicate).predicate;
+            return original;
+        }
+        if (predicate instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingObjLongPredicate
+            @SuppressWarnings("unchecked")
+            ThrowingObjLongPredicate<? super T, ?> original = (ThrowingObjLongPredicate<? super T, ?>) ((Unchecked<?>) predicate).predicate;
+            return (t, value) -> {
+                try {
+                    return original.test(t, value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(predicate, errorType);
+    }
+
+    static <T> ThrowingObjLongPredicate<T, RuntimeException> unchecked(ThrowingObjLongPredicate<? super T, ?> predicate) {
+        return new Unchecked<>(predicate);
+    }
+
+    static <T> ThrowingObjLongPredicate<T, RuntimeException> sneaky(ThrowingObjLongPredicate<? super T, ?> predicate) {
+        if (predicate instanceof Checked<?, ?> && ((Checked<?, ?>) predicate).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingObjLongPredicate
+            @SuppressWarnings("unchecked")
+            ThrowingObjLongPredicate<T, RuntimeException> original =
+                    (ThrowingObjLongPredicate<T, RuntimeException>) ((Checked<?, ?>) predicate).predicate;
+            return original;
+        }
+        return new Sneaky<>(predicate);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingObjLongPredicate<T, X> {
+
+        private final ThrowingObjLongPredicate<? super T, ? extends RuntimeException> predicate;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingObjLongPredicate<? super T, ? extends RuntimeException> predicate, Class<X> errorType) {
+            this.predicate = predicate;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public boolean test(T t, long value) throws X {
+            try {
+                return predicate.test(t, value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements ThrowingObjLongPredicate<T, RuntimeException> {
+
+        private final ThrowingObjLongPredicate<? super T, ?> predicate;
+
+        private Unchecked(ThrowingObjLongPredicate<? super T, ?> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(T t, long value) {
+            try {
+                return predicate.test(t, value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, predicate);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements ThrowingObjLongPredicate<T, RuntimeException> {
+
+        private final ThrowingObjLongPredicate<? super T, RuntimeException> predicate;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingObjLongPredicate<? super T, ?> predicate) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.predicate = (ThrowingObjLongPredicate<? super T, RuntimeException>) predicate;
+        }
+
+        @Override
+        public boolean test(T t, long value) {
+            return predicate.test(t, value);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * PendingResult.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * The result of a computation that is performed by one thread, and that other threads can wait for.
+ * <p>
+ * Waiting uses a {@link CountDownLatch}, so waiting virtual threads don't pin their carrier thread. Waiting is not interruptible; if the waiting
+ * thread is interrupted, it keeps waiting, and its interrupted status is restored afterwards.
+ *
+ * @param <V> The type of result.
+ * @author Rob Spoor
+ */
+class PendingResult<V> {
+
+    private final CountDownLatch latch;
+    // The thread that computes the result, used to detect recursive computations that would otherwise wait forever; may be null.
+    // It's cleared once the result is available, so memoized results don't keep a reference to a thread that may have ended.
+    // It doesn't need to be volatile; only the owner itself can find its own thread in it, and it always sees its own writes.
+    private Thread owner;
+    private V value;
+    private Throwable failure;
+
+    PendingResult() {
+        this(Thread.currentThread());
+    }
+
+    PendingResult(Thread owner) {
+        this.latch = new CountDownLatch(1);
+        this.owner = owner;
+    }
+
+    final void complete(V result) {
+        // The write to value happens-before the count down, and therefore before any await returns
+        value = result;
+        owner = null;
+        latch.countDown();
+    }
+
+    final void fail(Throwable throwable) {
+        failure = throwable;
+        owner = null;
+        latch.countDown();
+    }
+
+    final void await() {
+        if (latch.getCount() == 0) {
+            return;
+        }
+        if (owner == Thread.currentThread()) {
+            throw new IllegalStateException("Recursive computation detected"); //$NON-NLS-1$
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (@SuppressWarnings("unused") InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Only call these methods after await() has returned
+
+    final V value() {
+        return value;
+    }
+
+    final Throwable failure() {
+        return failure;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <X extends Throwable> X relay(Throwable throwable) throws X {
+        // This cast is safe, because failures are only exceptions thrown by computations that can only throw X, Error or RuntimeException
+        throw (X) throwable;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * PredicateAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.Predicate;
+
+/**
+ * Adapters between {@link ThrowingPredicate} and {@link Predicate}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class PredicateAdapters {
+
+    private PredicateAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingPredicate<T, X> checked(Predicate<? super T> predicate, Class<X> errorType) {
+        if (predicate instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingPredicate<T, X> original = (ThrowingPredicate<T, X>) ((Sneaky<?>) predicate).predicate;
+            return original;
+        }
+        if (predicate instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingPredicate
+            @SuppressWarnings("unchecked")
+            ThrowingPredicate<? super T, ?> original = (ThrowingPredicate<? super T, ?>) ((Unchecked<?>) predicate).predicate;
+            return t -> {
+                try {
+                    return original.test(t);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(predicate, errorType);
+    }
+
+    static <T> Predicate<T> unchecked(ThrowingPredicate<? super T, ?> predicate) {
+        return new Unchecked<>(predicate);
+    }
+
+    static <T> Predicate<T> sneaky(ThrowingPredicate<? super T, ?> predicate) {
+        if (predicate instanceof Checked<?, ?> && ((Checked<?, ?>) predicate).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible Predicate
+            @SuppressWarnings("unchecked")
+            Predicate<T> original = (Predicate<T>) ((Checked<?, ?>) predicate).predicate;
+            return original;
+        }
+        return new Sneaky<>(predicate);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingPredicate<T, X> {
+
+        private final Predicate<? super T> predicate;
+        private final Class<X> errorType;
+
+        private Checked(Predicate<? super T> predicate, Class<X> errorType) {
+            this.predicate = predicate;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public boolean test(T t) throws X {
+            try {
+                return predicate.test(t);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements Predicate<T> {
+
+        private final ThrowingPredicate<? super T, ?> predicate;
+
+        private Unchecked(ThrowingPredicate<? super T, ?> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(T t) {
+            try {
+                return predicate.test(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, predicate);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements Predicate<T> {
+
+        private final ThrowingPredicate<? super T, RuntimeException> predicate;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingPredicate<? super T, ?> predicate) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.predicate = (ThrowingPredicate<? super T, RuntimeException>) predicate;
+        }
+
+        @Override
+        public boolean test(T t) {
+            return predicate.test(t);
+        }
+    }
+}
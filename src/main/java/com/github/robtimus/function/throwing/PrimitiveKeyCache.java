@@ -0,0 +1,180 @@
+/*
+ * PrimitiveKeyCache.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A cache with primitive keys, used for memoizing functions with a primitive input.
+ * <p>
+ * Keys are stored in an open-addressing hash table with linear probing, so looking up a value does not need to box the key. Optionally, values for
+ * keys in the range {@code [0, denseSize)} are stored in an array that is indexed by the key itself. All other keys are stored in the hash table.
+ * <p>
+ * Lookups never lock. Slots are filled once and never cleared, and values are published with release semantics after their keys have been
+ * written. The hash table is only modified while holding a lock; when it needs to grow, a new table is populated completely before it's
+ * published. Values for which there is no cached value yet are not locked while they are being computed. Concurrent callers for the same key may
+ * therefore both compute a value, but only the first value is retained.
+ *
+ * @author Rob Spoor
+ */
+final class PrimitiveKeyCache {
+
+    /** The value returned by {@link #get(long)} if no value is cached for a key. */
+    static final Object ABSENT = new Object();
+
+    // Stored instead of null, so null can indicate an empty slot
+    private static final Object NULL = new Object();
+
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final Object[] dense;
+
+    // A lock is used instead of synchronized, so waiting virtual threads don't pin their carrier thread
+    private final Lock lock;
+    private volatile Table table;
+
+    PrimitiveKeyCache() {
+        this(0);
+    }
+
+    PrimitiveKeyCache(int denseSize) {
+        if (denseSize < 0) {
+            throw new IllegalArgumentException("denseSize must not be negative: " + denseSize); //$NON-NLS-1$
+        }
+        this.dense = new Object[denseSize];
+        this.lock = new ReentrantLock();
+        this.table = new Table(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the value cached for a key.
+     *
+     * @param key The key to return the cached value for.
+     * @return The cached value, which may be {@code null}, or {@link #ABSENT} if no value is cached for the key.
+     */
+    Object get(long key) {
+        Object value = key >= 0 && key < dense.length
+                ? (Object) VALUES.getAcquire(dense, (int) key)
+                : table.get(key);
+        return value == null ? ABSENT : unmask(value);
+    }
+
+    /**
+     * Caches a value for a key if no value is cached yet.
+     *
+     * @param key The key to cache the value for.
+     * @param value The value to cache.
+     * @return The value that is cached for the key after this method returns; either the given value or a previously cached value.
+     */
+    Object putIfAbsent(long key, Object value) {
+        Object masked = value == null ? NULL : value;
+        if (key >= 0 && key < dense.length) {
+            Object existing = VALUES.compareAndExchange(dense, (int) key, (Object) null, masked);
+            return existing == null ? value : unmask(existing);
+        }
+
+        lock.lock();
+        try {
+            Table current = table;
+            Object existing = current.get(key);
+            if (existing != null) {
+                return unmask(existing);
+            }
+            if (current.isFull()) {
+                Table resized = current.resize();
+                resized.put(key, masked);
+                table = resized;
+            } else {
+                current.put(key, masked);
+            }
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Object unmask(Object value) {
+        return value == NULL ? null : value;
+    }
+
+    private static final class Table {
+
+        private final long[] keys;
+        private final Object[] values;
+        private final int mask;
+        private int size;
+
+        private Table(int capacity) {
+            keys = new long[capacity];
+            values = new Object[capacity];
+            mask = capacity - 1;
+        }
+
+        private static int hash(long key) {
+            // Fibonacci hashing spreads sequential keys like ids over the whole table
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        private Object get(long key) {
+            int index = hash(key) & mask;
+            while (true) {
+                Object value = VALUES.getAcquire(values, index);
+                if (value == null || keys[index] == key) {
+                    return value;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private void put(long key, Object value) {
+            int index = hash(key) & mask;
+            while (values[index] != null) {
+                index = (index + 1) & mask;
+            }
+            // The write to the key happens-before the release of the value, and therefore before any acquire that sees the value
+            keys[index] = key;
+            VALUES.setRelease(values, index, value);
+            size++;
+        }
+
+        private boolean isFull() {
+            // Keep the load factor at most 0.5, so probe sequences stay short and always end at an empty slot
+            return (size + 1) * 2 > keys.length;
+        }
+
+        private Table resize() {
+            if (keys.length == MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("Maximum capacity reached"); //$NON-NLS-1$
+            }
+            Table resized = new Table(keys.length * 2);
+            for (int i = 0; i < keys.length; i++) {
+                if (values[i] != null) {
+                    resized.put(keys[i], values[i]);
+                }
+            }
+            return resized;
+        }
+    }
+}
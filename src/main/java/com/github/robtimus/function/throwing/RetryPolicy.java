@@ -0,0 +1,305 @@
+/*
+ * RetryPolicy.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A policy for retrying failed invocations, used by methods like {@link ThrowingSupplier#retry(RetryPolicy)}.
+ * <p>
+ * A retry policy defines:
+ * <ul>
+ *   <li>The maximum number of attempts, including the first one.</li>
+ *   <li>Which checked exceptions cause a retry. By default all checked exceptions cause a retry; this can be limited using
+ *       {@link #withRetryableErrorType(Class)}. Unchecked exceptions and errors never cause a retry. Neither do {@link InterruptedException} and
+ *       {@link InterruptedIOException}, even if they are registered as retryable; the interrupted status of the current thread is restored
+ *       instead.</li>
+ *   <li>The delay before each retry. By default there is no delay. Using {@link #withBackoff(Duration, Duration, double)}, the delay starts at an
+ *       initial delay, and is multiplied after each retry until it reaches a maximum delay.</li>
+ *   <li>The jitter, which is the fraction of each delay that is randomized. With a jitter of {@code 0.5}, each delay is randomly reduced by up to
+ *       half. This prevents callers that failed at the same time from retrying at the same time. By default there is no jitter.</li>
+ *   <li>An optional deadline, relative to the start of the first attempt. No retry is performed if it would start after the deadline.</li>
+ * </ul>
+ * <p>
+ * Instances of this class are immutable and thread-safe, so they can be created once and shared between functions. Methods like
+ * {@link #withBackoff(Duration, Duration)} return a new instance instead of modifying the current instance.
+ *
+ * @author Rob Spoor
+ */
+public final class RetryPolicy {
+
+    private static final Class<?>[] NO_ERROR_TYPES = {};
+    private static final long NO_DEADLINE = -1;
+
+    private final int maxAttempts;
+    private final long initialDelay;
+    private final long maxDelay;
+    private final double multiplier;
+    private final double jitter;
+    private final long deadline;
+    private final Class<?>[] retryableErrorTypes;
+
+    private RetryPolicy(int maxAttempts, long initialDelay, long maxDelay, double multiplier, double jitter, long deadline,
+            Class<?>[] retryableErrorTypes) {
+
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.deadline = deadline;
+        this.retryableErrorTypes = retryableErrorTypes;
+    }
+
+    /**
+     * Returns a retry policy with a maximum number of attempts.
+     * The returned policy retries on all checked exceptions, without any delay, jitter or deadline.
+     *
+     * @param maxAttempts The maximum number of attempts, including the first one.
+     * @return A retry policy with the given maximum number of attempts.
+     * @throws IllegalArgumentException If {@code maxAttempts} is not positive.
+     */
+    public static RetryPolicy ofMaxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts); //$NON-NLS-1$
+        }
+        return new RetryPolicy(maxAttempts, 0, 0, 1, 0, NO_DEADLINE, NO_ERROR_TYPES);
+    }
+
+    /**
+     * Returns a retry policy that is equal to this policy, but with exponential backoff that doubles the delay after each retry.
+     * This method is shorthand for calling {@link #withBackoff(Duration, Duration, double)} with a multiplier of {@code 2}.
+     *
+     * @param initialDelay The delay before the first retry.
+     * @param maxDelay The maximum delay before any retry.
+     * @return A retry policy that is equal to this policy, but with the given backoff.
+     * @throws NullPointerException If {@code initialDelay} or {@code maxDelay} is {@code null}.
+     * @throws IllegalArgumentException If {@code initialDelay} is negative, or if {@code maxDelay} is smaller than {@code initialDelay}.
+     */
+    public RetryPolicy withBackoff(Duration initialDelay, Duration maxDelay) {
+        return withBackoff(initialDelay, maxDelay, 2);
+    }
+
+    /**
+     * Returns a retry policy that is equal to this policy, but with exponential backoff.
+     *
+     * @param initialDelay The delay before the first retry.
+     * @param maxDelay The maximum delay before any retry.
+     * @param multiplier The value to multiply the delay with after each retry.
+     * @return A retry policy that is equal to this policy, but with the given backoff.
+     * @throws NullPointerException If {@code initialDelay} or {@code maxDelay} is {@code null}.
+     * @throws IllegalArgumentException If {@code initialDelay} is negative, if {@code maxDelay} is smaller than {@code initialDelay},
+     *             or if {@code multiplier} is smaller than {@code 1}.
+     */
+    public RetryPolicy withBackoff(Duration initialDelay, Duration maxDelay, double multiplier) {
+        long initialDelayNanos = initialDelay.toNanos();
+        long maxDelayNanos = maxDelay.toNanos();
+        if (initialDelayNanos < 0) {
+            throw new IllegalArgumentException("initialDelay must not be negative: " + initialDelay); //$NON-NLS-1$
+        }
+        if (maxDelayNanos < initialDelayNanos) {
+            throw new IllegalArgumentException("maxDelay must not be smaller than initialDelay: " + maxDelay); //$NON-NLS-1$
+        }
+        // !(multiplier >= 1) instead of multiplier < 1 to also catch NaN
+        if (!(multiplier >= 1) || Double.isInfinite(multiplier)) {
+            throw new IllegalArgumentException("multiplier must be at least 1: " + multiplier); //$NON-NLS-1$
+        }
+        return new RetryPolicy(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, deadline, retryableErrorTypes);
+    }
+
+    /**
+     * Returns a retry policy that is equal to this policy, but with jitter.
+     * Each delay is randomly reduced by up to the given fraction.
+     *
+     * @param jitter The fraction of each delay that is randomized.
+     * @return A retry policy that is equal to this policy, but with the given jitter.
+     * @throws IllegalArgumentException If {@code jitter} is not between {@code 0} and {@code 1}, inclusive.
+     */
+    public RetryPolicy withJitter(double jitter) {
+        // !(jitter >= 0 && ...) instead of jitter < 0 || ... to also catch NaN
+        if (!(jitter >= 0 && jitter <= 1)) {
+            throw new IllegalArgumentException("jitter must be between 0 and 1: " + jitter); //$NON-NLS-1$
+        }
+        return new RetryPolicy(maxAttempts, initialDelay, maxDelay, multiplier, jitter, deadline, retryableErrorTypes);
+    }
+
+    /**
+     * Returns a retry policy that is equal to this policy, but with a deadline.
+     * No retry is performed if it would start more than the given duration after the start of the first attempt.
+     *
+     * @param deadline The maximum duration between the start of the first attempt and the start of any retry.
+     * @return A retry policy that is equal to this policy, but with the given deadline.
+     * @throws NullPointerException If {@code deadline} is {@code null}.
+     * @throws IllegalArgumentException If {@code deadline} is not positive.
+     */
+    public RetryPolicy withDeadline(Duration deadline) {
+        long deadlineNanos = deadline.toNanos();
+        if (deadlineNanos <= 0) {
+            throw new IllegalArgumentException("deadline must be positive: " + deadline); //$NON-NLS-1$
+        }
+        return new RetryPolicy(maxAttempts, initialDelay, maxDelay, multiplier, jitter, deadlineNanos, retryableErrorTypes);
+    }
+
+    /**
+     * Returns a retry policy that is equal to this policy, but that also retries on a specific type of checked exception.
+     * Once this method has been called, only checked exceptions that are an instance of one of the given types cause a retry.
+     *
+     * @param errorType The type of checked exception that should cause a retry.
+     * @return A retry policy that is equal to this policy, but that also retries on the given type of checked exception.
+     * @throws NullPointerException If {@code errorType} is {@code null}.
+     */
+    public RetryPolicy withRetryableErrorType(Class<? extends Exception> errorType) {
+        Objects.requireNonNull(errorType);
+        for (Class<?> retryableErrorType : retryableErrorTypes) {
+            if (retryableErrorType == errorType) {
+                return this;
+            }
+        }
+        Class<?>[] newRetryableErrorTypes = Arrays.copyOf(retryableErrorTypes, retryableErrorTypes.length + 1);
+        newRetryableErrorTypes[retryableErrorTypes.length] = errorType;
+        return new RetryPolicy(maxAttempts, initialDelay, maxDelay, multiplier, jitter, deadline, newRetryableErrorTypes);
+    }
+
+    /**
+     * Returns the start time of a new invocation, to be passed to {@link #retry(Retry, long, Throwable)}.
+     * If this policy has no deadline, the start time is not needed, and this method does not read the clock.
+     *
+     * @return The start time of a new invocation, in nanoseconds.
+     */
+    long start() {
+        return deadline == NO_DEADLINE ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Handles a failed attempt.
+     * If the failed attempt should be retried, this method waits for the delay before the retry, and returns the state to pass to the next call.
+     * Otherwise, all earlier failures are added as suppressed exceptions to the given failure, and {@code null} is returned.
+     * <p>
+     * If the current thread is interrupted while waiting, or if the failure signals an interruption, no retry is performed, but the interrupted
+     * status is restored.
+     *
+     * @param retry The state returned by the previous call, or {@code null} if the first attempt failed.
+     * @param start The start time returned by {@link #start()}.
+     * @param failure The exception or error thrown by the failed attempt.
+     * @return The state to pass to the next call, or {@code null} if no retry should be performed.
+     */
+    Retry retry(Retry retry, long start, Throwable failure) {
+        if (failure instanceof InterruptedException || failure instanceof InterruptedIOException) {
+            // Throwing these exceptions usually clears the interrupted status; restore it so the caller can still respond to the interruption
+            Thread.currentThread().interrupt();
+            return giveUp(retry, failure);
+        }
+        if (!isRetryable(failure)) {
+            return giveUp(retry, failure);
+        }
+        Retry current = retry != null ? retry : new Retry(initialDelay);
+        if (current.failures.size() + 1 >= maxAttempts) {
+            return giveUp(current, failure);
+        }
+        long delay = current.delay - (long) (current.delay * jitter * ThreadLocalRandom.current().nextDouble());
+        if (deadline != NO_DEADLINE && System.nanoTime() + delay - start > deadline) {
+            return giveUp(current, failure);
+        }
+        if (delay > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (@SuppressWarnings("unused") InterruptedException e) {
+                // Stop retrying, but restore the interrupted status for the caller
+                Thread.currentThread().interrupt();
+                return giveUp(current, failure);
+            }
+        }
+        current.failures.add(failure);
+        current.delay = (long) Math.min(current.delay * multiplier, maxDelay);
+        return current;
+    }
+
+    private boolean isRetryable(Throwable failure) {
+        if (failure instanceof RuntimeException || failure instanceof Error) {
+            return false;
+        }
+        if (retryableErrorTypes.length == 0) {
+            return true;
+        }
+        for (Class<?> retryableErrorType : retryableErrorTypes) {
+            if (retryableErrorType.isInstance(failure)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Retry giveUp(Retry retry, Throwable failure) {
+        if (retry != null) {
+            for (Throwable earlierFailure : retry.failures) {
+                // A function may throw the same exception instance more than once, and an exception cannot suppress itself
+                if (earlierFailure != failure) {
+                    failure.addSuppressed(earlierFailure);
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        StringBuilder sb = new StringBuilder(getClass().getSimpleName())
+                .append("[maxAttempts=").append(maxAttempts)
+                .append(",initialDelay=").append(Duration.ofNanos(initialDelay))
+                .append(",maxDelay=").append(Duration.ofNanos(maxDelay))
+                .append(",multiplier=").append(multiplier)
+                .append(",jitter=").append(jitter);
+        if (deadline != NO_DEADLINE) {
+            sb.append(",deadline=").append(Duration.ofNanos(deadline));
+        }
+        if (retryableErrorTypes.length > 0) {
+            sb.append(",retryableErrorTypes=[");
+            for (int i = 0; i < retryableErrorTypes.length; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(retryableErrorTypes[i].getName());
+            }
+            sb.append(']');
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * The state of an invocation with at least one failed attempt.
+     * Instances are only created once the first attempt has failed, so invocations that succeed immediately do not allocate any objects.
+     */
+    static final class Retry {
+
+        private final List<Throwable> failures;
+        private long delay;
+
+        private Retry(long delay) {
+            this.failures = new ArrayList<>();
+            this.delay = delay;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * RunnableAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingRunnable} and {@link Runnable}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class RunnableAdapters {
+
+    private RunnableAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingRunnable<X> checked(Runnable task, Class<X> errorType) {
+        if (task instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingRunnable<X> original = (ThrowingRunnable<X>) ((Sneaky) task).task;
+            return original;
+        }
+        if (task instanceof Unchecked) {
+            ThrowingRunnable<?> original = ((Unchecked) task).task;
+            return () -> {
+                try {
+                    original.run();
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(task, errorType);
+    }
+
+    static Runnable unchecked(ThrowingRunnable<?> task) {
+        return new Unchecked(task);
+    }
+
+    static Runnable sneaky(ThrowingRunnable<?> task) {
+        if (task instanceof Checked<?> && ((Checked<?>) task).errorType == null) {
+            Runnable original = ((Checked<?>) task).task;
+            return original;
+        }
+        return new Sneaky(task);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingRunnable<X> {
+
+        private final Runnable task;
+        private final Class<X> errorType;
+
+        private Checked(Runnable task, Class<X> errorType) {
+            this.task = task;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public void run() throws X {
+            try {
+                task.run();
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements Runnable {
+
+        private final ThrowingRunnable<?> task;
+
+        private Unchecked(ThrowingRunnable<?> task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, task);
+            }
+        }
+    }
+
+    private static final class Sneaky implements Runnable {
+
+        private final ThrowingRunnable<RuntimeException> task;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingRunnable<?> task) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.task = (ThrowingRunnable<RuntimeException>) task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+}
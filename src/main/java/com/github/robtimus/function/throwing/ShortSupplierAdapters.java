@@ -0,0 +1,125 @@
+/*
+ * ShortSupplierAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingShortSupplier} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ShortSupplierAdapters {
+
+    private ShortSupplierAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingShortSupplier<X> checked(ThrowingShortSupplier<? extends RuntimeException> supplier, Class<X> errorType) {
+        if (supplier instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingShortSupplier<X> original = (ThrowingShortSupplier<X>) ((Sneaky) supplier).supplier;
+            return original;
+        }
+        if (supplier instanceof Unchecked) {
+            ThrowingShortSupplier<?> original = ((Unchecked) supplier).supplier;
+            return () -> {
+                try {
+                    return original.getAsShort();
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(supplier, errorType);
+    }
+
+    static ThrowingShortSupplier<RuntimeException> unchecked(ThrowingShortSupplier<?> supplier) {
+        return new Unchecked(supplier);
+    }
+
+    static ThrowingShortSupplier<RuntimeException> sneaky(ThrowingShortSupplier<?> supplier) {
+        if (supplier instanceof Checked<?> && ((Checked<?>) supplier).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingShortSupplier
+            @SuppressWarnings("unchecked")
+            ThrowingShortSupplier<RuntimeException> original = (ThrowingShortSupplier<RuntimeException>) ((Checked<?>) supplier).supplier;
+            return original;
+        }
+        return new Sneaky(supplier);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingShortSupplier<X> {
+
+        private final ThrowingShortSupplier<? extends RuntimeException> supplier;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingShortSupplier<? extends RuntimeException> supplier, Class<X> errorType) {
+            this.supplier = supplier;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public short getAsShort() throws X {
+            try {
+                return supplier.getAsShort();
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements ThrowingShortSupplier<RuntimeException> {
+
+        private final ThrowingShortSupplier<?> supplier;
+
+        private Unchecked(ThrowingShortSupplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public short getAsShort() {
+            try {
+                return supplier.getAsShort();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, supplier);
+            }
+        }
+    }
+
+    private static final class Sneaky implements ThrowingShortSupplier<RuntimeException> {
+
+        private final ThrowingShortSupplier<RuntimeException> supplier;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingShortSupplier<?> supplier) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.supplier = (ThrowingShortSupplier<RuntimeException>) supplier;
+        }
+
+        @Override
+        public short getAsShort() {
+            return supplier.getAsShort();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * ShortUnaryOperatorAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingShortUnaryOperator} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ShortUnaryOperatorAdapters {
+
+    private ShortUnaryOperatorAdapters() {
+    }
+
+    static <X extends Throwable> ThrowingShortUnaryOperator<X> checked(ThrowingShortUnaryOperator<? extends RuntimeException> operator,
+            Class<X> errorType) {
+
+        if (operator instanceof Sneaky && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingShortUnaryOperator<X> original = (ThrowingShortUnaryOperator<X>) ((Sneaky) operator).operator;
+            return original;
+        }
+        if (operator instanceof Unchecked) {
+            ThrowingShortUnaryOperator<?> original = ((Unchecked) operator).operator;
+            return operand -> {
+                try {
+                    return original.applyAsShort(operand);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operator, errorType);
+    }
+
+    static ThrowingShortUnaryOperator<RuntimeException> unchecked(ThrowingShortUnaryOperator<?> operator) {
+        return new Unchecked(operator);
+    }
+
+    static ThrowingShortUnaryOperator<RuntimeException> sneaky(ThrowingShortUnaryOperator<?> operator) {
+        if (operator instanceof Checked<?> && ((Checked<?>) operator).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingShortUnaryOperator
+            @SuppressWarnings("unchecked")
+            ThrowingShortUnaryOperator<RuntimeException> original = (ThrowingShortUnaryOperator<RuntimeException>) ((Checked<?>) operator).operator;
+            return original;
+        }
+        return new Sneaky(operator);
+    }
+
+    private static final class Checked<X extends Throwable> implements ThrowingShortUnaryOperator<X> {
+
+        private final ThrowingShortUnaryOperator<? extends RuntimeException> operator;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingShortUnaryOperator<? extends RuntimeException> operator, Class<X> errorType) {
+            this.operator = operator;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public short applyAsShort(short operand) throws X {
+            try {
+                return operator.applyAsShort(operand);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked implements ThrowingShortUnaryOperator<RuntimeException> {
+
+        private final ThrowingShortUnaryOperator<?> operator;
+
+        private Unchecked(ThrowingShortUnaryOperator<?> operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public short applyAsShort(short operand) {
+            try {
+                return operator.applyAsShort(operand);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operator);
+            }
+        }
+    }
+
+    private static final class Sneaky implements ThrowingShortUnaryOperator<RuntimeException> {
+
+        private final ThrowingShortUnaryOperator<RuntimeException> operator;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingShortUnaryOperator<?> operator) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operator = (ThrowingShortUnaryOperator<RuntimeException>) operator;
+        }
+
+        @Override
+        public short applyAsShort(short operand) {
+            return operator.applyAsShort(operand);
+        }
+    }
+}
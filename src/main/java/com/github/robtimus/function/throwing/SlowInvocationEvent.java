@@ -0,0 +1,55 @@
+/*
+ * SlowInvocationEvent.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Java Flight Recorder event for an invocation of an instrumented function that completed normally, but took at least as long as the
+ * threshold of its {@link FlightRecorderMetricsRegistry}.
+ *
+ * @author Rob Spoor
+ */
+@Name(SlowInvocationEvent.NAME)
+@Label("Slow Invocation")
+@Description("An invocation of an instrumented function completed normally, but exceeded the configured threshold")
+@Category("Throwing Functions")
+@StackTrace(true)
+@SuppressWarnings("nls")
+final class SlowInvocationEvent extends Event {
+
+    static final String NAME = "com.github.robtimus.function.throwing.SlowInvocation";
+
+    @Label("Name")
+    @Description("The name the function was instrumented with")
+    String name;
+
+    @Label("Invocation Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long invocationDuration;
+
+    @Label("Threshold")
+    @Timespan(Timespan.NANOSECONDS)
+    long threshold;
+}
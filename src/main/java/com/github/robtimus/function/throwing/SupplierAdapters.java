@@ -0,0 +1,129 @@
+/*
+ * SupplierAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.Supplier;
+
+/**
+ * Adapters between {@link ThrowingSupplier} and {@link Supplier}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class SupplierAdapters {
+
+    private SupplierAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingSupplier<T, X> checked(Supplier<? extends T> supplier, Class<X> errorType) {
+        if (supplier instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingSupplier<T, X> original = (ThrowingSupplier<T, X>) ((Sneaky<?>) supplier).supplier;
+            return original;
+        }
+        if (supplier instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingSupplier
+            @SuppressWarnings("unchecked")
+            ThrowingSupplier<? extends T, ?> original = (ThrowingSupplier<? extends T, ?>) ((Unchecked<?>) supplier).supplier;
+            return () -> {
+                try {
+                    return original.get();
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(supplier, errorType);
+    }
+
+    static <T> Supplier<T> unchecked(ThrowingSupplier<? extends T, ?> supplier) {
+        return new Unchecked<>(supplier);
+    }
+
+    static <T> Supplier<T> sneaky(ThrowingSupplier<? extends T, ?> supplier) {
+        if (supplier instanceof Checked<?, ?> && ((Checked<?, ?>) supplier).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible Supplier
+            @SuppressWarnings("unchecked")
+            Supplier<T> original = (Supplier<T>) ((Checked<?, ?>) supplier).supplier;
+            return original;
+        }
+        return new Sneaky<>(supplier);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingSupplier<T, X> {
+
+        private final Supplier<? extends T> supplier;
+        private final Class<X> errorType;
+
+        private Checked(Supplier<? extends T> supplier, Class<X> errorType) {
+            this.supplier = supplier;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public T get() throws X {
+            try {
+                return supplier.get();
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements Supplier<T> {
+
+        private final ThrowingSupplier<? extends T, ?> supplier;
+
+        private Unchecked(ThrowingSupplier<? extends T, ?> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public T get() {
+            try {
+                return supplier.get();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, supplier);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements Supplier<T> {
+
+        private final ThrowingSupplier<? extends T, RuntimeException> supplier;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingSupplier<? extends T, ?> supplier) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.supplier = (ThrowingSupplier<? extends T, RuntimeException>) supplier;
+        }
+
+        @Override
+        public T get() {
+            return supplier.get();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Threads.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Utility methods for starting threads.
+ * <p>
+ * This version is used on Java versions before 21, and uses platform threads. A version that uses virtual threads can be found in
+ * {@code src/main/java21}; it is included in the multi-release JAR file.
+ *
+ * @author Rob Spoor
+ */
+final class Threads {
+
+    private Threads() {
+    }
+
+    static Thread start(Runnable task) {
+        Thread thread = new Thread(task);
+        // Don't let a worker prevent the JVM from shutting down
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+}
@@ -226,7 +226,80 @@ public interface ThrowingBiConsumer<T, U, X extends Throwable> {
      * @return An operation that wraps any checked exception in an {@link UncheckedException}.
      */
     default BiConsumer<T, U> unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return BiConsumerAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Any checked exception thrown by this operation is relayed to the caller as-is,
+     * even though the returned operation does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(BiConsumer, Class)} to be able to catch the checked exception.
+     *
+     * @return An operation that relays any checked exception as-is.
+     */
+    default BiConsumer<T, U> sneaky() {
+        return BiConsumerAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return An operation that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingBiConsumer<T, U, X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            long start = System.nanoTime();
+            try {
+                accept(t, u);
+                recorder.recordSuccess(System.nanoTime() - start);
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return An operation that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingBiConsumer<T, U, X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            if (!sampler.sample()) {
+                try {
+                    accept(t, u);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                accept(t, u);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
     }
 
     /**
@@ -260,6 +333,22 @@ public interface ThrowingBiConsumer<T, U, X extends Throwable> {
         return (BiConsumer<T, U>) operation.unchecked();
     }
 
+    /**
+     * Returns an operation that performs the {@code operation} operation to its input. Any checked exception thrown by the {@code operation}
+     * operation is relayed to the caller as-is, even though the returned operation does not declare it.
+     *
+     * @param <T> The type of the first argument to the operation.
+     * @param <U> The type of the second argument to the operation.
+     * @param operation The operation to perform when the returned operation is performed.
+     * @return An operation that relays any checked exception as-is.
+     * @throws NullPointerException If {@code operation} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, U> BiConsumer<T, U> sneaky(ThrowingBiConsumer<? super T, ? super U, ?> operation) {
+        Objects.requireNonNull(operation);
+        return (BiConsumer<T, U>) operation.sneaky();
+    }
+
     /**
      * Returns an operation that performs the {@code operation} operation to its input. Any checked exception thrown by the {@code operation}
      * operation is relayed to the caller. This method allows existing {@link BiConsumer} instances to be used where {@code ThrowingBiConsumer} is
@@ -274,7 +363,7 @@ public interface ThrowingBiConsumer<T, U, X extends Throwable> {
      */
     static <T, U, X extends Throwable> ThrowingBiConsumer<T, U, X> checked(BiConsumer<? super T, ? super U> operation) {
         Objects.requireNonNull(operation);
-        return operation::accept;
+        return BiConsumerAdapters.checked(operation, null);
     }
 
     /**
@@ -290,17 +379,37 @@ public interface ThrowingBiConsumer<T, U, X extends Throwable> {
      * @throws NullPointerException If {@code operation} or {@code errorType} is {@code null}.
      */
     static <T, U, X extends Throwable> ThrowingBiConsumer<T, U, X> checked(BiConsumer<? super T, ? super U> operation, Class<X> errorType) {
+        Objects.requireNonNull(operation);
+        Objects.requireNonNull(errorType);
+        return BiConsumerAdapters.checked(operation, errorType);
+    }
+
+    /**
+     * Returns an operation that performs the {@code operation} operation to its input. Any checked exception thrown by the {@code operation}
+     * operation is relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This
+     * allows checked exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <T> The type of the first argument to the operation.
+     * @param <U> The type of the second argument to the operation.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operation The operation to perform when the returned operation is performed.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return An operation that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code operation} or {@code errorType} is {@code null}.
+     */
+    static <T, U, X extends Throwable> ThrowingBiConsumer<T, U, X> catching(BiConsumer<? super T, ? super U> operation, Class<X> errorType) {
         Objects.requireNonNull(operation);
         Objects.requireNonNull(errorType);
         return (t, u) -> {
             try {
                 operation.accept(t, u);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, operation);
             }
         };
     }
@@ -17,6 +17,7 @@
 
 package com.github.robtimus.function.throwing;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -56,6 +57,12 @@ public interface ThrowingBiFunction<T, U, R, X extends Throwable> {
      */
     default <V> ThrowingBiFunction<T, U, V, X> andThen(ThrowingFunction<? super R, ? extends V, ? extends X> after) {
         Objects.requireNonNull(after);
+        if (KnownFunctions.isIdentity(after)) {
+            // This cast is safe, because the identity function returns the result of this function as-is
+            @SuppressWarnings("unchecked")
+            ThrowingBiFunction<T, U, V, X> result = (ThrowingBiFunction<T, U, V, X>) this;
+            return result;
+        }
         return (t, u) -> after.apply(apply(t, u));
     }
 
@@ -274,7 +281,155 @@ public interface ThrowingBiFunction<T, U, R, X extends Throwable> {
      * @return A function that wraps any checked exception in an {@link UncheckedException}.
      */
     default BiFunction<T, U, R> unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return BiFunctionAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Any checked exception thrown by this function is relayed to the caller as-is, even
+     * though the returned function does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(BiFunction, Class)} to be able to catch the checked exception.
+     *
+     * @return A function that relays any checked exception as-is.
+     */
+    default BiFunction<T, U, R> sneaky() {
+        return BiFunctionAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A function that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingBiFunction<T, U, R, X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            long start = System.nanoTime();
+            try {
+                R result = apply(t, u);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A function that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingBiFunction<T, U, R, X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            if (!sampler.sample()) {
+                try {
+                    return apply(t, u);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                R result = apply(t, u);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a function that caches the results of this function for a limited number of input pairs. Inputs are compared using their
+     * {@link Object#equals(Object) equals} method; {@code null} inputs are supported.
+     * <p>
+     * If this function throws an exception, it is relayed to the caller as-is and not cached. The returned function is thread-safe, and calls this
+     * function at most once at the same time for equal input pairs; other callers with equal inputs will wait for the result, and get the same
+     * result or exception. Once a result has been cached, it is returned without locking.
+     * <p>
+     * If the cache is full, results are evicted using a segmented LRU policy that favours results that have been accessed more than once. This makes
+     * the cache resistant to scans of inputs that are used only once.
+     *
+     * @param maxSize The maximum number of results to cache.
+     * @return A function that caches the results of this function.
+     * @throws IllegalArgumentException If {@code maxSize} is not positive.
+     */
+    default ThrowingBiFunction<T, U, R, X> memoize(int maxSize) {
+        return memoize(new BoundedCache<>(maxSize, null));
+    }
+
+    /**
+     * Returns a function that caches the results of this function for a limited number of input pairs, and records cache statistics.
+     * This method is like {@link #memoize(int)}, but records cache hits, cache misses and evictions in the given {@link CacheStatistics}.
+     *
+     * @param maxSize The maximum number of results to cache.
+     * @param statistics The object to record cache statistics in.
+     * @return A function that caches the results of this function.
+     * @throws NullPointerException If {@code statistics} is {@code null}.
+     * @throws IllegalArgumentException If {@code maxSize} is not positive.
+     */
+    default ThrowingBiFunction<T, U, R, X> memoize(int maxSize, CacheStatistics statistics) {
+        Objects.requireNonNull(statistics);
+        return memoize(new BoundedCache<>(maxSize, statistics));
+    }
+
+    /**
+     * Returns a function that caches the results of this function for a limited number of inputs, as well as checked exceptions thrown by this
+     * function. This method is like {@link #memoize(int)}, except that if this function throws a checked exception, the exception is cached for the
+     * given duration. Until it expires, calls with equal inputs rethrow the cached exception without calling this function again. Cached exceptions
+     * count towards the maximum size. Unchecked exceptions are never cached.
+     *
+     * @param maxSize The maximum number of results and exceptions to cache.
+     * @param failureTimeToLive The duration for which checked exceptions are cached.
+     * @return A function that caches the results and checked exceptions of this function.
+     * @throws NullPointerException If {@code failureTimeToLive} is {@code null}.
+     * @throws IllegalArgumentException If {@code maxSize} or {@code failureTimeToLive} is not positive.
+     */
+    default ThrowingBiFunction<T, U, R, X> memoize(int maxSize, Duration failureTimeToLive) {
+        return memoize(BoundedCache.withFailureCaching(maxSize, failureTimeToLive, null));
+    }
+
+    /**
+     * Returns a function that caches the results of this function for a limited number of inputs, as well as checked exceptions thrown by this
+     * function. This method is like {@link #memoize(int, Duration)}, except that cached exceptions are not rethrown themselves. Instead, each time a
+     * cached exception would be rethrown, the given copier is called and its result is thrown. This prevents callers in different threads from
+     * sharing the same exception instance, for instance when adding suppressed exceptions. To limit the cost of rethrowing cached exceptions, the
+     * copier can create exceptions without a stack trace.
+     *
+     * @param maxSize The maximum number of results and exceptions to cache.
+     * @param failureTimeToLive The duration for which checked exceptions are cached.
+     * @param failureCopier The function to call to create copies of cached exceptions.
+     * @return A function that caches the results and checked exceptions of this function.
+     * @throws NullPointerException If {@code failureTimeToLive} or {@code failureCopier} is {@code null}.
+     * @throws IllegalArgumentException If {@code maxSize} or {@code failureTimeToLive} is not positive.
+     */
+    default ThrowingBiFunction<T, U, R, X> memoize(int maxSize, Duration failureTimeToLive, Function<? super X, ? extends X> failureCopier) {
+        Objects.requireNonNull(failureCopier);
+        return memoize(BoundedCache.withFailureCaching(maxSize, failureTimeToLive, failureCopier));
+    }
+
+    private ThrowingBiFunction<T, U, R, X> memoize(BoundedCache<BiKey<T, U>, R> cache) {
+        ThrowingFunction<BiKey<T, U>, R, X> loader = key -> apply(key.first, key.second);
+        return (t, u) -> cache.get(new BiKey<>(t, u), loader);
     }
 
     /**
@@ -310,6 +465,23 @@ public interface ThrowingBiFunction<T, U, R, X extends Throwable> {
         return (BiFunction<T, U, R>) function.unchecked();
     }
 
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any checked exception thrown by the {@code function} function is
+     * relayed to the caller as-is, even though the returned function does not declare it.
+     *
+     * @param <T> The type of the first argument to the function.
+     * @param <U> The type of the second argument to the function.
+     * @param <R> The type of the result of the function.
+     * @param function The function to apply when the returned function is applied.
+     * @return A function that relays any checked exception as-is.
+     * @throws NullPointerException If {@code function} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, U, R> BiFunction<T, U, R> sneaky(ThrowingBiFunction<? super T, ? super U, ? extends R, ?> function) {
+        Objects.requireNonNull(function);
+        return (BiFunction<T, U, R>) function.sneaky();
+    }
+
     /**
      * Returns a function that applies the {@code function} function to its input. Any unchecked exception thrown by the {@code function} function is
      * relayed to the caller. This method allows existing {@link BiFunction} instances to be used where {@code ThrowingBiFunction} is expected.
@@ -324,7 +496,7 @@ public interface ThrowingBiFunction<T, U, R, X extends Throwable> {
      */
     static <T, U, R, X extends Throwable> ThrowingBiFunction<T, U, R, X> checked(BiFunction<? super T, ? super U, ? extends R> function) {
         Objects.requireNonNull(function);
-        return function::apply;
+        return BiFunctionAdapters.checked(function, null);
     }
 
     /**
@@ -344,15 +516,37 @@ public interface ThrowingBiFunction<T, U, R, X extends Throwable> {
                                                                                  Class<X> errorType) {
         Objects.requireNonNull(function);
         Objects.requireNonNull(errorType);
+        return BiFunctionAdapters.checked(function, errorType);
+    }
+
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any checked exception thrown by the {@code function} function is
+     * relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This allows checked
+     * exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <T> The type of the first argument to the function.
+     * @param <U> The type of the second argument to the function.
+     * @param <R> The type of the result of the function.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param function The function to apply when the returned function is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A function that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code function} or {@code errorType} is {@code null}.
+     */
+    static <T, U, R, X extends Throwable> ThrowingBiFunction<T, U, R, X> catching(BiFunction<? super T, ? super U, ? extends R> function,
+                                                                                  Class<X> errorType) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(errorType);
         return (t, u) -> {
             try {
                 return function.apply(t, u);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, function);
             }
         };
     }
@@ -297,7 +297,81 @@ public interface ThrowingBiPredicate<T, U, X extends Throwable> {
      * @return A predicate that wraps any checked exception in an {@link UncheckedException}.
      */
     default BiPredicate<T, U> unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return BiPredicateAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. Any checked exception thrown by this predicate is relayed to the caller as-is,
+     * even though the returned predicate does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(BiPredicate, Class)} to be able to catch the checked exception.
+     *
+     * @return A predicate that relays any checked exception as-is.
+     */
+    default BiPredicate<T, U> sneaky() {
+        return BiPredicateAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A predicate that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingBiPredicate<T, U, X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            long start = System.nanoTime();
+            try {
+                boolean result = test(t, u);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A predicate that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingBiPredicate<T, U, X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            if (!sampler.sample()) {
+                try {
+                    return test(t, u);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                boolean result = test(t, u);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
     }
 
     /**
@@ -347,6 +421,22 @@ public interface ThrowingBiPredicate<T, U, X extends Throwable> {
         return (BiPredicate<T, U>) predicate.unchecked();
     }
 
+    /**
+     * Returns a predicate that evaluates the {@code predicate} predicate on its input. Any checked exception thrown by the {@code predicate}
+     * predicate is relayed to the caller as-is, even though the returned predicate does not declare it.
+     *
+     * @param <T> The type of the first argument to the predicate.
+     * @param <U> The type of the second argument the predicate.
+     * @param predicate The predicate to evaluate when the returned predicate is evaluated.
+     * @return A predicate that relays any checked exception as-is.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, U> BiPredicate<T, U> sneaky(ThrowingBiPredicate<? super T, ? super U, ?> predicate) {
+        Objects.requireNonNull(predicate);
+        return (BiPredicate<T, U>) predicate.sneaky();
+    }
+
     /**
      * Returns a predicate that evaluates the {@code predicate} predicate on its input. Any unchecked exception thrown by the {@code predicate}
      * predicate is relayed to the caller. This method allows existing {@link Predicate} instances to be used where {@code ThrowingPredicate} is
@@ -361,7 +451,7 @@ public interface ThrowingBiPredicate<T, U, X extends Throwable> {
      */
     static <T, U, X extends Throwable> ThrowingBiPredicate<T, U, X> checked(BiPredicate<? super T, ? super U> predicate) {
         Objects.requireNonNull(predicate);
-        return predicate::test;
+        return BiPredicateAdapters.checked(predicate, null);
     }
 
     /**
@@ -377,17 +467,37 @@ public interface ThrowingBiPredicate<T, U, X extends Throwable> {
      * @throws NullPointerException If {@code predicate} or {@code errorType} is {@code null}.
      */
     static <T, U, X extends Throwable> ThrowingBiPredicate<T, U, X> checked(BiPredicate<? super T, ? super U> predicate, Class<X> errorType) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(errorType);
+        return BiPredicateAdapters.checked(predicate, errorType);
+    }
+
+    /**
+     * Returns a predicate that evaluates the {@code predicate} predicate on its input. Any checked exception thrown by the {@code predicate}
+     * predicate is relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This
+     * allows checked exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <T> The type of the first argument to the predicate.
+     * @param <U> The type of the second argument the predicate.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param predicate The predicate to evaluate when the returned predicate is evaluated.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A predicate that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code predicate} or {@code errorType} is {@code null}.
+     */
+    static <T, U, X extends Throwable> ThrowingBiPredicate<T, U, X> catching(BiPredicate<? super T, ? super U> predicate, Class<X> errorType) {
         Objects.requireNonNull(predicate);
         Objects.requireNonNull(errorType);
         return (t, u) -> {
             try {
                 return predicate.test(t, u);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, predicate);
             }
         };
     }
@@ -177,7 +177,53 @@ public interface ThrowingBinaryOperator<T, X extends Throwable> extends Throwing
 
     @Override
     default BinaryOperator<T> unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return BinaryOperatorAdapters.unchecked(this);
+    }
+
+    @Override
+    default BinaryOperator<T> sneaky() {
+        return BinaryOperatorAdapters.sneaky(this);
+    }
+
+    @Override
+    default ThrowingBinaryOperator<T, X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            long start = System.nanoTime();
+            try {
+                T result = apply(t, u);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    @Override
+    default ThrowingBinaryOperator<T, X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            if (!sampler.sample()) {
+                try {
+                    return apply(t, u);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                T result = apply(t, u);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
     }
 
     /**
@@ -208,6 +254,20 @@ public interface ThrowingBinaryOperator<T, X extends Throwable> extends Throwing
         return operator.unchecked();
     }
 
+    /**
+     * Returns a binary operator that applies the {@code operator} binary operator to its input. Any checked exception thrown by the {@code operator}
+     * binary operator is relayed to the caller as-is, even though the returned binary operator does not declare it.
+     *
+     * @param <T> The type of the operands and result of the operator.
+     * @param operator The binary operator to apply when the returned binary operator is applied.
+     * @return A binary operator that relays any checked exception as-is.
+     * @throws NullPointerException If {@code operator} is {@code null}.
+     */
+    static <T> BinaryOperator<T> sneaky(ThrowingBinaryOperator<T, ?> operator) {
+        Objects.requireNonNull(operator);
+        return operator.sneaky();
+    }
+
     /**
      * Returns a binary operator that applies the {@code operator} binary operator to its input. Any unchecked exception thrown by the
      * {@code operator} binary operator is relayed to the caller. This method allows existing {@link BinaryOperator} instances to be used where
@@ -221,7 +281,7 @@ public interface ThrowingBinaryOperator<T, X extends Throwable> extends Throwing
      */
     static <T, X extends Throwable> ThrowingBinaryOperator<T, X> checked(BinaryOperator<T> operator) {
         Objects.requireNonNull(operator);
-        return operator::apply;
+        return BinaryOperatorAdapters.checked(operator, null);
     }
 
     /**
@@ -236,17 +296,36 @@ public interface ThrowingBinaryOperator<T, X extends Throwable> extends Throwing
      * @throws NullPointerException If {@code operator} or {@code errorType} is {@code null}.
      */
     static <T, X extends Throwable> ThrowingBinaryOperator<T, X> checked(BinaryOperator<T> operator, Class<X> errorType) {
+        Objects.requireNonNull(operator);
+        Objects.requireNonNull(errorType);
+        return BinaryOperatorAdapters.checked(operator, errorType);
+    }
+
+    /**
+     * Returns a binary operator that applies the {@code operator} binary operator to its input. Any checked exception thrown by the {@code operator}
+     * binary operator is relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}.
+     * This allows checked exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <T> The type of the operands and result of the operator.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operator The binary operator to apply when the returned binary operator is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A binary operator that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code operator} or {@code errorType} is {@code null}.
+     */
+    static <T, X extends Throwable> ThrowingBinaryOperator<T, X> catching(BinaryOperator<T> operator, Class<X> errorType) {
         Objects.requireNonNull(operator);
         Objects.requireNonNull(errorType);
         return (t, u) -> {
             try {
                 return operator.apply(t, u);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, operator);
             }
         };
     }
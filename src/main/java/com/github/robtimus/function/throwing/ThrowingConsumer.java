@@ -51,10 +51,7 @@ public interface ThrowingConsumer<T, X extends Throwable> {
      */
     default ThrowingConsumer<T, X> andThen(ThrowingConsumer<? super T, ? extends X> after) {
         Objects.requireNonNull(after);
-        return t -> {
-            accept(t);
-            after.accept(t);
-        };
+        return CompositeConsumer.of(this, after);
     }
 
     /**
@@ -223,7 +220,80 @@ public interface ThrowingConsumer<T, X extends Throwable> {
      * @return An operation that wraps any checked exception in an {@link UncheckedException}.
      */
     default Consumer<T> unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return ConsumerAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Any checked exception thrown by this operation is relayed to the caller as-is,
+     * even though the returned operation does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(Consumer, Class)} to be able to catch the checked exception.
+     *
+     * @return An operation that relays any checked exception as-is.
+     */
+    default Consumer<T> sneaky() {
+        return ConsumerAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return An operation that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingConsumer<T, X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                accept(t);
+                recorder.recordSuccess(System.nanoTime() - start);
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return An operation that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingConsumer<T, X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            if (!sampler.sample()) {
+                try {
+                    accept(t);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                accept(t);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
     }
 
     /**
@@ -240,6 +310,18 @@ public interface ThrowingConsumer<T, X extends Throwable> {
         return operation;
     }
 
+    /**
+     * Returns an operation that does nothing.
+     *
+     * @param <T> The type of the input to the operation.
+     * @param <X> The type of checked exception that can be thrown.
+     * @return An operation that does nothing. This is always the same instance, and composing it with another operation using
+     *         {@link #andThen(ThrowingConsumer)} returns the other operation.
+     */
+    static <T, X extends Throwable> ThrowingConsumer<T, X> noop() {
+        return KnownFunctions.noOpConsumer();
+    }
+
     /**
      * Returns an operation that performs the {@code operation} operation to its input. Any checked exception thrown by the {@code operation}
      * operation is wrapped in an {@link UncheckedException}.
@@ -255,6 +337,21 @@ public interface ThrowingConsumer<T, X extends Throwable> {
         return (Consumer<T>) operation.unchecked();
     }
 
+    /**
+     * Returns an operation that performs the {@code operation} operation to its input. Any checked exception thrown by the {@code operation}
+     * operation is relayed to the caller as-is, even though the returned operation does not declare it.
+     *
+     * @param <T> The type of the input to the operation.
+     * @param operation The operation to perform when the returned operation is performed.
+     * @return An operation that relays any checked exception as-is.
+     * @throws NullPointerException If {@code operation} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Consumer<T> sneaky(ThrowingConsumer<? super T, ?> operation) {
+        Objects.requireNonNull(operation);
+        return (Consumer<T>) operation.sneaky();
+    }
+
     /**
      * Returns an operation that performs the {@code operation} operation to its input. Any checked exception thrown by the {@code operation}
      * operation is relayed to the caller. This method allows existing {@link Consumer} instances to be used where {@code ThrowingConsumer} is
@@ -268,7 +365,7 @@ public interface ThrowingConsumer<T, X extends Throwable> {
      */
     static <T, X extends Throwable> ThrowingConsumer<T, X> checked(Consumer<? super T> operation) {
         Objects.requireNonNull(operation);
-        return operation::accept;
+        return ConsumerAdapters.checked(operation, null);
     }
 
     /**
@@ -283,17 +380,36 @@ public interface ThrowingConsumer<T, X extends Throwable> {
      * @throws NullPointerException If {@code operation} or {@code errorType} is {@code null}.
      */
     static <T, X extends Throwable> ThrowingConsumer<T, X> checked(Consumer<? super T> operation, Class<X> errorType) {
+        Objects.requireNonNull(operation);
+        Objects.requireNonNull(errorType);
+        return ConsumerAdapters.checked(operation, errorType);
+    }
+
+    /**
+     * Returns an operation that performs the {@code operation} operation to its input. Any checked exception thrown by the {@code operation}
+     * operation is relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This
+     * allows checked exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <T> The type of the input to the operation.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operation The operation to perform when the returned operation is performed.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return An operation that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code operation} or {@code errorType} is {@code null}.
+     */
+    static <T, X extends Throwable> ThrowingConsumer<T, X> catching(Consumer<? super T> operation, Class<X> errorType) {
         Objects.requireNonNull(operation);
         Objects.requireNonNull(errorType);
         return t -> {
             try {
                 operation.accept(t);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, operation);
             }
         };
     }
@@ -0,0 +1,472 @@
+/*
+ * ThrowingDoubleBiFunction.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Represents a function that accepts two {@code double}-valued arguments and produces a result.
+ * This is the {@code double}-consuming primitive specialization of {@link ThrowingBiFunction}.
+ * <p>
+ * There is no equivalent of this interface in {@code java.util.function}. Methods that return a function that cannot throw checked exceptions
+ * therefore return a {@code ThrowingDoubleBiFunction} with {@link RuntimeException} as its type of checked exception.
+ *
+ * @param <R> The type of the result of the function.
+ * @param <X> The type of checked exception that can be thrown.
+ */
+@FunctionalInterface
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+public interface ThrowingDoubleBiFunction<R, X extends Throwable> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param left The first function argument.
+     * @param right The second function argument.
+     * @return The function result.
+     * @throws X If an error occurs.
+     */
+    R apply(double left, double right) throws X;
+
+    /**
+     * Returns a composed function that first applies this function to its input, and then applies the {@code after} function to the result. If
+     * evaluation of either function throws an exception, it is relayed to the caller of the composed function.
+     *
+     * @param <V> The type of output of the {@code after} function, and of the composed function.
+     * @param after The function to apply after this function is applied.
+     * @return A composed function that first applies this function and then applies the {@code after} function.
+     * @throws NullPointerException If {@code after} is {@code null}.
+     */
+    default <V> ThrowingDoubleBiFunction<V, X> andThen(ThrowingFunction<? super R, ? extends V, ? extends X> after) {
+        Objects.requireNonNull(after);
+        if (KnownFunctions.isIdentity(after)) {
+            // This cast is safe, because the identity function returns the result of this function as-is
+            @SuppressWarnings("unchecked")
+            ThrowingDoubleBiFunction<V, X> result = (ThrowingDoubleBiFunction<V, X>) this;
+            return result;
+        }
+        return (t, u) -> after.apply(apply(t, u));
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Any checked exception thrown by this function is transformed using the given error
+     * mapper, and the returned function throws the transformation result.
+     *
+     * @param <E> The type of checked exception to transform to.
+     * @param errorMapper The function to use to transform any checked exception thrown by this function.
+     * @return A function that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorMapper} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingDoubleBiFunction<R, E> onErrorThrowAsChecked(Function<? super X, ? extends E> errorMapper) {
+        Objects.requireNonNull(errorMapper);
+        return (t, u) -> {
+            try {
+                return apply(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                throw errorMapper.apply(x);
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Any checked exception thrown by this function is transformed using the given error
+     * mapper, and the returned function throws the transformation result.
+     *
+     * @param <E> The type of unchecked exception to transform to.
+     * @param errorMapper The function to use to transform any checked exception thrown by this function.
+     * @return A function that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorMapper} is {@code null}.
+     */
+    default <E extends RuntimeException> ThrowingDoubleBiFunction<R, RuntimeException> onErrorThrowAsUnchecked(
+            Function<? super X, ? extends E> errorMapper) {
+
+        Objects.requireNonNull(errorMapper);
+        return (t, u) -> {
+            try {
+                return apply(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                throw errorMapper.apply(x);
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Any checked exception thrown by this function is transformed using the given error
+     * handler, and the returned function returns the transformation result.
+     *
+     * @param <E> The type of checked exception that can be thrown by the given error handler.
+     * @param errorHandler The function to use to transform any checked exception thrown by this function.
+     * @return A function that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorHandler} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingDoubleBiFunction<R, E> onErrorHandleChecked(
+            ThrowingFunction<? super X, ? extends R, ? extends E> errorHandler) {
+
+        Objects.requireNonNull(errorHandler);
+        return (t, u) -> {
+            try {
+                return apply(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                return errorHandler.apply(x);
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Any checked exception thrown by this function is transformed using the given error
+     * handler, and the returned function returns the transformation result.
+     *
+     * @param errorHandler The function to use to transform any checked exception thrown by this function.
+     * @return A function that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorHandler} is {@code null}.
+     */
+    default ThrowingDoubleBiFunction<R, RuntimeException> onErrorHandleUnchecked(Function<? super X, ? extends R> errorHandler) {
+        Objects.requireNonNull(errorHandler);
+        return (t, u) -> {
+            try {
+                return apply(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                return errorHandler.apply(x);
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. If this function throws any checked exception, it is discarded and the given
+     * fallback function is invoked.
+     *
+     * @param <E> The type of checked exception that can be thrown by the given fallback function.
+     * @param fallback The function to invoke if this function throws any checked exception.
+     * @return A function that invokes the {@code fallback} function if this function throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingDoubleBiFunction<R, E> onErrorApplyChecked(ThrowingDoubleBiFunction<? extends R, ? extends E> fallback) {
+        Objects.requireNonNull(fallback);
+        return (t, u) -> {
+            try {
+                return apply(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback.apply(t, u);
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. If this function throws any checked exception, it is discarded and the given
+     * fallback function is invoked.
+     *
+     * @param fallback The function to invoke if this function throws any checked exception.
+     * @return A function that invokes the {@code fallback} function if this function throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default ThrowingDoubleBiFunction<R, RuntimeException> onErrorApplyUnchecked(
+            ThrowingDoubleBiFunction<? extends R, ? extends RuntimeException> fallback) {
+
+        Objects.requireNonNull(fallback);
+        return (t, u) -> {
+            try {
+                return apply(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback.apply(t, u);
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. If this function throws any checked exception, it is discarded and the given
+     * fallback supplier is invoked.
+     *
+     * @param <E> The type of checked exception that can be thrown by the given fallback supplier.
+     * @param fallback The supplier to produce the value to return if this function throws any checked exception.
+     * @return A function that invokes the {@code fallback} supplier if this function throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingDoubleBiFunction<R, E> onErrorGetChecked(ThrowingSupplier<? extends R, ? extends E> fallback) {
+        Objects.requireNonNull(fallback);
+        return (t, u) -> {
+            try {
+                return apply(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback.get();
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. If this function throws any checked exception, it is discarded and the given
+     * fallback supplier is invoked.
+     *
+     * @param fallback The supplier to produce the value to return if this function throws any checked exception.
+     * @return A function that invokes the {@code fallback} supplier if this function throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default ThrowingDoubleBiFunction<R, RuntimeException> onErrorGetUnchecked(Supplier<? extends R> fallback) {
+        Objects.requireNonNull(fallback);
+        return (t, u) -> {
+            try {
+                return apply(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback.get();
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. If this function throws any checked exception, it is discarded and the given
+     * fallback value is returned.
+     *
+     * @param fallback The value to return if this function throws any checked exception.
+     * @return A function that returns the {@code fallback} value if this function throws any checked exception.
+     */
+    default ThrowingDoubleBiFunction<R, RuntimeException> onErrorReturn(R fallback) {
+        return (t, u) -> {
+            try {
+                return apply(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback;
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Any checked exception thrown by this function is wrapped in an {@link
+     * UncheckedException} {@linkplain UncheckedException#withoutStackTrace(Throwable) without a stack trace}.
+     *
+     * @return A function that wraps any checked exception in an {@link UncheckedException}.
+     */
+    default ThrowingDoubleBiFunction<R, RuntimeException> unchecked() {
+        return DoubleBiFunctionAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Any checked exception thrown by this function is relayed to the caller as-is, even
+     * though the returned function does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an {@link
+     * UncheckedException}; use {@link #catching(ThrowingDoubleBiFunction, Class)} to be able to catch the checked exception.
+     *
+     * @return A function that relays any checked exception as-is.
+     */
+    default ThrowingDoubleBiFunction<R, RuntimeException> sneaky() {
+        return DoubleBiFunctionAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A function that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingDoubleBiFunction<R, X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            long start = System.nanoTime();
+            try {
+                R result = apply(t, u);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A function that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingDoubleBiFunction<R, X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            if (!sampler.sample()) {
+                try {
+                    return apply(t, u);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                R result = apply(t, u);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Factory method for turning {@code ThrowingDoubleBiFunction}-shaped lambdas into {@code ThrowingDoubleBiFunctions}.
+     *
+     * @param <R> The type of the result of the function.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param function The lambda to return as {@code ThrowingDoubleBiFunction}.
+     * @return The given lambda as a {@code ThrowingDoubleBiFunction}.
+     * @throws NullPointerException If {@code function} is {@code null}.
+     */
+    static <R, X extends Throwable> ThrowingDoubleBiFunction<R, X> of(ThrowingDoubleBiFunction<R, X> function) {
+        Objects.requireNonNull(function);
+        return function;
+    }
+
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any checked exception thrown by the {@code function} function is
+     * wrapped in an {@link UncheckedException}.
+     *
+     * @param <R> The type of the result of the function.
+     * @param function The function to apply when the returned function is applied.
+     * @return A function that wraps any checked exception in an {@link UncheckedException}.
+     * @throws NullPointerException If {@code function} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static <R> ThrowingDoubleBiFunction<R, RuntimeException> unchecked(ThrowingDoubleBiFunction<? extends R, ?> function) {
+        Objects.requireNonNull(function);
+        return (ThrowingDoubleBiFunction<R, RuntimeException>) function.unchecked();
+    }
+
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any checked exception thrown by the {@code function} function is
+     * relayed to the caller as-is, even though the returned function does not declare it.
+     *
+     * @param <R> The type of the result of the function.
+     * @param function The function to apply when the returned function is applied.
+     * @return A function that relays any checked exception as-is.
+     * @throws NullPointerException If {@code function} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static <R> ThrowingDoubleBiFunction<R, RuntimeException> sneaky(ThrowingDoubleBiFunction<? extends R, ?> function) {
+        Objects.requireNonNull(function);
+        return (ThrowingDoubleBiFunction<R, RuntimeException>) function.sneaky();
+    }
+
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any unchecked exception thrown by the {@code function} function is
+     * relayed to the caller. This method allows instances that only throw unchecked exceptions, like the result of {@link #unchecked()}, to be used
+     * where {@code ThrowingDoubleBiFunction} is expected with any type of checked exception.
+     *
+     * @param <R> The type of the result of the function.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param function The function to apply when the returned function is applied.
+     * @return A function that relays any unchecked exception.
+     * @throws NullPointerException If {@code function} is {@code null}.
+     */
+    static <R, X extends Throwable> ThrowingDoubleBiFunction<R, X> checked(
+            ThrowingDoubleBiFunction<? extends R, ? extends RuntimeException> function) {
+
+        Objects.requireNonNull(function);
+        return DoubleBiFunctionAdapters.checked(function, null);
+    }
+
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any {@link UncheckedException} thrown by the {@code function}
+     * function is unwrapped if its cause is an instance of {@code errorType}, otherwise it is relayed to the caller.
+     *
+     * @param <R> The type of the result of the function.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param function The function to apply when the returned function is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A function that unwraps any {@link UncheckedException} that wraps an instance of {@code errorType}.
+     * @throws NullPointerException If {@code function} or {@code errorType} is {@code null}.
+     */
+    static <R, X extends Throwable> ThrowingDoubleBiFunction<R, X> checked(ThrowingDoubleBiFunction<? extends R, ? extends RuntimeException> function,
+                                                                           Class<X> errorType) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(errorType);
+        return DoubleBiFunctionAdapters.checked(function, errorType);
+    }
+
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any checked exception thrown by the {@code function} function is
+     * relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This allows checked
+     * exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <R> The type of the result of the function.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param function The function to apply when the returned function is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A function that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code function} or {@code errorType} is {@code null}.
+     */
+    static <R, X extends Throwable> ThrowingDoubleBiFunction<R, X> catching(
+            ThrowingDoubleBiFunction<? extends R, ? extends RuntimeException> function, Class<X> errorType) {
+
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(errorType);
+        return (t, u) -> {
+            try {
+                return function.apply(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, function);
+            }
+        };
+    }
+}
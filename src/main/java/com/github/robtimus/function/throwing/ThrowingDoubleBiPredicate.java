@@ -0,0 +1,492 @@
+/*
+ * ThrowingDoubleBiPredicate.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Represents a predicate (boolean-valued function) of two {@code double}-valued arguments.
+ * This is the {@code double}-consuming primitive specialization of {@link ThrowingBiPredicate}.
+ * <p>
+ * There is no equivalent of this interface in {@code java.util.function}. Methods that return a predicate that cannot throw checked exceptions
+ * therefore return a {@code ThrowingDoubleBiPredicate} with {@link RuntimeException} as its type of checked exception.
+ *
+ * @param <X> The type of checked exception that can be thrown.
+ */
+@FunctionalInterface
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+public interface ThrowingDoubleBiPredicate<X extends Throwable> {
+
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param left The first input argument.
+     * @param right The second input argument.
+     * @return {@code true} if the input arguments match the predicate, otherwise {@code false}.
+     * @throws X If an error occurs.
+     */
+    boolean test(double left, double right) throws X;
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical AND of this predicate and another.
+     * When evaluating the composed predicate, if this predicate is {@code false}, then the {@code other} predicate is not evaluated.
+     * <p>
+     * Any exceptions thrown during evaluation of either predicate are relayed to the caller;
+     * if evaluation of this predicate throws an exception, the {@code other} predicate will not be evaluated.
+     *
+     * @param other A predicate that will be logically-ANDed with this predicate.
+     * @return A composed predicate that represents the short-circuiting logical AND of this predicate and the {@code other} predicate.
+     * @throws NullPointerException If {@code other} is {@code null}.
+     */
+    default ThrowingDoubleBiPredicate<X> and(ThrowingDoubleBiPredicate<? extends X> other) {
+        Objects.requireNonNull(other);
+        return (t, u) -> test(t, u) && other.test(t, u);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this predicate.
+     *
+     * @return A predicate that represents the logical negation of this predicate
+     */
+    default ThrowingDoubleBiPredicate<X> negate() {
+        return (t, u) -> !test(t, u);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical OR of this predicate and another.
+     * When evaluating the composed predicate, if this predicate is {@code true}, then the {@code other} predicate is not evaluated.
+     * <p>
+     * Any exceptions thrown during evaluation of either predicate are relayed to the caller;
+     * if evaluation of this predicate throws an exception, the {@code other} predicate will not be evaluated.
+     *
+     * @param other A predicate that will be logically-ORed with this predicate
+     * @return A composed predicate that represents the short-circuiting logical OR of this predicate and the {@code other} predicate.
+     * @throws NullPointerException If {@code other} is {@code null}.
+     */
+    default ThrowingDoubleBiPredicate<X> or(ThrowingDoubleBiPredicate<? extends X> other) {
+        Objects.requireNonNull(other);
+        return (t, u) -> test(t, u) || other.test(t, u);
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. Any checked exception thrown by this predicate is transformed using the given
+     * error mapper, and the returned predicate throws the transformation result.
+     *
+     * @param <E> The type of checked exception to transform to.
+     * @param errorMapper The function to use to transform any checked exception thrown by this predicate.
+     * @return A predicate that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorMapper} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingDoubleBiPredicate<E> onErrorThrowAsChecked(Function<? super X, ? extends E> errorMapper) {
+        Objects.requireNonNull(errorMapper);
+        return (t, u) -> {
+            try {
+                return test(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                throw errorMapper.apply(x);
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. Any checked exception thrown by this predicate is transformed using the given
+     * error mapper, and the returned predicate throws the transformation result.
+     *
+     * @param <E> The type of unchecked exception to transform to.
+     * @param errorMapper The function to use to transform any checked exception thrown by this predicate.
+     * @return A predicate that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorMapper} is {@code null}.
+     */
+    default <E extends RuntimeException> ThrowingDoubleBiPredicate<RuntimeException> onErrorThrowAsUnchecked(
+            Function<? super X, ? extends E> errorMapper) {
+
+        Objects.requireNonNull(errorMapper);
+        return (t, u) -> {
+            try {
+                return test(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                throw errorMapper.apply(x);
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. Any checked exception thrown by this predicate is transformed using the given
+     * error handler, and the returned predicate returns the transformation result.
+     *
+     * @param <E> The type of checked exception that can be thrown by the given error handler.
+     * @param errorHandler The function to use to transform any checked exception thrown by this predicate.
+     * @return A predicate that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorHandler} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingDoubleBiPredicate<E> onErrorHandleChecked(ThrowingPredicate<? super X, ? extends E> errorHandler) {
+        Objects.requireNonNull(errorHandler);
+        return (t, u) -> {
+            try {
+                return test(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                return errorHandler.test(x);
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. Any checked exception thrown by this predicate is transformed using the given
+     * error handler, and the returned predicate returns the transformation result.
+     *
+     * @param errorHandler The function to use to transform any checked exception thrown by this predicate.
+     * @return A predicate that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorHandler} is {@code null}.
+     */
+    default ThrowingDoubleBiPredicate<RuntimeException> onErrorHandleUnchecked(Predicate<? super X> errorHandler) {
+        Objects.requireNonNull(errorHandler);
+        return (t, u) -> {
+            try {
+                return test(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                return errorHandler.test(x);
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. If this predicate throws any checked exception, it is discarded and the given
+     * fallback predicate is invoked.
+     *
+     * @param <E> The type of checked exception that can be thrown by the given fallback predicate.
+     * @param fallback The predicate to invoke if this predicate throws any checked exception.
+     * @return A predicate that invokes the {@code fallback} predicate if this predicate throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingDoubleBiPredicate<E> onErrorTestChecked(ThrowingDoubleBiPredicate<? extends E> fallback) {
+        Objects.requireNonNull(fallback);
+        return (t, u) -> {
+            try {
+                return test(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback.test(t, u);
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. If this predicate throws any checked exception, it is discarded and the given
+     * fallback predicate is invoked.
+     *
+     * @param fallback The predicate to invoke if this predicate throws any checked exception.
+     * @return A predicate that invokes the {@code fallback} predicate if this predicate throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default ThrowingDoubleBiPredicate<RuntimeException> onErrorTestUnchecked(ThrowingDoubleBiPredicate<? extends RuntimeException> fallback) {
+        Objects.requireNonNull(fallback);
+        return (t, u) -> {
+            try {
+                return test(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback.test(t, u);
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. If this predicate throws any checked exception, it is discarded and the given
+     * fallback supplier is invoked.
+     *
+     * @param <E> The type of checked exception that can be thrown by the given fallback supplier.
+     * @param fallback The supplier to produce the value to return if this predicate throws any checked exception.
+     * @return A predicate that invokes the {@code fallback} supplier if this predicate throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingDoubleBiPredicate<E> onErrorGetCheckedAsBoolean(ThrowingBooleanSupplier<? extends E> fallback) {
+        Objects.requireNonNull(fallback);
+        return (t, u) -> {
+            try {
+                return test(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback.getAsBoolean();
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. If this predicate throws any checked exception, it is discarded and the given
+     * fallback supplier is invoked.
+     *
+     * @param fallback The supplier to produce the value to return if this predicate throws any checked exception.
+     * @return A predicate that invokes the {@code fallback} supplier if this predicate throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default ThrowingDoubleBiPredicate<RuntimeException> onErrorGetUncheckedAsBoolean(BooleanSupplier fallback) {
+        Objects.requireNonNull(fallback);
+        return (t, u) -> {
+            try {
+                return test(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback.getAsBoolean();
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. If this predicate throws any checked exception, it is discarded and the given
+     * fallback value is returned.
+     *
+     * @param fallback The value to return if this predicate throws any checked exception.
+     * @return A predicate that returns the {@code fallback} value if this predicate throws any checked exception.
+     */
+    default ThrowingDoubleBiPredicate<RuntimeException> onErrorReturn(boolean fallback) {
+        return (t, u) -> {
+            try {
+                return test(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback;
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. Any checked exception thrown by this predicate is wrapped in an {@link
+     * UncheckedException} {@linkplain UncheckedException#withoutStackTrace(Throwable) without a stack trace}.
+     *
+     * @return A predicate that wraps any checked exception in an {@link UncheckedException}.
+     */
+    default ThrowingDoubleBiPredicate<RuntimeException> unchecked() {
+        return DoubleBiPredicateAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. Any checked exception thrown by this predicate is relayed to the caller as-is,
+     * even though the returned predicate does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an {@link
+     * UncheckedException}; use {@link #catching(ThrowingDoubleBiPredicate, Class)} to be able to catch the checked exception.
+     *
+     * @return A predicate that relays any checked exception as-is.
+     */
+    default ThrowingDoubleBiPredicate<RuntimeException> sneaky() {
+        return DoubleBiPredicateAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A predicate that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingDoubleBiPredicate<X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            long start = System.nanoTime();
+            try {
+                boolean result = test(t, u);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A predicate that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingDoubleBiPredicate<X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            if (!sampler.sample()) {
+                try {
+                    return test(t, u);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                boolean result = test(t, u);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Factory method for turning {@code ThrowingDoubleBiPredicate}-shaped lambdas into {@code ThrowingDoubleBiPredicates}.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param predicate The lambda to return as {@code ThrowingDoubleBiPredicate}.
+     * @return The given lambda as a {@code ThrowingDoubleBiPredicate}.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingDoubleBiPredicate<X> of(ThrowingDoubleBiPredicate<X> predicate) {
+        Objects.requireNonNull(predicate);
+        return predicate;
+    }
+
+    /**
+     * Returns a predicate that is the negation of the supplied predicate.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param predicate The predicate to negate.
+     * @return A predicate that negates the results of {@code predicate}.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static <X extends Throwable> ThrowingDoubleBiPredicate<X> not(ThrowingDoubleBiPredicate<? extends X> predicate) {
+        Objects.requireNonNull(predicate);
+        return (ThrowingDoubleBiPredicate<X>) predicate.negate();
+    }
+
+    /**
+     * Returns a predicate that evaluates the {@code predicate} predicate on its input. Any checked exception thrown by the {@code predicate}
+     * predicate is wrapped in an {@link UncheckedException}.
+     *
+     * @param predicate The predicate to evaluate when the returned predicate is evaluated.
+     * @return A predicate that wraps any checked exception in an {@link UncheckedException}.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     */
+    static ThrowingDoubleBiPredicate<RuntimeException> unchecked(ThrowingDoubleBiPredicate<?> predicate) {
+        Objects.requireNonNull(predicate);
+        return predicate.unchecked();
+    }
+
+    /**
+     * Returns a predicate that evaluates the {@code predicate} predicate on its input. Any checked exception thrown by the {@code predicate}
+     * predicate is relayed to the caller as-is, even though the returned predicate does not declare it.
+     *
+     * @param predicate The predicate to evaluate when the returned predicate is evaluated.
+     * @return A predicate that relays any checked exception as-is.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     */
+    static ThrowingDoubleBiPredicate<RuntimeException> sneaky(ThrowingDoubleBiPredicate<?> predicate) {
+        Objects.requireNonNull(predicate);
+        return predicate.sneaky();
+    }
+
+    /**
+     * Returns a predicate that evaluates the {@code predicate} predicate on its input. Any unchecked exception thrown by the {@code predicate}
+     * predicate is relayed to the caller. This method allows instances that only throw unchecked exceptions, like the result of {@link #unchecked()},
+     * to be used where {@code ThrowingDoubleBiPredicate} is expected with any type of checked exception.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param predicate The predicate to evaluate when the returned predicate is evaluated.
+     * @return A predicate that relays any unchecked exception.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingDoubleBiPredicate<X> checked(ThrowingDoubleBiPredicate<? extends RuntimeException> predicate) {
+        Objects.requireNonNull(predicate);
+        return DoubleBiPredicateAdapters.checked(predicate, null);
+    }
+
+    /**
+     * Returns a predicate that evaluates the {@code predicate} predicate on its input. Any {@link UncheckedException} thrown by the {@code predicate}
+     * predicate is unwrapped if its cause is an instance of {@code errorType}, otherwise it is relayed to the caller.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param predicate The predicate to evaluate when the returned predicate is evaluated.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A predicate that unwraps any {@link UncheckedException} that wraps an instance of {@code errorType}.
+     * @throws NullPointerException If {@code predicate} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingDoubleBiPredicate<X> checked(ThrowingDoubleBiPredicate<? extends RuntimeException> predicate,
+                                                                      Class<X> errorType) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(errorType);
+        return DoubleBiPredicateAdapters.checked(predicate, errorType);
+    }
+
+    /**
+     * Returns a predicate that evaluates the {@code predicate} predicate on its input. Any checked exception thrown by the {@code predicate}
+     * predicate is relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This
+     * allows checked exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param predicate The predicate to evaluate when the returned predicate is evaluated.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A predicate that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code predicate} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingDoubleBiPredicate<X> catching(ThrowingDoubleBiPredicate<? extends RuntimeException> predicate,
+                                                                       Class<X> errorType) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(errorType);
+        return (t, u) -> {
+            try {
+                return predicate.test(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, predicate);
+            }
+        };
+    }
+}
@@ -256,7 +256,81 @@ public interface ThrowingDoubleBinaryOperator<X extends Throwable> {
      * @return A binary operator that wraps any checked exception in an {@link UncheckedException}.
      */
     default DoubleBinaryOperator unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return DoubleBinaryOperatorAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a binary operator that applies this operator to its input. Any checked exception thrown by this operator is relayed to the caller
+     * as-is, even though the returned binary operator does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(DoubleBinaryOperator, Class)} to be able to catch the checked exception.
+     *
+     * @return A binary operator that relays any checked exception as-is.
+     */
+    default DoubleBinaryOperator sneaky() {
+        return DoubleBinaryOperatorAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a binary operator that applies this operator to its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A binary that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingDoubleBinaryOperator<X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            long start = System.nanoTime();
+            try {
+                double result = applyAsDouble(t, u);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a binary operator that applies this operator to its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A binary that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingDoubleBinaryOperator<X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            if (!sampler.sample()) {
+                try {
+                    return applyAsDouble(t, u);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                double result = applyAsDouble(t, u);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
     }
 
     /**
@@ -285,6 +359,19 @@ public interface ThrowingDoubleBinaryOperator<X extends Throwable> {
         return operator.unchecked();
     }
 
+    /**
+     * Returns a binary operator that applies the {@code operator} operator to its input. Any checked exception thrown by the {@code operator}
+     * operator is relayed to the caller as-is, even though the returned binary operator does not declare it.
+     *
+     * @param operator The operator to apply when the returned operator is applied.
+     * @return A binary operator that relays any checked exception as-is.
+     * @throws NullPointerException If {@code operator} is {@code null}.
+     */
+    static DoubleBinaryOperator sneaky(ThrowingDoubleBinaryOperator<?> operator) {
+        Objects.requireNonNull(operator);
+        return operator.sneaky();
+    }
+
     /**
      * Returns a binary operator that applies the {@code operator} operator to its input. Any unchecked exception thrown by the {@code operator}
      * operator is relayed to the caller. This method allows existing {@link DoubleBinaryOperator} instances to be used where
@@ -297,7 +384,7 @@ public interface ThrowingDoubleBinaryOperator<X extends Throwable> {
      */
     static <X extends Throwable> ThrowingDoubleBinaryOperator<X> checked(DoubleBinaryOperator operator) {
         Objects.requireNonNull(operator);
-        return operator::applyAsDouble;
+        return DoubleBinaryOperatorAdapters.checked(operator, null);
     }
 
     /**
@@ -311,17 +398,35 @@ public interface ThrowingDoubleBinaryOperator<X extends Throwable> {
      * @throws NullPointerException If {@code operator} or {@code errorType} is {@code null}.
      */
     static <X extends Throwable> ThrowingDoubleBinaryOperator<X> checked(DoubleBinaryOperator operator, Class<X> errorType) {
+        Objects.requireNonNull(operator);
+        Objects.requireNonNull(errorType);
+        return DoubleBinaryOperatorAdapters.checked(operator, errorType);
+    }
+
+    /**
+     * Returns a binary operator that applies the {@code operator} operator to its input. Any checked exception thrown by the {@code operator}
+     * operator is relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This
+     * allows checked exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operator The operator to apply when the returned operator is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A binary operator that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code operator} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingDoubleBinaryOperator<X> catching(DoubleBinaryOperator operator, Class<X> errorType) {
         Objects.requireNonNull(operator);
         Objects.requireNonNull(errorType);
         return (t, u) -> {
             try {
                 return operator.applyAsDouble(t, u);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, operator);
             }
         };
     }
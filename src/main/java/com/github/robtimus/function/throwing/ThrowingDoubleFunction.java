@@ -255,7 +255,107 @@ public interface ThrowingDoubleFunction<R, X extends Throwable> {
      * @return A function that wraps any checked exception in an {@link UncheckedException}.
      */
     default DoubleFunction<R> unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return DoubleFunctionAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Any checked exception thrown by this function is relayed to the caller as-is, even
+     * though the returned function does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(DoubleFunction, Class)} to be able to catch the checked exception.
+     *
+     * @return A function that relays any checked exception as-is.
+     */
+    default DoubleFunction<R> sneaky() {
+        return DoubleFunctionAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A function that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingDoubleFunction<R, X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                R result = apply(t);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A function that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingDoubleFunction<R, X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            if (!sampler.sample()) {
+                try {
+                    return apply(t);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                R result = apply(t);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a function that caches the results of this function. The cache is not bounded, so this method should only be used if the number of
+     * different inputs is limited.
+     * <p>
+     * Inputs are stored in a primitive hash table, so looking up a cached result does not box the input, and does not lock. If this function throws
+     * an exception, it is relayed to the caller and not cached. The returned function is thread-safe. However, if it is called concurrently with the
+     * same input before a result has been cached, this function may be called more than once for that input; only the first result is cached. Inputs
+     * are compared like {@link Double#equals(Object)} does.
+     *
+     * @return A function that caches the results of this function.
+     */
+    default ThrowingDoubleFunction<R, X> memoize() {
+        PrimitiveKeyCache cache = new PrimitiveKeyCache();
+        return value -> {
+            long key = Double.doubleToLongBits(value);
+            Object result = cache.get(key);
+            if (result == PrimitiveKeyCache.ABSENT) {
+                result = cache.putIfAbsent(key, apply(value));
+            }
+            // This cast is safe, because only results of this function are cached
+            @SuppressWarnings("unchecked")
+            R r = (R) result;
+            return r;
+        };
     }
 
     /**
@@ -287,6 +387,21 @@ public interface ThrowingDoubleFunction<R, X extends Throwable> {
         return (DoubleFunction<R>) function.unchecked();
     }
 
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any checked exception thrown by the {@code function} function is
+     * relayed to the caller as-is, even though the returned function does not declare it.
+     *
+     * @param <R> The type of the result of the function.
+     * @param function The function to apply when the returned function is applied.
+     * @return A function that relays any checked exception as-is.
+     * @throws NullPointerException If {@code function} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static <R> DoubleFunction<R> sneaky(ThrowingDoubleFunction<? extends R, ?> function) {
+        Objects.requireNonNull(function);
+        return (DoubleFunction<R>) function.sneaky();
+    }
+
     /**
      * Returns a function that applies the {@code function} function to its input. Any unchecked exception thrown by the {@code function} function is
      * relayed to the caller. This method allows existing {@link DoubleFunction} instances to be used where {@code ThrowingDoubleFunction} is
@@ -300,7 +415,7 @@ public interface ThrowingDoubleFunction<R, X extends Throwable> {
      */
     static <R, X extends Throwable> ThrowingDoubleFunction<R, X> checked(DoubleFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return function::apply;
+        return DoubleFunctionAdapters.checked(function, null);
     }
 
     /**
@@ -315,17 +430,36 @@ public interface ThrowingDoubleFunction<R, X extends Throwable> {
      * @throws NullPointerException If {@code function} or {@code errorType} is {@code null}.
      */
     static <R, X extends Throwable> ThrowingDoubleFunction<R, X> checked(DoubleFunction<? extends R> function, Class<X> errorType) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(errorType);
+        return DoubleFunctionAdapters.checked(function, errorType);
+    }
+
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any checked exception thrown by the {@code function} function is
+     * relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This allows checked
+     * exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <R> The type of the result of the function.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param function The function to apply when the returned function is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A function that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code function} or {@code errorType} is {@code null}.
+     */
+    static <R, X extends Throwable> ThrowingDoubleFunction<R, X> catching(DoubleFunction<? extends R> function, Class<X> errorType) {
         Objects.requireNonNull(function);
         Objects.requireNonNull(errorType);
         return t -> {
             try {
                 return function.apply(t);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, function);
             }
         };
     }
@@ -294,7 +294,104 @@ public interface ThrowingDoublePredicate<X extends Throwable> {
      * @return A predicate that wraps any checked exception in an {@link UncheckedException}.
      */
     default DoublePredicate unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return DoublePredicateAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. Any checked exception thrown by this predicate is relayed to the caller as-is,
+     * even though the returned predicate does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(DoublePredicate, Class)} to be able to catch the checked exception.
+     *
+     * @return A predicate that relays any checked exception as-is.
+     */
+    default DoublePredicate sneaky() {
+        return DoublePredicateAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A predicate that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingDoublePredicate<X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                boolean result = test(t);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that evaluates this predicate on its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A predicate that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingDoublePredicate<X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            if (!sampler.sample()) {
+                try {
+                    return test(t);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                boolean result = test(t);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that caches the results of this predicate. The cache is not bounded, so this method should only be used if the number of
+     * different inputs is limited.
+     * <p>
+     * Inputs are stored in a primitive hash table, so looking up a cached result does not box the input, and does not lock. If this predicate throws
+     * an exception, it is relayed to the caller and not cached. The returned predicate is thread-safe. However, if it is called concurrently with the
+     * same input before a result has been cached, this predicate may be called more than once for that input; only the first result is cached. Inputs
+     * are compared like {@link Double#equals(Object)} does.
+     *
+     * @return A predicate that caches the results of this predicate.
+     */
+    default ThrowingDoublePredicate<X> memoize() {
+        PrimitiveKeyCache cache = new PrimitiveKeyCache();
+        return value -> {
+            long key = Double.doubleToLongBits(value);
+            Object result = cache.get(key);
+            if (result == PrimitiveKeyCache.ABSENT) {
+                result = cache.putIfAbsent(key, test(value));
+            }
+            return (boolean) result;
+        };
     }
 
     /**
@@ -337,6 +434,19 @@ public interface ThrowingDoublePredicate<X extends Throwable> {
         return predicate.unchecked();
     }
 
+    /**
+     * Returns a predicate that evaluates the {@code predicate} predicate on its input. Any checked exception thrown by the {@code predicate}
+     * predicate is relayed to the caller as-is, even though the returned predicate does not declare it.
+     *
+     * @param predicate The predicate to evaluate when the returned predicate is evaluated.
+     * @return A predicate that relays any checked exception as-is.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     */
+    static DoublePredicate sneaky(ThrowingDoublePredicate<?> predicate) {
+        Objects.requireNonNull(predicate);
+        return predicate.sneaky();
+    }
+
     /**
      * Returns a predicate that evaluates the {@code predicate} predicate on its input. Any unchecked exception thrown by the {@code predicate}
      * predicate is relayed to the caller. This method allows existing {@link DoublePredicate} instances to be used where
@@ -349,7 +459,7 @@ public interface ThrowingDoublePredicate<X extends Throwable> {
      */
     static <X extends Throwable> ThrowingDoublePredicate<X> checked(DoublePredicate predicate) {
         Objects.requireNonNull(predicate);
-        return predicate::test;
+        return DoublePredicateAdapters.checked(predicate, null);
     }
 
     /**
@@ -363,17 +473,35 @@ public interface ThrowingDoublePredicate<X extends Throwable> {
      * @throws NullPointerException If {@code predicate} or {@code errorType} is {@code null}.
      */
     static <X extends Throwable> ThrowingDoublePredicate<X> checked(DoublePredicate predicate, Class<X> errorType) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(errorType);
+        return DoublePredicateAdapters.checked(predicate, errorType);
+    }
+
+    /**
+     * Returns a predicate that evaluates the {@code predicate} predicate on its input. Any checked exception thrown by the {@code predicate}
+     * predicate is relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This
+     * allows checked exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param predicate The predicate to evaluate when the returned predicate is evaluated.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A predicate that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code predicate} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingDoublePredicate<X> catching(DoublePredicate predicate, Class<X> errorType) {
         Objects.requireNonNull(predicate);
         Objects.requireNonNull(errorType);
         return t -> {
             try {
                 return predicate.test(t);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, predicate);
             }
         };
     }
@@ -0,0 +1,500 @@
+/*
+ * ThrowingDoubleStream.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.stream.DoubleStream;
+
+/**
+ * A wrapper around a {@link DoubleStream} that allows its operations to throw checked exceptions.
+ * This is the {@code double} primitive specialization of {@link ThrowingStream}; see there for more information.
+ *
+ * @param <X> The type of checked exception that can be thrown.
+ * @author Rob Spoor
+ */
+public final class ThrowingDoubleStream<X extends Throwable> implements AutoCloseable {
+
+    private final DoubleStream stream;
+
+    private ThrowingDoubleStream(DoubleStream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Returns a stream that wraps an existing {@link DoubleStream}. The existing stream should not be used after calling this method.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param stream The stream to wrap.
+     * @return A stream that wraps the given stream.
+     * @throws NullPointerException If {@code stream} is {@code null}.
+     */
+    public static <X extends Throwable> ThrowingDoubleStream<X> of(DoubleStream stream) {
+        Objects.requireNonNull(stream);
+        return new ThrowingDoubleStream<>(stream);
+    }
+
+    // intermediate operations
+
+    /**
+     * Returns a stream consisting of the elements of this stream that match the given predicate.
+     *
+     * @param predicate The predicate to apply to each element to determine if it should be included.
+     * @return The new stream.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see DoubleStream#filter(DoublePredicate)
+     */
+    public ThrowingDoubleStream<X> filter(ThrowingDoublePredicate<? extends X> predicate) {
+        return new ThrowingDoubleStream<>(stream.filter(ThrowingDoublePredicate.sneaky(predicate)));
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see DoubleStream#map(DoubleUnaryOperator)
+     */
+    public ThrowingDoubleStream<X> map(ThrowingDoubleUnaryOperator<? extends X> mapper) {
+        return new ThrowingDoubleStream<>(stream.map(ThrowingDoubleUnaryOperator.sneaky(mapper)));
+    }
+
+    /**
+     * Returns an object-valued stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param <U> The element type of the new stream.
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see DoubleStream#mapToObj(DoubleFunction)
+     */
+    public <U> ThrowingStream<U, X> mapToObj(ThrowingDoubleFunction<? extends U, ? extends X> mapper) {
+        return ThrowingStream.of(stream.mapToObj(ThrowingDoubleFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns an {@code int} stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see DoubleStream#mapToInt(DoubleToIntFunction)
+     */
+    public ThrowingIntStream<X> mapToInt(ThrowingDoubleToIntFunction<? extends X> mapper) {
+        return ThrowingIntStream.of(stream.mapToInt(ThrowingDoubleToIntFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns a {@code long} stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see DoubleStream#mapToLong(DoubleToLongFunction)
+     */
+    public ThrowingLongStream<X> mapToLong(ThrowingDoubleToLongFunction<? extends X> mapper) {
+        return ThrowingLongStream.of(stream.mapToLong(ThrowingDoubleToLongFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns a stream consisting of the results of replacing each element of this stream with the contents of a mapped stream produced by applying
+     * the given function to each element. Each mapped stream is closed after its contents have been placed into this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see DoubleStream#flatMap(DoubleFunction)
+     */
+    public ThrowingDoubleStream<X> flatMap(ThrowingDoubleFunction<? extends DoubleStream, ? extends X> mapper) {
+        return new ThrowingDoubleStream<>(stream.flatMap(ThrowingDoubleFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns a stream consisting of the distinct elements of this stream.
+     *
+     * @return The new stream.
+     * @see DoubleStream#distinct()
+     */
+    public ThrowingDoubleStream<X> distinct() {
+        return new ThrowingDoubleStream<>(stream.distinct());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream in sorted order.
+     *
+     * @return The new stream.
+     * @see DoubleStream#sorted()
+     */
+    public ThrowingDoubleStream<X> sorted() {
+        return new ThrowingDoubleStream<>(stream.sorted());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, additionally performing the given action on each element as elements are consumed
+     * from the resulting stream.
+     *
+     * @param action The action to perform on the elements as they are consumed from the stream.
+     * @return The new stream.
+     * @throws NullPointerException If {@code action} is {@code null}.
+     * @see DoubleStream#peek(DoubleConsumer)
+     */
+    public ThrowingDoubleStream<X> peek(ThrowingDoubleConsumer<? extends X> action) {
+        return new ThrowingDoubleStream<>(stream.peek(ThrowingDoubleConsumer.sneaky(action)));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, truncated to be no longer than the given size.
+     *
+     * @param maxSize The number of elements the stream should be limited to.
+     * @return The new stream.
+     * @throws IllegalArgumentException If {@code maxSize} is negative.
+     * @see DoubleStream#limit(long)
+     */
+    public ThrowingDoubleStream<X> limit(long maxSize) {
+        return new ThrowingDoubleStream<>(stream.limit(maxSize));
+    }
+
+    /**
+     * Returns a stream consisting of the remaining elements of this stream after discarding the given number of elements.
+     *
+     * @param n The number of leading elements to skip.
+     * @return The new stream.
+     * @throws IllegalArgumentException If {@code n} is negative.
+     * @see DoubleStream#skip(long)
+     */
+    public ThrowingDoubleStream<X> skip(long n) {
+        return new ThrowingDoubleStream<>(stream.skip(n));
+    }
+
+    /**
+     * Returns a stream consisting of the longest prefix of elements of this stream that match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements to determine the longest prefix of elements.
+     * @return The new stream.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see DoubleStream#takeWhile(DoublePredicate)
+     */
+    public ThrowingDoubleStream<X> takeWhile(ThrowingDoublePredicate<? extends X> predicate) {
+        return new ThrowingDoubleStream<>(stream.takeWhile(ThrowingDoublePredicate.sneaky(predicate)));
+    }
+
+    /**
+     * Returns a stream consisting of the remaining elements of this stream after dropping the longest prefix of elements that match the given
+     * predicate.
+     *
+     * @param predicate The predicate to apply to elements to determine the longest prefix of elements.
+     * @return The new stream.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see DoubleStream#dropWhile(DoublePredicate)
+     */
+    public ThrowingDoubleStream<X> dropWhile(ThrowingDoublePredicate<? extends X> predicate) {
+        return new ThrowingDoubleStream<>(stream.dropWhile(ThrowingDoublePredicate.sneaky(predicate)));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, each boxed to an {@code Double}.
+     *
+     * @return The new stream.
+     * @see DoubleStream#boxed()
+     */
+    public ThrowingStream<Double, X> boxed() {
+        return ThrowingStream.of(stream.boxed());
+    }
+
+    /**
+     * Returns an equivalent stream that is sequential.
+     *
+     * @return A sequential stream.
+     * @see DoubleStream#sequential()
+     */
+    public ThrowingDoubleStream<X> sequential() {
+        return new ThrowingDoubleStream<>(stream.sequential());
+    }
+
+    /**
+     * Returns an equivalent stream that is parallel.
+     *
+     * @return A parallel stream.
+     * @see DoubleStream#parallel()
+     */
+    public ThrowingDoubleStream<X> parallel() {
+        return new ThrowingDoubleStream<>(stream.parallel());
+    }
+
+    /**
+     * Returns an equivalent stream that is unordered.
+     *
+     * @return An unordered stream.
+     * @see DoubleStream#unordered()
+     */
+    public ThrowingDoubleStream<X> unordered() {
+        return new ThrowingDoubleStream<>(stream.unordered());
+    }
+
+    /**
+     * Returns an equivalent stream with an additional close handler.
+     *
+     * @param closeHandler A task to execute when the stream is closed.
+     * @return A stream with a handler that is run if the stream is closed.
+     * @throws NullPointerException If {@code closeHandler} is {@code null}.
+     * @see DoubleStream#onClose(Runnable)
+     */
+    public ThrowingDoubleStream<X> onClose(Runnable closeHandler) {
+        return new ThrowingDoubleStream<>(stream.onClose(closeHandler));
+    }
+
+    /**
+     * Returns whether or not this stream would execute in parallel if a terminal operation were executed.
+     *
+     * @return {@code true} if this stream would execute in parallel if executed, or {@code false} otherwise.
+     * @see DoubleStream#isParallel()
+     */
+    public boolean isParallel() {
+        return stream.isParallel();
+    }
+
+    // terminal operations
+
+    /**
+     * Performs an action for each element of this stream.
+     *
+     * @param action The action to perform on the elements.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code action} is {@code null}.
+     * @see DoubleStream#forEach(DoubleConsumer)
+     */
+    public void forEach(ThrowingDoubleConsumer<? extends X> action) throws X {
+        stream.forEach(ThrowingDoubleConsumer.sneaky(action));
+    }
+
+    /**
+     * Performs an action for each element of this stream, in the encounter order of the stream if the stream has a defined encounter order.
+     *
+     * @param action The action to perform on the elements.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code action} is {@code null}.
+     * @see DoubleStream#forEachOrdered(DoubleConsumer)
+     */
+    public void forEachOrdered(ThrowingDoubleConsumer<? extends X> action) throws X {
+        stream.forEachOrdered(ThrowingDoubleConsumer.sneaky(action));
+    }
+
+    /**
+     * Returns an array containing the elements of this stream.
+     *
+     * @return An array containing the elements of this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see DoubleStream#toArray()
+     */
+    public double[] toArray() throws X {
+        return stream.toArray();
+    }
+
+    /**
+     * Performs a reduction on the elements of this stream, using the given identity value and accumulation function.
+     *
+     * @param identity The identity value for the accumulating function.
+     * @param accumulator The function for combining two values.
+     * @return The result of the reduction.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code accumulator} is {@code null}.
+     * @see DoubleStream#reduce(double, DoubleBinaryOperator)
+     */
+    public double reduce(double identity, ThrowingDoubleBinaryOperator<? extends X> accumulator) throws X {
+        return stream.reduce(identity, ThrowingDoubleBinaryOperator.sneaky(accumulator));
+    }
+
+    /**
+     * Performs a reduction on the elements of this stream, using the given accumulation function.
+     *
+     * @param accumulator The function for combining two values.
+     * @return An {@link OptionalDouble} describing the result of the reduction.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code accumulator} is {@code null}.
+     * @see DoubleStream#reduce(DoubleBinaryOperator)
+     */
+    public OptionalDouble reduce(ThrowingDoubleBinaryOperator<? extends X> accumulator) throws X {
+        return stream.reduce(ThrowingDoubleBinaryOperator.sneaky(accumulator));
+    }
+
+    /**
+     * Performs a mutable reduction on the elements of this stream.
+     *
+     * @param <R> The type of the mutable result container.
+     * @param supplier A function that creates a new mutable result container.
+     * @param accumulator A function that folds an element into a result container.
+     * @param combiner A function that accepts two partial result containers and merges them, by folding the elements from the second result container
+     *                     into the first result container.
+     * @return The result of the reduction.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code supplier}, {@code accumulator} or {@code combiner} is {@code null}.
+     * @see DoubleStream#collect(java.util.function.Supplier, ObjDoubleConsumer, java.util.function.BiConsumer)
+     */
+    public <R> R collect(ThrowingSupplier<R, ? extends X> supplier, ThrowingObjDoubleConsumer<R, ? extends X> accumulator,
+            ThrowingBiConsumer<R, R, ? extends X> combiner) throws X {
+
+        return stream.collect(ThrowingSupplier.sneaky(supplier), ThrowingObjDoubleConsumer.sneaky(accumulator), ThrowingBiConsumer.sneaky(combiner));
+    }
+
+    /**
+     * Returns the sum of the elements of this stream.
+     *
+     * @return The sum of the elements of this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see DoubleStream#sum()
+     */
+    public double sum() throws X {
+        return stream.sum();
+    }
+
+    /**
+     * Returns the minimum element of this stream.
+     *
+     * @return An {@link OptionalDouble} containing the minimum element of this stream, or an empty {@link OptionalDouble} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see DoubleStream#min()
+     */
+    public OptionalDouble min() throws X {
+        return stream.min();
+    }
+
+    /**
+     * Returns the maximum element of this stream.
+     *
+     * @return An {@link OptionalDouble} containing the maximum element of this stream, or an empty {@link OptionalDouble} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see DoubleStream#max()
+     */
+    public OptionalDouble max() throws X {
+        return stream.max();
+    }
+
+    /**
+     * Returns the number of elements in this stream.
+     *
+     * @return The number of elements in this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see DoubleStream#count()
+     */
+    public long count() throws X {
+        return stream.count();
+    }
+
+    /**
+     * Returns the arithmetic mean of the elements of this stream.
+     *
+     * @return An {@link OptionalDouble} containing the average element of this stream, or an empty {@link OptionalDouble} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see DoubleStream#average()
+     */
+    public OptionalDouble average() throws X {
+        return stream.average();
+    }
+
+    /**
+     * Returns summary statistics about the elements of this stream.
+     *
+     * @return Summary statistics about the elements of this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see DoubleStream#summaryStatistics()
+     */
+    public DoubleSummaryStatistics summaryStatistics() throws X {
+        return stream.summaryStatistics();
+    }
+
+    /**
+     * Returns whether or not any elements of this stream match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements of this stream.
+     * @return {@code true} if any elements of the stream match the given predicate, or {@code false} otherwise.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see DoubleStream#anyMatch(DoublePredicate)
+     */
+    public boolean anyMatch(ThrowingDoublePredicate<? extends X> predicate) throws X {
+        return stream.anyMatch(ThrowingDoublePredicate.sneaky(predicate));
+    }
+
+    /**
+     * Returns whether or not all elements of this stream match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements of this stream.
+     * @return {@code true} if all elements of the stream match the given predicate or the stream is empty, or {@code false} otherwise.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see DoubleStream#allMatch(DoublePredicate)
+     */
+    public boolean allMatch(ThrowingDoublePredicate<? extends X> predicate) throws X {
+        return stream.allMatch(ThrowingDoublePredicate.sneaky(predicate));
+    }
+
+    /**
+     * Returns whether or not no elements of this stream match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements of this stream.
+     * @return {@code true} if no elements of the stream match the given predicate or the stream is empty, or {@code false} otherwise.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see DoubleStream#noneMatch(DoublePredicate)
+     */
+    public boolean noneMatch(ThrowingDoublePredicate<? extends X> predicate) throws X {
+        return stream.noneMatch(ThrowingDoublePredicate.sneaky(predicate));
+    }
+
+    /**
+     * Returns the first element of this stream.
+     *
+     * @return An {@link OptionalDouble} describing the first element of this stream, or an empty {@link OptionalDouble} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see DoubleStream#findFirst()
+     */
+    public OptionalDouble findFirst() throws X {
+        return stream.findFirst();
+    }
+
+    /**
+     * Returns any element of this stream.
+     *
+     * @return An {@link OptionalDouble} describing some element of this stream, or an empty {@link OptionalDouble} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see DoubleStream#findAny()
+     */
+    public OptionalDouble findAny() throws X {
+        return stream.findAny();
+    }
+
+    /**
+     * Closes this stream, causing all close handlers for this stream pipeline to be called.
+     *
+     * @see DoubleStream#close()
+     */
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
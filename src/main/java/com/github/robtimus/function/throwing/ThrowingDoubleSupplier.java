@@ -208,7 +208,94 @@ public interface ThrowingDoubleSupplier<X extends Throwable> {
      * @return A supplier that wraps any checked exception in an {@link UncheckedException}.
      */
     default DoubleSupplier unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return DoubleSupplierAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a supplier that applies this supplier to its input. Any checked exception thrown by this supplier is relayed to the caller as-is, even
+     * though the returned supplier does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(DoubleSupplier, Class)} to be able to catch the checked exception.
+     *
+     * @return A supplier that relays any checked exception as-is.
+     */
+    default DoubleSupplier sneaky() {
+        return DoubleSupplierAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a supplier that calls this supplier. Each invocation is recorded in the {@link InvocationRecorder} that the given registry returns for
+     * the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is obtained only once, so
+     * recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A supplier that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingDoubleSupplier<X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                double result = getAsDouble();
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier that calls this supplier. Only one in every {@code sampleRate} invocations per thread is timed; if it completes normally it
+     * is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number of invocations. Other
+     * invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that throw an exception or
+     * error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A supplier that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingDoubleSupplier<X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return () -> {
+            if (!sampler.sample()) {
+                try {
+                    return getAsDouble();
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                double result = getAsDouble();
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier that calls this supplier only once, and returns the result for all subsequent calls. If this supplier throws an exception,
+     * it is relayed to the caller and not cached; the next call to the returned supplier will call this supplier again.
+     * <p>
+     * The returned supplier is thread-safe. If it is called concurrently before the result has been computed, only one caller will call this supplier
+     * while the other callers wait for the result. Once the result has been computed, it is returned without locking.
+     *
+     * @return A supplier that calls this supplier only once.
+     */
+    default ThrowingDoubleSupplier<X> memoize() {
+        return MemoizingDoubleSupplier.of(this);
     }
 
     /**
@@ -237,6 +324,19 @@ public interface ThrowingDoubleSupplier<X extends Throwable> {
         return supplier.unchecked();
     }
 
+    /**
+     * Returns a supplier that calls the {@code supplier} supplier. Any checked exception thrown by the {@code supplier} supplier is relayed to the
+     * caller as-is, even though the returned supplier does not declare it.
+     *
+     * @param supplier The supplier to call when the returned supplier is invoked.
+     * @return A supplier that relays any checked exception as-is.
+     * @throws NullPointerException If {@code supplier} is {@code null}.
+     */
+    static DoubleSupplier sneaky(ThrowingDoubleSupplier<?> supplier) {
+        Objects.requireNonNull(supplier);
+        return supplier.sneaky();
+    }
+
     /**
      * Returns a supplier that calls the {@code supplier} supplier. Any unchecked exception thrown by the {@code supplier} supplier is relayed to the
      * caller. This method allows existing {@link DoubleSupplier} instances to be used where {@code ThrowingDoubleSupplier} is expected.
@@ -248,7 +348,7 @@ public interface ThrowingDoubleSupplier<X extends Throwable> {
      */
     static <X extends Throwable> ThrowingDoubleSupplier<X> checked(DoubleSupplier supplier) {
         Objects.requireNonNull(supplier);
-        return supplier::getAsDouble;
+        return DoubleSupplierAdapters.checked(supplier, null);
     }
 
     /**
@@ -262,17 +362,35 @@ public interface ThrowingDoubleSupplier<X extends Throwable> {
      * @throws NullPointerException If {@code supplier} or {@code errorType} is {@code null}.
      */
     static <X extends Throwable> ThrowingDoubleSupplier<X> checked(DoubleSupplier supplier, Class<X> errorType) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(errorType);
+        return DoubleSupplierAdapters.checked(supplier, errorType);
+    }
+
+    /**
+     * Returns a supplier that calls the {@code supplier} supplier. Any checked exception thrown by the {@code supplier} supplier is relayed to the
+     * caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This allows checked exceptions that
+     * are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param supplier The supplier to call when the returned supplier is invoked.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A supplier that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code supplier} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingDoubleSupplier<X> catching(DoubleSupplier supplier, Class<X> errorType) {
         Objects.requireNonNull(supplier);
         Objects.requireNonNull(errorType);
         return () -> {
             try {
                 return supplier.getAsDouble();
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, supplier);
             }
         };
     }
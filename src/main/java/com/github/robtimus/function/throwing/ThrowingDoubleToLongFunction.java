@@ -42,6 +42,23 @@ public interface ThrowingDoubleToLongFunction<X extends Throwable> {
      */
     long applyAsLong(double value) throws X;
 
+    /**
+     * Returns a composed function that first applies this function to its input, and then applies the {@code after} operator to the result.
+     * If evaluation of either the function or the operator throws an exception, it is relayed to the caller of the composed function.
+     * Unlike composing {@link ThrowingFunction ThrowingFunctions}, intermediate values are not boxed.
+     *
+     * @param after The operator to apply after this function is applied.
+     * @return A composed function that first applies this function and then applies the {@code after} operator.
+     * @throws NullPointerException If {@code after} is {@code null}.
+     */
+    default ThrowingDoubleToLongFunction<X> andThen(ThrowingLongUnaryOperator<? extends X> after) {
+        Objects.requireNonNull(after);
+        if (KnownFunctions.isLongIdentity(after)) {
+            return this;
+        }
+        return value -> after.applyAsLong(applyAsLong(value));
+    }
+
     /**
      * Returns a function that applies this function to its input. Any checked exception thrown by this function is transformed using the given error
      * mapper, and the returned function throws the transformation result.
@@ -253,7 +270,104 @@ public interface ThrowingDoubleToLongFunction<X extends Throwable> {
      * @return A function that wraps any checked exception in an {@link UncheckedException}.
      */
     default DoubleToLongFunction unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return DoubleToLongFunctionAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Any checked exception thrown by this function is relayed to the caller as-is, even
+     * though the returned function does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(DoubleToLongFunction, Class)} to be able to catch the checked exception.
+     *
+     * @return A function that relays any checked exception as-is.
+     */
+    default DoubleToLongFunction sneaky() {
+        return DoubleToLongFunctionAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A function that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingDoubleToLongFunction<X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                long result = applyAsLong(t);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A function that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingDoubleToLongFunction<X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            if (!sampler.sample()) {
+                try {
+                    return applyAsLong(t);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                long result = applyAsLong(t);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a function that caches the results of this function. The cache is not bounded, so this method should only be used if the number of
+     * different inputs is limited.
+     * <p>
+     * Inputs are stored in a primitive hash table, so looking up a cached result does not box the input, and does not lock. If this function throws
+     * an exception, it is relayed to the caller and not cached. The returned function is thread-safe. However, if it is called concurrently with the
+     * same input before a result has been cached, this function may be called more than once for that input; only the first result is cached. Inputs
+     * are compared like {@link Double#equals(Object)} does.
+     *
+     * @return A function that caches the results of this function.
+     */
+    default ThrowingDoubleToLongFunction<X> memoize() {
+        PrimitiveKeyCache cache = new PrimitiveKeyCache();
+        return value -> {
+            long key = Double.doubleToLongBits(value);
+            Object result = cache.get(key);
+            if (result == PrimitiveKeyCache.ABSENT) {
+                result = cache.putIfAbsent(key, applyAsLong(value));
+            }
+            return (long) result;
+        };
     }
 
     /**
@@ -282,6 +396,19 @@ public interface ThrowingDoubleToLongFunction<X extends Throwable> {
         return function.unchecked();
     }
 
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any checked exception thrown by the {@code function} function is
+     * relayed to the caller as-is, even though the returned function does not declare it.
+     *
+     * @param function The function to apply when the returned function is applied.
+     * @return A function that relays any checked exception as-is.
+     * @throws NullPointerException If {@code function} is {@code null}.
+     */
+    static DoubleToLongFunction sneaky(ThrowingDoubleToLongFunction<?> function) {
+        Objects.requireNonNull(function);
+        return function.sneaky();
+    }
+
     /**
      * Returns a function that applies the {@code function} function to its input. Any unchecked exception thrown by the {@code function} function is
      * relayed to the caller. This method allows existing {@link DoubleToLongFunction} instances to be used where {@code ThrowingDoubleToLongFunction}
@@ -294,7 +421,7 @@ public interface ThrowingDoubleToLongFunction<X extends Throwable> {
      */
     static <X extends Throwable> ThrowingDoubleToLongFunction<X> checked(DoubleToLongFunction function) {
         Objects.requireNonNull(function);
-        return function::applyAsLong;
+        return DoubleToLongFunctionAdapters.checked(function, null);
     }
 
     /**
@@ -308,17 +435,35 @@ public interface ThrowingDoubleToLongFunction<X extends Throwable> {
      * @throws NullPointerException If {@code function} or {@code errorType} is {@code null}.
      */
     static <X extends Throwable> ThrowingDoubleToLongFunction<X> checked(DoubleToLongFunction function, Class<X> errorType) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(errorType);
+        return DoubleToLongFunctionAdapters.checked(function, errorType);
+    }
+
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any checked exception thrown by the {@code function} function is
+     * relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This allows checked
+     * exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param function The function to apply when the returned function is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A function that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code function} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingDoubleToLongFunction<X> catching(DoubleToLongFunction function, Class<X> errorType) {
         Objects.requireNonNull(function);
         Objects.requireNonNull(errorType);
         return t -> {
             try {
                 return function.applyAsLong(t);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, function);
             }
         };
     }
@@ -42,6 +42,115 @@ public interface ThrowingDoubleUnaryOperator<X extends Throwable> {
      */
     double applyAsDouble(double operand) throws X;
 
+    /**
+     * Returns a composed operator that first applies the {@code before} operator to its input, and then applies this operator to the result.
+     * If evaluation of either operator throws an exception, it is relayed to the caller of the composed operator.
+     * Unlike composing {@link ThrowingFunction ThrowingFunctions}, intermediate values are not boxed.
+     *
+     * @param before The operator to apply before this operator is applied.
+     * @return A composed operator that first applies the {@code before} operator and then applies this operator.
+     * @throws NullPointerException If {@code before} is {@code null}.
+     * @see #andThen(ThrowingDoubleUnaryOperator)
+     */
+    default ThrowingDoubleUnaryOperator<X> compose(ThrowingDoubleUnaryOperator<? extends X> before) {
+        Objects.requireNonNull(before);
+        if (KnownFunctions.isDoubleIdentity(this)) {
+            // This cast is safe, because before throws no more than X
+            @SuppressWarnings("unchecked")
+            ThrowingDoubleUnaryOperator<X> result = (ThrowingDoubleUnaryOperator<X>) before;
+            return result;
+        }
+        if (KnownFunctions.isDoubleIdentity(before)) {
+            return this;
+        }
+        return operand -> applyAsDouble(before.applyAsDouble(operand));
+    }
+
+    /**
+     * Returns a composed operator that first applies this operator to its input, and then applies the {@code after} operator to the result.
+     * If evaluation of either operator throws an exception, it is relayed to the caller of the composed operator.
+     * Unlike composing {@link ThrowingFunction ThrowingFunctions}, intermediate values are not boxed.
+     *
+     * @param after The operator to apply after this operator is applied.
+     * @return A composed operator that first applies this operator and then applies the {@code after} operator.
+     * @throws NullPointerException If {@code after} is {@code null}.
+     * @see #compose(ThrowingDoubleUnaryOperator)
+     */
+    default ThrowingDoubleUnaryOperator<X> andThen(ThrowingDoubleUnaryOperator<? extends X> after) {
+        Objects.requireNonNull(after);
+        if (KnownFunctions.isDoubleIdentity(this)) {
+            // This cast is safe, because after throws no more than X
+            @SuppressWarnings("unchecked")
+            ThrowingDoubleUnaryOperator<X> result = (ThrowingDoubleUnaryOperator<X>) after;
+            return result;
+        }
+        if (KnownFunctions.isDoubleIdentity(after)) {
+            return this;
+        }
+        return operand -> after.applyAsDouble(applyAsDouble(operand));
+    }
+
+    /**
+     * Returns a composed function that first applies this operator to its input, and then applies the {@code after} function to the result.
+     * If evaluation of either the operator or the function throws an exception, it is relayed to the caller of the composed function.
+     * Unlike composing {@link ThrowingFunction ThrowingFunctions}, intermediate values are not boxed.
+     *
+     * @param after The function to apply after this operator is applied.
+     * @return A composed function that first applies this operator and then applies the {@code after} function.
+     * @throws NullPointerException If {@code after} is {@code null}.
+     */
+    default ThrowingDoubleToIntFunction<X> andThenToInt(ThrowingDoubleToIntFunction<? extends X> after) {
+        Objects.requireNonNull(after);
+        if (KnownFunctions.isDoubleIdentity(this)) {
+            // This cast is safe, because after throws no more than X
+            @SuppressWarnings("unchecked")
+            ThrowingDoubleToIntFunction<X> result = (ThrowingDoubleToIntFunction<X>) after;
+            return result;
+        }
+        return operand -> after.applyAsInt(applyAsDouble(operand));
+    }
+
+    /**
+     * Returns a composed function that first applies this operator to its input, and then applies the {@code after} function to the result.
+     * If evaluation of either the operator or the function throws an exception, it is relayed to the caller of the composed function.
+     * Unlike composing {@link ThrowingFunction ThrowingFunctions}, intermediate values are not boxed.
+     *
+     * @param after The function to apply after this operator is applied.
+     * @return A composed function that first applies this operator and then applies the {@code after} function.
+     * @throws NullPointerException If {@code after} is {@code null}.
+     */
+    default ThrowingDoubleToLongFunction<X> andThenToLong(ThrowingDoubleToLongFunction<? extends X> after) {
+        Objects.requireNonNull(after);
+        if (KnownFunctions.isDoubleIdentity(this)) {
+            // This cast is safe, because after throws no more than X
+            @SuppressWarnings("unchecked")
+            ThrowingDoubleToLongFunction<X> result = (ThrowingDoubleToLongFunction<X>) after;
+            return result;
+        }
+        return operand -> after.applyAsLong(applyAsDouble(operand));
+    }
+
+    /**
+     * Returns a composed function that first applies this operator to its input, and then applies the {@code after} function to the result.
+     * If evaluation of either the operator or the function throws an exception, it is relayed to the caller of the composed function.
+     * Only the final result is boxed, if needed.
+     *
+     * @param <R> The type of output of the {@code after} function, and of the composed function.
+     * @param after The function to apply after this operator is applied.
+     * @return A composed function that first applies this operator and then applies the {@code after} function.
+     * @throws NullPointerException If {@code after} is {@code null}.
+     */
+    default <R> ThrowingDoubleFunction<R, X> andThenToObj(ThrowingDoubleFunction<? extends R, ? extends X> after) {
+        Objects.requireNonNull(after);
+        if (KnownFunctions.isDoubleIdentity(this)) {
+            // This cast is safe, because after returns an instance of R and throws no more than X
+            @SuppressWarnings("unchecked")
+            ThrowingDoubleFunction<R, X> result = (ThrowingDoubleFunction<R, X>) after;
+            return result;
+        }
+        return operand -> after.apply(applyAsDouble(operand));
+    }
+
     /**
      * Returns a unary operator that applies this operator to its input. Any checked exception thrown by this operator is transformed using the given
      * error mapper, and the returned operator throws the transformation result.
@@ -253,7 +362,104 @@ public interface ThrowingDoubleUnaryOperator<X extends Throwable> {
      * @return A unary operator that wraps any checked exception in an {@link UncheckedException}.
      */
     default DoubleUnaryOperator unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return DoubleUnaryOperatorAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a unary operator that applies this operator to its input. Any checked exception thrown by this operator is relayed to the caller as-is,
+     * even though the returned unary operator does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(DoubleUnaryOperator, Class)} to be able to catch the checked exception.
+     *
+     * @return A unary operator that relays any checked exception as-is.
+     */
+    default DoubleUnaryOperator sneaky() {
+        return DoubleUnaryOperatorAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a unary operator that applies this operator to its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A unary that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingDoubleUnaryOperator<X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                double result = applyAsDouble(t);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a unary operator that applies this operator to its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A unary that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingDoubleUnaryOperator<X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            if (!sampler.sample()) {
+                try {
+                    return applyAsDouble(t);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                double result = applyAsDouble(t);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a operator that caches the results of this operator. The cache is not bounded, so this method should only be used if the number of
+     * different inputs is limited.
+     * <p>
+     * Inputs are stored in a primitive hash table, so looking up a cached result does not box the input, and does not lock. If this operator throws
+     * an exception, it is relayed to the caller and not cached. The returned operator is thread-safe. However, if it is called concurrently with the
+     * same input before a result has been cached, this operator may be called more than once for that input; only the first result is cached. Inputs
+     * are compared like {@link Double#equals(Object)} does.
+     *
+     * @return A operator that caches the results of this operator.
+     */
+    default ThrowingDoubleUnaryOperator<X> memoize() {
+        PrimitiveKeyCache cache = new PrimitiveKeyCache();
+        return operand -> {
+            long key = Double.doubleToLongBits(operand);
+            Object result = cache.get(key);
+            if (result == PrimitiveKeyCache.ABSENT) {
+                result = cache.putIfAbsent(key, applyAsDouble(operand));
+            }
+            return (double) result;
+        };
     }
 
     /**
@@ -273,10 +479,10 @@ public interface ThrowingDoubleUnaryOperator<X extends Throwable> {
      * Returns a unary operator that always returns its input argument.
      *
      * @param <X> The type of checked exception that can be thrown.
-     * @return A unary operator that always returns its input argument.
+     * @return A unary operator that always returns its input argument. This is always the same instance.
      */
     static <X extends Throwable> ThrowingDoubleUnaryOperator<X> identity() {
-        return t -> t;
+        return KnownFunctions.doubleIdentity();
     }
 
     /**
@@ -292,6 +498,19 @@ public interface ThrowingDoubleUnaryOperator<X extends Throwable> {
         return operator.unchecked();
     }
 
+    /**
+     * Returns a unary operator that applies the {@code operator} operator to its input. Any checked exception thrown by the {@code operator} operator
+     * is relayed to the caller as-is, even though the returned unary operator does not declare it.
+     *
+     * @param operator The operator to apply when the returned operator is applied.
+     * @return A unary operator that relays any checked exception as-is.
+     * @throws NullPointerException If {@code operator} is {@code null}.
+     */
+    static DoubleUnaryOperator sneaky(ThrowingDoubleUnaryOperator<?> operator) {
+        Objects.requireNonNull(operator);
+        return operator.sneaky();
+    }
+
     /**
      * Returns a unary operator that applies the {@code operator} operator to its input. Any unchecked exception thrown by the {@code operator}
      * operator is relayed to the caller. This method allows existing {@link DoubleUnaryOperator} instances to be used where
@@ -304,7 +523,7 @@ public interface ThrowingDoubleUnaryOperator<X extends Throwable> {
      */
     static <X extends Throwable> ThrowingDoubleUnaryOperator<X> checked(DoubleUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return operator::applyAsDouble;
+        return DoubleUnaryOperatorAdapters.checked(operator, null);
     }
 
     /**
@@ -318,17 +537,35 @@ public interface ThrowingDoubleUnaryOperator<X extends Throwable> {
      * @throws NullPointerException If {@code operator} or {@code errorType} is {@code null}.
      */
     static <X extends Throwable> ThrowingDoubleUnaryOperator<X> checked(DoubleUnaryOperator operator, Class<X> errorType) {
+        Objects.requireNonNull(operator);
+        Objects.requireNonNull(errorType);
+        return DoubleUnaryOperatorAdapters.checked(operator, errorType);
+    }
+
+    /**
+     * Returns a unary operator that applies the {@code operator} operator to its input. Any checked exception thrown by the {@code operator} operator
+     * is relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This allows
+     * checked exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operator The operator to apply when the returned operator is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A unary operator that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code operator} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingDoubleUnaryOperator<X> catching(DoubleUnaryOperator operator, Class<X> errorType) {
         Objects.requireNonNull(operator);
         Objects.requireNonNull(errorType);
         return t -> {
             try {
                 return operator.applyAsDouble(t);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, operator);
             }
         };
     }
@@ -0,0 +1,403 @@
+/*
+ * ThrowingFloatConsumer.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Represents an operation that accepts a single {@code float}-valued argument and returns no result.
+ * This is the primitive type specialization of {@link ThrowingConsumer} for {@code float}.
+ * <p>
+ * There is no equivalent of this interface in {@code java.util.function}. Methods that return an operation that cannot throw checked exceptions
+ * therefore return a {@code ThrowingFloatConsumer} with {@link RuntimeException} as its type of checked exception.
+ *
+ * @param <X> The type of checked exception that can be thrown.
+ */
+@FunctionalInterface
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+public interface ThrowingFloatConsumer<X extends Throwable> {
+
+    /**
+     * Performs this operation on the given argument.
+     *
+     * @param value The input argument.
+     * @throws X If an error occurs.
+     */
+    void accept(float value) throws X;
+
+    /**
+     * Returns a composed {@code ThrowingFloatConsumer} that performs, in sequence, this operation followed by the {@code after} operation.
+     * If performing either operation throws an exception, it is relayed to the caller of the composed operation.
+     * If performing this operation throws an exception, the {@code after} operation will not be performed.
+     *
+     * @param after The operation to perform after this operation.
+     * @return A composed {@code ThrowingFloatConsumer} that performs in sequence this operation followed by the {@code after} operation.
+     * @throws NullPointerException If {@code after} is {@code null}.
+     */
+    default ThrowingFloatConsumer<X> andThen(ThrowingFloatConsumer<? extends X> after) {
+        Objects.requireNonNull(after);
+        return t -> {
+            accept(t);
+            after.accept(t);
+        };
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Any checked exception thrown by this operation is transformed using the given
+     * error mapper, and the returned operation throws the transformation result.
+     *
+     * @param <E> The type of checked exception to transform to.
+     * @param errorMapper The function to use to transform any checked exception thrown by this operation.
+     * @return An operation that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorMapper} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingFloatConsumer<E> onErrorThrowAsChecked(Function<? super X, ? extends E> errorMapper) {
+        Objects.requireNonNull(errorMapper);
+        return t -> {
+            try {
+                accept(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                throw errorMapper.apply(x);
+            }
+        };
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Any checked exception thrown by this operation is transformed using the given
+     * error mapper, and the returned operation throws the transformation result.
+     *
+     * @param <E> The type of unchecked exception to transform to.
+     * @param errorMapper The function to use to transform any checked exception thrown by this operation.
+     * @return An operation that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorMapper} is {@code null}.
+     */
+    default <E extends RuntimeException> ThrowingFloatConsumer<RuntimeException> onErrorThrowAsUnchecked(
+            Function<? super X, ? extends E> errorMapper) {
+
+        Objects.requireNonNull(errorMapper);
+        return t -> {
+            try {
+                accept(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                throw errorMapper.apply(x);
+            }
+        };
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Any checked exception thrown by this operation is handled by the given error
+     * handler.
+     *
+     * @param <E> The type of checked exception that can be thrown by the given error handler.
+     * @param errorHandler The operation to perform on any checked exception thrown by this operation.
+     * @return An operation that handles any thrown checked exception.
+     * @throws NullPointerException If {@code errorHandler} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingFloatConsumer<E> onErrorHandleChecked(ThrowingConsumer<? super X, ? extends E> errorHandler) {
+        Objects.requireNonNull(errorHandler);
+        return t -> {
+            try {
+                accept(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                errorHandler.accept(x);
+            }
+        };
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Any checked exception thrown by this operation is handled by the given error
+     * handler.
+     *
+     * @param errorHandler The operation to perform on any checked exception thrown by this operation.
+     * @return An operation that handles any thrown checked exception.
+     * @throws NullPointerException If {@code errorHandler} is {@code null}.
+     */
+    default ThrowingFloatConsumer<RuntimeException> onErrorHandleUnchecked(Consumer<? super X> errorHandler) {
+        Objects.requireNonNull(errorHandler);
+        return t -> {
+            try {
+                accept(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                errorHandler.accept(x);
+            }
+        };
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. If this operation throws any checked exception, it is discarded and the given
+     * fallback operation is invoked.
+     *
+     * @param <E> The type of checked exception that can be thrown by the given fallback operation.
+     * @param fallback The operation to invoke if this operation throws any checked exception.
+     * @return An operation that invokes the {@code fallback} operation if this operation throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingFloatConsumer<E> onErrorAcceptChecked(ThrowingFloatConsumer<? extends E> fallback) {
+        Objects.requireNonNull(fallback);
+        return t -> {
+            try {
+                accept(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                fallback.accept(t);
+            }
+        };
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. If this operation throws any checked exception, it is discarded and the given
+     * fallback operation is invoked.
+     *
+     * @param fallback The operation to invoke if this operation throws any checked exception.
+     * @return An operation that invokes the {@code fallback} operation if this operation throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default ThrowingFloatConsumer<RuntimeException> onErrorAcceptUnchecked(ThrowingFloatConsumer<? extends RuntimeException> fallback) {
+        Objects.requireNonNull(fallback);
+        return t -> {
+            try {
+                accept(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                fallback.accept(t);
+            }
+        };
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Any checked exception thrown by this operation is discarded.
+     *
+     * @return An operation that discards any thrown checked exception.
+     */
+    default ThrowingFloatConsumer<RuntimeException> onErrorDiscard() {
+        return t -> {
+            try {
+                accept(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                // discard
+            }
+        };
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Any checked exception thrown by this operation is wrapped in an {@link
+     * UncheckedException} {@linkplain UncheckedException#withoutStackTrace(Throwable) without a stack trace}.
+     *
+     * @return An operation that wraps any checked exception in an {@link UncheckedException}.
+     */
+    default ThrowingFloatConsumer<RuntimeException> unchecked() {
+        return FloatConsumerAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Any checked exception thrown by this operation is relayed to the caller as-is,
+     * even though the returned operation does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an {@link
+     * UncheckedException}; use {@link #catching(ThrowingFloatConsumer, Class)} to be able to catch the checked exception.
+     *
+     * @return An operation that relays any checked exception as-is.
+     */
+    default ThrowingFloatConsumer<RuntimeException> sneaky() {
+        return FloatConsumerAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return An operation that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingFloatConsumer<X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                accept(t);
+                recorder.recordSuccess(System.nanoTime() - start);
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns an operation that performs this operation on its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return An operation that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingFloatConsumer<X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            if (!sampler.sample()) {
+                try {
+                    accept(t);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                accept(t);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Factory method for turning {@code ThrowingFloatConsumer}-shaped lambdas into {@code ThrowingFloatConsumers}.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operation The lambda to return as {@code ThrowingFloatConsumer}.
+     * @return The given lambda as a {@code ThrowingFloatConsumer}.
+     * @throws NullPointerException If {@code operation} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingFloatConsumer<X> of(ThrowingFloatConsumer<X> operation) {
+        Objects.requireNonNull(operation);
+        return operation;
+    }
+
+    /**
+     * Returns an operation that performs the {@code operation} operation on its input. Any checked exception thrown by the {@code operation}
+     * operation is wrapped in an {@link UncheckedException}.
+     *
+     * @param operation The operation to perform when the returned operation is performed.
+     * @return An operation that wraps any checked exception in an {@link UncheckedException}.
+     * @throws NullPointerException If {@code operation} is {@code null}.
+     */
+    static ThrowingFloatConsumer<RuntimeException> unchecked(ThrowingFloatConsumer<?> operation) {
+        Objects.requireNonNull(operation);
+        return operation.unchecked();
+    }
+
+    /**
+     * Returns an operation that performs the {@code operation} operation on its input. Any checked exception thrown by the {@code operation}
+     * operation is relayed to the caller as-is, even though the returned operation does not declare it.
+     *
+     * @param operation The operation to perform when the returned operation is performed.
+     * @return An operation that relays any checked exception as-is.
+     * @throws NullPointerException If {@code operation} is {@code null}.
+     */
+    static ThrowingFloatConsumer<RuntimeException> sneaky(ThrowingFloatConsumer<?> operation) {
+        Objects.requireNonNull(operation);
+        return operation.sneaky();
+    }
+
+    /**
+     * Returns an operation that performs the {@code operation} operation on its input. Any unchecked exception thrown by the {@code operation}
+     * operation is relayed to the caller. This method allows instances that only throw unchecked exceptions, like the result of {@link #unchecked()},
+     * to be used where {@code ThrowingFloatConsumer} is expected with any type of checked exception.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operation The operation to perform when the returned operation is performed.
+     * @return An operation that relays any unchecked exception.
+     * @throws NullPointerException If {@code operation} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingFloatConsumer<X> checked(ThrowingFloatConsumer<? extends RuntimeException> operation) {
+        Objects.requireNonNull(operation);
+        return FloatConsumerAdapters.checked(operation, null);
+    }
+
+    /**
+     * Returns an operation that performs the {@code operation} operation on its input. Any {@link UncheckedException} thrown by the {@code operation}
+     * operation is unwrapped if its cause is an instance of {@code errorType}, otherwise it is relayed to the caller.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operation The operation to perform when the returned operation is performed.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return An operation that unwraps any {@link UncheckedException} that wraps an instance of {@code errorType}.
+     * @throws NullPointerException If {@code operation} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingFloatConsumer<X> checked(ThrowingFloatConsumer<? extends RuntimeException> operation, Class<X> errorType) {
+        Objects.requireNonNull(operation);
+        Objects.requireNonNull(errorType);
+        return FloatConsumerAdapters.checked(operation, errorType);
+    }
+
+    /**
+     * Returns an operation that performs the {@code operation} operation on its input. Any checked exception thrown by the {@code operation}
+     * operation is relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This
+     * allows checked exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operation The operation to perform when the returned operation is performed.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return An operation that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code operation} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingFloatConsumer<X> catching(ThrowingFloatConsumer<? extends RuntimeException> operation, Class<X> errorType) {
+        Objects.requireNonNull(operation);
+        Objects.requireNonNull(errorType);
+        return t -> {
+            try {
+                operation.accept(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, operation);
+            }
+        };
+    }
+}
@@ -17,7 +17,13 @@
 
 package com.github.robtimus.function.throwing;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -54,7 +60,7 @@ public interface ThrowingFunction<T, R, X extends Throwable> {
      */
     default <V> ThrowingFunction<V, R, X> compose(ThrowingFunction<? super V, ? extends T, ? extends X> before) {
         Objects.requireNonNull(before);
-        return t -> apply(before.apply(t));
+        return CompositeFunction.of(before, this);
     }
 
     /**
@@ -69,7 +75,7 @@ public interface ThrowingFunction<T, R, X extends Throwable> {
      */
     default <V> ThrowingFunction<T, V, X> andThen(ThrowingFunction<? super R, ? extends V, ? extends X> after) {
         Objects.requireNonNull(after);
-        return t -> after.apply(apply(t));
+        return CompositeFunction.of(this, after);
     }
 
     /**
@@ -283,7 +289,242 @@ public interface ThrowingFunction<T, R, X extends Throwable> {
      * @return A function that wraps any checked exception in an {@link UncheckedException}.
      */
     default Function<T, R> unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return FunctionAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Any checked exception thrown by this function is relayed to the caller as-is, even
+     * though the returned function does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(Function, Class)} to be able to catch the checked exception.
+     *
+     * @return A function that relays any checked exception as-is.
+     */
+    default Function<T, R> sneaky() {
+        return FunctionAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A function that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingFunction<T, R, X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                R result = apply(t);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A function that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingFunction<T, R, X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            if (!sampler.sample()) {
+                try {
+                    return apply(t);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                R result = apply(t);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input, and retries if that fails with a checked exception.
+     * The given policy determines which checked exceptions cause a retry, how many attempts are made, and how long to wait before each retry.
+     * If no further attempt is made, the exception or error of the last attempt is rethrown, with the exceptions of all earlier attempts added as
+     * suppressed exceptions.
+     * <p>
+     * The returned function only allocates objects once an attempt has failed; an invocation that succeeds the first time does not allocate anything.
+     * If the current thread is interrupted while waiting for a retry, the exception of the last attempt is rethrown as described above, and the
+     * interrupted status of the current thread is restored. The same happens if an attempt fails with an {@link InterruptedException} or
+     * {@link java.io.InterruptedIOException}; these are never retried.
+     *
+     * @param policy The policy that determines how to retry.
+     * @return A function that retries according to the given policy.
+     * @throws NullPointerException If {@code policy} is {@code null}.
+     */
+    default ThrowingFunction<T, R, X> retry(RetryPolicy policy) {
+        Objects.requireNonNull(policy);
+        return t -> {
+            long start = policy.start();
+            RetryPolicy.Retry retry = null;
+            while (true) {
+                try {
+                    return apply(t);
+                } catch (Throwable throwable) {
+                    retry = policy.retry(retry, start, throwable);
+                    if (retry == null) {
+                        throw throwable;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a function that caches the results of this function for a limited number of inputs. Inputs are compared using their
+     * {@link Object#equals(Object) equals} method; {@code null} inputs are supported.
+     * <p>
+     * If this function throws an exception, it is relayed to the caller as-is and not cached. The returned function is thread-safe, and calls this
+     * function at most once at the same time for equal inputs; other callers with an equal input will wait for the result, and get the same result
+     * or exception. Once a result has been cached, it is returned without locking.
+     * <p>
+     * If the cache is full, results are evicted using a segmented LRU policy that favours results that have been accessed more than once. This makes
+     * the cache resistant to scans of inputs that are used only once.
+     *
+     * @param maxSize The maximum number of results to cache.
+     * @return A function that caches the results of this function.
+     * @throws IllegalArgumentException If {@code maxSize} is not positive.
+     */
+    default ThrowingFunction<T, R, X> memoize(int maxSize) {
+        BoundedCache<T, R> cache = new BoundedCache<>(maxSize, null);
+        return t -> cache.get(t, this);
+    }
+
+    /**
+     * Returns a function that caches the results of this function for a limited number of inputs, and records cache statistics.
+     * This method is like {@link #memoize(int)}, but records cache hits, cache misses and evictions in the given {@link CacheStatistics}.
+     *
+     * @param maxSize The maximum number of results to cache.
+     * @param statistics The object to record cache statistics in.
+     * @return A function that caches the results of this function.
+     * @throws NullPointerException If {@code statistics} is {@code null}.
+     * @throws IllegalArgumentException If {@code maxSize} is not positive.
+     */
+    default ThrowingFunction<T, R, X> memoize(int maxSize, CacheStatistics statistics) {
+        Objects.requireNonNull(statistics);
+        BoundedCache<T, R> cache = new BoundedCache<>(maxSize, statistics);
+        return t -> cache.get(t, this);
+    }
+
+    /**
+     * Returns a function that caches the results of this function for a limited number of inputs, as well as checked exceptions thrown by this
+     * function. This method is like {@link #memoize(int)}, except that if this function throws a checked exception, the exception is cached for the
+     * given duration. Until it expires, calls with an equal input rethrow the cached exception without calling this function again. Cached exceptions
+     * count towards the maximum size. Unchecked exceptions are never cached.
+     *
+     * @param maxSize The maximum number of results and exceptions to cache.
+     * @param failureTimeToLive The duration for which checked exceptions are cached.
+     * @return A function that caches the results and checked exceptions of this function.
+     * @throws NullPointerException If {@code failureTimeToLive} is {@code null}.
+     * @throws IllegalArgumentException If {@code maxSize} or {@code failureTimeToLive} is not positive.
+     */
+    default ThrowingFunction<T, R, X> memoize(int maxSize, Duration failureTimeToLive) {
+        BoundedCache<T, R> cache = BoundedCache.withFailureCaching(maxSize, failureTimeToLive, null);
+        return t -> cache.get(t, this);
+    }
+
+    /**
+     * Returns a function that caches the results of this function for a limited number of inputs, as well as checked exceptions thrown by this
+     * function. This method is like {@link #memoize(int, Duration)}, except that cached exceptions are not rethrown themselves. Instead, each time a
+     * cached exception would be rethrown, the given copier is called and its result is thrown. This prevents callers in different threads from
+     * sharing the same exception instance, for instance when adding suppressed exceptions. To limit the cost of rethrowing cached exceptions, the
+     * copier can create exceptions without a stack trace.
+     *
+     * @param maxSize The maximum number of results and exceptions to cache.
+     * @param failureTimeToLive The duration for which checked exceptions are cached.
+     * @param failureCopier The function to call to create copies of cached exceptions.
+     * @return A function that caches the results and checked exceptions of this function.
+     * @throws NullPointerException If {@code failureTimeToLive} or {@code failureCopier} is {@code null}.
+     * @throws IllegalArgumentException If {@code maxSize} or {@code failureTimeToLive} is not positive.
+     */
+    default ThrowingFunction<T, R, X> memoize(int maxSize, Duration failureTimeToLive, Function<? super X, ? extends X> failureCopier) {
+        Objects.requireNonNull(failureCopier);
+        BoundedCache<T, R> cache = BoundedCache.withFailureCaching(maxSize, failureTimeToLive, failureCopier);
+        return t -> cache.get(t, this);
+    }
+
+    /**
+     * Returns a function that lets concurrent calls with equal inputs share a single invocation of this function. Inputs are compared using their
+     * {@link Object#equals(Object) equals} method; {@code null} inputs are supported.
+     * <p>
+     * If the returned function is called while a call with an equal input is in progress, it waits for that call to finish instead of calling this
+     * function again. It then returns the same result, or throws the same exception instance. Unlike {@link #memoize(int)}, nothing is retained once
+     * a call has finished; a call that starts after that will call this function again. Waiting does not pin the carrier thread of virtual threads.
+     *
+     * @return A function that coalesces concurrent calls with equal inputs.
+     */
+    default ThrowingFunction<T, R, X> coalescing() {
+        InFlightCalls<T, R> calls = new InFlightCalls<>();
+        return t -> calls.call(t, this);
+    }
+
+    /**
+     * Applies this function to each of the given inputs concurrently, and returns the results.
+     * <p>
+     * At most {@code maxConcurrency} calls of this function are in progress at the same time. Each call is performed in a new thread; on Java 21 and
+     * up these are virtual threads. The calling thread waits until all calls have finished.
+     * <p>
+     * As soon as any call throws an exception, no new calls are started, and the threads of calls that are still in progress are interrupted. After
+     * these calls have finished, the first exception that was thrown is relayed to the caller as-is. If the calling thread is interrupted while
+     * waiting, all calls are cancelled in the same way, and an {@link InterruptedException} is thrown once they have finished.
+     *
+     * @param inputs The inputs to apply this function to.
+     * @param maxConcurrency The maximum number of concurrent calls.
+     * @return An unmodifiable list with the results of applying this function to the given inputs, in the iteration order of the inputs.
+     * @throws X If this function throws an exception for any of the inputs.
+     * @throws InterruptedException If the calling thread is interrupted while waiting for the calls to finish.
+     * @throws NullPointerException If {@code inputs} is {@code null}.
+     * @throws IllegalArgumentException If {@code maxConcurrency} is not positive.
+     */
+    default List<R> applyAll(Collection<? extends T> inputs, int maxConcurrency) throws X, InterruptedException {
+        return ConcurrentApplier.applyAll(this, inputs, maxConcurrency);
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} that is completed by applying this function to the given argument using the given executor.
+     * <p>
+     * If this function throws an exception, including a checked exception, the returned future is completed exceptionally with that exception as-is.
+     * It is not wrapped in an {@link UncheckedException}, so {@link CompletableFuture#exceptionally(Function) exceptionally} and similar methods
+     * called on the returned future will receive it directly. Calling {@link CompletableFuture#cancel(boolean) cancel(true)} on the returned future
+     * interrupts the thread that is applying this function, if any; if the future is cancelled before this function is applied, it is not applied at
+     * all. Note that cancelling futures that depend on the returned future does not interrupt this function.
+     *
+     * @param t The function argument.
+     * @param executor The executor to use to apply this function.
+     * @return A {@link CompletableFuture} that is completed by applying this function to the given argument.
+     * @throws NullPointerException If {@code executor} is {@code null}.
+     */
+    default CompletableFuture<R> applyAsync(T t, Executor executor) {
+        return InterruptibleFuture.execute(() -> apply(t), executor);
     }
 
     /**
@@ -307,9 +548,43 @@ public interface ThrowingFunction<T, R, X extends Throwable> {
      * @param <T> The type of the input and output objects to the function.
      * @param <X> The type of checked exception that can be thrown.
      * @return A function that always returns its input argument.
+     *         This is always the same instance, and composing it with another function using {@link #andThen(ThrowingFunction)} or
+     *         {@link #compose(ThrowingFunction)} returns the other function.
      */
     static <T, X extends Throwable> ThrowingFunction<T, T, X> identity() {
-        return t -> t;
+        return KnownFunctions.identity();
+    }
+
+    /**
+     * Returns a function that groups concurrent calls into bulk calls of a loader function. Each call of the returned function adds its input to a
+     * queue. Inputs are then passed to the loader in batches of at most {@code maxBatchSize} distinct inputs. A batch is loaded as soon as it is
+     * full, or when {@code maxDelay} has passed since it started collecting inputs, whichever comes first.
+     * <p>
+     * Batches are loaded in the threads of the callers; no background threads are used. One caller at a time collects a batch and then calls the
+     * loader; once it has taken its batch from the queue, the next caller in the queue starts collecting the next batch. The queue can contain at
+     * most {@code maxQueueSize} inputs; callers that find the queue full wait until there is room. Waiting does not pin the carrier thread of virtual
+     * threads.
+     * <p>
+     * Each call returns the value that the loader returned for its input, or {@code null} if the loader returned no value for it. If the loader
+     * throws an exception, each call in the batch throws that same exception instance.
+     *
+     * @param <K> The type of the input to the function.
+     * @param <V> The type of the result of the function.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param loader The function to load the results for a batch of inputs.
+     * @param maxBatchSize The maximum number of distinct inputs to pass to the loader at once.
+     * @param maxDelay The maximum time to wait for a batch to become full.
+     * @param maxQueueSize The maximum number of inputs that can be waiting to be loaded.
+     * @return A function that groups concurrent calls into bulk calls of the given loader.
+     * @throws NullPointerException If {@code loader} or {@code maxDelay} is {@code null}.
+     * @throws IllegalArgumentException If {@code maxBatchSize} is not positive, {@code maxDelay} is negative,
+     *             or {@code maxQueueSize} is smaller than {@code maxBatchSize}.
+     */
+    static <K, V, X extends Throwable> ThrowingFunction<K, V, X> batching(
+            ThrowingFunction<? super List<K>, ? extends Map<? extends K, ? extends V>, ? extends X> loader,
+            int maxBatchSize, Duration maxDelay, int maxQueueSize) {
+
+        return new BatchingFunction<>(loader, maxBatchSize, maxDelay, maxQueueSize);
     }
 
     /**
@@ -328,6 +603,22 @@ public interface ThrowingFunction<T, R, X extends Throwable> {
         return (Function<T, R>) function.unchecked();
     }
 
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any checked exception thrown by the {@code function} function is
+     * relayed to the caller as-is, even though the returned function does not declare it.
+     *
+     * @param <T> The type of the input to the function.
+     * @param <R> The type of the result of the function.
+     * @param function The function to apply when the returned function is applied.
+     * @return A function that relays any checked exception as-is.
+     * @throws NullPointerException If {@code function} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R> Function<T, R> sneaky(ThrowingFunction<? super T, ? extends R, ?> function) {
+        Objects.requireNonNull(function);
+        return (Function<T, R>) function.sneaky();
+    }
+
     /**
      * Returns a function that applies the {@code function} function to its input. Any unchecked exception thrown by the {@code function} function is
      * relayed to the caller. This method allows existing {@link Function} instances to be used where {@code ThrowingFunction} is expected.
@@ -341,7 +632,7 @@ public interface ThrowingFunction<T, R, X extends Throwable> {
      */
     static <T, R, X extends Throwable> ThrowingFunction<T, R, X> checked(Function<? super T, ? extends R> function) {
         Objects.requireNonNull(function);
-        return function::apply;
+        return FunctionAdapters.checked(function, null);
     }
 
     /**
@@ -357,17 +648,37 @@ public interface ThrowingFunction<T, R, X extends Throwable> {
      * @throws NullPointerException If {@code function} or {@code errorType} is {@code null}.
      */
     static <T, R, X extends Throwable> ThrowingFunction<T, R, X> checked(Function<? super T, ? extends R> function, Class<X> errorType) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(errorType);
+        return FunctionAdapters.checked(function, errorType);
+    }
+
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any checked exception thrown by the {@code function} function is
+     * relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This allows checked
+     * exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <T> The type of the input to the function.
+     * @param <R> The type of the result of the function.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param function The function to apply when the returned function is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A function that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code function} or {@code errorType} is {@code null}.
+     */
+    static <T, R, X extends Throwable> ThrowingFunction<T, R, X> catching(Function<? super T, ? extends R> function, Class<X> errorType) {
         Objects.requireNonNull(function);
         Objects.requireNonNull(errorType);
         return t -> {
             try {
                 return function.apply(t);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, function);
             }
         };
     }
@@ -0,0 +1,521 @@
+/*
+ * ThrowingIntStream.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.IntSummaryStatistics;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * A wrapper around an {@link IntStream} that allows its operations to throw checked exceptions.
+ * This is the {@code int} primitive specialization of {@link ThrowingStream}; see there for more information.
+ *
+ * @param <X> The type of checked exception that can be thrown.
+ * @author Rob Spoor
+ */
+public final class ThrowingIntStream<X extends Throwable> implements AutoCloseable {
+
+    private final IntStream stream;
+
+    private ThrowingIntStream(IntStream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Returns a stream that wraps an existing {@link IntStream}. The existing stream should not be used after calling this method.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param stream The stream to wrap.
+     * @return A stream that wraps the given stream.
+     * @throws NullPointerException If {@code stream} is {@code null}.
+     */
+    public static <X extends Throwable> ThrowingIntStream<X> of(IntStream stream) {
+        Objects.requireNonNull(stream);
+        return new ThrowingIntStream<>(stream);
+    }
+
+    // intermediate operations
+
+    /**
+     * Returns a stream consisting of the elements of this stream that match the given predicate.
+     *
+     * @param predicate The predicate to apply to each element to determine if it should be included.
+     * @return The new stream.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see IntStream#filter(IntPredicate)
+     */
+    public ThrowingIntStream<X> filter(ThrowingIntPredicate<? extends X> predicate) {
+        return new ThrowingIntStream<>(stream.filter(ThrowingIntPredicate.sneaky(predicate)));
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see IntStream#map(IntUnaryOperator)
+     */
+    public ThrowingIntStream<X> map(ThrowingIntUnaryOperator<? extends X> mapper) {
+        return new ThrowingIntStream<>(stream.map(ThrowingIntUnaryOperator.sneaky(mapper)));
+    }
+
+    /**
+     * Returns an object-valued stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param <U> The element type of the new stream.
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see IntStream#mapToObj(IntFunction)
+     */
+    public <U> ThrowingStream<U, X> mapToObj(ThrowingIntFunction<? extends U, ? extends X> mapper) {
+        return ThrowingStream.of(stream.mapToObj(ThrowingIntFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns a {@code long} stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see IntStream#mapToLong(IntToLongFunction)
+     */
+    public ThrowingLongStream<X> mapToLong(ThrowingIntToLongFunction<? extends X> mapper) {
+        return ThrowingLongStream.of(stream.mapToLong(ThrowingIntToLongFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns a {@code double} stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see IntStream#mapToDouble(IntToDoubleFunction)
+     */
+    public ThrowingDoubleStream<X> mapToDouble(ThrowingIntToDoubleFunction<? extends X> mapper) {
+        return ThrowingDoubleStream.of(stream.mapToDouble(ThrowingIntToDoubleFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns a {@code long} stream consisting of the elements of this stream, converted to {@code long}.
+     *
+     * @return The new stream.
+     * @see IntStream#asLongStream()
+     */
+    public ThrowingLongStream<X> asLongStream() {
+        return ThrowingLongStream.of(stream.asLongStream());
+    }
+
+    /**
+     * Returns a {@code double} stream consisting of the elements of this stream, converted to {@code double}.
+     *
+     * @return The new stream.
+     * @see IntStream#asDoubleStream()
+     */
+    public ThrowingDoubleStream<X> asDoubleStream() {
+        return ThrowingDoubleStream.of(stream.asDoubleStream());
+    }
+
+    /**
+     * Returns a stream consisting of the results of replacing each element of this stream with the contents of a mapped stream produced by applying
+     * the given function to each element. Each mapped stream is closed after its contents have been placed into this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see IntStream#flatMap(IntFunction)
+     */
+    public ThrowingIntStream<X> flatMap(ThrowingIntFunction<? extends IntStream, ? extends X> mapper) {
+        return new ThrowingIntStream<>(stream.flatMap(ThrowingIntFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns a stream consisting of the distinct elements of this stream.
+     *
+     * @return The new stream.
+     * @see IntStream#distinct()
+     */
+    public ThrowingIntStream<X> distinct() {
+        return new ThrowingIntStream<>(stream.distinct());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream in sorted order.
+     *
+     * @return The new stream.
+     * @see IntStream#sorted()
+     */
+    public ThrowingIntStream<X> sorted() {
+        return new ThrowingIntStream<>(stream.sorted());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, additionally performing the given action on each element as elements are consumed
+     * from the resulting stream.
+     *
+     * @param action The action to perform on the elements as they are consumed from the stream.
+     * @return The new stream.
+     * @throws NullPointerException If {@code action} is {@code null}.
+     * @see IntStream#peek(IntConsumer)
+     */
+    public ThrowingIntStream<X> peek(ThrowingIntConsumer<? extends X> action) {
+        return new ThrowingIntStream<>(stream.peek(ThrowingIntConsumer.sneaky(action)));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, truncated to be no longer than the given size.
+     *
+     * @param maxSize The number of elements the stream should be limited to.
+     * @return The new stream.
+     * @throws IllegalArgumentException If {@code maxSize} is negative.
+     * @see IntStream#limit(long)
+     */
+    public ThrowingIntStream<X> limit(long maxSize) {
+        return new ThrowingIntStream<>(stream.limit(maxSize));
+    }
+
+    /**
+     * Returns a stream consisting of the remaining elements of this stream after discarding the given number of elements.
+     *
+     * @param n The number of leading elements to skip.
+     * @return The new stream.
+     * @throws IllegalArgumentException If {@code n} is negative.
+     * @see IntStream#skip(long)
+     */
+    public ThrowingIntStream<X> skip(long n) {
+        return new ThrowingIntStream<>(stream.skip(n));
+    }
+
+    /**
+     * Returns a stream consisting of the longest prefix of elements of this stream that match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements to determine the longest prefix of elements.
+     * @return The new stream.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see IntStream#takeWhile(IntPredicate)
+     */
+    public ThrowingIntStream<X> takeWhile(ThrowingIntPredicate<? extends X> predicate) {
+        return new ThrowingIntStream<>(stream.takeWhile(ThrowingIntPredicate.sneaky(predicate)));
+    }
+
+    /**
+     * Returns a stream consisting of the remaining elements of this stream after dropping the longest prefix of elements that match the given
+     * predicate.
+     *
+     * @param predicate The predicate to apply to elements to determine the longest prefix of elements.
+     * @return The new stream.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see IntStream#dropWhile(IntPredicate)
+     */
+    public ThrowingIntStream<X> dropWhile(ThrowingIntPredicate<? extends X> predicate) {
+        return new ThrowingIntStream<>(stream.dropWhile(ThrowingIntPredicate.sneaky(predicate)));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, each boxed to an {@code Integer}.
+     *
+     * @return The new stream.
+     * @see IntStream#boxed()
+     */
+    public ThrowingStream<Integer, X> boxed() {
+        return ThrowingStream.of(stream.boxed());
+    }
+
+    /**
+     * Returns an equivalent stream that is sequential.
+     *
+     * @return A sequential stream.
+     * @see IntStream#sequential()
+     */
+    public ThrowingIntStream<X> sequential() {
+        return new ThrowingIntStream<>(stream.sequential());
+    }
+
+    /**
+     * Returns an equivalent stream that is parallel.
+     *
+     * @return A parallel stream.
+     * @see IntStream#parallel()
+     */
+    public ThrowingIntStream<X> parallel() {
+        return new ThrowingIntStream<>(stream.parallel());
+    }
+
+    /**
+     * Returns an equivalent stream that is unordered.
+     *
+     * @return An unordered stream.
+     * @see IntStream#unordered()
+     */
+    public ThrowingIntStream<X> unordered() {
+        return new ThrowingIntStream<>(stream.unordered());
+    }
+
+    /**
+     * Returns an equivalent stream with an additional close handler.
+     *
+     * @param closeHandler A task to execute when the stream is closed.
+     * @return A stream with a handler that is run if the stream is closed.
+     * @throws NullPointerException If {@code closeHandler} is {@code null}.
+     * @see IntStream#onClose(Runnable)
+     */
+    public ThrowingIntStream<X> onClose(Runnable closeHandler) {
+        return new ThrowingIntStream<>(stream.onClose(closeHandler));
+    }
+
+    /**
+     * Returns whether or not this stream would execute in parallel if a terminal operation were executed.
+     *
+     * @return {@code true} if this stream would execute in parallel if executed, or {@code false} otherwise.
+     * @see IntStream#isParallel()
+     */
+    public boolean isParallel() {
+        return stream.isParallel();
+    }
+
+    // terminal operations
+
+    /**
+     * Performs an action for each element of this stream.
+     *
+     * @param action The action to perform on the elements.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code action} is {@code null}.
+     * @see IntStream#forEach(IntConsumer)
+     */
+    public void forEach(ThrowingIntConsumer<? extends X> action) throws X {
+        stream.forEach(ThrowingIntConsumer.sneaky(action));
+    }
+
+    /**
+     * Performs an action for each element of this stream, in the encounter order of the stream if the stream has a defined encounter order.
+     *
+     * @param action The action to perform on the elements.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code action} is {@code null}.
+     * @see IntStream#forEachOrdered(IntConsumer)
+     */
+    public void forEachOrdered(ThrowingIntConsumer<? extends X> action) throws X {
+        stream.forEachOrdered(ThrowingIntConsumer.sneaky(action));
+    }
+
+    /**
+     * Returns an array containing the elements of this stream.
+     *
+     * @return An array containing the elements of this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see IntStream#toArray()
+     */
+    public int[] toArray() throws X {
+        return stream.toArray();
+    }
+
+    /**
+     * Performs a reduction on the elements of this stream, using the given identity value and accumulation function.
+     *
+     * @param identity The identity value for the accumulating function.
+     * @param accumulator The function for combining two values.
+     * @return The result of the reduction.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code accumulator} is {@code null}.
+     * @see IntStream#reduce(int, IntBinaryOperator)
+     */
+    public int reduce(int identity, ThrowingIntBinaryOperator<? extends X> accumulator) throws X {
+        return stream.reduce(identity, ThrowingIntBinaryOperator.sneaky(accumulator));
+    }
+
+    /**
+     * Performs a reduction on the elements of this stream, using the given accumulation function.
+     *
+     * @param accumulator The function for combining two values.
+     * @return An {@link OptionalInt} describing the result of the reduction.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code accumulator} is {@code null}.
+     * @see IntStream#reduce(IntBinaryOperator)
+     */
+    public OptionalInt reduce(ThrowingIntBinaryOperator<? extends X> accumulator) throws X {
+        return stream.reduce(ThrowingIntBinaryOperator.sneaky(accumulator));
+    }
+
+    /**
+     * Performs a mutable reduction on the elements of this stream.
+     *
+     * @param <R> The type of the mutable result container.
+     * @param supplier A function that creates a new mutable result container.
+     * @param accumulator A function that folds an element into a result container.
+     * @param combiner A function that accepts two partial result containers and merges them, by folding the elements from the second result container
+     *                     into the first result container.
+     * @return The result of the reduction.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code supplier}, {@code accumulator} or {@code combiner} is {@code null}.
+     * @see IntStream#collect(java.util.function.Supplier, ObjIntConsumer, java.util.function.BiConsumer)
+     */
+    public <R> R collect(ThrowingSupplier<R, ? extends X> supplier, ThrowingObjIntConsumer<R, ? extends X> accumulator,
+            ThrowingBiConsumer<R, R, ? extends X> combiner) throws X {
+
+        return stream.collect(ThrowingSupplier.sneaky(supplier), ThrowingObjIntConsumer.sneaky(accumulator), ThrowingBiConsumer.sneaky(combiner));
+    }
+
+    /**
+     * Returns the sum of the elements of this stream.
+     *
+     * @return The sum of the elements of this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see IntStream#sum()
+     */
+    public int sum() throws X {
+        return stream.sum();
+    }
+
+    /**
+     * Returns the minimum element of this stream.
+     *
+     * @return An {@link OptionalInt} containing the minimum element of this stream, or an empty {@link OptionalInt} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see IntStream#min()
+     */
+    public OptionalInt min() throws X {
+        return stream.min();
+    }
+
+    /**
+     * Returns the maximum element of this stream.
+     *
+     * @return An {@link OptionalInt} containing the maximum element of this stream, or an empty {@link OptionalInt} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see IntStream#max()
+     */
+    public OptionalInt max() throws X {
+        return stream.max();
+    }
+
+    /**
+     * Returns the number of elements in this stream.
+     *
+     * @return The number of elements in this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see IntStream#count()
+     */
+    public long count() throws X {
+        return stream.count();
+    }
+
+    /**
+     * Returns the arithmetic mean of the elements of this stream.
+     *
+     * @return An {@link OptionalDouble} containing the average element of this stream, or an empty {@link OptionalDouble} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see IntStream#average()
+     */
+    public OptionalDouble average() throws X {
+        return stream.average();
+    }
+
+    /**
+     * Returns summary statistics about the elements of this stream.
+     *
+     * @return Summary statistics about the elements of this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see IntStream#summaryStatistics()
+     */
+    public IntSummaryStatistics summaryStatistics() throws X {
+        return stream.summaryStatistics();
+    }
+
+    /**
+     * Returns whether or not any elements of this stream match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements of this stream.
+     * @return {@code true} if any elements of the stream match the given predicate, or {@code false} otherwise.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see IntStream#anyMatch(IntPredicate)
+     */
+    public boolean anyMatch(ThrowingIntPredicate<? extends X> predicate) throws X {
+        return stream.anyMatch(ThrowingIntPredicate.sneaky(predicate));
+    }
+
+    /**
+     * Returns whether or not all elements of this stream match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements of this stream.
+     * @return {@code true} if all elements of the stream match the given predicate or the stream is empty, or {@code false} otherwise.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see IntStream#allMatch(IntPredicate)
+     */
+    public boolean allMatch(ThrowingIntPredicate<? extends X> predicate) throws X {
+        return stream.allMatch(ThrowingIntPredicate.sneaky(predicate));
+    }
+
+    /**
+     * Returns whether or not no elements of this stream match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements of this stream.
+     * @return {@code true} if no elements of the stream match the given predicate or the stream is empty, or {@code false} otherwise.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see IntStream#noneMatch(IntPredicate)
+     */
+    public boolean noneMatch(ThrowingIntPredicate<? extends X> predicate) throws X {
+        return stream.noneMatch(ThrowingIntPredicate.sneaky(predicate));
+    }
+
+    /**
+     * Returns the first element of this stream.
+     *
+     * @return An {@link OptionalInt} describing the first element of this stream, or an empty {@link OptionalInt} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see IntStream#findFirst()
+     */
+    public OptionalInt findFirst() throws X {
+        return stream.findFirst();
+    }
+
+    /**
+     * Returns any element of this stream.
+     *
+     * @return An {@link OptionalInt} describing some element of this stream, or an empty {@link OptionalInt} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see IntStream#findAny()
+     */
+    public OptionalInt findAny() throws X {
+        return stream.findAny();
+    }
+
+    /**
+     * Closes this stream, causing all close handlers for this stream pipeline to be called.
+     *
+     * @see IntStream#close()
+     */
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
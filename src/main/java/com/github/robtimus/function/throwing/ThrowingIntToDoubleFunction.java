@@ -42,6 +42,23 @@ public interface ThrowingIntToDoubleFunction<X extends Throwable> {
      */
     double applyAsDouble(int value) throws X;
 
+    /**
+     * Returns a composed function that first applies this function to its input, and then applies the {@code after} operator to the result.
+     * If evaluation of either the function or the operator throws an exception, it is relayed to the caller of the composed function.
+     * Unlike composing {@link ThrowingFunction ThrowingFunctions}, intermediate values are not boxed.
+     *
+     * @param after The operator to apply after this function is applied.
+     * @return A composed function that first applies this function and then applies the {@code after} operator.
+     * @throws NullPointerException If {@code after} is {@code null}.
+     */
+    default ThrowingIntToDoubleFunction<X> andThen(ThrowingDoubleUnaryOperator<? extends X> after) {
+        Objects.requireNonNull(after);
+        if (KnownFunctions.isDoubleIdentity(after)) {
+            return this;
+        }
+        return value -> after.applyAsDouble(applyAsDouble(value));
+    }
+
     /**
      * Returns a function that applies this function to its input. Any checked exception thrown by this function is transformed using the given error
      * mapper, and the returned function throws the transformation result.
@@ -253,7 +270,116 @@ public interface ThrowingIntToDoubleFunction<X extends Throwable> {
      * @return A function that wraps any checked exception in an {@link UncheckedException}.
      */
     default IntToDoubleFunction unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return IntToDoubleFunctionAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Any checked exception thrown by this function is relayed to the caller as-is, even
+     * though the returned function does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(IntToDoubleFunction, Class)} to be able to catch the checked exception.
+     *
+     * @return A function that relays any checked exception as-is.
+     */
+    default IntToDoubleFunction sneaky() {
+        return IntToDoubleFunctionAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A function that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingIntToDoubleFunction<X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                double result = applyAsDouble(t);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a function that applies this function to its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A function that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingIntToDoubleFunction<X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            if (!sampler.sample()) {
+                try {
+                    return applyAsDouble(t);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                double result = applyAsDouble(t);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a function that caches the results of this function. The cache is not bounded, so this method should only be used if the number of
+     * different inputs is limited.
+     * <p>
+     * Inputs are stored in a primitive hash table, so looking up a cached result does not box the input, and does not lock. If this function throws
+     * an exception, it is relayed to the caller and not cached. The returned function is thread-safe. However, if it is called concurrently with the
+     * same input before a result has been cached, this function may be called more than once for that input; only the first result is cached.
+     *
+     * @return A function that caches the results of this function.
+     */
+    default ThrowingIntToDoubleFunction<X> memoize() {
+        return memoizeDense(0);
+    }
+
+    /**
+     * Returns a function that caches the results of this function, optimized for small non-negative inputs. This method is like {@link #memoize()},
+     * except that results for inputs from {@code 0} (inclusive) to {@code denseSize} (exclusive) are stored in an array that is indexed by the input,
+     * so looking up such a cached result is a plain array read. This array is allocated immediately. Results for other inputs are cached like
+     * {@link #memoize()} does.
+     *
+     * @param denseSize The number of inputs, starting at {@code 0}, for which results are stored in an array.
+     * @return A function that caches the results of this function.
+     * @throws IllegalArgumentException If {@code denseSize} is negative.
+     */
+    default ThrowingIntToDoubleFunction<X> memoizeDense(int denseSize) {
+        PrimitiveKeyCache cache = new PrimitiveKeyCache(denseSize);
+        return value -> {
+            Object result = cache.get(value);
+            if (result == PrimitiveKeyCache.ABSENT) {
+                result = cache.putIfAbsent(value, applyAsDouble(value));
+            }
+            return (double) result;
+        };
     }
 
     /**
@@ -282,6 +408,19 @@ public interface ThrowingIntToDoubleFunction<X extends Throwable> {
         return function.unchecked();
     }
 
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any checked exception thrown by the {@code function} function is
+     * relayed to the caller as-is, even though the returned function does not declare it.
+     *
+     * @param function The function to apply when the returned function is applied.
+     * @return A function that relays any checked exception as-is.
+     * @throws NullPointerException If {@code function} is {@code null}.
+     */
+    static IntToDoubleFunction sneaky(ThrowingIntToDoubleFunction<?> function) {
+        Objects.requireNonNull(function);
+        return function.sneaky();
+    }
+
     /**
      * Returns a function that applies the {@code function} function to its input. Any unchecked exception thrown by the {@code function} function is
      * relayed to the caller. This method allows existing {@link IntToDoubleFunction} instances to be used where {@code ThrowingIntToDoubleFunction}
@@ -294,7 +433,7 @@ public interface ThrowingIntToDoubleFunction<X extends Throwable> {
      */
     static <X extends Throwable> ThrowingIntToDoubleFunction<X> checked(IntToDoubleFunction function) {
         Objects.requireNonNull(function);
-        return function::applyAsDouble;
+        return IntToDoubleFunctionAdapters.checked(function, null);
     }
 
     /**
@@ -308,17 +447,35 @@ public interface ThrowingIntToDoubleFunction<X extends Throwable> {
      * @throws NullPointerException If {@code function} or {@code errorType} is {@code null}.
      */
     static <X extends Throwable> ThrowingIntToDoubleFunction<X> checked(IntToDoubleFunction function, Class<X> errorType) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(errorType);
+        return IntToDoubleFunctionAdapters.checked(function, errorType);
+    }
+
+    /**
+     * Returns a function that applies the {@code function} function to its input. Any checked exception thrown by the {@code function} function is
+     * relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This allows checked
+     * exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param function The function to apply when the returned function is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A function that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code function} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingIntToDoubleFunction<X> catching(IntToDoubleFunction function, Class<X> errorType) {
         Objects.requireNonNull(function);
         Objects.requireNonNull(errorType);
         return t -> {
             try {
                 return function.applyAsDouble(t);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, function);
             }
         };
     }
@@ -42,6 +42,115 @@ public interface ThrowingIntUnaryOperator<X extends Throwable> {
      */
     int applyAsInt(int operand) throws X;
 
+    /**
+     * Returns a composed operator that first applies the {@code before} operator to its input, and then applies this operator to the result.
+     * If evaluation of either operator throws an exception, it is relayed to the caller of the composed operator.
+     * Unlike composing {@link ThrowingFunction ThrowingFunctions}, intermediate values are not boxed.
+     *
+     * @param before The operator to apply before this operator is applied.
+     * @return A composed operator that first applies the {@code before} operator and then applies this operator.
+     * @throws NullPointerException If {@code before} is {@code null}.
+     * @see #andThen(ThrowingIntUnaryOperator)
+     */
+    default ThrowingIntUnaryOperator<X> compose(ThrowingIntUnaryOperator<? extends X> before) {
+        Objects.requireNonNull(before);
+        if (KnownFunctions.isIntIdentity(this)) {
+            // This cast is safe, because before throws no more than X
+            @SuppressWarnings("unchecked")
+            ThrowingIntUnaryOperator<X> result = (ThrowingIntUnaryOperator<X>) before;
+            return result;
+        }
+        if (KnownFunctions.isIntIdentity(before)) {
+            return this;
+        }
+        return operand -> applyAsInt(before.applyAsInt(operand));
+    }
+
+    /**
+     * Returns a composed operator that first applies this operator to its input, and then applies the {@code after} operator to the result.
+     * If evaluation of either operator throws an exception, it is relayed to the caller of the composed operator.
+     * Unlike composing {@link ThrowingFunction ThrowingFunctions}, intermediate values are not boxed.
+     *
+     * @param after The operator to apply after this operator is applied.
+     * @return A composed operator that first applies this operator and then applies the {@code after} operator.
+     * @throws NullPointerException If {@code after} is {@code null}.
+     * @see #compose(ThrowingIntUnaryOperator)
+     */
+    default ThrowingIntUnaryOperator<X> andThen(ThrowingIntUnaryOperator<? extends X> after) {
+        Objects.requireNonNull(after);
+        if (KnownFunctions.isIntIdentity(this)) {
+            // This cast is safe, because after throws no more than X
+            @SuppressWarnings("unchecked")
+            ThrowingIntUnaryOperator<X> result = (ThrowingIntUnaryOperator<X>) after;
+            return result;
+        }
+        if (KnownFunctions.isIntIdentity(after)) {
+            return this;
+        }
+        return operand -> after.applyAsInt(applyAsInt(operand));
+    }
+
+    /**
+     * Returns a composed function that first applies this operator to its input, and then applies the {@code after} function to the result.
+     * If evaluation of either the operator or the function throws an exception, it is relayed to the caller of the composed function.
+     * Unlike composing {@link ThrowingFunction ThrowingFunctions}, intermediate values are not boxed.
+     *
+     * @param after The function to apply after this operator is applied.
+     * @return A composed function that first applies this operator and then applies the {@code after} function.
+     * @throws NullPointerException If {@code after} is {@code null}.
+     */
+    default ThrowingIntToLongFunction<X> andThenToLong(ThrowingIntToLongFunction<? extends X> after) {
+        Objects.requireNonNull(after);
+        if (KnownFunctions.isIntIdentity(this)) {
+            // This cast is safe, because after throws no more than X
+            @SuppressWarnings("unchecked")
+            ThrowingIntToLongFunction<X> result = (ThrowingIntToLongFunction<X>) after;
+            return result;
+        }
+        return operand -> after.applyAsLong(applyAsInt(operand));
+    }
+
+    /**
+     * Returns a composed function that first applies this operator to its input, and then applies the {@code after} function to the result.
+     * If evaluation of either the operator or the function throws an exception, it is relayed to the caller of the composed function.
+     * Unlike composing {@link ThrowingFunction ThrowingFunctions}, intermediate values are not boxed.
+     *
+     * @param after The function to apply after this operator is applied.
+     * @return A composed function that first applies this operator and then applies the {@code after} function.
+     * @throws NullPointerException If {@code after} is {@code null}.
+     */
+    default ThrowingIntToDoubleFunction<X> andThenToDouble(ThrowingIntToDoubleFunction<? extends X> after) {
+        Objects.requireNonNull(after);
+        if (KnownFunctions.isIntIdentity(this)) {
+            // This cast is safe, because after throws no more than X
+            @SuppressWarnings("unchecked")
+            ThrowingIntToDoubleFunction<X> result = (ThrowingIntToDoubleFunction<X>) after;
+            return result;
+        }
+        return operand -> after.applyAsDouble(applyAsInt(operand));
+    }
+
+    /**
+     * Returns a composed function that first applies this operator to its input, and then applies the {@code after} function to the result.
+     * If evaluation of either the operator or the function throws an exception, it is relayed to the caller of the composed function.
+     * Only the final result is boxed, if needed.
+     *
+     * @param <R> The type of output of the {@code after} function, and of the composed function.
+     * @param after The function to apply after this operator is applied.
+     * @return A composed function that first applies this operator and then applies the {@code after} function.
+     * @throws NullPointerException If {@code after} is {@code null}.
+     */
+    default <R> ThrowingIntFunction<R, X> andThenToObj(ThrowingIntFunction<? extends R, ? extends X> after) {
+        Objects.requireNonNull(after);
+        if (KnownFunctions.isIntIdentity(this)) {
+            // This cast is safe, because after returns an instance of R and throws no more than X
+            @SuppressWarnings("unchecked")
+            ThrowingIntFunction<R, X> result = (ThrowingIntFunction<R, X>) after;
+            return result;
+        }
+        return operand -> after.apply(applyAsInt(operand));
+    }
+
     /**
      * Returns a unary operator that applies this operator to its input. Any checked exception thrown by this operator is transformed using the given
      * error mapper, and the returned operator throws the transformation result.
@@ -253,7 +362,116 @@ public interface ThrowingIntUnaryOperator<X extends Throwable> {
      * @return A unary operator that wraps any checked exception in an {@link UncheckedException}.
      */
     default IntUnaryOperator unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return IntUnaryOperatorAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a unary operator that applies this operator to its input. Any checked exception thrown by this operator is relayed to the caller as-is,
+     * even though the returned unary operator does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(IntUnaryOperator, Class)} to be able to catch the checked exception.
+     *
+     * @return A unary operator that relays any checked exception as-is.
+     */
+    default IntUnaryOperator sneaky() {
+        return IntUnaryOperatorAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a unary operator that applies this operator to its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A unary that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingIntUnaryOperator<X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                int result = applyAsInt(t);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a unary operator that applies this operator to its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A unary that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingIntUnaryOperator<X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            if (!sampler.sample()) {
+                try {
+                    return applyAsInt(t);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                int result = applyAsInt(t);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a operator that caches the results of this operator. The cache is not bounded, so this method should only be used if the number of
+     * different inputs is limited.
+     * <p>
+     * Inputs are stored in a primitive hash table, so looking up a cached result does not box the input, and does not lock. If this operator throws
+     * an exception, it is relayed to the caller and not cached. The returned operator is thread-safe. However, if it is called concurrently with the
+     * same input before a result has been cached, this operator may be called more than once for that input; only the first result is cached.
+     *
+     * @return A operator that caches the results of this operator.
+     */
+    default ThrowingIntUnaryOperator<X> memoize() {
+        return memoizeDense(0);
+    }
+
+    /**
+     * Returns a operator that caches the results of this operator, optimized for small non-negative inputs. This method is like {@link #memoize()},
+     * except that results for inputs from {@code 0} (inclusive) to {@code denseSize} (exclusive) are stored in an array that is indexed by the input,
+     * so looking up such a cached result is a plain array read. This array is allocated immediately. Results for other inputs are cached like
+     * {@link #memoize()} does.
+     *
+     * @param denseSize The number of inputs, starting at {@code 0}, for which results are stored in an array.
+     * @return A operator that caches the results of this operator.
+     * @throws IllegalArgumentException If {@code denseSize} is negative.
+     */
+    default ThrowingIntUnaryOperator<X> memoizeDense(int denseSize) {
+        PrimitiveKeyCache cache = new PrimitiveKeyCache(denseSize);
+        return operand -> {
+            Object result = cache.get(operand);
+            if (result == PrimitiveKeyCache.ABSENT) {
+                result = cache.putIfAbsent(operand, applyAsInt(operand));
+            }
+            return (int) result;
+        };
     }
 
     /**
@@ -273,10 +491,10 @@ public interface ThrowingIntUnaryOperator<X extends Throwable> {
      * Returns a unary operator that always returns its input argument.
      *
      * @param <X> The type of checked exception that can be thrown.
-     * @return A unary operator that always returns its input argument.
+     * @return A unary operator that always returns its input argument. This is always the same instance.
      */
     static <X extends Throwable> ThrowingIntUnaryOperator<X> identity() {
-        return t -> t;
+        return KnownFunctions.intIdentity();
     }
 
     /**
@@ -292,6 +510,19 @@ public interface ThrowingIntUnaryOperator<X extends Throwable> {
         return operator.unchecked();
     }
 
+    /**
+     * Returns a unary operator that applies the {@code operator} operator to its input. Any checked exception thrown by the {@code operator} operator
+     * is relayed to the caller as-is, even though the returned unary operator does not declare it.
+     *
+     * @param operator The operator to apply when the returned operator is applied.
+     * @return A unary operator that relays any checked exception as-is.
+     * @throws NullPointerException If {@code operator} is {@code null}.
+     */
+    static IntUnaryOperator sneaky(ThrowingIntUnaryOperator<?> operator) {
+        Objects.requireNonNull(operator);
+        return operator.sneaky();
+    }
+
     /**
      * Returns a unary operator that applies the {@code operator} operator to its input. Any unchecked exception thrown by the {@code operator}
      * operator is relayed to the caller. This method allows existing {@link IntUnaryOperator} instances to be used where
@@ -304,7 +535,7 @@ public interface ThrowingIntUnaryOperator<X extends Throwable> {
      */
     static <X extends Throwable> ThrowingIntUnaryOperator<X> checked(IntUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return operator::applyAsInt;
+        return IntUnaryOperatorAdapters.checked(operator, null);
     }
 
     /**
@@ -318,17 +549,35 @@ public interface ThrowingIntUnaryOperator<X extends Throwable> {
      * @throws NullPointerException If {@code operator} or {@code errorType} is {@code null}.
      */
     static <X extends Throwable> ThrowingIntUnaryOperator<X> checked(IntUnaryOperator operator, Class<X> errorType) {
+        Objects.requireNonNull(operator);
+        Objects.requireNonNull(errorType);
+        return IntUnaryOperatorAdapters.checked(operator, errorType);
+    }
+
+    /**
+     * Returns a unary operator that applies the {@code operator} operator to its input. Any checked exception thrown by the {@code operator} operator
+     * is relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This allows
+     * checked exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operator The operator to apply when the returned operator is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A unary operator that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code operator} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingIntUnaryOperator<X> catching(IntUnaryOperator operator, Class<X> errorType) {
         Objects.requireNonNull(operator);
         Objects.requireNonNull(errorType);
         return t -> {
             try {
                 return operator.applyAsInt(t);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, operator);
             }
         };
     }
@@ -254,7 +254,81 @@ public interface ThrowingLongBinaryOperator<X extends Throwable> {
      * @return A binary operator that wraps any checked exception in an {@link UncheckedException}.
      */
     default LongBinaryOperator unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return LongBinaryOperatorAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a binary operator that applies this operator to its input. Any checked exception thrown by this operator is relayed to the caller
+     * as-is, even though the returned binary operator does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(LongBinaryOperator, Class)} to be able to catch the checked exception.
+     *
+     * @return A binary operator that relays any checked exception as-is.
+     */
+    default LongBinaryOperator sneaky() {
+        return LongBinaryOperatorAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a binary operator that applies this operator to its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A binary that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingLongBinaryOperator<X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            long start = System.nanoTime();
+            try {
+                long result = applyAsLong(t, u);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a binary operator that applies this operator to its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A binary that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingLongBinaryOperator<X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return (t, u) -> {
+            if (!sampler.sample()) {
+                try {
+                    return applyAsLong(t, u);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                long result = applyAsLong(t, u);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
     }
 
     /**
@@ -283,6 +357,19 @@ public interface ThrowingLongBinaryOperator<X extends Throwable> {
         return operator.unchecked();
     }
 
+    /**
+     * Returns a binary operator that applies the {@code operator} operator to its input. Any checked exception thrown by the {@code operator}
+     * operator is relayed to the caller as-is, even though the returned binary operator does not declare it.
+     *
+     * @param operator The operator to apply when the returned operator is applied.
+     * @return A binary operator that relays any checked exception as-is.
+     * @throws NullPointerException If {@code operator} is {@code null}.
+     */
+    static LongBinaryOperator sneaky(ThrowingLongBinaryOperator<?> operator) {
+        Objects.requireNonNull(operator);
+        return operator.sneaky();
+    }
+
     /**
      * Returns a binary operator that applies the {@code operator} operator to its input. Any unchecked exception thrown by the {@code operator}
      * operator is relayed to the caller. This method allows existing {@link LongBinaryOperator} instances to be used where
@@ -295,7 +382,7 @@ public interface ThrowingLongBinaryOperator<X extends Throwable> {
      */
     static <X extends Throwable> ThrowingLongBinaryOperator<X> checked(LongBinaryOperator operator) {
         Objects.requireNonNull(operator);
-        return operator::applyAsLong;
+        return LongBinaryOperatorAdapters.checked(operator, null);
     }
 
     /**
@@ -309,17 +396,35 @@ public interface ThrowingLongBinaryOperator<X extends Throwable> {
      * @throws NullPointerException If {@code operator} or {@code errorType} is {@code null}.
      */
     static <X extends Throwable> ThrowingLongBinaryOperator<X> checked(LongBinaryOperator operator, Class<X> errorType) {
+        Objects.requireNonNull(operator);
+        Objects.requireNonNull(errorType);
+        return LongBinaryOperatorAdapters.checked(operator, errorType);
+    }
+
+    /**
+     * Returns a binary operator that applies the {@code operator} operator to its input. Any checked exception thrown by the {@code operator}
+     * operator is relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This
+     * allows checked exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operator The operator to apply when the returned operator is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A binary operator that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code operator} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingLongBinaryOperator<X> catching(LongBinaryOperator operator, Class<X> errorType) {
         Objects.requireNonNull(operator);
         Objects.requireNonNull(errorType);
         return (t, u) -> {
             try {
                 return operator.applyAsLong(t, u);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, operator);
             }
         };
     }
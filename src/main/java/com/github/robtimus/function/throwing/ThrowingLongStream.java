@@ -0,0 +1,511 @@
+/*
+ * ThrowingLongStream.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.LongSummaryStatistics;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * A wrapper around a {@link LongStream} that allows its operations to throw checked exceptions.
+ * This is the {@code long} primitive specialization of {@link ThrowingStream}; see there for more information.
+ *
+ * @param <X> The type of checked exception that can be thrown.
+ * @author Rob Spoor
+ */
+public final class ThrowingLongStream<X extends Throwable> implements AutoCloseable {
+
+    private final LongStream stream;
+
+    private ThrowingLongStream(LongStream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Returns a stream that wraps an existing {@link LongStream}. The existing stream should not be used after calling this method.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param stream The stream to wrap.
+     * @return A stream that wraps the given stream.
+     * @throws NullPointerException If {@code stream} is {@code null}.
+     */
+    public static <X extends Throwable> ThrowingLongStream<X> of(LongStream stream) {
+        Objects.requireNonNull(stream);
+        return new ThrowingLongStream<>(stream);
+    }
+
+    // intermediate operations
+
+    /**
+     * Returns a stream consisting of the elements of this stream that match the given predicate.
+     *
+     * @param predicate The predicate to apply to each element to determine if it should be included.
+     * @return The new stream.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see LongStream#filter(LongPredicate)
+     */
+    public ThrowingLongStream<X> filter(ThrowingLongPredicate<? extends X> predicate) {
+        return new ThrowingLongStream<>(stream.filter(ThrowingLongPredicate.sneaky(predicate)));
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see LongStream#map(LongUnaryOperator)
+     */
+    public ThrowingLongStream<X> map(ThrowingLongUnaryOperator<? extends X> mapper) {
+        return new ThrowingLongStream<>(stream.map(ThrowingLongUnaryOperator.sneaky(mapper)));
+    }
+
+    /**
+     * Returns an object-valued stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param <U> The element type of the new stream.
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see LongStream#mapToObj(LongFunction)
+     */
+    public <U> ThrowingStream<U, X> mapToObj(ThrowingLongFunction<? extends U, ? extends X> mapper) {
+        return ThrowingStream.of(stream.mapToObj(ThrowingLongFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns an {@code int} stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see LongStream#mapToInt(LongToIntFunction)
+     */
+    public ThrowingIntStream<X> mapToInt(ThrowingLongToIntFunction<? extends X> mapper) {
+        return ThrowingIntStream.of(stream.mapToInt(ThrowingLongToIntFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns a {@code double} stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see LongStream#mapToDouble(LongToDoubleFunction)
+     */
+    public ThrowingDoubleStream<X> mapToDouble(ThrowingLongToDoubleFunction<? extends X> mapper) {
+        return ThrowingDoubleStream.of(stream.mapToDouble(ThrowingLongToDoubleFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns a {@code double} stream consisting of the elements of this stream, converted to {@code double}.
+     *
+     * @return The new stream.
+     * @see LongStream#asDoubleStream()
+     */
+    public ThrowingDoubleStream<X> asDoubleStream() {
+        return ThrowingDoubleStream.of(stream.asDoubleStream());
+    }
+
+    /**
+     * Returns a stream consisting of the results of replacing each element of this stream with the contents of a mapped stream produced by applying
+     * the given function to each element. Each mapped stream is closed after its contents have been placed into this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see LongStream#flatMap(LongFunction)
+     */
+    public ThrowingLongStream<X> flatMap(ThrowingLongFunction<? extends LongStream, ? extends X> mapper) {
+        return new ThrowingLongStream<>(stream.flatMap(ThrowingLongFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns a stream consisting of the distinct elements of this stream.
+     *
+     * @return The new stream.
+     * @see LongStream#distinct()
+     */
+    public ThrowingLongStream<X> distinct() {
+        return new ThrowingLongStream<>(stream.distinct());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream in sorted order.
+     *
+     * @return The new stream.
+     * @see LongStream#sorted()
+     */
+    public ThrowingLongStream<X> sorted() {
+        return new ThrowingLongStream<>(stream.sorted());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, additionally performing the given action on each element as elements are consumed
+     * from the resulting stream.
+     *
+     * @param action The action to perform on the elements as they are consumed from the stream.
+     * @return The new stream.
+     * @throws NullPointerException If {@code action} is {@code null}.
+     * @see LongStream#peek(LongConsumer)
+     */
+    public ThrowingLongStream<X> peek(ThrowingLongConsumer<? extends X> action) {
+        return new ThrowingLongStream<>(stream.peek(ThrowingLongConsumer.sneaky(action)));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, truncated to be no longer than the given size.
+     *
+     * @param maxSize The number of elements the stream should be limited to.
+     * @return The new stream.
+     * @throws IllegalArgumentException If {@code maxSize} is negative.
+     * @see LongStream#limit(long)
+     */
+    public ThrowingLongStream<X> limit(long maxSize) {
+        return new ThrowingLongStream<>(stream.limit(maxSize));
+    }
+
+    /**
+     * Returns a stream consisting of the remaining elements of this stream after discarding the given number of elements.
+     *
+     * @param n The number of leading elements to skip.
+     * @return The new stream.
+     * @throws IllegalArgumentException If {@code n} is negative.
+     * @see LongStream#skip(long)
+     */
+    public ThrowingLongStream<X> skip(long n) {
+        return new ThrowingLongStream<>(stream.skip(n));
+    }
+
+    /**
+     * Returns a stream consisting of the longest prefix of elements of this stream that match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements to determine the longest prefix of elements.
+     * @return The new stream.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see LongStream#takeWhile(LongPredicate)
+     */
+    public ThrowingLongStream<X> takeWhile(ThrowingLongPredicate<? extends X> predicate) {
+        return new ThrowingLongStream<>(stream.takeWhile(ThrowingLongPredicate.sneaky(predicate)));
+    }
+
+    /**
+     * Returns a stream consisting of the remaining elements of this stream after dropping the longest prefix of elements that match the given
+     * predicate.
+     *
+     * @param predicate The predicate to apply to elements to determine the longest prefix of elements.
+     * @return The new stream.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see LongStream#dropWhile(LongPredicate)
+     */
+    public ThrowingLongStream<X> dropWhile(ThrowingLongPredicate<? extends X> predicate) {
+        return new ThrowingLongStream<>(stream.dropWhile(ThrowingLongPredicate.sneaky(predicate)));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, each boxed to an {@code Long}.
+     *
+     * @return The new stream.
+     * @see LongStream#boxed()
+     */
+    public ThrowingStream<Long, X> boxed() {
+        return ThrowingStream.of(stream.boxed());
+    }
+
+    /**
+     * Returns an equivalent stream that is sequential.
+     *
+     * @return A sequential stream.
+     * @see LongStream#sequential()
+     */
+    public ThrowingLongStream<X> sequential() {
+        return new ThrowingLongStream<>(stream.sequential());
+    }
+
+    /**
+     * Returns an equivalent stream that is parallel.
+     *
+     * @return A parallel stream.
+     * @see LongStream#parallel()
+     */
+    public ThrowingLongStream<X> parallel() {
+        return new ThrowingLongStream<>(stream.parallel());
+    }
+
+    /**
+     * Returns an equivalent stream that is unordered.
+     *
+     * @return An unordered stream.
+     * @see LongStream#unordered()
+     */
+    public ThrowingLongStream<X> unordered() {
+        return new ThrowingLongStream<>(stream.unordered());
+    }
+
+    /**
+     * Returns an equivalent stream with an additional close handler.
+     *
+     * @param closeHandler A task to execute when the stream is closed.
+     * @return A stream with a handler that is run if the stream is closed.
+     * @throws NullPointerException If {@code closeHandler} is {@code null}.
+     * @see LongStream#onClose(Runnable)
+     */
+    public ThrowingLongStream<X> onClose(Runnable closeHandler) {
+        return new ThrowingLongStream<>(stream.onClose(closeHandler));
+    }
+
+    /**
+     * Returns whether or not this stream would execute in parallel if a terminal operation were executed.
+     *
+     * @return {@code true} if this stream would execute in parallel if executed, or {@code false} otherwise.
+     * @see LongStream#isParallel()
+     */
+    public boolean isParallel() {
+        return stream.isParallel();
+    }
+
+    // terminal operations
+
+    /**
+     * Performs an action for each element of this stream.
+     *
+     * @param action The action to perform on the elements.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code action} is {@code null}.
+     * @see LongStream#forEach(LongConsumer)
+     */
+    public void forEach(ThrowingLongConsumer<? extends X> action) throws X {
+        stream.forEach(ThrowingLongConsumer.sneaky(action));
+    }
+
+    /**
+     * Performs an action for each element of this stream, in the encounter order of the stream if the stream has a defined encounter order.
+     *
+     * @param action The action to perform on the elements.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code action} is {@code null}.
+     * @see LongStream#forEachOrdered(LongConsumer)
+     */
+    public void forEachOrdered(ThrowingLongConsumer<? extends X> action) throws X {
+        stream.forEachOrdered(ThrowingLongConsumer.sneaky(action));
+    }
+
+    /**
+     * Returns an array containing the elements of this stream.
+     *
+     * @return An array containing the elements of this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see LongStream#toArray()
+     */
+    public long[] toArray() throws X {
+        return stream.toArray();
+    }
+
+    /**
+     * Performs a reduction on the elements of this stream, using the given identity value and accumulation function.
+     *
+     * @param identity The identity value for the accumulating function.
+     * @param accumulator The function for combining two values.
+     * @return The result of the reduction.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code accumulator} is {@code null}.
+     * @see LongStream#reduce(long, LongBinaryOperator)
+     */
+    public long reduce(long identity, ThrowingLongBinaryOperator<? extends X> accumulator) throws X {
+        return stream.reduce(identity, ThrowingLongBinaryOperator.sneaky(accumulator));
+    }
+
+    /**
+     * Performs a reduction on the elements of this stream, using the given accumulation function.
+     *
+     * @param accumulator The function for combining two values.
+     * @return An {@link OptionalLong} describing the result of the reduction.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code accumulator} is {@code null}.
+     * @see LongStream#reduce(LongBinaryOperator)
+     */
+    public OptionalLong reduce(ThrowingLongBinaryOperator<? extends X> accumulator) throws X {
+        return stream.reduce(ThrowingLongBinaryOperator.sneaky(accumulator));
+    }
+
+    /**
+     * Performs a mutable reduction on the elements of this stream.
+     *
+     * @param <R> The type of the mutable result container.
+     * @param supplier A function that creates a new mutable result container.
+     * @param accumulator A function that folds an element into a result container.
+     * @param combiner A function that accepts two partial result containers and merges them, by folding the elements from the second result container
+     *                     into the first result container.
+     * @return The result of the reduction.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code supplier}, {@code accumulator} or {@code combiner} is {@code null}.
+     * @see LongStream#collect(java.util.function.Supplier, ObjLongConsumer, java.util.function.BiConsumer)
+     */
+    public <R> R collect(ThrowingSupplier<R, ? extends X> supplier, ThrowingObjLongConsumer<R, ? extends X> accumulator,
+            ThrowingBiConsumer<R, R, ? extends X> combiner) throws X {
+
+        return stream.collect(ThrowingSupplier.sneaky(supplier), ThrowingObjLongConsumer.sneaky(accumulator), ThrowingBiConsumer.sneaky(combiner));
+    }
+
+    /**
+     * Returns the sum of the elements of this stream.
+     *
+     * @return The sum of the elements of this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see LongStream#sum()
+     */
+    public long sum() throws X {
+        return stream.sum();
+    }
+
+    /**
+     * Returns the minimum element of this stream.
+     *
+     * @return An {@link OptionalLong} containing the minimum element of this stream, or an empty {@link OptionalLong} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see LongStream#min()
+     */
+    public OptionalLong min() throws X {
+        return stream.min();
+    }
+
+    /**
+     * Returns the maximum element of this stream.
+     *
+     * @return An {@link OptionalLong} containing the maximum element of this stream, or an empty {@link OptionalLong} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see LongStream#max()
+     */
+    public OptionalLong max() throws X {
+        return stream.max();
+    }
+
+    /**
+     * Returns the number of elements in this stream.
+     *
+     * @return The number of elements in this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see LongStream#count()
+     */
+    public long count() throws X {
+        return stream.count();
+    }
+
+    /**
+     * Returns the arithmetic mean of the elements of this stream.
+     *
+     * @return An {@link OptionalDouble} containing the average element of this stream, or an empty {@link OptionalDouble} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see LongStream#average()
+     */
+    public OptionalDouble average() throws X {
+        return stream.average();
+    }
+
+    /**
+     * Returns summary statistics about the elements of this stream.
+     *
+     * @return Summary statistics about the elements of this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see LongStream#summaryStatistics()
+     */
+    public LongSummaryStatistics summaryStatistics() throws X {
+        return stream.summaryStatistics();
+    }
+
+    /**
+     * Returns whether or not any elements of this stream match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements of this stream.
+     * @return {@code true} if any elements of the stream match the given predicate, or {@code false} otherwise.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see LongStream#anyMatch(LongPredicate)
+     */
+    public boolean anyMatch(ThrowingLongPredicate<? extends X> predicate) throws X {
+        return stream.anyMatch(ThrowingLongPredicate.sneaky(predicate));
+    }
+
+    /**
+     * Returns whether or not all elements of this stream match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements of this stream.
+     * @return {@code true} if all elements of the stream match the given predicate or the stream is empty, or {@code false} otherwise.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see LongStream#allMatch(LongPredicate)
+     */
+    public boolean allMatch(ThrowingLongPredicate<? extends X> predicate) throws X {
+        return stream.allMatch(ThrowingLongPredicate.sneaky(predicate));
+    }
+
+    /**
+     * Returns whether or not no elements of this stream match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements of this stream.
+     * @return {@code true} if no elements of the stream match the given predicate or the stream is empty, or {@code false} otherwise.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see LongStream#noneMatch(LongPredicate)
+     */
+    public boolean noneMatch(ThrowingLongPredicate<? extends X> predicate) throws X {
+        return stream.noneMatch(ThrowingLongPredicate.sneaky(predicate));
+    }
+
+    /**
+     * Returns the first element of this stream.
+     *
+     * @return An {@link OptionalLong} describing the first element of this stream, or an empty {@link OptionalLong} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see LongStream#findFirst()
+     */
+    public OptionalLong findFirst() throws X {
+        return stream.findFirst();
+    }
+
+    /**
+     * Returns any element of this stream.
+     *
+     * @return An {@link OptionalLong} describing some element of this stream, or an empty {@link OptionalLong} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see LongStream#findAny()
+     */
+    public OptionalLong findAny() throws X {
+        return stream.findAny();
+    }
+
+    /**
+     * Closes this stream, causing all close handlers for this stream pipeline to be called.
+     *
+     * @see LongStream#close()
+     */
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
@@ -18,6 +18,8 @@
 package com.github.robtimus.function.throwing;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -38,6 +40,32 @@ public interface ThrowingRunnable<X extends Throwable> {
      */
     void run() throws X;
 
+    /**
+     * Returns a composed {@code ThrowingRunnable} that performs, in sequence, this task followed by the {@code after} task.
+     * If performing either task throws an exception, it is relayed to the caller of the composed task.
+     * If performing this task throws an exception, the {@code after} task will not be performed.
+     *
+     * @param after The task to perform after this task.
+     * @return A composed {@code ThrowingRunnable} that performs in sequence this task followed by the {@code after} task.
+     * @throws NullPointerException If {@code after} is {@code null}.
+     */
+    default ThrowingRunnable<X> andThen(ThrowingRunnable<? extends X> after) {
+        Objects.requireNonNull(after);
+        if (KnownFunctions.isNoOp(this)) {
+            // This cast is safe, because after throws no more than X
+            @SuppressWarnings("unchecked")
+            ThrowingRunnable<X> result = (ThrowingRunnable<X>) after;
+            return result;
+        }
+        if (KnownFunctions.isNoOp(after)) {
+            return this;
+        }
+        return () -> {
+            run();
+            after.run();
+        };
+    }
+
     /**
      * Returns a task that performs this task. Any checked exception thrown by this task is transformed using the given error mapper, and the returned
      * task throws the transformation result.
@@ -200,7 +228,134 @@ public interface ThrowingRunnable<X extends Throwable> {
      * @return A task that wraps any checked exception in an {@link UncheckedException}.
      */
     default Runnable unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return RunnableAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a task that performs this task. Any checked exception thrown by this task is relayed to the caller as-is, even though the returned task
+     * does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an {@link UncheckedException}; use
+     * {@link #catching(Runnable, Class)} to be able to catch the checked exception.
+     *
+     * @return A task that relays any checked exception as-is.
+     */
+    default Runnable sneaky() {
+        return RunnableAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a task that performs this task. Each invocation is recorded in the {@link InvocationRecorder} that the given registry returns for the
+     * given name, including its duration and whether it completed normally or threw an exception or error. The recorder is obtained only once, so
+     * recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A task that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingRunnable<X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                run();
+                recorder.recordSuccess(System.nanoTime() - start);
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a task that performs this task. Only one in every {@code sampleRate} invocations per thread is timed; if it completes normally it is
+     * recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number of invocations. Other
+     * invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that throw an exception or
+     * error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A task that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingRunnable<X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return () -> {
+            if (!sampler.sample()) {
+                try {
+                    run();
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                run();
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a runnable that runs this runnable, and retries if that fails with a checked exception.
+     * The given policy determines which checked exceptions cause a retry, how many attempts are made, and how long to wait before each retry.
+     * If no further attempt is made, the exception or error of the last attempt is rethrown, with the exceptions of all earlier attempts added as
+     * suppressed exceptions.
+     * <p>
+     * The returned runnable only allocates objects once an attempt has failed; an invocation that succeeds the first time does not allocate anything.
+     * If the current thread is interrupted while waiting for a retry, the exception of the last attempt is rethrown as described above, and the
+     * interrupted status of the current thread is restored. The same happens if an attempt fails with an {@link InterruptedException} or
+     * {@link java.io.InterruptedIOException}; these are never retried.
+     *
+     * @param policy The policy that determines how to retry.
+     * @return A runnable that retries according to the given policy.
+     * @throws NullPointerException If {@code policy} is {@code null}.
+     */
+    default ThrowingRunnable<X> retry(RetryPolicy policy) {
+        Objects.requireNonNull(policy);
+        return () -> {
+            long start = policy.start();
+            RetryPolicy.Retry retry = null;
+            while (true) {
+                try {
+                    run();
+                    return;
+                } catch (Throwable throwable) {
+                    retry = policy.retry(retry, start, throwable);
+                    if (retry == null) {
+                        throw throwable;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} that is completed by performing this task using the given executor.
+     * <p>
+     * If this task throws an exception, including a checked exception, the returned future is completed exceptionally with that exception as-is.
+     * It is not wrapped in an {@link UncheckedException}, so {@link CompletableFuture#exceptionally(Function) exceptionally} and similar methods
+     * called on the returned future will receive it directly. Calling {@link CompletableFuture#cancel(boolean) cancel(true)} on the returned future
+     * interrupts the thread that is performing this task, if any; if the future is cancelled before this task is started, it is not performed at all.
+     * Note that cancelling futures that depend on the returned future does not interrupt this task.
+     *
+     * @param executor The executor to use to perform this task.
+     * @return A {@link CompletableFuture} that is completed by performing this task.
+     * @throws NullPointerException If {@code executor} is {@code null}.
+     */
+    default CompletableFuture<Void> runAsync(Executor executor) {
+        return InterruptibleFuture.execute(() -> {
+            run();
+            return null;
+        }, executor);
     }
 
     /**
@@ -216,6 +371,17 @@ public interface ThrowingRunnable<X extends Throwable> {
         return task;
     }
 
+    /**
+     * Returns a task that does nothing.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @return A task that does nothing. This is always the same instance, and composing it with another task using
+     *         {@link #andThen(ThrowingRunnable)} returns the other task.
+     */
+    static <X extends Throwable> ThrowingRunnable<X> noop() {
+        return KnownFunctions.noOpRunnable();
+    }
+
     /**
      * Returns a task that performs the {@code task} task. Any checked exception thrown by the {@code task} task is wrapped in an
      * {@link UncheckedException}.
@@ -229,6 +395,19 @@ public interface ThrowingRunnable<X extends Throwable> {
         return task.unchecked();
     }
 
+    /**
+     * Returns a task that performs the {@code task} task. Any checked exception thrown by the {@code task} task is relayed to the caller as-is, even
+     * though the returned task does not declare it.
+     *
+     * @param task The task to perform when the returned task is performed.
+     * @return A task that relays any checked exception as-is.
+     * @throws NullPointerException If {@code task} is {@code null}.
+     */
+    static Runnable sneaky(ThrowingRunnable<?> task) {
+        Objects.requireNonNull(task);
+        return task.sneaky();
+    }
+
     /**
      * Returns a task that performs the {@code task} task. Any checked exception thrown by the {@code task} task is relayed to the caller. This method
      * allows existing {@link Runnable} instances to be used where {@code ThrowingRunnable} is expected.
@@ -240,7 +419,7 @@ public interface ThrowingRunnable<X extends Throwable> {
      */
     static <X extends Throwable> ThrowingRunnable<X> checked(Runnable task) {
         Objects.requireNonNull(task);
-        return task::run;
+        return RunnableAdapters.checked(task, null);
     }
 
     /**
@@ -254,17 +433,35 @@ public interface ThrowingRunnable<X extends Throwable> {
      * @throws NullPointerException If {@code task} or {@code errorType} is {@code null}.
      */
     static <X extends Throwable> ThrowingRunnable<X> checked(Runnable task, Class<X> errorType) {
+        Objects.requireNonNull(task);
+        Objects.requireNonNull(errorType);
+        return RunnableAdapters.checked(task, errorType);
+    }
+
+    /**
+     * Returns a task that performs the {@code task} task. Any checked exception thrown by the {@code task} task is relayed to the caller if it is an
+     * instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This allows checked exceptions that are relayed as-is,
+     * for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param task The task to perform when the returned task is performed.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A task that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code task} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingRunnable<X> catching(Runnable task, Class<X> errorType) {
         Objects.requireNonNull(task);
         Objects.requireNonNull(errorType);
         return () -> {
             try {
                 task.run();
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, task);
             }
         };
     }
@@ -0,0 +1,390 @@
+/*
+ * ThrowingShortSupplier.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Represents a supplier of {@code short}-valued results.
+ * This is the {@code short}-producing primitive specialization of {@link ThrowingSupplier}.
+ * <p>
+ * There is no equivalent of this interface in {@code java.util.function}. Methods that return a supplier that cannot throw checked exceptions
+ * therefore return a {@code ThrowingShortSupplier} with {@link RuntimeException} as its type of checked exception.
+ *
+ * @param <X> The type of checked exception that can be thrown.
+ */
+@FunctionalInterface
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+public interface ThrowingShortSupplier<X extends Throwable> {
+
+    /**
+     * Gets a result.
+     *
+     * @return A result.
+     * @throws X If an error occurs.
+     */
+    short getAsShort() throws X;
+
+    /**
+     * Returns a supplier that calls this supplier. Any checked exception thrown by this supplier is transformed using the given error mapper, and the
+     * returned supplier throws the transformation result.
+     *
+     * @param <E> The type of checked exception to transform to.
+     * @param errorMapper The function to use to transform any checked exception thrown by this supplier.
+     * @return A supplier that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorMapper} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingShortSupplier<E> onErrorThrowAsChecked(Function<? super X, ? extends E> errorMapper) {
+        Objects.requireNonNull(errorMapper);
+        return () -> {
+            try {
+                return getAsShort();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                throw errorMapper.apply(x);
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier that calls this supplier. Any checked exception thrown by this supplier is transformed using the given error mapper, and the
+     * returned supplier throws the transformation result.
+     *
+     * @param <E> The type of unchecked exception to transform to.
+     * @param errorMapper The function to use to transform any checked exception thrown by this supplier.
+     * @return A supplier that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorMapper} is {@code null}.
+     */
+    default <E extends RuntimeException> ThrowingShortSupplier<RuntimeException> onErrorThrowAsUnchecked(
+            Function<? super X, ? extends E> errorMapper) {
+
+        Objects.requireNonNull(errorMapper);
+        return () -> {
+            try {
+                return getAsShort();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                throw errorMapper.apply(x);
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier that calls this supplier. Any checked exception thrown by this supplier is transformed using the given error handler, and
+     * the returned supplier returns the transformation result.
+     *
+     * @param <E> The type of checked exception that can be thrown by the given error handler.
+     * @param errorHandler The function to use to transform any checked exception thrown by this supplier.
+     * @return A supplier that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorHandler} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingShortSupplier<E> onErrorHandleChecked(ThrowingToShortFunction<? super X, ? extends E> errorHandler) {
+        Objects.requireNonNull(errorHandler);
+        return () -> {
+            try {
+                return getAsShort();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                return errorHandler.applyAsShort(x);
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier that calls this supplier. Any checked exception thrown by this supplier is transformed using the given error handler, and
+     * the returned supplier returns the transformation result.
+     *
+     * @param errorHandler The function to use to transform any checked exception thrown by this supplier.
+     * @return A supplier that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorHandler} is {@code null}.
+     */
+    default ThrowingShortSupplier<RuntimeException> onErrorHandleUnchecked(
+            ThrowingToShortFunction<? super X, ? extends RuntimeException> errorHandler) {
+
+        Objects.requireNonNull(errorHandler);
+        return () -> {
+            try {
+                return getAsShort();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                return errorHandler.applyAsShort(x);
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier that calls this supplier. If this supplier throws any checked exception, it is discarded and the given fallback supplier is
+     * invoked.
+     *
+     * @param <E> The type of checked exception that can be thrown by the given fallback supplier.
+     * @param fallback The supplier to produce the value to return if this supplier throws any checked exception.
+     * @return A supplier that invokes the {@code fallback} supplier if this supplier throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingShortSupplier<E> onErrorGetCheckedAsShort(ThrowingShortSupplier<? extends E> fallback) {
+        Objects.requireNonNull(fallback);
+        return () -> {
+            try {
+                return getAsShort();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback.getAsShort();
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier that calls this supplier. If this supplier throws any checked exception, it is discarded and the given fallback supplier is
+     * invoked.
+     *
+     * @param fallback The supplier to produce the value to return if this supplier throws any checked exception.
+     * @return A supplier that invokes the {@code fallback} supplier if this supplier throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default ThrowingShortSupplier<RuntimeException> onErrorGetUncheckedAsShort(ThrowingShortSupplier<? extends RuntimeException> fallback) {
+        Objects.requireNonNull(fallback);
+        return () -> {
+            try {
+                return getAsShort();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback.getAsShort();
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier that calls this supplier. If this supplier throws any checked exception, it is discarded and the given fallback value is
+     * returned.
+     *
+     * @param fallback The value to return if this supplier throws any checked exception.
+     * @return A supplier that returns the {@code fallback} value if this supplier throws any checked exception.
+     */
+    default ThrowingShortSupplier<RuntimeException> onErrorReturn(short fallback) {
+        return () -> {
+            try {
+                return getAsShort();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback;
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier that calls this supplier. Any checked exception thrown by this supplier is wrapped in an {@link UncheckedException}
+     * {@linkplain UncheckedException#withoutStackTrace(Throwable) without a stack trace}.
+     *
+     * @return A supplier that wraps any checked exception in an {@link UncheckedException}.
+     */
+    default ThrowingShortSupplier<RuntimeException> unchecked() {
+        return ShortSupplierAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a supplier that calls this supplier. Any checked exception thrown by this supplier is relayed to the caller as-is, even though the
+     * returned supplier does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an {@link UncheckedException}; use
+     * {@link #catching(ThrowingShortSupplier, Class)} to be able to catch the checked exception.
+     *
+     * @return A supplier that relays any checked exception as-is.
+     */
+    default ThrowingShortSupplier<RuntimeException> sneaky() {
+        return ShortSupplierAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a supplier that calls this supplier. Each invocation is recorded in the {@link InvocationRecorder} that the given registry returns for
+     * the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is obtained only once, so
+     * recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A supplier that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingShortSupplier<X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                short result = getAsShort();
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier that calls this supplier. Only one in every {@code sampleRate} invocations per thread is timed; if it completes normally it
+     * is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number of invocations. Other
+     * invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that throw an exception or
+     * error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A supplier that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingShortSupplier<X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return () -> {
+            if (!sampler.sample()) {
+                try {
+                    return getAsShort();
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                short result = getAsShort();
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Factory method for turning {@code ThrowingShortSupplier}-shaped lambdas into {@code ThrowingShortSuppliers}.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param supplier The lambda to return as {@code ThrowingShortSupplier}.
+     * @return The given lambda as a {@code ThrowingShortSupplier}.
+     * @throws NullPointerException If {@code supplier} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingShortSupplier<X> of(ThrowingShortSupplier<X> supplier) {
+        Objects.requireNonNull(supplier);
+        return supplier;
+    }
+
+    /**
+     * Returns a supplier that calls the {@code supplier} supplier. Any checked exception thrown by the {@code supplier} supplier is wrapped in an
+     * {@link UncheckedException}.
+     *
+     * @param supplier The supplier to call when the returned supplier is invoked.
+     * @return A supplier that wraps any checked exception in an {@link UncheckedException}.
+     * @throws NullPointerException If {@code supplier} is {@code null}.
+     */
+    static ThrowingShortSupplier<RuntimeException> unchecked(ThrowingShortSupplier<?> supplier) {
+        Objects.requireNonNull(supplier);
+        return supplier.unchecked();
+    }
+
+    /**
+     * Returns a supplier that calls the {@code supplier} supplier. Any checked exception thrown by the {@code supplier} supplier is relayed to the
+     * caller as-is, even though the returned supplier does not declare it.
+     *
+     * @param supplier The supplier to call when the returned supplier is invoked.
+     * @return A supplier that relays any checked exception as-is.
+     * @throws NullPointerException If {@code supplier} is {@code null}.
+     */
+    static ThrowingShortSupplier<RuntimeException> sneaky(ThrowingShortSupplier<?> supplier) {
+        Objects.requireNonNull(supplier);
+        return supplier.sneaky();
+    }
+
+    /**
+     * Returns a supplier that calls the {@code supplier} supplier. Any unchecked exception thrown by the {@code supplier} supplier is relayed to the
+     * caller. This method allows instances that only throw unchecked exceptions, like the result of {@link #unchecked()}, to be used where {@code
+     * ThrowingShortSupplier} is expected with any type of checked exception.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param supplier The supplier to call when the returned supplier is invoked.
+     * @return A supplier that relays any unchecked exception.
+     * @throws NullPointerException If {@code supplier} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingShortSupplier<X> checked(ThrowingShortSupplier<? extends RuntimeException> supplier) {
+        Objects.requireNonNull(supplier);
+        return ShortSupplierAdapters.checked(supplier, null);
+    }
+
+    /**
+     * Returns a supplier that calls the {@code supplier} supplier. Any {@link UncheckedException} thrown by the {@code supplier} supplier is
+     * unwrapped if its cause is an instance of {@code errorType}, otherwise it is relayed to the caller.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param supplier The supplier to call when the returned supplier is invoked.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A supplier that unwraps any {@link UncheckedException} that wraps an instance of {@code errorType}.
+     * @throws NullPointerException If {@code supplier} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingShortSupplier<X> checked(ThrowingShortSupplier<? extends RuntimeException> supplier, Class<X> errorType) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(errorType);
+        return ShortSupplierAdapters.checked(supplier, errorType);
+    }
+
+    /**
+     * Returns a supplier that calls the {@code supplier} supplier. Any checked exception thrown by the {@code supplier} supplier is relayed to the
+     * caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This allows checked exceptions that
+     * are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param supplier The supplier to call when the returned supplier is invoked.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A supplier that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code supplier} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingShortSupplier<X> catching(ThrowingShortSupplier<? extends RuntimeException> supplier, Class<X> errorType) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(errorType);
+        return () -> {
+            try {
+                return supplier.getAsShort();
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, supplier);
+            }
+        };
+    }
+}
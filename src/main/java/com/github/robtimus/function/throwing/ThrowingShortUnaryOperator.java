@@ -0,0 +1,464 @@
+/*
+ * ThrowingShortUnaryOperator.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Represents an operation on a single {@code short}-valued operand that produces a {@code short}-valued result.
+ * This is the primitive type specialization of {@link ThrowingUnaryOperator} for {@code short}.
+ * <p>
+ * There is no equivalent of this interface in {@code java.util.function}. Methods that return an operator that cannot throw checked exceptions
+ * therefore return a {@code ThrowingShortUnaryOperator} with {@link RuntimeException} as its type of checked exception.
+ *
+ * @param <X> The type of checked exception that can be thrown.
+ */
+@FunctionalInterface
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+public interface ThrowingShortUnaryOperator<X extends Throwable> {
+
+    /**
+     * Applies this operator to the given operand.
+     *
+     * @param operand The operand.
+     * @return The operator result.
+     * @throws X If an error occurs.
+     */
+    short applyAsShort(short operand) throws X;
+
+    /**
+     * Returns a composed operator that first applies the {@code before} operator to its input, and then applies this operator to the result.
+     * If evaluation of either operator throws an exception, it is relayed to the caller of the composed operator.
+     *
+     * @param before The operator to apply before this operator is applied.
+     * @return A composed operator that first applies the {@code before} operator and then applies this operator.
+     * @throws NullPointerException If {@code before} is {@code null}.
+     * @see #andThen(ThrowingShortUnaryOperator)
+     */
+    default ThrowingShortUnaryOperator<X> compose(ThrowingShortUnaryOperator<? extends X> before) {
+        Objects.requireNonNull(before);
+        return operand -> applyAsShort(before.applyAsShort(operand));
+    }
+
+    /**
+     * Returns a composed operator that first applies this operator to its input, and then applies the {@code after} operator to the result.
+     * If evaluation of either operator throws an exception, it is relayed to the caller of the composed operator.
+     *
+     * @param after The operator to apply after this operator is applied.
+     * @return A composed operator that first applies this operator and then applies the {@code after} operator.
+     * @throws NullPointerException If {@code after} is {@code null}.
+     * @see #compose(ThrowingShortUnaryOperator)
+     */
+    default ThrowingShortUnaryOperator<X> andThen(ThrowingShortUnaryOperator<? extends X> after) {
+        Objects.requireNonNull(after);
+        return operand -> after.applyAsShort(applyAsShort(operand));
+    }
+
+    /**
+     * Returns an operator that applies this operator to its input. Any checked exception thrown by this operator is transformed using the given error
+     * mapper, and the returned operator throws the transformation result.
+     *
+     * @param <E> The type of checked exception to transform to.
+     * @param errorMapper The function to use to transform any checked exception thrown by this operator.
+     * @return An operator that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorMapper} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingShortUnaryOperator<E> onErrorThrowAsChecked(Function<? super X, ? extends E> errorMapper) {
+        Objects.requireNonNull(errorMapper);
+        return t -> {
+            try {
+                return applyAsShort(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                throw errorMapper.apply(x);
+            }
+        };
+    }
+
+    /**
+     * Returns an operator that applies this operator to its input. Any checked exception thrown by this operator is transformed using the given error
+     * mapper, and the returned operator throws the transformation result.
+     *
+     * @param <E> The type of unchecked exception to transform to.
+     * @param errorMapper The function to use to transform any checked exception thrown by this operator.
+     * @return An operator that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorMapper} is {@code null}.
+     */
+    default <E extends RuntimeException> ThrowingShortUnaryOperator<RuntimeException> onErrorThrowAsUnchecked(
+            Function<? super X, ? extends E> errorMapper) {
+
+        Objects.requireNonNull(errorMapper);
+        return t -> {
+            try {
+                return applyAsShort(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                throw errorMapper.apply(x);
+            }
+        };
+    }
+
+    /**
+     * Returns an operator that applies this operator to its input. Any checked exception thrown by this operator is transformed using the given error
+     * handler, and the returned operator returns the transformation result.
+     *
+     * @param <E> The type of checked exception that can be thrown by the given error handler.
+     * @param errorHandler The function to use to transform any checked exception thrown by this operator.
+     * @return An operator that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorHandler} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingShortUnaryOperator<E> onErrorHandleChecked(ThrowingToShortFunction<? super X, ? extends E> errorHandler) {
+        Objects.requireNonNull(errorHandler);
+        return t -> {
+            try {
+                return applyAsShort(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                return errorHandler.applyAsShort(x);
+            }
+        };
+    }
+
+    /**
+     * Returns an operator that applies this operator to its input. Any checked exception thrown by this operator is transformed using the given error
+     * handler, and the returned operator returns the transformation result.
+     *
+     * @param errorHandler The function to use to transform any checked exception thrown by this operator.
+     * @return An operator that transforms any thrown checked exception.
+     * @throws NullPointerException If {@code errorHandler} is {@code null}.
+     */
+    default ThrowingShortUnaryOperator<RuntimeException> onErrorHandleUnchecked(
+            ThrowingToShortFunction<? super X, ? extends RuntimeException> errorHandler) {
+
+        Objects.requireNonNull(errorHandler);
+        return t -> {
+            try {
+                return applyAsShort(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                // This cast is safe, because only Error, RuntimeException (both handled above) and X can be thrown
+                @SuppressWarnings("unchecked")
+                X x = (X) throwable;
+                return errorHandler.applyAsShort(x);
+            }
+        };
+    }
+
+    /**
+     * Returns an operator that applies this operator to its input. If this operator throws any checked exception, it is discarded and the given
+     * fallback operator is invoked.
+     *
+     * @param <E> The type of checked exception that can be thrown by the given fallback operator.
+     * @param fallback The operator to invoke if this operator throws any checked exception.
+     * @return An operator that invokes the {@code fallback} operator if this operator throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingShortUnaryOperator<E> onErrorApplyChecked(ThrowingShortUnaryOperator<? extends E> fallback) {
+        Objects.requireNonNull(fallback);
+        return t -> {
+            try {
+                return applyAsShort(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback.applyAsShort(t);
+            }
+        };
+    }
+
+    /**
+     * Returns an operator that applies this operator to its input. If this operator throws any checked exception, it is discarded and the given
+     * fallback operator is invoked.
+     *
+     * @param fallback The operator to invoke if this operator throws any checked exception.
+     * @return An operator that invokes the {@code fallback} operator if this operator throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default ThrowingShortUnaryOperator<RuntimeException> onErrorApplyUnchecked(ThrowingShortUnaryOperator<? extends RuntimeException> fallback) {
+        Objects.requireNonNull(fallback);
+        return t -> {
+            try {
+                return applyAsShort(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback.applyAsShort(t);
+            }
+        };
+    }
+
+    /**
+     * Returns an operator that applies this operator to its input. If this operator throws any checked exception, it is discarded and the given
+     * fallback supplier is invoked.
+     *
+     * @param <E> The type of checked exception that can be thrown by the given fallback supplier.
+     * @param fallback The supplier to produce the value to return if this operator throws any checked exception.
+     * @return An operator that invokes the {@code fallback} supplier if this operator throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default <E extends Throwable> ThrowingShortUnaryOperator<E> onErrorGetChecked(ThrowingShortSupplier<? extends E> fallback) {
+        Objects.requireNonNull(fallback);
+        return t -> {
+            try {
+                return applyAsShort(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback.getAsShort();
+            }
+        };
+    }
+
+    /**
+     * Returns an operator that applies this operator to its input. If this operator throws any checked exception, it is discarded and the given
+     * fallback supplier is invoked.
+     *
+     * @param fallback The supplier to produce the value to return if this operator throws any checked exception.
+     * @return An operator that invokes the {@code fallback} supplier if this operator throws any checked exception.
+     * @throws NullPointerException If {@code fallback} is {@code null}.
+     */
+    default ThrowingShortUnaryOperator<RuntimeException> onErrorGetUnchecked(ThrowingShortSupplier<? extends RuntimeException> fallback) {
+        Objects.requireNonNull(fallback);
+        return t -> {
+            try {
+                return applyAsShort(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback.getAsShort();
+            }
+        };
+    }
+
+    /**
+     * Returns an operator that applies this operator to its input. If this operator throws any checked exception, it is discarded and the given
+     * fallback value is returned.
+     *
+     * @param fallback The value to return if this operator throws any checked exception.
+     * @return An operator that returns the {@code fallback} value if this operator throws any checked exception.
+     */
+    default ThrowingShortUnaryOperator<RuntimeException> onErrorReturn(short fallback) {
+        return t -> {
+            try {
+                return applyAsShort(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (@SuppressWarnings("unused") Throwable throwable) {
+                return fallback;
+            }
+        };
+    }
+
+    /**
+     * Returns an operator that applies this operator to its input. Any checked exception thrown by this operator is wrapped in an {@link
+     * UncheckedException} {@linkplain UncheckedException#withoutStackTrace(Throwable) without a stack trace}.
+     *
+     * @return An operator that wraps any checked exception in an {@link UncheckedException}.
+     */
+    default ThrowingShortUnaryOperator<RuntimeException> unchecked() {
+        return ShortUnaryOperatorAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns an operator that applies this operator to its input. Any checked exception thrown by this operator is relayed to the caller as-is, even
+     * though the returned operator does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an {@link
+     * UncheckedException}; use {@link #catching(ThrowingShortUnaryOperator, Class)} to be able to catch the checked exception.
+     *
+     * @return An operator that relays any checked exception as-is.
+     */
+    default ThrowingShortUnaryOperator<RuntimeException> sneaky() {
+        return ShortUnaryOperatorAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns an operator that applies this operator to its input. Each invocation is recorded in the {@link InvocationRecorder} that the given
+     * registry returns for the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is
+     * obtained only once, so recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return An operator that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingShortUnaryOperator<X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                short result = applyAsShort(t);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns an operator that applies this operator to its input. Only one in every {@code sampleRate} invocations per thread is timed; if it
+     * completes normally it is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number
+     * of invocations. Other invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that
+     * throw an exception or error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return An operator that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingShortUnaryOperator<X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            if (!sampler.sample()) {
+                try {
+                    return applyAsShort(t);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                short result = applyAsShort(t);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Factory method for turning {@code ThrowingShortUnaryOperator}-shaped lambdas into {@code ThrowingShortUnaryOperators}.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operator The lambda to return as {@code ThrowingShortUnaryOperator}.
+     * @return The given lambda as a {@code ThrowingShortUnaryOperator}.
+     * @throws NullPointerException If {@code operator} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingShortUnaryOperator<X> of(ThrowingShortUnaryOperator<X> operator) {
+        Objects.requireNonNull(operator);
+        return operator;
+    }
+
+    /**
+     * Returns an operator that applies the {@code operator} operator to its input. Any checked exception thrown by the {@code operator} operator is
+     * wrapped in an {@link UncheckedException}.
+     *
+     * @param operator The operator to apply when the returned operator is applied.
+     * @return An operator that wraps any checked exception in an {@link UncheckedException}.
+     * @throws NullPointerException If {@code operator} is {@code null}.
+     */
+    static ThrowingShortUnaryOperator<RuntimeException> unchecked(ThrowingShortUnaryOperator<?> operator) {
+        Objects.requireNonNull(operator);
+        return operator.unchecked();
+    }
+
+    /**
+     * Returns an operator that applies the {@code operator} operator to its input. Any checked exception thrown by the {@code operator} operator is
+     * relayed to the caller as-is, even though the returned operator does not declare it.
+     *
+     * @param operator The operator to apply when the returned operator is applied.
+     * @return An operator that relays any checked exception as-is.
+     * @throws NullPointerException If {@code operator} is {@code null}.
+     */
+    static ThrowingShortUnaryOperator<RuntimeException> sneaky(ThrowingShortUnaryOperator<?> operator) {
+        Objects.requireNonNull(operator);
+        return operator.sneaky();
+    }
+
+    /**
+     * Returns an operator that applies the {@code operator} operator to its input. Any unchecked exception thrown by the {@code operator} operator is
+     * relayed to the caller. This method allows instances that only throw unchecked exceptions, like the result of {@link #unchecked()}, to be used
+     * where {@code ThrowingShortUnaryOperator} is expected with any type of checked exception.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operator The operator to apply when the returned operator is applied.
+     * @return An operator that relays any unchecked exception.
+     * @throws NullPointerException If {@code operator} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingShortUnaryOperator<X> checked(ThrowingShortUnaryOperator<? extends RuntimeException> operator) {
+        Objects.requireNonNull(operator);
+        return ShortUnaryOperatorAdapters.checked(operator, null);
+    }
+
+    /**
+     * Returns an operator that applies the {@code operator} operator to its input. Any {@link UncheckedException} thrown by the {@code operator}
+     * operator is unwrapped if its cause is an instance of {@code errorType}, otherwise it is relayed to the caller.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operator The operator to apply when the returned operator is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return An operator that unwraps any {@link UncheckedException} that wraps an instance of {@code errorType}.
+     * @throws NullPointerException If {@code operator} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingShortUnaryOperator<X> checked(ThrowingShortUnaryOperator<? extends RuntimeException> operator,
+                                                                       Class<X> errorType) {
+        Objects.requireNonNull(operator);
+        Objects.requireNonNull(errorType);
+        return ShortUnaryOperatorAdapters.checked(operator, errorType);
+    }
+
+    /**
+     * Returns an operator that applies the {@code operator} operator to its input. Any checked exception thrown by the {@code operator} operator is
+     * relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This allows checked
+     * exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operator The operator to apply when the returned operator is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return An operator that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code operator} or {@code errorType} is {@code null}.
+     */
+    static <X extends Throwable> ThrowingShortUnaryOperator<X> catching(ThrowingShortUnaryOperator<? extends RuntimeException> operator,
+                                                                        Class<X> errorType) {
+        Objects.requireNonNull(operator);
+        Objects.requireNonNull(errorType);
+        return t -> {
+            try {
+                return operator.applyAsShort(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, operator);
+            }
+        };
+    }
+}
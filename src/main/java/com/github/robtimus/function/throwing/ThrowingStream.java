@@ -0,0 +1,591 @@
+/*
+ * ThrowingStream.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * A wrapper around a {@link Stream} that allows its operations to throw checked exceptions.
+ * <p>
+ * The operations of this class take the functional interfaces of this package instead of the ones in {@code java.util.function}. Any checked
+ * exception thrown by these is relayed as-is; it is not wrapped in an {@link UncheckedException}. Because streams are lazy, these exceptions are
+ * thrown by the terminal operations, which therefore declare the checked exception. For instance:
+ * <pre><code>
+ * static long getTotalSize(Path dir) throws IOException {
+ *     try (ThrowingStream&lt;Path, IOException&gt; stream = ThrowingStream.of(Files.walk(dir))) {
+ *         return stream
+ *                 .filter(Files::isRegularFile)
+ *                 .mapToLong(Files::size)
+ *                 .sum();
+ *     }
+ * }
+ * </code></pre>
+ * <p>
+ * Like {@link Stream}, instances are lazy, support {@linkplain #parallel() parallel} execution, and can only be consumed once. Each operation
+ * converts its argument to its equivalent in {@code java.util.function} only once; no objects are created per element other than what the
+ * wrapped stream itself creates.
+ * <p>
+ * Consecutive {@link #map(ThrowingFunction) map}, {@link #filter(ThrowingPredicate) filter} and {@link #peek(ThrowingConsumer) peek} operations
+ * are fused: instead of adding a stage to the wrapped stream's pipeline for each of them, they are added as a single stage that applies them in one
+ * loop, plus one extra stage to remove filtered elements if needed. If such operations are directly followed by
+ * {@link #forEach(ThrowingConsumer) forEach} or {@link #forEachOrdered(ThrowingConsumer) forEachOrdered}, they are applied as part of the action,
+ * and no stages are added at all. This reduces the number of calls per element for long pipelines; shorter
+ * sequences of fewer than three operations are only fused into {@code forEach} and {@code forEachOrdered}.
+ * <p>
+ * If a checked exception is thrown from a different thread than the one that calls the terminal operation, which can happen for parallel
+ * streams, the terminal operation may throw a new instance of the same exception type, with the original exception as its cause.
+ * This is the behaviour of the {@link java.util.concurrent.ForkJoinPool} that performs the parallel operations.
+ *
+ * @param <T> The type of stream elements.
+ * @param <X> The type of checked exception that can be thrown.
+ * @author Rob Spoor
+ */
+public final class ThrowingStream<T, X extends Throwable> implements AutoCloseable {
+
+    // The stream that pending stages are applied to; the stream's element type is only T if there are no pending stages
+    private final Stream<?> source;
+    // Consecutive map, filter and peek operations that have not yet been added to the source stream
+    private final FusedStages stages;
+
+    private ThrowingStream(Stream<?> source, FusedStages stages) {
+        this.source = source;
+        this.stages = stages;
+    }
+
+    private ThrowingStream(Stream<T> stream) {
+        this(stream, null);
+    }
+
+    /**
+     * Returns a stream that wraps an existing {@link Stream}. The existing stream should not be used after calling this method.
+     *
+     * @param <T> The type of stream elements.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param stream The stream to wrap.
+     * @return A stream that wraps the given stream.
+     * @throws NullPointerException If {@code stream} is {@code null}.
+     */
+    public static <T, X extends Throwable> ThrowingStream<T, X> of(Stream<T> stream) {
+        Objects.requireNonNull(stream);
+        return new ThrowingStream<>(stream);
+    }
+
+    private Stream<T> stream() {
+        if (stages == null) {
+            // This cast is safe, because without pending stages the source has element type T
+            @SuppressWarnings("unchecked")
+            Stream<T> stream = (Stream<T>) source;
+            return stream;
+        }
+        return stages.appendTo(source);
+    }
+
+    // intermediate operations
+
+    /**
+     * Returns a stream consisting of the elements of this stream that match the given predicate.
+     *
+     * @param predicate The predicate to apply to each element to determine if it should be included.
+     * @return The new stream.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see Stream#filter(java.util.function.Predicate)
+     */
+    public ThrowingStream<T, X> filter(ThrowingPredicate<? super T, ? extends X> predicate) {
+        return new ThrowingStream<>(source, FusedStages.filter(stages, predicate));
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param <R> The element type of the new stream.
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see Stream#map(java.util.function.Function)
+     */
+    public <R> ThrowingStream<R, X> map(ThrowingFunction<? super T, ? extends R, ? extends X> mapper) {
+        return new ThrowingStream<>(source, FusedStages.map(stages, mapper));
+    }
+
+    /**
+     * Returns an {@code int} stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see Stream#mapToInt(java.util.function.ToIntFunction)
+     */
+    public ThrowingIntStream<X> mapToInt(ThrowingToIntFunction<? super T, ? extends X> mapper) {
+        return ThrowingIntStream.of(stream().mapToInt(ThrowingToIntFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns a {@code long} stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see Stream#mapToLong(java.util.function.ToLongFunction)
+     */
+    public ThrowingLongStream<X> mapToLong(ThrowingToLongFunction<? super T, ? extends X> mapper) {
+        return ThrowingLongStream.of(stream().mapToLong(ThrowingToLongFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns a {@code double} stream consisting of the results of applying the given function to the elements of this stream.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see Stream#mapToDouble(java.util.function.ToDoubleFunction)
+     */
+    public ThrowingDoubleStream<X> mapToDouble(ThrowingToDoubleFunction<? super T, ? extends X> mapper) {
+        return ThrowingDoubleStream.of(stream().mapToDouble(ThrowingToDoubleFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns a stream consisting of the results of replacing each element of this stream with the contents of a mapped stream produced by applying
+     * the given function to each element. Each mapped stream is closed after its contents have been placed into this stream.
+     *
+     * @param <R> The element type of the new stream.
+     * @param mapper The function to apply to each element.
+     * @return The new stream.
+     * @throws NullPointerException If {@code mapper} is {@code null}.
+     * @see Stream#flatMap(java.util.function.Function)
+     */
+    public <R> ThrowingStream<R, X> flatMap(ThrowingFunction<? super T, ? extends Stream<? extends R>, ? extends X> mapper) {
+        return new ThrowingStream<>(stream().flatMap(ThrowingFunction.sneaky(mapper)));
+    }
+
+    /**
+     * Returns a stream consisting of the distinct elements of this stream.
+     *
+     * @return The new stream.
+     * @see Stream#distinct()
+     */
+    public ThrowingStream<T, X> distinct() {
+        return new ThrowingStream<>(stream().distinct());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, sorted according to natural order.
+     *
+     * @return The new stream.
+     * @see Stream#sorted()
+     */
+    public ThrowingStream<T, X> sorted() {
+        return new ThrowingStream<>(stream().sorted());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, sorted according to the given {@link Comparator}.
+     *
+     * @param comparator The comparator to compare stream elements.
+     * @return The new stream.
+     * @throws NullPointerException If {@code comparator} is {@code null}.
+     * @see Stream#sorted(Comparator)
+     */
+    public ThrowingStream<T, X> sorted(Comparator<? super T> comparator) {
+        return new ThrowingStream<>(stream().sorted(comparator));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, additionally performing the given action on each element as elements are consumed
+     * from the resulting stream.
+     *
+     * @param action The action to perform on the elements as they are consumed from the stream.
+     * @return The new stream.
+     * @throws NullPointerException If {@code action} is {@code null}.
+     * @see Stream#peek(java.util.function.Consumer)
+     */
+    public ThrowingStream<T, X> peek(ThrowingConsumer<? super T, ? extends X> action) {
+        return new ThrowingStream<>(source, FusedStages.peek(stages, action));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, truncated to be no longer than the given size.
+     *
+     * @param maxSize The number of elements the stream should be limited to.
+     * @return The new stream.
+     * @throws IllegalArgumentException If {@code maxSize} is negative.
+     * @see Stream#limit(long)
+     */
+    public ThrowingStream<T, X> limit(long maxSize) {
+        return new ThrowingStream<>(stream().limit(maxSize));
+    }
+
+    /**
+     * Returns a stream consisting of the remaining elements of this stream after discarding the given number of elements.
+     *
+     * @param n The number of leading elements to skip.
+     * @return The new stream.
+     * @throws IllegalArgumentException If {@code n} is negative.
+     * @see Stream#skip(long)
+     */
+    public ThrowingStream<T, X> skip(long n) {
+        return new ThrowingStream<>(stream().skip(n));
+    }
+
+    /**
+     * Returns a stream consisting of the longest prefix of elements of this stream that match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements to determine the longest prefix of elements.
+     * @return The new stream.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see Stream#takeWhile(java.util.function.Predicate)
+     */
+    public ThrowingStream<T, X> takeWhile(ThrowingPredicate<? super T, ? extends X> predicate) {
+        return new ThrowingStream<>(stream().takeWhile(ThrowingPredicate.sneaky(predicate)));
+    }
+
+    /**
+     * Returns a stream consisting of the remaining elements of this stream after dropping the longest prefix of elements that match the given
+     * predicate.
+     *
+     * @param predicate The predicate to apply to elements to determine the longest prefix of elements.
+     * @return The new stream.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see Stream#dropWhile(java.util.function.Predicate)
+     */
+    public ThrowingStream<T, X> dropWhile(ThrowingPredicate<? super T, ? extends X> predicate) {
+        return new ThrowingStream<>(stream().dropWhile(ThrowingPredicate.sneaky(predicate)));
+    }
+
+    /**
+     * Returns an equivalent stream that is sequential.
+     *
+     * @return A sequential stream.
+     * @see Stream#sequential()
+     */
+    public ThrowingStream<T, X> sequential() {
+        return new ThrowingStream<>(source.sequential(), stages);
+    }
+
+    /**
+     * Returns an equivalent stream that is parallel.
+     *
+     * @return A parallel stream.
+     * @see Stream#parallel()
+     */
+    public ThrowingStream<T, X> parallel() {
+        return new ThrowingStream<>(source.parallel(), stages);
+    }
+
+    /**
+     * Returns an equivalent stream that is unordered.
+     *
+     * @return An unordered stream.
+     * @see Stream#unordered()
+     */
+    public ThrowingStream<T, X> unordered() {
+        return new ThrowingStream<>(source.unordered(), stages);
+    }
+
+    /**
+     * Returns an equivalent stream with an additional close handler.
+     *
+     * @param closeHandler A task to execute when the stream is closed.
+     * @return A stream with a handler that is run if the stream is closed.
+     * @throws NullPointerException If {@code closeHandler} is {@code null}.
+     * @see Stream#onClose(Runnable)
+     */
+    public ThrowingStream<T, X> onClose(Runnable closeHandler) {
+        return new ThrowingStream<>(source.onClose(closeHandler), stages);
+    }
+
+    /**
+     * Returns whether or not this stream would execute in parallel if a terminal operation were executed.
+     *
+     * @return {@code true} if this stream would execute in parallel if executed, or {@code false} otherwise.
+     * @see Stream#isParallel()
+     */
+    public boolean isParallel() {
+        return source.isParallel();
+    }
+
+    // terminal operations
+
+    /**
+     * Performs an action for each element of this stream.
+     *
+     * @param action The action to perform on the elements.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code action} is {@code null}.
+     * @see Stream#forEach(java.util.function.Consumer)
+     */
+    public void forEach(ThrowingConsumer<? super T, ? extends X> action) throws X {
+        if (stages == null) {
+            stream().forEach(ThrowingConsumer.sneaky(action));
+        } else {
+            // Apply the pending stages in the action instead of adding them to the pipeline
+            source.forEach(stages.andThen(action));
+        }
+    }
+
+    /**
+     * Performs an action for each element of this stream, in the encounter order of the stream if the stream has a defined encounter order.
+     *
+     * @param action The action to perform on the elements.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code action} is {@code null}.
+     * @see Stream#forEachOrdered(java.util.function.Consumer)
+     */
+    public void forEachOrdered(ThrowingConsumer<? super T, ? extends X> action) throws X {
+        if (stages == null) {
+            stream().forEachOrdered(ThrowingConsumer.sneaky(action));
+        } else {
+            // Apply the pending stages in the action instead of adding them to the pipeline
+            source.forEachOrdered(stages.andThen(action));
+        }
+    }
+
+    /**
+     * Returns an array containing the elements of this stream.
+     *
+     * @return An array containing the elements of this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see Stream#toArray()
+     */
+    public Object[] toArray() throws X {
+        return stream().toArray();
+    }
+
+    /**
+     * Returns an array containing the elements of this stream, using the given generator function to allocate the returned array.
+     *
+     * @param <A> The component type of the resulting array.
+     * @param generator A function which produces a new array of the desired type and the provided length.
+     * @return An array containing the elements of this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code generator} is {@code null}.
+     * @see Stream#toArray(IntFunction)
+     */
+    public <A> A[] toArray(IntFunction<A[]> generator) throws X {
+        return stream().toArray(generator);
+    }
+
+    /**
+     * Performs a reduction on the elements of this stream, using the given identity value and accumulation function.
+     *
+     * @param identity The identity value for the accumulating function.
+     * @param accumulator The function for combining two values.
+     * @return The result of the reduction.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code accumulator} is {@code null}.
+     * @see Stream#reduce(Object, java.util.function.BinaryOperator)
+     */
+    public T reduce(T identity, ThrowingBinaryOperator<T, ? extends X> accumulator) throws X {
+        return stream().reduce(identity, ThrowingBinaryOperator.sneaky(accumulator));
+    }
+
+    /**
+     * Performs a reduction on the elements of this stream, using the given accumulation function.
+     *
+     * @param accumulator The function for combining two values.
+     * @return An {@link Optional} describing the result of the reduction.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code accumulator} is {@code null}, or if the result of the reduction is {@code null}.
+     * @see Stream#reduce(java.util.function.BinaryOperator)
+     */
+    public Optional<T> reduce(ThrowingBinaryOperator<T, ? extends X> accumulator) throws X {
+        return stream().reduce(ThrowingBinaryOperator.sneaky(accumulator));
+    }
+
+    /**
+     * Performs a reduction on the elements of this stream, using the given identity value, accumulation function and combining function.
+     *
+     * @param <U> The type of the result.
+     * @param identity The identity value for the combiner function.
+     * @param accumulator The function for incorporating an additional element into a result.
+     * @param combiner The function for combining two values, which must be compatible with the accumulator function.
+     * @return The result of the reduction.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code accumulator} or {@code combiner} is {@code null}.
+     * @see Stream#reduce(Object, java.util.function.BiFunction, java.util.function.BinaryOperator)
+     */
+    public <U> U reduce(U identity, ThrowingBiFunction<U, ? super T, U, ? extends X> accumulator, ThrowingBinaryOperator<U, ? extends X> combiner)
+            throws X {
+
+        return stream().reduce(identity, ThrowingBiFunction.sneaky(accumulator), ThrowingBinaryOperator.sneaky(combiner));
+    }
+
+    /**
+     * Performs a mutable reduction on the elements of this stream.
+     *
+     * @param <R> The type of the mutable result container.
+     * @param supplier A function that creates a new mutable result container.
+     * @param accumulator A function that folds an element into a result container.
+     * @param combiner A function that accepts two partial result containers and merges them, by folding the elements from the second result container
+     *                     into the first result container.
+     * @return The result of the reduction.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code supplier}, {@code accumulator} or {@code combiner} is {@code null}.
+     * @see Stream#collect(java.util.function.Supplier, java.util.function.BiConsumer, java.util.function.BiConsumer)
+     */
+    public <R> R collect(ThrowingSupplier<R, ? extends X> supplier, ThrowingBiConsumer<R, ? super T, ? extends X> accumulator,
+            ThrowingBiConsumer<R, R, ? extends X> combiner) throws X {
+
+        return stream().collect(ThrowingSupplier.sneaky(supplier), ThrowingBiConsumer.sneaky(accumulator), ThrowingBiConsumer.sneaky(combiner));
+    }
+
+    /**
+     * Performs a mutable reduction on the elements of this stream using a {@link Collector}.
+     *
+     * @param <R> The type of the result.
+     * @param <A> The intermediate accumulation type of the collector.
+     * @param collector The collector describing the reduction.
+     * @return The result of the reduction.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code collector} is {@code null}.
+     * @see Stream#collect(Collector)
+     */
+    public <R, A> R collect(Collector<? super T, A, R> collector) throws X {
+        return stream().collect(collector);
+    }
+
+    /**
+     * Returns a list containing the elements of this stream. The returned list is unmodifiable, and may contain {@code null} elements.
+     *
+     * @return A list containing the elements of this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     */
+    public List<T> toList() throws X {
+        // This cast is safe, because the list is unmodifiable
+        @SuppressWarnings("unchecked")
+        List<T> list = (List<T>) Collections.unmodifiableList(Arrays.asList(stream().toArray()));
+        return list;
+    }
+
+    /**
+     * Returns the minimum element of this stream according to the given {@link Comparator}.
+     *
+     * @param comparator The comparator to compare stream elements.
+     * @return An {@link Optional} describing the minimum element of this stream, or an empty {@link Optional} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code comparator} is {@code null}, or if the minimum element is {@code null}.
+     * @see Stream#min(Comparator)
+     */
+    public Optional<T> min(Comparator<? super T> comparator) throws X {
+        return stream().min(comparator);
+    }
+
+    /**
+     * Returns the maximum element of this stream according to the given {@link Comparator}.
+     *
+     * @param comparator The comparator to compare stream elements.
+     * @return An {@link Optional} describing the maximum element of this stream, or an empty {@link Optional} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code comparator} is {@code null}, or if the maximum element is {@code null}.
+     * @see Stream#max(Comparator)
+     */
+    public Optional<T> max(Comparator<? super T> comparator) throws X {
+        return stream().max(comparator);
+    }
+
+    /**
+     * Returns the number of elements in this stream.
+     *
+     * @return The number of elements in this stream.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @see Stream#count()
+     */
+    public long count() throws X {
+        return stream().count();
+    }
+
+    /**
+     * Returns whether or not any elements of this stream match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements of this stream.
+     * @return {@code true} if any elements of the stream match the given predicate, or {@code false} otherwise.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see Stream#anyMatch(java.util.function.Predicate)
+     */
+    public boolean anyMatch(ThrowingPredicate<? super T, ? extends X> predicate) throws X {
+        return stream().anyMatch(ThrowingPredicate.sneaky(predicate));
+    }
+
+    /**
+     * Returns whether or not all elements of this stream match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements of this stream.
+     * @return {@code true} if all elements of the stream match the given predicate or the stream is empty, or {@code false} otherwise.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see Stream#allMatch(java.util.function.Predicate)
+     */
+    public boolean allMatch(ThrowingPredicate<? super T, ? extends X> predicate) throws X {
+        return stream().allMatch(ThrowingPredicate.sneaky(predicate));
+    }
+
+    /**
+     * Returns whether or not no elements of this stream match the given predicate.
+     *
+     * @param predicate The predicate to apply to elements of this stream.
+     * @return {@code true} if no elements of the stream match the given predicate or the stream is empty, or {@code false} otherwise.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If {@code predicate} is {@code null}.
+     * @see Stream#noneMatch(java.util.function.Predicate)
+     */
+    public boolean noneMatch(ThrowingPredicate<? super T, ? extends X> predicate) throws X {
+        return stream().noneMatch(ThrowingPredicate.sneaky(predicate));
+    }
+
+    /**
+     * Returns the first element of this stream.
+     *
+     * @return An {@link Optional} describing the first element of this stream, or an empty {@link Optional} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If the element selected is {@code null}.
+     * @see Stream#findFirst()
+     */
+    public Optional<T> findFirst() throws X {
+        return stream().findFirst();
+    }
+
+    /**
+     * Returns any element of this stream.
+     *
+     * @return An {@link Optional} describing some element of this stream, or an empty {@link Optional} if the stream is empty.
+     * @throws X If any of the operations of this stream throws an exception.
+     * @throws NullPointerException If the element selected is {@code null}.
+     * @see Stream#findAny()
+     */
+    public Optional<T> findAny() throws X {
+        return stream().findAny();
+    }
+
+    /**
+     * Closes this stream, causing all close handlers for this stream pipeline to be called.
+     *
+     * @see Stream#close()
+     */
+    @Override
+    public void close() {
+        source.close();
+    }
+}
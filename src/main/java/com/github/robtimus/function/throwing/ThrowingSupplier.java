@@ -17,7 +17,10 @@
 
 package com.github.robtimus.function.throwing;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -208,7 +211,199 @@ public interface ThrowingSupplier<T, X extends Throwable> {
      * @return A supplier that wraps any checked exception in an {@link UncheckedException}.
      */
     default Supplier<T> unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return SupplierAdapters.unchecked(this);
+    }
+
+    /**
+     * Returns a supplier that applies this supplier to its input. Any checked exception thrown by this supplier is relayed to the caller as-is, even
+     * though the returned supplier does not declare it. Unlike {@link #unchecked()}, this does not wrap checked exceptions in an
+     * {@link UncheckedException}; use {@link #catching(Supplier, Class)} to be able to catch the checked exception.
+     *
+     * @return A supplier that relays any checked exception as-is.
+     */
+    default Supplier<T> sneaky() {
+        return SupplierAdapters.sneaky(this);
+    }
+
+    /**
+     * Returns a supplier that calls this supplier. Each invocation is recorded in the {@link InvocationRecorder} that the given registry returns for
+     * the given name, including its duration and whether it completed normally or threw an exception or error. The recorder is obtained only once, so
+     * recording an invocation does not need any lookups.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @return A supplier that records each invocation in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     */
+    default ThrowingSupplier<T, X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                T result = get();
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier that calls this supplier. Only one in every {@code sampleRate} invocations per thread is timed; if it completes normally it
+     * is recorded using {@link InvocationRecorder#recordSampledSuccess(long, int)}, so the recorder can extrapolate the number of invocations. Other
+     * invocations that complete normally are not recorded at all, and do not call {@link System#nanoTime()}. Invocations that throw an exception or
+     * error are always recorded, so failure counts are exact; if they were not timed they are recorded using
+     * {@link InvocationRecorder#recordUntimedFailure(Throwable)}.
+     *
+     * @param name The name to record invocations under.
+     * @param registry The registry to record invocations in.
+     * @param sampleRate The sample rate; one in every {@code sampleRate} invocations per thread is timed.
+     * @return A supplier that records sampled invocations and all failures in the given registry.
+     * @throws NullPointerException If {@code name} or {@code registry} is {@code null}, or if {@code registry} returns a {@code null} recorder.
+     * @throws IllegalArgumentException If {@code sampleRate} is not positive.
+     */
+    default ThrowingSupplier<T, X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return () -> {
+            if (!sampler.sample()) {
+                try {
+                    return get();
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                T result = get();
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier that calls this supplier, and retries if that fails with a checked exception.
+     * The given policy determines which checked exceptions cause a retry, how many attempts are made, and how long to wait before each retry.
+     * If no further attempt is made, the exception or error of the last attempt is rethrown, with the exceptions of all earlier attempts added as
+     * suppressed exceptions.
+     * <p>
+     * The returned supplier only allocates objects once an attempt has failed; an invocation that succeeds the first time does not allocate anything.
+     * If the current thread is interrupted while waiting for a retry, the exception of the last attempt is rethrown as described above, and the
+     * interrupted status of the current thread is restored. The same happens if an attempt fails with an {@link InterruptedException} or
+     * {@link java.io.InterruptedIOException}; these are never retried.
+     *
+     * @param policy The policy that determines how to retry.
+     * @return A supplier that retries according to the given policy.
+     * @throws NullPointerException If {@code policy} is {@code null}.
+     */
+    default ThrowingSupplier<T, X> retry(RetryPolicy policy) {
+        Objects.requireNonNull(policy);
+        return () -> {
+            long start = policy.start();
+            RetryPolicy.Retry retry = null;
+            while (true) {
+                try {
+                    return get();
+                } catch (Throwable throwable) {
+                    retry = policy.retry(retry, start, throwable);
+                    if (retry == null) {
+                        throw throwable;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier that calls this supplier only once, and returns the result for all subsequent calls. If this supplier throws an exception,
+     * it is relayed to the caller and not cached; the next call to the returned supplier will call this supplier again.
+     * <p>
+     * The returned supplier is thread-safe. If it is called concurrently before the result has been computed, only one caller will call this supplier
+     * while the other callers wait for the result. Once the result has been computed, it is returned without locking.
+     *
+     * @return A supplier that calls this supplier only once.
+     */
+    default ThrowingSupplier<T, X> memoize() {
+        return MemoizingSupplier.of(this);
+    }
+
+    /**
+     * Returns a supplier that caches the result of this supplier for a limited amount of time. Once the result has expired, the next call will call
+     * this supplier again. If this supplier throws an exception, it is relayed to the caller and not cached.
+     * <p>
+     * The returned supplier is thread-safe. If it is called concurrently while there is no valid result, only one caller will call this supplier
+     * while the other callers wait for the result. While the result is valid, it is returned without locking.
+     *
+     * @param timeToLive The duration after which a computed result expires.
+     * @return A supplier that caches the result of this supplier for the given duration.
+     * @throws NullPointerException If {@code timeToLive} is {@code null}.
+     * @throws IllegalArgumentException If {@code timeToLive} is not positive.
+     */
+    default ThrowingSupplier<T, X> memoize(Duration timeToLive) {
+        return ExpiringMemoizingSupplier.of(this, timeToLive);
+    }
+
+    /**
+     * Returns a supplier that caches the result of this supplier for a limited amount of time, and refreshes it in the background before it expires.
+     * <p>
+     * Once the result has reached the given refresh age, the next call will trigger a refresh using the given executor, and return the current
+     * result without waiting for the refresh to finish. At most one refresh is active at any time. If a refresh fails, the current result remains
+     * available for the given grace period after it would otherwise have expired, and the next call will trigger another refresh.
+     * Exceptions thrown during a refresh are not reported to callers.
+     * <p>
+     * If there is no valid result, for instance because no refresh has been triggered before the result expired, the next call will call this
+     * supplier synchronously, like {@link #memoize(Duration)}.
+     *
+     * @param timeToLive The duration after which a computed result expires.
+     * @param refreshAfter The duration after which a computed result should be refreshed.
+     * @param gracePeriod The duration that a result remains available after it has expired, if a refresh has failed.
+     * @param executor The executor to use for refreshing results.
+     * @return A supplier that caches the result of this supplier, and refreshes it in the background.
+     * @throws NullPointerException If any of the arguments is {@code null}.
+     * @throws IllegalArgumentException If {@code timeToLive} or {@code refreshAfter} is not positive, if {@code gracePeriod} is negative,
+     *             or if {@code refreshAfter} is not smaller than {@code timeToLive}.
+     */
+    default ThrowingSupplier<T, X> memoize(Duration timeToLive, Duration refreshAfter, Duration gracePeriod, Executor executor) {
+        return ExpiringMemoizingSupplier.of(this, timeToLive, refreshAfter, gracePeriod, executor);
+    }
+
+    /**
+     * Returns a supplier that lets concurrent calls share a single invocation of this supplier.
+     * <p>
+     * If the returned supplier is called while another call is in progress, it waits for that call to finish instead of calling this supplier again.
+     * It then returns the same result, or throws the same exception instance. Unlike {@link #memoize()}, nothing is retained once a call has
+     * finished; a call that starts after that will call this supplier again. Waiting does not pin the carrier thread of virtual threads.
+     *
+     * @return A supplier that coalesces concurrent calls.
+     */
+    default ThrowingSupplier<T, X> coalescing() {
+        InFlightCalls<Object, T> calls = new InFlightCalls<>();
+        ThrowingFunction<Object, T, X> function = ignored -> get();
+        return () -> calls.call(null, function);
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} that is completed by calling this supplier using the given executor.
+     * <p>
+     * If this supplier throws an exception, including a checked exception, the returned future is completed exceptionally with that exception as-is.
+     * It is not wrapped in an {@link UncheckedException}, so {@link CompletableFuture#exceptionally(Function) exceptionally} and similar methods
+     * called on the returned future will receive it directly. Calling {@link CompletableFuture#cancel(boolean) cancel(true)} on the returned future
+     * interrupts the thread that is calling this supplier, if any; if the future is cancelled before this supplier is called, it is not called at
+     * all. Note that cancelling futures that depend on the returned future does not interrupt this supplier.
+     *
+     * @param executor The executor to use to call this supplier.
+     * @return A {@link CompletableFuture} that is completed by calling this supplier.
+     * @throws NullPointerException If {@code executor} is {@code null}.
+     */
+    default CompletableFuture<T> supplyAsync(Executor executor) {
+        return InterruptibleFuture.execute(this, executor);
     }
 
     /**
@@ -240,6 +435,21 @@ public interface ThrowingSupplier<T, X extends Throwable> {
         return (Supplier<T>) supplier.unchecked();
     }
 
+    /**
+     * Returns a supplier that calls the {@code supplier} supplier. Any checked exception thrown by the {@code supplier} supplier is relayed to the
+     * caller as-is, even though the returned supplier does not declare it.
+     *
+     * @param <T> The type of the results supplied by the supplier.
+     * @param supplier The supplier to call when the returned supplier is invoked.
+     * @return A supplier that relays any checked exception as-is.
+     * @throws NullPointerException If {@code supplier} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Supplier<T> sneaky(ThrowingSupplier<? extends T, ?> supplier) {
+        Objects.requireNonNull(supplier);
+        return (Supplier<T>) supplier.sneaky();
+    }
+
     /**
      * Returns a supplier that calls the {@code supplier} supplier. Any unchecked exception thrown by the {@code supplier} supplier is relayed to the
      * caller. This method allows existing {@link Supplier} instances to be used where {@code ThrowingSupplier} is expected.
@@ -252,7 +462,7 @@ public interface ThrowingSupplier<T, X extends Throwable> {
      */
     static <T, X extends Throwable> ThrowingSupplier<T, X> checked(Supplier<? extends T> supplier) {
         Objects.requireNonNull(supplier);
-        return supplier::get;
+        return SupplierAdapters.checked(supplier, null);
     }
 
     /**
@@ -267,17 +477,36 @@ public interface ThrowingSupplier<T, X extends Throwable> {
      * @throws NullPointerException If {@code supplier} or {@code errorType} is {@code null}.
      */
     static <T, X extends Throwable> ThrowingSupplier<T, X> checked(Supplier<? extends T> supplier, Class<X> errorType) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(errorType);
+        return SupplierAdapters.checked(supplier, errorType);
+    }
+
+    /**
+     * Returns a supplier that calls the {@code supplier} supplier. Any checked exception thrown by the {@code supplier} supplier is relayed to the
+     * caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}. This allows checked exceptions that
+     * are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <T> The type of the results supplied by the supplier.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param supplier The supplier to call when the returned supplier is invoked.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A supplier that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code supplier} or {@code errorType} is {@code null}.
+     */
+    static <T, X extends Throwable> ThrowingSupplier<T, X> catching(Supplier<? extends T> supplier, Class<X> errorType) {
         Objects.requireNonNull(supplier);
         Objects.requireNonNull(errorType);
         return () -> {
             try {
                 return supplier.get();
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, supplier);
             }
         };
     }
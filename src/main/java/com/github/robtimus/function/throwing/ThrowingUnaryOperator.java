@@ -174,7 +174,53 @@ public interface ThrowingUnaryOperator<T, X extends Throwable> extends ThrowingF
 
     @Override
     default UnaryOperator<T> unchecked() {
-        return onErrorThrowAsUnchecked(UncheckedException::withoutStackTrace);
+        return UnaryOperatorAdapters.unchecked(this);
+    }
+
+    @Override
+    default UnaryOperator<T> sneaky() {
+        return UnaryOperatorAdapters.sneaky(this);
+    }
+
+    @Override
+    default ThrowingUnaryOperator<T, X> instrumented(String name, MetricsRegistry registry) {
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                T result = apply(t);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    @Override
+    default ThrowingUnaryOperator<T, X> instrumented(String name, MetricsRegistry registry, int sampleRate) {
+        Instrumentation.Sampler sampler = Instrumentation.sampler(sampleRate);
+        InvocationRecorder recorder = Instrumentation.recorder(name, registry);
+        return t -> {
+            if (!sampler.sample()) {
+                try {
+                    return apply(t);
+                } catch (Throwable throwable) {
+                    recorder.recordUntimedFailure(throwable);
+                    throw throwable;
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                T result = apply(t);
+                recorder.recordSampledSuccess(System.nanoTime() - start, sampleRate);
+                return result;
+            } catch (Throwable throwable) {
+                recorder.recordFailure(System.nanoTime() - start, throwable);
+                throw throwable;
+            }
+        };
     }
 
     /**
@@ -197,9 +243,11 @@ public interface ThrowingUnaryOperator<T, X extends Throwable> extends ThrowingF
      * @param <T> The type of the operand and result of the operator.
      * @param <X> The type of checked exception that can be thrown.
      * @return A unary operator that always returns its input argument.
+     *         This is always the same instance, and composing it with another function using {@link #andThen(ThrowingFunction)} or
+     *         {@link #compose(ThrowingFunction)} returns the other function.
      */
     static <T, X extends Throwable> ThrowingUnaryOperator<T, X> identity() {
-        return t -> t;
+        return KnownFunctions.identity();
     }
 
     /**
@@ -216,6 +264,20 @@ public interface ThrowingUnaryOperator<T, X extends Throwable> extends ThrowingF
         return operator.unchecked();
     }
 
+    /**
+     * Returns a unary operator that applies the {@code operator} unary operator to its input. Any checked exception thrown by the {@code operator}
+     * unary operator is relayed to the caller as-is, even though the returned unary operator does not declare it.
+     *
+     * @param <T> The type of the operand and result of the operator.
+     * @param operator The unary operator to apply when the returned unary operator is applied.
+     * @return A unary operator that relays any checked exception as-is.
+     * @throws NullPointerException If {@code operator} is {@code null}.
+     */
+    static <T> UnaryOperator<T> sneaky(ThrowingUnaryOperator<T, ?> operator) {
+        Objects.requireNonNull(operator);
+        return operator.sneaky();
+    }
+
     /**
      * Returns a unary operator that applies the {@code operator} unary operator to its input. Any unchecked exception thrown by the {@code operator}
      * unary operator is relayed to the caller. This method allows existing {@link UnaryOperator} instances to be used where
@@ -229,7 +291,7 @@ public interface ThrowingUnaryOperator<T, X extends Throwable> extends ThrowingF
      */
     static <T, X extends Throwable> ThrowingUnaryOperator<T, X> checked(UnaryOperator<T> operator) {
         Objects.requireNonNull(operator);
-        return operator::apply;
+        return UnaryOperatorAdapters.checked(operator, null);
     }
 
     /**
@@ -244,17 +306,36 @@ public interface ThrowingUnaryOperator<T, X extends Throwable> extends ThrowingF
      * @throws NullPointerException If {@code operator} or {@code errorType} is {@code null}.
      */
     static <T, X extends Throwable> ThrowingUnaryOperator<T, X> checked(UnaryOperator<T> operator, Class<X> errorType) {
+        Objects.requireNonNull(operator);
+        Objects.requireNonNull(errorType);
+        return UnaryOperatorAdapters.checked(operator, errorType);
+    }
+
+    /**
+     * Returns a unary operator that applies the {@code operator} unary operator to its input. Any checked exception thrown by the {@code operator}
+     * unary operator is relayed to the caller if it is an instance of {@code errorType}, otherwise it is wrapped in an {@link UncheckedException}.
+     * This allows checked exceptions that are relayed as-is, for instance by {@link #sneaky()}, to be caught again.
+     *
+     * @param <T> The type of the operand and result of the operator.
+     * @param <X> The type of checked exception that can be thrown.
+     * @param operator The unary operator to apply when the returned unary operator is applied.
+     * @param errorType The type of checked exception that can be thrown.
+     * @return A unary operator that relays any checked exception of the given type.
+     * @throws NullPointerException If {@code operator} or {@code errorType} is {@code null}.
+     */
+    static <T, X extends Throwable> ThrowingUnaryOperator<T, X> catching(UnaryOperator<T> operator, Class<X> errorType) {
         Objects.requireNonNull(operator);
         Objects.requireNonNull(errorType);
         return t -> {
             try {
                 return operator.apply(t);
-            } catch (UncheckedException e) {
-                Throwable cause = e.getCause();
-                if (errorType.isInstance(cause)) {
-                    throw errorType.cast(cause);
-                }
+            } catch (Error | RuntimeException e) {
                 throw e;
+            } catch (Throwable throwable) {
+                if (errorType.isInstance(throwable)) {
+                    throw errorType.cast(throwable);
+                }
+                throw Adapters.unchecked(throwable, operator);
             }
         };
     }
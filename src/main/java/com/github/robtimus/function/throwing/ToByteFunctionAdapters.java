@@ -0,0 +1,129 @@
+/*
+ * ToByteFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingToByteFunction} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ToByteFunctionAdapters {
+
+    private ToByteFunctionAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingToByteFunction<T, X> checked(ThrowingToByteFunction<? super T, ? extends RuntimeException> function,
+            Class<X> errorType) {
+
+        if (function instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingToByteFunction<T, X> original = (ThrowingToByteFunction<T, X>) ((Sneaky<?>) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingToByteFunction
+            @SuppressWarnings("unchecked")
+            ThrowingToByteFunction<? super T, ?> original = (ThrowingToByteFunction<? super T, ?>) ((Unchecked<?>) function).function;
+            return value -> {
+                try {
+                    return original.applyAsByte(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static <T> ThrowingToByteFunction<T, RuntimeException> unchecked(ThrowingToByteFunction<? super T, ?> function) {
+        return new Unchecked<>(function);
+    }
+
+    static <T> ThrowingToByteFunction<T, RuntimeException> sneaky(ThrowingToByteFunction<? super T, ?> function) {
+        if (function instanceof Checked<?, ?> && ((Checked<?, ?>) function).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingToByteFunction
+            @SuppressWarnings("unchecked")
+            ThrowingToByteFunction<T, RuntimeException> original = (ThrowingToByteFunction<T, RuntimeException>) ((Checked<?, ?>) function).function;
+            return original;
+        }
+        return new Sneaky<>(function);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingToByteFunction<T, X> {
+
+        private final ThrowingToByteFunction<? super T, ? extends RuntimeException> function;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingToByteFunction<? super T, ? extends RuntimeException> function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public byte applyAsByte(T value) throws X {
+            try {
+                return function.applyAsByte(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements ThrowingToByteFunction<T, RuntimeException> {
+
+        private final ThrowingToByteFunction<? super T, ?> function;
+
+        private Unchecked(ThrowingToByteFunction<? super T, ?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public byte applyAsByte(T value) {
+            try {
+                return function.applyAsByte(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements ThrowingToByteFunction<T, RuntimeException> {
+
+        private final ThrowingToByteFunction<? super T, RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingToByteFunction<? super T, ?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingToByteFunction<? super T, RuntimeException>) function;
+        }
+
+        @Override
+        public byte applyAsByte(T value) {
+            return function.applyAsByte(value);
+        }
+    }
+}
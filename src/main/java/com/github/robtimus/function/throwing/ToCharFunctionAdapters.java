@@ -0,0 +1,129 @@
+/*
+ * ToCharFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingToCharFunction} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ToCharFunctionAdapters {
+
+    private ToCharFunctionAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingToCharFunction<T, X> checked(ThrowingToCharFunction<? super T, ? extends RuntimeException> function,
+            Class<X> errorType) {
+
+        if (function instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingToCharFunction<T, X> original = (ThrowingToCharFunction<T, X>) ((Sneaky<?>) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingToCharFunction
+            @SuppressWarnings("unchecked")
+            ThrowingToCharFunction<? super T, ?> original = (ThrowingToCharFunction<? super T, ?>) ((Unchecked<?>) function).function;
+            return value -> {
+                try {
+                    return original.applyAsChar(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static <T> ThrowingToCharFunction<T, RuntimeException> unchecked(ThrowingToCharFunction<? super T, ?> function) {
+        return new Unchecked<>(function);
+    }
+
+    static <T> ThrowingToCharFunction<T, RuntimeException> sneaky(ThrowingToCharFunction<? super T, ?> function) {
+        if (function instanceof Checked<?, ?> && ((Checked<?, ?>) function).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingToCharFunction
+            @SuppressWarnings("unchecked")
+            ThrowingToCharFunction<T, RuntimeException> original = (ThrowingToCharFunction<T, RuntimeException>) ((Checked<?, ?>) function).function;
+            return original;
+        }
+        return new Sneaky<>(function);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingToCharFunction<T, X> {
+
+        private final ThrowingToCharFunction<? super T, ? extends RuntimeException> function;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingToCharFunction<? super T, ? extends RuntimeException> function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public char applyAsChar(T value) throws X {
+            try {
+                return function.applyAsChar(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements ThrowingToCharFunction<T, RuntimeException> {
+
+        private final ThrowingToCharFunction<? super T, ?> function;
+
+        private Unchecked(ThrowingToCharFunction<? super T, ?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public char applyAsChar(T value) {
+            try {
+                return function.applyAsChar(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements ThrowingToCharFunction<T, RuntimeException> {
+
+        private final ThrowingToCharFunction<? super T, RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingToCharFunction<? super T, ?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingToCharFunction<? super T, RuntimeException>) function;
+        }
+
+        @Override
+        public char applyAsChar(T value) {
+            return function.applyAsChar(value);
+        }
+    }
+}
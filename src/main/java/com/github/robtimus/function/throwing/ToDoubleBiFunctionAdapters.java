@@ -0,0 +1,132 @@
+/*
+ * ToDoubleBiFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Adapters between {@link ThrowingToDoubleBiFunction} and {@link ToDoubleBiFunction}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ToDoubleBiFunctionAdapters {
+
+    private ToDoubleBiFunctionAdapters() {
+    }
+
+    static <T, U, X extends Throwable> ThrowingToDoubleBiFunction<T, U, X> checked(ToDoubleBiFunction<? super T, ? super U> function,
+            Class<X> errorType) {
+
+        if (function instanceof Sneaky<?, ?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingToDoubleBiFunction<T, U, X> original = (ThrowingToDoubleBiFunction<T, U, X>) ((Sneaky<?, ?>) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked<?, ?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingToDoubleBiFunction
+            @SuppressWarnings("unchecked")
+            ThrowingToDoubleBiFunction<? super T, ? super U, ?> original =
+                    (ThrowingToDoubleBiFunction<? super T, ? super U, ?>) ((Unchecked<?, ?>) function).function;
+            return (t, u) -> {
+                try {
+                    return original.applyAsDouble(t, u);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static <T, U> ToDoubleBiFunction<T, U> unchecked(ThrowingToDoubleBiFunction<? super T, ? super U, ?> function) {
+        return new Unchecked<>(function);
+    }
+
+    static <T, U> ToDoubleBiFunction<T, U> sneaky(ThrowingToDoubleBiFunction<? super T, ? super U, ?> function) {
+        if (function instanceof Checked<?, ?, ?> && ((Checked<?, ?, ?>) function).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ToDoubleBiFunction
+            @SuppressWarnings("unchecked")
+            ToDoubleBiFunction<T, U> original = (ToDoubleBiFunction<T, U>) ((Checked<?, ?, ?>) function).function;
+            return original;
+        }
+        return new Sneaky<>(function);
+    }
+
+    private static final class Checked<T, U, X extends Throwable> implements ThrowingToDoubleBiFunction<T, U, X> {
+
+        private final ToDoubleBiFunction<? super T, ? super U> function;
+        private final Class<X> errorType;
+
+        private Checked(ToDoubleBiFunction<? super T, ? super U> function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public double applyAsDouble(T t, U u) throws X {
+            try {
+                return function.applyAsDouble(t, u);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T, U> implements ToDoubleBiFunction<T, U> {
+
+        private final ThrowingToDoubleBiFunction<? super T, ? super U, ?> function;
+
+        private Unchecked(ThrowingToDoubleBiFunction<? super T, ? super U, ?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public double applyAsDouble(T t, U u) {
+            try {
+                return function.applyAsDouble(t, u);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky<T, U> implements ToDoubleBiFunction<T, U> {
+
+        private final ThrowingToDoubleBiFunction<? super T, ? super U, RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingToDoubleBiFunction<? super T, ? super U, ?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingToDoubleBiFunction<? super T, ? super U, RuntimeException>) function;
+        }
+
+        @Override
+        public double applyAsDouble(T t, U u) {
+            return function.applyAsDouble(t, u);
+        }
+    }
+}
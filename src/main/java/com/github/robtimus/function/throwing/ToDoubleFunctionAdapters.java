@@ -0,0 +1,129 @@
+/*
+ * ToDoubleFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Adapters between {@link ThrowingToDoubleFunction} and {@link ToDoubleFunction}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ToDoubleFunctionAdapters {
+
+    private ToDoubleFunctionAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingToDoubleFunction<T, X> checked(ToDoubleFunction<? super T> function, Class<X> errorType) {
+        if (function instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingToDoubleFunction<T, X> original = (ThrowingToDoubleFunction<T, X>) ((Sneaky<?>) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingToDoubleFunction
+            @SuppressWarnings("unchecked")
+            ThrowingToDoubleFunction<? super T, ?> original = (ThrowingToDoubleFunction<? super T, ?>) ((Unchecked<?>) function).function;
+            return value -> {
+                try {
+                    return original.applyAsDouble(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static <T> ToDoubleFunction<T> unchecked(ThrowingToDoubleFunction<? super T, ?> function) {
+        return new Unchecked<>(function);
+    }
+
+    static <T> ToDoubleFunction<T> sneaky(ThrowingToDoubleFunction<? super T, ?> function) {
+        if (function instanceof Checked<?, ?> && ((Checked<?, ?>) function).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ToDoubleFunction
+            @SuppressWarnings("unchecked")
+            ToDoubleFunction<T> original = (ToDoubleFunction<T>) ((Checked<?, ?>) function).function;
+            return original;
+        }
+        return new Sneaky<>(function);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingToDoubleFunction<T, X> {
+
+        private final ToDoubleFunction<? super T> function;
+        private final Class<X> errorType;
+
+        private Checked(ToDoubleFunction<? super T> function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public double applyAsDouble(T value) throws X {
+            try {
+                return function.applyAsDouble(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements ToDoubleFunction<T> {
+
+        private final ThrowingToDoubleFunction<? super T, ?> function;
+
+        private Unchecked(ThrowingToDoubleFunction<? super T, ?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public double applyAsDouble(T value) {
+            try {
+                return function.applyAsDouble(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements ToDoubleFunction<T> {
+
+        private final ThrowingToDoubleFunction<? super T, RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingToDoubleFunction<? super T, ?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingToDoubleFunction<? super T, RuntimeException>) function;
+        }
+
+        @Override
+        public double applyAsDouble(T value) {
+            return function.applyAsDouble(value);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * ToFloatFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Adapters between {@link ThrowingToFloatFunction} instances that can throw checked exceptions and instances that cannot. See {@link Adapters}
+ * for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ToFloatFunctionAdapters {
+
+    private ToFloatFunctionAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingToFloatFunction<T, X> checked(ThrowingToFloatFunction<? super T, ? extends RuntimeException> function,
+            Class<X> errorType) {
+
+        if (function instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingToFloatFunction<T, X> original = (ThrowingToFloatFunction<T, X>) ((Sneaky<?>) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingToFloatFunction
+            @SuppressWarnings("unchecked")
+            ThrowingToFloatFunction<? super T, ?> original = (ThrowingToFloatFunction<? super T, ?>) ((Unchecked<?>) function).function;
+            return value -> {
+                try {
+                    return original.applyAsFloat(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static <T> ThrowingToFloatFunction<T, RuntimeException> unchecked(ThrowingToFloatFunction<? super T, ?> function) {
+        return new Unchecked<>(function);
+    }
+
+    static <T> ThrowingToFloatFunction<T, RuntimeException> sneaky(ThrowingToFloatFunction<? super T, ?> function) {
+        if (function instanceof Checked<?, ?> && ((Checked<?, ?>) function).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ThrowingToFloatFunction
+            @SuppressWarnings("unchecked")
+            ThrowingToFloatFunction<T, RuntimeException> original =
+                    (ThrowingToFloatFunction<T, RuntimeException>) ((Checked<?, ?>) function).function;
+            return original;
+        }
+        return new Sneaky<>(function);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingToFloatFunction<T, X> {
+
+        private final ThrowingToFloatFunction<? super T, ? extends RuntimeException> function;
+        private final Class<X> errorType;
+
+        private Checked(ThrowingToFloatFunction<? super T, ? extends RuntimeException> function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public float applyAsFloat(T value) throws X {
+            try {
+                return function.applyAsFloat(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements ThrowingToFloatFunction<T, RuntimeException> {
+
+        private final ThrowingToFloatFunction<? super T, ?> function;
+
+        private Unchecked(ThrowingToFloatFunction<? super T, ?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public float applyAsFloat(T value) {
+            try {
+                return function.applyAsFloat(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements ThrowingToFloatFunction<T, RuntimeException> {
+
+        private final ThrowingToFloatFunction<? super T, RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingToFloatFunction<? super T, ?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingToFloatFunction<? super T, RuntimeException>) function;
+        }
+
+        @Override
+        public float applyAsFloat(T value) {
+            return function.applyAsFloat(value);
+        }
+    }
+}
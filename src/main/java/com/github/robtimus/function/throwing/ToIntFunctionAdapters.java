@@ -0,0 +1,129 @@
+/*
+ * ToIntFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Adapters between {@link ThrowingToIntFunction} and {@link ToIntFunction}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ToIntFunctionAdapters {
+
+    private ToIntFunctionAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingToIntFunction<T, X> checked(ToIntFunction<? super T> function, Class<X> errorType) {
+        if (function instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingToIntFunction<T, X> original = (ThrowingToIntFunction<T, X>) ((Sneaky<?>) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingToIntFunction
+            @SuppressWarnings("unchecked")
+            ThrowingToIntFunction<? super T, ?> original = (ThrowingToIntFunction<? super T, ?>) ((Unchecked<?>) function).function;
+            return value -> {
+                try {
+                    return original.applyAsInt(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static <T> ToIntFunction<T> unchecked(ThrowingToIntFunction<? super T, ?> function) {
+        return new Unchecked<>(function);
+    }
+
+    static <T> ToIntFunction<T> sneaky(ThrowingToIntFunction<? super T, ?> function) {
+        if (function instanceof Checked<?, ?> && ((Checked<?, ?>) function).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ToIntFunction
+            @SuppressWarnings("unchecked")
+            ToIntFunction<T> original = (ToIntFunction<T>) ((Checked<?, ?>) function).function;
+            return original;
+        }
+        return new Sneaky<>(function);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingToIntFunction<T, X> {
+
+        private final ToIntFunction<? super T> function;
+        private final Class<X> errorType;
+
+        private Checked(ToIntFunction<? super T> function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public int applyAsInt(T value) throws X {
+            try {
+                return function.applyAsInt(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements ToIntFunction<T> {
+
+        private final ThrowingToIntFunction<? super T, ?> function;
+
+        private Unchecked(ThrowingToIntFunction<? super T, ?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public int applyAsInt(T value) {
+            try {
+                return function.applyAsInt(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements ToIntFunction<T> {
+
+        private final ThrowingToIntFunction<? super T, RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingToIntFunction<? super T, ?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingToIntFunction<? super T, RuntimeException>) function;
+        }
+
+        @Override
+        public int applyAsInt(T value) {
+            return function.applyAsInt(value);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * ToLongFunctionAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Adapters between {@link ThrowingToLongFunction} and {@link ToLongFunction}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class ToLongFunctionAdapters {
+
+    private ToLongFunctionAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingToLongFunction<T, X> checked(ToLongFunction<? super T> function, Class<X> errorType) {
+        if (function instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingToLongFunction<T, X> original = (ThrowingToLongFunction<T, X>) ((Sneaky<?>) function).function;
+            return original;
+        }
+        if (function instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingToLongFunction
+            @SuppressWarnings("unchecked")
+            ThrowingToLongFunction<? super T, ?> original = (ThrowingToLongFunction<? super T, ?>) ((Unchecked<?>) function).function;
+            return value -> {
+                try {
+                    return original.applyAsLong(value);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(function, errorType);
+    }
+
+    static <T> ToLongFunction<T> unchecked(ThrowingToLongFunction<? super T, ?> function) {
+        return new Unchecked<>(function);
+    }
+
+    static <T> ToLongFunction<T> sneaky(ThrowingToLongFunction<? super T, ?> function) {
+        if (function instanceof Checked<?, ?> && ((Checked<?, ?>) function).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible ToLongFunction
+            @SuppressWarnings("unchecked")
+            ToLongFunction<T> original = (ToLongFunction<T>) ((Checked<?, ?>) function).function;
+            return original;
+        }
+        return new Sneaky<>(function);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingToLongFunction<T, X> {
+
+        private final ToLongFunction<? super T> function;
+        private final Class<X> errorType;
+
+        private Checked(ToLongFunction<? super T> function, Class<X> errorType) {
+            this.function = function;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public long applyAsLong(T value) throws X {
+            try {
+                return function.applyAsLong(value);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements ToLongFunction<T> {
+
+        private final ThrowingToLongFunction<? super T, ?> function;
+
+        private Unchecked(ThrowingToLongFunction<? super T, ?> function) {
+            this.function = function;
+        }
+
+        @Override
+        public long applyAsLong(T value) {
+            try {
+                return function.applyAsLong(value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, function);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements ToLongFunction<T> {
+
+        private final ThrowingToLongFunction<? super T, RuntimeException> function;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingToLongFunction<? super T, ?> function) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.function = (ThrowingToLongFunction<? super T, RuntimeException>) function;
+        }
+
+        @Override
+        public long applyAsLong(T value) {
+            return function.applyAsLong(value);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * UnaryOperatorAdapters.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Adapters between {@link ThrowingUnaryOperator} and {@link UnaryOperator}.
+ * See {@link Adapters} for how these adapters recognize each other.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("squid:S1181") // Error needs to be caught separately (and re-thrown) to not let it be caught as throwable
+final class UnaryOperatorAdapters {
+
+    private UnaryOperatorAdapters() {
+    }
+
+    static <T, X extends Throwable> ThrowingUnaryOperator<T, X> checked(UnaryOperator<T> operator, Class<X> errorType) {
+        if (operator instanceof Sneaky<?> && errorType == null) {
+            // This cast is safe, because the sneaky adapter already relays any exception as-is
+            @SuppressWarnings("unchecked")
+            ThrowingUnaryOperator<T, X> original = (ThrowingUnaryOperator<T, X>) ((Sneaky<?>) operator).operator;
+            return original;
+        }
+        if (operator instanceof Unchecked<?>) {
+            // This cast is safe, because the unchecked adapter was created for a compatible ThrowingUnaryOperator
+            @SuppressWarnings("unchecked")
+            ThrowingUnaryOperator<T, ?> original = (ThrowingUnaryOperator<T, ?>) ((Unchecked<?>) operator).operator;
+            return t -> {
+                try {
+                    return original.apply(t);
+                } catch (UncheckedException e) {
+                    throw Adapters.unwrap(e, errorType);
+                } catch (Error | RuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    throw Adapters.wrap(throwable, errorType, original);
+                }
+            };
+        }
+        return new Checked<>(operator, errorType);
+    }
+
+    static <T> UnaryOperator<T> unchecked(ThrowingUnaryOperator<T, ?> operator) {
+        return new Unchecked<>(operator);
+    }
+
+    static <T> UnaryOperator<T> sneaky(ThrowingUnaryOperator<T, ?> operator) {
+        if (operator instanceof Checked<?, ?> && ((Checked<?, ?>) operator).errorType == null) {
+            // This cast is safe, because the checked adapter was created for a compatible UnaryOperator
+            @SuppressWarnings("unchecked")
+            UnaryOperator<T> original = (UnaryOperator<T>) ((Checked<?, ?>) operator).operator;
+            return original;
+        }
+        return new Sneaky<>(operator);
+    }
+
+    private static final class Checked<T, X extends Throwable> implements ThrowingUnaryOperator<T, X> {
+
+        private final UnaryOperator<T> operator;
+        private final Class<X> errorType;
+
+        private Checked(UnaryOperator<T> operator, Class<X> errorType) {
+            this.operator = operator;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public T apply(T t) throws X {
+            try {
+                return operator.apply(t);
+            } catch (UncheckedException e) {
+                throw Adapters.unwrap(e, errorType);
+            }
+        }
+    }
+
+    private static final class Unchecked<T> implements UnaryOperator<T> {
+
+        private final ThrowingUnaryOperator<T, ?> operator;
+
+        private Unchecked(ThrowingUnaryOperator<T, ?> operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public T apply(T t) {
+            try {
+                return operator.apply(t);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw Adapters.unchecked(throwable, operator);
+            }
+        }
+    }
+
+    private static final class Sneaky<T> implements UnaryOperator<T> {
+
+        private final ThrowingUnaryOperator<T, RuntimeException> operator;
+
+        @SuppressWarnings("unchecked")
+        private Sneaky(ThrowingUnaryOperator<T, ?> operator) {
+            // This cast is safe, because checked exceptions are only checked by the compiler, not by the JVM
+            this.operator = (ThrowingUnaryOperator<T, RuntimeException>) operator;
+        }
+
+        @Override
+        public T apply(T t) {
+            return operator.apply(t);
+        }
+    }
+}
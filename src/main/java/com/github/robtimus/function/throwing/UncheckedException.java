@@ -27,19 +27,32 @@ import java.util.Objects;
 @SuppressWarnings("serial")
 public final class UncheckedException extends RuntimeException {
 
+    // If true, the message is derived from the cause when it's first needed, and cached in derivedMessage
+    private final boolean deriveMessage;
+    private transient volatile String derivedMessage;
+
     private UncheckedException(String message, Throwable cause, boolean includeStackTrace) {
         super(message, cause, true, includeStackTrace);
+        this.deriveMessage = false;
+    }
+
+    private UncheckedException(Throwable cause, boolean includeStackTrace) {
+        super(null, cause, true, includeStackTrace);
+        this.deriveMessage = true;
     }
 
     /**
      * Creates a new exception with a stack trace of its own.
+     * The detail message of the created exception will be the result of calling {@link Throwable#toString() toString()} on the given throwable.
+     * This message will be created the first time it's needed.
      *
      * @param cause The throwable to wrap.
      * @return The created exception.
      * @throws NullPointerException If the given throwable is {@code null}.
      */
     public static UncheckedException withStackTrace(Throwable cause) {
-        return withStackTrace(cause.toString(), cause);
+        Objects.requireNonNull(cause);
+        return new UncheckedException(cause, true);
     }
 
     /**
@@ -57,13 +70,16 @@ public final class UncheckedException extends RuntimeException {
 
     /**
      * Creates a new exception without a stack trace of its own. This makes the created exception more lightweight.
+     * The detail message of the created exception will be the result of calling {@link Throwable#toString() toString()} on the given throwable.
+     * This message will be created the first time it's needed.
      *
      * @param cause The throwable to wrap.
      * @return The created exception.
      * @throws NullPointerException If the given throwable is {@code null}.
      */
     public static UncheckedException withoutStackTrace(Throwable cause) {
-        return withoutStackTrace(cause.toString(), cause);
+        Objects.requireNonNull(cause);
+        return new UncheckedException(cause, false);
     }
 
     /**
@@ -79,6 +95,20 @@ public final class UncheckedException extends RuntimeException {
         return new UncheckedException(message, cause, false);
     }
 
+    @Override
+    public String getMessage() {
+        if (!deriveMessage) {
+            return super.getMessage();
+        }
+        // Computing the message more than once is harmless, as it always has the same result
+        String message = derivedMessage;
+        if (message == null) {
+            message = getCause().toString();
+            derivedMessage = message;
+        }
+        return message;
+    }
+
     /**
      * Throws the wrapped throwable as an instance of a specific error type.
      *
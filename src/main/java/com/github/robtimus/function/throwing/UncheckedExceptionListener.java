@@ -0,0 +1,49 @@
+/*
+ * UncheckedExceptionListener.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.ServiceLoader;
+
+/**
+ * A process-wide listener that is notified whenever the functions of this library wrap a checked exception in an {@link UncheckedException}.
+ * This includes the functions returned by methods like {@link ThrowingFunction#unchecked()} and
+ * {@link ThrowingFunction#catching(java.util.function.Function, Class)}, so exception rates can be monitored without decorating each function.
+ * <p>
+ * Listeners are discovered using {@link ServiceLoader}, with the class loader of this interface, the first time an {@link UncheckedException}
+ * needs to be created. To install a listener, declare it as provider of this interface, using either a {@code provides} clause in the module
+ * descriptor or a {@code META-INF/services/com.github.robtimus.function.throwing.UncheckedExceptionListener} file. If no listener is installed,
+ * the only overhead is a {@code null} check of a {@code static final} field, which the JIT compiler can remove completely.
+ * Providers that cannot be loaded or instantiated are ignored.
+ * <p>
+ * Implementations must be thread-safe. Because they are called on the failure path of application code, they should be fast and should not
+ * throw any exceptions. Any runtime exception that is thrown anyway is added as a suppressed exception to the created {@link UncheckedException}.
+ *
+ * @author Rob Spoor
+ */
+public interface UncheckedExceptionListener {
+
+    /**
+     * Called when an {@link UncheckedException} has been created.
+     *
+     * @param exception The created exception. Its {@link UncheckedException#getCause() cause} is the checked exception that was wrapped.
+     * @param source The class of the function that threw the checked exception. For lambdas and method references, the name of this class starts
+     *               with the name of the class that declares the lambda or method reference. This makes it a cheap identifier of the call site, that
+     *               does not require walking the stack.
+     */
+    void uncheckedExceptionCreated(UncheckedException exception, Class<?> source);
+}
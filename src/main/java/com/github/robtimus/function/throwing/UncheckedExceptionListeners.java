@@ -0,0 +1,120 @@
+/*
+ * UncheckedExceptionListeners.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * The installed {@link UncheckedExceptionListener UncheckedExceptionListeners}.
+ * This is a separate class so the listeners are only loaded the first time an {@link UncheckedException} is created, and not when the adapters
+ * are first used.
+ *
+ * @author Rob Spoor
+ */
+final class UncheckedExceptionListeners {
+
+    /**
+     * The installed listener, or {@code null} if no listener is installed. If more than one listener is installed, this listener notifies all of
+     * them.
+     */
+    static final UncheckedExceptionListener LISTENER = combine(loadListeners());
+
+    private UncheckedExceptionListeners() {
+    }
+
+    private static List<UncheckedExceptionListener> loadListeners() {
+        try {
+            return loadListeners(ServiceLoader.load(UncheckedExceptionListener.class, UncheckedExceptionListener.class.getClassLoader()).iterator());
+        } catch (@SuppressWarnings("unused") ServiceConfigurationError | RuntimeException e) {
+            // This is called during class initialization; failing would make this class, and with it every adapter, unusable
+            return List.of();
+        }
+    }
+
+    /**
+     * Loads listeners from an iterator, skipping any provider that cannot be instantiated.
+     * If the iterator fails to locate the next provider, loading stops; the listeners loaded until then are still returned.
+     *
+     * @param iterator The iterator to load listeners from.
+     * @return A list with the loaded listeners.
+     */
+    static List<UncheckedExceptionListener> loadListeners(Iterator<? extends UncheckedExceptionListener> iterator) {
+        List<UncheckedExceptionListener> listeners = new ArrayList<>();
+        while (hasNext(iterator)) {
+            try {
+                listeners.add(iterator.next());
+            } catch (@SuppressWarnings("unused") ServiceConfigurationError | RuntimeException e) {
+                // The provider could not be instantiated; skip it
+            }
+        }
+        return listeners;
+    }
+
+    private static boolean hasNext(Iterator<?> iterator) {
+        try {
+            return iterator.hasNext();
+        } catch (@SuppressWarnings("unused") ServiceConfigurationError | RuntimeException e) {
+            // There is no guarantee that the iterator can recover from this error, so stop loading
+            return false;
+        }
+    }
+
+    /**
+     * Combines several listeners into one.
+     *
+     * @param listeners The listeners to combine.
+     * @return A listener that notifies all of the given listeners, or {@code null} if there are no listeners.
+     */
+    static UncheckedExceptionListener combine(Iterable<? extends UncheckedExceptionListener> listeners) {
+        List<UncheckedExceptionListener> result = new ArrayList<>();
+        listeners.forEach(result::add);
+        switch (result.size()) {
+            case 0:
+                return null;
+            case 1:
+                return result.get(0);
+            default:
+                UncheckedExceptionListener[] array = result.toArray(new UncheckedExceptionListener[0]);
+                return (exception, source) -> {
+                    for (UncheckedExceptionListener listener : array) {
+                        listener.uncheckedExceptionCreated(exception, source);
+                    }
+                };
+        }
+    }
+
+    /**
+     * Notifies a listener of a created {@link UncheckedException}.
+     * Any runtime exception thrown by the listener is added as a suppressed exception to the created exception.
+     *
+     * @param listener The listener to notify.
+     * @param exception The created exception.
+     * @param source The function that threw the wrapped checked exception.
+     */
+    static void notify(UncheckedExceptionListener listener, UncheckedException exception, Object source) {
+        try {
+            listener.uncheckedExceptionCreated(exception, source.getClass());
+        } catch (RuntimeException e) {
+            exception.addSuppressed(e);
+        }
+    }
+}
@@ -19,5 +19,9 @@
  * A collection of functional interfaces that can throw checked exceptions.
  */
 module com.github.robtimus.function.throwing {
+    requires static jdk.jfr;
+
     exports com.github.robtimus.function.throwing;
+
+    uses com.github.robtimus.function.throwing.UncheckedExceptionListener;
 }
@@ -0,0 +1,35 @@
+/*
+ * Threads.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+/**
+ * Utility methods for starting threads.
+ * <p>
+ * This version is used on Java 21 and up, and uses virtual threads.
+ *
+ * @author Rob Spoor
+ */
+final class Threads {
+
+    private Threads() {
+    }
+
+    static Thread start(Runnable task) {
+        return Thread.startVirtualThread(task);
+    }
+}
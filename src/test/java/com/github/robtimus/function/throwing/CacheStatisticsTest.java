@@ -0,0 +1,64 @@
+/*
+ * CacheStatisticsTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class CacheStatisticsTest {
+
+    @Test
+    void testNewInstance() {
+        CacheStatistics statistics = new CacheStatistics();
+
+        assertEquals(0, statistics.hitCount());
+        assertEquals(0, statistics.missCount());
+        assertEquals(0, statistics.evictionCount());
+        assertEquals(0, statistics.requestCount());
+        assertEquals(1.0, statistics.hitRate());
+    }
+
+    @Test
+    void testRecording() {
+        CacheStatistics statistics = new CacheStatistics();
+
+        statistics.recordHit();
+        statistics.recordHit();
+        statistics.recordHit();
+        statistics.recordMiss();
+        statistics.recordEviction();
+
+        assertEquals(3, statistics.hitCount());
+        assertEquals(1, statistics.missCount());
+        assertEquals(1, statistics.evictionCount());
+        assertEquals(4, statistics.requestCount());
+        assertEquals(0.75, statistics.hitRate());
+    }
+
+    @Test
+    void testToString() {
+        CacheStatistics statistics = new CacheStatistics();
+
+        statistics.recordHit();
+        statistics.recordMiss();
+        statistics.recordMiss();
+
+        assertEquals("CacheStatistics[hitCount=1,missCount=2,evictionCount=0]", statistics.toString());
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * FlightRecorderMetricsRegistryTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@SuppressWarnings("nls")
+class FlightRecorderMetricsRegistryTest {
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new FlightRecorderMetricsRegistry(null));
+        assertThrows(IllegalArgumentException.class, () -> new FlightRecorderMetricsRegistry(Duration.ofNanos(-1)));
+
+        FlightRecorderMetricsRegistry registry = new FlightRecorderMetricsRegistry(Duration.ZERO);
+
+        assertThrows(NullPointerException.class, () -> registry.recorder(null));
+    }
+
+    @Test
+    void testWithoutRecording() {
+        FlightRecorderMetricsRegistry registry = new FlightRecorderMetricsRegistry(Duration.ZERO);
+        InvocationRecorder recorder = registry.recorder("foo");
+
+        recorder.recordSuccess(100);
+        recorder.recordFailure(100, new IOException());
+    }
+
+    @Test
+    void testWithRecording() throws IOException {
+        FlightRecorderMetricsRegistry registry = new FlightRecorderMetricsRegistry(Duration.ofNanos(1000));
+        InvocationRecorder recorder = registry.recorder("foo");
+
+        Path file = Files.createTempFile("recording", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(InvocationFailedEvent.NAME);
+            recording.enable(SlowInvocationEvent.NAME);
+            recording.start();
+
+            recorder.recordSuccess(999);
+            recorder.recordSuccess(1000);
+            recorder.recordFailure(100, UncheckedException.withoutStackTrace(new FileNotFoundException("bar")));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = readAllEvents(file);
+
+        List<RecordedEvent> slowEvents = events(events, SlowInvocationEvent.NAME);
+        assertEquals(1, slowEvents.size());
+        RecordedEvent slowEvent = slowEvents.get(0);
+        assertEquals("foo", slowEvent.getString("name"));
+        assertEquals(1000, slowEvent.getLong("invocationDuration"));
+        assertEquals(1000, slowEvent.getLong("threshold"));
+
+        List<RecordedEvent> failedEvents = events(events, InvocationFailedEvent.NAME);
+        assertEquals(1, failedEvents.size());
+        RecordedEvent failedEvent = failedEvents.get(0);
+        assertEquals("foo", failedEvent.getString("name"));
+        assertEquals(100, failedEvent.getLong("invocationDuration"));
+        assertEquals(UncheckedException.class.getName(), failedEvent.getClass("exceptionType").getName());
+        assertEquals(FileNotFoundException.class.getName() + ": bar", failedEvent.getString("exceptionMessage"));
+        assertEquals(FileNotFoundException.class.getName(), failedEvent.getClass("causeType").getName());
+    }
+
+    @Test
+    void testInstrumented() throws IOException {
+        FlightRecorderMetricsRegistry registry = new FlightRecorderMetricsRegistry(Duration.ofDays(1));
+        ThrowingFunction<String, String, IOException> function = ThrowingFunction.<String, String, IOException>of(s -> {
+            if (s.isEmpty()) {
+                throw new IOException("empty");
+            }
+            return s.toUpperCase();
+        }).instrumented("foo", registry);
+
+        Path file = Files.createTempFile("recording", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(InvocationFailedEvent.NAME);
+            recording.enable(SlowInvocationEvent.NAME);
+            recording.start();
+
+            assertEquals("FOO", function.apply("foo"));
+            assertThrows(IOException.class, () -> function.apply(""));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = readAllEvents(file);
+
+        assertEquals(List.of(), events(events, SlowInvocationEvent.NAME));
+
+        List<RecordedEvent> failedEvents = events(events, InvocationFailedEvent.NAME);
+        assertEquals(1, failedEvents.size());
+        RecordedEvent failedEvent = failedEvents.get(0);
+        assertEquals("foo", failedEvent.getString("name"));
+        assertEquals(IOException.class.getName(), failedEvent.getClass("exceptionType").getName());
+        assertEquals("empty", failedEvent.getString("exceptionMessage"));
+        assertNull(failedEvent.getClass("causeType"));
+    }
+
+    @Test
+    void testToString() {
+        FlightRecorderMetricsRegistry registry = new FlightRecorderMetricsRegistry(Duration.ofMillis(100));
+
+        assertEquals("FlightRecorderMetricsRegistry[slowInvocationThreshold=PT0.1S]", registry.toString());
+    }
+
+    private static List<RecordedEvent> readAllEvents(Path file) throws IOException {
+        try {
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> name.equals(event.getEventType().getName()))
+                .collect(Collectors.toList());
+    }
+}
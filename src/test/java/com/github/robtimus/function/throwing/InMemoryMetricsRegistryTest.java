@@ -0,0 +1,115 @@
+/*
+ * InMemoryMetricsRegistryTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class InMemoryMetricsRegistryTest {
+
+    @Test
+    void testNullArguments() {
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+        assertThrows(NullPointerException.class, () -> registry.recorder(null));
+        assertThrows(NullPointerException.class, () -> registry.metrics(null));
+    }
+
+    @Test
+    void testRecorder() {
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+        assertNull(registry.metrics("foo"));
+        assertEquals(Set.of(), registry.names());
+
+        InvocationMetrics metrics = registry.recorder("foo");
+
+        assertSame(metrics, registry.recorder("foo"));
+        assertSame(metrics, registry.metrics("foo"));
+        assertNull(registry.metrics("bar"));
+        assertEquals(Set.of("foo"), registry.names());
+    }
+
+    @Test
+    void testSharedName() throws IOException {
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+        ThrowingFunction<String, String, IOException> function = ThrowingFunction.<String, String, IOException>of(String::toUpperCase)
+                .instrumented("foo", registry);
+        ThrowingSupplier<String, IOException> supplier = ThrowingSupplier.<String, IOException>of(() -> "bar")
+                .instrumented("foo", registry);
+
+        function.apply("foo");
+        supplier.get();
+
+        InvocationMetrics metrics = registry.metrics("foo");
+        assertEquals(2, metrics.successCount());
+        assertEquals(2, metrics.latencies().count());
+    }
+
+    @Test
+    void testInstrumentedWithNullArguments() {
+        ThrowingFunction<String, String, IOException> function = String::toUpperCase;
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+        assertThrows(NullPointerException.class, () -> function.instrumented(null, registry));
+        assertThrows(NullPointerException.class, () -> function.instrumented("foo", null));
+        assertThrows(NullPointerException.class, () -> function.instrumented("foo", name -> null));
+    }
+
+    @Test
+    void testSampledInstrumentedWithInvalidArguments() {
+        ThrowingFunction<String, String, IOException> function = String::toUpperCase;
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+        assertThrows(NullPointerException.class, () -> function.instrumented(null, registry, 10));
+        assertThrows(NullPointerException.class, () -> function.instrumented("foo", null, 10));
+        assertThrows(NullPointerException.class, () -> function.instrumented("foo", name -> null, 10));
+        assertThrows(IllegalArgumentException.class, () -> function.instrumented("foo", registry, 0));
+        assertThrows(IllegalArgumentException.class, () -> function.instrumented("foo", registry, -1));
+
+        assertNull(registry.metrics("foo"));
+    }
+
+    @Test
+    void testSampledInstrumentedSamplesPerThread() throws IOException, InterruptedException {
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+        ThrowingFunction<String, String, IOException> function = ThrowingFunction.<String, String, IOException>of(String::toUpperCase)
+                .instrumented("foo", registry, 10);
+
+        // the first invocation of each thread is sampled
+        function.apply("foo");
+        Thread thread = new Thread(() -> function.unchecked().apply("foo"));
+        thread.start();
+        thread.join();
+
+        for (int i = 0; i < 18; i++) {
+            function.apply("foo");
+        }
+
+        // 3 sampled invocations: 2 of the current thread, 1 of the other thread
+        assertEquals(30, registry.metrics("foo").successCount());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * InvocationMetricsTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class InvocationMetricsTest {
+
+    @Test
+    void testNewInstance() {
+        InvocationMetrics metrics = new InvocationMetrics();
+
+        assertEquals(0, metrics.invocationCount());
+        assertEquals(0, metrics.successCount());
+        assertEquals(0, metrics.failureCount());
+        assertEquals(0, metrics.failureCount(IOException.class));
+        assertEquals(Map.of(), metrics.failureCounts());
+        assertEquals(0, metrics.latencies().count());
+    }
+
+    @Test
+    void testRecording() {
+        InvocationMetrics metrics = new InvocationMetrics();
+
+        metrics.recordSuccess(100);
+        metrics.recordSuccess(200);
+        metrics.recordFailure(300, new IOException());
+        metrics.recordFailure(400, new IOException());
+        metrics.recordFailure(500, new FileNotFoundException());
+
+        assertEquals(5, metrics.invocationCount());
+        assertEquals(2, metrics.successCount());
+        assertEquals(3, metrics.failureCount());
+        assertEquals(2, metrics.failureCount(IOException.class));
+        assertEquals(1, metrics.failureCount(FileNotFoundException.class));
+        assertEquals(0, metrics.failureCount(IllegalStateException.class));
+        assertEquals(Map.of(IOException.class, 2L, FileNotFoundException.class, 1L), metrics.failureCounts());
+        assertEquals(5, metrics.latencies().count());
+        assertEquals(1500, metrics.latencies().totalNanos());
+    }
+
+    @Test
+    void testSampledRecording() {
+        InvocationMetrics metrics = new InvocationMetrics();
+
+        metrics.recordSampledSuccess(100, 10);
+        metrics.recordSampledSuccess(200, 10);
+        metrics.recordFailure(300, new IOException());
+        metrics.recordUntimedFailure(new IOException());
+        metrics.recordUntimedFailure(new FileNotFoundException());
+
+        assertEquals(23, metrics.invocationCount());
+        assertEquals(20, metrics.successCount());
+        assertEquals(3, metrics.failureCount());
+        assertEquals(2, metrics.failureCount(IOException.class));
+        assertEquals(1, metrics.failureCount(FileNotFoundException.class));
+        assertEquals(21, metrics.latencies().count());
+        assertEquals(3300, metrics.latencies().totalNanos());
+    }
+
+    @Test
+    void testFailureCountsIsUnmodifiable() {
+        InvocationMetrics metrics = new InvocationMetrics();
+
+        metrics.recordFailure(100, new IOException());
+
+        Map<Class<? extends Throwable>, Long> failureCounts = metrics.failureCounts();
+
+        assertThrows(UnsupportedOperationException.class, failureCounts::clear);
+    }
+
+    @Test
+    void testToString() {
+        InvocationMetrics metrics = new InvocationMetrics();
+
+        metrics.recordSuccess(100);
+        metrics.recordFailure(300, new IOException());
+
+        assertEquals("InvocationMetrics[successCount=1,failureCount=1,latencies=LatencyHistogram[count=2,totalNanos=400,maxNanos=300]]",
+                metrics.toString());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * LatencyHistogramTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings("nls")
+class LatencyHistogramTest {
+
+    @Test
+    void testNewInstance() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.totalNanos());
+        assertEquals(0, histogram.maxNanos());
+        assertEquals(0.0, histogram.meanNanos());
+        assertEquals(0, histogram.percentileNanos(50));
+    }
+
+    @Test
+    void testBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(64, histogram.bucketCount());
+        assertEquals(0, histogram.lowerBoundNanos(0));
+        assertEquals(0, histogram.upperBoundNanos(0));
+        assertEquals(1, histogram.lowerBoundNanos(1));
+        assertEquals(1, histogram.upperBoundNanos(1));
+        assertEquals(512, histogram.lowerBoundNanos(10));
+        assertEquals(1023, histogram.upperBoundNanos(10));
+        assertEquals(Long.MAX_VALUE, histogram.upperBoundNanos(63));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> histogram.count(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> histogram.count(64));
+    }
+
+    @Test
+    void testRecording() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(0);
+        histogram.record(600);
+        histogram.record(1000);
+        histogram.record(1500);
+        // negative durations are recorded as 0
+        histogram.record(-5);
+
+        assertEquals(5, histogram.count());
+        assertEquals(2, histogram.count(0));
+        assertEquals(2, histogram.count(10));
+        assertEquals(1, histogram.count(11));
+        assertEquals(3100, histogram.totalNanos());
+        assertEquals(1500, histogram.maxNanos());
+        assertEquals(620.0, histogram.meanNanos());
+    }
+
+    @Test
+    void testRecordingWithCount() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(600, 3);
+        histogram.record(1500, 1);
+
+        assertEquals(4, histogram.count());
+        assertEquals(3, histogram.count(10));
+        assertEquals(1, histogram.count(11));
+        assertEquals(3300, histogram.totalNanos());
+        assertEquals(1500, histogram.maxNanos());
+        assertEquals(825.0, histogram.meanNanos());
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 0; i < 90; i++) {
+            histogram.record(100);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(1500);
+        }
+
+        assertEquals(127, histogram.percentileNanos(0));
+        assertEquals(127, histogram.percentileNanos(50));
+        assertEquals(127, histogram.percentileNanos(90));
+        assertEquals(1500, histogram.percentileNanos(99));
+        assertEquals(1500, histogram.percentileNanos(100));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = { -1, 101, Double.NaN })
+    void testInvalidPercentile(double percentile) {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentileNanos(percentile));
+    }
+
+    @Test
+    void testToString() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(100);
+        histogram.record(300);
+
+        assertEquals("LatencyHistogram[count=2,totalNanos=400,maxNanos=300]", histogram.toString());
+    }
+}
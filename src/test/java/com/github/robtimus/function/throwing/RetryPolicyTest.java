@@ -0,0 +1,271 @@
+/*
+ * RetryPolicyTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.text.ParseException;
+import java.time.Duration;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings("nls")
+class RetryPolicyTest {
+
+    @Nested
+    class Validation {
+
+        @ParameterizedTest
+        @ValueSource(ints = { 0, -1 })
+        void testInvalidMaxAttempts(int maxAttempts) {
+            assertThrows(IllegalArgumentException.class, () -> RetryPolicy.ofMaxAttempts(maxAttempts));
+        }
+
+        @Test
+        void testInvalidBackoff() {
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+            Duration delay = Duration.ofMillis(10);
+
+            assertThrows(NullPointerException.class, () -> policy.withBackoff(null, delay));
+            assertThrows(NullPointerException.class, () -> policy.withBackoff(delay, null));
+            assertThrows(IllegalArgumentException.class, () -> policy.withBackoff(Duration.ofMillis(-1), delay));
+            assertThrows(IllegalArgumentException.class, () -> policy.withBackoff(delay, Duration.ofMillis(9)));
+        }
+
+        @ParameterizedTest
+        @ValueSource(doubles = { 0.5, -1, Double.NaN, Double.POSITIVE_INFINITY })
+        void testInvalidMultiplier(double multiplier) {
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+            Duration delay = Duration.ofMillis(10);
+
+            assertThrows(IllegalArgumentException.class, () -> policy.withBackoff(delay, delay, multiplier));
+        }
+
+        @ParameterizedTest
+        @ValueSource(doubles = { -0.1, 1.1, Double.NaN })
+        void testInvalidJitter(double jitter) {
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+
+            assertThrows(IllegalArgumentException.class, () -> policy.withJitter(jitter));
+        }
+
+        @Test
+        void testInvalidDeadline() {
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+
+            assertThrows(NullPointerException.class, () -> policy.withDeadline(null));
+            assertThrows(IllegalArgumentException.class, () -> policy.withDeadline(Duration.ZERO));
+            assertThrows(IllegalArgumentException.class, () -> policy.withDeadline(Duration.ofMillis(-1)));
+        }
+
+        @Test
+        void testInvalidRetryableErrorType() {
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+
+            assertThrows(NullPointerException.class, () -> policy.withRetryableErrorType(null));
+        }
+    }
+
+    @Test
+    void testImmutable() {
+        RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+        String policyString = policy.toString();
+
+        policy.withBackoff(Duration.ofMillis(10), Duration.ofSeconds(1));
+        policy.withJitter(0.5);
+        policy.withDeadline(Duration.ofSeconds(10));
+        policy.withRetryableErrorType(IOException.class);
+
+        assertEquals(policyString, policy.toString());
+    }
+
+    @Test
+    void testWithExistingRetryableErrorType() {
+        RetryPolicy policy = RetryPolicy.ofMaxAttempts(3)
+                .withRetryableErrorType(IOException.class);
+
+        assertSame(policy, policy.withRetryableErrorType(IOException.class));
+    }
+
+    @Test
+    void testRetryableErrorTypes() {
+        int[] attempts = { 0 };
+        ThrowingRunnable<Exception> runnable = () -> {
+            attempts[0]++;
+            if (attempts[0] == 1) {
+                throw new FileNotFoundException();
+            }
+            if (attempts[0] == 2) {
+                throw new ParseException("foo", 0);
+            }
+            throw new IllegalStateException();
+        };
+        RetryPolicy policy = RetryPolicy.ofMaxAttempts(5)
+                .withRetryableErrorType(IOException.class)
+                .withRetryableErrorType(ParseException.class);
+
+        ThrowingRunnable<Exception> retrying = runnable.retry(policy);
+
+        assertThrows(IllegalStateException.class, retrying::run);
+        assertEquals(3, attempts[0]);
+    }
+
+    @Test
+    void testDeadline() {
+        int[] attempts = { 0 };
+        ThrowingRunnable<IOException> runnable = () -> {
+            attempts[0]++;
+            throw new IOException();
+        };
+        RetryPolicy policy = RetryPolicy.ofMaxAttempts(100)
+                .withBackoff(Duration.ofMillis(100), Duration.ofMillis(100))
+                .withDeadline(Duration.ofMillis(250));
+
+        ThrowingRunnable<IOException> retrying = runnable.retry(policy);
+
+        IOException thrown = assertThrows(IOException.class, retrying::run);
+
+        // attempts start at 0, 100 and 200 milliseconds; the next attempt would start after the deadline
+        assertEquals(3, attempts[0]);
+        assertEquals(2, thrown.getSuppressed().length);
+    }
+
+    @Test
+    void testInterrupted() {
+        int[] attempts = { 0 };
+        ThrowingRunnable<IOException> runnable = () -> {
+            attempts[0]++;
+            throw new IOException();
+        };
+        RetryPolicy policy = RetryPolicy.ofMaxAttempts(3)
+                .withBackoff(Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+        ThrowingRunnable<IOException> retrying = runnable.retry(policy);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(IOException.class, retrying::run);
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            // clear the interrupted status
+            Thread.interrupted();
+        }
+
+        assertEquals(1, attempts[0]);
+    }
+
+    @Test
+    void testInterruptedExceptionNotRetried() {
+        int[] attempts = { 0 };
+        ThrowingRunnable<Exception> runnable = () -> {
+            attempts[0]++;
+            throw new InterruptedException();
+        };
+        RetryPolicy policy = RetryPolicy.ofMaxAttempts(3)
+                .withRetryableErrorType(InterruptedException.class);
+
+        ThrowingRunnable<Exception> retrying = runnable.retry(policy);
+
+        try {
+            assertThrows(InterruptedException.class, retrying::run);
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            // clear the interrupted status
+            Thread.interrupted();
+        }
+
+        assertEquals(1, attempts[0]);
+    }
+
+    @Test
+    void testInterruptedIOExceptionNotRetried() {
+        int[] attempts = { 0 };
+        ThrowingRunnable<IOException> runnable = () -> {
+            attempts[0]++;
+            throw new InterruptedIOException();
+        };
+        RetryPolicy policy = RetryPolicy.ofMaxAttempts(3)
+                .withRetryableErrorType(IOException.class);
+
+        ThrowingRunnable<IOException> retrying = runnable.retry(policy);
+
+        try {
+            assertThrows(InterruptedIOException.class, retrying::run);
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            // clear the interrupted status
+            Thread.interrupted();
+        }
+
+        assertEquals(1, attempts[0]);
+    }
+
+    @Test
+    void testSameExceptionThrownMoreThanOnce() {
+        IOException exception = new IOException();
+        ThrowingRunnable<IOException> runnable = () -> {
+            throw exception;
+        };
+        RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+
+        ThrowingRunnable<IOException> retrying = runnable.retry(policy);
+
+        IOException thrown = assertThrows(IOException.class, retrying::run);
+        assertSame(exception, thrown);
+        assertEquals(0, thrown.getSuppressed().length);
+    }
+
+    @Test
+    void testPolicyIsReusable() throws IOException {
+        RetryPolicy policy = RetryPolicy.ofMaxAttempts(2);
+        int[] attempts = { 0 };
+        ThrowingSupplier<String, IOException> supplier = ThrowingSupplier.<String, IOException>of(() -> {
+            attempts[0]++;
+            if (attempts[0] % 2 == 1) {
+                throw new IOException();
+            }
+            return Integer.toString(attempts[0]);
+        }).retry(policy);
+
+        assertEquals("2", supplier.get());
+        assertEquals("4", supplier.get());
+    }
+
+    @Test
+    void testToString() {
+        RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+
+        assertEquals("RetryPolicy[maxAttempts=3,initialDelay=PT0S,maxDelay=PT0S,multiplier=1.0,jitter=0.0]", policy.toString());
+
+        policy = policy.withBackoff(Duration.ofMillis(100), Duration.ofSeconds(1))
+                .withJitter(0.5)
+                .withDeadline(Duration.ofSeconds(10))
+                .withRetryableErrorType(IOException.class)
+                .withRetryableErrorType(ParseException.class);
+
+        assertEquals("RetryPolicy[maxAttempts=3,initialDelay=PT0.1S,maxDelay=PT1S,multiplier=2.0,jitter=0.5,deadline=PT10S"
+                + ",retryableErrorTypes=[java.io.IOException,java.text.ParseException]]", policy.toString());
+    }
+}
@@ -87,10 +87,62 @@ final class Spied {
         return spy(new ThrowingBooleanSupplierWrapper<>(supplier));
     }
 
+    static <X extends Throwable> ThrowingByteConsumer<X> throwingByteConsumer(ThrowingByteConsumer<X> consumer) {
+        return spy(new ThrowingByteConsumerWrapper<>(consumer));
+    }
+
+    static <R, X extends Throwable> ThrowingByteFunction<R, X> throwingByteFunction(ThrowingByteFunction<R, X> function) {
+        return spy(new ThrowingByteFunctionWrapper<>(function));
+    }
+
+    static <X extends Throwable> ThrowingBytePredicate<X> throwingBytePredicate(ThrowingBytePredicate<X> predicate) {
+        return spy(new ThrowingBytePredicateWrapper<>(predicate));
+    }
+
+    static <X extends Throwable> ThrowingByteSupplier<X> throwingByteSupplier(ThrowingByteSupplier<X> supplier) {
+        return spy(new ThrowingByteSupplierWrapper<>(supplier));
+    }
+
+    static <X extends Throwable> ThrowingByteUnaryOperator<X> throwingByteUnaryOperator(ThrowingByteUnaryOperator<X> operator) {
+        return spy(new ThrowingByteUnaryOperatorWrapper<>(operator));
+    }
+
+    static <X extends Throwable> ThrowingCharConsumer<X> throwingCharConsumer(ThrowingCharConsumer<X> consumer) {
+        return spy(new ThrowingCharConsumerWrapper<>(consumer));
+    }
+
+    static <R, X extends Throwable> ThrowingCharFunction<R, X> throwingCharFunction(ThrowingCharFunction<R, X> function) {
+        return spy(new ThrowingCharFunctionWrapper<>(function));
+    }
+
+    static <X extends Throwable> ThrowingCharPredicate<X> throwingCharPredicate(ThrowingCharPredicate<X> predicate) {
+        return spy(new ThrowingCharPredicateWrapper<>(predicate));
+    }
+
+    static <X extends Throwable> ThrowingCharSupplier<X> throwingCharSupplier(ThrowingCharSupplier<X> supplier) {
+        return spy(new ThrowingCharSupplierWrapper<>(supplier));
+    }
+
+    static <X extends Throwable> ThrowingCharUnaryOperator<X> throwingCharUnaryOperator(ThrowingCharUnaryOperator<X> operator) {
+        return spy(new ThrowingCharUnaryOperatorWrapper<>(operator));
+    }
+
     static <T, X extends Throwable> ThrowingConsumer<T, X> throwingConsumer(ThrowingConsumer<T, X> consumer) {
         return spy(new ThrowingConsumerWrapper<>(consumer));
     }
 
+    static <X extends Throwable> ThrowingDoubleBiConsumer<X> throwingDoubleBiConsumer(ThrowingDoubleBiConsumer<X> consumer) {
+        return spy(new ThrowingDoubleBiConsumerWrapper<>(consumer));
+    }
+
+    static <R, X extends Throwable> ThrowingDoubleBiFunction<R, X> throwingDoubleBiFunction(ThrowingDoubleBiFunction<R, X> function) {
+        return spy(new ThrowingDoubleBiFunctionWrapper<>(function));
+    }
+
+    static <X extends Throwable> ThrowingDoubleBiPredicate<X> throwingDoubleBiPredicate(ThrowingDoubleBiPredicate<X> predicate) {
+        return spy(new ThrowingDoubleBiPredicateWrapper<>(predicate));
+    }
+
     static <X extends Throwable> ThrowingDoubleBinaryOperator<X> throwingDoubleBinaryOperator(ThrowingDoubleBinaryOperator<X> operator) {
         return spy(new ThrowingDoubleBinaryOperatorWrapper<>(operator));
     }
@@ -123,10 +175,42 @@ final class Spied {
         return spy(new ThrowingDoubleUnaryOperatorWrapper<>(operator));
     }
 
+    static <X extends Throwable> ThrowingFloatConsumer<X> throwingFloatConsumer(ThrowingFloatConsumer<X> consumer) {
+        return spy(new ThrowingFloatConsumerWrapper<>(consumer));
+    }
+
+    static <R, X extends Throwable> ThrowingFloatFunction<R, X> throwingFloatFunction(ThrowingFloatFunction<R, X> function) {
+        return spy(new ThrowingFloatFunctionWrapper<>(function));
+    }
+
+    static <X extends Throwable> ThrowingFloatPredicate<X> throwingFloatPredicate(ThrowingFloatPredicate<X> predicate) {
+        return spy(new ThrowingFloatPredicateWrapper<>(predicate));
+    }
+
+    static <X extends Throwable> ThrowingFloatSupplier<X> throwingFloatSupplier(ThrowingFloatSupplier<X> supplier) {
+        return spy(new ThrowingFloatSupplierWrapper<>(supplier));
+    }
+
+    static <X extends Throwable> ThrowingFloatUnaryOperator<X> throwingFloatUnaryOperator(ThrowingFloatUnaryOperator<X> operator) {
+        return spy(new ThrowingFloatUnaryOperatorWrapper<>(operator));
+    }
+
     static <T, R, X extends Throwable> ThrowingFunction<T, R, X> throwingFunction(ThrowingFunction<T, R, X> function) {
         return spy(new ThrowingFunctionWrapper<>(function));
     }
 
+    static <X extends Throwable> ThrowingIntBiConsumer<X> throwingIntBiConsumer(ThrowingIntBiConsumer<X> consumer) {
+        return spy(new ThrowingIntBiConsumerWrapper<>(consumer));
+    }
+
+    static <R, X extends Throwable> ThrowingIntBiFunction<R, X> throwingIntBiFunction(ThrowingIntBiFunction<R, X> function) {
+        return spy(new ThrowingIntBiFunctionWrapper<>(function));
+    }
+
+    static <X extends Throwable> ThrowingIntBiPredicate<X> throwingIntBiPredicate(ThrowingIntBiPredicate<X> predicate) {
+        return spy(new ThrowingIntBiPredicateWrapper<>(predicate));
+    }
+
     static <X extends Throwable> ThrowingIntBinaryOperator<X> throwingIntBinaryOperator(ThrowingIntBinaryOperator<X> operator) {
         return spy(new ThrowingIntBinaryOperatorWrapper<>(operator));
     }
@@ -159,6 +243,18 @@ final class Spied {
         return spy(new ThrowingIntUnaryOperatorWrapper<>(operator));
     }
 
+    static <X extends Throwable> ThrowingLongBiConsumer<X> throwingLongBiConsumer(ThrowingLongBiConsumer<X> consumer) {
+        return spy(new ThrowingLongBiConsumerWrapper<>(consumer));
+    }
+
+    static <R, X extends Throwable> ThrowingLongBiFunction<R, X> throwingLongBiFunction(ThrowingLongBiFunction<R, X> function) {
+        return spy(new ThrowingLongBiFunctionWrapper<>(function));
+    }
+
+    static <X extends Throwable> ThrowingLongBiPredicate<X> throwingLongBiPredicate(ThrowingLongBiPredicate<X> predicate) {
+        return spy(new ThrowingLongBiPredicateWrapper<>(predicate));
+    }
+
     static <X extends Throwable> ThrowingLongBinaryOperator<X> throwingLongBinaryOperator(ThrowingLongBinaryOperator<X> operator) {
         return spy(new ThrowingLongBinaryOperatorWrapper<>(operator));
     }
@@ -195,14 +291,52 @@ final class Spied {
         return spy(new ThrowingObjDoubleConsumerWrapper<>(consumer));
     }
 
+    static <T, R, X extends Throwable> ThrowingObjDoubleFunction<T, R, X> throwingObjDoubleFunction(ThrowingObjDoubleFunction<T, R, X> function) {
+        return spy(new ThrowingObjDoubleFunctionWrapper<>(function));
+    }
+
+    static <T, X extends Throwable> ThrowingObjDoublePredicate<T, X> throwingObjDoublePredicate(ThrowingObjDoublePredicate<T, X> predicate) {
+        return spy(new ThrowingObjDoublePredicateWrapper<>(predicate));
+    }
+
     static <T, X extends Throwable> ThrowingObjIntConsumer<T, X> throwingObjIntConsumer(ThrowingObjIntConsumer<T, X> consumer) {
         return spy(new ThrowingObjIntConsumerWrapper<>(consumer));
     }
 
+    static <T, R, X extends Throwable> ThrowingObjIntFunction<T, R, X> throwingObjIntFunction(ThrowingObjIntFunction<T, R, X> function) {
+        return spy(new ThrowingObjIntFunctionWrapper<>(function));
+    }
+
+    static <T, X extends Throwable> ThrowingObjIntPredicate<T, X> throwingObjIntPredicate(ThrowingObjIntPredicate<T, X> predicate) {
+        return spy(new ThrowingObjIntPredicateWrapper<>(predicate));
+    }
+
+    static <T, X extends Throwable> ThrowingObjIntToDoubleFunction<T, X> throwingObjIntToDoubleFunction(
+            ThrowingObjIntToDoubleFunction<T, X> function) {
+
+        return spy(new ThrowingObjIntToDoubleFunctionWrapper<>(function));
+    }
+
+    static <T, X extends Throwable> ThrowingObjIntToIntFunction<T, X> throwingObjIntToIntFunction(ThrowingObjIntToIntFunction<T, X> function) {
+        return spy(new ThrowingObjIntToIntFunctionWrapper<>(function));
+    }
+
+    static <T, X extends Throwable> ThrowingObjIntToLongFunction<T, X> throwingObjIntToLongFunction(ThrowingObjIntToLongFunction<T, X> function) {
+        return spy(new ThrowingObjIntToLongFunctionWrapper<>(function));
+    }
+
     static <T, X extends Throwable> ThrowingObjLongConsumer<T, X> throwingObjLongConsumer(ThrowingObjLongConsumer<T, X> consumer) {
         return spy(new ThrowingObjLongConsumerWrapper<>(consumer));
     }
 
+    static <T, R, X extends Throwable> ThrowingObjLongFunction<T, R, X> throwingObjLongFunction(ThrowingObjLongFunction<T, R, X> function) {
+        return spy(new ThrowingObjLongFunctionWrapper<>(function));
+    }
+
+    static <T, X extends Throwable> ThrowingObjLongPredicate<T, X> throwingObjLongPredicate(ThrowingObjLongPredicate<T, X> predicate) {
+        return spy(new ThrowingObjLongPredicateWrapper<>(predicate));
+    }
+
     static <T, X extends Throwable> ThrowingPredicate<T, X> throwingPredicate(ThrowingPredicate<T, X> predicate) {
         return spy(new ThrowingPredicateWrapper<>(predicate));
     }
@@ -211,10 +345,38 @@ final class Spied {
         return spy(new ThrowingRunnableWrapper<>(runnable));
     }
 
+    static <X extends Throwable> ThrowingShortConsumer<X> throwingShortConsumer(ThrowingShortConsumer<X> consumer) {
+        return spy(new ThrowingShortConsumerWrapper<>(consumer));
+    }
+
+    static <R, X extends Throwable> ThrowingShortFunction<R, X> throwingShortFunction(ThrowingShortFunction<R, X> function) {
+        return spy(new ThrowingShortFunctionWrapper<>(function));
+    }
+
+    static <X extends Throwable> ThrowingShortPredicate<X> throwingShortPredicate(ThrowingShortPredicate<X> predicate) {
+        return spy(new ThrowingShortPredicateWrapper<>(predicate));
+    }
+
+    static <X extends Throwable> ThrowingShortSupplier<X> throwingShortSupplier(ThrowingShortSupplier<X> supplier) {
+        return spy(new ThrowingShortSupplierWrapper<>(supplier));
+    }
+
+    static <X extends Throwable> ThrowingShortUnaryOperator<X> throwingShortUnaryOperator(ThrowingShortUnaryOperator<X> operator) {
+        return spy(new ThrowingShortUnaryOperatorWrapper<>(operator));
+    }
+
     static <T, X extends Throwable> ThrowingSupplier<T, X> throwingSupplier(ThrowingSupplier<T, X> supplier) {
         return spy(new ThrowingSupplierWrapper<>(supplier));
     }
 
+    static <T, X extends Throwable> ThrowingToByteFunction<T, X> throwingToByteFunction(ThrowingToByteFunction<T, X> function) {
+        return spy(new ThrowingToByteFunctionWrapper<>(function));
+    }
+
+    static <T, X extends Throwable> ThrowingToCharFunction<T, X> throwingToCharFunction(ThrowingToCharFunction<T, X> function) {
+        return spy(new ThrowingToCharFunctionWrapper<>(function));
+    }
+
     static <T, U, X extends Throwable> ThrowingToDoubleBiFunction<T, U, X> throwingToDoubleBiFunction(ThrowingToDoubleBiFunction<T, U, X> function) {
         return spy(new ThrowingToDoubleBiFunctionWrapper<>(function));
     }
@@ -223,6 +385,10 @@ final class Spied {
         return spy(new ThrowingToDoubleFunctionWrapper<>(function));
     }
 
+    static <T, X extends Throwable> ThrowingToFloatFunction<T, X> throwingToFloatFunction(ThrowingToFloatFunction<T, X> function) {
+        return spy(new ThrowingToFloatFunctionWrapper<>(function));
+    }
+
     static <T, U, X extends Throwable> ThrowingToIntBiFunction<T, U, X> throwingToIntBiFunction(ThrowingToIntBiFunction<T, U, X> function) {
         return spy(new ThrowingToIntBiFunctionWrapper<>(function));
     }
@@ -239,6 +405,10 @@ final class Spied {
         return spy(new ThrowingToLongFunctionWrapper<>(function));
     }
 
+    static <T, X extends Throwable> ThrowingToShortFunction<T, X> throwingToShortFunction(ThrowingToShortFunction<T, X> function) {
+        return spy(new ThrowingToShortFunctionWrapper<>(function));
+    }
+
     static <T, X extends Throwable> ThrowingUnaryOperator<T, X> throwingUnaryOperator(ThrowingUnaryOperator<T, X> operator) {
         return spy(new ThrowingUnaryOperatorWrapper<>(operator));
     }
@@ -489,6 +659,146 @@ final class Spied {
         }
     }
 
+    private static final class ThrowingByteConsumerWrapper<X extends Throwable> implements ThrowingByteConsumer<X> {
+
+        private final ThrowingByteConsumer<X> consumer;
+
+        private ThrowingByteConsumerWrapper(ThrowingByteConsumer<X> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(byte t) throws X {
+            consumer.accept(t);
+        }
+    }
+
+    private static final class ThrowingByteFunctionWrapper<R, X extends Throwable> implements ThrowingByteFunction<R, X> {
+
+        private final ThrowingByteFunction<R, X> function;
+
+        private ThrowingByteFunctionWrapper(ThrowingByteFunction<R, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R apply(byte t) throws X {
+            return function.apply(t);
+        }
+    }
+
+    private static final class ThrowingBytePredicateWrapper<X extends Throwable> implements ThrowingBytePredicate<X> {
+
+        private final ThrowingBytePredicate<X> predicate;
+
+        private ThrowingBytePredicateWrapper(ThrowingBytePredicate<X> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(byte t) throws X {
+            return predicate.test(t);
+        }
+    }
+
+    private static final class ThrowingByteSupplierWrapper<X extends Throwable> implements ThrowingByteSupplier<X> {
+
+        private final ThrowingByteSupplier<X> supplier;
+
+        private ThrowingByteSupplierWrapper(ThrowingByteSupplier<X> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public byte getAsByte() throws X {
+            return supplier.getAsByte();
+        }
+    }
+
+    private static final class ThrowingByteUnaryOperatorWrapper<X extends Throwable> implements ThrowingByteUnaryOperator<X> {
+
+        private final ThrowingByteUnaryOperator<X> operator;
+
+        private ThrowingByteUnaryOperatorWrapper(ThrowingByteUnaryOperator<X> operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public byte applyAsByte(byte t) throws X {
+            return operator.applyAsByte(t);
+        }
+    }
+
+    private static final class ThrowingCharConsumerWrapper<X extends Throwable> implements ThrowingCharConsumer<X> {
+
+        private final ThrowingCharConsumer<X> consumer;
+
+        private ThrowingCharConsumerWrapper(ThrowingCharConsumer<X> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(char t) throws X {
+            consumer.accept(t);
+        }
+    }
+
+    private static final class ThrowingCharFunctionWrapper<R, X extends Throwable> implements ThrowingCharFunction<R, X> {
+
+        private final ThrowingCharFunction<R, X> function;
+
+        private ThrowingCharFunctionWrapper(ThrowingCharFunction<R, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R apply(char t) throws X {
+            return function.apply(t);
+        }
+    }
+
+    private static final class ThrowingCharPredicateWrapper<X extends Throwable> implements ThrowingCharPredicate<X> {
+
+        private final ThrowingCharPredicate<X> predicate;
+
+        private ThrowingCharPredicateWrapper(ThrowingCharPredicate<X> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(char t) throws X {
+            return predicate.test(t);
+        }
+    }
+
+    private static final class ThrowingCharSupplierWrapper<X extends Throwable> implements ThrowingCharSupplier<X> {
+
+        private final ThrowingCharSupplier<X> supplier;
+
+        private ThrowingCharSupplierWrapper(ThrowingCharSupplier<X> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public char getAsChar() throws X {
+            return supplier.getAsChar();
+        }
+    }
+
+    private static final class ThrowingCharUnaryOperatorWrapper<X extends Throwable> implements ThrowingCharUnaryOperator<X> {
+
+        private final ThrowingCharUnaryOperator<X> operator;
+
+        private ThrowingCharUnaryOperatorWrapper(ThrowingCharUnaryOperator<X> operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public char applyAsChar(char t) throws X {
+            return operator.applyAsChar(t);
+        }
+    }
+
     private static final class ThrowingConsumerWrapper<T, X extends Throwable> implements ThrowingConsumer<T, X> {
 
         private final ThrowingConsumer<T, X> consumer;
@@ -503,6 +813,48 @@ final class Spied {
         }
     }
 
+    private static final class ThrowingDoubleBiConsumerWrapper<X extends Throwable> implements ThrowingDoubleBiConsumer<X> {
+
+        private final ThrowingDoubleBiConsumer<X> consumer;
+
+        private ThrowingDoubleBiConsumerWrapper(ThrowingDoubleBiConsumer<X> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(double t, double u) throws X {
+            consumer.accept(t, u);
+        }
+    }
+
+    private static final class ThrowingDoubleBiFunctionWrapper<R, X extends Throwable> implements ThrowingDoubleBiFunction<R, X> {
+
+        private final ThrowingDoubleBiFunction<R, X> function;
+
+        private ThrowingDoubleBiFunctionWrapper(ThrowingDoubleBiFunction<R, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R apply(double t, double u) throws X {
+            return function.apply(t, u);
+        }
+    }
+
+    private static final class ThrowingDoubleBiPredicateWrapper<X extends Throwable> implements ThrowingDoubleBiPredicate<X> {
+
+        private final ThrowingDoubleBiPredicate<X> predicate;
+
+        private ThrowingDoubleBiPredicateWrapper(ThrowingDoubleBiPredicate<X> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(double t, double u) throws X {
+            return predicate.test(t, u);
+        }
+    }
+
     private static final class ThrowingDoubleBinaryOperatorWrapper<X extends Throwable> implements ThrowingDoubleBinaryOperator<X> {
 
         private final ThrowingDoubleBinaryOperator<X> operator;
@@ -615,6 +967,76 @@ final class Spied {
         }
     }
 
+    private static final class ThrowingFloatConsumerWrapper<X extends Throwable> implements ThrowingFloatConsumer<X> {
+
+        private final ThrowingFloatConsumer<X> consumer;
+
+        private ThrowingFloatConsumerWrapper(ThrowingFloatConsumer<X> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(float t) throws X {
+            consumer.accept(t);
+        }
+    }
+
+    private static final class ThrowingFloatFunctionWrapper<R, X extends Throwable> implements ThrowingFloatFunction<R, X> {
+
+        private final ThrowingFloatFunction<R, X> function;
+
+        private ThrowingFloatFunctionWrapper(ThrowingFloatFunction<R, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R apply(float t) throws X {
+            return function.apply(t);
+        }
+    }
+
+    private static final class ThrowingFloatPredicateWrapper<X extends Throwable> implements ThrowingFloatPredicate<X> {
+
+        private final ThrowingFloatPredicate<X> predicate;
+
+        private ThrowingFloatPredicateWrapper(ThrowingFloatPredicate<X> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(float t) throws X {
+            return predicate.test(t);
+        }
+    }
+
+    private static final class ThrowingFloatSupplierWrapper<X extends Throwable> implements ThrowingFloatSupplier<X> {
+
+        private final ThrowingFloatSupplier<X> supplier;
+
+        private ThrowingFloatSupplierWrapper(ThrowingFloatSupplier<X> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public float getAsFloat() throws X {
+            return supplier.getAsFloat();
+        }
+    }
+
+    private static final class ThrowingFloatUnaryOperatorWrapper<X extends Throwable> implements ThrowingFloatUnaryOperator<X> {
+
+        private final ThrowingFloatUnaryOperator<X> operator;
+
+        private ThrowingFloatUnaryOperatorWrapper(ThrowingFloatUnaryOperator<X> operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public float applyAsFloat(float t) throws X {
+            return operator.applyAsFloat(t);
+        }
+    }
+
     private static final class ThrowingFunctionWrapper<T, R, X extends Throwable> implements ThrowingFunction<T, R, X> {
 
         private final ThrowingFunction<T, R, X> function;
@@ -629,6 +1051,48 @@ final class Spied {
         }
     }
 
+    private static final class ThrowingIntBiConsumerWrapper<X extends Throwable> implements ThrowingIntBiConsumer<X> {
+
+        private final ThrowingIntBiConsumer<X> consumer;
+
+        private ThrowingIntBiConsumerWrapper(ThrowingIntBiConsumer<X> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(int t, int u) throws X {
+            consumer.accept(t, u);
+        }
+    }
+
+    private static final class ThrowingIntBiFunctionWrapper<R, X extends Throwable> implements ThrowingIntBiFunction<R, X> {
+
+        private final ThrowingIntBiFunction<R, X> function;
+
+        private ThrowingIntBiFunctionWrapper(ThrowingIntBiFunction<R, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R apply(int t, int u) throws X {
+            return function.apply(t, u);
+        }
+    }
+
+    private static final class ThrowingIntBiPredicateWrapper<X extends Throwable> implements ThrowingIntBiPredicate<X> {
+
+        private final ThrowingIntBiPredicate<X> predicate;
+
+        private ThrowingIntBiPredicateWrapper(ThrowingIntBiPredicate<X> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(int t, int u) throws X {
+            return predicate.test(t, u);
+        }
+    }
+
     private static final class ThrowingIntBinaryOperatorWrapper<X extends Throwable> implements ThrowingIntBinaryOperator<X> {
 
         private final ThrowingIntBinaryOperator<X> operator;
@@ -741,6 +1205,48 @@ final class Spied {
         }
     }
 
+    private static final class ThrowingLongBiConsumerWrapper<X extends Throwable> implements ThrowingLongBiConsumer<X> {
+
+        private final ThrowingLongBiConsumer<X> consumer;
+
+        private ThrowingLongBiConsumerWrapper(ThrowingLongBiConsumer<X> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(long t, long u) throws X {
+            consumer.accept(t, u);
+        }
+    }
+
+    private static final class ThrowingLongBiFunctionWrapper<R, X extends Throwable> implements ThrowingLongBiFunction<R, X> {
+
+        private final ThrowingLongBiFunction<R, X> function;
+
+        private ThrowingLongBiFunctionWrapper(ThrowingLongBiFunction<R, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R apply(long t, long u) throws X {
+            return function.apply(t, u);
+        }
+    }
+
+    private static final class ThrowingLongBiPredicateWrapper<X extends Throwable> implements ThrowingLongBiPredicate<X> {
+
+        private final ThrowingLongBiPredicate<X> predicate;
+
+        private ThrowingLongBiPredicateWrapper(ThrowingLongBiPredicate<X> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(long t, long u) throws X {
+            return predicate.test(t, u);
+        }
+    }
+
     private static final class ThrowingLongBinaryOperatorWrapper<X extends Throwable> implements ThrowingLongBinaryOperator<X> {
 
         private final ThrowingLongBinaryOperator<X> operator;
@@ -867,6 +1373,34 @@ final class Spied {
         }
     }
 
+    private static final class ThrowingObjDoubleFunctionWrapper<T, R, X extends Throwable> implements ThrowingObjDoubleFunction<T, R, X> {
+
+        private final ThrowingObjDoubleFunction<T, R, X> function;
+
+        private ThrowingObjDoubleFunctionWrapper(ThrowingObjDoubleFunction<T, R, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R apply(T t, double u) throws X {
+            return function.apply(t, u);
+        }
+    }
+
+    private static final class ThrowingObjDoublePredicateWrapper<T, X extends Throwable> implements ThrowingObjDoublePredicate<T, X> {
+
+        private final ThrowingObjDoublePredicate<T, X> predicate;
+
+        private ThrowingObjDoublePredicateWrapper(ThrowingObjDoublePredicate<T, X> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(T t, double u) throws X {
+            return predicate.test(t, u);
+        }
+    }
+
     private static final class ThrowingObjIntConsumerWrapper<T, X extends Throwable> implements ThrowingObjIntConsumer<T, X> {
 
         private final ThrowingObjIntConsumer<T, X> consumer;
@@ -881,6 +1415,76 @@ final class Spied {
         }
     }
 
+    private static final class ThrowingObjIntFunctionWrapper<T, R, X extends Throwable> implements ThrowingObjIntFunction<T, R, X> {
+
+        private final ThrowingObjIntFunction<T, R, X> function;
+
+        private ThrowingObjIntFunctionWrapper(ThrowingObjIntFunction<T, R, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R apply(T t, int u) throws X {
+            return function.apply(t, u);
+        }
+    }
+
+    private static final class ThrowingObjIntPredicateWrapper<T, X extends Throwable> implements ThrowingObjIntPredicate<T, X> {
+
+        private final ThrowingObjIntPredicate<T, X> predicate;
+
+        private ThrowingObjIntPredicateWrapper(ThrowingObjIntPredicate<T, X> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(T t, int u) throws X {
+            return predicate.test(t, u);
+        }
+    }
+
+    private static final class ThrowingObjIntToDoubleFunctionWrapper<T, X extends Throwable> implements ThrowingObjIntToDoubleFunction<T, X> {
+
+        private final ThrowingObjIntToDoubleFunction<T, X> function;
+
+        private ThrowingObjIntToDoubleFunctionWrapper(ThrowingObjIntToDoubleFunction<T, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public double applyAsDouble(T t, int u) throws X {
+            return function.applyAsDouble(t, u);
+        }
+    }
+
+    private static final class ThrowingObjIntToIntFunctionWrapper<T, X extends Throwable> implements ThrowingObjIntToIntFunction<T, X> {
+
+        private final ThrowingObjIntToIntFunction<T, X> function;
+
+        private ThrowingObjIntToIntFunctionWrapper(ThrowingObjIntToIntFunction<T, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public int applyAsInt(T t, int u) throws X {
+            return function.applyAsInt(t, u);
+        }
+    }
+
+    private static final class ThrowingObjIntToLongFunctionWrapper<T, X extends Throwable> implements ThrowingObjIntToLongFunction<T, X> {
+
+        private final ThrowingObjIntToLongFunction<T, X> function;
+
+        private ThrowingObjIntToLongFunctionWrapper(ThrowingObjIntToLongFunction<T, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public long applyAsLong(T t, int u) throws X {
+            return function.applyAsLong(t, u);
+        }
+    }
+
     private static final class ThrowingObjLongConsumerWrapper<T, X extends Throwable> implements ThrowingObjLongConsumer<T, X> {
 
         private final ThrowingObjLongConsumer<T, X> consumer;
@@ -895,6 +1499,34 @@ final class Spied {
         }
     }
 
+    private static final class ThrowingObjLongFunctionWrapper<T, R, X extends Throwable> implements ThrowingObjLongFunction<T, R, X> {
+
+        private final ThrowingObjLongFunction<T, R, X> function;
+
+        private ThrowingObjLongFunctionWrapper(ThrowingObjLongFunction<T, R, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R apply(T t, long u) throws X {
+            return function.apply(t, u);
+        }
+    }
+
+    private static final class ThrowingObjLongPredicateWrapper<T, X extends Throwable> implements ThrowingObjLongPredicate<T, X> {
+
+        private final ThrowingObjLongPredicate<T, X> predicate;
+
+        private ThrowingObjLongPredicateWrapper(ThrowingObjLongPredicate<T, X> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(T t, long u) throws X {
+            return predicate.test(t, u);
+        }
+    }
+
     private static final class ThrowingPredicateWrapper<T, X extends Throwable> implements ThrowingPredicate<T, X> {
 
         private final ThrowingPredicate<T, X> predicate;
@@ -923,6 +1555,76 @@ final class Spied {
         }
     }
 
+    private static final class ThrowingShortConsumerWrapper<X extends Throwable> implements ThrowingShortConsumer<X> {
+
+        private final ThrowingShortConsumer<X> consumer;
+
+        private ThrowingShortConsumerWrapper(ThrowingShortConsumer<X> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(short t) throws X {
+            consumer.accept(t);
+        }
+    }
+
+    private static final class ThrowingShortFunctionWrapper<R, X extends Throwable> implements ThrowingShortFunction<R, X> {
+
+        private final ThrowingShortFunction<R, X> function;
+
+        private ThrowingShortFunctionWrapper(ThrowingShortFunction<R, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R apply(short t) throws X {
+            return function.apply(t);
+        }
+    }
+
+    private static final class ThrowingShortPredicateWrapper<X extends Throwable> implements ThrowingShortPredicate<X> {
+
+        private final ThrowingShortPredicate<X> predicate;
+
+        private ThrowingShortPredicateWrapper(ThrowingShortPredicate<X> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(short t) throws X {
+            return predicate.test(t);
+        }
+    }
+
+    private static final class ThrowingShortSupplierWrapper<X extends Throwable> implements ThrowingShortSupplier<X> {
+
+        private final ThrowingShortSupplier<X> supplier;
+
+        private ThrowingShortSupplierWrapper(ThrowingShortSupplier<X> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public short getAsShort() throws X {
+            return supplier.getAsShort();
+        }
+    }
+
+    private static final class ThrowingShortUnaryOperatorWrapper<X extends Throwable> implements ThrowingShortUnaryOperator<X> {
+
+        private final ThrowingShortUnaryOperator<X> operator;
+
+        private ThrowingShortUnaryOperatorWrapper(ThrowingShortUnaryOperator<X> operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public short applyAsShort(short t) throws X {
+            return operator.applyAsShort(t);
+        }
+    }
+
     private static final class ThrowingSupplierWrapper<T, X extends Throwable> implements ThrowingSupplier<T, X> {
 
         private final ThrowingSupplier<T, X> supplier;
@@ -937,6 +1639,34 @@ final class Spied {
         }
     }
 
+    private static final class ThrowingToByteFunctionWrapper<T, X extends Throwable> implements ThrowingToByteFunction<T, X> {
+
+        private final ThrowingToByteFunction<T, X> function;
+
+        private ThrowingToByteFunctionWrapper(ThrowingToByteFunction<T, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public byte applyAsByte(T t) throws X {
+            return function.applyAsByte(t);
+        }
+    }
+
+    private static final class ThrowingToCharFunctionWrapper<T, X extends Throwable> implements ThrowingToCharFunction<T, X> {
+
+        private final ThrowingToCharFunction<T, X> function;
+
+        private ThrowingToCharFunctionWrapper(ThrowingToCharFunction<T, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public char applyAsChar(T t) throws X {
+            return function.applyAsChar(t);
+        }
+    }
+
     private static final class ThrowingToDoubleBiFunctionWrapper<T, U, X extends Throwable> implements ThrowingToDoubleBiFunction<T, U, X> {
 
         private final ThrowingToDoubleBiFunction<T, U, X> function;
@@ -965,6 +1695,20 @@ final class Spied {
         }
     }
 
+    private static final class ThrowingToFloatFunctionWrapper<T, X extends Throwable> implements ThrowingToFloatFunction<T, X> {
+
+        private final ThrowingToFloatFunction<T, X> function;
+
+        private ThrowingToFloatFunctionWrapper(ThrowingToFloatFunction<T, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public float applyAsFloat(T t) throws X {
+            return function.applyAsFloat(t);
+        }
+    }
+
     private static final class ThrowingToIntBiFunctionWrapper<T, U, X extends Throwable> implements ThrowingToIntBiFunction<T, U, X> {
 
         private final ThrowingToIntBiFunction<T, U, X> function;
@@ -1021,6 +1765,20 @@ final class Spied {
         }
     }
 
+    private static final class ThrowingToShortFunctionWrapper<T, X extends Throwable> implements ThrowingToShortFunction<T, X> {
+
+        private final ThrowingToShortFunction<T, X> function;
+
+        private ThrowingToShortFunctionWrapper(ThrowingToShortFunction<T, X> function) {
+            this.function = function;
+        }
+
+        @Override
+        public short applyAsShort(T t) throws X {
+            return function.applyAsShort(t);
+        }
+    }
+
     private static final class ThrowingUnaryOperatorWrapper<T, X extends Throwable> implements ThrowingUnaryOperator<T, X> {
 
         private final ThrowingUnaryOperator<T, X> operator;
@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -706,7 +708,6 @@ class ThrowingBiConsumerTest {
 
             verify(consumer).accept("foo", "bar");
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -724,7 +725,6 @@ class ThrowingBiConsumerTest {
 
             verify(consumer).accept("foo", "bar");
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -740,7 +740,192 @@ class ThrowingBiConsumerTest {
 
             verify(consumer).accept("foo", "bar");
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBiConsumer<String, String, IOException> consumer = Spied.throwingBiConsumer(String::concat);
+
+            BiConsumer<String, String> sneaky = consumer.sneaky();
+
+            sneaky.accept("foo", "bar");
+
+            verify(consumer).accept("foo", "bar");
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBiConsumer<String, String, IOException> consumer = Spied.throwingBiConsumer((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            BiConsumer<String, String> sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(consumer).accept("foo", "bar");
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBiConsumer<String, String, IOException> consumer = Spied.throwingBiConsumer((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            BiConsumer<String, String> sneaky = consumer.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(consumer).accept("foo", "bar");
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBiConsumer<String, String, IOException> consumer = Spied.throwingBiConsumer(String::concat);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiConsumer<String, String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept("foo", "bar");
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo", "bar");
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBiConsumer<String, String, IOException> consumer = Spied.throwingBiConsumer((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiConsumer<String, String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo", "bar");
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBiConsumer<String, String, IOException> consumer = Spied.throwingBiConsumer((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiConsumer<String, String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo", "bar");
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBiConsumer<String, String, IOException> consumer = Spied.throwingBiConsumer(String::concat);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiConsumer<String, String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept("foo", "bar");
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo", "bar");
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBiConsumer<String, String, IOException> consumer = Spied.throwingBiConsumer((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiConsumer<String, String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo", "bar");
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBiConsumer<String, String, IOException> consumer = Spied.throwingBiConsumer((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiConsumer<String, String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo", "bar");
+            verify(consumer).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(consumer);
         }
     }
@@ -783,7 +968,6 @@ class ThrowingBiConsumerTest {
             unchecked.accept("foo", "bar");
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept("foo", "bar");
             verifyNoMoreInteractions(consumer);
         }
@@ -801,7 +985,6 @@ class ThrowingBiConsumerTest {
             assertEquals("foobar", cause.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept("foo", "bar");
             verifyNoMoreInteractions(consumer);
         }
@@ -817,7 +1000,59 @@ class ThrowingBiConsumerTest {
             assertEquals("foobar", thrown.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verify(consumer).accept("foo", "bar");
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingBiConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingBiConsumer<String, String, IOException> consumer = Spied.throwingBiConsumer(String::concat);
+
+            BiConsumer<String, String> sneaky = ThrowingBiConsumer.sneaky(consumer);
+
+            sneaky.accept("foo", "bar");
+
+            verify(consumer).sneaky();
+            verify(consumer).accept("foo", "bar");
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingBiConsumer<String, String, IOException> consumer = Spied.throwingBiConsumer((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            BiConsumer<String, String> sneaky = ThrowingBiConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept("foo", "bar");
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBiConsumer<String, String, IOException> consumer = Spied.throwingBiConsumer((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            BiConsumer<String, String> sneaky = ThrowingBiConsumer.sneaky(consumer);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(consumer).sneaky();
             verify(consumer).accept("foo", "bar");
             verifyNoMoreInteractions(consumer);
         }
@@ -925,4 +1160,163 @@ class ThrowingBiConsumerTest {
             assertEquals("foobar", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingBiConsumer<String, String, IOException> operation = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BiConsumer<String, String> sneaky = ThrowingBiConsumer.sneaky(operation);
+            ThrowingBiConsumer<String, String, IOException> checked = ThrowingBiConsumer.checked(sneaky);
+            ThrowingBiConsumer<String, String, IOException> checkedWithErrorType = ThrowingBiConsumer.checked(sneaky, IOException.class);
+
+            BiConsumer<String, String> unchecked = ThrowingBiConsumer.unchecked(checked);
+            BiConsumer<String, String> uncheckedWithErrorType = ThrowingBiConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept("foo", "foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept("foo", "foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            BiConsumer<String, String> operation = (t, u) -> { /* do nothing */ };
+
+            ThrowingBiConsumer<String, String, IOException> checked = ThrowingBiConsumer.checked(operation);
+
+            assertSame(operation, ThrowingBiConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingBiConsumer<String, String, IOException> operation = (t, u) -> { /* do nothing */ };
+
+            BiConsumer<String, String> sneaky = ThrowingBiConsumer.sneaky(operation);
+
+            assertSame(operation, ThrowingBiConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingBiConsumer<String, String, IOException> operation = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BiConsumer<String, String> unchecked = ThrowingBiConsumer.unchecked(operation);
+            ThrowingBiConsumer<String, String, IOException> checked = ThrowingBiConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept("foo", "foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingBiConsumer<String, String, IOException> operation = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BiConsumer<String, String> unchecked = ThrowingBiConsumer.unchecked(operation);
+            ThrowingBiConsumer<String, String, ParseException> checked = ThrowingBiConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept("foo", "foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingBiConsumer<String, String, IOException> operation = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BiConsumer<String, String> unchecked = ThrowingBiConsumer.unchecked(operation);
+            ThrowingBiConsumer<String, String, IOException> checked = ThrowingBiConsumer.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept("foo", "foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            BiConsumer<String, String> consumer = String::concat;
+
+            assertThrows(NullPointerException.class, () -> ThrowingBiConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingBiConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            BiConsumer<String, String> delegate = Spied.biConsumer(String::concat);
+
+            ThrowingBiConsumer<String, String, IOException> consumer = ThrowingBiConsumer.catching(delegate, IOException.class);
+
+            consumer.accept("foo", "bar");
+
+            verify(delegate).accept("foo", "bar");
+            verifyNoMoreInteractions(delegate);
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                BiConsumer<String, String> sneaky = ThrowingBiConsumer.sneaky((s1, s2) -> {
+                    throw new IOException(s1 + s2);
+                });
+
+                ThrowingBiConsumer<String, String, IOException> consumer = ThrowingBiConsumer.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> consumer.accept("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                BiConsumer<String, String> sneaky = ThrowingBiConsumer.sneaky((s1, s2) -> {
+                    throw new FileNotFoundException(s1 + s2);
+                });
+
+                ThrowingBiConsumer<String, String, IOException> consumer = ThrowingBiConsumer.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> consumer.accept("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                BiConsumer<String, String> sneaky = ThrowingBiConsumer.sneaky((s1, s2) -> {
+                    throw new ParseException(s1 + s2, 0);
+                });
+
+                ThrowingBiConsumer<String, String, IOException> consumer = ThrowingBiConsumer.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept("foo", "bar"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foobar", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingBiConsumer<String, String, IOException> consumer = ThrowingBiConsumer.catching((s1, s2) -> {
+                throw new IllegalStateException(s1 + s2);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> consumer.accept("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+        }
+    }
 }
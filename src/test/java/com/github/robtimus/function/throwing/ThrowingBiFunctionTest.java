@@ -19,14 +19,18 @@ package com.github.robtimus.function.throwing;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
+import java.time.Duration;
 import java.util.concurrent.ExecutionException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -131,6 +135,17 @@ class ThrowingBiFunctionTest {
             verify(after).apply("1s");
             verifyNoMoreInteractions(function, after);
         }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction(String::concat);
+            ThrowingFunction<String, String, IOException> after = ThrowingFunction.identity();
+
+            assertSame(function, function.andThen(after));
+
+            verify(function).andThen(after);
+            verifyNoMoreInteractions(function);
+        }
     }
 
     @Nested
@@ -907,7 +922,6 @@ class ThrowingBiFunctionTest {
 
             verify(function).apply("foo", "bar");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -925,7 +939,6 @@ class ThrowingBiFunctionTest {
 
             verify(function).apply("foo", "bar");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -942,11 +955,398 @@ class ThrowingBiFunctionTest {
 
             verify(function).apply("foo", "bar");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction(String::concat);
+
+            BiFunction<String, String, String> sneaky = function.sneaky();
+
+            assertEquals("foobar", sneaky.apply("foo", "bar"));
+
+            verify(function).apply("foo", "bar");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            BiFunction<String, String, String> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).apply("foo", "bar");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied
+                    .throwingBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            BiFunction<String, String, String> sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).apply("foo", "bar");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction(String::concat);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiFunction<String, String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals("foobar", instrumented.apply("foo", "bar"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo", "bar");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiFunction<String, String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo", "bar");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied
+                    .throwingBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiFunction<String, String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo", "bar");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction(String::concat);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiFunction<String, String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("foobar", instrumented.apply("foo", "bar"));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo", "bar");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiFunction<String, String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo", "bar");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied
+                    .throwingBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiFunction<String, String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo", "bar");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction(String::concat);
+
+            ThrowingBiFunction<String, String, String, IOException> memoized = function.memoize(10);
+
+            assertEquals("foobar", memoized.apply("foo", "bar"));
+            assertEquals("barfoo", memoized.apply("bar", "foo"));
+            assertEquals("foobar", memoized.apply("foo", "bar"));
+            assertEquals("barfoo", memoized.apply("bar", "foo"));
+
+            verify(function).apply("foo", "bar");
+            verify(function).apply("bar", "foo");
+            verify(function).memoize(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            ThrowingBiFunction<String, String, String, IOException> memoized = function.memoize(10);
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function, times(2)).apply("foo", "bar");
+            verify(function).memoize(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction(
+                    (s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            ThrowingBiFunction<String, String, String, IOException> memoized = function.memoize(10);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function, times(2)).apply("foo", "bar");
+            verify(function).memoize(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testNullInputs() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction((s1, s2) -> s1 + s2);
+
+            ThrowingBiFunction<String, String, String, IOException> memoized = function.memoize(10);
+
+            assertEquals("nullbar", memoized.apply(null, "bar"));
+            assertEquals("foonull", memoized.apply("foo", null));
+            assertEquals("nullnull", memoized.apply(null, null));
+            assertEquals("nullbar", memoized.apply(null, "bar"));
+            assertEquals("foonull", memoized.apply("foo", null));
+            assertEquals("nullnull", memoized.apply(null, null));
+
+            verify(function).apply(null, "bar");
+            verify(function).apply("foo", null);
+            verify(function).apply(null, null);
+            verify(function).memoize(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testStatistics() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction(String::concat);
+            CacheStatistics statistics = new CacheStatistics();
+
+            ThrowingBiFunction<String, String, String, IOException> memoized = function.memoize(1, statistics);
+
+            assertEquals("foobar", memoized.apply("foo", "bar"));
+            assertEquals("foobar", memoized.apply("foo", "bar"));
+            assertEquals("barfoo", memoized.apply("bar", "foo"));
+            assertEquals("foobar", memoized.apply("foo", "bar"));
+
+            assertEquals(1, statistics.hitCount());
+            assertEquals(3, statistics.missCount());
+            assertEquals(2, statistics.evictionCount());
+
+            verify(function, times(2)).apply("foo", "bar");
+            verify(function).apply("bar", "foo");
+            verify(function).memoize(1, statistics);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testInvalidArguments() {
+            ThrowingBiFunction<String, String, String, IOException> function = String::concat;
+
+            assertThrows(IllegalArgumentException.class, () -> function.memoize(0));
+            assertThrows(IllegalArgumentException.class, () -> function.memoize(0, new CacheStatistics()));
+            assertThrows(NullPointerException.class, () -> function.memoize(10, (CacheStatistics) null));
+        }
+    }
+
+    @Nested
+    class MemoizeWithFailureCaching {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction(String::concat);
+
+            ThrowingBiFunction<String, String, String, IOException> memoized = function.memoize(10, Duration.ofMinutes(1));
+
+            assertEquals("foobar", memoized.apply("foo", "bar"));
+            assertEquals("foobar", memoized.apply("foo", "bar"));
+
+            verify(function).apply("foo", "bar");
+            verify(function).memoize(10, Duration.ofMinutes(1));
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction((s1, s2) -> {
+                throw new FileNotFoundException(s1 + s2);
+            });
+
+            ThrowingBiFunction<String, String, String, IOException> memoized = function.memoize(10, Duration.ofMinutes(1));
+
+            FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> memoized.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            FileNotFoundException rethrown = assertThrows(FileNotFoundException.class, () -> memoized.apply("foo", "bar"));
+            assertSame(thrown, rethrown);
+
+            verify(function).apply("foo", "bar");
+            verify(function).memoize(10, Duration.ofMinutes(1));
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction(
+                    (s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            ThrowingBiFunction<String, String, String, IOException> memoized = function.memoize(10, Duration.ofMinutes(1));
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function, times(2)).apply("foo", "bar");
+            verify(function).memoize(10, Duration.ofMinutes(1));
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testFailureCopier() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction((s1, s2) -> {
+                throw new FileNotFoundException(s1 + s2);
+            });
+            Function<IOException, IOException> copier = e -> new IOException(e.getMessage(), null);
+
+            ThrowingBiFunction<String, String, String, IOException> memoized = function.memoize(10, Duration.ofMinutes(1), copier);
+
+            IOException thrown = assertThrows(FileNotFoundException.class, () -> memoized.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            IOException rethrown = assertThrows(IOException.class, () -> memoized.apply("foo", "bar"));
+            assertNotSame(thrown, rethrown);
+            assertEquals(IOException.class, rethrown.getClass());
+            assertEquals("foobar", rethrown.getMessage());
+
+            verify(function).apply("foo", "bar");
+            verify(function).memoize(10, Duration.ofMinutes(1), copier);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testInvalidArguments() {
+            ThrowingBiFunction<String, String, String, IOException> function = String::concat;
+            Duration ttl = Duration.ofMinutes(1);
+
+            assertThrows(IllegalArgumentException.class, () -> function.memoize(0, ttl));
+            assertThrows(IllegalArgumentException.class, () -> function.memoize(10, Duration.ZERO));
+            assertThrows(NullPointerException.class, () -> function.memoize(10, (Duration) null));
+            assertThrows(NullPointerException.class, () -> function.memoize(10, ttl, null));
+        }
+    }
+
     @Nested
     class Of {
 
@@ -980,7 +1380,6 @@ class ThrowingBiFunctionTest {
             assertEquals("foobar", unchecked.apply("foo", "bar"));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).apply("foo", "bar");
             verifyNoMoreInteractions(function);
         }
@@ -998,7 +1397,6 @@ class ThrowingBiFunctionTest {
             assertEquals("foobar", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).apply("foo", "bar");
             verifyNoMoreInteractions(function);
         }
@@ -1015,7 +1413,60 @@ class ThrowingBiFunctionTest {
             assertEquals("foobar", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).apply("foo", "bar");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction(String::concat);
+
+            BiFunction<String, String, String> sneaky = ThrowingBiFunction.sneaky(function);
+
+            assertEquals("foobar", sneaky.apply("foo", "bar"));
+
+            verify(function).sneaky();
+            verify(function).apply("foo", "bar");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied.throwingBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            BiFunction<String, String, String> sneaky = ThrowingBiFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply("foo", "bar");
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = Spied
+                    .throwingBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            BiFunction<String, String, String> sneaky = ThrowingBiFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).apply("foo", "bar");
             verifyNoMoreInteractions(function);
         }
@@ -1113,4 +1564,158 @@ class ThrowingBiFunctionTest {
             assertEquals("foobar", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingBiFunction<String, String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BiFunction<String, String, String> sneaky = ThrowingBiFunction.sneaky(function);
+            ThrowingBiFunction<String, String, String, IOException> checked = ThrowingBiFunction.checked(sneaky);
+            ThrowingBiFunction<String, String, String, IOException> checkedWithErrorType = ThrowingBiFunction.checked(sneaky, IOException.class);
+
+            BiFunction<String, String, String> unchecked = ThrowingBiFunction.unchecked(checked);
+            BiFunction<String, String, String> uncheckedWithErrorType = ThrowingBiFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo", "foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply("foo", "foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            BiFunction<String, String, String> function = (t, u) -> "foo";
+
+            ThrowingBiFunction<String, String, String, IOException> checked = ThrowingBiFunction.checked(function);
+
+            assertSame(function, ThrowingBiFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingBiFunction<String, String, String, IOException> function = (t, u) -> "foo";
+
+            BiFunction<String, String, String> sneaky = ThrowingBiFunction.sneaky(function);
+
+            assertSame(function, ThrowingBiFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingBiFunction<String, String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BiFunction<String, String, String> unchecked = ThrowingBiFunction.unchecked(function);
+            ThrowingBiFunction<String, String, String, IOException> checked = ThrowingBiFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply("foo", "foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingBiFunction<String, String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BiFunction<String, String, String> unchecked = ThrowingBiFunction.unchecked(function);
+            ThrowingBiFunction<String, String, String, ParseException> checked = ThrowingBiFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply("foo", "foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingBiFunction<String, String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BiFunction<String, String, String> unchecked = ThrowingBiFunction.unchecked(function);
+            ThrowingBiFunction<String, String, String, IOException> checked = ThrowingBiFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply("foo", "foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            BiFunction<String, String, String> function = String::concat;
+
+            assertThrows(NullPointerException.class, () -> ThrowingBiFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingBiFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingBiFunction<String, String, String, IOException> function = ThrowingBiFunction.catching(String::concat, IOException.class);
+
+            assertEquals("foobar", function.apply("foo", "bar"));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                BiFunction<String, String, String> sneaky = ThrowingBiFunction.sneaky((s1, s2) -> {
+                    throw new IOException(s1 + s2);
+                });
+
+                ThrowingBiFunction<String, String, String, IOException> function = ThrowingBiFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.apply("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                BiFunction<String, String, String> sneaky = ThrowingBiFunction.sneaky((s1, s2) -> {
+                    throw new FileNotFoundException(s1 + s2);
+                });
+
+                ThrowingBiFunction<String, String, String, IOException> function = ThrowingBiFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.apply("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                BiFunction<String, String, String> sneaky = ThrowingBiFunction.sneaky((s1, s2) -> {
+                    throw new ParseException(s1 + s2, 0);
+                });
+
+                ThrowingBiFunction<String, String, String, IOException> function = ThrowingBiFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo", "bar"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foobar", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingBiFunction<String, String, String, IOException> function = ThrowingBiFunction.catching((s1, s2) -> {
+                throw new IllegalStateException(s1 + s2);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+        }
+    }
 }
@@ -21,9 +21,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -1299,7 +1301,6 @@ class ThrowingBiPredicateTest {
 
             verify(predicate).test("foo", "FOO");
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(predicate);
         }
 
@@ -1317,7 +1318,6 @@ class ThrowingBiPredicateTest {
 
             verify(predicate).test("foo", "FOO");
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(predicate);
         }
 
@@ -1333,7 +1333,192 @@ class ThrowingBiPredicateTest {
 
             verify(predicate).test("foo", "FOO");
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBiPredicate<String, String, IOException> predicate = Spied.throwingBiPredicate(String::equalsIgnoreCase);
+
+            BiPredicate<String, String> sneaky = predicate.sneaky();
+
+            assertTrue(sneaky.test("foo", "FOO"));
+
+            verify(predicate).test("foo", "FOO");
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBiPredicate<String, String, IOException> predicate = Spied.throwingBiPredicate((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            BiPredicate<String, String> sneaky = predicate.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test("foo", "FOO"));
+            assertEquals("fooFOO", thrown.getMessage());
+
+            verify(predicate).test("foo", "FOO");
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBiPredicate<String, String, IOException> predicate = Spied.throwingBiPredicate((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            BiPredicate<String, String> sneaky = predicate.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.test("foo", "FOO"));
+            assertEquals("fooFOO", thrown.getMessage());
+
+            verify(predicate).test("foo", "FOO");
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBiPredicate<String, String, IOException> predicate = Spied.throwingBiPredicate(String::equalsIgnoreCase);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiPredicate<String, String, IOException> instrumented = predicate.instrumented("foo", registry);
+
+            assertTrue(instrumented.test("foo", "FOO"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test("foo", "FOO");
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBiPredicate<String, String, IOException> predicate = Spied.throwingBiPredicate((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiPredicate<String, String, IOException> instrumented = predicate.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.test("foo", "FOO"));
+            assertEquals("fooFOO", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test("foo", "FOO");
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBiPredicate<String, String, IOException> predicate = Spied.throwingBiPredicate((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiPredicate<String, String, IOException> instrumented = predicate.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test("foo", "FOO"));
+            assertEquals("fooFOO", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test("foo", "FOO");
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBiPredicate<String, String, IOException> predicate = Spied.throwingBiPredicate(String::equalsIgnoreCase);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiPredicate<String, String, IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertTrue(instrumented.test("foo", "FOO"));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(predicate, times(3)).test("foo", "FOO");
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBiPredicate<String, String, IOException> predicate = Spied.throwingBiPredicate((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiPredicate<String, String, IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.test("foo", "FOO"));
+                assertEquals("fooFOO", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test("foo", "FOO");
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBiPredicate<String, String, IOException> predicate = Spied.throwingBiPredicate((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBiPredicate<String, String, IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test("foo", "FOO"));
+                assertEquals("fooFOO", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test("foo", "FOO");
+            verify(predicate).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(predicate);
         }
     }
@@ -1426,7 +1611,6 @@ class ThrowingBiPredicateTest {
             assertTrue(unchecked.test("foo", "FOO"));
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verify(predicate).test("foo", "FOO");
             verifyNoMoreInteractions(predicate);
         }
@@ -1444,7 +1628,6 @@ class ThrowingBiPredicateTest {
             assertEquals("fooFOO", cause.getMessage());
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verify(predicate).test("foo", "FOO");
             verifyNoMoreInteractions(predicate);
         }
@@ -1460,7 +1643,59 @@ class ThrowingBiPredicateTest {
             assertEquals("fooFOO", thrown.getMessage());
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
+            verify(predicate).test("foo", "FOO");
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingBiPredicate.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingBiPredicate<String, String, IOException> predicate = Spied.throwingBiPredicate(String::equalsIgnoreCase);
+
+            BiPredicate<String, String> sneaky = ThrowingBiPredicate.sneaky(predicate);
+
+            assertTrue(sneaky.test("foo", "FOO"));
+
+            verify(predicate).sneaky();
+            verify(predicate).test("foo", "FOO");
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingBiPredicate<String, String, IOException> predicate = Spied.throwingBiPredicate((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            BiPredicate<String, String> sneaky = ThrowingBiPredicate.sneaky(predicate);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test("foo", "FOO"));
+            assertEquals("fooFOO", thrown.getMessage());
+
+            verify(predicate).sneaky();
+            verify(predicate).test("foo", "FOO");
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBiPredicate<String, String, IOException> predicate = Spied.throwingBiPredicate((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            BiPredicate<String, String> sneaky = ThrowingBiPredicate.sneaky(predicate);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.test("foo", "FOO"));
+            assertEquals("fooFOO", thrown.getMessage());
+
+            verify(predicate).sneaky();
             verify(predicate).test("foo", "FOO");
             verifyNoMoreInteractions(predicate);
         }
@@ -1558,4 +1793,158 @@ class ThrowingBiPredicateTest {
             assertEquals("fooFOO", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingBiPredicate<String, String, IOException> predicate = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BiPredicate<String, String> sneaky = ThrowingBiPredicate.sneaky(predicate);
+            ThrowingBiPredicate<String, String, IOException> checked = ThrowingBiPredicate.checked(sneaky);
+            ThrowingBiPredicate<String, String, IOException> checkedWithErrorType = ThrowingBiPredicate.checked(sneaky, IOException.class);
+
+            BiPredicate<String, String> unchecked = ThrowingBiPredicate.unchecked(checked);
+            BiPredicate<String, String> uncheckedWithErrorType = ThrowingBiPredicate.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test("foo", "foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.test("foo", "foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            BiPredicate<String, String> predicate = (t, u) -> true;
+
+            ThrowingBiPredicate<String, String, IOException> checked = ThrowingBiPredicate.checked(predicate);
+
+            assertSame(predicate, ThrowingBiPredicate.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingBiPredicate<String, String, IOException> predicate = (t, u) -> true;
+
+            BiPredicate<String, String> sneaky = ThrowingBiPredicate.sneaky(predicate);
+
+            assertSame(predicate, ThrowingBiPredicate.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingBiPredicate<String, String, IOException> predicate = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BiPredicate<String, String> unchecked = ThrowingBiPredicate.unchecked(predicate);
+            ThrowingBiPredicate<String, String, IOException> checked = ThrowingBiPredicate.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.test("foo", "foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingBiPredicate<String, String, IOException> predicate = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BiPredicate<String, String> unchecked = ThrowingBiPredicate.unchecked(predicate);
+            ThrowingBiPredicate<String, String, ParseException> checked = ThrowingBiPredicate.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test("foo", "foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingBiPredicate<String, String, IOException> predicate = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BiPredicate<String, String> unchecked = ThrowingBiPredicate.unchecked(predicate);
+            ThrowingBiPredicate<String, String, IOException> checked = ThrowingBiPredicate.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test("foo", "foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            BiPredicate<String, String> predicate = String::equalsIgnoreCase;
+
+            assertThrows(NullPointerException.class, () -> ThrowingBiPredicate.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingBiPredicate.catching(predicate, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingBiPredicate<String, String, IOException> predicate = ThrowingBiPredicate.catching(String::equalsIgnoreCase, IOException.class);
+
+            assertTrue(predicate.test("foo", "FOO"));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                BiPredicate<String, String> sneaky = ThrowingBiPredicate.sneaky((s1, s2) -> {
+                    throw new IOException(s1 + s2);
+                });
+
+                ThrowingBiPredicate<String, String, IOException> predicate = ThrowingBiPredicate.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> predicate.test("foo", "FOO"));
+                assertEquals("fooFOO", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                BiPredicate<String, String> sneaky = ThrowingBiPredicate.sneaky((s1, s2) -> {
+                    throw new FileNotFoundException(s1 + s2);
+                });
+
+                ThrowingBiPredicate<String, String, IOException> predicate = ThrowingBiPredicate.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> predicate.test("foo", "FOO"));
+                assertEquals("fooFOO", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                BiPredicate<String, String> sneaky = ThrowingBiPredicate.sneaky((s1, s2) -> {
+                    throw new ParseException(s1 + s2, 0);
+                });
+
+                ThrowingBiPredicate<String, String, IOException> predicate = ThrowingBiPredicate.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test("foo", "FOO"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("fooFOO", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingBiPredicate<String, String, IOException> predicate = ThrowingBiPredicate.catching((s1, s2) -> {
+                throw new IllegalStateException(s1 + s2);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> predicate.test("foo", "FOO"));
+            assertEquals("fooFOO", thrown.getMessage());
+        }
+    }
 }
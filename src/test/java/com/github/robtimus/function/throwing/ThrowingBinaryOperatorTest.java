@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -803,7 +805,6 @@ class ThrowingBinaryOperatorTest {
 
             verify(operator).apply("foo", "bar");
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -821,7 +822,6 @@ class ThrowingBinaryOperatorTest {
 
             verify(operator).apply("foo", "bar");
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -837,7 +837,192 @@ class ThrowingBinaryOperatorTest {
 
             verify(operator).apply("foo", "bar");
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBinaryOperator<String, IOException> operator = Spied.throwingBinaryOperator(String::concat);
+
+            BinaryOperator<String> sneaky = operator.sneaky();
+
+            assertEquals("foobar", sneaky.apply("foo", "bar"));
+
+            verify(operator).apply("foo", "bar");
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBinaryOperator<String, IOException> operator = Spied.throwingBinaryOperator((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            BinaryOperator<String> sneaky = operator.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(operator).apply("foo", "bar");
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBinaryOperator<String, IOException> operator = Spied.throwingBinaryOperator((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            BinaryOperator<String> sneaky = operator.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(operator).apply("foo", "bar");
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBinaryOperator<String, IOException> operator = Spied.throwingBinaryOperator(String::concat);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBinaryOperator<String, IOException> instrumented = operator.instrumented("foo", registry);
+
+            assertEquals("foobar", instrumented.apply("foo", "bar"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).apply("foo", "bar");
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBinaryOperator<String, IOException> operator = Spied.throwingBinaryOperator((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBinaryOperator<String, IOException> instrumented = operator.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).apply("foo", "bar");
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBinaryOperator<String, IOException> operator = Spied.throwingBinaryOperator((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBinaryOperator<String, IOException> instrumented = operator.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).apply("foo", "bar");
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBinaryOperator<String, IOException> operator = Spied.throwingBinaryOperator(String::concat);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBinaryOperator<String, IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("foobar", instrumented.apply("foo", "bar"));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(operator, times(3)).apply("foo", "bar");
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBinaryOperator<String, IOException> operator = Spied.throwingBinaryOperator((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBinaryOperator<String, IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).apply("foo", "bar");
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBinaryOperator<String, IOException> operator = Spied.throwingBinaryOperator((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBinaryOperator<String, IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).apply("foo", "bar");
+            verify(operator).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(operator);
         }
     }
@@ -875,7 +1060,6 @@ class ThrowingBinaryOperatorTest {
             assertEquals("foobar", unchecked.apply("foo", "bar"));
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).apply("foo", "bar");
             verifyNoMoreInteractions(operator);
         }
@@ -893,7 +1077,6 @@ class ThrowingBinaryOperatorTest {
             assertEquals("foobar", cause.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).apply("foo", "bar");
             verifyNoMoreInteractions(operator);
         }
@@ -909,7 +1092,59 @@ class ThrowingBinaryOperatorTest {
             assertEquals("foobar", thrown.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
+            verify(operator).apply("foo", "bar");
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingBinaryOperator<String, IOException> operator = Spied.throwingBinaryOperator(String::concat);
+
+            BinaryOperator<String> sneaky = ThrowingBinaryOperator.sneaky(operator);
+
+            assertEquals("foobar", sneaky.apply("foo", "bar"));
+
+            verify(operator).sneaky();
+            verify(operator).apply("foo", "bar");
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingBinaryOperator<String, IOException> operator = Spied.throwingBinaryOperator((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            BinaryOperator<String> sneaky = ThrowingBinaryOperator.sneaky(operator);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(operator).sneaky();
+            verify(operator).apply("foo", "bar");
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBinaryOperator<String, IOException> operator = Spied.throwingBinaryOperator((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            BinaryOperator<String> sneaky = ThrowingBinaryOperator.sneaky(operator);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(operator).sneaky();
             verify(operator).apply("foo", "bar");
             verifyNoMoreInteractions(operator);
         }
@@ -1007,4 +1242,158 @@ class ThrowingBinaryOperatorTest {
             assertEquals("foobar", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingBinaryOperator<String, IOException> operator = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BinaryOperator<String> sneaky = ThrowingBinaryOperator.sneaky(operator);
+            ThrowingBinaryOperator<String, IOException> checked = ThrowingBinaryOperator.checked(sneaky);
+            ThrowingBinaryOperator<String, IOException> checkedWithErrorType = ThrowingBinaryOperator.checked(sneaky, IOException.class);
+
+            BinaryOperator<String> unchecked = ThrowingBinaryOperator.unchecked(checked);
+            BinaryOperator<String> uncheckedWithErrorType = ThrowingBinaryOperator.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo", "foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply("foo", "foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            BinaryOperator<String> operator = (t, u) -> "foo";
+
+            ThrowingBinaryOperator<String, IOException> checked = ThrowingBinaryOperator.checked(operator);
+
+            assertSame(operator, ThrowingBinaryOperator.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingBinaryOperator<String, IOException> operator = (t, u) -> "foo";
+
+            BinaryOperator<String> sneaky = ThrowingBinaryOperator.sneaky(operator);
+
+            assertSame(operator, ThrowingBinaryOperator.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingBinaryOperator<String, IOException> operator = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BinaryOperator<String> unchecked = ThrowingBinaryOperator.unchecked(operator);
+            ThrowingBinaryOperator<String, IOException> checked = ThrowingBinaryOperator.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply("foo", "foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingBinaryOperator<String, IOException> operator = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BinaryOperator<String> unchecked = ThrowingBinaryOperator.unchecked(operator);
+            ThrowingBinaryOperator<String, ParseException> checked = ThrowingBinaryOperator.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply("foo", "foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingBinaryOperator<String, IOException> operator = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            BinaryOperator<String> unchecked = ThrowingBinaryOperator.unchecked(operator);
+            ThrowingBinaryOperator<String, IOException> checked = ThrowingBinaryOperator.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply("foo", "foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            BinaryOperator<String> operator = String::concat;
+
+            assertThrows(NullPointerException.class, () -> ThrowingBinaryOperator.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingBinaryOperator.catching(operator, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingBinaryOperator<String, IOException> operator = ThrowingBinaryOperator.catching(String::concat, IOException.class);
+
+            assertEquals("foobar", operator.apply("foo", "bar"));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                BinaryOperator<String> sneaky = ThrowingBinaryOperator.sneaky((s1, s2) -> {
+                    throw new IOException(s1 + s2);
+                });
+
+                ThrowingBinaryOperator<String, IOException> operator = ThrowingBinaryOperator.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> operator.apply("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                BinaryOperator<String> sneaky = ThrowingBinaryOperator.sneaky((s1, s2) -> {
+                    throw new FileNotFoundException(s1 + s2);
+                });
+
+                ThrowingBinaryOperator<String, IOException> operator = ThrowingBinaryOperator.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> operator.apply("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                BinaryOperator<String> sneaky = ThrowingBinaryOperator.sneaky((s1, s2) -> {
+                    throw new ParseException(s1 + s2, 0);
+                });
+
+                ThrowingBinaryOperator<String, IOException> operator = ThrowingBinaryOperator.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.apply("foo", "bar"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foobar", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingBinaryOperator<String, IOException> operator = ThrowingBinaryOperator.catching((s1, s2) -> {
+                throw new IllegalStateException(s1 + s2);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> operator.apply("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+        }
+    }
 }
@@ -21,15 +21,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -613,7 +616,6 @@ class ThrowingBooleanSupplierTest {
 
             verify(supplier).getAsBoolean();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
 
@@ -631,7 +633,6 @@ class ThrowingBooleanSupplierTest {
 
             verify(supplier).getAsBoolean();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
 
@@ -647,11 +648,283 @@ class ThrowingBooleanSupplierTest {
 
             verify(supplier).getAsBoolean();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> true);
+
+            BooleanSupplier sneaky = supplier.sneaky();
+
+            assertTrue(sneaky.getAsBoolean());
+
+            verify(supplier).getAsBoolean();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            BooleanSupplier sneaky = supplier.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, sneaky::getAsBoolean);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsBoolean();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> throwable.throwUnchecked("foo"));
+
+            BooleanSupplier sneaky = supplier.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), sneaky::getAsBoolean);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsBoolean();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> true);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBooleanSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            assertTrue(instrumented.getAsBoolean());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsBoolean();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBooleanSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, instrumented::getAsBoolean);
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsBoolean();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBooleanSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), instrumented::getAsBoolean);
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsBoolean();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> true);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBooleanSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertTrue(instrumented.getAsBoolean());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsBoolean();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBooleanSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, instrumented::getAsBoolean);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsBoolean();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBooleanSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), instrumented::getAsBoolean);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsBoolean();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> true);
+
+            ThrowingBooleanSupplier<IOException> memoized = supplier.memoize();
+
+            assertTrue(memoized.getAsBoolean());
+            assertTrue(memoized.getAsBoolean());
+
+            verify(supplier).getAsBoolean();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingBooleanSupplier<IOException> memoized = supplier.memoize();
+
+            IOException thrown = assertThrows(IOException.class, memoized::getAsBoolean);
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, memoized::getAsBoolean);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier, times(2)).getAsBoolean();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> throwable.throwUnchecked("foo"));
+
+            ThrowingBooleanSupplier<IOException> memoized = supplier.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), memoized::getAsBoolean);
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), memoized::getAsBoolean);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier, times(2)).getAsBoolean();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsCheckedOnce() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> {
+                if (counter.getAndIncrement() == 0) {
+                    throw new IOException("foo");
+                }
+                return true;
+            });
+
+            ThrowingBooleanSupplier<IOException> memoized = supplier.memoize();
+
+            IOException thrown = assertThrows(IOException.class, memoized::getAsBoolean);
+            assertEquals("foo", thrown.getMessage());
+
+            assertTrue(memoized.getAsBoolean());
+            assertTrue(memoized.getAsBoolean());
+
+            verify(supplier, times(2)).getAsBoolean();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testMemoizeMemoized() {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> true);
+
+            ThrowingBooleanSupplier<IOException> memoized = supplier.memoize();
+
+            assertSame(memoized, memoized.memoize());
+        }
+    }
+
     @Nested
     class Of {
 
@@ -685,7 +958,6 @@ class ThrowingBooleanSupplierTest {
             assertTrue(unchecked.getAsBoolean());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verify(supplier).getAsBoolean();
             verifyNoMoreInteractions(supplier);
         }
@@ -703,7 +975,6 @@ class ThrowingBooleanSupplierTest {
             assertEquals("foo", cause.getMessage());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verify(supplier).getAsBoolean();
             verifyNoMoreInteractions(supplier);
         }
@@ -719,7 +990,59 @@ class ThrowingBooleanSupplierTest {
             assertEquals("foo", thrown.getMessage());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
+            verify(supplier).getAsBoolean();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingBooleanSupplier.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> true);
+
+            BooleanSupplier sneaky = ThrowingBooleanSupplier.sneaky(supplier);
+
+            assertTrue(sneaky.getAsBoolean());
+
+            verify(supplier).sneaky();
+            verify(supplier).getAsBoolean();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            BooleanSupplier sneaky = ThrowingBooleanSupplier.sneaky(supplier);
+
+            IOException thrown = assertThrows(IOException.class, sneaky::getAsBoolean);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).sneaky();
+            verify(supplier).getAsBoolean();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = Spied.throwingBooleanSupplier(() -> throwable.throwUnchecked("foo"));
+
+            BooleanSupplier sneaky = ThrowingBooleanSupplier.sneaky(supplier);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), sneaky::getAsBoolean);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).sneaky();
             verify(supplier).getAsBoolean();
             verifyNoMoreInteractions(supplier);
         }
@@ -817,4 +1140,158 @@ class ThrowingBooleanSupplierTest {
             assertEquals("foo", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingBooleanSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            BooleanSupplier sneaky = ThrowingBooleanSupplier.sneaky(supplier);
+            ThrowingBooleanSupplier<IOException> checked = ThrowingBooleanSupplier.checked(sneaky);
+            ThrowingBooleanSupplier<IOException> checkedWithErrorType = ThrowingBooleanSupplier.checked(sneaky, IOException.class);
+
+            BooleanSupplier unchecked = ThrowingBooleanSupplier.unchecked(checked);
+            BooleanSupplier uncheckedWithErrorType = ThrowingBooleanSupplier.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsBoolean());
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.getAsBoolean());
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            BooleanSupplier supplier = () -> true;
+
+            ThrowingBooleanSupplier<IOException> checked = ThrowingBooleanSupplier.checked(supplier);
+
+            assertSame(supplier, ThrowingBooleanSupplier.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingBooleanSupplier<IOException> supplier = () -> true;
+
+            BooleanSupplier sneaky = ThrowingBooleanSupplier.sneaky(supplier);
+
+            assertSame(supplier, ThrowingBooleanSupplier.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingBooleanSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            BooleanSupplier unchecked = ThrowingBooleanSupplier.unchecked(supplier);
+            ThrowingBooleanSupplier<IOException> checked = ThrowingBooleanSupplier.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.getAsBoolean());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingBooleanSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            BooleanSupplier unchecked = ThrowingBooleanSupplier.unchecked(supplier);
+            ThrowingBooleanSupplier<ParseException> checked = ThrowingBooleanSupplier.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.getAsBoolean());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingBooleanSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            BooleanSupplier unchecked = ThrowingBooleanSupplier.unchecked(supplier);
+            ThrowingBooleanSupplier<IOException> checked = ThrowingBooleanSupplier.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.getAsBoolean());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            BooleanSupplier supplier = () -> true;
+
+            assertThrows(NullPointerException.class, () -> ThrowingBooleanSupplier.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingBooleanSupplier.catching(supplier, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingBooleanSupplier<IOException> supplier = ThrowingBooleanSupplier.catching(() -> true, IOException.class);
+
+            assertTrue(supplier.getAsBoolean());
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                BooleanSupplier sneaky = ThrowingBooleanSupplier.sneaky(() -> {
+                    throw new IOException("foo");
+                });
+
+                ThrowingBooleanSupplier<IOException> supplier = ThrowingBooleanSupplier.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, supplier::getAsBoolean);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                BooleanSupplier sneaky = ThrowingBooleanSupplier.sneaky(() -> {
+                    throw new FileNotFoundException("foo");
+                });
+
+                ThrowingBooleanSupplier<IOException> supplier = ThrowingBooleanSupplier.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, supplier::getAsBoolean);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                BooleanSupplier sneaky = ThrowingBooleanSupplier.sneaky(() -> {
+                    throw new ParseException("foo", 0);
+                });
+
+                ThrowingBooleanSupplier<IOException> supplier = ThrowingBooleanSupplier.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, supplier::getAsBoolean);
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingBooleanSupplier<IOException> supplier = ThrowingBooleanSupplier.catching(() -> {
+                throw new IllegalStateException("foo");
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, supplier::getAsBoolean);
+            assertEquals("foo", thrown.getMessage());
+        }
+    }
 }
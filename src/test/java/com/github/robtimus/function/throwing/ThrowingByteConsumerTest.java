@@ -0,0 +1,894 @@
+/*
+ * ThrowingByteConsumerTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingByteConsumerTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+            ThrowingByteConsumer<IOException> after = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            consumer.andThen(after).accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).andThen(after);
+            verify(after).accept((byte) 1);
+            verifyNoMoreInteractions(consumer, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            ThrowingByteConsumer<IOException> after = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            ThrowingByteConsumer<IOException> composed = consumer.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.accept((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).andThen(after);
+            verifyNoMoreInteractions(consumer, after);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingByteConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            throwing.accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingByteConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.accept((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingByteConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.accept((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingByteConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            throwing.accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingByteConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.accept((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingByteConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.accept((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            ThrowingConsumer<IOException, ParseException> errorHandler = Spied.throwingConsumer(e -> { });
+
+            ThrowingByteConsumer<ParseException> handling = consumer.onErrorHandleChecked(errorHandler);
+
+            handling.accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingConsumer<IOException, ParseException> errorHandler = Spied.throwingConsumer(e -> { });
+
+            ThrowingByteConsumer<ParseException> handling = consumer.onErrorHandleChecked(errorHandler);
+
+            handling.accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).accept(any());
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            Consumer<IOException> errorHandler = Spied.consumer(e -> { });
+
+            ThrowingByteConsumer<RuntimeException> handling = consumer.onErrorHandleUnchecked(errorHandler);
+
+            handling.accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Consumer<IOException> errorHandler = Spied.consumer(e -> { });
+
+            ThrowingByteConsumer<RuntimeException> handling = consumer.onErrorHandleUnchecked(errorHandler);
+
+            handling.accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).accept(any());
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorAcceptChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorAcceptChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            ThrowingByteConsumer<ParseException> fallback = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            ThrowingByteConsumer<ParseException> fallingBack = consumer.onErrorAcceptChecked(fallback);
+
+            fallingBack.accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorAcceptChecked(fallback);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteConsumer<ParseException> fallback = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            ThrowingByteConsumer<ParseException> fallingBack = consumer.onErrorAcceptChecked(fallback);
+
+            fallingBack.accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorAcceptChecked(fallback);
+            verify(fallback).accept((byte) 1);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorAcceptUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorAcceptUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            ThrowingByteConsumer<RuntimeException> fallback = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            ThrowingByteConsumer<RuntimeException> fallingBack = consumer.onErrorAcceptUnchecked(fallback);
+
+            fallingBack.accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorAcceptUnchecked(fallback);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteConsumer<RuntimeException> fallback = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            ThrowingByteConsumer<RuntimeException> fallingBack = consumer.onErrorAcceptUnchecked(fallback);
+
+            fallingBack.accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorAcceptUnchecked(fallback);
+            verify(fallback).accept((byte) 1);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorDiscard {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            ThrowingByteConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            discarding.accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            discarding.accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingByteConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> discarding.accept((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            ThrowingByteConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            unchecked.accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingByteConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.accept((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+
+            ThrowingByteConsumer<RuntimeException> sneaky = consumer.sneaky();
+
+            sneaky.accept((byte) 1);
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteConsumer<RuntimeException> sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept((byte) 1);
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept((byte) 1);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(ThrowingByteConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept((byte) 1);
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept((byte) 1);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept((byte) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept((byte) 1);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept((byte) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept((byte) 1);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteConsumer.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = ThrowingByteConsumer.of(ThrowingByteConsumerTest::ignore);
+
+            consumer.accept((byte) 1);
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteConsumer.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteConsumer<RuntimeException> unchecked = ThrowingByteConsumer.unchecked(consumer);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(consumer).unchecked();
+            verify(consumer).accept((byte) 1);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = Spied.throwingByteConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteConsumer<RuntimeException> sneaky = ThrowingByteConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept((byte) 1);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteConsumer.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = ThrowingByteConsumer.checked(ThrowingByteConsumerTest::ignore);
+
+            consumer.accept((byte) 1);
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingByteConsumer<IOException> consumer = ThrowingByteConsumer.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingByteConsumer<RuntimeException> consumer = ThrowingByteConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingByteConsumer.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingByteConsumer.checked(consumer, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingByteConsumer<IOException> consumer = ThrowingByteConsumer.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> consumer.accept((byte) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingByteConsumer<IOException> consumer = ThrowingByteConsumer.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept((byte) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingByteConsumer<IOException> consumer = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingByteConsumer<RuntimeException> sneaky = ThrowingByteConsumer.sneaky(consumer);
+            ThrowingByteConsumer<IOException> checked = ThrowingByteConsumer.checked(sneaky);
+            ThrowingByteConsumer<IOException> checkedWithErrorType = ThrowingByteConsumer.checked(sneaky, IOException.class);
+
+            ThrowingByteConsumer<RuntimeException> unchecked = ThrowingByteConsumer.unchecked(checked);
+            ThrowingByteConsumer<RuntimeException> uncheckedWithErrorType = ThrowingByteConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept((byte) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept((byte) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingByteConsumer<RuntimeException> consumer = ThrowingByteConsumerTest::ignore;
+
+            ThrowingByteConsumer<IOException> checked = ThrowingByteConsumer.checked(consumer);
+
+            assertSame(consumer, ThrowingByteConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingByteConsumer<IOException> consumer = ThrowingByteConsumerTest::ignore;
+
+            ThrowingByteConsumer<RuntimeException> sneaky = ThrowingByteConsumer.sneaky(consumer);
+
+            assertSame(consumer, ThrowingByteConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingByteConsumer<IOException> consumer = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingByteConsumer<RuntimeException> unchecked = ThrowingByteConsumer.unchecked(consumer);
+            ThrowingByteConsumer<IOException> checked = ThrowingByteConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept((byte) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingByteConsumer<IOException> consumer = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingByteConsumer<RuntimeException> unchecked = ThrowingByteConsumer.unchecked(consumer);
+            ThrowingByteConsumer<ParseException> checked = ThrowingByteConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingByteConsumer<RuntimeException> consumer = ThrowingByteConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingByteConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingByteConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingByteConsumer<IOException> consumer = ThrowingByteConsumer.catching(ThrowingByteConsumerTest::ignore, IOException.class);
+
+            consumer.accept((byte) 1);
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingByteConsumer<RuntimeException> sneaky = ThrowingByteConsumer.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteConsumer<IOException> consumer = ThrowingByteConsumer.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> consumer.accept((byte) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingByteConsumer<RuntimeException> sneaky = ThrowingByteConsumer.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingByteConsumer<IOException> consumer = ThrowingByteConsumer.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept((byte) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    private static void ignore(byte value) {
+        // do nothing
+    }
+}
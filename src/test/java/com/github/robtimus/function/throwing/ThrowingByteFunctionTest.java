@@ -0,0 +1,955 @@
+/*
+ * ThrowingByteFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingByteFunctionTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+            ThrowingFunction<String, Integer, IOException> after = Spied.throwingFunction(String::length);
+
+            ThrowingByteFunction<Integer, IOException> composed = function.andThen(after);
+
+            assertEquals(Integer.valueOf(1), composed.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).andThen(after);
+            verify(after).apply("1");
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            assertSame(function, function.andThen(ThrowingFunction.identity()));
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingByteFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals("1", throwing.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingByteFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.apply((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingByteFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingByteFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals("1", throwing.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingByteFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.apply((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingByteFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingByteFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("1", handling.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingByteFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("1", handling.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingByteFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("1", handling.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingByteFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("1", handling.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            ThrowingByteFunction<String, ParseException> fallback = Spied.throwingByteFunction(t -> "fallback");
+
+            ThrowingByteFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("1", fallingBack.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteFunction<String, ParseException> fallback = Spied.throwingByteFunction(t -> "fallback");
+
+            ThrowingByteFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).apply((byte) 1);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            ThrowingByteFunction<String, RuntimeException> fallback = Spied.throwingByteFunction(t -> "fallback");
+
+            ThrowingByteFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("1", fallingBack.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteFunction<String, RuntimeException> fallback = Spied.throwingByteFunction(t -> "fallback");
+
+            ThrowingByteFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).apply((byte) 1);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingByteFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("1", fallingBack.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingByteFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingByteFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("1", fallingBack.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingByteFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            ThrowingByteFunction<String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("1", returning.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteFunction<String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("fallback", returning.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            ThrowingByteFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals("1", unchecked.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).apply((byte) 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingByteFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.apply((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).apply((byte) 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+
+            ThrowingByteFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals("1", sneaky.apply((byte) 1));
+
+            verify(function).apply((byte) 1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).apply((byte) 1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals("1", instrumented.apply((byte) 1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply((byte) 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply((byte) 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply((byte) 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(String::valueOf);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("1", instrumented.apply((byte) 1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).apply((byte) 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply((byte) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply((byte) 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply((byte) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply((byte) 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingByteFunction<String, IOException> function = ThrowingByteFunction.of(String::valueOf);
+
+            assertEquals("1", function.apply((byte) 1));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteFunction<String, RuntimeException> unchecked = ThrowingByteFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).apply((byte) 1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingByteFunction<String, IOException> function = Spied.throwingByteFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteFunction<String, RuntimeException> sneaky = ThrowingByteFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply((byte) 1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingByteFunction<String, IOException> function = ThrowingByteFunction.checked(String::valueOf);
+
+            assertEquals("1", function.apply((byte) 1));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingByteFunction<String, IOException> function = ThrowingByteFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingByteFunction<String, RuntimeException> function = String::valueOf;
+
+            assertThrows(NullPointerException.class, () -> ThrowingByteFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingByteFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingByteFunction<String, IOException> function = ThrowingByteFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply((byte) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingByteFunction<String, IOException> function = ThrowingByteFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply((byte) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingByteFunction<String, IOException> function = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingByteFunction<String, RuntimeException> sneaky = ThrowingByteFunction.sneaky(function);
+            ThrowingByteFunction<String, IOException> checked = ThrowingByteFunction.checked(sneaky);
+            ThrowingByteFunction<String, IOException> checkedWithErrorType = ThrowingByteFunction.checked(sneaky, IOException.class);
+
+            ThrowingByteFunction<String, RuntimeException> unchecked = ThrowingByteFunction.unchecked(checked);
+            ThrowingByteFunction<String, RuntimeException> uncheckedWithErrorType = ThrowingByteFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply((byte) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply((byte) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingByteFunction<String, RuntimeException> function = String::valueOf;
+
+            ThrowingByteFunction<String, IOException> checked = ThrowingByteFunction.checked(function);
+
+            assertSame(function, ThrowingByteFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingByteFunction<String, IOException> function = String::valueOf;
+
+            ThrowingByteFunction<String, RuntimeException> sneaky = ThrowingByteFunction.sneaky(function);
+
+            assertSame(function, ThrowingByteFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingByteFunction<String, IOException> function = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingByteFunction<String, RuntimeException> unchecked = ThrowingByteFunction.unchecked(function);
+            ThrowingByteFunction<String, IOException> checked = ThrowingByteFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply((byte) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingByteFunction<String, IOException> function = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingByteFunction<String, RuntimeException> unchecked = ThrowingByteFunction.unchecked(function);
+            ThrowingByteFunction<String, ParseException> checked = ThrowingByteFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingByteFunction<String, RuntimeException> function = String::valueOf;
+
+            assertThrows(NullPointerException.class, () -> ThrowingByteFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingByteFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingByteFunction<String, IOException> function = ThrowingByteFunction.catching(String::valueOf, IOException.class);
+
+            assertEquals("1", function.apply((byte) 1));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingByteFunction<String, RuntimeException> sneaky = ThrowingByteFunction.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteFunction<String, IOException> function = ThrowingByteFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply((byte) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingByteFunction<String, RuntimeException> sneaky = ThrowingByteFunction.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingByteFunction<String, IOException> function = ThrowingByteFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply((byte) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+}
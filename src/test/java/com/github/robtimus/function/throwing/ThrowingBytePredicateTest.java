@@ -0,0 +1,1032 @@
+/*
+ * ThrowingBytePredicateTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingBytePredicateTest {
+
+    @Nested
+    class And {
+
+        @Test
+        void testNullArgument() {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.and(null));
+        }
+
+        @Test
+        void testBothEvaluated() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+            ThrowingBytePredicate<IOException> other = Spied.throwingBytePredicate(t -> false);
+
+            assertFalse(predicate.and(other).test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).and(other);
+            verify(other).test((byte) 1);
+            verifyNoMoreInteractions(predicate, other);
+        }
+
+        @Test
+        void testShortCircuited() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> false);
+            ThrowingBytePredicate<IOException> other = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            assertFalse(predicate.and(other).test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).and(other);
+            verifyNoMoreInteractions(predicate, other);
+        }
+    }
+
+    @Nested
+    class Negate {
+
+        @Test
+        void testNegate() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            assertFalse(predicate.negate().test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).negate();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Or {
+
+        @Test
+        void testNullArgument() {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.or(null));
+        }
+
+        @Test
+        void testBothEvaluated() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> false);
+            ThrowingBytePredicate<IOException> other = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            assertTrue(predicate.or(other).test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).or(other);
+            verify(other).test((byte) 1);
+            verifyNoMoreInteractions(predicate, other);
+        }
+
+        @Test
+        void testShortCircuited() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+            ThrowingBytePredicate<IOException> other = Spied.throwingBytePredicate(t -> false);
+
+            assertTrue(predicate.or(other).test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).or(other);
+            verifyNoMoreInteractions(predicate, other);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingBytePredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals(true, throwing.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingBytePredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.test((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingBytePredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.test((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingBytePredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals(true, throwing.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingBytePredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.test((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingBytePredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.test((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            ThrowingPredicate<IOException, ParseException> errorHandler = Spied.throwingPredicate(e -> false);
+
+            ThrowingBytePredicate<ParseException> handling = predicate.onErrorHandleChecked(errorHandler);
+
+            assertEquals(true, handling.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingPredicate<IOException, ParseException> errorHandler = Spied.throwingPredicate(e -> false);
+
+            ThrowingBytePredicate<ParseException> handling = predicate.onErrorHandleChecked(errorHandler);
+
+            assertEquals(false, handling.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).test(any());
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            Predicate<IOException> errorHandler = Spied.predicate(e -> false);
+
+            ThrowingBytePredicate<RuntimeException> handling = predicate.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(true, handling.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Predicate<IOException> errorHandler = Spied.predicate(e -> false);
+
+            ThrowingBytePredicate<RuntimeException> handling = predicate.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(false, handling.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).test(any());
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorTestChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorTestChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            ThrowingBytePredicate<ParseException> fallback = Spied.throwingBytePredicate(t -> false);
+
+            ThrowingBytePredicate<ParseException> fallingBack = predicate.onErrorTestChecked(fallback);
+
+            assertEquals(true, fallingBack.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorTestChecked(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingBytePredicate<ParseException> fallback = Spied.throwingBytePredicate(t -> false);
+
+            ThrowingBytePredicate<ParseException> fallingBack = predicate.onErrorTestChecked(fallback);
+
+            assertEquals(false, fallingBack.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorTestChecked(fallback);
+            verify(fallback).test((byte) 1);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorTestUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorTestUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            ThrowingBytePredicate<RuntimeException> fallback = Spied.throwingBytePredicate(t -> false);
+
+            ThrowingBytePredicate<RuntimeException> fallingBack = predicate.onErrorTestUnchecked(fallback);
+
+            assertEquals(true, fallingBack.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorTestUnchecked(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingBytePredicate<RuntimeException> fallback = Spied.throwingBytePredicate(t -> false);
+
+            ThrowingBytePredicate<RuntimeException> fallingBack = predicate.onErrorTestUnchecked(fallback);
+
+            assertEquals(false, fallingBack.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorTestUnchecked(fallback);
+            verify(fallback).test((byte) 1);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetCheckedAsBoolean {
+
+        @Test
+        void testNullArgument() {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorGetCheckedAsBoolean(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            ThrowingBooleanSupplier<ParseException> fallback = Spied.throwingBooleanSupplier(() -> false);
+
+            ThrowingBytePredicate<ParseException> fallingBack = predicate.onErrorGetCheckedAsBoolean(fallback);
+
+            assertEquals(true, fallingBack.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorGetCheckedAsBoolean(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingBooleanSupplier<ParseException> fallback = Spied.throwingBooleanSupplier(() -> false);
+
+            ThrowingBytePredicate<ParseException> fallingBack = predicate.onErrorGetCheckedAsBoolean(fallback);
+
+            assertEquals(false, fallingBack.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorGetCheckedAsBoolean(fallback);
+            verify(fallback).getAsBoolean();
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUncheckedAsBoolean {
+
+        @Test
+        void testNullArgument() {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorGetUncheckedAsBoolean(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            BooleanSupplier fallback = Spied.booleanSupplier(() -> false);
+
+            ThrowingBytePredicate<RuntimeException> fallingBack = predicate.onErrorGetUncheckedAsBoolean(fallback);
+
+            assertEquals(true, fallingBack.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorGetUncheckedAsBoolean(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            BooleanSupplier fallback = Spied.booleanSupplier(() -> false);
+
+            ThrowingBytePredicate<RuntimeException> fallingBack = predicate.onErrorGetUncheckedAsBoolean(fallback);
+
+            assertEquals(false, fallingBack.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorGetUncheckedAsBoolean(fallback);
+            verify(fallback).getAsBoolean();
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            ThrowingBytePredicate<RuntimeException> returning = predicate.onErrorReturn(false);
+
+            assertEquals(true, returning.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorReturn(false);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingBytePredicate<RuntimeException> returning = predicate.onErrorReturn(false);
+
+            assertEquals(false, returning.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).onErrorReturn(false);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            ThrowingBytePredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            assertEquals(true, unchecked.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingBytePredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingBytePredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.test((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            ThrowingBytePredicate<RuntimeException> sneaky = predicate.sneaky();
+
+            assertEquals(true, sneaky.test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingBytePredicate<RuntimeException> sneaky = predicate.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBytePredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            assertEquals(true, instrumented.test((byte) 1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBytePredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.test((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBytePredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBytePredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(true, instrumented.test((byte) 1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(predicate, times(3)).test((byte) 1);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBytePredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.test((byte) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test((byte) 1);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingBytePredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test((byte) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test((byte) 1);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingBytePredicate.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = ThrowingBytePredicate.of(t -> t == (byte) 1);
+
+            assertEquals(true, predicate.test((byte) 1));
+        }
+    }
+
+    @Nested
+    class Not {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingBytePredicate.not(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> t == (byte) 1);
+
+            assertFalse(ThrowingBytePredicate.not(predicate).test((byte) 1));
+
+            verify(predicate).test((byte) 1);
+            verify(predicate).negate();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingBytePredicate.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingBytePredicate<RuntimeException> unchecked = ThrowingBytePredicate.unchecked(predicate);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(predicate).unchecked();
+            verify(predicate).test((byte) 1);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingBytePredicate.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = Spied.throwingBytePredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingBytePredicate<RuntimeException> sneaky = ThrowingBytePredicate.sneaky(predicate);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).sneaky();
+            verify(predicate).test((byte) 1);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingBytePredicate.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = ThrowingBytePredicate.checked(t -> t == (byte) 1);
+
+            assertEquals(true, predicate.test((byte) 1));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingBytePredicate<IOException> predicate = ThrowingBytePredicate.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingBytePredicate<RuntimeException> predicate = t -> t == (byte) 1;
+
+            assertThrows(NullPointerException.class, () -> ThrowingBytePredicate.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingBytePredicate.checked(predicate, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingBytePredicate<IOException> predicate = ThrowingBytePredicate.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> predicate.test((byte) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingBytePredicate<IOException> predicate = ThrowingBytePredicate.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test((byte) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingBytePredicate<IOException> predicate = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingBytePredicate<RuntimeException> sneaky = ThrowingBytePredicate.sneaky(predicate);
+            ThrowingBytePredicate<IOException> checked = ThrowingBytePredicate.checked(sneaky);
+            ThrowingBytePredicate<IOException> checkedWithErrorType = ThrowingBytePredicate.checked(sneaky, IOException.class);
+
+            ThrowingBytePredicate<RuntimeException> unchecked = ThrowingBytePredicate.unchecked(checked);
+            ThrowingBytePredicate<RuntimeException> uncheckedWithErrorType = ThrowingBytePredicate.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test((byte) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.test((byte) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingBytePredicate<RuntimeException> predicate = t -> t == (byte) 1;
+
+            ThrowingBytePredicate<IOException> checked = ThrowingBytePredicate.checked(predicate);
+
+            assertSame(predicate, ThrowingBytePredicate.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingBytePredicate<IOException> predicate = t -> t == (byte) 1;
+
+            ThrowingBytePredicate<RuntimeException> sneaky = ThrowingBytePredicate.sneaky(predicate);
+
+            assertSame(predicate, ThrowingBytePredicate.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingBytePredicate<IOException> predicate = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingBytePredicate<RuntimeException> unchecked = ThrowingBytePredicate.unchecked(predicate);
+            ThrowingBytePredicate<IOException> checked = ThrowingBytePredicate.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.test((byte) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingBytePredicate<IOException> predicate = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingBytePredicate<RuntimeException> unchecked = ThrowingBytePredicate.unchecked(predicate);
+            ThrowingBytePredicate<ParseException> checked = ThrowingBytePredicate.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingBytePredicate<RuntimeException> predicate = t -> t == (byte) 1;
+
+            assertThrows(NullPointerException.class, () -> ThrowingBytePredicate.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingBytePredicate.catching(predicate, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingBytePredicate<IOException> predicate = ThrowingBytePredicate.catching(t -> t == (byte) 1, IOException.class);
+
+            assertEquals(true, predicate.test((byte) 1));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingBytePredicate<RuntimeException> sneaky = ThrowingBytePredicate.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingBytePredicate<IOException> predicate = ThrowingBytePredicate.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> predicate.test((byte) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingBytePredicate<RuntimeException> sneaky = ThrowingBytePredicate.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingBytePredicate<IOException> predicate = ThrowingBytePredicate.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test((byte) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,833 @@
+/*
+ * ThrowingByteSupplierTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingByteSupplierTest {
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingByteSupplier<ExecutionException> throwing = supplier.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals((byte) 2, throwing.getAsByte());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingByteSupplier<ExecutionException> throwing = supplier.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.getAsByte());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> throwable.throwUnchecked("foo"));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingByteSupplier<ExecutionException> throwing = supplier.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.getAsByte());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingByteSupplier<RuntimeException> throwing = supplier.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals((byte) 2, throwing.getAsByte());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingByteSupplier<RuntimeException> throwing = supplier.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.getAsByte());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> throwable.throwUnchecked("foo"));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingByteSupplier<RuntimeException> throwing = supplier.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.getAsByte());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            ThrowingToByteFunction<IOException, ParseException> errorHandler = Spied.throwingToByteFunction(e -> (byte) -1);
+
+            ThrowingByteSupplier<ParseException> handling = supplier.onErrorHandleChecked(errorHandler);
+
+            assertEquals((byte) 2, handling.getAsByte());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingToByteFunction<IOException, ParseException> errorHandler = Spied.throwingToByteFunction(e -> (byte) -1);
+
+            ThrowingByteSupplier<ParseException> handling = supplier.onErrorHandleChecked(errorHandler);
+
+            assertEquals((byte) -1, handling.getAsByte());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsByte(any());
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            ThrowingToByteFunction<IOException, RuntimeException> errorHandler = Spied.throwingToByteFunction(e -> (byte) -1);
+
+            ThrowingByteSupplier<RuntimeException> handling = supplier.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals((byte) 2, handling.getAsByte());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingToByteFunction<IOException, RuntimeException> errorHandler = Spied.throwingToByteFunction(e -> (byte) -1);
+
+            ThrowingByteSupplier<RuntimeException> handling = supplier.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals((byte) -1, handling.getAsByte());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsByte(any());
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorGetCheckedAsByte {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorGetCheckedAsByte(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            ThrowingByteSupplier<ParseException> fallback = Spied.throwingByteSupplier(() -> (byte) -1);
+
+            ThrowingByteSupplier<ParseException> fallingBack = supplier.onErrorGetCheckedAsByte(fallback);
+
+            assertEquals((byte) 2, fallingBack.getAsByte());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorGetCheckedAsByte(fallback);
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingByteSupplier<ParseException> fallback = Spied.throwingByteSupplier(() -> (byte) -1);
+
+            ThrowingByteSupplier<ParseException> fallingBack = supplier.onErrorGetCheckedAsByte(fallback);
+
+            assertEquals((byte) -1, fallingBack.getAsByte());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorGetCheckedAsByte(fallback);
+            verify(fallback).getAsByte();
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUncheckedAsByte {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorGetUncheckedAsByte(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            ThrowingByteSupplier<RuntimeException> fallback = Spied.throwingByteSupplier(() -> (byte) -1);
+
+            ThrowingByteSupplier<RuntimeException> fallingBack = supplier.onErrorGetUncheckedAsByte(fallback);
+
+            assertEquals((byte) 2, fallingBack.getAsByte());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorGetUncheckedAsByte(fallback);
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingByteSupplier<RuntimeException> fallback = Spied.throwingByteSupplier(() -> (byte) -1);
+
+            ThrowingByteSupplier<RuntimeException> fallingBack = supplier.onErrorGetUncheckedAsByte(fallback);
+
+            assertEquals((byte) -1, fallingBack.getAsByte());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorGetUncheckedAsByte(fallback);
+            verify(fallback).getAsByte();
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            ThrowingByteSupplier<RuntimeException> returning = supplier.onErrorReturn((byte) -1);
+
+            assertEquals((byte) 2, returning.getAsByte());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorReturn((byte) -1);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingByteSupplier<RuntimeException> returning = supplier.onErrorReturn((byte) -1);
+
+            assertEquals((byte) -1, returning.getAsByte());
+
+            verify(supplier).getAsByte();
+            verify(supplier).onErrorReturn((byte) -1);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            ThrowingByteSupplier<RuntimeException> unchecked = supplier.unchecked();
+
+            assertEquals((byte) 2, unchecked.getAsByte());
+
+            verify(supplier).getAsByte();
+            verify(supplier).unchecked();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingByteSupplier<RuntimeException> unchecked = supplier.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsByte());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).getAsByte();
+            verify(supplier).unchecked();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> throwable.throwUnchecked("foo"));
+
+            ThrowingByteSupplier<RuntimeException> unchecked = supplier.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.getAsByte());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsByte();
+            verify(supplier).unchecked();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+
+            ThrowingByteSupplier<RuntimeException> sneaky = supplier.sneaky();
+
+            assertEquals((byte) 2, sneaky.getAsByte());
+
+            verify(supplier).getAsByte();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingByteSupplier<RuntimeException> sneaky = supplier.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.getAsByte());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsByte();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            assertEquals((byte) 2, instrumented.getAsByte());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsByte();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.getAsByte());
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsByte();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.getAsByte());
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsByte();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> (byte) 2);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals((byte) 2, instrumented.getAsByte());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsByte();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.getAsByte());
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsByte();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.getAsByte());
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsByte();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteSupplier.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = ThrowingByteSupplier.of(() -> (byte) 2);
+
+            assertEquals((byte) 2, supplier.getAsByte());
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteSupplier.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingByteSupplier<RuntimeException> unchecked = ThrowingByteSupplier.unchecked(supplier);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsByte());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).unchecked();
+            verify(supplier).getAsByte();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteSupplier.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = Spied.throwingByteSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingByteSupplier<RuntimeException> sneaky = ThrowingByteSupplier.sneaky(supplier);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.getAsByte());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).sneaky();
+            verify(supplier).getAsByte();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteSupplier.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = ThrowingByteSupplier.checked(() -> (byte) 2);
+
+            assertEquals((byte) 2, supplier.getAsByte());
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingByteSupplier<IOException> supplier = ThrowingByteSupplier.checked(() -> {
+                throw UncheckedException.withoutStackTrace(new IOException("foo"));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> supplier.getAsByte());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingByteSupplier<RuntimeException> supplier = () -> (byte) 2;
+
+            assertThrows(NullPointerException.class, () -> ThrowingByteSupplier.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingByteSupplier.checked(supplier, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingByteSupplier<IOException> supplier = ThrowingByteSupplier.checked(() -> {
+                throw UncheckedException.withoutStackTrace(new IOException("foo"));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> supplier.getAsByte());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingByteSupplier<IOException> supplier = ThrowingByteSupplier.checked(() -> {
+                throw UncheckedException.withoutStackTrace(new ParseException("foo", 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> supplier.getAsByte());
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingByteSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            ThrowingByteSupplier<RuntimeException> sneaky = ThrowingByteSupplier.sneaky(supplier);
+            ThrowingByteSupplier<IOException> checked = ThrowingByteSupplier.checked(sneaky);
+            ThrowingByteSupplier<IOException> checkedWithErrorType = ThrowingByteSupplier.checked(sneaky, IOException.class);
+
+            ThrowingByteSupplier<RuntimeException> unchecked = ThrowingByteSupplier.unchecked(checked);
+            ThrowingByteSupplier<RuntimeException> uncheckedWithErrorType = ThrowingByteSupplier.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsByte());
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.getAsByte());
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingByteSupplier<RuntimeException> supplier = () -> (byte) 2;
+
+            ThrowingByteSupplier<IOException> checked = ThrowingByteSupplier.checked(supplier);
+
+            assertSame(supplier, ThrowingByteSupplier.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingByteSupplier<IOException> supplier = () -> (byte) 2;
+
+            ThrowingByteSupplier<RuntimeException> sneaky = ThrowingByteSupplier.sneaky(supplier);
+
+            assertSame(supplier, ThrowingByteSupplier.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingByteSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            ThrowingByteSupplier<RuntimeException> unchecked = ThrowingByteSupplier.unchecked(supplier);
+            ThrowingByteSupplier<IOException> checked = ThrowingByteSupplier.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.getAsByte());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingByteSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            ThrowingByteSupplier<RuntimeException> unchecked = ThrowingByteSupplier.unchecked(supplier);
+            ThrowingByteSupplier<ParseException> checked = ThrowingByteSupplier.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.getAsByte());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingByteSupplier<RuntimeException> supplier = () -> (byte) 2;
+
+            assertThrows(NullPointerException.class, () -> ThrowingByteSupplier.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingByteSupplier.catching(supplier, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingByteSupplier<IOException> supplier = ThrowingByteSupplier.catching(() -> (byte) 2, IOException.class);
+
+            assertEquals((byte) 2, supplier.getAsByte());
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingByteSupplier<RuntimeException> sneaky = ThrowingByteSupplier.sneaky(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingByteSupplier<IOException> supplier = ThrowingByteSupplier.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> supplier.getAsByte());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingByteSupplier<RuntimeException> sneaky = ThrowingByteSupplier.sneaky(() -> {
+                throw new ParseException("foo", 0);
+            });
+
+            ThrowingByteSupplier<IOException> supplier = ThrowingByteSupplier.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> supplier.getAsByte());
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,1007 @@
+/*
+ * ThrowingByteUnaryOperatorTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingByteUnaryOperatorTest {
+
+    @Nested
+    class Compose {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.compose(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+            ThrowingByteUnaryOperator<IOException> before = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            ThrowingByteUnaryOperator<IOException> composed = operator.compose(before);
+
+            assertEquals((byte) 4, composed.applyAsByte((byte) 1));
+
+            verify(before).applyAsByte((byte) 1);
+            verify(operator).compose(before);
+            verify(operator).applyAsByte((byte) 2);
+            verifyNoMoreInteractions(operator, before);
+        }
+
+        @Test
+        void testBeforeThrowsChecked() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+            ThrowingByteUnaryOperator<IOException> before = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteUnaryOperator<IOException> composed = operator.compose(before);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsByte((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(before).applyAsByte((byte) 1);
+            verify(operator).compose(before);
+            verifyNoMoreInteractions(operator, before);
+        }
+    }
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+            ThrowingByteUnaryOperator<IOException> after = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            ThrowingByteUnaryOperator<IOException> composed = operator.andThen(after);
+
+            assertEquals((byte) 4, composed.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).andThen(after);
+            verify(after).applyAsByte((byte) 2);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            ThrowingByteUnaryOperator<IOException> after = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            ThrowingByteUnaryOperator<IOException> composed = operator.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsByte((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).andThen(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingByteUnaryOperator<ExecutionException> throwing = operator.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals((byte) 2, throwing.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingByteUnaryOperator<ExecutionException> throwing = operator.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.applyAsByte((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingByteUnaryOperator<ExecutionException> throwing = operator.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsByte((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingByteUnaryOperator<RuntimeException> throwing = operator.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals((byte) 2, throwing.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingByteUnaryOperator<RuntimeException> throwing = operator.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.applyAsByte((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingByteUnaryOperator<RuntimeException> throwing = operator.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsByte((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            ThrowingToByteFunction<IOException, ParseException> errorHandler = Spied.throwingToByteFunction(e -> (byte) -1);
+
+            ThrowingByteUnaryOperator<ParseException> handling = operator.onErrorHandleChecked(errorHandler);
+
+            assertEquals((byte) 2, handling.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingToByteFunction<IOException, ParseException> errorHandler = Spied.throwingToByteFunction(e -> (byte) -1);
+
+            ThrowingByteUnaryOperator<ParseException> handling = operator.onErrorHandleChecked(errorHandler);
+
+            assertEquals((byte) -1, handling.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsByte(any());
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            ThrowingToByteFunction<IOException, RuntimeException> errorHandler = Spied.throwingToByteFunction(e -> (byte) -1);
+
+            ThrowingByteUnaryOperator<RuntimeException> handling = operator.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals((byte) 2, handling.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingToByteFunction<IOException, RuntimeException> errorHandler = Spied.throwingToByteFunction(e -> (byte) -1);
+
+            ThrowingByteUnaryOperator<RuntimeException> handling = operator.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals((byte) -1, handling.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsByte(any());
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            ThrowingByteUnaryOperator<ParseException> fallback = Spied.throwingByteUnaryOperator(t -> (byte) -1);
+
+            ThrowingByteUnaryOperator<ParseException> fallingBack = operator.onErrorApplyChecked(fallback);
+
+            assertEquals((byte) 2, fallingBack.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteUnaryOperator<ParseException> fallback = Spied.throwingByteUnaryOperator(t -> (byte) -1);
+
+            ThrowingByteUnaryOperator<ParseException> fallingBack = operator.onErrorApplyChecked(fallback);
+
+            assertEquals((byte) -1, fallingBack.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorApplyChecked(fallback);
+            verify(fallback).applyAsByte((byte) 1);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            ThrowingByteUnaryOperator<RuntimeException> fallback = Spied.throwingByteUnaryOperator(t -> (byte) -1);
+
+            ThrowingByteUnaryOperator<RuntimeException> fallingBack = operator.onErrorApplyUnchecked(fallback);
+
+            assertEquals((byte) 2, fallingBack.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteUnaryOperator<RuntimeException> fallback = Spied.throwingByteUnaryOperator(t -> (byte) -1);
+
+            ThrowingByteUnaryOperator<RuntimeException> fallingBack = operator.onErrorApplyUnchecked(fallback);
+
+            assertEquals((byte) -1, fallingBack.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorApplyUnchecked(fallback);
+            verify(fallback).applyAsByte((byte) 1);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            ThrowingByteSupplier<ParseException> fallback = Spied.throwingByteSupplier(() -> (byte) -1);
+
+            ThrowingByteUnaryOperator<ParseException> fallingBack = operator.onErrorGetChecked(fallback);
+
+            assertEquals((byte) 2, fallingBack.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteSupplier<ParseException> fallback = Spied.throwingByteSupplier(() -> (byte) -1);
+
+            ThrowingByteUnaryOperator<ParseException> fallingBack = operator.onErrorGetChecked(fallback);
+
+            assertEquals((byte) -1, fallingBack.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorGetChecked(fallback);
+            verify(fallback).getAsByte();
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            ThrowingByteSupplier<RuntimeException> fallback = Spied.throwingByteSupplier(() -> (byte) -1);
+
+            ThrowingByteUnaryOperator<RuntimeException> fallingBack = operator.onErrorGetUnchecked(fallback);
+
+            assertEquals((byte) 2, fallingBack.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteSupplier<RuntimeException> fallback = Spied.throwingByteSupplier(() -> (byte) -1);
+
+            ThrowingByteUnaryOperator<RuntimeException> fallingBack = operator.onErrorGetUnchecked(fallback);
+
+            assertEquals((byte) -1, fallingBack.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorGetUnchecked(fallback);
+            verify(fallback).getAsByte();
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            ThrowingByteUnaryOperator<RuntimeException> returning = operator.onErrorReturn((byte) -1);
+
+            assertEquals((byte) 2, returning.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorReturn((byte) -1);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteUnaryOperator<RuntimeException> returning = operator.onErrorReturn((byte) -1);
+
+            assertEquals((byte) -1, returning.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).onErrorReturn((byte) -1);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            ThrowingByteUnaryOperator<RuntimeException> unchecked = operator.unchecked();
+
+            assertEquals((byte) 2, unchecked.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).unchecked();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteUnaryOperator<RuntimeException> unchecked = operator.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsByte((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).unchecked();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingByteUnaryOperator<RuntimeException> unchecked = operator.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.applyAsByte((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).unchecked();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+
+            ThrowingByteUnaryOperator<RuntimeException> sneaky = operator.sneaky();
+
+            assertEquals((byte) 2, sneaky.applyAsByte((byte) 1));
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteUnaryOperator<RuntimeException> sneaky = operator.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsByte((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            assertEquals((byte) 2, instrumented.applyAsByte((byte) 1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsByte((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsByte((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsByte((byte) 1);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> (byte) (t * 2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals((byte) 2, instrumented.applyAsByte((byte) 1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsByte((byte) 1);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsByte((byte) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsByte((byte) 1);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingByteUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsByte((byte) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsByte((byte) 1);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteUnaryOperator.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = ThrowingByteUnaryOperator.of(t -> (byte) (t * 2));
+
+            assertEquals((byte) 2, operator.applyAsByte((byte) 1));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteUnaryOperator.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteUnaryOperator<RuntimeException> unchecked = ThrowingByteUnaryOperator.unchecked(operator);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsByte((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(operator).unchecked();
+            verify(operator).applyAsByte((byte) 1);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteUnaryOperator.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = Spied.throwingByteUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteUnaryOperator<RuntimeException> sneaky = ThrowingByteUnaryOperator.sneaky(operator);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsByte((byte) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).sneaky();
+            verify(operator).applyAsByte((byte) 1);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingByteUnaryOperator.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = ThrowingByteUnaryOperator.checked(t -> (byte) (t * 2));
+
+            assertEquals((byte) 2, operator.applyAsByte((byte) 1));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingByteUnaryOperator<IOException> operator = ThrowingByteUnaryOperator.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsByte((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingByteUnaryOperator<RuntimeException> operator = t -> (byte) (t * 2);
+
+            assertThrows(NullPointerException.class, () -> ThrowingByteUnaryOperator.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingByteUnaryOperator.checked(operator, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingByteUnaryOperator<IOException> operator = ThrowingByteUnaryOperator.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> operator.applyAsByte((byte) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingByteUnaryOperator<IOException> operator = ThrowingByteUnaryOperator.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsByte((byte) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingByteUnaryOperator<IOException> operator = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingByteUnaryOperator<RuntimeException> sneaky = ThrowingByteUnaryOperator.sneaky(operator);
+            ThrowingByteUnaryOperator<IOException> checked = ThrowingByteUnaryOperator.checked(sneaky);
+            ThrowingByteUnaryOperator<IOException> checkedWithErrorType = ThrowingByteUnaryOperator.checked(sneaky, IOException.class);
+
+            ThrowingByteUnaryOperator<RuntimeException> unchecked = ThrowingByteUnaryOperator.unchecked(checked);
+            ThrowingByteUnaryOperator<RuntimeException> uncheckedWithErrorType = ThrowingByteUnaryOperator.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsByte((byte) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsByte((byte) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingByteUnaryOperator<RuntimeException> operator = t -> (byte) (t * 2);
+
+            ThrowingByteUnaryOperator<IOException> checked = ThrowingByteUnaryOperator.checked(operator);
+
+            assertSame(operator, ThrowingByteUnaryOperator.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingByteUnaryOperator<IOException> operator = t -> (byte) (t * 2);
+
+            ThrowingByteUnaryOperator<RuntimeException> sneaky = ThrowingByteUnaryOperator.sneaky(operator);
+
+            assertSame(operator, ThrowingByteUnaryOperator.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingByteUnaryOperator<IOException> operator = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingByteUnaryOperator<RuntimeException> unchecked = ThrowingByteUnaryOperator.unchecked(operator);
+            ThrowingByteUnaryOperator<IOException> checked = ThrowingByteUnaryOperator.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsByte((byte) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingByteUnaryOperator<IOException> operator = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingByteUnaryOperator<RuntimeException> unchecked = ThrowingByteUnaryOperator.unchecked(operator);
+            ThrowingByteUnaryOperator<ParseException> checked = ThrowingByteUnaryOperator.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsByte((byte) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingByteUnaryOperator<RuntimeException> operator = t -> (byte) (t * 2);
+
+            assertThrows(NullPointerException.class, () -> ThrowingByteUnaryOperator.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingByteUnaryOperator.catching(operator, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingByteUnaryOperator<IOException> operator = ThrowingByteUnaryOperator.catching(t -> (byte) (t * 2), IOException.class);
+
+            assertEquals((byte) 2, operator.applyAsByte((byte) 1));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingByteUnaryOperator<RuntimeException> sneaky = ThrowingByteUnaryOperator.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingByteUnaryOperator<IOException> operator = ThrowingByteUnaryOperator.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> operator.applyAsByte((byte) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingByteUnaryOperator<RuntimeException> sneaky = ThrowingByteUnaryOperator.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingByteUnaryOperator<IOException> operator = ThrowingByteUnaryOperator.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsByte((byte) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,894 @@
+/*
+ * ThrowingCharConsumerTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingCharConsumerTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+            ThrowingCharConsumer<IOException> after = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            consumer.andThen(after).accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).andThen(after);
+            verify(after).accept('a');
+            verifyNoMoreInteractions(consumer, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            ThrowingCharConsumer<IOException> after = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            ThrowingCharConsumer<IOException> composed = consumer.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.accept('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(consumer).accept('a');
+            verify(consumer).andThen(after);
+            verifyNoMoreInteractions(consumer, after);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            throwing.accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.accept('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.accept('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            throwing.accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.accept('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.accept('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            ThrowingConsumer<IOException, ParseException> errorHandler = Spied.throwingConsumer(e -> { });
+
+            ThrowingCharConsumer<ParseException> handling = consumer.onErrorHandleChecked(errorHandler);
+
+            handling.accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingConsumer<IOException, ParseException> errorHandler = Spied.throwingConsumer(e -> { });
+
+            ThrowingCharConsumer<ParseException> handling = consumer.onErrorHandleChecked(errorHandler);
+
+            handling.accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).accept(any());
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            Consumer<IOException> errorHandler = Spied.consumer(e -> { });
+
+            ThrowingCharConsumer<RuntimeException> handling = consumer.onErrorHandleUnchecked(errorHandler);
+
+            handling.accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Consumer<IOException> errorHandler = Spied.consumer(e -> { });
+
+            ThrowingCharConsumer<RuntimeException> handling = consumer.onErrorHandleUnchecked(errorHandler);
+
+            handling.accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).accept(any());
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorAcceptChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorAcceptChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            ThrowingCharConsumer<ParseException> fallback = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            ThrowingCharConsumer<ParseException> fallingBack = consumer.onErrorAcceptChecked(fallback);
+
+            fallingBack.accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorAcceptChecked(fallback);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharConsumer<ParseException> fallback = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            ThrowingCharConsumer<ParseException> fallingBack = consumer.onErrorAcceptChecked(fallback);
+
+            fallingBack.accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorAcceptChecked(fallback);
+            verify(fallback).accept('a');
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorAcceptUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorAcceptUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            ThrowingCharConsumer<RuntimeException> fallback = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            ThrowingCharConsumer<RuntimeException> fallingBack = consumer.onErrorAcceptUnchecked(fallback);
+
+            fallingBack.accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorAcceptUnchecked(fallback);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharConsumer<RuntimeException> fallback = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            ThrowingCharConsumer<RuntimeException> fallingBack = consumer.onErrorAcceptUnchecked(fallback);
+
+            fallingBack.accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorAcceptUnchecked(fallback);
+            verify(fallback).accept('a');
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorDiscard {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            ThrowingCharConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            discarding.accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            discarding.accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingCharConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> discarding.accept('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(consumer).accept('a');
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            ThrowingCharConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            unchecked.accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(consumer).accept('a');
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingCharConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.accept('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(consumer).accept('a');
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+
+            ThrowingCharConsumer<RuntimeException> sneaky = consumer.sneaky();
+
+            sneaky.accept('a');
+
+            verify(consumer).accept('a');
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharConsumer<RuntimeException> sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(consumer).accept('a');
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept('a');
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept('a');
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept('a'));
+            assertEquals("a", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept('a');
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept('a'));
+            assertEquals("a", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept('a');
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(ThrowingCharConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept('a');
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept('a');
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept('a'));
+                assertEquals("a", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept('a');
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept('a'));
+                assertEquals("a", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept('a');
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharConsumer.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = ThrowingCharConsumer.of(ThrowingCharConsumerTest::ignore);
+
+            consumer.accept('a');
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharConsumer.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharConsumer<RuntimeException> unchecked = ThrowingCharConsumer.unchecked(consumer);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(consumer).unchecked();
+            verify(consumer).accept('a');
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = Spied.throwingCharConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharConsumer<RuntimeException> sneaky = ThrowingCharConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept('a');
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharConsumer.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = ThrowingCharConsumer.checked(ThrowingCharConsumerTest::ignore);
+
+            consumer.accept('a');
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingCharConsumer<IOException> consumer = ThrowingCharConsumer.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingCharConsumer<RuntimeException> consumer = ThrowingCharConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingCharConsumer.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingCharConsumer.checked(consumer, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingCharConsumer<IOException> consumer = ThrowingCharConsumer.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> consumer.accept('a'));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingCharConsumer<IOException> consumer = ThrowingCharConsumer.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept('a'));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingCharConsumer<IOException> consumer = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingCharConsumer<RuntimeException> sneaky = ThrowingCharConsumer.sneaky(consumer);
+            ThrowingCharConsumer<IOException> checked = ThrowingCharConsumer.checked(sneaky);
+            ThrowingCharConsumer<IOException> checkedWithErrorType = ThrowingCharConsumer.checked(sneaky, IOException.class);
+
+            ThrowingCharConsumer<RuntimeException> unchecked = ThrowingCharConsumer.unchecked(checked);
+            ThrowingCharConsumer<RuntimeException> uncheckedWithErrorType = ThrowingCharConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept('a'));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept('a'));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingCharConsumer<RuntimeException> consumer = ThrowingCharConsumerTest::ignore;
+
+            ThrowingCharConsumer<IOException> checked = ThrowingCharConsumer.checked(consumer);
+
+            assertSame(consumer, ThrowingCharConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingCharConsumer<IOException> consumer = ThrowingCharConsumerTest::ignore;
+
+            ThrowingCharConsumer<RuntimeException> sneaky = ThrowingCharConsumer.sneaky(consumer);
+
+            assertSame(consumer, ThrowingCharConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingCharConsumer<IOException> consumer = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingCharConsumer<RuntimeException> unchecked = ThrowingCharConsumer.unchecked(consumer);
+            ThrowingCharConsumer<IOException> checked = ThrowingCharConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept('a'));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingCharConsumer<IOException> consumer = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingCharConsumer<RuntimeException> unchecked = ThrowingCharConsumer.unchecked(consumer);
+            ThrowingCharConsumer<ParseException> checked = ThrowingCharConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingCharConsumer<RuntimeException> consumer = ThrowingCharConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingCharConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingCharConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingCharConsumer<IOException> consumer = ThrowingCharConsumer.catching(ThrowingCharConsumerTest::ignore, IOException.class);
+
+            consumer.accept('a');
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingCharConsumer<RuntimeException> sneaky = ThrowingCharConsumer.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharConsumer<IOException> consumer = ThrowingCharConsumer.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> consumer.accept('a'));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingCharConsumer<RuntimeException> sneaky = ThrowingCharConsumer.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingCharConsumer<IOException> consumer = ThrowingCharConsumer.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept('a'));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    private static void ignore(char value) {
+        // do nothing
+    }
+}
@@ -0,0 +1,955 @@
+/*
+ * ThrowingCharFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingCharFunctionTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+            ThrowingFunction<String, Integer, IOException> after = Spied.throwingFunction(String::length);
+
+            ThrowingCharFunction<Integer, IOException> composed = function.andThen(after);
+
+            assertEquals(Integer.valueOf(1), composed.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).andThen(after);
+            verify(after).apply("a");
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            assertSame(function, function.andThen(ThrowingFunction.identity()));
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals("a", throwing.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.apply('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(function).apply('a');
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(function).apply('a');
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals("a", throwing.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.apply('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(function).apply('a');
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(function).apply('a');
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingCharFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("a", handling.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingCharFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("a", handling.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingCharFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("a", handling.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingCharFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("a", handling.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            ThrowingCharFunction<String, ParseException> fallback = Spied.throwingCharFunction(t -> "fallback");
+
+            ThrowingCharFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("a", fallingBack.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharFunction<String, ParseException> fallback = Spied.throwingCharFunction(t -> "fallback");
+
+            ThrowingCharFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).apply('a');
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            ThrowingCharFunction<String, RuntimeException> fallback = Spied.throwingCharFunction(t -> "fallback");
+
+            ThrowingCharFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("a", fallingBack.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharFunction<String, RuntimeException> fallback = Spied.throwingCharFunction(t -> "fallback");
+
+            ThrowingCharFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).apply('a');
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingCharFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("a", fallingBack.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingCharFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingCharFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("a", fallingBack.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingCharFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            ThrowingCharFunction<String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("a", returning.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharFunction<String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("fallback", returning.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            ThrowingCharFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals("a", unchecked.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(function).apply('a');
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingCharFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.apply('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(function).apply('a');
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+
+            ThrowingCharFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals("a", sneaky.apply('a'));
+
+            verify(function).apply('a');
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(function).apply('a');
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals("a", instrumented.apply('a'));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply('a');
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply('a'));
+            assertEquals("a", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply('a');
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply('a'));
+            assertEquals("a", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply('a');
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(String::valueOf);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("a", instrumented.apply('a'));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).apply('a');
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply('a'));
+                assertEquals("a", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply('a');
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply('a'));
+                assertEquals("a", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply('a');
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingCharFunction<String, IOException> function = ThrowingCharFunction.of(String::valueOf);
+
+            assertEquals("a", function.apply('a'));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharFunction<String, RuntimeException> unchecked = ThrowingCharFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).apply('a');
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingCharFunction<String, IOException> function = Spied.throwingCharFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharFunction<String, RuntimeException> sneaky = ThrowingCharFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply('a');
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingCharFunction<String, IOException> function = ThrowingCharFunction.checked(String::valueOf);
+
+            assertEquals("a", function.apply('a'));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingCharFunction<String, IOException> function = ThrowingCharFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingCharFunction<String, RuntimeException> function = String::valueOf;
+
+            assertThrows(NullPointerException.class, () -> ThrowingCharFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingCharFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingCharFunction<String, IOException> function = ThrowingCharFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply('a'));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingCharFunction<String, IOException> function = ThrowingCharFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply('a'));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingCharFunction<String, IOException> function = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingCharFunction<String, RuntimeException> sneaky = ThrowingCharFunction.sneaky(function);
+            ThrowingCharFunction<String, IOException> checked = ThrowingCharFunction.checked(sneaky);
+            ThrowingCharFunction<String, IOException> checkedWithErrorType = ThrowingCharFunction.checked(sneaky, IOException.class);
+
+            ThrowingCharFunction<String, RuntimeException> unchecked = ThrowingCharFunction.unchecked(checked);
+            ThrowingCharFunction<String, RuntimeException> uncheckedWithErrorType = ThrowingCharFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply('a'));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply('a'));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingCharFunction<String, RuntimeException> function = String::valueOf;
+
+            ThrowingCharFunction<String, IOException> checked = ThrowingCharFunction.checked(function);
+
+            assertSame(function, ThrowingCharFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingCharFunction<String, IOException> function = String::valueOf;
+
+            ThrowingCharFunction<String, RuntimeException> sneaky = ThrowingCharFunction.sneaky(function);
+
+            assertSame(function, ThrowingCharFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingCharFunction<String, IOException> function = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingCharFunction<String, RuntimeException> unchecked = ThrowingCharFunction.unchecked(function);
+            ThrowingCharFunction<String, IOException> checked = ThrowingCharFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply('a'));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingCharFunction<String, IOException> function = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingCharFunction<String, RuntimeException> unchecked = ThrowingCharFunction.unchecked(function);
+            ThrowingCharFunction<String, ParseException> checked = ThrowingCharFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingCharFunction<String, RuntimeException> function = String::valueOf;
+
+            assertThrows(NullPointerException.class, () -> ThrowingCharFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingCharFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingCharFunction<String, IOException> function = ThrowingCharFunction.catching(String::valueOf, IOException.class);
+
+            assertEquals("a", function.apply('a'));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingCharFunction<String, RuntimeException> sneaky = ThrowingCharFunction.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharFunction<String, IOException> function = ThrowingCharFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply('a'));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingCharFunction<String, RuntimeException> sneaky = ThrowingCharFunction.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingCharFunction<String, IOException> function = ThrowingCharFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply('a'));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+}
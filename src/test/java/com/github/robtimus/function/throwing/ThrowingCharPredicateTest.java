@@ -0,0 +1,1032 @@
+/*
+ * ThrowingCharPredicateTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingCharPredicateTest {
+
+    @Nested
+    class And {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            assertThrows(NullPointerException.class, () -> predicate.and(null));
+        }
+
+        @Test
+        void testBothEvaluated() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+            ThrowingCharPredicate<IOException> other = Spied.throwingCharPredicate(t -> false);
+
+            assertFalse(predicate.and(other).test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).and(other);
+            verify(other).test('a');
+            verifyNoMoreInteractions(predicate, other);
+        }
+
+        @Test
+        void testShortCircuited() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> false);
+            ThrowingCharPredicate<IOException> other = Spied.throwingCharPredicate(t -> t == 'a');
+
+            assertFalse(predicate.and(other).test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).and(other);
+            verifyNoMoreInteractions(predicate, other);
+        }
+    }
+
+    @Nested
+    class Negate {
+
+        @Test
+        void testNegate() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            assertFalse(predicate.negate().test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).negate();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Or {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            assertThrows(NullPointerException.class, () -> predicate.or(null));
+        }
+
+        @Test
+        void testBothEvaluated() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> false);
+            ThrowingCharPredicate<IOException> other = Spied.throwingCharPredicate(t -> t == 'a');
+
+            assertTrue(predicate.or(other).test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).or(other);
+            verify(other).test('a');
+            verifyNoMoreInteractions(predicate, other);
+        }
+
+        @Test
+        void testShortCircuited() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+            ThrowingCharPredicate<IOException> other = Spied.throwingCharPredicate(t -> false);
+
+            assertTrue(predicate.or(other).test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).or(other);
+            verifyNoMoreInteractions(predicate, other);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharPredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals(true, throwing.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharPredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.test('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharPredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.test('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharPredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals(true, throwing.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharPredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.test('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharPredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.test('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            ThrowingPredicate<IOException, ParseException> errorHandler = Spied.throwingPredicate(e -> false);
+
+            ThrowingCharPredicate<ParseException> handling = predicate.onErrorHandleChecked(errorHandler);
+
+            assertEquals(true, handling.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingPredicate<IOException, ParseException> errorHandler = Spied.throwingPredicate(e -> false);
+
+            ThrowingCharPredicate<ParseException> handling = predicate.onErrorHandleChecked(errorHandler);
+
+            assertEquals(false, handling.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).test(any());
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            Predicate<IOException> errorHandler = Spied.predicate(e -> false);
+
+            ThrowingCharPredicate<RuntimeException> handling = predicate.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(true, handling.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Predicate<IOException> errorHandler = Spied.predicate(e -> false);
+
+            ThrowingCharPredicate<RuntimeException> handling = predicate.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(false, handling.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).test(any());
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorTestChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorTestChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            ThrowingCharPredicate<ParseException> fallback = Spied.throwingCharPredicate(t -> false);
+
+            ThrowingCharPredicate<ParseException> fallingBack = predicate.onErrorTestChecked(fallback);
+
+            assertEquals(true, fallingBack.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorTestChecked(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharPredicate<ParseException> fallback = Spied.throwingCharPredicate(t -> false);
+
+            ThrowingCharPredicate<ParseException> fallingBack = predicate.onErrorTestChecked(fallback);
+
+            assertEquals(false, fallingBack.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorTestChecked(fallback);
+            verify(fallback).test('a');
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorTestUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorTestUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            ThrowingCharPredicate<RuntimeException> fallback = Spied.throwingCharPredicate(t -> false);
+
+            ThrowingCharPredicate<RuntimeException> fallingBack = predicate.onErrorTestUnchecked(fallback);
+
+            assertEquals(true, fallingBack.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorTestUnchecked(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharPredicate<RuntimeException> fallback = Spied.throwingCharPredicate(t -> false);
+
+            ThrowingCharPredicate<RuntimeException> fallingBack = predicate.onErrorTestUnchecked(fallback);
+
+            assertEquals(false, fallingBack.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorTestUnchecked(fallback);
+            verify(fallback).test('a');
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetCheckedAsBoolean {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorGetCheckedAsBoolean(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            ThrowingBooleanSupplier<ParseException> fallback = Spied.throwingBooleanSupplier(() -> false);
+
+            ThrowingCharPredicate<ParseException> fallingBack = predicate.onErrorGetCheckedAsBoolean(fallback);
+
+            assertEquals(true, fallingBack.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorGetCheckedAsBoolean(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingBooleanSupplier<ParseException> fallback = Spied.throwingBooleanSupplier(() -> false);
+
+            ThrowingCharPredicate<ParseException> fallingBack = predicate.onErrorGetCheckedAsBoolean(fallback);
+
+            assertEquals(false, fallingBack.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorGetCheckedAsBoolean(fallback);
+            verify(fallback).getAsBoolean();
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUncheckedAsBoolean {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorGetUncheckedAsBoolean(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            BooleanSupplier fallback = Spied.booleanSupplier(() -> false);
+
+            ThrowingCharPredicate<RuntimeException> fallingBack = predicate.onErrorGetUncheckedAsBoolean(fallback);
+
+            assertEquals(true, fallingBack.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorGetUncheckedAsBoolean(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            BooleanSupplier fallback = Spied.booleanSupplier(() -> false);
+
+            ThrowingCharPredicate<RuntimeException> fallingBack = predicate.onErrorGetUncheckedAsBoolean(fallback);
+
+            assertEquals(false, fallingBack.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorGetUncheckedAsBoolean(fallback);
+            verify(fallback).getAsBoolean();
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            ThrowingCharPredicate<RuntimeException> returning = predicate.onErrorReturn(false);
+
+            assertEquals(true, returning.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorReturn(false);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharPredicate<RuntimeException> returning = predicate.onErrorReturn(false);
+
+            assertEquals(false, returning.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).onErrorReturn(false);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            ThrowingCharPredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            assertEquals(true, unchecked.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharPredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(predicate).test('a');
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingCharPredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.test('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(predicate).test('a');
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            ThrowingCharPredicate<RuntimeException> sneaky = predicate.sneaky();
+
+            assertEquals(true, sneaky.test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharPredicate<RuntimeException> sneaky = predicate.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(predicate).test('a');
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            assertEquals(true, instrumented.test('a'));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test('a');
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.test('a'));
+            assertEquals("a", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test('a');
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test('a'));
+            assertEquals("a", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test('a');
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(true, instrumented.test('a'));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(predicate, times(3)).test('a');
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.test('a'));
+                assertEquals("a", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test('a');
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test('a'));
+                assertEquals("a", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test('a');
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharPredicate.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = ThrowingCharPredicate.of(t -> t == 'a');
+
+            assertEquals(true, predicate.test('a'));
+        }
+    }
+
+    @Nested
+    class Not {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharPredicate.not(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> t == 'a');
+
+            assertFalse(ThrowingCharPredicate.not(predicate).test('a'));
+
+            verify(predicate).test('a');
+            verify(predicate).negate();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharPredicate.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharPredicate<RuntimeException> unchecked = ThrowingCharPredicate.unchecked(predicate);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(predicate).unchecked();
+            verify(predicate).test('a');
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharPredicate.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = Spied.throwingCharPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharPredicate<RuntimeException> sneaky = ThrowingCharPredicate.sneaky(predicate);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(predicate).sneaky();
+            verify(predicate).test('a');
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharPredicate.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = ThrowingCharPredicate.checked(t -> t == 'a');
+
+            assertEquals(true, predicate.test('a'));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingCharPredicate<IOException> predicate = ThrowingCharPredicate.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingCharPredicate<RuntimeException> predicate = t -> t == 'a';
+
+            assertThrows(NullPointerException.class, () -> ThrowingCharPredicate.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingCharPredicate.checked(predicate, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingCharPredicate<IOException> predicate = ThrowingCharPredicate.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> predicate.test('a'));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingCharPredicate<IOException> predicate = ThrowingCharPredicate.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test('a'));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingCharPredicate<IOException> predicate = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingCharPredicate<RuntimeException> sneaky = ThrowingCharPredicate.sneaky(predicate);
+            ThrowingCharPredicate<IOException> checked = ThrowingCharPredicate.checked(sneaky);
+            ThrowingCharPredicate<IOException> checkedWithErrorType = ThrowingCharPredicate.checked(sneaky, IOException.class);
+
+            ThrowingCharPredicate<RuntimeException> unchecked = ThrowingCharPredicate.unchecked(checked);
+            ThrowingCharPredicate<RuntimeException> uncheckedWithErrorType = ThrowingCharPredicate.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test('a'));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.test('a'));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingCharPredicate<RuntimeException> predicate = t -> t == 'a';
+
+            ThrowingCharPredicate<IOException> checked = ThrowingCharPredicate.checked(predicate);
+
+            assertSame(predicate, ThrowingCharPredicate.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingCharPredicate<IOException> predicate = t -> t == 'a';
+
+            ThrowingCharPredicate<RuntimeException> sneaky = ThrowingCharPredicate.sneaky(predicate);
+
+            assertSame(predicate, ThrowingCharPredicate.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingCharPredicate<IOException> predicate = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingCharPredicate<RuntimeException> unchecked = ThrowingCharPredicate.unchecked(predicate);
+            ThrowingCharPredicate<IOException> checked = ThrowingCharPredicate.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.test('a'));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingCharPredicate<IOException> predicate = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingCharPredicate<RuntimeException> unchecked = ThrowingCharPredicate.unchecked(predicate);
+            ThrowingCharPredicate<ParseException> checked = ThrowingCharPredicate.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingCharPredicate<RuntimeException> predicate = t -> t == 'a';
+
+            assertThrows(NullPointerException.class, () -> ThrowingCharPredicate.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingCharPredicate.catching(predicate, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingCharPredicate<IOException> predicate = ThrowingCharPredicate.catching(t -> t == 'a', IOException.class);
+
+            assertEquals(true, predicate.test('a'));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingCharPredicate<RuntimeException> sneaky = ThrowingCharPredicate.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharPredicate<IOException> predicate = ThrowingCharPredicate.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> predicate.test('a'));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingCharPredicate<RuntimeException> sneaky = ThrowingCharPredicate.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingCharPredicate<IOException> predicate = ThrowingCharPredicate.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test('a'));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+}
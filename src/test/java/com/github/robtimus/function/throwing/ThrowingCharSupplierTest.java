@@ -0,0 +1,833 @@
+/*
+ * ThrowingCharSupplierTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingCharSupplierTest {
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharSupplier<ExecutionException> throwing = supplier.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals('A', throwing.getAsChar());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharSupplier<ExecutionException> throwing = supplier.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.getAsChar());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> throwable.throwUnchecked("foo"));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharSupplier<ExecutionException> throwing = supplier.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.getAsChar());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharSupplier<RuntimeException> throwing = supplier.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals('A', throwing.getAsChar());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharSupplier<RuntimeException> throwing = supplier.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.getAsChar());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> throwable.throwUnchecked("foo"));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharSupplier<RuntimeException> throwing = supplier.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.getAsChar());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            ThrowingToCharFunction<IOException, ParseException> errorHandler = Spied.throwingToCharFunction(e -> 'z');
+
+            ThrowingCharSupplier<ParseException> handling = supplier.onErrorHandleChecked(errorHandler);
+
+            assertEquals('A', handling.getAsChar());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingToCharFunction<IOException, ParseException> errorHandler = Spied.throwingToCharFunction(e -> 'z');
+
+            ThrowingCharSupplier<ParseException> handling = supplier.onErrorHandleChecked(errorHandler);
+
+            assertEquals('z', handling.getAsChar());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsChar(any());
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            ThrowingToCharFunction<IOException, RuntimeException> errorHandler = Spied.throwingToCharFunction(e -> 'z');
+
+            ThrowingCharSupplier<RuntimeException> handling = supplier.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals('A', handling.getAsChar());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingToCharFunction<IOException, RuntimeException> errorHandler = Spied.throwingToCharFunction(e -> 'z');
+
+            ThrowingCharSupplier<RuntimeException> handling = supplier.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals('z', handling.getAsChar());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsChar(any());
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorGetCheckedAsChar {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorGetCheckedAsChar(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            ThrowingCharSupplier<ParseException> fallback = Spied.throwingCharSupplier(() -> 'z');
+
+            ThrowingCharSupplier<ParseException> fallingBack = supplier.onErrorGetCheckedAsChar(fallback);
+
+            assertEquals('A', fallingBack.getAsChar());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorGetCheckedAsChar(fallback);
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingCharSupplier<ParseException> fallback = Spied.throwingCharSupplier(() -> 'z');
+
+            ThrowingCharSupplier<ParseException> fallingBack = supplier.onErrorGetCheckedAsChar(fallback);
+
+            assertEquals('z', fallingBack.getAsChar());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorGetCheckedAsChar(fallback);
+            verify(fallback).getAsChar();
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUncheckedAsChar {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorGetUncheckedAsChar(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            ThrowingCharSupplier<RuntimeException> fallback = Spied.throwingCharSupplier(() -> 'z');
+
+            ThrowingCharSupplier<RuntimeException> fallingBack = supplier.onErrorGetUncheckedAsChar(fallback);
+
+            assertEquals('A', fallingBack.getAsChar());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorGetUncheckedAsChar(fallback);
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingCharSupplier<RuntimeException> fallback = Spied.throwingCharSupplier(() -> 'z');
+
+            ThrowingCharSupplier<RuntimeException> fallingBack = supplier.onErrorGetUncheckedAsChar(fallback);
+
+            assertEquals('z', fallingBack.getAsChar());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorGetUncheckedAsChar(fallback);
+            verify(fallback).getAsChar();
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            ThrowingCharSupplier<RuntimeException> returning = supplier.onErrorReturn('z');
+
+            assertEquals('A', returning.getAsChar());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorReturn('z');
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingCharSupplier<RuntimeException> returning = supplier.onErrorReturn('z');
+
+            assertEquals('z', returning.getAsChar());
+
+            verify(supplier).getAsChar();
+            verify(supplier).onErrorReturn('z');
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            ThrowingCharSupplier<RuntimeException> unchecked = supplier.unchecked();
+
+            assertEquals('A', unchecked.getAsChar());
+
+            verify(supplier).getAsChar();
+            verify(supplier).unchecked();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingCharSupplier<RuntimeException> unchecked = supplier.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsChar());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).getAsChar();
+            verify(supplier).unchecked();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> throwable.throwUnchecked("foo"));
+
+            ThrowingCharSupplier<RuntimeException> unchecked = supplier.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.getAsChar());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsChar();
+            verify(supplier).unchecked();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+
+            ThrowingCharSupplier<RuntimeException> sneaky = supplier.sneaky();
+
+            assertEquals('A', sneaky.getAsChar());
+
+            verify(supplier).getAsChar();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingCharSupplier<RuntimeException> sneaky = supplier.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.getAsChar());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsChar();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            assertEquals('A', instrumented.getAsChar());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsChar();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.getAsChar());
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsChar();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.getAsChar());
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsChar();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> 'A');
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals('A', instrumented.getAsChar());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsChar();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.getAsChar());
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsChar();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.getAsChar());
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsChar();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharSupplier.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = ThrowingCharSupplier.of(() -> 'A');
+
+            assertEquals('A', supplier.getAsChar());
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharSupplier.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingCharSupplier<RuntimeException> unchecked = ThrowingCharSupplier.unchecked(supplier);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsChar());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).unchecked();
+            verify(supplier).getAsChar();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharSupplier.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = Spied.throwingCharSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingCharSupplier<RuntimeException> sneaky = ThrowingCharSupplier.sneaky(supplier);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.getAsChar());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).sneaky();
+            verify(supplier).getAsChar();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharSupplier.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = ThrowingCharSupplier.checked(() -> 'A');
+
+            assertEquals('A', supplier.getAsChar());
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingCharSupplier<IOException> supplier = ThrowingCharSupplier.checked(() -> {
+                throw UncheckedException.withoutStackTrace(new IOException("foo"));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> supplier.getAsChar());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingCharSupplier<RuntimeException> supplier = () -> 'A';
+
+            assertThrows(NullPointerException.class, () -> ThrowingCharSupplier.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingCharSupplier.checked(supplier, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingCharSupplier<IOException> supplier = ThrowingCharSupplier.checked(() -> {
+                throw UncheckedException.withoutStackTrace(new IOException("foo"));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> supplier.getAsChar());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingCharSupplier<IOException> supplier = ThrowingCharSupplier.checked(() -> {
+                throw UncheckedException.withoutStackTrace(new ParseException("foo", 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> supplier.getAsChar());
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingCharSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            ThrowingCharSupplier<RuntimeException> sneaky = ThrowingCharSupplier.sneaky(supplier);
+            ThrowingCharSupplier<IOException> checked = ThrowingCharSupplier.checked(sneaky);
+            ThrowingCharSupplier<IOException> checkedWithErrorType = ThrowingCharSupplier.checked(sneaky, IOException.class);
+
+            ThrowingCharSupplier<RuntimeException> unchecked = ThrowingCharSupplier.unchecked(checked);
+            ThrowingCharSupplier<RuntimeException> uncheckedWithErrorType = ThrowingCharSupplier.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsChar());
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.getAsChar());
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingCharSupplier<RuntimeException> supplier = () -> 'A';
+
+            ThrowingCharSupplier<IOException> checked = ThrowingCharSupplier.checked(supplier);
+
+            assertSame(supplier, ThrowingCharSupplier.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingCharSupplier<IOException> supplier = () -> 'A';
+
+            ThrowingCharSupplier<RuntimeException> sneaky = ThrowingCharSupplier.sneaky(supplier);
+
+            assertSame(supplier, ThrowingCharSupplier.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingCharSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            ThrowingCharSupplier<RuntimeException> unchecked = ThrowingCharSupplier.unchecked(supplier);
+            ThrowingCharSupplier<IOException> checked = ThrowingCharSupplier.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.getAsChar());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingCharSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            ThrowingCharSupplier<RuntimeException> unchecked = ThrowingCharSupplier.unchecked(supplier);
+            ThrowingCharSupplier<ParseException> checked = ThrowingCharSupplier.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.getAsChar());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingCharSupplier<RuntimeException> supplier = () -> 'A';
+
+            assertThrows(NullPointerException.class, () -> ThrowingCharSupplier.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingCharSupplier.catching(supplier, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingCharSupplier<IOException> supplier = ThrowingCharSupplier.catching(() -> 'A', IOException.class);
+
+            assertEquals('A', supplier.getAsChar());
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingCharSupplier<RuntimeException> sneaky = ThrowingCharSupplier.sneaky(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingCharSupplier<IOException> supplier = ThrowingCharSupplier.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> supplier.getAsChar());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingCharSupplier<RuntimeException> sneaky = ThrowingCharSupplier.sneaky(() -> {
+                throw new ParseException("foo", 0);
+            });
+
+            ThrowingCharSupplier<IOException> supplier = ThrowingCharSupplier.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> supplier.getAsChar());
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+}
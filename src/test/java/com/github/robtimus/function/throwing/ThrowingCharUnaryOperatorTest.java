@@ -0,0 +1,1007 @@
+/*
+ * ThrowingCharUnaryOperatorTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingCharUnaryOperatorTest {
+
+    @Nested
+    class Compose {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            assertThrows(NullPointerException.class, () -> operator.compose(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+            ThrowingCharUnaryOperator<IOException> before = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            ThrowingCharUnaryOperator<IOException> composed = operator.compose(before);
+
+            assertEquals('A', composed.applyAsChar('a'));
+
+            verify(before).applyAsChar('a');
+            verify(operator).compose(before);
+            verify(operator).applyAsChar('A');
+            verifyNoMoreInteractions(operator, before);
+        }
+
+        @Test
+        void testBeforeThrowsChecked() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+            ThrowingCharUnaryOperator<IOException> before = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharUnaryOperator<IOException> composed = operator.compose(before);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsChar('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(before).applyAsChar('a');
+            verify(operator).compose(before);
+            verifyNoMoreInteractions(operator, before);
+        }
+    }
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            assertThrows(NullPointerException.class, () -> operator.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+            ThrowingCharUnaryOperator<IOException> after = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            ThrowingCharUnaryOperator<IOException> composed = operator.andThen(after);
+
+            assertEquals('A', composed.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).andThen(after);
+            verify(after).applyAsChar('A');
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            ThrowingCharUnaryOperator<IOException> after = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            ThrowingCharUnaryOperator<IOException> composed = operator.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsChar('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(operator).applyAsChar('a');
+            verify(operator).andThen(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharUnaryOperator<ExecutionException> throwing = operator.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals('A', throwing.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharUnaryOperator<ExecutionException> throwing = operator.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.applyAsChar('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingCharUnaryOperator<ExecutionException> throwing = operator.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsChar('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharUnaryOperator<RuntimeException> throwing = operator.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals('A', throwing.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharUnaryOperator<RuntimeException> throwing = operator.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.applyAsChar('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingCharUnaryOperator<RuntimeException> throwing = operator.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsChar('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            ThrowingToCharFunction<IOException, ParseException> errorHandler = Spied.throwingToCharFunction(e -> 'z');
+
+            ThrowingCharUnaryOperator<ParseException> handling = operator.onErrorHandleChecked(errorHandler);
+
+            assertEquals('A', handling.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingToCharFunction<IOException, ParseException> errorHandler = Spied.throwingToCharFunction(e -> 'z');
+
+            ThrowingCharUnaryOperator<ParseException> handling = operator.onErrorHandleChecked(errorHandler);
+
+            assertEquals('z', handling.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsChar(any());
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            ThrowingToCharFunction<IOException, RuntimeException> errorHandler = Spied.throwingToCharFunction(e -> 'z');
+
+            ThrowingCharUnaryOperator<RuntimeException> handling = operator.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals('A', handling.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingToCharFunction<IOException, RuntimeException> errorHandler = Spied.throwingToCharFunction(e -> 'z');
+
+            ThrowingCharUnaryOperator<RuntimeException> handling = operator.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals('z', handling.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsChar(any());
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            ThrowingCharUnaryOperator<ParseException> fallback = Spied.throwingCharUnaryOperator(t -> 'z');
+
+            ThrowingCharUnaryOperator<ParseException> fallingBack = operator.onErrorApplyChecked(fallback);
+
+            assertEquals('A', fallingBack.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharUnaryOperator<ParseException> fallback = Spied.throwingCharUnaryOperator(t -> 'z');
+
+            ThrowingCharUnaryOperator<ParseException> fallingBack = operator.onErrorApplyChecked(fallback);
+
+            assertEquals('z', fallingBack.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorApplyChecked(fallback);
+            verify(fallback).applyAsChar('a');
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            ThrowingCharUnaryOperator<RuntimeException> fallback = Spied.throwingCharUnaryOperator(t -> 'z');
+
+            ThrowingCharUnaryOperator<RuntimeException> fallingBack = operator.onErrorApplyUnchecked(fallback);
+
+            assertEquals('A', fallingBack.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharUnaryOperator<RuntimeException> fallback = Spied.throwingCharUnaryOperator(t -> 'z');
+
+            ThrowingCharUnaryOperator<RuntimeException> fallingBack = operator.onErrorApplyUnchecked(fallback);
+
+            assertEquals('z', fallingBack.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorApplyUnchecked(fallback);
+            verify(fallback).applyAsChar('a');
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            ThrowingCharSupplier<ParseException> fallback = Spied.throwingCharSupplier(() -> 'z');
+
+            ThrowingCharUnaryOperator<ParseException> fallingBack = operator.onErrorGetChecked(fallback);
+
+            assertEquals('A', fallingBack.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharSupplier<ParseException> fallback = Spied.throwingCharSupplier(() -> 'z');
+
+            ThrowingCharUnaryOperator<ParseException> fallingBack = operator.onErrorGetChecked(fallback);
+
+            assertEquals('z', fallingBack.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorGetChecked(fallback);
+            verify(fallback).getAsChar();
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            ThrowingCharSupplier<RuntimeException> fallback = Spied.throwingCharSupplier(() -> 'z');
+
+            ThrowingCharUnaryOperator<RuntimeException> fallingBack = operator.onErrorGetUnchecked(fallback);
+
+            assertEquals('A', fallingBack.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharSupplier<RuntimeException> fallback = Spied.throwingCharSupplier(() -> 'z');
+
+            ThrowingCharUnaryOperator<RuntimeException> fallingBack = operator.onErrorGetUnchecked(fallback);
+
+            assertEquals('z', fallingBack.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorGetUnchecked(fallback);
+            verify(fallback).getAsChar();
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            ThrowingCharUnaryOperator<RuntimeException> returning = operator.onErrorReturn('z');
+
+            assertEquals('A', returning.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorReturn('z');
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharUnaryOperator<RuntimeException> returning = operator.onErrorReturn('z');
+
+            assertEquals('z', returning.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).onErrorReturn('z');
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            ThrowingCharUnaryOperator<RuntimeException> unchecked = operator.unchecked();
+
+            assertEquals('A', unchecked.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).unchecked();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharUnaryOperator<RuntimeException> unchecked = operator.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsChar('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(operator).applyAsChar('a');
+            verify(operator).unchecked();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingCharUnaryOperator<RuntimeException> unchecked = operator.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.applyAsChar('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(operator).applyAsChar('a');
+            verify(operator).unchecked();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+
+            ThrowingCharUnaryOperator<RuntimeException> sneaky = operator.sneaky();
+
+            assertEquals('A', sneaky.applyAsChar('a'));
+
+            verify(operator).applyAsChar('a');
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharUnaryOperator<RuntimeException> sneaky = operator.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsChar('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(operator).applyAsChar('a');
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            assertEquals('A', instrumented.applyAsChar('a'));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsChar('a');
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsChar('a'));
+            assertEquals("a", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsChar('a');
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsChar('a'));
+            assertEquals("a", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsChar('a');
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(Character::toUpperCase);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals('A', instrumented.applyAsChar('a'));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsChar('a');
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsChar('a'));
+                assertEquals("a", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsChar('a');
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingCharUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsChar('a'));
+                assertEquals("a", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsChar('a');
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharUnaryOperator.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = ThrowingCharUnaryOperator.of(Character::toUpperCase);
+
+            assertEquals('A', operator.applyAsChar('a'));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharUnaryOperator.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharUnaryOperator<RuntimeException> unchecked = ThrowingCharUnaryOperator.unchecked(operator);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsChar('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(operator).unchecked();
+            verify(operator).applyAsChar('a');
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharUnaryOperator.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = Spied.throwingCharUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharUnaryOperator<RuntimeException> sneaky = ThrowingCharUnaryOperator.sneaky(operator);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsChar('a'));
+            assertEquals("a", thrown.getMessage());
+
+            verify(operator).sneaky();
+            verify(operator).applyAsChar('a');
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingCharUnaryOperator.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = ThrowingCharUnaryOperator.checked(Character::toUpperCase);
+
+            assertEquals('A', operator.applyAsChar('a'));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingCharUnaryOperator<IOException> operator = ThrowingCharUnaryOperator.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsChar('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingCharUnaryOperator<RuntimeException> operator = Character::toUpperCase;
+
+            assertThrows(NullPointerException.class, () -> ThrowingCharUnaryOperator.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingCharUnaryOperator.checked(operator, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingCharUnaryOperator<IOException> operator = ThrowingCharUnaryOperator.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> operator.applyAsChar('a'));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingCharUnaryOperator<IOException> operator = ThrowingCharUnaryOperator.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsChar('a'));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingCharUnaryOperator<IOException> operator = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingCharUnaryOperator<RuntimeException> sneaky = ThrowingCharUnaryOperator.sneaky(operator);
+            ThrowingCharUnaryOperator<IOException> checked = ThrowingCharUnaryOperator.checked(sneaky);
+            ThrowingCharUnaryOperator<IOException> checkedWithErrorType = ThrowingCharUnaryOperator.checked(sneaky, IOException.class);
+
+            ThrowingCharUnaryOperator<RuntimeException> unchecked = ThrowingCharUnaryOperator.unchecked(checked);
+            ThrowingCharUnaryOperator<RuntimeException> uncheckedWithErrorType = ThrowingCharUnaryOperator.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsChar('a'));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsChar('a'));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingCharUnaryOperator<RuntimeException> operator = Character::toUpperCase;
+
+            ThrowingCharUnaryOperator<IOException> checked = ThrowingCharUnaryOperator.checked(operator);
+
+            assertSame(operator, ThrowingCharUnaryOperator.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingCharUnaryOperator<IOException> operator = Character::toUpperCase;
+
+            ThrowingCharUnaryOperator<RuntimeException> sneaky = ThrowingCharUnaryOperator.sneaky(operator);
+
+            assertSame(operator, ThrowingCharUnaryOperator.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingCharUnaryOperator<IOException> operator = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingCharUnaryOperator<RuntimeException> unchecked = ThrowingCharUnaryOperator.unchecked(operator);
+            ThrowingCharUnaryOperator<IOException> checked = ThrowingCharUnaryOperator.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsChar('a'));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingCharUnaryOperator<IOException> operator = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingCharUnaryOperator<RuntimeException> unchecked = ThrowingCharUnaryOperator.unchecked(operator);
+            ThrowingCharUnaryOperator<ParseException> checked = ThrowingCharUnaryOperator.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsChar('a'));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingCharUnaryOperator<RuntimeException> operator = Character::toUpperCase;
+
+            assertThrows(NullPointerException.class, () -> ThrowingCharUnaryOperator.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingCharUnaryOperator.catching(operator, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingCharUnaryOperator<IOException> operator = ThrowingCharUnaryOperator.catching(Character::toUpperCase, IOException.class);
+
+            assertEquals('A', operator.applyAsChar('a'));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingCharUnaryOperator<RuntimeException> sneaky = ThrowingCharUnaryOperator.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingCharUnaryOperator<IOException> operator = ThrowingCharUnaryOperator.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> operator.applyAsChar('a'));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingCharUnaryOperator<RuntimeException> sneaky = ThrowingCharUnaryOperator.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingCharUnaryOperator<IOException> operator = ThrowingCharUnaryOperator.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsChar('a'));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+}
@@ -17,17 +17,21 @@
 
 package com.github.robtimus.function.throwing;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.junit.jupiter.api.Nested;
@@ -130,6 +134,40 @@ class ThrowingConsumerTest {
             verify(after).accept("foo");
             verifyNoMoreInteractions(consumer, after);
         }
+
+        @Test
+        void testLongChain() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingConsumer<Integer, IOException> composed = counter::addAndGet;
+            for (int i = 1; i < 100_000; i++) {
+                composed = composed.andThen(counter::addAndGet);
+            }
+
+            composed.accept(2);
+
+            assertEquals(200_000, counter.get());
+        }
+
+        @Test
+        void testChainStepThrowsChecked() throws IOException {
+            ThrowingConsumer<String, IOException> first = Spied.throwingConsumer(String::toUpperCase);
+            ThrowingConsumer<String, IOException> second = Spied.throwingConsumer(s -> {
+                throw new IOException(s);
+            });
+            ThrowingConsumer<String, IOException> third = Spied.throwingConsumer(String::toLowerCase);
+            ThrowingConsumer<String, IOException> fourth = Spied.throwingConsumer(String::toLowerCase);
+
+            ThrowingConsumer<String, IOException> composed = first.andThen(second).andThen(third.andThen(fourth));
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.accept("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(first).andThen(second);
+            verify(first).accept("foo");
+            verify(second).accept("foo");
+            verify(third).andThen(fourth);
+            verifyNoMoreInteractions(first, second, third, fourth);
+        }
     }
 
     @Nested
@@ -704,7 +742,6 @@ class ThrowingConsumerTest {
 
             verify(consumer).accept("foo");
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -722,7 +759,6 @@ class ThrowingConsumerTest {
 
             verify(consumer).accept("foo");
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -738,7 +774,192 @@ class ThrowingConsumerTest {
 
             verify(consumer).accept("foo");
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingConsumer<String, IOException> consumer = Spied.throwingConsumer(String::toUpperCase);
+
+            Consumer<String> sneaky = consumer.sneaky();
+
+            sneaky.accept("foo");
+
+            verify(consumer).accept("foo");
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingConsumer<String, IOException> consumer = Spied.throwingConsumer(s -> {
+                throw new IOException(s);
+            });
+
+            Consumer<String> sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(consumer).accept("foo");
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingConsumer<String, IOException> consumer = Spied.throwingConsumer(throwable::throwUnchecked);
+
+            Consumer<String> sneaky = consumer.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(consumer).accept("foo");
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingConsumer<String, IOException> consumer = Spied.throwingConsumer(String::toUpperCase);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept("foo");
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo");
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingConsumer<String, IOException> consumer = Spied.throwingConsumer(s -> {
+                throw new IOException(s);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo");
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingConsumer<String, IOException> consumer = Spied.throwingConsumer(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo");
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingConsumer<String, IOException> consumer = Spied.throwingConsumer(String::toUpperCase);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept("foo");
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo");
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingConsumer<String, IOException> consumer = Spied.throwingConsumer(s -> {
+                throw new IOException(s);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo");
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingConsumer<String, IOException> consumer = Spied.throwingConsumer(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo");
+            verify(consumer).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(consumer);
         }
     }
@@ -764,6 +985,46 @@ class ThrowingConsumerTest {
         }
     }
 
+    @Nested
+    class Noop {
+
+        @Test
+        void testAccept() {
+            ThrowingConsumer<String, IOException> consumer = ThrowingConsumer.noop();
+
+            assertDoesNotThrow(() -> consumer.accept("foo"));
+        }
+
+        @Test
+        void testSameInstance() {
+            ThrowingConsumer<String, IOException> consumer = ThrowingConsumer.noop();
+            ThrowingConsumer<Integer, ParseException> other = ThrowingConsumer.noop();
+
+            assertSame(consumer, other);
+        }
+
+        @Test
+        void testAndThen() {
+            ThrowingConsumer<String, IOException> consumer = ThrowingConsumer.noop();
+            ThrowingConsumer<String, IOException> after = Spied.throwingConsumer(String::toUpperCase);
+
+            assertSame(after, consumer.andThen(after));
+
+            verifyNoMoreInteractions(after);
+        }
+
+        @Test
+        void testAndThenNoop() {
+            ThrowingConsumer<String, IOException> consumer = Spied.throwingConsumer(String::toUpperCase);
+            ThrowingConsumer<String, IOException> after = ThrowingConsumer.noop();
+
+            assertSame(consumer, consumer.andThen(after));
+
+            verify(consumer).andThen(after);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
     @Nested
     class UncheckedFactory {
 
@@ -781,7 +1042,6 @@ class ThrowingConsumerTest {
             unchecked.accept("foo");
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept("foo");
             verifyNoMoreInteractions(consumer);
         }
@@ -799,7 +1059,6 @@ class ThrowingConsumerTest {
             assertEquals("foo", cause.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept("foo");
             verifyNoMoreInteractions(consumer);
         }
@@ -815,7 +1074,59 @@ class ThrowingConsumerTest {
             assertEquals("foo", thrown.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verify(consumer).accept("foo");
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingConsumer<String, IOException> consumer = Spied.throwingConsumer(String::toUpperCase);
+
+            Consumer<String> sneaky = ThrowingConsumer.sneaky(consumer);
+
+            sneaky.accept("foo");
+
+            verify(consumer).sneaky();
+            verify(consumer).accept("foo");
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingConsumer<String, IOException> consumer = Spied.throwingConsumer(s -> {
+                throw new IOException(s);
+            });
+
+            Consumer<String> sneaky = ThrowingConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept("foo");
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingConsumer<String, IOException> consumer = Spied.throwingConsumer(throwable::throwUnchecked);
+
+            Consumer<String> sneaky = ThrowingConsumer.sneaky(consumer);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(consumer).sneaky();
             verify(consumer).accept("foo");
             verifyNoMoreInteractions(consumer);
         }
@@ -923,4 +1234,163 @@ class ThrowingConsumerTest {
             assertEquals("foo", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingConsumer<String, IOException> operation = t -> {
+                throw new IOException("foo");
+            };
+
+            Consumer<String> sneaky = ThrowingConsumer.sneaky(operation);
+            ThrowingConsumer<String, IOException> checked = ThrowingConsumer.checked(sneaky);
+            ThrowingConsumer<String, IOException> checkedWithErrorType = ThrowingConsumer.checked(sneaky, IOException.class);
+
+            Consumer<String> unchecked = ThrowingConsumer.unchecked(checked);
+            Consumer<String> uncheckedWithErrorType = ThrowingConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept("foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept("foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            Consumer<String> operation = t -> { /* do nothing */ };
+
+            ThrowingConsumer<String, IOException> checked = ThrowingConsumer.checked(operation);
+
+            assertSame(operation, ThrowingConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingConsumer<String, IOException> operation = t -> { /* do nothing */ };
+
+            Consumer<String> sneaky = ThrowingConsumer.sneaky(operation);
+
+            assertSame(operation, ThrowingConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingConsumer<String, IOException> operation = t -> {
+                throw new IOException("foo");
+            };
+
+            Consumer<String> unchecked = ThrowingConsumer.unchecked(operation);
+            ThrowingConsumer<String, IOException> checked = ThrowingConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingConsumer<String, IOException> operation = t -> {
+                throw new IOException("foo");
+            };
+
+            Consumer<String> unchecked = ThrowingConsumer.unchecked(operation);
+            ThrowingConsumer<String, ParseException> checked = ThrowingConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingConsumer<String, IOException> operation = t -> {
+                throw new IOException("foo");
+            };
+
+            Consumer<String> unchecked = ThrowingConsumer.unchecked(operation);
+            ThrowingConsumer<String, IOException> checked = ThrowingConsumer.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            Consumer<String> consumer = String::toUpperCase;
+
+            assertThrows(NullPointerException.class, () -> ThrowingConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            Consumer<String> delegate = Spied.consumer(String::toUpperCase);
+
+            ThrowingConsumer<String, IOException> consumer = ThrowingConsumer.catching(delegate, IOException.class);
+
+            consumer.accept("foo");
+
+            verify(delegate).accept("foo");
+            verifyNoMoreInteractions(delegate);
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                Consumer<String> sneaky = ThrowingConsumer.sneaky(s -> {
+                    throw new IOException(s);
+                });
+
+                ThrowingConsumer<String, IOException> consumer = ThrowingConsumer.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> consumer.accept("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                Consumer<String> sneaky = ThrowingConsumer.sneaky(s -> {
+                    throw new FileNotFoundException(s);
+                });
+
+                ThrowingConsumer<String, IOException> consumer = ThrowingConsumer.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> consumer.accept("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                Consumer<String> sneaky = ThrowingConsumer.sneaky(s -> {
+                    throw new ParseException(s, 0);
+                });
+
+                ThrowingConsumer<String, IOException> consumer = ThrowingConsumer.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept("foo"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingConsumer<String, IOException> consumer = ThrowingConsumer.catching(s -> {
+                throw new IllegalStateException(s);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> consumer.accept("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+    }
 }
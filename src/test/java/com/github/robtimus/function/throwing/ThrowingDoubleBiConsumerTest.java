@@ -0,0 +1,895 @@
+/*
+ * ThrowingDoubleBiConsumerTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingDoubleBiConsumerTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+            ThrowingDoubleBiConsumer<IOException> after = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            consumer.andThen(after).accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).andThen(after);
+            verify(after).accept(1.5, 2.5);
+            verifyNoMoreInteractions(consumer, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            ThrowingDoubleBiConsumer<IOException> after = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            ThrowingDoubleBiConsumer<IOException> composed = consumer.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.accept(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).andThen(after);
+            verifyNoMoreInteractions(consumer, after);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingDoubleBiConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            throwing.accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingDoubleBiConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.accept(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingDoubleBiConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.accept(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingDoubleBiConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            throwing.accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingDoubleBiConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.accept(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingDoubleBiConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.accept(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            ThrowingConsumer<IOException, ParseException> errorHandler = Spied.throwingConsumer(e -> { });
+
+            ThrowingDoubleBiConsumer<ParseException> handling = consumer.onErrorHandleChecked(errorHandler);
+
+            handling.accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingConsumer<IOException, ParseException> errorHandler = Spied.throwingConsumer(e -> { });
+
+            ThrowingDoubleBiConsumer<ParseException> handling = consumer.onErrorHandleChecked(errorHandler);
+
+            handling.accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).accept(any());
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            Consumer<IOException> errorHandler = Spied.consumer(e -> { });
+
+            ThrowingDoubleBiConsumer<RuntimeException> handling = consumer.onErrorHandleUnchecked(errorHandler);
+
+            handling.accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Consumer<IOException> errorHandler = Spied.consumer(e -> { });
+
+            ThrowingDoubleBiConsumer<RuntimeException> handling = consumer.onErrorHandleUnchecked(errorHandler);
+
+            handling.accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).accept(any());
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorAcceptChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorAcceptChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            ThrowingDoubleBiConsumer<ParseException> fallback = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            ThrowingDoubleBiConsumer<ParseException> fallingBack = consumer.onErrorAcceptChecked(fallback);
+
+            fallingBack.accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorAcceptChecked(fallback);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiConsumer<ParseException> fallback = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            ThrowingDoubleBiConsumer<ParseException> fallingBack = consumer.onErrorAcceptChecked(fallback);
+
+            fallingBack.accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorAcceptChecked(fallback);
+            verify(fallback).accept(1.5, 2.5);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorAcceptUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorAcceptUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            ThrowingDoubleBiConsumer<RuntimeException> fallback = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            ThrowingDoubleBiConsumer<RuntimeException> fallingBack = consumer.onErrorAcceptUnchecked(fallback);
+
+            fallingBack.accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorAcceptUnchecked(fallback);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiConsumer<RuntimeException> fallback = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            ThrowingDoubleBiConsumer<RuntimeException> fallingBack = consumer.onErrorAcceptUnchecked(fallback);
+
+            fallingBack.accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorAcceptUnchecked(fallback);
+            verify(fallback).accept(1.5, 2.5);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorDiscard {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            ThrowingDoubleBiConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            discarding.accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            discarding.accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            ThrowingDoubleBiConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> discarding.accept(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            ThrowingDoubleBiConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            unchecked.accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            ThrowingDoubleBiConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.accept(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+
+            ThrowingDoubleBiConsumer<RuntimeException> sneaky = consumer.sneaky();
+
+            sneaky.accept(1.5, 2.5);
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiConsumer<RuntimeException> sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept(1.5, 2.5);
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1.5, 2.5);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer(ThrowingDoubleBiConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept(1.5, 2.5);
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1.5, 2.5);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept(1.5, 2.5));
+                assertEquals("1.5,2.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1.5, 2.5);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept(1.5, 2.5));
+                assertEquals("1.5,2.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1.5, 2.5);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiConsumer.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = ThrowingDoubleBiConsumer.of(ThrowingDoubleBiConsumerTest::ignore);
+
+            consumer.accept(1.5, 2.5);
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiConsumer.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiConsumer<RuntimeException> unchecked = ThrowingDoubleBiConsumer.unchecked(consumer);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+
+            verify(consumer).unchecked();
+            verify(consumer).accept(1.5, 2.5);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = Spied.throwingDoubleBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiConsumer<RuntimeException> sneaky = ThrowingDoubleBiConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept(1.5, 2.5);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiConsumer.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer = ThrowingDoubleBiConsumer.checked(ThrowingDoubleBiConsumerTest::ignore);
+
+            consumer.accept(1.5, 2.5);
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingDoubleBiConsumer<IOException> consumer = ThrowingDoubleBiConsumer.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t + "," + u));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingDoubleBiConsumer<RuntimeException> consumer = ThrowingDoubleBiConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiConsumer.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiConsumer.checked(consumer, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingDoubleBiConsumer<IOException> consumer = ThrowingDoubleBiConsumer.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t + "," + u));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> consumer.accept(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingDoubleBiConsumer<IOException> consumer = ThrowingDoubleBiConsumer.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(t + "," + u, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1.5, 2.5));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingDoubleBiConsumer<IOException> consumer = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingDoubleBiConsumer<RuntimeException> sneaky = ThrowingDoubleBiConsumer.sneaky(consumer);
+            ThrowingDoubleBiConsumer<IOException> checked = ThrowingDoubleBiConsumer.checked(sneaky);
+            ThrowingDoubleBiConsumer<IOException> checkedWithErrorType = ThrowingDoubleBiConsumer.checked(sneaky, IOException.class);
+
+            ThrowingDoubleBiConsumer<RuntimeException> unchecked = ThrowingDoubleBiConsumer.unchecked(checked);
+            ThrowingDoubleBiConsumer<RuntimeException> uncheckedWithErrorType = ThrowingDoubleBiConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1.5, 2.5));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept(1.5, 2.5));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingDoubleBiConsumer<RuntimeException> consumer = ThrowingDoubleBiConsumerTest::ignore;
+
+            ThrowingDoubleBiConsumer<IOException> checked = ThrowingDoubleBiConsumer.checked(consumer);
+
+            assertSame(consumer, ThrowingDoubleBiConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingDoubleBiConsumer<IOException> consumer = ThrowingDoubleBiConsumerTest::ignore;
+
+            ThrowingDoubleBiConsumer<RuntimeException> sneaky = ThrowingDoubleBiConsumer.sneaky(consumer);
+
+            assertSame(consumer, ThrowingDoubleBiConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingDoubleBiConsumer<IOException> consumer = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingDoubleBiConsumer<RuntimeException> unchecked = ThrowingDoubleBiConsumer.unchecked(consumer);
+            ThrowingDoubleBiConsumer<IOException> checked = ThrowingDoubleBiConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingDoubleBiConsumer<IOException> consumer = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingDoubleBiConsumer<RuntimeException> unchecked = ThrowingDoubleBiConsumer.unchecked(consumer);
+            ThrowingDoubleBiConsumer<ParseException> checked = ThrowingDoubleBiConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingDoubleBiConsumer<RuntimeException> consumer = ThrowingDoubleBiConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleBiConsumer<IOException> consumer =
+                    ThrowingDoubleBiConsumer.catching(ThrowingDoubleBiConsumerTest::ignore, IOException.class);
+
+            consumer.accept(1.5, 2.5);
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingDoubleBiConsumer<RuntimeException> sneaky = ThrowingDoubleBiConsumer.sneaky((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiConsumer<IOException> consumer = ThrowingDoubleBiConsumer.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> consumer.accept(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingDoubleBiConsumer<RuntimeException> sneaky = ThrowingDoubleBiConsumer.sneaky((t, u) -> {
+                throw new ParseException(t + "," + u, 0);
+            });
+
+            ThrowingDoubleBiConsumer<IOException> consumer = ThrowingDoubleBiConsumer.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1.5, 2.5));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+        }
+    }
+
+    private static void ignore(double t, double u) {
+        // do nothing
+    }
+}
@@ -0,0 +1,955 @@
+/*
+ * ThrowingDoubleBiFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingDoubleBiFunctionTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+            ThrowingFunction<String, Integer, IOException> after = Spied.throwingFunction(String::length);
+
+            ThrowingDoubleBiFunction<Integer, IOException> composed = function.andThen(after);
+
+            assertEquals(Integer.valueOf(7), composed.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).andThen(after);
+            verify(after).apply("1.5,2.5");
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            assertSame(function, function.andThen(ThrowingFunction.identity()));
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingDoubleBiFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals("1.5,2.5", throwing.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingDoubleBiFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.apply(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingDoubleBiFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingDoubleBiFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals("1.5,2.5", throwing.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingDoubleBiFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.apply(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingDoubleBiFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingDoubleBiFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("1.5,2.5", handling.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingDoubleBiFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("1.5,2.5", handling.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingDoubleBiFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("1.5,2.5", handling.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingDoubleBiFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("1.5,2.5", handling.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            ThrowingDoubleBiFunction<String, ParseException> fallback = Spied.throwingDoubleBiFunction((t, u) -> "fallback");
+
+            ThrowingDoubleBiFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("1.5,2.5", fallingBack.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiFunction<String, ParseException> fallback = Spied.throwingDoubleBiFunction((t, u) -> "fallback");
+
+            ThrowingDoubleBiFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).apply(1.5, 2.5);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            ThrowingDoubleBiFunction<String, RuntimeException> fallback = Spied.throwingDoubleBiFunction((t, u) -> "fallback");
+
+            ThrowingDoubleBiFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("1.5,2.5", fallingBack.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiFunction<String, RuntimeException> fallback = Spied.throwingDoubleBiFunction((t, u) -> "fallback");
+
+            ThrowingDoubleBiFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).apply(1.5, 2.5);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingDoubleBiFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("1.5,2.5", fallingBack.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingDoubleBiFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingDoubleBiFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("1.5,2.5", fallingBack.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingDoubleBiFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            ThrowingDoubleBiFunction<String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("1.5,2.5", returning.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiFunction<String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("fallback", returning.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            ThrowingDoubleBiFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals("1.5,2.5", unchecked.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            ThrowingDoubleBiFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.apply(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+
+            ThrowingDoubleBiFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals("1.5,2.5", sneaky.apply(1.5, 2.5));
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals("1.5,2.5", instrumented.apply(1.5, 2.5));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> throwable.throwUnchecked(t + "," + u));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1.5, 2.5);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> t + "," + u);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("1.5,2.5", instrumented.apply(1.5, 2.5));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1.5, 2.5);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply(1.5, 2.5));
+                assertEquals("1.5,2.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1.5, 2.5);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> throwable.throwUnchecked(t + "," + u));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply(1.5, 2.5));
+                assertEquals("1.5,2.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1.5, 2.5);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = ThrowingDoubleBiFunction.of((t, u) -> t + "," + u);
+
+            assertEquals("1.5,2.5", function.apply(1.5, 2.5));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiFunction<String, RuntimeException> unchecked = ThrowingDoubleBiFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).apply(1.5, 2.5);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = Spied.throwingDoubleBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiFunction<String, RuntimeException> sneaky = ThrowingDoubleBiFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply(1.5, 2.5);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = ThrowingDoubleBiFunction.checked((t, u) -> t + "," + u);
+
+            assertEquals("1.5,2.5", function.apply(1.5, 2.5));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingDoubleBiFunction<String, IOException> function = ThrowingDoubleBiFunction.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t + "," + u));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingDoubleBiFunction<String, RuntimeException> function = (t, u) -> t + "," + u;
+
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingDoubleBiFunction<String, IOException> function = ThrowingDoubleBiFunction.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t + "," + u));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingDoubleBiFunction<String, IOException> function = ThrowingDoubleBiFunction.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(t + "," + u, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply(1.5, 2.5));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingDoubleBiFunction<String, IOException> function = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingDoubleBiFunction<String, RuntimeException> sneaky = ThrowingDoubleBiFunction.sneaky(function);
+            ThrowingDoubleBiFunction<String, IOException> checked = ThrowingDoubleBiFunction.checked(sneaky);
+            ThrowingDoubleBiFunction<String, IOException> checkedWithErrorType = ThrowingDoubleBiFunction.checked(sneaky, IOException.class);
+
+            ThrowingDoubleBiFunction<String, RuntimeException> unchecked = ThrowingDoubleBiFunction.unchecked(checked);
+            ThrowingDoubleBiFunction<String, RuntimeException> uncheckedWithErrorType = ThrowingDoubleBiFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply(1.5, 2.5));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply(1.5, 2.5));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingDoubleBiFunction<String, RuntimeException> function = (t, u) -> t + "," + u;
+
+            ThrowingDoubleBiFunction<String, IOException> checked = ThrowingDoubleBiFunction.checked(function);
+
+            assertSame(function, ThrowingDoubleBiFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingDoubleBiFunction<String, IOException> function = (t, u) -> t + "," + u;
+
+            ThrowingDoubleBiFunction<String, RuntimeException> sneaky = ThrowingDoubleBiFunction.sneaky(function);
+
+            assertSame(function, ThrowingDoubleBiFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingDoubleBiFunction<String, IOException> function = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingDoubleBiFunction<String, RuntimeException> unchecked = ThrowingDoubleBiFunction.unchecked(function);
+            ThrowingDoubleBiFunction<String, IOException> checked = ThrowingDoubleBiFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingDoubleBiFunction<String, IOException> function = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingDoubleBiFunction<String, RuntimeException> unchecked = ThrowingDoubleBiFunction.unchecked(function);
+            ThrowingDoubleBiFunction<String, ParseException> checked = ThrowingDoubleBiFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingDoubleBiFunction<String, RuntimeException> function = (t, u) -> t + "," + u;
+
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleBiFunction<String, IOException> function = ThrowingDoubleBiFunction.catching((t, u) -> t + "," + u, IOException.class);
+
+            assertEquals("1.5,2.5", function.apply(1.5, 2.5));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingDoubleBiFunction<String, RuntimeException> sneaky = ThrowingDoubleBiFunction.sneaky((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiFunction<String, IOException> function = ThrowingDoubleBiFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingDoubleBiFunction<String, RuntimeException> sneaky = ThrowingDoubleBiFunction.sneaky((t, u) -> {
+                throw new ParseException(t + "," + u, 0);
+            });
+
+            ThrowingDoubleBiFunction<String, IOException> function = ThrowingDoubleBiFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply(1.5, 2.5));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+        }
+    }
+}
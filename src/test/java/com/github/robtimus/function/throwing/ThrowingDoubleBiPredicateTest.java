@@ -0,0 +1,1032 @@
+/*
+ * ThrowingDoubleBiPredicateTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingDoubleBiPredicateTest {
+
+    @Nested
+    class And {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            assertThrows(NullPointerException.class, () -> predicate.and(null));
+        }
+
+        @Test
+        void testBothEvaluated() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+            ThrowingDoubleBiPredicate<IOException> other = Spied.throwingDoubleBiPredicate((t, u) -> false);
+
+            assertFalse(predicate.and(other).test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).and(other);
+            verify(other).test(1.5, 2.5);
+            verifyNoMoreInteractions(predicate, other);
+        }
+
+        @Test
+        void testShortCircuited() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> false);
+            ThrowingDoubleBiPredicate<IOException> other = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            assertFalse(predicate.and(other).test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).and(other);
+            verifyNoMoreInteractions(predicate, other);
+        }
+    }
+
+    @Nested
+    class Negate {
+
+        @Test
+        void testNegate() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            assertFalse(predicate.negate().test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).negate();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Or {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            assertThrows(NullPointerException.class, () -> predicate.or(null));
+        }
+
+        @Test
+        void testBothEvaluated() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> false);
+            ThrowingDoubleBiPredicate<IOException> other = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            assertTrue(predicate.or(other).test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).or(other);
+            verify(other).test(1.5, 2.5);
+            verifyNoMoreInteractions(predicate, other);
+        }
+
+        @Test
+        void testShortCircuited() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+            ThrowingDoubleBiPredicate<IOException> other = Spied.throwingDoubleBiPredicate((t, u) -> false);
+
+            assertTrue(predicate.or(other).test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).or(other);
+            verifyNoMoreInteractions(predicate, other);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingDoubleBiPredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals(true, throwing.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingDoubleBiPredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.test(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingDoubleBiPredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.test(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingDoubleBiPredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals(true, throwing.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingDoubleBiPredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.test(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingDoubleBiPredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.test(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            ThrowingPredicate<IOException, ParseException> errorHandler = Spied.throwingPredicate(e -> false);
+
+            ThrowingDoubleBiPredicate<ParseException> handling = predicate.onErrorHandleChecked(errorHandler);
+
+            assertEquals(true, handling.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingPredicate<IOException, ParseException> errorHandler = Spied.throwingPredicate(e -> false);
+
+            ThrowingDoubleBiPredicate<ParseException> handling = predicate.onErrorHandleChecked(errorHandler);
+
+            assertEquals(false, handling.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).test(any());
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            Predicate<IOException> errorHandler = Spied.predicate(e -> false);
+
+            ThrowingDoubleBiPredicate<RuntimeException> handling = predicate.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(true, handling.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Predicate<IOException> errorHandler = Spied.predicate(e -> false);
+
+            ThrowingDoubleBiPredicate<RuntimeException> handling = predicate.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(false, handling.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).test(any());
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorTestChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorTestChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            ThrowingDoubleBiPredicate<ParseException> fallback = Spied.throwingDoubleBiPredicate((t, u) -> false);
+
+            ThrowingDoubleBiPredicate<ParseException> fallingBack = predicate.onErrorTestChecked(fallback);
+
+            assertEquals(true, fallingBack.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorTestChecked(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiPredicate<ParseException> fallback = Spied.throwingDoubleBiPredicate((t, u) -> false);
+
+            ThrowingDoubleBiPredicate<ParseException> fallingBack = predicate.onErrorTestChecked(fallback);
+
+            assertEquals(false, fallingBack.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorTestChecked(fallback);
+            verify(fallback).test(1.5, 2.5);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorTestUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorTestUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            ThrowingDoubleBiPredicate<RuntimeException> fallback = Spied.throwingDoubleBiPredicate((t, u) -> false);
+
+            ThrowingDoubleBiPredicate<RuntimeException> fallingBack = predicate.onErrorTestUnchecked(fallback);
+
+            assertEquals(true, fallingBack.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorTestUnchecked(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiPredicate<RuntimeException> fallback = Spied.throwingDoubleBiPredicate((t, u) -> false);
+
+            ThrowingDoubleBiPredicate<RuntimeException> fallingBack = predicate.onErrorTestUnchecked(fallback);
+
+            assertEquals(false, fallingBack.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorTestUnchecked(fallback);
+            verify(fallback).test(1.5, 2.5);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetCheckedAsBoolean {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorGetCheckedAsBoolean(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            ThrowingBooleanSupplier<ParseException> fallback = Spied.throwingBooleanSupplier(() -> false);
+
+            ThrowingDoubleBiPredicate<ParseException> fallingBack = predicate.onErrorGetCheckedAsBoolean(fallback);
+
+            assertEquals(true, fallingBack.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorGetCheckedAsBoolean(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingBooleanSupplier<ParseException> fallback = Spied.throwingBooleanSupplier(() -> false);
+
+            ThrowingDoubleBiPredicate<ParseException> fallingBack = predicate.onErrorGetCheckedAsBoolean(fallback);
+
+            assertEquals(false, fallingBack.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorGetCheckedAsBoolean(fallback);
+            verify(fallback).getAsBoolean();
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUncheckedAsBoolean {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorGetUncheckedAsBoolean(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            BooleanSupplier fallback = Spied.booleanSupplier(() -> false);
+
+            ThrowingDoubleBiPredicate<RuntimeException> fallingBack = predicate.onErrorGetUncheckedAsBoolean(fallback);
+
+            assertEquals(true, fallingBack.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorGetUncheckedAsBoolean(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            BooleanSupplier fallback = Spied.booleanSupplier(() -> false);
+
+            ThrowingDoubleBiPredicate<RuntimeException> fallingBack = predicate.onErrorGetUncheckedAsBoolean(fallback);
+
+            assertEquals(false, fallingBack.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorGetUncheckedAsBoolean(fallback);
+            verify(fallback).getAsBoolean();
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            ThrowingDoubleBiPredicate<RuntimeException> returning = predicate.onErrorReturn(false);
+
+            assertEquals(true, returning.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorReturn(false);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiPredicate<RuntimeException> returning = predicate.onErrorReturn(false);
+
+            assertEquals(false, returning.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).onErrorReturn(false);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            ThrowingDoubleBiPredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            assertEquals(true, unchecked.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiPredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            ThrowingDoubleBiPredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.test(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            ThrowingDoubleBiPredicate<RuntimeException> sneaky = predicate.sneaky();
+
+            assertEquals(true, sneaky.test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiPredicate<RuntimeException> sneaky = predicate.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            assertEquals(true, instrumented.test(1.5, 2.5));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.test(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> throwable.throwUnchecked(t + "," + u));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(true, instrumented.test(1.5, 2.5));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1.5, 2.5);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.test(1.5, 2.5));
+                assertEquals("1.5,2.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1.5, 2.5);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> throwable.throwUnchecked(t + "," + u));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBiPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test(1.5, 2.5));
+                assertEquals("1.5,2.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1.5, 2.5);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiPredicate.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = ThrowingDoubleBiPredicate.of((t, u) -> t < u);
+
+            assertEquals(true, predicate.test(1.5, 2.5));
+        }
+    }
+
+    @Nested
+    class Not {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiPredicate.not(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> t < u);
+
+            assertFalse(ThrowingDoubleBiPredicate.not(predicate).test(1.5, 2.5));
+
+            verify(predicate).test(1.5, 2.5);
+            verify(predicate).negate();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiPredicate.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiPredicate<RuntimeException> unchecked = ThrowingDoubleBiPredicate.unchecked(predicate);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+
+            verify(predicate).unchecked();
+            verify(predicate).test(1.5, 2.5);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiPredicate.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = Spied.throwingDoubleBiPredicate((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiPredicate<RuntimeException> sneaky = ThrowingDoubleBiPredicate.sneaky(predicate);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+
+            verify(predicate).sneaky();
+            verify(predicate).test(1.5, 2.5);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiPredicate.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = ThrowingDoubleBiPredicate.checked((t, u) -> t < u);
+
+            assertEquals(true, predicate.test(1.5, 2.5));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingDoubleBiPredicate<IOException> predicate = ThrowingDoubleBiPredicate.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t + "," + u));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingDoubleBiPredicate<RuntimeException> predicate = (t, u) -> t < u;
+
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiPredicate.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiPredicate.checked(predicate, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingDoubleBiPredicate<IOException> predicate = ThrowingDoubleBiPredicate.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t + "," + u));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> predicate.test(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingDoubleBiPredicate<IOException> predicate = ThrowingDoubleBiPredicate.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(t + "," + u, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test(1.5, 2.5));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingDoubleBiPredicate<IOException> predicate = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingDoubleBiPredicate<RuntimeException> sneaky = ThrowingDoubleBiPredicate.sneaky(predicate);
+            ThrowingDoubleBiPredicate<IOException> checked = ThrowingDoubleBiPredicate.checked(sneaky);
+            ThrowingDoubleBiPredicate<IOException> checkedWithErrorType = ThrowingDoubleBiPredicate.checked(sneaky, IOException.class);
+
+            ThrowingDoubleBiPredicate<RuntimeException> unchecked = ThrowingDoubleBiPredicate.unchecked(checked);
+            ThrowingDoubleBiPredicate<RuntimeException> uncheckedWithErrorType = ThrowingDoubleBiPredicate.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test(1.5, 2.5));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.test(1.5, 2.5));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingDoubleBiPredicate<RuntimeException> predicate = (t, u) -> t < u;
+
+            ThrowingDoubleBiPredicate<IOException> checked = ThrowingDoubleBiPredicate.checked(predicate);
+
+            assertSame(predicate, ThrowingDoubleBiPredicate.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingDoubleBiPredicate<IOException> predicate = (t, u) -> t < u;
+
+            ThrowingDoubleBiPredicate<RuntimeException> sneaky = ThrowingDoubleBiPredicate.sneaky(predicate);
+
+            assertSame(predicate, ThrowingDoubleBiPredicate.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingDoubleBiPredicate<IOException> predicate = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingDoubleBiPredicate<RuntimeException> unchecked = ThrowingDoubleBiPredicate.unchecked(predicate);
+            ThrowingDoubleBiPredicate<IOException> checked = ThrowingDoubleBiPredicate.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.test(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingDoubleBiPredicate<IOException> predicate = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingDoubleBiPredicate<RuntimeException> unchecked = ThrowingDoubleBiPredicate.unchecked(predicate);
+            ThrowingDoubleBiPredicate<ParseException> checked = ThrowingDoubleBiPredicate.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test(1.5, 2.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingDoubleBiPredicate<RuntimeException> predicate = (t, u) -> t < u;
+
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiPredicate.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBiPredicate.catching(predicate, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleBiPredicate<IOException> predicate = ThrowingDoubleBiPredicate.catching((t, u) -> t < u, IOException.class);
+
+            assertEquals(true, predicate.test(1.5, 2.5));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingDoubleBiPredicate<RuntimeException> sneaky = ThrowingDoubleBiPredicate.sneaky((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingDoubleBiPredicate<IOException> predicate = ThrowingDoubleBiPredicate.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> predicate.test(1.5, 2.5));
+            assertEquals("1.5,2.5", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingDoubleBiPredicate<RuntimeException> sneaky = ThrowingDoubleBiPredicate.sneaky((t, u) -> {
+                throw new ParseException(t + "," + u, 0);
+            });
+
+            ThrowingDoubleBiPredicate<IOException> predicate = ThrowingDoubleBiPredicate.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test(1.5, 2.5));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5,2.5", cause.getMessage());
+        }
+    }
+}
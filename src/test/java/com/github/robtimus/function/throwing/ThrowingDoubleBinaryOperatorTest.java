@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -805,7 +807,6 @@ class ThrowingDoubleBinaryOperatorTest {
 
             verify(operator).applyAsDouble(1D, 2D);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -823,7 +824,6 @@ class ThrowingDoubleBinaryOperatorTest {
 
             verify(operator).applyAsDouble(1D, 2D);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -839,7 +839,192 @@ class ThrowingDoubleBinaryOperatorTest {
 
             verify(operator).applyAsDouble(1D, 2D);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBinaryOperator<IOException> operator = Spied.throwingDoubleBinaryOperator(Double::max);
+
+            DoubleBinaryOperator sneaky = operator.sneaky();
+
+            assertEquals(2D, sneaky.applyAsDouble(1D, 2D));
+
+            verify(operator).applyAsDouble(1D, 2D);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBinaryOperator<IOException> operator = Spied.throwingDoubleBinaryOperator((d1, d2) -> {
+                throw new IOException(Double.toString(d1 + d2));
+            });
+
+            DoubleBinaryOperator sneaky = operator.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsDouble(1D, 2D));
+            assertEquals("3.0", thrown.getMessage());
+
+            verify(operator).applyAsDouble(1D, 2D);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBinaryOperator<IOException> operator = Spied.throwingDoubleBinaryOperator((d1, d2) -> throwable.throwUnchecked(d1 + d2));
+
+            DoubleBinaryOperator sneaky = operator.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsDouble(1D, 2D));
+            assertEquals("3.0", thrown.getMessage());
+
+            verify(operator).applyAsDouble(1D, 2D);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBinaryOperator<IOException> operator = Spied.throwingDoubleBinaryOperator(Double::max);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            assertEquals(2D, instrumented.applyAsDouble(1D, 2D));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsDouble(1D, 2D);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBinaryOperator<IOException> operator = Spied.throwingDoubleBinaryOperator((d1, d2) -> {
+                throw new IOException(Double.toString(d1 + d2));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsDouble(1D, 2D));
+            assertEquals("3.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsDouble(1D, 2D);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBinaryOperator<IOException> operator = Spied.throwingDoubleBinaryOperator((d1, d2) -> throwable.throwUnchecked(d1 + d2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsDouble(1D, 2D));
+            assertEquals("3.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsDouble(1D, 2D);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleBinaryOperator<IOException> operator = Spied.throwingDoubleBinaryOperator(Double::max);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(2D, instrumented.applyAsDouble(1D, 2D));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsDouble(1D, 2D);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleBinaryOperator<IOException> operator = Spied.throwingDoubleBinaryOperator((d1, d2) -> {
+                throw new IOException(Double.toString(d1 + d2));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsDouble(1D, 2D));
+                assertEquals("3.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsDouble(1D, 2D);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBinaryOperator<IOException> operator = Spied.throwingDoubleBinaryOperator((d1, d2) -> throwable.throwUnchecked(d1 + d2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsDouble(1D, 2D));
+                assertEquals("3.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsDouble(1D, 2D);
+            verify(operator).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(operator);
         }
     }
@@ -877,7 +1062,6 @@ class ThrowingDoubleBinaryOperatorTest {
             assertEquals(2D, unchecked.applyAsDouble(1D, 2D));
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).applyAsDouble(1D, 2D);
             verifyNoMoreInteractions(operator);
         }
@@ -895,7 +1079,6 @@ class ThrowingDoubleBinaryOperatorTest {
             assertEquals("3.0", cause.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).applyAsDouble(1D, 2D);
             verifyNoMoreInteractions(operator);
         }
@@ -911,7 +1094,59 @@ class ThrowingDoubleBinaryOperatorTest {
             assertEquals("3.0", thrown.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
+            verify(operator).applyAsDouble(1D, 2D);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleBinaryOperator<IOException> operator = Spied.throwingDoubleBinaryOperator(Double::max);
+
+            DoubleBinaryOperator sneaky = ThrowingDoubleBinaryOperator.sneaky(operator);
+
+            assertEquals(2D, sneaky.applyAsDouble(1D, 2D));
+
+            verify(operator).sneaky();
+            verify(operator).applyAsDouble(1D, 2D);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingDoubleBinaryOperator<IOException> operator = Spied.throwingDoubleBinaryOperator((d1, d2) -> {
+                throw new IOException(Double.toString(d1 + d2));
+            });
+
+            DoubleBinaryOperator sneaky = ThrowingDoubleBinaryOperator.sneaky(operator);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsDouble(1D, 2D));
+            assertEquals("3.0", thrown.getMessage());
+
+            verify(operator).sneaky();
+            verify(operator).applyAsDouble(1D, 2D);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleBinaryOperator<IOException> operator = Spied.throwingDoubleBinaryOperator((d1, d2) -> throwable.throwUnchecked(d1 + d2));
+
+            DoubleBinaryOperator sneaky = ThrowingDoubleBinaryOperator.sneaky(operator);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsDouble(1D, 2D));
+            assertEquals("3.0", thrown.getMessage());
+
+            verify(operator).sneaky();
             verify(operator).applyAsDouble(1D, 2D);
             verifyNoMoreInteractions(operator);
         }
@@ -1009,4 +1244,158 @@ class ThrowingDoubleBinaryOperatorTest {
             assertEquals("3.0", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingDoubleBinaryOperator<IOException> operator = (left, right) -> {
+                throw new IOException("foo");
+            };
+
+            DoubleBinaryOperator sneaky = ThrowingDoubleBinaryOperator.sneaky(operator);
+            ThrowingDoubleBinaryOperator<IOException> checked = ThrowingDoubleBinaryOperator.checked(sneaky);
+            ThrowingDoubleBinaryOperator<IOException> checkedWithErrorType = ThrowingDoubleBinaryOperator.checked(sneaky, IOException.class);
+
+            DoubleBinaryOperator unchecked = ThrowingDoubleBinaryOperator.unchecked(checked);
+            DoubleBinaryOperator uncheckedWithErrorType = ThrowingDoubleBinaryOperator.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsDouble(1D, 1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsDouble(1D, 1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            DoubleBinaryOperator operator = (left, right) -> 1D;
+
+            ThrowingDoubleBinaryOperator<IOException> checked = ThrowingDoubleBinaryOperator.checked(operator);
+
+            assertSame(operator, ThrowingDoubleBinaryOperator.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingDoubleBinaryOperator<IOException> operator = (left, right) -> 1D;
+
+            DoubleBinaryOperator sneaky = ThrowingDoubleBinaryOperator.sneaky(operator);
+
+            assertSame(operator, ThrowingDoubleBinaryOperator.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingDoubleBinaryOperator<IOException> operator = (left, right) -> {
+                throw new IOException("foo");
+            };
+
+            DoubleBinaryOperator unchecked = ThrowingDoubleBinaryOperator.unchecked(operator);
+            ThrowingDoubleBinaryOperator<IOException> checked = ThrowingDoubleBinaryOperator.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsDouble(1D, 1D));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingDoubleBinaryOperator<IOException> operator = (left, right) -> {
+                throw new IOException("foo");
+            };
+
+            DoubleBinaryOperator unchecked = ThrowingDoubleBinaryOperator.unchecked(operator);
+            ThrowingDoubleBinaryOperator<ParseException> checked = ThrowingDoubleBinaryOperator.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsDouble(1D, 1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingDoubleBinaryOperator<IOException> operator = (left, right) -> {
+                throw new IOException("foo");
+            };
+
+            DoubleBinaryOperator unchecked = ThrowingDoubleBinaryOperator.unchecked(operator);
+            ThrowingDoubleBinaryOperator<IOException> checked = ThrowingDoubleBinaryOperator.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsDouble(1D, 1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            DoubleBinaryOperator operator = Double::max;
+
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBinaryOperator.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleBinaryOperator.catching(operator, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleBinaryOperator<IOException> operator = ThrowingDoubleBinaryOperator.catching(Double::max, IOException.class);
+
+            assertEquals(2D, operator.applyAsDouble(1D, 2D));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                DoubleBinaryOperator sneaky = ThrowingDoubleBinaryOperator.sneaky((d1, d2) -> {
+                    throw new IOException(Double.toString(d1 + d2));
+                });
+
+                ThrowingDoubleBinaryOperator<IOException> operator = ThrowingDoubleBinaryOperator.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> operator.applyAsDouble(1D, 2D));
+                assertEquals("3.0", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                DoubleBinaryOperator sneaky = ThrowingDoubleBinaryOperator.sneaky((d1, d2) -> {
+                    throw new FileNotFoundException(Double.toString(d1 + d2));
+                });
+
+                ThrowingDoubleBinaryOperator<IOException> operator = ThrowingDoubleBinaryOperator.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> operator.applyAsDouble(1D, 2D));
+                assertEquals("3.0", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                DoubleBinaryOperator sneaky = ThrowingDoubleBinaryOperator.sneaky((d1, d2) -> {
+                    throw new ParseException(Double.toString(d1 + d2), 0);
+                });
+
+                ThrowingDoubleBinaryOperator<IOException> operator = ThrowingDoubleBinaryOperator.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsDouble(1D, 2D));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("3.0", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingDoubleBinaryOperator<IOException> operator = ThrowingDoubleBinaryOperator.catching((d1, d2) -> {
+                throw new IllegalStateException(Double.toString(d1 + d2));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> operator.applyAsDouble(1D, 2D));
+            assertEquals("3.0", thrown.getMessage());
+        }
+    }
 }
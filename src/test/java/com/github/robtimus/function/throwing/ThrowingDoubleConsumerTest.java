@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -705,7 +707,6 @@ class ThrowingDoubleConsumerTest {
 
             verify(consumer).accept(1D);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -723,7 +724,6 @@ class ThrowingDoubleConsumerTest {
 
             verify(consumer).accept(1D);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -739,7 +739,192 @@ class ThrowingDoubleConsumerTest {
 
             verify(consumer).accept(1D);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleConsumer<IOException> consumer = Spied.throwingDoubleConsumer(Double::toString);
+
+            DoubleConsumer sneaky = consumer.sneaky();
+
+            sneaky.accept(1D);
+
+            verify(consumer).accept(1D);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleConsumer<IOException> consumer = Spied.throwingDoubleConsumer(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            DoubleConsumer sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(consumer).accept(1D);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleConsumer<IOException> consumer = Spied.throwingDoubleConsumer(throwable::throwUnchecked);
+
+            DoubleConsumer sneaky = consumer.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(consumer).accept(1D);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleConsumer<IOException> consumer = Spied.throwingDoubleConsumer(Double::toString);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept(1D);
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1D);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleConsumer<IOException> consumer = Spied.throwingDoubleConsumer(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1D);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleConsumer<IOException> consumer = Spied.throwingDoubleConsumer(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1D);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleConsumer<IOException> consumer = Spied.throwingDoubleConsumer(Double::toString);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept(1D);
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1D);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleConsumer<IOException> consumer = Spied.throwingDoubleConsumer(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1D);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleConsumer<IOException> consumer = Spied.throwingDoubleConsumer(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1D);
+            verify(consumer).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(consumer);
         }
     }
@@ -782,7 +967,6 @@ class ThrowingDoubleConsumerTest {
             unchecked.accept(1D);
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept(1D);
             verifyNoMoreInteractions(consumer);
         }
@@ -800,7 +984,6 @@ class ThrowingDoubleConsumerTest {
             assertEquals("1.0", cause.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept(1D);
             verifyNoMoreInteractions(consumer);
         }
@@ -816,7 +999,59 @@ class ThrowingDoubleConsumerTest {
             assertEquals("1.0", thrown.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verify(consumer).accept(1D);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleConsumer<IOException> consumer = Spied.throwingDoubleConsumer(Double::toString);
+
+            DoubleConsumer sneaky = ThrowingDoubleConsumer.sneaky(consumer);
+
+            sneaky.accept(1D);
+
+            verify(consumer).sneaky();
+            verify(consumer).accept(1D);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingDoubleConsumer<IOException> consumer = Spied.throwingDoubleConsumer(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            DoubleConsumer sneaky = ThrowingDoubleConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept(1D);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleConsumer<IOException> consumer = Spied.throwingDoubleConsumer(throwable::throwUnchecked);
+
+            DoubleConsumer sneaky = ThrowingDoubleConsumer.sneaky(consumer);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(consumer).sneaky();
             verify(consumer).accept(1D);
             verifyNoMoreInteractions(consumer);
         }
@@ -924,4 +1159,163 @@ class ThrowingDoubleConsumerTest {
             assertEquals("1.0", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingDoubleConsumer<IOException> operation = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleConsumer sneaky = ThrowingDoubleConsumer.sneaky(operation);
+            ThrowingDoubleConsumer<IOException> checked = ThrowingDoubleConsumer.checked(sneaky);
+            ThrowingDoubleConsumer<IOException> checkedWithErrorType = ThrowingDoubleConsumer.checked(sneaky, IOException.class);
+
+            DoubleConsumer unchecked = ThrowingDoubleConsumer.unchecked(checked);
+            DoubleConsumer uncheckedWithErrorType = ThrowingDoubleConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept(1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            DoubleConsumer operation = value -> { /* do nothing */ };
+
+            ThrowingDoubleConsumer<IOException> checked = ThrowingDoubleConsumer.checked(operation);
+
+            assertSame(operation, ThrowingDoubleConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingDoubleConsumer<IOException> operation = value -> { /* do nothing */ };
+
+            DoubleConsumer sneaky = ThrowingDoubleConsumer.sneaky(operation);
+
+            assertSame(operation, ThrowingDoubleConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingDoubleConsumer<IOException> operation = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleConsumer unchecked = ThrowingDoubleConsumer.unchecked(operation);
+            ThrowingDoubleConsumer<IOException> checked = ThrowingDoubleConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept(1D));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingDoubleConsumer<IOException> operation = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleConsumer unchecked = ThrowingDoubleConsumer.unchecked(operation);
+            ThrowingDoubleConsumer<ParseException> checked = ThrowingDoubleConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept(1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingDoubleConsumer<IOException> operation = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleConsumer unchecked = ThrowingDoubleConsumer.unchecked(operation);
+            ThrowingDoubleConsumer<IOException> checked = ThrowingDoubleConsumer.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept(1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            DoubleConsumer consumer = Double::toString;
+
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            DoubleConsumer delegate = Spied.doubleConsumer(Double::toString);
+
+            ThrowingDoubleConsumer<IOException> consumer = ThrowingDoubleConsumer.catching(delegate, IOException.class);
+
+            consumer.accept(1D);
+
+            verify(delegate).accept(1D);
+            verifyNoMoreInteractions(delegate);
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                DoubleConsumer sneaky = ThrowingDoubleConsumer.sneaky(d -> {
+                    throw new IOException(Double.toString(d));
+                });
+
+                ThrowingDoubleConsumer<IOException> consumer = ThrowingDoubleConsumer.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> consumer.accept(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                DoubleConsumer sneaky = ThrowingDoubleConsumer.sneaky(d -> {
+                    throw new FileNotFoundException(Double.toString(d));
+                });
+
+                ThrowingDoubleConsumer<IOException> consumer = ThrowingDoubleConsumer.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> consumer.accept(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                DoubleConsumer sneaky = ThrowingDoubleConsumer.sneaky(d -> {
+                    throw new ParseException(Double.toString(d), 0);
+                });
+
+                ThrowingDoubleConsumer<IOException> consumer = ThrowingDoubleConsumer.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1D));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1.0", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingDoubleConsumer<IOException> consumer = ThrowingDoubleConsumer.catching(d -> {
+                throw new IllegalStateException(Double.toString(d));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> consumer.accept(1D));
+            assertEquals("1.0", thrown.getMessage());
+        }
+    }
 }
@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -804,7 +807,6 @@ class ThrowingDoubleFunctionTest {
 
             verify(function).apply(1D);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -822,7 +824,6 @@ class ThrowingDoubleFunctionTest {
 
             verify(function).apply(1D);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -838,11 +839,306 @@ class ThrowingDoubleFunctionTest {
 
             verify(function).apply(1D);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(Double::toString);
+
+            DoubleFunction<String> sneaky = function.sneaky();
+
+            assertEquals("1.0", sneaky.apply(1D));
+
+            verify(function).apply(1D);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            DoubleFunction<String> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(function).apply(1D);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(throwable::throwUnchecked);
+
+            DoubleFunction<String> sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.apply(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(function).apply(1D);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(Double::toString);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals("1.0", instrumented.apply(1D));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1D);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1D);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1D);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(Double::toString);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("1.0", instrumented.apply(1D));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1D);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1D);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1D);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(Double::toString);
+
+            ThrowingDoubleFunction<String, IOException> memoized = function.memoize();
+
+            assertEquals("1.0", memoized.apply(1D));
+            assertEquals("2.0", memoized.apply(2D));
+            assertEquals("1.0", memoized.apply(1D));
+            assertEquals("2.0", memoized.apply(2D));
+
+            verify(function).apply(1D);
+            verify(function).apply(2D);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(d -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingDoubleFunction<String, IOException> memoized = function.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.apply(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.apply(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).apply(1D);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(d -> throwable.throwUnchecked("foo"));
+
+            ThrowingDoubleFunction<String, IOException> memoized = function.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.apply(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.apply(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).apply(1D);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testNullResult() throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(d -> null);
+
+            ThrowingDoubleFunction<String, IOException> memoized = function.memoize();
+
+            assertNull(memoized.apply(1D));
+            assertNull(memoized.apply(1D));
+
+            verify(function).apply(1D);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testSpecialInputs() throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(Double::toString);
+
+            ThrowingDoubleFunction<String, IOException> memoized = function.memoize();
+
+            assertEquals("NaN", memoized.apply(Double.NaN));
+            assertEquals("NaN", memoized.apply(Double.NaN));
+            assertEquals("0.0", memoized.apply(0D));
+            assertEquals("-0.0", memoized.apply(-0D));
+
+            verify(function).apply(Double.NaN);
+            verify(function).apply(0D);
+            verify(function).apply(-0D);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingDoubleFunction<String, IOException> function = d -> {
+                counter.incrementAndGet();
+                return String.valueOf(d);
+            };
+
+            ThrowingDoubleFunction<String, IOException> memoized = function.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(String.valueOf((double) i), memoized.apply(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(String.valueOf((double) i), memoized.apply(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
     @Nested
     class Of {
 
@@ -876,7 +1172,6 @@ class ThrowingDoubleFunctionTest {
             assertEquals("1.0", unchecked.apply(1D));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).apply(1D);
             verifyNoMoreInteractions(function);
         }
@@ -894,7 +1189,6 @@ class ThrowingDoubleFunctionTest {
             assertEquals("1.0", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).apply(1D);
             verifyNoMoreInteractions(function);
         }
@@ -910,7 +1204,59 @@ class ThrowingDoubleFunctionTest {
             assertEquals("1.0", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).apply(1D);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(Double::toString);
+
+            DoubleFunction<String> sneaky = ThrowingDoubleFunction.sneaky(function);
+
+            assertEquals("1.0", sneaky.apply(1D));
+
+            verify(function).sneaky();
+            verify(function).apply(1D);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            DoubleFunction<String> sneaky = ThrowingDoubleFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply(1D);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = Spied.throwingDoubleFunction(throwable::throwUnchecked);
+
+            DoubleFunction<String> sneaky = ThrowingDoubleFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.apply(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).apply(1D);
             verifyNoMoreInteractions(function);
         }
@@ -1008,4 +1354,158 @@ class ThrowingDoubleFunctionTest {
             assertEquals("1.0", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingDoubleFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleFunction<String> sneaky = ThrowingDoubleFunction.sneaky(function);
+            ThrowingDoubleFunction<String, IOException> checked = ThrowingDoubleFunction.checked(sneaky);
+            ThrowingDoubleFunction<String, IOException> checkedWithErrorType = ThrowingDoubleFunction.checked(sneaky, IOException.class);
+
+            DoubleFunction<String> unchecked = ThrowingDoubleFunction.unchecked(checked);
+            DoubleFunction<String> uncheckedWithErrorType = ThrowingDoubleFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply(1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply(1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            DoubleFunction<String> function = value -> "foo";
+
+            ThrowingDoubleFunction<String, IOException> checked = ThrowingDoubleFunction.checked(function);
+
+            assertSame(function, ThrowingDoubleFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingDoubleFunction<String, IOException> function = value -> "foo";
+
+            DoubleFunction<String> sneaky = ThrowingDoubleFunction.sneaky(function);
+
+            assertSame(function, ThrowingDoubleFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingDoubleFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleFunction<String> unchecked = ThrowingDoubleFunction.unchecked(function);
+            ThrowingDoubleFunction<String, IOException> checked = ThrowingDoubleFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply(1D));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingDoubleFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleFunction<String> unchecked = ThrowingDoubleFunction.unchecked(function);
+            ThrowingDoubleFunction<String, ParseException> checked = ThrowingDoubleFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply(1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingDoubleFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleFunction<String> unchecked = ThrowingDoubleFunction.unchecked(function);
+            ThrowingDoubleFunction<String, IOException> checked = ThrowingDoubleFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply(1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            DoubleFunction<String> function = Double::toString;
+
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleFunction<String, IOException> function = ThrowingDoubleFunction.catching(Double::toString, IOException.class);
+
+            assertEquals("1.0", function.apply(1D));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                DoubleFunction<String> sneaky = ThrowingDoubleFunction.sneaky(d -> {
+                    throw new IOException(Double.toString(d));
+                });
+
+                ThrowingDoubleFunction<String, IOException> function = ThrowingDoubleFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.apply(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                DoubleFunction<String> sneaky = ThrowingDoubleFunction.sneaky(d -> {
+                    throw new FileNotFoundException(Double.toString(d));
+                });
+
+                ThrowingDoubleFunction<String, IOException> function = ThrowingDoubleFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.apply(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                DoubleFunction<String> sneaky = ThrowingDoubleFunction.sneaky(d -> {
+                    throw new ParseException(Double.toString(d), 0);
+                });
+
+                ThrowingDoubleFunction<String, IOException> function = ThrowingDoubleFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply(1D));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1.0", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingDoubleFunction<String, IOException> function = ThrowingDoubleFunction.catching(d -> {
+                throw new IllegalStateException(Double.toString(d));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.apply(1D));
+            assertEquals("1.0", thrown.getMessage());
+        }
+    }
 }
@@ -21,15 +21,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -1298,7 +1301,6 @@ class ThrowingDoublePredicateTest {
 
             verify(predicate).test(1D);
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(predicate);
         }
 
@@ -1316,7 +1318,6 @@ class ThrowingDoublePredicateTest {
 
             verify(predicate).test(1D);
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(predicate);
         }
 
@@ -1332,11 +1333,274 @@ class ThrowingDoublePredicateTest {
 
             verify(predicate).test(1D);
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(predicate);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(d -> d % 2 != 0);
+
+            DoublePredicate sneaky = predicate.sneaky();
+
+            assertTrue(sneaky.test(1D));
+
+            verify(predicate).test(1D);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            DoublePredicate sneaky = predicate.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(predicate).test(1D);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(throwable::throwUnchecked);
+
+            DoublePredicate sneaky = predicate.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.test(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(predicate).test(1D);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(d -> d % 2 != 0);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoublePredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            assertTrue(instrumented.test(1D));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1D);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoublePredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.test(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1D);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoublePredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1D);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(d -> d % 2 != 0);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoublePredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertTrue(instrumented.test(1D));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1D);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoublePredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.test(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1D);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoublePredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1D);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(d -> d % 2 != 0);
+
+            ThrowingDoublePredicate<IOException> memoized = predicate.memoize();
+
+            assertTrue(memoized.test(1D));
+            assertFalse(memoized.test(2D));
+            assertTrue(memoized.test(1D));
+            assertFalse(memoized.test(2D));
+
+            verify(predicate).test(1D);
+            verify(predicate).test(2D);
+            verify(predicate).memoize();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(d -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingDoublePredicate<IOException> memoized = predicate.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.test(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.test(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(predicate, times(2)).test(1D);
+            verify(predicate).memoize();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(d -> throwable.throwUnchecked("foo"));
+
+            ThrowingDoublePredicate<IOException> memoized = predicate.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.test(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.test(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(predicate, times(2)).test(1D);
+            verify(predicate).memoize();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingDoublePredicate<IOException> predicate = d -> {
+                counter.incrementAndGet();
+                return d % 2 != 0;
+            };
+
+            ThrowingDoublePredicate<IOException> memoized = predicate.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i % 2 != 0, memoized.test(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i % 2 != 0, memoized.test(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
     @Nested
     class Of {
 
@@ -1425,7 +1689,6 @@ class ThrowingDoublePredicateTest {
             assertTrue(unchecked.test(1D));
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verify(predicate).test(1D);
             verifyNoMoreInteractions(predicate);
         }
@@ -1443,7 +1706,6 @@ class ThrowingDoublePredicateTest {
             assertEquals("1.0", cause.getMessage());
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verify(predicate).test(1D);
             verifyNoMoreInteractions(predicate);
         }
@@ -1459,7 +1721,59 @@ class ThrowingDoublePredicateTest {
             assertEquals("1.0", thrown.getMessage());
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
+            verify(predicate).test(1D);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoublePredicate.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(d -> d % 2 != 0);
+
+            DoublePredicate sneaky = ThrowingDoublePredicate.sneaky(predicate);
+
+            assertTrue(sneaky.test(1D));
+
+            verify(predicate).sneaky();
+            verify(predicate).test(1D);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            DoublePredicate sneaky = ThrowingDoublePredicate.sneaky(predicate);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(predicate).sneaky();
+            verify(predicate).test(1D);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(throwable::throwUnchecked);
+
+            DoublePredicate sneaky = ThrowingDoublePredicate.sneaky(predicate);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.test(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(predicate).sneaky();
             verify(predicate).test(1D);
             verifyNoMoreInteractions(predicate);
         }
@@ -1557,4 +1871,158 @@ class ThrowingDoublePredicateTest {
             assertEquals("1.0", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingDoublePredicate<IOException> predicate = value -> {
+                throw new IOException("foo");
+            };
+
+            DoublePredicate sneaky = ThrowingDoublePredicate.sneaky(predicate);
+            ThrowingDoublePredicate<IOException> checked = ThrowingDoublePredicate.checked(sneaky);
+            ThrowingDoublePredicate<IOException> checkedWithErrorType = ThrowingDoublePredicate.checked(sneaky, IOException.class);
+
+            DoublePredicate unchecked = ThrowingDoublePredicate.unchecked(checked);
+            DoublePredicate uncheckedWithErrorType = ThrowingDoublePredicate.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test(1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.test(1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            DoublePredicate predicate = value -> true;
+
+            ThrowingDoublePredicate<IOException> checked = ThrowingDoublePredicate.checked(predicate);
+
+            assertSame(predicate, ThrowingDoublePredicate.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingDoublePredicate<IOException> predicate = value -> true;
+
+            DoublePredicate sneaky = ThrowingDoublePredicate.sneaky(predicate);
+
+            assertSame(predicate, ThrowingDoublePredicate.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingDoublePredicate<IOException> predicate = value -> {
+                throw new IOException("foo");
+            };
+
+            DoublePredicate unchecked = ThrowingDoublePredicate.unchecked(predicate);
+            ThrowingDoublePredicate<IOException> checked = ThrowingDoublePredicate.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.test(1D));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingDoublePredicate<IOException> predicate = value -> {
+                throw new IOException("foo");
+            };
+
+            DoublePredicate unchecked = ThrowingDoublePredicate.unchecked(predicate);
+            ThrowingDoublePredicate<ParseException> checked = ThrowingDoublePredicate.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test(1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingDoublePredicate<IOException> predicate = value -> {
+                throw new IOException("foo");
+            };
+
+            DoublePredicate unchecked = ThrowingDoublePredicate.unchecked(predicate);
+            ThrowingDoublePredicate<IOException> checked = ThrowingDoublePredicate.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test(1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            DoublePredicate predicate = d -> d % 2 != 0;
+
+            assertThrows(NullPointerException.class, () -> ThrowingDoublePredicate.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingDoublePredicate.catching(predicate, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = ThrowingDoublePredicate.catching(d -> d % 2 != 0, IOException.class);
+
+            assertTrue(predicate.test(1D));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                DoublePredicate sneaky = ThrowingDoublePredicate.sneaky(d -> {
+                    throw new IOException(Double.toString(d));
+                });
+
+                ThrowingDoublePredicate<IOException> predicate = ThrowingDoublePredicate.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> predicate.test(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                DoublePredicate sneaky = ThrowingDoublePredicate.sneaky(d -> {
+                    throw new FileNotFoundException(Double.toString(d));
+                });
+
+                ThrowingDoublePredicate<IOException> predicate = ThrowingDoublePredicate.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> predicate.test(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                DoublePredicate sneaky = ThrowingDoublePredicate.sneaky(d -> {
+                    throw new ParseException(Double.toString(d), 0);
+                });
+
+                ThrowingDoublePredicate<IOException> predicate = ThrowingDoublePredicate.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test(1D));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1.0", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingDoublePredicate<IOException> predicate = ThrowingDoublePredicate.catching(d -> {
+                throw new IllegalStateException(Double.toString(d));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> predicate.test(1D));
+            assertEquals("1.0", thrown.getMessage());
+        }
+    }
 }
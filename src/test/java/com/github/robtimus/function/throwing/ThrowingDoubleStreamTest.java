@@ -0,0 +1,282 @@
+/*
+ * ThrowingDoubleStreamTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.DoubleStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingDoubleStreamTest {
+
+    @Nested
+    class Filter {
+
+        @Test
+        void testPredicateThrowsNothing() throws IOException {
+            ThrowingDoublePredicate<IOException> predicate = Spied.throwingDoublePredicate(i -> i > 1);
+
+            assertArrayEquals(new double[] { 2.0, 3.0 }, stream(1.0, 2.0, 3.0).filter(predicate).toArray());
+
+            verify(predicate).test(1.0);
+            verify(predicate).test(2.0);
+            verify(predicate).test(3.0);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testPredicateThrowsChecked() {
+            IOException exception = new IOException("2");
+            ThrowingDoublePredicate<IOException> predicate = i -> {
+                if (i == 2) {
+                    throw exception;
+                }
+                return true;
+            };
+
+            ThrowingDoubleStream<IOException> stream = stream(1.0, 2.0, 3.0).filter(predicate);
+
+            IOException thrown = assertThrows(IOException.class, stream::toArray);
+            assertSame(exception, thrown);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testPredicateThrowsUnchecked(UncheckedThrowable<?> throwable) {
+            ThrowingDoublePredicate<IOException> predicate = throwable::throwUnchecked;
+
+            ThrowingDoubleStream<IOException> stream = stream(1.0).filter(predicate);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), stream::count);
+            assertEquals("1.0", thrown.getMessage());
+        }
+    }
+
+    @Nested
+    class Map {
+
+        @Test
+        void testMapperThrowsNothing() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> mapper = Spied.throwingDoubleUnaryOperator(i -> i * 2);
+
+            assertArrayEquals(new double[] { 2.0, 4.0 }, stream(1.0, 2.0).map(mapper).toArray());
+
+            verify(mapper).applyAsDouble(1.0);
+            verify(mapper).applyAsDouble(2.0);
+            verifyNoMoreInteractions(mapper);
+        }
+
+        @Test
+        void testMapperThrowsChecked() {
+            IOException exception = new IOException("1");
+            ThrowingDoubleUnaryOperator<IOException> mapper = i -> {
+                throw exception;
+            };
+
+            ThrowingDoubleStream<IOException> stream = stream(1.0, 2.0).map(mapper);
+
+            IOException thrown = assertThrows(IOException.class, stream::sum);
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        void testMapToObj() throws IOException {
+            assertEquals(List.of("1.0", "2.0"), stream(1.0, 2.0).mapToObj(Double::toString).toList());
+        }
+
+        @Test
+        void testMapToInt() throws IOException {
+            assertArrayEquals(new int[] { 1, 2 }, stream(1.0, 2.0).mapToInt(i -> (int) i).toArray());
+        }
+
+        @Test
+        void testMapToLong() throws IOException {
+            assertArrayEquals(new long[] { 1L, 2L }, stream(1.0, 2.0).mapToLong(i -> (long) i).toArray());
+        }
+
+        @Test
+        void testFlatMap() throws IOException {
+            assertArrayEquals(new double[] { 1.0, 1.0, 2.0, 2.0 }, stream(1.0, 2.0).flatMap(i -> DoubleStream.of(i, i)).toArray());
+        }
+
+        @Test
+        void testBoxed() throws IOException {
+            assertEquals(List.of(1.0, 2.0), stream(1.0, 2.0).boxed().toList());
+        }
+    }
+
+    @Nested
+    class Peek {
+
+        @Test
+        void testActionThrowsChecked() {
+            IOException exception = new IOException("1");
+            ThrowingDoubleConsumer<IOException> action = i -> {
+                throw exception;
+            };
+
+            ThrowingDoubleStream<IOException> stream = stream(1.0, 2.0).peek(action);
+
+            IOException thrown = assertThrows(IOException.class, stream::count);
+            assertSame(exception, thrown);
+        }
+    }
+
+    @Nested
+    class StatefulOperations {
+
+        @Test
+        void testDistinctAndSorted() throws IOException {
+            assertArrayEquals(new double[] { 1.0, 2.0, 3.0 }, stream(3.0, 1.0, 3.0, 2.0).distinct().sorted().toArray());
+        }
+
+        @Test
+        void testLimitAndSkip() throws IOException {
+            assertArrayEquals(new double[] { 2.0, 3.0 }, stream(1.0, 2.0, 3.0, 4.0).skip(1).limit(2).toArray());
+        }
+
+        @Test
+        void testTakeWhileAndDropWhile() throws IOException {
+            assertArrayEquals(new double[] { 1.0 }, stream(1.0, 2.0, 1.0).takeWhile(i -> i < 2).toArray());
+            assertArrayEquals(new double[] { 2.0, 1.0 }, stream(1.0, 2.0, 1.0).dropWhile(i -> i < 2).toArray());
+        }
+    }
+
+    @Nested
+    class TerminalOperations {
+
+        @Test
+        void testForEach() throws IOException {
+            List<Double> result = new ArrayList<>();
+
+            stream(1.0, 2.0).forEach(result::add);
+            stream(3.0, 4.0).parallel().forEachOrdered(result::add);
+
+            assertEquals(List.of(1.0, 2.0, 3.0, 4.0), result);
+        }
+
+        @Test
+        void testForEachThrowsChecked() {
+            IOException exception = new IOException("1");
+            ThrowingDoubleConsumer<IOException> action = i -> {
+                throw exception;
+            };
+
+            ThrowingDoubleStream<IOException> stream = stream(1.0, 2.0);
+
+            IOException thrown = assertThrows(IOException.class, () -> stream.forEach(action));
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        void testReduce() throws IOException {
+            assertEquals(3.0, stream(1.0, 2.0).reduce(0.0, (i1, i2) -> i1 + i2));
+            assertEquals(OptionalDouble.of(3.0), stream(1.0, 2.0).reduce((i1, i2) -> i1 + i2));
+        }
+
+        @Test
+        void testReduceThrowsChecked() {
+            IOException exception = new IOException("1");
+            ThrowingDoubleBinaryOperator<IOException> accumulator = (i1, i2) -> {
+                throw exception;
+            };
+
+            ThrowingDoubleStream<IOException> stream = stream(1.0, 2.0);
+
+            IOException thrown = assertThrows(IOException.class, () -> stream.reduce(0.0, accumulator));
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        void testCollect() throws IOException {
+            ThrowingSupplier<List<Double>, IOException> supplier = ArrayList::new;
+            ThrowingObjDoubleConsumer<List<Double>, IOException> accumulator = List::add;
+            ThrowingBiConsumer<List<Double>, List<Double>, IOException> combiner = List::addAll;
+
+            assertEquals(List.of(1.0, 2.0), stream(1.0, 2.0).collect(supplier, accumulator, combiner));
+        }
+
+        @Test
+        void testStatistics() throws IOException {
+            assertEquals(4.0, stream(1.0, 3.0).sum());
+            assertEquals(OptionalDouble.of(1.0), stream(1.0, 3.0).min());
+            assertEquals(OptionalDouble.of(3.0), stream(1.0, 3.0).max());
+            assertEquals(2, stream(1.0, 3.0).count());
+            assertEquals(2.0, stream(1.0, 3.0).average().getAsDouble());
+            assertEquals(4.0, stream(1.0, 3.0).summaryStatistics().getSum());
+        }
+
+        @Test
+        void testMatch() throws IOException {
+            assertTrue(stream(1.0, 2.0).anyMatch(i -> i > 1));
+            assertFalse(stream(1.0, 2.0).allMatch(i -> i > 1));
+            assertFalse(stream(1.0, 2.0).noneMatch(i -> i > 1));
+        }
+
+        @Test
+        void testFind() throws IOException {
+            assertEquals(OptionalDouble.of(1.0), stream(1.0, 2.0).findFirst());
+            assertTrue(stream(1.0, 2.0).findAny().isPresent());
+        }
+    }
+
+    @Nested
+    class Close {
+
+        @Test
+        void testOnClose() {
+            AtomicBoolean closed = new AtomicBoolean();
+
+            try (ThrowingDoubleStream<IOException> stream = stream(1.0).onClose(() -> closed.set(true))) {
+                assertFalse(closed.get());
+            }
+
+            assertTrue(closed.get());
+        }
+
+        @Test
+        void testParallel() {
+            assertTrue(stream(1.0).parallel().isParallel());
+            assertFalse(stream(1.0).parallel().sequential().unordered().isParallel());
+        }
+    }
+
+    @Test
+    void testOfNull() {
+        assertThrows(NullPointerException.class, () -> ThrowingDoubleStream.of(null));
+    }
+
+    private static ThrowingDoubleStream<IOException> stream(double... values) {
+        return ThrowingDoubleStream.of(DoubleStream.of(values));
+    }
+}
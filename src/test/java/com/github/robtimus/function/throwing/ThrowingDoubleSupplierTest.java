@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.DoubleSupplier;
 import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
@@ -611,7 +614,6 @@ class ThrowingDoubleSupplierTest {
 
             verify(supplier).getAsDouble();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
 
@@ -629,7 +631,6 @@ class ThrowingDoubleSupplierTest {
 
             verify(supplier).getAsDouble();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
 
@@ -645,11 +646,283 @@ class ThrowingDoubleSupplierTest {
 
             verify(supplier).getAsDouble();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> 1D);
+
+            DoubleSupplier sneaky = supplier.sneaky();
+
+            assertEquals(1D, sneaky.getAsDouble());
+
+            verify(supplier).getAsDouble();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            DoubleSupplier sneaky = supplier.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, sneaky::getAsDouble);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsDouble();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> throwable.throwUnchecked("foo"));
+
+            DoubleSupplier sneaky = supplier.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), sneaky::getAsDouble);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsDouble();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> 1D);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            assertEquals(1D, instrumented.getAsDouble());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsDouble();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, instrumented::getAsDouble);
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsDouble();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), instrumented::getAsDouble);
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsDouble();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> 1D);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(1D, instrumented.getAsDouble());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsDouble();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, instrumented::getAsDouble);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsDouble();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), instrumented::getAsDouble);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsDouble();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> 1D);
+
+            ThrowingDoubleSupplier<IOException> memoized = supplier.memoize();
+
+            assertEquals(1D, memoized.getAsDouble());
+            assertEquals(1D, memoized.getAsDouble());
+
+            verify(supplier).getAsDouble();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingDoubleSupplier<IOException> memoized = supplier.memoize();
+
+            IOException thrown = assertThrows(IOException.class, memoized::getAsDouble);
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, memoized::getAsDouble);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier, times(2)).getAsDouble();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> throwable.throwUnchecked("foo"));
+
+            ThrowingDoubleSupplier<IOException> memoized = supplier.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), memoized::getAsDouble);
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), memoized::getAsDouble);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier, times(2)).getAsDouble();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsCheckedOnce() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> {
+                if (counter.getAndIncrement() == 0) {
+                    throw new IOException("foo");
+                }
+                return 1D;
+            });
+
+            ThrowingDoubleSupplier<IOException> memoized = supplier.memoize();
+
+            IOException thrown = assertThrows(IOException.class, memoized::getAsDouble);
+            assertEquals("foo", thrown.getMessage());
+
+            assertEquals(1D, memoized.getAsDouble());
+            assertEquals(1D, memoized.getAsDouble());
+
+            verify(supplier, times(2)).getAsDouble();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testMemoizeMemoized() {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> 1D);
+
+            ThrowingDoubleSupplier<IOException> memoized = supplier.memoize();
+
+            assertSame(memoized, memoized.memoize());
+        }
+    }
+
     @Nested
     class Of {
 
@@ -683,7 +956,6 @@ class ThrowingDoubleSupplierTest {
             assertEquals(1D, unchecked.getAsDouble());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verify(supplier).getAsDouble();
             verifyNoMoreInteractions(supplier);
         }
@@ -701,7 +973,6 @@ class ThrowingDoubleSupplierTest {
             assertEquals("foo", cause.getMessage());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verify(supplier).getAsDouble();
             verifyNoMoreInteractions(supplier);
         }
@@ -717,7 +988,59 @@ class ThrowingDoubleSupplierTest {
             assertEquals("foo", thrown.getMessage());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
+            verify(supplier).getAsDouble();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleSupplier.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> 1D);
+
+            DoubleSupplier sneaky = ThrowingDoubleSupplier.sneaky(supplier);
+
+            assertEquals(1D, sneaky.getAsDouble());
+
+            verify(supplier).sneaky();
+            verify(supplier).getAsDouble();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            DoubleSupplier sneaky = ThrowingDoubleSupplier.sneaky(supplier);
+
+            IOException thrown = assertThrows(IOException.class, sneaky::getAsDouble);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).sneaky();
+            verify(supplier).getAsDouble();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = Spied.throwingDoubleSupplier(() -> throwable.throwUnchecked("foo"));
+
+            DoubleSupplier sneaky = ThrowingDoubleSupplier.sneaky(supplier);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), sneaky::getAsDouble);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).sneaky();
             verify(supplier).getAsDouble();
             verifyNoMoreInteractions(supplier);
         }
@@ -815,4 +1138,158 @@ class ThrowingDoubleSupplierTest {
             assertEquals("foo", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingDoubleSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            DoubleSupplier sneaky = ThrowingDoubleSupplier.sneaky(supplier);
+            ThrowingDoubleSupplier<IOException> checked = ThrowingDoubleSupplier.checked(sneaky);
+            ThrowingDoubleSupplier<IOException> checkedWithErrorType = ThrowingDoubleSupplier.checked(sneaky, IOException.class);
+
+            DoubleSupplier unchecked = ThrowingDoubleSupplier.unchecked(checked);
+            DoubleSupplier uncheckedWithErrorType = ThrowingDoubleSupplier.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsDouble());
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.getAsDouble());
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            DoubleSupplier supplier = () -> 1D;
+
+            ThrowingDoubleSupplier<IOException> checked = ThrowingDoubleSupplier.checked(supplier);
+
+            assertSame(supplier, ThrowingDoubleSupplier.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingDoubleSupplier<IOException> supplier = () -> 1D;
+
+            DoubleSupplier sneaky = ThrowingDoubleSupplier.sneaky(supplier);
+
+            assertSame(supplier, ThrowingDoubleSupplier.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingDoubleSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            DoubleSupplier unchecked = ThrowingDoubleSupplier.unchecked(supplier);
+            ThrowingDoubleSupplier<IOException> checked = ThrowingDoubleSupplier.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.getAsDouble());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingDoubleSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            DoubleSupplier unchecked = ThrowingDoubleSupplier.unchecked(supplier);
+            ThrowingDoubleSupplier<ParseException> checked = ThrowingDoubleSupplier.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.getAsDouble());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingDoubleSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            DoubleSupplier unchecked = ThrowingDoubleSupplier.unchecked(supplier);
+            ThrowingDoubleSupplier<IOException> checked = ThrowingDoubleSupplier.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.getAsDouble());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            DoubleSupplier supplier = () -> 1D;
+
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleSupplier.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleSupplier.catching(supplier, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleSupplier<IOException> supplier = ThrowingDoubleSupplier.catching(() -> 1D, IOException.class);
+
+            assertEquals(1D, supplier.getAsDouble());
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                DoubleSupplier sneaky = ThrowingDoubleSupplier.sneaky(() -> {
+                    throw new IOException("foo");
+                });
+
+                ThrowingDoubleSupplier<IOException> supplier = ThrowingDoubleSupplier.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, supplier::getAsDouble);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                DoubleSupplier sneaky = ThrowingDoubleSupplier.sneaky(() -> {
+                    throw new FileNotFoundException("foo");
+                });
+
+                ThrowingDoubleSupplier<IOException> supplier = ThrowingDoubleSupplier.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, supplier::getAsDouble);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                DoubleSupplier sneaky = ThrowingDoubleSupplier.sneaky(() -> {
+                    throw new ParseException("foo", 0);
+                });
+
+                ThrowingDoubleSupplier<IOException> supplier = ThrowingDoubleSupplier.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, supplier::getAsDouble);
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingDoubleSupplier<IOException> supplier = ThrowingDoubleSupplier.catching(() -> {
+                throw new IllegalStateException("foo");
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, supplier::getAsDouble);
+            assertEquals("foo", thrown.getMessage());
+        }
+    }
 }
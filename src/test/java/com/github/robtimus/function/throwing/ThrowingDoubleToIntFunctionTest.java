@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.Function;
 import java.util.function.IntSupplier;
@@ -40,6 +43,74 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 @SuppressWarnings("nls")
 class ThrowingDoubleToIntFunctionTest {
 
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> (int) (d + 1));
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> (int) (d + 1));
+            ThrowingIntUnaryOperator<IOException> after = Spied.throwingIntUnaryOperator(i -> i * 3);
+
+            ThrowingDoubleToIntFunction<IOException> composed = function.andThen(after);
+
+            assertEquals(6, composed.applyAsInt(1.0));
+
+            verify(function).applyAsInt(1.0);
+            verify(function).andThen(after);
+            verify(after).applyAsInt(2);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            ThrowingIntUnaryOperator<IOException> after = Spied.throwingIntUnaryOperator(i -> i * 3);
+
+            ThrowingDoubleToIntFunction<IOException> composed = function.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsInt(1.0));
+            assertEquals(Double.toString(1.0), thrown.getMessage());
+
+            verify(function).applyAsInt(1.0);
+            verify(function).andThen(after);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> (int) (d + 1));
+            ThrowingIntUnaryOperator<IOException> after = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            ThrowingDoubleToIntFunction<IOException> composed = function.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsInt(1.0));
+            assertEquals(Integer.toString(2), thrown.getMessage());
+
+            verify(function).applyAsInt(1.0);
+            verify(function).andThen(after);
+            verify(after).applyAsInt(2);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> (int) (d + 1));
+
+            assertSame(function, function.andThen(ThrowingIntUnaryOperator.identity()));
+        }
+    }
+
     @Nested
     class OnErrorThrowAsChecked {
 
@@ -805,7 +876,6 @@ class ThrowingDoubleToIntFunctionTest {
 
             verify(function).applyAsInt(1D);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -823,7 +893,6 @@ class ThrowingDoubleToIntFunctionTest {
 
             verify(function).applyAsInt(1D);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -839,11 +908,274 @@ class ThrowingDoubleToIntFunctionTest {
 
             verify(function).applyAsInt(1D);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> (int) d + 1);
+
+            DoubleToIntFunction sneaky = function.sneaky();
+
+            assertEquals(2, sneaky.applyAsInt(1D));
+
+            verify(function).applyAsInt(1D);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            DoubleToIntFunction sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsInt(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(function).applyAsInt(1D);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(throwable::throwUnchecked);
+
+            DoubleToIntFunction sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsInt(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(function).applyAsInt(1D);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> (int) d + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleToIntFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(2, instrumented.applyAsInt(1D));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt(1D);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleToIntFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsInt(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt(1D);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleToIntFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsInt(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt(1D);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> (int) d + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleToIntFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(2, instrumented.applyAsInt(1D));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt(1D);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleToIntFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsInt(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt(1D);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleToIntFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsInt(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt(1D);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> (int) d + 1);
+
+            ThrowingDoubleToIntFunction<IOException> memoized = function.memoize();
+
+            assertEquals(2, memoized.applyAsInt(1D));
+            assertEquals(3, memoized.applyAsInt(2D));
+            assertEquals(2, memoized.applyAsInt(1D));
+            assertEquals(3, memoized.applyAsInt(2D));
+
+            verify(function).applyAsInt(1D);
+            verify(function).applyAsInt(2D);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingDoubleToIntFunction<IOException> memoized = function.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.applyAsInt(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.applyAsInt(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsInt(1D);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> throwable.throwUnchecked("foo"));
+
+            ThrowingDoubleToIntFunction<IOException> memoized = function.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsInt(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsInt(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsInt(1D);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingDoubleToIntFunction<IOException> function = d -> {
+                counter.incrementAndGet();
+                return (int) d + 1;
+            };
+
+            ThrowingDoubleToIntFunction<IOException> memoized = function.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1, memoized.applyAsInt(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1, memoized.applyAsInt(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
     @Nested
     class Of {
 
@@ -877,7 +1209,6 @@ class ThrowingDoubleToIntFunctionTest {
             assertEquals(2, unchecked.applyAsInt(1D));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsInt(1D);
             verifyNoMoreInteractions(function);
         }
@@ -895,7 +1226,6 @@ class ThrowingDoubleToIntFunctionTest {
             assertEquals("1.0", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsInt(1D);
             verifyNoMoreInteractions(function);
         }
@@ -911,7 +1241,59 @@ class ThrowingDoubleToIntFunctionTest {
             assertEquals("1.0", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).applyAsInt(1D);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleToIntFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> (int) d + 1);
+
+            DoubleToIntFunction sneaky = ThrowingDoubleToIntFunction.sneaky(function);
+
+            assertEquals(2, sneaky.applyAsInt(1D));
+
+            verify(function).sneaky();
+            verify(function).applyAsInt(1D);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            DoubleToIntFunction sneaky = ThrowingDoubleToIntFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsInt(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsInt(1D);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = Spied.throwingDoubleToIntFunction(throwable::throwUnchecked);
+
+            DoubleToIntFunction sneaky = ThrowingDoubleToIntFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsInt(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).applyAsInt(1D);
             verifyNoMoreInteractions(function);
         }
@@ -1009,4 +1391,158 @@ class ThrowingDoubleToIntFunctionTest {
             assertEquals("1.0", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingDoubleToIntFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleToIntFunction sneaky = ThrowingDoubleToIntFunction.sneaky(function);
+            ThrowingDoubleToIntFunction<IOException> checked = ThrowingDoubleToIntFunction.checked(sneaky);
+            ThrowingDoubleToIntFunction<IOException> checkedWithErrorType = ThrowingDoubleToIntFunction.checked(sneaky, IOException.class);
+
+            DoubleToIntFunction unchecked = ThrowingDoubleToIntFunction.unchecked(checked);
+            DoubleToIntFunction uncheckedWithErrorType = ThrowingDoubleToIntFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsInt(1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsInt(1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            DoubleToIntFunction function = value -> 1;
+
+            ThrowingDoubleToIntFunction<IOException> checked = ThrowingDoubleToIntFunction.checked(function);
+
+            assertSame(function, ThrowingDoubleToIntFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingDoubleToIntFunction<IOException> function = value -> 1;
+
+            DoubleToIntFunction sneaky = ThrowingDoubleToIntFunction.sneaky(function);
+
+            assertSame(function, ThrowingDoubleToIntFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingDoubleToIntFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleToIntFunction unchecked = ThrowingDoubleToIntFunction.unchecked(function);
+            ThrowingDoubleToIntFunction<IOException> checked = ThrowingDoubleToIntFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsInt(1D));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingDoubleToIntFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleToIntFunction unchecked = ThrowingDoubleToIntFunction.unchecked(function);
+            ThrowingDoubleToIntFunction<ParseException> checked = ThrowingDoubleToIntFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsInt(1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingDoubleToIntFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleToIntFunction unchecked = ThrowingDoubleToIntFunction.unchecked(function);
+            ThrowingDoubleToIntFunction<IOException> checked = ThrowingDoubleToIntFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsInt(1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            DoubleToIntFunction function = d -> (int) d + 1;
+
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleToIntFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleToIntFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleToIntFunction<IOException> function = ThrowingDoubleToIntFunction.catching(d -> (int) d + 1, IOException.class);
+
+            assertEquals(2, function.applyAsInt(1D));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                DoubleToIntFunction sneaky = ThrowingDoubleToIntFunction.sneaky(d -> {
+                    throw new IOException(Double.toString(d));
+                });
+
+                ThrowingDoubleToIntFunction<IOException> function = ThrowingDoubleToIntFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.applyAsInt(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                DoubleToIntFunction sneaky = ThrowingDoubleToIntFunction.sneaky(d -> {
+                    throw new FileNotFoundException(Double.toString(d));
+                });
+
+                ThrowingDoubleToIntFunction<IOException> function = ThrowingDoubleToIntFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.applyAsInt(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                DoubleToIntFunction sneaky = ThrowingDoubleToIntFunction.sneaky(d -> {
+                    throw new ParseException(Double.toString(d), 0);
+                });
+
+                ThrowingDoubleToIntFunction<IOException> function = ThrowingDoubleToIntFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsInt(1D));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1.0", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingDoubleToIntFunction<IOException> function = ThrowingDoubleToIntFunction.catching(d -> {
+                throw new IllegalStateException(Double.toString(d));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.applyAsInt(1D));
+            assertEquals("1.0", thrown.getMessage());
+        }
+    }
 }
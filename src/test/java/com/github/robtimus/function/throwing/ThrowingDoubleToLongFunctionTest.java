@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.DoubleToLongFunction;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -40,6 +43,74 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 @SuppressWarnings("nls")
 class ThrowingDoubleToLongFunctionTest {
 
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> (long) (d + 1));
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> (long) (d + 1));
+            ThrowingLongUnaryOperator<IOException> after = Spied.throwingLongUnaryOperator(l -> l * 3);
+
+            ThrowingDoubleToLongFunction<IOException> composed = function.andThen(after);
+
+            assertEquals(6L, composed.applyAsLong(1.0));
+
+            verify(function).applyAsLong(1.0);
+            verify(function).andThen(after);
+            verify(after).applyAsLong(2L);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            ThrowingLongUnaryOperator<IOException> after = Spied.throwingLongUnaryOperator(l -> l * 3);
+
+            ThrowingDoubleToLongFunction<IOException> composed = function.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsLong(1.0));
+            assertEquals(Double.toString(1.0), thrown.getMessage());
+
+            verify(function).applyAsLong(1.0);
+            verify(function).andThen(after);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> (long) (d + 1));
+            ThrowingLongUnaryOperator<IOException> after = Spied.throwingLongUnaryOperator(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            ThrowingDoubleToLongFunction<IOException> composed = function.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsLong(1.0));
+            assertEquals(Long.toString(2L), thrown.getMessage());
+
+            verify(function).applyAsLong(1.0);
+            verify(function).andThen(after);
+            verify(after).applyAsLong(2L);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> (long) (d + 1));
+
+            assertSame(function, function.andThen(ThrowingLongUnaryOperator.identity()));
+        }
+    }
+
     @Nested
     class OnErrorThrowAsChecked {
 
@@ -805,7 +876,6 @@ class ThrowingDoubleToLongFunctionTest {
 
             verify(function).applyAsLong(1D);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -823,7 +893,6 @@ class ThrowingDoubleToLongFunctionTest {
 
             verify(function).applyAsLong(1D);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -839,11 +908,274 @@ class ThrowingDoubleToLongFunctionTest {
 
             verify(function).applyAsLong(1D);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> (long) d + 1);
+
+            DoubleToLongFunction sneaky = function.sneaky();
+
+            assertEquals(2L, sneaky.applyAsLong(1D));
+
+            verify(function).applyAsLong(1D);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            DoubleToLongFunction sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsLong(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(function).applyAsLong(1D);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(throwable::throwUnchecked);
+
+            DoubleToLongFunction sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsLong(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(function).applyAsLong(1D);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> (long) d + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleToLongFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(2L, instrumented.applyAsLong(1D));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong(1D);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleToLongFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsLong(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong(1D);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleToLongFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsLong(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong(1D);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> (long) d + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleToLongFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(2L, instrumented.applyAsLong(1D));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong(1D);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleToLongFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsLong(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong(1D);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleToLongFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsLong(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong(1D);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> (long) d + 1);
+
+            ThrowingDoubleToLongFunction<IOException> memoized = function.memoize();
+
+            assertEquals(2L, memoized.applyAsLong(1D));
+            assertEquals(3L, memoized.applyAsLong(2D));
+            assertEquals(2L, memoized.applyAsLong(1D));
+            assertEquals(3L, memoized.applyAsLong(2D));
+
+            verify(function).applyAsLong(1D);
+            verify(function).applyAsLong(2D);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingDoubleToLongFunction<IOException> memoized = function.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.applyAsLong(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.applyAsLong(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsLong(1D);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> throwable.throwUnchecked("foo"));
+
+            ThrowingDoubleToLongFunction<IOException> memoized = function.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsLong(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsLong(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsLong(1D);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingDoubleToLongFunction<IOException> function = d -> {
+                counter.incrementAndGet();
+                return (long) d + 1;
+            };
+
+            ThrowingDoubleToLongFunction<IOException> memoized = function.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1L, memoized.applyAsLong(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1L, memoized.applyAsLong(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
     @Nested
     class Of {
 
@@ -877,7 +1209,6 @@ class ThrowingDoubleToLongFunctionTest {
             assertEquals(2L, unchecked.applyAsLong(1D));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsLong(1D);
             verifyNoMoreInteractions(function);
         }
@@ -895,7 +1226,6 @@ class ThrowingDoubleToLongFunctionTest {
             assertEquals("1.0", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsLong(1D);
             verifyNoMoreInteractions(function);
         }
@@ -911,7 +1241,59 @@ class ThrowingDoubleToLongFunctionTest {
             assertEquals("1.0", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).applyAsLong(1D);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleToLongFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> (long) d + 1);
+
+            DoubleToLongFunction sneaky = ThrowingDoubleToLongFunction.sneaky(function);
+
+            assertEquals(2L, sneaky.applyAsLong(1D));
+
+            verify(function).sneaky();
+            verify(function).applyAsLong(1D);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            DoubleToLongFunction sneaky = ThrowingDoubleToLongFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsLong(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsLong(1D);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = Spied.throwingDoubleToLongFunction(throwable::throwUnchecked);
+
+            DoubleToLongFunction sneaky = ThrowingDoubleToLongFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsLong(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).applyAsLong(1D);
             verifyNoMoreInteractions(function);
         }
@@ -1009,4 +1391,158 @@ class ThrowingDoubleToLongFunctionTest {
             assertEquals("1.0", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingDoubleToLongFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleToLongFunction sneaky = ThrowingDoubleToLongFunction.sneaky(function);
+            ThrowingDoubleToLongFunction<IOException> checked = ThrowingDoubleToLongFunction.checked(sneaky);
+            ThrowingDoubleToLongFunction<IOException> checkedWithErrorType = ThrowingDoubleToLongFunction.checked(sneaky, IOException.class);
+
+            DoubleToLongFunction unchecked = ThrowingDoubleToLongFunction.unchecked(checked);
+            DoubleToLongFunction uncheckedWithErrorType = ThrowingDoubleToLongFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsLong(1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsLong(1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            DoubleToLongFunction function = value -> 1L;
+
+            ThrowingDoubleToLongFunction<IOException> checked = ThrowingDoubleToLongFunction.checked(function);
+
+            assertSame(function, ThrowingDoubleToLongFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingDoubleToLongFunction<IOException> function = value -> 1L;
+
+            DoubleToLongFunction sneaky = ThrowingDoubleToLongFunction.sneaky(function);
+
+            assertSame(function, ThrowingDoubleToLongFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingDoubleToLongFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleToLongFunction unchecked = ThrowingDoubleToLongFunction.unchecked(function);
+            ThrowingDoubleToLongFunction<IOException> checked = ThrowingDoubleToLongFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsLong(1D));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingDoubleToLongFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleToLongFunction unchecked = ThrowingDoubleToLongFunction.unchecked(function);
+            ThrowingDoubleToLongFunction<ParseException> checked = ThrowingDoubleToLongFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsLong(1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingDoubleToLongFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            DoubleToLongFunction unchecked = ThrowingDoubleToLongFunction.unchecked(function);
+            ThrowingDoubleToLongFunction<IOException> checked = ThrowingDoubleToLongFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsLong(1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            DoubleToLongFunction function = d -> (long) d + 1;
+
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleToLongFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleToLongFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleToLongFunction<IOException> function = ThrowingDoubleToLongFunction.catching(d -> (long) d + 1, IOException.class);
+
+            assertEquals(2L, function.applyAsLong(1D));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                DoubleToLongFunction sneaky = ThrowingDoubleToLongFunction.sneaky(d -> {
+                    throw new IOException(Double.toString(d));
+                });
+
+                ThrowingDoubleToLongFunction<IOException> function = ThrowingDoubleToLongFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.applyAsLong(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                DoubleToLongFunction sneaky = ThrowingDoubleToLongFunction.sneaky(d -> {
+                    throw new FileNotFoundException(Double.toString(d));
+                });
+
+                ThrowingDoubleToLongFunction<IOException> function = ThrowingDoubleToLongFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.applyAsLong(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                DoubleToLongFunction sneaky = ThrowingDoubleToLongFunction.sneaky(d -> {
+                    throw new ParseException(Double.toString(d), 0);
+                });
+
+                ThrowingDoubleToLongFunction<IOException> function = ThrowingDoubleToLongFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsLong(1D));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1.0", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingDoubleToLongFunction<IOException> function = ThrowingDoubleToLongFunction.catching(d -> {
+                throw new IllegalStateException(Double.toString(d));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.applyAsLong(1D));
+            assertEquals("1.0", thrown.getMessage());
+        }
+    }
 }
@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.DoubleSupplier;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
@@ -40,6 +43,365 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 @SuppressWarnings("nls")
 class ThrowingDoubleUnaryOperatorTest {
 
+    @Nested
+    class Compose {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.compose(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d * 3);
+            ThrowingDoubleUnaryOperator<IOException> before = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+
+            ThrowingDoubleUnaryOperator<IOException> composed = operator.compose(before);
+
+            assertEquals(6.0, composed.applyAsDouble(1.0));
+
+            verify(before).applyAsDouble(1.0);
+            verify(operator).applyAsDouble(2.0);
+            verify(operator).compose(before);
+            verifyNoMoreInteractions(operator, before);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            ThrowingDoubleUnaryOperator<IOException> before = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+
+            ThrowingDoubleUnaryOperator<IOException> composed = operator.compose(before);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsDouble(1.0));
+            assertEquals(Double.toString(2.0), thrown.getMessage());
+
+            verify(before).applyAsDouble(1.0);
+            verify(operator).applyAsDouble(2.0);
+            verify(operator).compose(before);
+            verifyNoMoreInteractions(operator, before);
+        }
+
+        @Test
+        void testBeforeThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d * 3);
+            ThrowingDoubleUnaryOperator<IOException> before = Spied.throwingDoubleUnaryOperator(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            ThrowingDoubleUnaryOperator<IOException> composed = operator.compose(before);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsDouble(1.0));
+            assertEquals(Double.toString(1.0), thrown.getMessage());
+
+            verify(before).applyAsDouble(1.0);
+            verify(operator).compose(before);
+            verifyNoMoreInteractions(operator, before);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingDoubleUnaryOperator<IOException> operator = ThrowingDoubleUnaryOperator.identity();
+            ThrowingDoubleUnaryOperator<IOException> before = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+
+            assertSame(before, operator.compose(before));
+        }
+
+        @Test
+        void testBeforeIsIdentity() {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+
+            assertSame(operator, operator.compose(ThrowingDoubleUnaryOperator.identity()));
+        }
+    }
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+            ThrowingDoubleUnaryOperator<IOException> after = Spied.throwingDoubleUnaryOperator(d -> d * 3);
+
+            ThrowingDoubleUnaryOperator<IOException> composed = operator.andThen(after);
+
+            assertEquals(6.0, composed.applyAsDouble(1.0));
+
+            verify(operator).applyAsDouble(1.0);
+            verify(operator).andThen(after);
+            verify(after).applyAsDouble(2.0);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            ThrowingDoubleUnaryOperator<IOException> after = Spied.throwingDoubleUnaryOperator(d -> d * 3);
+
+            ThrowingDoubleUnaryOperator<IOException> composed = operator.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsDouble(1.0));
+            assertEquals(Double.toString(1.0), thrown.getMessage());
+
+            verify(operator).applyAsDouble(1.0);
+            verify(operator).andThen(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+            ThrowingDoubleUnaryOperator<IOException> after = Spied.throwingDoubleUnaryOperator(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            ThrowingDoubleUnaryOperator<IOException> composed = operator.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsDouble(1.0));
+            assertEquals(Double.toString(2.0), thrown.getMessage());
+
+            verify(operator).applyAsDouble(1.0);
+            verify(operator).andThen(after);
+            verify(after).applyAsDouble(2.0);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingDoubleUnaryOperator<IOException> operator = ThrowingDoubleUnaryOperator.identity();
+            ThrowingDoubleUnaryOperator<IOException> after = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+
+            assertSame(after, operator.andThen(after));
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+
+            assertSame(operator, operator.andThen(ThrowingDoubleUnaryOperator.identity()));
+        }
+    }
+
+    @Nested
+    class AndThenToInt {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.andThenToInt(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+            ThrowingDoubleToIntFunction<IOException> after = Spied.throwingDoubleToIntFunction(d -> (int) (d * 3));
+
+            ThrowingDoubleToIntFunction<IOException> composed = operator.andThenToInt(after);
+
+            assertEquals(6, composed.applyAsInt(1.0));
+
+            verify(operator).applyAsDouble(1.0);
+            verify(operator).andThenToInt(after);
+            verify(after).applyAsInt(2.0);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            ThrowingDoubleToIntFunction<IOException> after = Spied.throwingDoubleToIntFunction(d -> (int) (d * 3));
+
+            ThrowingDoubleToIntFunction<IOException> composed = operator.andThenToInt(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsInt(1.0));
+            assertEquals(Double.toString(1.0), thrown.getMessage());
+
+            verify(operator).applyAsDouble(1.0);
+            verify(operator).andThenToInt(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+            ThrowingDoubleToIntFunction<IOException> after = Spied.throwingDoubleToIntFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            ThrowingDoubleToIntFunction<IOException> composed = operator.andThenToInt(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsInt(1.0));
+            assertEquals(Double.toString(2.0), thrown.getMessage());
+
+            verify(operator).applyAsDouble(1.0);
+            verify(operator).andThenToInt(after);
+            verify(after).applyAsInt(2.0);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingDoubleUnaryOperator<IOException> operator = ThrowingDoubleUnaryOperator.identity();
+            ThrowingDoubleToIntFunction<IOException> after = Spied.throwingDoubleToIntFunction(d -> (int) (d * 3));
+
+            assertSame(after, operator.andThenToInt(after));
+        }
+    }
+
+    @Nested
+    class AndThenToLong {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.andThenToLong(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+            ThrowingDoubleToLongFunction<IOException> after = Spied.throwingDoubleToLongFunction(d -> (long) (d * 3));
+
+            ThrowingDoubleToLongFunction<IOException> composed = operator.andThenToLong(after);
+
+            assertEquals(6L, composed.applyAsLong(1.0));
+
+            verify(operator).applyAsDouble(1.0);
+            verify(operator).andThenToLong(after);
+            verify(after).applyAsLong(2.0);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            ThrowingDoubleToLongFunction<IOException> after = Spied.throwingDoubleToLongFunction(d -> (long) (d * 3));
+
+            ThrowingDoubleToLongFunction<IOException> composed = operator.andThenToLong(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsLong(1.0));
+            assertEquals(Double.toString(1.0), thrown.getMessage());
+
+            verify(operator).applyAsDouble(1.0);
+            verify(operator).andThenToLong(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+            ThrowingDoubleToLongFunction<IOException> after = Spied.throwingDoubleToLongFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            ThrowingDoubleToLongFunction<IOException> composed = operator.andThenToLong(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsLong(1.0));
+            assertEquals(Double.toString(2.0), thrown.getMessage());
+
+            verify(operator).applyAsDouble(1.0);
+            verify(operator).andThenToLong(after);
+            verify(after).applyAsLong(2.0);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingDoubleUnaryOperator<IOException> operator = ThrowingDoubleUnaryOperator.identity();
+            ThrowingDoubleToLongFunction<IOException> after = Spied.throwingDoubleToLongFunction(d -> (long) (d * 3));
+
+            assertSame(after, operator.andThenToLong(after));
+        }
+    }
+
+    @Nested
+    class AndThenToObj {
+
+        @Test
+        void testNullArgument() {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.andThenToObj(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+            ThrowingDoubleFunction<String, IOException> after = Spied.throwingDoubleFunction(Double::toString);
+
+            ThrowingDoubleFunction<String, IOException> composed = operator.andThenToObj(after);
+
+            assertEquals(Double.toString(2.0), composed.apply(1.0));
+
+            verify(operator).applyAsDouble(1.0);
+            verify(operator).andThenToObj(after);
+            verify(after).apply(2.0);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            ThrowingDoubleFunction<String, IOException> after = Spied.throwingDoubleFunction(Double::toString);
+
+            ThrowingDoubleFunction<String, IOException> composed = operator.andThenToObj(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.apply(1.0));
+            assertEquals(Double.toString(1.0), thrown.getMessage());
+
+            verify(operator).applyAsDouble(1.0);
+            verify(operator).andThenToObj(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+            ThrowingDoubleFunction<String, IOException> after = Spied.throwingDoubleFunction(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            ThrowingDoubleFunction<String, IOException> composed = operator.andThenToObj(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.apply(1.0));
+            assertEquals(Double.toString(2.0), thrown.getMessage());
+
+            verify(operator).applyAsDouble(1.0);
+            verify(operator).andThenToObj(after);
+            verify(after).apply(2.0);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingDoubleUnaryOperator<IOException> operator = ThrowingDoubleUnaryOperator.identity();
+            ThrowingDoubleFunction<String, IOException> after = Spied.throwingDoubleFunction(Double::toString);
+
+            assertSame(after, operator.andThenToObj(after));
+        }
+    }
+
     @Nested
     class OnErrorThrowAsChecked {
 
@@ -805,7 +1167,6 @@ class ThrowingDoubleUnaryOperatorTest {
 
             verify(operator).applyAsDouble(1D);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -823,7 +1184,6 @@ class ThrowingDoubleUnaryOperatorTest {
 
             verify(operator).applyAsDouble(1D);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -839,11 +1199,274 @@ class ThrowingDoubleUnaryOperatorTest {
 
             verify(operator).applyAsDouble(1D);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+
+            DoubleUnaryOperator sneaky = operator.sneaky();
+
+            assertEquals(2D, sneaky.applyAsDouble(1D));
+
+            verify(operator).applyAsDouble(1D);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            DoubleUnaryOperator sneaky = operator.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsDouble(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(operator).applyAsDouble(1D);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(throwable::throwUnchecked);
+
+            DoubleUnaryOperator sneaky = operator.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsDouble(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(operator).applyAsDouble(1D);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            assertEquals(2D, instrumented.applyAsDouble(1D));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsDouble(1D);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsDouble(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsDouble(1D);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsDouble(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsDouble(1D);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(2D, instrumented.applyAsDouble(1D));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsDouble(1D);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> {
+                throw new IOException(Double.toString(d));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsDouble(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsDouble(1D);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingDoubleUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsDouble(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsDouble(1D);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+
+            ThrowingDoubleUnaryOperator<IOException> memoized = operator.memoize();
+
+            assertEquals(2D, memoized.applyAsDouble(1D));
+            assertEquals(3D, memoized.applyAsDouble(2D));
+            assertEquals(2D, memoized.applyAsDouble(1D));
+            assertEquals(3D, memoized.applyAsDouble(2D));
+
+            verify(operator).applyAsDouble(1D);
+            verify(operator).applyAsDouble(2D);
+            verify(operator).memoize();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingDoubleUnaryOperator<IOException> memoized = operator.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.applyAsDouble(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.applyAsDouble(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(operator, times(2)).applyAsDouble(1D);
+            verify(operator).memoize();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> throwable.throwUnchecked("foo"));
+
+            ThrowingDoubleUnaryOperator<IOException> memoized = operator.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsDouble(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsDouble(1D));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(operator, times(2)).applyAsDouble(1D);
+            verify(operator).memoize();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingDoubleUnaryOperator<IOException> operator = d -> {
+                counter.incrementAndGet();
+                return d + 1D;
+            };
+
+            ThrowingDoubleUnaryOperator<IOException> memoized = operator.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1D, memoized.applyAsDouble(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1D, memoized.applyAsDouble(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
     @Nested
     class Of {
 
@@ -867,6 +1490,14 @@ class ThrowingDoubleUnaryOperatorTest {
         assertEquals(1D, operator.applyAsDouble(1D));
     }
 
+    @Test
+    void testIdentitySameInstance() {
+        ThrowingDoubleUnaryOperator<IOException> operator = ThrowingDoubleUnaryOperator.identity();
+        ThrowingDoubleUnaryOperator<ParseException> other = ThrowingDoubleUnaryOperator.identity();
+
+        assertSame(operator, other);
+    }
+
     @Nested
     class UncheckedFactory {
 
@@ -884,7 +1515,6 @@ class ThrowingDoubleUnaryOperatorTest {
             assertEquals(2D, unchecked.applyAsDouble(1D));
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).applyAsDouble(1D);
             verifyNoMoreInteractions(operator);
         }
@@ -902,7 +1532,6 @@ class ThrowingDoubleUnaryOperatorTest {
             assertEquals("1.0", cause.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).applyAsDouble(1D);
             verifyNoMoreInteractions(operator);
         }
@@ -918,7 +1547,59 @@ class ThrowingDoubleUnaryOperatorTest {
             assertEquals("1.0", thrown.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
+            verify(operator).applyAsDouble(1D);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> d + 1);
+
+            DoubleUnaryOperator sneaky = ThrowingDoubleUnaryOperator.sneaky(operator);
+
+            assertEquals(2D, sneaky.applyAsDouble(1D));
+
+            verify(operator).sneaky();
+            verify(operator).applyAsDouble(1D);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            DoubleUnaryOperator sneaky = ThrowingDoubleUnaryOperator.sneaky(operator);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsDouble(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(operator).sneaky();
+            verify(operator).applyAsDouble(1D);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = Spied.throwingDoubleUnaryOperator(throwable::throwUnchecked);
+
+            DoubleUnaryOperator sneaky = ThrowingDoubleUnaryOperator.sneaky(operator);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsDouble(1D));
+            assertEquals("1.0", thrown.getMessage());
+
+            verify(operator).sneaky();
             verify(operator).applyAsDouble(1D);
             verifyNoMoreInteractions(operator);
         }
@@ -1016,4 +1697,158 @@ class ThrowingDoubleUnaryOperatorTest {
             assertEquals("1.0", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingDoubleUnaryOperator<IOException> operator = operand -> {
+                throw new IOException("foo");
+            };
+
+            DoubleUnaryOperator sneaky = ThrowingDoubleUnaryOperator.sneaky(operator);
+            ThrowingDoubleUnaryOperator<IOException> checked = ThrowingDoubleUnaryOperator.checked(sneaky);
+            ThrowingDoubleUnaryOperator<IOException> checkedWithErrorType = ThrowingDoubleUnaryOperator.checked(sneaky, IOException.class);
+
+            DoubleUnaryOperator unchecked = ThrowingDoubleUnaryOperator.unchecked(checked);
+            DoubleUnaryOperator uncheckedWithErrorType = ThrowingDoubleUnaryOperator.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsDouble(1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsDouble(1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            DoubleUnaryOperator operator = operand -> 1D;
+
+            ThrowingDoubleUnaryOperator<IOException> checked = ThrowingDoubleUnaryOperator.checked(operator);
+
+            assertSame(operator, ThrowingDoubleUnaryOperator.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingDoubleUnaryOperator<IOException> operator = operand -> 1D;
+
+            DoubleUnaryOperator sneaky = ThrowingDoubleUnaryOperator.sneaky(operator);
+
+            assertSame(operator, ThrowingDoubleUnaryOperator.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingDoubleUnaryOperator<IOException> operator = operand -> {
+                throw new IOException("foo");
+            };
+
+            DoubleUnaryOperator unchecked = ThrowingDoubleUnaryOperator.unchecked(operator);
+            ThrowingDoubleUnaryOperator<IOException> checked = ThrowingDoubleUnaryOperator.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsDouble(1D));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingDoubleUnaryOperator<IOException> operator = operand -> {
+                throw new IOException("foo");
+            };
+
+            DoubleUnaryOperator unchecked = ThrowingDoubleUnaryOperator.unchecked(operator);
+            ThrowingDoubleUnaryOperator<ParseException> checked = ThrowingDoubleUnaryOperator.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsDouble(1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingDoubleUnaryOperator<IOException> operator = operand -> {
+                throw new IOException("foo");
+            };
+
+            DoubleUnaryOperator unchecked = ThrowingDoubleUnaryOperator.unchecked(operator);
+            ThrowingDoubleUnaryOperator<IOException> checked = ThrowingDoubleUnaryOperator.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsDouble(1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            DoubleUnaryOperator operator = d -> d + 1;
+
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleUnaryOperator.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingDoubleUnaryOperator.catching(operator, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingDoubleUnaryOperator<IOException> operator = ThrowingDoubleUnaryOperator.catching(d -> d + 1, IOException.class);
+
+            assertEquals(2D, operator.applyAsDouble(1D));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                DoubleUnaryOperator sneaky = ThrowingDoubleUnaryOperator.sneaky(d -> {
+                    throw new IOException(Double.toString(d));
+                });
+
+                ThrowingDoubleUnaryOperator<IOException> operator = ThrowingDoubleUnaryOperator.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> operator.applyAsDouble(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                DoubleUnaryOperator sneaky = ThrowingDoubleUnaryOperator.sneaky(d -> {
+                    throw new FileNotFoundException(Double.toString(d));
+                });
+
+                ThrowingDoubleUnaryOperator<IOException> operator = ThrowingDoubleUnaryOperator.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> operator.applyAsDouble(1D));
+                assertEquals("1.0", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                DoubleUnaryOperator sneaky = ThrowingDoubleUnaryOperator.sneaky(d -> {
+                    throw new ParseException(Double.toString(d), 0);
+                });
+
+                ThrowingDoubleUnaryOperator<IOException> operator = ThrowingDoubleUnaryOperator.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsDouble(1D));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1.0", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingDoubleUnaryOperator<IOException> operator = ThrowingDoubleUnaryOperator.catching(d -> {
+                throw new IllegalStateException(Double.toString(d));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> operator.applyAsDouble(1D));
+            assertEquals("1.0", thrown.getMessage());
+        }
+    }
 }
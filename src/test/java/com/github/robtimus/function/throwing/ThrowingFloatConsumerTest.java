@@ -0,0 +1,894 @@
+/*
+ * ThrowingFloatConsumerTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingFloatConsumerTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+            ThrowingFloatConsumer<IOException> after = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            consumer.andThen(after).accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).andThen(after);
+            verify(after).accept(1.5f);
+            verifyNoMoreInteractions(consumer, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            ThrowingFloatConsumer<IOException> after = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            ThrowingFloatConsumer<IOException> composed = consumer.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.accept(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).andThen(after);
+            verifyNoMoreInteractions(consumer, after);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            throwing.accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.accept(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.accept(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            throwing.accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.accept(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.accept(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            ThrowingConsumer<IOException, ParseException> errorHandler = Spied.throwingConsumer(e -> { });
+
+            ThrowingFloatConsumer<ParseException> handling = consumer.onErrorHandleChecked(errorHandler);
+
+            handling.accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingConsumer<IOException, ParseException> errorHandler = Spied.throwingConsumer(e -> { });
+
+            ThrowingFloatConsumer<ParseException> handling = consumer.onErrorHandleChecked(errorHandler);
+
+            handling.accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).accept(any());
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            Consumer<IOException> errorHandler = Spied.consumer(e -> { });
+
+            ThrowingFloatConsumer<RuntimeException> handling = consumer.onErrorHandleUnchecked(errorHandler);
+
+            handling.accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Consumer<IOException> errorHandler = Spied.consumer(e -> { });
+
+            ThrowingFloatConsumer<RuntimeException> handling = consumer.onErrorHandleUnchecked(errorHandler);
+
+            handling.accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).accept(any());
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorAcceptChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorAcceptChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            ThrowingFloatConsumer<ParseException> fallback = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            ThrowingFloatConsumer<ParseException> fallingBack = consumer.onErrorAcceptChecked(fallback);
+
+            fallingBack.accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorAcceptChecked(fallback);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatConsumer<ParseException> fallback = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            ThrowingFloatConsumer<ParseException> fallingBack = consumer.onErrorAcceptChecked(fallback);
+
+            fallingBack.accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorAcceptChecked(fallback);
+            verify(fallback).accept(1.5f);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorAcceptUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorAcceptUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            ThrowingFloatConsumer<RuntimeException> fallback = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            ThrowingFloatConsumer<RuntimeException> fallingBack = consumer.onErrorAcceptUnchecked(fallback);
+
+            fallingBack.accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorAcceptUnchecked(fallback);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatConsumer<RuntimeException> fallback = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            ThrowingFloatConsumer<RuntimeException> fallingBack = consumer.onErrorAcceptUnchecked(fallback);
+
+            fallingBack.accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorAcceptUnchecked(fallback);
+            verify(fallback).accept(1.5f);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorDiscard {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            ThrowingFloatConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            discarding.accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            discarding.accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingFloatConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> discarding.accept(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            ThrowingFloatConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            unchecked.accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingFloatConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.accept(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+
+            ThrowingFloatConsumer<RuntimeException> sneaky = consumer.sneaky();
+
+            sneaky.accept(1.5f);
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatConsumer<RuntimeException> sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept(1.5f);
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1.5f);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(ThrowingFloatConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept(1.5f);
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1.5f);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept(1.5f));
+                assertEquals("1.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1.5f);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept(1.5f));
+                assertEquals("1.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1.5f);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatConsumer.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = ThrowingFloatConsumer.of(ThrowingFloatConsumerTest::ignore);
+
+            consumer.accept(1.5f);
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatConsumer.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatConsumer<RuntimeException> unchecked = ThrowingFloatConsumer.unchecked(consumer);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(consumer).unchecked();
+            verify(consumer).accept(1.5f);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = Spied.throwingFloatConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatConsumer<RuntimeException> sneaky = ThrowingFloatConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept(1.5f);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatConsumer.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = ThrowingFloatConsumer.checked(ThrowingFloatConsumerTest::ignore);
+
+            consumer.accept(1.5f);
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingFloatConsumer<IOException> consumer = ThrowingFloatConsumer.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingFloatConsumer<RuntimeException> consumer = ThrowingFloatConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingFloatConsumer.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingFloatConsumer.checked(consumer, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingFloatConsumer<IOException> consumer = ThrowingFloatConsumer.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> consumer.accept(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingFloatConsumer<IOException> consumer = ThrowingFloatConsumer.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1.5f));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingFloatConsumer<IOException> consumer = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingFloatConsumer<RuntimeException> sneaky = ThrowingFloatConsumer.sneaky(consumer);
+            ThrowingFloatConsumer<IOException> checked = ThrowingFloatConsumer.checked(sneaky);
+            ThrowingFloatConsumer<IOException> checkedWithErrorType = ThrowingFloatConsumer.checked(sneaky, IOException.class);
+
+            ThrowingFloatConsumer<RuntimeException> unchecked = ThrowingFloatConsumer.unchecked(checked);
+            ThrowingFloatConsumer<RuntimeException> uncheckedWithErrorType = ThrowingFloatConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1.5f));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept(1.5f));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingFloatConsumer<RuntimeException> consumer = ThrowingFloatConsumerTest::ignore;
+
+            ThrowingFloatConsumer<IOException> checked = ThrowingFloatConsumer.checked(consumer);
+
+            assertSame(consumer, ThrowingFloatConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingFloatConsumer<IOException> consumer = ThrowingFloatConsumerTest::ignore;
+
+            ThrowingFloatConsumer<RuntimeException> sneaky = ThrowingFloatConsumer.sneaky(consumer);
+
+            assertSame(consumer, ThrowingFloatConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingFloatConsumer<IOException> consumer = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingFloatConsumer<RuntimeException> unchecked = ThrowingFloatConsumer.unchecked(consumer);
+            ThrowingFloatConsumer<IOException> checked = ThrowingFloatConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingFloatConsumer<IOException> consumer = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingFloatConsumer<RuntimeException> unchecked = ThrowingFloatConsumer.unchecked(consumer);
+            ThrowingFloatConsumer<ParseException> checked = ThrowingFloatConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingFloatConsumer<RuntimeException> consumer = ThrowingFloatConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingFloatConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingFloatConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFloatConsumer<IOException> consumer = ThrowingFloatConsumer.catching(ThrowingFloatConsumerTest::ignore, IOException.class);
+
+            consumer.accept(1.5f);
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingFloatConsumer<RuntimeException> sneaky = ThrowingFloatConsumer.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatConsumer<IOException> consumer = ThrowingFloatConsumer.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> consumer.accept(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingFloatConsumer<RuntimeException> sneaky = ThrowingFloatConsumer.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingFloatConsumer<IOException> consumer = ThrowingFloatConsumer.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1.5f));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    private static void ignore(float value) {
+        // do nothing
+    }
+}
@@ -0,0 +1,955 @@
+/*
+ * ThrowingFloatFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingFloatFunctionTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+            ThrowingFunction<String, Integer, IOException> after = Spied.throwingFunction(String::length);
+
+            ThrowingFloatFunction<Integer, IOException> composed = function.andThen(after);
+
+            assertEquals(Integer.valueOf(3), composed.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).andThen(after);
+            verify(after).apply("1.5");
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            assertSame(function, function.andThen(ThrowingFunction.identity()));
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals("1.5", throwing.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.apply(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals("1.5", throwing.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.apply(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingFloatFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("1.5", handling.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingFloatFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("1.5", handling.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingFloatFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("1.5", handling.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingFloatFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("1.5", handling.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            ThrowingFloatFunction<String, ParseException> fallback = Spied.throwingFloatFunction(t -> "fallback");
+
+            ThrowingFloatFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("1.5", fallingBack.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatFunction<String, ParseException> fallback = Spied.throwingFloatFunction(t -> "fallback");
+
+            ThrowingFloatFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).apply(1.5f);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            ThrowingFloatFunction<String, RuntimeException> fallback = Spied.throwingFloatFunction(t -> "fallback");
+
+            ThrowingFloatFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("1.5", fallingBack.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatFunction<String, RuntimeException> fallback = Spied.throwingFloatFunction(t -> "fallback");
+
+            ThrowingFloatFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).apply(1.5f);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingFloatFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("1.5", fallingBack.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingFloatFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingFloatFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("1.5", fallingBack.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingFloatFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            ThrowingFloatFunction<String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("1.5", returning.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatFunction<String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("fallback", returning.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            ThrowingFloatFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals("1.5", unchecked.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(function).apply(1.5f);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingFloatFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.apply(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(function).apply(1.5f);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+
+            ThrowingFloatFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals("1.5", sneaky.apply(1.5f));
+
+            verify(function).apply(1.5f);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(function).apply(1.5f);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals("1.5", instrumented.apply(1.5f));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1.5f);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1.5f);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1.5f);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(String::valueOf);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("1.5", instrumented.apply(1.5f));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1.5f);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply(1.5f));
+                assertEquals("1.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1.5f);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply(1.5f));
+                assertEquals("1.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1.5f);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = ThrowingFloatFunction.of(String::valueOf);
+
+            assertEquals("1.5", function.apply(1.5f));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatFunction<String, RuntimeException> unchecked = ThrowingFloatFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).apply(1.5f);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = Spied.throwingFloatFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatFunction<String, RuntimeException> sneaky = ThrowingFloatFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply(1.5f);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = ThrowingFloatFunction.checked(String::valueOf);
+
+            assertEquals("1.5", function.apply(1.5f));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingFloatFunction<String, IOException> function = ThrowingFloatFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingFloatFunction<String, RuntimeException> function = String::valueOf;
+
+            assertThrows(NullPointerException.class, () -> ThrowingFloatFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingFloatFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingFloatFunction<String, IOException> function = ThrowingFloatFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingFloatFunction<String, IOException> function = ThrowingFloatFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply(1.5f));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingFloatFunction<String, IOException> function = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingFloatFunction<String, RuntimeException> sneaky = ThrowingFloatFunction.sneaky(function);
+            ThrowingFloatFunction<String, IOException> checked = ThrowingFloatFunction.checked(sneaky);
+            ThrowingFloatFunction<String, IOException> checkedWithErrorType = ThrowingFloatFunction.checked(sneaky, IOException.class);
+
+            ThrowingFloatFunction<String, RuntimeException> unchecked = ThrowingFloatFunction.unchecked(checked);
+            ThrowingFloatFunction<String, RuntimeException> uncheckedWithErrorType = ThrowingFloatFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply(1.5f));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply(1.5f));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingFloatFunction<String, RuntimeException> function = String::valueOf;
+
+            ThrowingFloatFunction<String, IOException> checked = ThrowingFloatFunction.checked(function);
+
+            assertSame(function, ThrowingFloatFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingFloatFunction<String, IOException> function = String::valueOf;
+
+            ThrowingFloatFunction<String, RuntimeException> sneaky = ThrowingFloatFunction.sneaky(function);
+
+            assertSame(function, ThrowingFloatFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingFloatFunction<String, IOException> function = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingFloatFunction<String, RuntimeException> unchecked = ThrowingFloatFunction.unchecked(function);
+            ThrowingFloatFunction<String, IOException> checked = ThrowingFloatFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingFloatFunction<String, IOException> function = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingFloatFunction<String, RuntimeException> unchecked = ThrowingFloatFunction.unchecked(function);
+            ThrowingFloatFunction<String, ParseException> checked = ThrowingFloatFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingFloatFunction<String, RuntimeException> function = String::valueOf;
+
+            assertThrows(NullPointerException.class, () -> ThrowingFloatFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingFloatFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFloatFunction<String, IOException> function = ThrowingFloatFunction.catching(String::valueOf, IOException.class);
+
+            assertEquals("1.5", function.apply(1.5f));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingFloatFunction<String, RuntimeException> sneaky = ThrowingFloatFunction.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatFunction<String, IOException> function = ThrowingFloatFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingFloatFunction<String, RuntimeException> sneaky = ThrowingFloatFunction.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingFloatFunction<String, IOException> function = ThrowingFloatFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply(1.5f));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,1032 @@
+/*
+ * ThrowingFloatPredicateTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingFloatPredicateTest {
+
+    @Nested
+    class And {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            assertThrows(NullPointerException.class, () -> predicate.and(null));
+        }
+
+        @Test
+        void testBothEvaluated() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+            ThrowingFloatPredicate<IOException> other = Spied.throwingFloatPredicate(t -> false);
+
+            assertFalse(predicate.and(other).test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).and(other);
+            verify(other).test(1.5f);
+            verifyNoMoreInteractions(predicate, other);
+        }
+
+        @Test
+        void testShortCircuited() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> false);
+            ThrowingFloatPredicate<IOException> other = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            assertFalse(predicate.and(other).test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).and(other);
+            verifyNoMoreInteractions(predicate, other);
+        }
+    }
+
+    @Nested
+    class Negate {
+
+        @Test
+        void testNegate() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            assertFalse(predicate.negate().test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).negate();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Or {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            assertThrows(NullPointerException.class, () -> predicate.or(null));
+        }
+
+        @Test
+        void testBothEvaluated() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> false);
+            ThrowingFloatPredicate<IOException> other = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            assertTrue(predicate.or(other).test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).or(other);
+            verify(other).test(1.5f);
+            verifyNoMoreInteractions(predicate, other);
+        }
+
+        @Test
+        void testShortCircuited() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+            ThrowingFloatPredicate<IOException> other = Spied.throwingFloatPredicate(t -> false);
+
+            assertTrue(predicate.or(other).test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).or(other);
+            verifyNoMoreInteractions(predicate, other);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatPredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals(true, throwing.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatPredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.test(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatPredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.test(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatPredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals(true, throwing.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatPredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.test(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatPredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.test(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            ThrowingPredicate<IOException, ParseException> errorHandler = Spied.throwingPredicate(e -> false);
+
+            ThrowingFloatPredicate<ParseException> handling = predicate.onErrorHandleChecked(errorHandler);
+
+            assertEquals(true, handling.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingPredicate<IOException, ParseException> errorHandler = Spied.throwingPredicate(e -> false);
+
+            ThrowingFloatPredicate<ParseException> handling = predicate.onErrorHandleChecked(errorHandler);
+
+            assertEquals(false, handling.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).test(any());
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            Predicate<IOException> errorHandler = Spied.predicate(e -> false);
+
+            ThrowingFloatPredicate<RuntimeException> handling = predicate.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(true, handling.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Predicate<IOException> errorHandler = Spied.predicate(e -> false);
+
+            ThrowingFloatPredicate<RuntimeException> handling = predicate.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(false, handling.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).test(any());
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorTestChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorTestChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            ThrowingFloatPredicate<ParseException> fallback = Spied.throwingFloatPredicate(t -> false);
+
+            ThrowingFloatPredicate<ParseException> fallingBack = predicate.onErrorTestChecked(fallback);
+
+            assertEquals(true, fallingBack.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorTestChecked(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatPredicate<ParseException> fallback = Spied.throwingFloatPredicate(t -> false);
+
+            ThrowingFloatPredicate<ParseException> fallingBack = predicate.onErrorTestChecked(fallback);
+
+            assertEquals(false, fallingBack.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorTestChecked(fallback);
+            verify(fallback).test(1.5f);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorTestUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorTestUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            ThrowingFloatPredicate<RuntimeException> fallback = Spied.throwingFloatPredicate(t -> false);
+
+            ThrowingFloatPredicate<RuntimeException> fallingBack = predicate.onErrorTestUnchecked(fallback);
+
+            assertEquals(true, fallingBack.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorTestUnchecked(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatPredicate<RuntimeException> fallback = Spied.throwingFloatPredicate(t -> false);
+
+            ThrowingFloatPredicate<RuntimeException> fallingBack = predicate.onErrorTestUnchecked(fallback);
+
+            assertEquals(false, fallingBack.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorTestUnchecked(fallback);
+            verify(fallback).test(1.5f);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetCheckedAsBoolean {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorGetCheckedAsBoolean(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            ThrowingBooleanSupplier<ParseException> fallback = Spied.throwingBooleanSupplier(() -> false);
+
+            ThrowingFloatPredicate<ParseException> fallingBack = predicate.onErrorGetCheckedAsBoolean(fallback);
+
+            assertEquals(true, fallingBack.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorGetCheckedAsBoolean(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingBooleanSupplier<ParseException> fallback = Spied.throwingBooleanSupplier(() -> false);
+
+            ThrowingFloatPredicate<ParseException> fallingBack = predicate.onErrorGetCheckedAsBoolean(fallback);
+
+            assertEquals(false, fallingBack.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorGetCheckedAsBoolean(fallback);
+            verify(fallback).getAsBoolean();
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUncheckedAsBoolean {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorGetUncheckedAsBoolean(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            BooleanSupplier fallback = Spied.booleanSupplier(() -> false);
+
+            ThrowingFloatPredicate<RuntimeException> fallingBack = predicate.onErrorGetUncheckedAsBoolean(fallback);
+
+            assertEquals(true, fallingBack.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorGetUncheckedAsBoolean(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            BooleanSupplier fallback = Spied.booleanSupplier(() -> false);
+
+            ThrowingFloatPredicate<RuntimeException> fallingBack = predicate.onErrorGetUncheckedAsBoolean(fallback);
+
+            assertEquals(false, fallingBack.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorGetUncheckedAsBoolean(fallback);
+            verify(fallback).getAsBoolean();
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            ThrowingFloatPredicate<RuntimeException> returning = predicate.onErrorReturn(false);
+
+            assertEquals(true, returning.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorReturn(false);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatPredicate<RuntimeException> returning = predicate.onErrorReturn(false);
+
+            assertEquals(false, returning.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).onErrorReturn(false);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            ThrowingFloatPredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            assertEquals(true, unchecked.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatPredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(predicate).test(1.5f);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingFloatPredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.test(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(predicate).test(1.5f);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            ThrowingFloatPredicate<RuntimeException> sneaky = predicate.sneaky();
+
+            assertEquals(true, sneaky.test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatPredicate<RuntimeException> sneaky = predicate.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(predicate).test(1.5f);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            assertEquals(true, instrumented.test(1.5f));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1.5f);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.test(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1.5f);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1.5f);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(true, instrumented.test(1.5f));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1.5f);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.test(1.5f));
+                assertEquals("1.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1.5f);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test(1.5f));
+                assertEquals("1.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1.5f);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatPredicate.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = ThrowingFloatPredicate.of(t -> t == 1.5f);
+
+            assertEquals(true, predicate.test(1.5f));
+        }
+    }
+
+    @Nested
+    class Not {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatPredicate.not(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> t == 1.5f);
+
+            assertFalse(ThrowingFloatPredicate.not(predicate).test(1.5f));
+
+            verify(predicate).test(1.5f);
+            verify(predicate).negate();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatPredicate.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatPredicate<RuntimeException> unchecked = ThrowingFloatPredicate.unchecked(predicate);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(predicate).unchecked();
+            verify(predicate).test(1.5f);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatPredicate.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = Spied.throwingFloatPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatPredicate<RuntimeException> sneaky = ThrowingFloatPredicate.sneaky(predicate);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(predicate).sneaky();
+            verify(predicate).test(1.5f);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatPredicate.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = ThrowingFloatPredicate.checked(t -> t == 1.5f);
+
+            assertEquals(true, predicate.test(1.5f));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingFloatPredicate<IOException> predicate = ThrowingFloatPredicate.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingFloatPredicate<RuntimeException> predicate = t -> t == 1.5f;
+
+            assertThrows(NullPointerException.class, () -> ThrowingFloatPredicate.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingFloatPredicate.checked(predicate, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingFloatPredicate<IOException> predicate = ThrowingFloatPredicate.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> predicate.test(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingFloatPredicate<IOException> predicate = ThrowingFloatPredicate.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test(1.5f));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingFloatPredicate<IOException> predicate = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingFloatPredicate<RuntimeException> sneaky = ThrowingFloatPredicate.sneaky(predicate);
+            ThrowingFloatPredicate<IOException> checked = ThrowingFloatPredicate.checked(sneaky);
+            ThrowingFloatPredicate<IOException> checkedWithErrorType = ThrowingFloatPredicate.checked(sneaky, IOException.class);
+
+            ThrowingFloatPredicate<RuntimeException> unchecked = ThrowingFloatPredicate.unchecked(checked);
+            ThrowingFloatPredicate<RuntimeException> uncheckedWithErrorType = ThrowingFloatPredicate.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test(1.5f));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.test(1.5f));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingFloatPredicate<RuntimeException> predicate = t -> t == 1.5f;
+
+            ThrowingFloatPredicate<IOException> checked = ThrowingFloatPredicate.checked(predicate);
+
+            assertSame(predicate, ThrowingFloatPredicate.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingFloatPredicate<IOException> predicate = t -> t == 1.5f;
+
+            ThrowingFloatPredicate<RuntimeException> sneaky = ThrowingFloatPredicate.sneaky(predicate);
+
+            assertSame(predicate, ThrowingFloatPredicate.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingFloatPredicate<IOException> predicate = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingFloatPredicate<RuntimeException> unchecked = ThrowingFloatPredicate.unchecked(predicate);
+            ThrowingFloatPredicate<IOException> checked = ThrowingFloatPredicate.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.test(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingFloatPredicate<IOException> predicate = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingFloatPredicate<RuntimeException> unchecked = ThrowingFloatPredicate.unchecked(predicate);
+            ThrowingFloatPredicate<ParseException> checked = ThrowingFloatPredicate.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingFloatPredicate<RuntimeException> predicate = t -> t == 1.5f;
+
+            assertThrows(NullPointerException.class, () -> ThrowingFloatPredicate.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingFloatPredicate.catching(predicate, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFloatPredicate<IOException> predicate = ThrowingFloatPredicate.catching(t -> t == 1.5f, IOException.class);
+
+            assertEquals(true, predicate.test(1.5f));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingFloatPredicate<RuntimeException> sneaky = ThrowingFloatPredicate.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatPredicate<IOException> predicate = ThrowingFloatPredicate.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> predicate.test(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingFloatPredicate<RuntimeException> sneaky = ThrowingFloatPredicate.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingFloatPredicate<IOException> predicate = ThrowingFloatPredicate.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test(1.5f));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+}
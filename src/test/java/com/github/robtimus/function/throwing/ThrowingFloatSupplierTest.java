@@ -0,0 +1,833 @@
+/*
+ * ThrowingFloatSupplierTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingFloatSupplierTest {
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatSupplier<ExecutionException> throwing = supplier.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals(3.0f, throwing.getAsFloat());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatSupplier<ExecutionException> throwing = supplier.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.getAsFloat());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> throwable.throwUnchecked("foo"));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatSupplier<ExecutionException> throwing = supplier.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.getAsFloat());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatSupplier<RuntimeException> throwing = supplier.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals(3.0f, throwing.getAsFloat());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatSupplier<RuntimeException> throwing = supplier.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.getAsFloat());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> throwable.throwUnchecked("foo"));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatSupplier<RuntimeException> throwing = supplier.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.getAsFloat());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            ThrowingToFloatFunction<IOException, ParseException> errorHandler = Spied.throwingToFloatFunction(e -> -1.0f);
+
+            ThrowingFloatSupplier<ParseException> handling = supplier.onErrorHandleChecked(errorHandler);
+
+            assertEquals(3.0f, handling.getAsFloat());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingToFloatFunction<IOException, ParseException> errorHandler = Spied.throwingToFloatFunction(e -> -1.0f);
+
+            ThrowingFloatSupplier<ParseException> handling = supplier.onErrorHandleChecked(errorHandler);
+
+            assertEquals(-1.0f, handling.getAsFloat());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsFloat(any());
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            ThrowingToFloatFunction<IOException, RuntimeException> errorHandler = Spied.throwingToFloatFunction(e -> -1.0f);
+
+            ThrowingFloatSupplier<RuntimeException> handling = supplier.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(3.0f, handling.getAsFloat());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingToFloatFunction<IOException, RuntimeException> errorHandler = Spied.throwingToFloatFunction(e -> -1.0f);
+
+            ThrowingFloatSupplier<RuntimeException> handling = supplier.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(-1.0f, handling.getAsFloat());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsFloat(any());
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorGetCheckedAsFloat {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorGetCheckedAsFloat(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            ThrowingFloatSupplier<ParseException> fallback = Spied.throwingFloatSupplier(() -> -1.0f);
+
+            ThrowingFloatSupplier<ParseException> fallingBack = supplier.onErrorGetCheckedAsFloat(fallback);
+
+            assertEquals(3.0f, fallingBack.getAsFloat());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorGetCheckedAsFloat(fallback);
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingFloatSupplier<ParseException> fallback = Spied.throwingFloatSupplier(() -> -1.0f);
+
+            ThrowingFloatSupplier<ParseException> fallingBack = supplier.onErrorGetCheckedAsFloat(fallback);
+
+            assertEquals(-1.0f, fallingBack.getAsFloat());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorGetCheckedAsFloat(fallback);
+            verify(fallback).getAsFloat();
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUncheckedAsFloat {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorGetUncheckedAsFloat(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            ThrowingFloatSupplier<RuntimeException> fallback = Spied.throwingFloatSupplier(() -> -1.0f);
+
+            ThrowingFloatSupplier<RuntimeException> fallingBack = supplier.onErrorGetUncheckedAsFloat(fallback);
+
+            assertEquals(3.0f, fallingBack.getAsFloat());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorGetUncheckedAsFloat(fallback);
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingFloatSupplier<RuntimeException> fallback = Spied.throwingFloatSupplier(() -> -1.0f);
+
+            ThrowingFloatSupplier<RuntimeException> fallingBack = supplier.onErrorGetUncheckedAsFloat(fallback);
+
+            assertEquals(-1.0f, fallingBack.getAsFloat());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorGetUncheckedAsFloat(fallback);
+            verify(fallback).getAsFloat();
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            ThrowingFloatSupplier<RuntimeException> returning = supplier.onErrorReturn(-1.0f);
+
+            assertEquals(3.0f, returning.getAsFloat());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorReturn(-1.0f);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingFloatSupplier<RuntimeException> returning = supplier.onErrorReturn(-1.0f);
+
+            assertEquals(-1.0f, returning.getAsFloat());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).onErrorReturn(-1.0f);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            ThrowingFloatSupplier<RuntimeException> unchecked = supplier.unchecked();
+
+            assertEquals(3.0f, unchecked.getAsFloat());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).unchecked();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingFloatSupplier<RuntimeException> unchecked = supplier.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsFloat());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).unchecked();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> throwable.throwUnchecked("foo"));
+
+            ThrowingFloatSupplier<RuntimeException> unchecked = supplier.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.getAsFloat());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).unchecked();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+
+            ThrowingFloatSupplier<RuntimeException> sneaky = supplier.sneaky();
+
+            assertEquals(3.0f, sneaky.getAsFloat());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingFloatSupplier<RuntimeException> sneaky = supplier.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.getAsFloat());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            assertEquals(3.0f, instrumented.getAsFloat());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.getAsFloat());
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.getAsFloat());
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsFloat();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> 3.0f);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(3.0f, instrumented.getAsFloat());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsFloat();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.getAsFloat());
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsFloat();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.getAsFloat());
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsFloat();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatSupplier.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = ThrowingFloatSupplier.of(() -> 3.0f);
+
+            assertEquals(3.0f, supplier.getAsFloat());
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatSupplier.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingFloatSupplier<RuntimeException> unchecked = ThrowingFloatSupplier.unchecked(supplier);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsFloat());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).unchecked();
+            verify(supplier).getAsFloat();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatSupplier.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = Spied.throwingFloatSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingFloatSupplier<RuntimeException> sneaky = ThrowingFloatSupplier.sneaky(supplier);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.getAsFloat());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).sneaky();
+            verify(supplier).getAsFloat();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatSupplier.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = ThrowingFloatSupplier.checked(() -> 3.0f);
+
+            assertEquals(3.0f, supplier.getAsFloat());
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingFloatSupplier<IOException> supplier = ThrowingFloatSupplier.checked(() -> {
+                throw UncheckedException.withoutStackTrace(new IOException("foo"));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> supplier.getAsFloat());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingFloatSupplier<RuntimeException> supplier = () -> 3.0f;
+
+            assertThrows(NullPointerException.class, () -> ThrowingFloatSupplier.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingFloatSupplier.checked(supplier, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingFloatSupplier<IOException> supplier = ThrowingFloatSupplier.checked(() -> {
+                throw UncheckedException.withoutStackTrace(new IOException("foo"));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> supplier.getAsFloat());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingFloatSupplier<IOException> supplier = ThrowingFloatSupplier.checked(() -> {
+                throw UncheckedException.withoutStackTrace(new ParseException("foo", 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> supplier.getAsFloat());
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingFloatSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            ThrowingFloatSupplier<RuntimeException> sneaky = ThrowingFloatSupplier.sneaky(supplier);
+            ThrowingFloatSupplier<IOException> checked = ThrowingFloatSupplier.checked(sneaky);
+            ThrowingFloatSupplier<IOException> checkedWithErrorType = ThrowingFloatSupplier.checked(sneaky, IOException.class);
+
+            ThrowingFloatSupplier<RuntimeException> unchecked = ThrowingFloatSupplier.unchecked(checked);
+            ThrowingFloatSupplier<RuntimeException> uncheckedWithErrorType = ThrowingFloatSupplier.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsFloat());
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.getAsFloat());
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingFloatSupplier<RuntimeException> supplier = () -> 3.0f;
+
+            ThrowingFloatSupplier<IOException> checked = ThrowingFloatSupplier.checked(supplier);
+
+            assertSame(supplier, ThrowingFloatSupplier.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingFloatSupplier<IOException> supplier = () -> 3.0f;
+
+            ThrowingFloatSupplier<RuntimeException> sneaky = ThrowingFloatSupplier.sneaky(supplier);
+
+            assertSame(supplier, ThrowingFloatSupplier.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingFloatSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            ThrowingFloatSupplier<RuntimeException> unchecked = ThrowingFloatSupplier.unchecked(supplier);
+            ThrowingFloatSupplier<IOException> checked = ThrowingFloatSupplier.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.getAsFloat());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingFloatSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            ThrowingFloatSupplier<RuntimeException> unchecked = ThrowingFloatSupplier.unchecked(supplier);
+            ThrowingFloatSupplier<ParseException> checked = ThrowingFloatSupplier.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.getAsFloat());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingFloatSupplier<RuntimeException> supplier = () -> 3.0f;
+
+            assertThrows(NullPointerException.class, () -> ThrowingFloatSupplier.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingFloatSupplier.catching(supplier, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFloatSupplier<IOException> supplier = ThrowingFloatSupplier.catching(() -> 3.0f, IOException.class);
+
+            assertEquals(3.0f, supplier.getAsFloat());
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingFloatSupplier<RuntimeException> sneaky = ThrowingFloatSupplier.sneaky(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingFloatSupplier<IOException> supplier = ThrowingFloatSupplier.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> supplier.getAsFloat());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingFloatSupplier<RuntimeException> sneaky = ThrowingFloatSupplier.sneaky(() -> {
+                throw new ParseException("foo", 0);
+            });
+
+            ThrowingFloatSupplier<IOException> supplier = ThrowingFloatSupplier.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> supplier.getAsFloat());
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,1007 @@
+/*
+ * ThrowingFloatUnaryOperatorTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingFloatUnaryOperatorTest {
+
+    @Nested
+    class Compose {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            assertThrows(NullPointerException.class, () -> operator.compose(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+            ThrowingFloatUnaryOperator<IOException> before = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            ThrowingFloatUnaryOperator<IOException> composed = operator.compose(before);
+
+            assertEquals(6.0f, composed.applyAsFloat(1.5f));
+
+            verify(before).applyAsFloat(1.5f);
+            verify(operator).compose(before);
+            verify(operator).applyAsFloat(3.0f);
+            verifyNoMoreInteractions(operator, before);
+        }
+
+        @Test
+        void testBeforeThrowsChecked() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+            ThrowingFloatUnaryOperator<IOException> before = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatUnaryOperator<IOException> composed = operator.compose(before);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsFloat(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(before).applyAsFloat(1.5f);
+            verify(operator).compose(before);
+            verifyNoMoreInteractions(operator, before);
+        }
+    }
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            assertThrows(NullPointerException.class, () -> operator.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+            ThrowingFloatUnaryOperator<IOException> after = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            ThrowingFloatUnaryOperator<IOException> composed = operator.andThen(after);
+
+            assertEquals(6.0f, composed.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).andThen(after);
+            verify(after).applyAsFloat(3.0f);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            ThrowingFloatUnaryOperator<IOException> after = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            ThrowingFloatUnaryOperator<IOException> composed = operator.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsFloat(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).andThen(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatUnaryOperator<ExecutionException> throwing = operator.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals(3.0f, throwing.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatUnaryOperator<ExecutionException> throwing = operator.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.applyAsFloat(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingFloatUnaryOperator<ExecutionException> throwing = operator.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsFloat(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatUnaryOperator<RuntimeException> throwing = operator.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals(3.0f, throwing.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatUnaryOperator<RuntimeException> throwing = operator.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.applyAsFloat(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingFloatUnaryOperator<RuntimeException> throwing = operator.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsFloat(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            ThrowingToFloatFunction<IOException, ParseException> errorHandler = Spied.throwingToFloatFunction(e -> -1.0f);
+
+            ThrowingFloatUnaryOperator<ParseException> handling = operator.onErrorHandleChecked(errorHandler);
+
+            assertEquals(3.0f, handling.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingToFloatFunction<IOException, ParseException> errorHandler = Spied.throwingToFloatFunction(e -> -1.0f);
+
+            ThrowingFloatUnaryOperator<ParseException> handling = operator.onErrorHandleChecked(errorHandler);
+
+            assertEquals(-1.0f, handling.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsFloat(any());
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            ThrowingToFloatFunction<IOException, RuntimeException> errorHandler = Spied.throwingToFloatFunction(e -> -1.0f);
+
+            ThrowingFloatUnaryOperator<RuntimeException> handling = operator.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(3.0f, handling.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingToFloatFunction<IOException, RuntimeException> errorHandler = Spied.throwingToFloatFunction(e -> -1.0f);
+
+            ThrowingFloatUnaryOperator<RuntimeException> handling = operator.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(-1.0f, handling.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsFloat(any());
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            ThrowingFloatUnaryOperator<ParseException> fallback = Spied.throwingFloatUnaryOperator(t -> -1.0f);
+
+            ThrowingFloatUnaryOperator<ParseException> fallingBack = operator.onErrorApplyChecked(fallback);
+
+            assertEquals(3.0f, fallingBack.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatUnaryOperator<ParseException> fallback = Spied.throwingFloatUnaryOperator(t -> -1.0f);
+
+            ThrowingFloatUnaryOperator<ParseException> fallingBack = operator.onErrorApplyChecked(fallback);
+
+            assertEquals(-1.0f, fallingBack.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorApplyChecked(fallback);
+            verify(fallback).applyAsFloat(1.5f);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            ThrowingFloatUnaryOperator<RuntimeException> fallback = Spied.throwingFloatUnaryOperator(t -> -1.0f);
+
+            ThrowingFloatUnaryOperator<RuntimeException> fallingBack = operator.onErrorApplyUnchecked(fallback);
+
+            assertEquals(3.0f, fallingBack.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatUnaryOperator<RuntimeException> fallback = Spied.throwingFloatUnaryOperator(t -> -1.0f);
+
+            ThrowingFloatUnaryOperator<RuntimeException> fallingBack = operator.onErrorApplyUnchecked(fallback);
+
+            assertEquals(-1.0f, fallingBack.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorApplyUnchecked(fallback);
+            verify(fallback).applyAsFloat(1.5f);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            ThrowingFloatSupplier<ParseException> fallback = Spied.throwingFloatSupplier(() -> -1.0f);
+
+            ThrowingFloatUnaryOperator<ParseException> fallingBack = operator.onErrorGetChecked(fallback);
+
+            assertEquals(3.0f, fallingBack.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatSupplier<ParseException> fallback = Spied.throwingFloatSupplier(() -> -1.0f);
+
+            ThrowingFloatUnaryOperator<ParseException> fallingBack = operator.onErrorGetChecked(fallback);
+
+            assertEquals(-1.0f, fallingBack.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorGetChecked(fallback);
+            verify(fallback).getAsFloat();
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            ThrowingFloatSupplier<RuntimeException> fallback = Spied.throwingFloatSupplier(() -> -1.0f);
+
+            ThrowingFloatUnaryOperator<RuntimeException> fallingBack = operator.onErrorGetUnchecked(fallback);
+
+            assertEquals(3.0f, fallingBack.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatSupplier<RuntimeException> fallback = Spied.throwingFloatSupplier(() -> -1.0f);
+
+            ThrowingFloatUnaryOperator<RuntimeException> fallingBack = operator.onErrorGetUnchecked(fallback);
+
+            assertEquals(-1.0f, fallingBack.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorGetUnchecked(fallback);
+            verify(fallback).getAsFloat();
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            ThrowingFloatUnaryOperator<RuntimeException> returning = operator.onErrorReturn(-1.0f);
+
+            assertEquals(3.0f, returning.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorReturn(-1.0f);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatUnaryOperator<RuntimeException> returning = operator.onErrorReturn(-1.0f);
+
+            assertEquals(-1.0f, returning.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).onErrorReturn(-1.0f);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            ThrowingFloatUnaryOperator<RuntimeException> unchecked = operator.unchecked();
+
+            assertEquals(3.0f, unchecked.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).unchecked();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatUnaryOperator<RuntimeException> unchecked = operator.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsFloat(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).unchecked();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingFloatUnaryOperator<RuntimeException> unchecked = operator.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.applyAsFloat(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).unchecked();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+
+            ThrowingFloatUnaryOperator<RuntimeException> sneaky = operator.sneaky();
+
+            assertEquals(3.0f, sneaky.applyAsFloat(1.5f));
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatUnaryOperator<RuntimeException> sneaky = operator.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsFloat(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            assertEquals(3.0f, instrumented.applyAsFloat(1.5f));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsFloat(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsFloat(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsFloat(1.5f);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> t * 2);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(3.0f, instrumented.applyAsFloat(1.5f));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsFloat(1.5f);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsFloat(1.5f));
+                assertEquals("1.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsFloat(1.5f);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingFloatUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsFloat(1.5f));
+                assertEquals("1.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsFloat(1.5f);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatUnaryOperator.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = ThrowingFloatUnaryOperator.of(t -> t * 2);
+
+            assertEquals(3.0f, operator.applyAsFloat(1.5f));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatUnaryOperator.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatUnaryOperator<RuntimeException> unchecked = ThrowingFloatUnaryOperator.unchecked(operator);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsFloat(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(operator).unchecked();
+            verify(operator).applyAsFloat(1.5f);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatUnaryOperator.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = Spied.throwingFloatUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatUnaryOperator<RuntimeException> sneaky = ThrowingFloatUnaryOperator.sneaky(operator);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsFloat(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(operator).sneaky();
+            verify(operator).applyAsFloat(1.5f);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFloatUnaryOperator.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = ThrowingFloatUnaryOperator.checked(t -> t * 2);
+
+            assertEquals(3.0f, operator.applyAsFloat(1.5f));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingFloatUnaryOperator<IOException> operator = ThrowingFloatUnaryOperator.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsFloat(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingFloatUnaryOperator<RuntimeException> operator = t -> t * 2;
+
+            assertThrows(NullPointerException.class, () -> ThrowingFloatUnaryOperator.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingFloatUnaryOperator.checked(operator, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingFloatUnaryOperator<IOException> operator = ThrowingFloatUnaryOperator.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> operator.applyAsFloat(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingFloatUnaryOperator<IOException> operator = ThrowingFloatUnaryOperator.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsFloat(1.5f));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingFloatUnaryOperator<IOException> operator = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingFloatUnaryOperator<RuntimeException> sneaky = ThrowingFloatUnaryOperator.sneaky(operator);
+            ThrowingFloatUnaryOperator<IOException> checked = ThrowingFloatUnaryOperator.checked(sneaky);
+            ThrowingFloatUnaryOperator<IOException> checkedWithErrorType = ThrowingFloatUnaryOperator.checked(sneaky, IOException.class);
+
+            ThrowingFloatUnaryOperator<RuntimeException> unchecked = ThrowingFloatUnaryOperator.unchecked(checked);
+            ThrowingFloatUnaryOperator<RuntimeException> uncheckedWithErrorType = ThrowingFloatUnaryOperator.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsFloat(1.5f));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsFloat(1.5f));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingFloatUnaryOperator<RuntimeException> operator = t -> t * 2;
+
+            ThrowingFloatUnaryOperator<IOException> checked = ThrowingFloatUnaryOperator.checked(operator);
+
+            assertSame(operator, ThrowingFloatUnaryOperator.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingFloatUnaryOperator<IOException> operator = t -> t * 2;
+
+            ThrowingFloatUnaryOperator<RuntimeException> sneaky = ThrowingFloatUnaryOperator.sneaky(operator);
+
+            assertSame(operator, ThrowingFloatUnaryOperator.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingFloatUnaryOperator<IOException> operator = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingFloatUnaryOperator<RuntimeException> unchecked = ThrowingFloatUnaryOperator.unchecked(operator);
+            ThrowingFloatUnaryOperator<IOException> checked = ThrowingFloatUnaryOperator.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsFloat(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingFloatUnaryOperator<IOException> operator = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingFloatUnaryOperator<RuntimeException> unchecked = ThrowingFloatUnaryOperator.unchecked(operator);
+            ThrowingFloatUnaryOperator<ParseException> checked = ThrowingFloatUnaryOperator.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsFloat(1.5f));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingFloatUnaryOperator<RuntimeException> operator = t -> t * 2;
+
+            assertThrows(NullPointerException.class, () -> ThrowingFloatUnaryOperator.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingFloatUnaryOperator.catching(operator, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFloatUnaryOperator<IOException> operator = ThrowingFloatUnaryOperator.catching(t -> t * 2, IOException.class);
+
+            assertEquals(3.0f, operator.applyAsFloat(1.5f));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingFloatUnaryOperator<RuntimeException> sneaky = ThrowingFloatUnaryOperator.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFloatUnaryOperator<IOException> operator = ThrowingFloatUnaryOperator.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> operator.applyAsFloat(1.5f));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingFloatUnaryOperator<RuntimeException> sneaky = ThrowingFloatUnaryOperator.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingFloatUnaryOperator<IOException> operator = ThrowingFloatUnaryOperator.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsFloat(1.5f));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+}
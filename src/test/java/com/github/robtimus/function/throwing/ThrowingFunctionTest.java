@@ -19,15 +19,41 @@ package com.github.robtimus.function.throwing;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.Nested;
@@ -130,6 +156,28 @@ class ThrowingFunctionTest {
             verify(function).compose(before);
             verifyNoMoreInteractions(function, before);
         }
+
+        @Test
+        void testLongChain() throws IOException {
+            ThrowingFunction<Integer, Integer, IOException> composed = i -> i + 1;
+            for (int i = 1; i < 100_000; i++) {
+                composed = composed.compose(j -> j + 1);
+            }
+
+            assertEquals(Integer.valueOf(100_000), composed.apply(0));
+        }
+
+        @Test
+        void testComposedChains() throws IOException {
+            ThrowingFunction<String, String, IOException> first = Spied.throwingFunction(s -> s + "a");
+            ThrowingFunction<String, String, IOException> second = Spied.throwingFunction(s -> s + "b");
+            ThrowingFunction<String, String, IOException> third = Spied.throwingFunction(s -> s + "c");
+            ThrowingFunction<String, String, IOException> fourth = Spied.throwingFunction(s -> s + "d");
+
+            ThrowingFunction<String, String, IOException> composed = fourth.compose(third).compose(second.compose(first));
+
+            assertEquals("abcd", composed.apply(""));
+        }
     }
 
     @Nested
@@ -224,6 +272,47 @@ class ThrowingFunctionTest {
             verify(after).apply("1");
             verifyNoMoreInteractions(function, after);
         }
+
+        @Test
+        void testLongChain() throws IOException {
+            ThrowingFunction<Integer, Integer, IOException> composed = i -> i + 1;
+            for (int i = 1; i < 100_000; i++) {
+                composed = composed.andThen(j -> j + 1);
+            }
+
+            assertEquals(Integer.valueOf(100_000), composed.apply(0));
+        }
+
+        @Test
+        void testChainedChains() throws IOException {
+            ThrowingFunction<String, String, IOException> first = Spied.throwingFunction(s -> s + "a");
+            ThrowingFunction<String, String, IOException> second = Spied.throwingFunction(s -> s + "b");
+            ThrowingFunction<String, String, IOException> third = Spied.throwingFunction(s -> s + "c");
+            ThrowingFunction<String, String, IOException> fourth = Spied.throwingFunction(s -> s + "d");
+
+            ThrowingFunction<String, String, IOException> composed = first.andThen(second).andThen(third.andThen(fourth));
+
+            assertEquals("abcd", composed.apply(""));
+        }
+
+        @Test
+        void testChainStepThrowsChecked() throws IOException {
+            ThrowingFunction<String, String, IOException> first = Spied.throwingFunction(s -> s + "a");
+            ThrowingFunction<String, String, IOException> second = Spied.throwingFunction(s -> {
+                throw new IOException(s);
+            });
+            ThrowingFunction<String, String, IOException> third = Spied.throwingFunction(s -> s + "c");
+
+            ThrowingFunction<String, String, IOException> composed = first.andThen(second).andThen(third);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.apply(""));
+            assertEquals("a", thrown.getMessage());
+
+            verify(first).andThen(second);
+            verify(first).apply("");
+            verify(second).apply("a");
+            verifyNoMoreInteractions(first, second, third);
+        }
     }
 
     @Nested
@@ -990,7 +1079,6 @@ class ThrowingFunctionTest {
 
             verify(function).apply("foo");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -1008,7 +1096,6 @@ class ThrowingFunctionTest {
 
             verify(function).apply("foo");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -1024,192 +1111,1722 @@ class ThrowingFunctionTest {
 
             verify(function).apply("foo");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
     }
 
     @Nested
-    class Of {
+    class Sneaky {
 
         @Test
-        void testNullArgument() {
-            assertThrows(NullPointerException.class, () -> ThrowingFunction.of(null));
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+
+            Function<String, String> sneaky = function.sneaky();
+
+            assertEquals("FOO", sneaky.apply("foo"));
+
+            verify(function).apply("foo");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
         }
 
         @Test
-        void testNonNullArgument() throws IOException {
-            ThrowingFunction<String, String, IOException> function = ThrowingFunction.of(String::toUpperCase);
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                throw new IOException(s);
+            });
 
-            assertEquals("FOO", function.apply("foo"));
+            Function<String, String> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).apply("foo");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(throwable::throwUnchecked);
+
+            Function<String, String> sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).apply("foo");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
         }
     }
 
     @Nested
-    class Identity {
+    class Instrumented {
 
         @Test
-        void testNullArgument() throws IOException {
-            ThrowingFunction<String, String, IOException> function = ThrowingFunction.identity();
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
 
-            assertNull(function.apply(null));
+            ThrowingFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals("FOO", instrumented.apply("foo"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
         }
 
         @Test
-        void testNonNullArgument() throws IOException {
-            ThrowingFunction<String, String, IOException> function = ThrowingFunction.identity();
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                throw new IOException(s);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
 
-            assertEquals("foo", function.apply("foo"));
+            ThrowingFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
         }
-    }
 
-    @Nested
-    class UncheckedFactory {
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
 
-        @Test
-        void testNullArgument() {
-            assertThrows(NullPointerException.class, () -> ThrowingFunction.unchecked(null));
+            ThrowingFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
         }
+    }
+
+    @Nested
+    class SampledInstrumented {
 
         @Test
-        void testArgumentThrowsNothing() throws IOException {
+        void testThisThrowsNothing() throws IOException {
             ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
 
-            Function<String, String> unchecked = ThrowingFunction.unchecked(function);
+            ThrowingFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
 
-            assertEquals("FOO", unchecked.apply("foo"));
+            for (int i = 0; i < 3; i++) {
+                assertEquals("FOO", instrumented.apply("foo"));
+            }
 
-            verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
-            verify(function).apply("foo");
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo");
+            verify(function).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(function);
         }
 
         @Test
-        void testArgumentThrowsChecked() throws IOException {
+        void testThisThrowsChecked() throws IOException {
             ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
                 throw new IOException(s);
             });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
 
-            Function<String, String> unchecked = ThrowingFunction.unchecked(function);
+            ThrowingFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
 
-            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo"));
-            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
-            assertEquals("foo", cause.getMessage());
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
 
-            verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
-            verify(function).apply("foo");
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo");
+            verify(function).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(function);
         }
 
         @ParameterizedTest
         @ArgumentsSource(UncheckedThrowable.Provider.class)
-        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
             ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
 
-            Function<String, String> unchecked = ThrowingFunction.unchecked(function);
+            ThrowingFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
 
-            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.apply("foo"));
-            assertEquals("foo", thrown.getMessage());
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
 
-            verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
-            verify(function).apply("foo");
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo");
+            verify(function).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(function);
         }
     }
 
     @Nested
-    class CheckedWrapper {
+    class Retry {
 
         @Test
-        void testNullArgument() {
-            assertThrows(NullPointerException.class, () -> ThrowingFunction.checked(null));
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+
+            ThrowingFunction<String, String, IOException> retrying = function.retry(policy);
+
+            assertEquals("FOO", retrying.apply("foo"));
+
+            verify(function).apply("foo");
+            verify(function).retry(policy);
+            verifyNoMoreInteractions(function);
         }
 
         @Test
-        void testArgumentThrowsNothing() throws IOException {
-            ThrowingFunction<String, String, IOException> function = ThrowingFunction.checked(String::toUpperCase);
+        void testThisThrowsCheckedThenNothing() throws IOException {
+            int[] attempts = { 0 };
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                if (++attempts[0] < 3) {
+                    throw new IOException(Integer.toString(attempts[0]));
+                }
+                return s.toUpperCase();
+            });
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
 
-            assertEquals("FOO", function.apply("foo"));
+            ThrowingFunction<String, String, IOException> retrying = function.retry(policy);
+
+            assertEquals("FOO", retrying.apply("foo"));
+
+            verify(function, times(3)).apply("foo");
+            verify(function).retry(policy);
+            verifyNoMoreInteractions(function);
         }
 
         @Test
-        void testArgumentThrowsUnchecked() {
-            ThrowingFunction<String, String, IOException> function = ThrowingFunction.checked(s -> {
-                throw UncheckedException.withoutStackTrace(s, new IOException());
+        void testThisThrowsChecked() throws IOException {
+            int[] attempts = { 0 };
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                throw new IOException(Integer.toString(++attempts[0]));
             });
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3)
+                    .withBackoff(Duration.ofMillis(1), Duration.ofMillis(2))
+                    .withJitter(0.5);
 
-            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo"));
+            ThrowingFunction<String, String, IOException> retrying = function.retry(policy);
+
+            IOException thrown = assertThrows(IOException.class, () -> retrying.apply("foo"));
+            assertEquals("3", thrown.getMessage());
+
+            Throwable[] suppressed = thrown.getSuppressed();
+            assertEquals(2, suppressed.length);
+            assertEquals("1", suppressed[0].getMessage());
+            assertEquals("2", suppressed[1].getMessage());
+
+            verify(function, times(3)).apply("foo");
+            verify(function).retry(policy);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsNonRetryableChecked() throws IOException {
+            int[] attempts = { 0 };
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                if (++attempts[0] < 2) {
+                    throw new FileNotFoundException(Integer.toString(attempts[0]));
+                }
+                throw new IOException(Integer.toString(attempts[0]));
+            });
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3)
+                    .withRetryableErrorType(FileNotFoundException.class);
+
+            ThrowingFunction<String, String, IOException> retrying = function.retry(policy);
+
+            IOException thrown = assertThrows(IOException.class, () -> retrying.apply("foo"));
+            assertEquals("2", thrown.getMessage());
+
+            Throwable[] suppressed = thrown.getSuppressed();
+            assertEquals(1, suppressed.length);
+            assertInstanceOf(FileNotFoundException.class, suppressed[0]);
+
+            verify(function, times(2)).apply("foo");
+            verify(function).retry(policy);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(throwable::throwUnchecked);
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+
+            ThrowingFunction<String, String, IOException> retrying = function.retry(policy);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> retrying.apply("foo"));
             assertEquals("foo", thrown.getMessage());
-            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
-            assertNull(cause.getMessage());
+
+            verify(function).apply("foo");
+            verify(function).retry(policy);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testNullPolicy() {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+
+            assertThrows(NullPointerException.class, () -> function.retry(null));
         }
     }
 
     @Nested
-    class CheckedUnwrapper {
+    class Memoize {
 
         @Test
-        void testNullArguments() {
-            Function<String, String> function = String::toUpperCase;
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
 
-            assertThrows(NullPointerException.class, () -> ThrowingFunction.checked(null, IOException.class));
-            assertThrows(NullPointerException.class, () -> ThrowingFunction.checked(function, null));
+            ThrowingFunction<String, String, IOException> memoized = function.memoize(10);
+
+            assertEquals("FOO", memoized.apply("foo"));
+            assertEquals("BAR", memoized.apply("bar"));
+            assertEquals("FOO", memoized.apply("foo"));
+            assertEquals("BAR", memoized.apply("bar"));
+
+            verify(function).apply("foo");
+            verify(function).apply("bar");
+            verify(function).memoize(10);
+            verifyNoMoreInteractions(function);
         }
 
         @Test
-        void testArgumentThrowsNothing() throws IOException {
-            ThrowingFunction<String, String, IOException> function = ThrowingFunction.checked(String::toUpperCase, IOException.class);
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                throw new IOException(s);
+            });
 
-            assertEquals("FOO", function.apply("foo"));
-        }
+            ThrowingFunction<String, String, IOException> memoized = function.memoize(10);
 
-        @Nested
-        class ArgumentThrowsUncheckedException {
+            IOException thrown = assertThrows(IOException.class, () -> memoized.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
 
-            @Test
-            void testWrappingExactType() {
-                ThrowingFunction<String, String, IOException> function = ThrowingFunction.checked(s -> {
-                    throw UncheckedException.withoutStackTrace(new IOException(s));
-                }, IOException.class);
+            thrown = assertThrows(IOException.class, () -> memoized.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
 
-                IOException thrown = assertThrows(IOException.class, () -> function.apply("foo"));
-                assertEquals("foo", thrown.getMessage());
-            }
+            verify(function, times(2)).apply("foo");
+            verify(function).memoize(10);
+            verifyNoMoreInteractions(function);
+        }
 
-            @Test
-            void testWrappingSubType() {
-                ThrowingFunction<String, String, IOException> function = ThrowingFunction.checked(s -> {
-                    throw UncheckedException.withoutStackTrace(new FileNotFoundException(s));
-                }, IOException.class);
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(throwable::throwUnchecked);
 
-                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.apply("foo"));
-                assertEquals("foo", thrown.getMessage());
-            }
+            ThrowingFunction<String, String, IOException> memoized = function.memoize(10);
 
-            @Test
-            void testWrappingOther() {
-                ThrowingFunction<String, String, IOException> function = ThrowingFunction.checked(s -> {
-                    throw UncheckedException.withoutStackTrace(new ParseException(s, 0));
-                }, IOException.class);
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
 
-                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo"));
-                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
-                assertEquals("foo", cause.getMessage());
-                assertEquals(0, cause.getErrorOffset());
-            }
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).apply("foo");
+            verify(function).memoize(10);
+            verifyNoMoreInteractions(function);
         }
 
         @Test
-        void testArgumentThrowsOther() {
-            ThrowingFunction<String, String, IOException> function = ThrowingFunction.checked(s -> {
-                throw new IllegalStateException(s);
-            }, IOException.class);
+        void testNullInput() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::valueOf);
 
-            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.apply("foo"));
-            assertEquals("foo", thrown.getMessage());
+            ThrowingFunction<String, String, IOException> memoized = function.memoize(10);
+
+            assertEquals("null", memoized.apply(null));
+            assertEquals("null", memoized.apply(null));
+
+            verify(function).apply(null);
+            verify(function).memoize(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testEviction() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+            CacheStatistics statistics = new CacheStatistics();
+
+            ThrowingFunction<String, String, IOException> memoized = function.memoize(3, statistics);
+
+            // foo is accessed twice, and is therefore protected from eviction by inputs that are used only once
+            assertEquals("FOO", memoized.apply("foo"));
+            assertEquals("FOO", memoized.apply("foo"));
+            assertEquals("BAR", memoized.apply("bar"));
+            assertEquals("BAZ", memoized.apply("baz"));
+            assertEquals("QUX", memoized.apply("qux"));
+
+            assertEquals("FOO", memoized.apply("foo"));
+            assertEquals("BAZ", memoized.apply("baz"));
+            assertEquals("BAR", memoized.apply("bar"));
+
+            assertEquals(3, statistics.hitCount());
+            assertEquals(5, statistics.missCount());
+            assertEquals(2, statistics.evictionCount());
+
+            verify(function).apply("foo");
+            verify(function, times(2)).apply("bar");
+            verify(function).apply("baz");
+            verify(function).apply("qux");
+            verify(function).memoize(3, statistics);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testConcurrentCallsForEqualInput() throws IOException, InterruptedException, ExecutionException {
+            CountDownLatch latch = new CountDownLatch(1);
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                await(latch);
+                return s.toUpperCase();
+            });
+
+            ThrowingFunction<String, String, IOException> memoized = function.memoize(10);
+
+            int threadCount = 10;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            try {
+                List<Future<String>> futures = new ArrayList<>();
+                for (int i = 0; i < threadCount; i++) {
+                    futures.add(executor.submit(() -> memoized.apply("foo")));
+                }
+                latch.countDown();
+                for (Future<String> future : futures) {
+                    assertEquals("FOO", future.get());
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            verify(function).apply("foo");
+            verify(function).memoize(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testRecursiveCall() {
+            AtomicReference<ThrowingFunction<String, String, IOException>> memoized = new AtomicReference<>();
+            ThrowingFunction<String, String, IOException> function = s -> memoized.get().apply(s);
+
+            memoized.set(function.memoize(10));
+
+            assertThrows(IllegalStateException.class, () -> memoized.get().apply("foo"));
+        }
+
+        @Test
+        void testInvalidArguments() {
+            ThrowingFunction<String, String, IOException> function = String::toUpperCase;
+
+            assertThrows(IllegalArgumentException.class, () -> function.memoize(0));
+            assertThrows(IllegalArgumentException.class, () -> function.memoize(0, new CacheStatistics()));
+            assertThrows(NullPointerException.class, () -> function.memoize(10, (CacheStatistics) null));
+        }
+    }
+
+    @Nested
+    class MemoizeWithFailureCaching {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+
+            ThrowingFunction<String, String, IOException> memoized = function.memoize(10, Duration.ofMinutes(1));
+
+            assertEquals("FOO", memoized.apply("foo"));
+            assertEquals("FOO", memoized.apply("foo"));
+
+            verify(function).apply("foo");
+            verify(function).memoize(10, Duration.ofMinutes(1));
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                throw new FileNotFoundException(s);
+            });
+
+            ThrowingFunction<String, String, IOException> memoized = function.memoize(10, Duration.ofMinutes(1));
+
+            FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> memoized.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            FileNotFoundException rethrown = assertThrows(FileNotFoundException.class, () -> memoized.apply("foo"));
+            assertSame(thrown, rethrown);
+
+            verify(function).apply("foo");
+            verify(function).memoize(10, Duration.ofMinutes(1));
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(throwable::throwUnchecked);
+
+            ThrowingFunction<String, String, IOException> memoized = function.memoize(10, Duration.ofMinutes(1));
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).apply("foo");
+            verify(function).memoize(10, Duration.ofMinutes(1));
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testFailureCopier() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                throw new FileNotFoundException(s);
+            });
+            Function<IOException, IOException> copier = e -> new IOException(e.getMessage(), null);
+
+            ThrowingFunction<String, String, IOException> memoized = function.memoize(10, Duration.ofMinutes(1), copier);
+
+            IOException thrown = assertThrows(FileNotFoundException.class, () -> memoized.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            IOException rethrown = assertThrows(IOException.class, () -> memoized.apply("foo"));
+            assertNotSame(thrown, rethrown);
+            assertEquals(IOException.class, rethrown.getClass());
+            assertEquals("foo", rethrown.getMessage());
+
+            verify(function).apply("foo");
+            verify(function).memoize(10, Duration.ofMinutes(1), copier);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testFailureExpires() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                if (counter.incrementAndGet() == 1) {
+                    throw new FileNotFoundException(s);
+                }
+                return s.toUpperCase();
+            });
+            AtomicLong clock = new AtomicLong();
+            CacheStatistics statistics = new CacheStatistics();
+            BoundedCache<String, String> cache = new BoundedCache<>(10, statistics, Duration.ofSeconds(10).toNanos(), null, clock::get);
+
+            ThrowingFunction<String, String, IOException> memoized = s -> cache.get(s, function);
+
+            assertThrows(FileNotFoundException.class, () -> memoized.apply("foo"));
+
+            clock.addAndGet(Duration.ofSeconds(9).toNanos());
+            assertThrows(FileNotFoundException.class, () -> memoized.apply("foo"));
+
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+            assertEquals("FOO", memoized.apply("foo"));
+            assertEquals("FOO", memoized.apply("foo"));
+
+            assertEquals(2, statistics.hitCount());
+            assertEquals(2, statistics.missCount());
+            assertEquals(1, cache.size());
+
+            verify(function, times(2)).apply("foo");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testInvalidArguments() {
+            ThrowingFunction<String, String, IOException> function = String::toUpperCase;
+            Duration ttl = Duration.ofMinutes(1);
+
+            assertThrows(IllegalArgumentException.class, () -> function.memoize(0, ttl));
+            assertThrows(IllegalArgumentException.class, () -> function.memoize(10, Duration.ZERO));
+            assertThrows(NullPointerException.class, () -> function.memoize(10, (Duration) null));
+            assertThrows(NullPointerException.class, () -> function.memoize(10, ttl, null));
+        }
+    }
+
+    @Nested
+    class Coalescing {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+
+            ThrowingFunction<String, String, IOException> coalescing = function.coalescing();
+
+            assertEquals("FOO", coalescing.apply("foo"));
+            assertEquals("FOO", coalescing.apply("foo"));
+            assertEquals("BAR", coalescing.apply("bar"));
+
+            // Results are not retained
+            verify(function, times(2)).apply("foo");
+            verify(function).apply("bar");
+            verify(function).coalescing();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                throw new IOException(s);
+            });
+
+            ThrowingFunction<String, String, IOException> coalescing = function.coalescing();
+
+            IOException thrown = assertThrows(IOException.class, () -> coalescing.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> coalescing.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).apply("foo");
+            verify(function).coalescing();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(throwable::throwUnchecked);
+
+            ThrowingFunction<String, String, IOException> coalescing = function.coalescing();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> coalescing.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).apply("foo");
+            verify(function).coalescing();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testConcurrentCallsShareResult() throws IOException, InterruptedException {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                entered.countDown();
+                await(release);
+                return s.toUpperCase();
+            });
+
+            ThrowingFunction<String, String, IOException> coalescing = function.coalescing();
+
+            List<Object> results = callConcurrently(() -> coalescing.apply("foo"), entered, release);
+
+            for (Object result : results) {
+                assertEquals("FOO", result);
+            }
+
+            verify(function).apply("foo");
+            verify(function).coalescing();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testConcurrentCallsShareException() throws IOException, InterruptedException {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                entered.countDown();
+                await(release);
+                throw new IOException(s);
+            });
+
+            ThrowingFunction<String, String, IOException> coalescing = function.coalescing();
+
+            List<Object> results = callConcurrently(() -> coalescing.apply("foo"), entered, release);
+
+            IOException thrown = assertInstanceOf(IOException.class, results.get(0));
+            assertEquals("foo", thrown.getMessage());
+            for (Object result : results) {
+                assertSame(thrown, result);
+            }
+
+            verify(function).apply("foo");
+            verify(function).coalescing();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testRecursiveCall() {
+            AtomicReference<ThrowingFunction<String, String, IOException>> coalescing = new AtomicReference<>();
+            ThrowingFunction<String, String, IOException> function = s -> coalescing.get().apply(s);
+
+            coalescing.set(function.coalescing());
+
+            assertThrows(IllegalStateException.class, () -> coalescing.get().apply("foo"));
+        }
+    }
+
+    @Nested
+    class ApplyAsync {
+
+        @Test
+        void testThisThrowsNothing() throws IOException, InterruptedException, ExecutionException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+
+            CompletableFuture<String> future = function.applyAsync("foo", Runnable::run);
+
+            assertTrue(future.isDone());
+            assertEquals("FOO", future.get());
+
+            verify(function).apply("foo");
+            verify(function).applyAsync("foo", any());
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, InterruptedException, ExecutionException {
+            IOException exception = new IOException("foo");
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                throw exception;
+            });
+
+            CompletableFuture<String> future = function.applyAsync("foo", Runnable::run);
+
+            assertTrue(future.isCompletedExceptionally());
+            ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+            assertSame(exception, thrown.getCause());
+            // The exception is not wrapped in an UncheckedException or CompletionException
+            assertSame(exception, future.handle((result, error) -> error).get());
+
+            verify(function).apply("foo");
+            verify(function).applyAsync("foo", any());
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException, InterruptedException, ExecutionException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> throwable.throwUnchecked("foo"));
+
+            CompletableFuture<String> future = function.applyAsync("foo", Runnable::run);
+
+            assertTrue(future.isCompletedExceptionally());
+            ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+            Throwable cause = assertInstanceOf(throwable.throwableType(), thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(function).apply("foo");
+            verify(function).applyAsync("foo", any());
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testCancelBeforeStart() throws IOException, InterruptedException, ExecutionException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+
+            List<Runnable> tasks = new ArrayList<>();
+            CompletableFuture<String> future = function.applyAsync("foo", tasks::add);
+
+            assertTrue(future.cancel(true));
+            tasks.forEach(Runnable::run);
+
+            assertTrue(future.isCancelled());
+
+            verify(function).applyAsync("foo", any());
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testCancelWhileRunning() throws InterruptedException {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+            ThrowingFunction<String, String, IOException> function = s -> {
+                entered.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw new IOException(e);
+                }
+                return s;
+            };
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                CompletableFuture<String> future = function.applyAsync("foo", executor);
+                entered.await();
+
+                assertTrue(future.cancel(true));
+                interrupted.await();
+
+                assertTrue(future.isCancelled());
+                assertThrows(CancellationException.class, future::get);
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        void testNullExecutor() {
+            ThrowingFunction<String, String, IOException> function = String::toUpperCase;
+
+            assertThrows(NullPointerException.class, () -> function.applyAsync("foo", null));
+        }
+    }
+
+    @Nested
+    class ApplyAll {
+
+        @Test
+        void testThisThrowsNothing() throws IOException, InterruptedException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+
+            List<String> inputs = List.of("foo", "bar", "baz", "qux");
+
+            assertEquals(List.of("FOO", "BAR", "BAZ", "QUX"), function.applyAll(inputs, 2));
+
+            verify(function).apply("foo");
+            verify(function).apply("bar");
+            verify(function).apply("baz");
+            verify(function).apply("qux");
+            verify(function).applyAll(inputs, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testResultsInOrder() throws IOException, InterruptedException {
+            // Make earlier inputs take longer, so results are produced out of order
+            ThrowingFunction<Integer, Integer, IOException> function = i -> {
+                sleep(20 - i);
+                return i * 2;
+            };
+
+            List<Integer> inputs = new ArrayList<>();
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                inputs.add(i);
+                expected.add(i * 2);
+            }
+
+            assertEquals(expected, function.applyAll(inputs, 20));
+        }
+
+        @Test
+        void testNullResults() throws IOException, InterruptedException {
+            ThrowingFunction<String, String, IOException> function = s -> null;
+
+            assertEquals(Arrays.asList(null, null), function.applyAll(List.of("foo", "bar"), 2));
+        }
+
+        @Test
+        void testEmptyInputs() throws IOException, InterruptedException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+
+            assertEquals(List.of(), function.applyAll(List.of(), 2));
+
+            verify(function).applyAll(List.of(), 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testConcurrencyLimit() throws IOException, InterruptedException {
+            AtomicInteger concurrentCalls = new AtomicInteger();
+            AtomicInteger maxConcurrentCalls = new AtomicInteger();
+            ThrowingFunction<Integer, Integer, IOException> function = i -> {
+                maxConcurrentCalls.accumulateAndGet(concurrentCalls.incrementAndGet(), Math::max);
+                sleep(1);
+                concurrentCalls.decrementAndGet();
+                return i;
+            };
+
+            List<Integer> inputs = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                inputs.add(i);
+            }
+
+            assertEquals(inputs, function.applyAll(inputs, 3));
+            assertTrue(maxConcurrentCalls.get() <= 3);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws InterruptedException {
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch interrupted = new CountDownLatch(1);
+            IOException exception = new IOException("foo");
+            ThrowingFunction<Integer, Integer, IOException> function = i -> {
+                calls.incrementAndGet();
+                if (i == 0) {
+                    throw exception;
+                }
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw new InterruptedIOException();
+                }
+                return i;
+            };
+
+            List<Integer> inputs = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                inputs.add(i);
+            }
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAll(inputs, 2));
+            assertSame(exception, thrown);
+
+            // Remaining calls are not started, and calls in progress are interrupted
+            assertTrue(calls.get() <= 2);
+            assertEquals(calls.get() - 1, 1 - interrupted.getCount());
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) {
+            ThrowingFunction<String, String, IOException> function = throwable::throwUnchecked;
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> function.applyAll(List.of("foo"), 2));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCallerInterrupted() throws InterruptedException {
+            CountDownLatch entered = new CountDownLatch(2);
+            CountDownLatch interrupted = new CountDownLatch(2);
+            ThrowingFunction<String, String, IOException> function = s -> {
+                entered.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw new InterruptedIOException();
+                }
+                return s;
+            };
+
+            AtomicReference<Throwable> thrown = new AtomicReference<>();
+            Thread caller = new Thread(() -> {
+                try {
+                    function.applyAll(List.of("foo", "bar", "baz"), 2);
+                } catch (Exception e) {
+                    thrown.set(e);
+                }
+            });
+            caller.start();
+            entered.await();
+            caller.interrupt();
+            caller.join();
+
+            assertInstanceOf(InterruptedException.class, thrown.get());
+            assertEquals(0, interrupted.getCount());
+        }
+
+        @Test
+        void testInvalidArguments() {
+            ThrowingFunction<String, String, IOException> function = String::toUpperCase;
+            List<String> inputs = List.of("foo");
+
+            assertThrows(NullPointerException.class, () -> function.applyAll(null, 2));
+            assertThrows(IllegalArgumentException.class, () -> function.applyAll(inputs, 0));
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingFunction<String, String, IOException> function = ThrowingFunction.of(String::toUpperCase);
+
+            assertEquals("FOO", function.apply("foo"));
+        }
+    }
+
+    @Nested
+    class Identity {
+
+        @Test
+        void testNullArgument() throws IOException {
+            ThrowingFunction<String, String, IOException> function = ThrowingFunction.identity();
+
+            assertNull(function.apply(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingFunction<String, String, IOException> function = ThrowingFunction.identity();
+
+            assertEquals("foo", function.apply("foo"));
+        }
+
+        @Test
+        void testSameInstance() {
+            ThrowingFunction<String, String, IOException> function = ThrowingFunction.identity();
+            ThrowingFunction<Integer, Integer, ParseException> other = ThrowingFunction.identity();
+
+            assertSame(function, other);
+        }
+
+        @Test
+        void testAndThen() {
+            ThrowingFunction<String, String, IOException> function = ThrowingFunction.identity();
+            ThrowingFunction<String, String, IOException> after = Spied.throwingFunction(String::toUpperCase);
+
+            assertSame(after, function.andThen(after));
+
+            verifyNoMoreInteractions(after);
+        }
+
+        @Test
+        void testCompose() {
+            ThrowingFunction<String, String, IOException> function = ThrowingFunction.identity();
+            ThrowingFunction<String, String, IOException> before = Spied.throwingFunction(String::toUpperCase);
+
+            assertSame(before, function.compose(before));
+
+            verifyNoMoreInteractions(before);
+        }
+
+        @Test
+        void testAndThenIdentity() {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+            ThrowingFunction<String, String, IOException> after = ThrowingFunction.identity();
+
+            assertSame(function, function.andThen(after));
+
+            verify(function).andThen(after);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testComposeIdentity() {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+            ThrowingFunction<String, String, IOException> before = ThrowingFunction.identity();
+
+            assertSame(function, function.compose(before));
+
+            verify(function).compose(before);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testIdentityInChain() throws IOException {
+            ThrowingFunction<String, String, IOException> function = ThrowingFunction.<String, IOException>identity()
+                    .andThen(String::toUpperCase)
+                    .andThen(ThrowingFunction.identity())
+                    .compose(ThrowingFunction.identity());
+
+            assertEquals("FOO", function.apply("foo"));
+        }
+    }
+
+    @Nested
+    class Batching {
+
+        @Test
+        void testSingleCall() throws IOException {
+            ThrowingFunction<List<String>, Map<String, String>, IOException> loader = Spied.throwingFunction(ThrowingFunctionTest::toUpperCase);
+
+            ThrowingFunction<String, String, IOException> batching = ThrowingFunction.batching(loader, 10, Duration.ofMillis(10), 100);
+
+            assertEquals("FOO", batching.apply("foo"));
+            assertEquals("BAR", batching.apply("bar"));
+
+            verify(loader).apply(List.of("foo"));
+            verify(loader).apply(List.of("bar"));
+            verifyNoMoreInteractions(loader);
+        }
+
+        @Test
+        void testWithoutDelay() throws IOException {
+            ThrowingFunction<List<String>, Map<String, String>, IOException> loader = Spied.throwingFunction(ThrowingFunctionTest::toUpperCase);
+
+            ThrowingFunction<String, String, IOException> batching = ThrowingFunction.batching(loader, 10, Duration.ZERO, 10);
+
+            assertEquals("FOO", batching.apply("foo"));
+
+            verify(loader).apply(List.of("foo"));
+            verifyNoMoreInteractions(loader);
+        }
+
+        @Test
+        void testMissingValue() throws IOException {
+            ThrowingFunction<List<String>, Map<String, String>, IOException> loader = Spied.throwingFunction(keys -> Map.of());
+
+            ThrowingFunction<String, String, IOException> batching = ThrowingFunction.batching(loader, 10, Duration.ZERO, 10);
+
+            assertNull(batching.apply("foo"));
+
+            verify(loader).apply(List.of("foo"));
+            verifyNoMoreInteractions(loader);
+        }
+
+        @Test
+        void testLoaderThrowsChecked() throws IOException {
+            ThrowingFunction<List<String>, Map<String, String>, IOException> loader = Spied.throwingFunction(keys -> {
+                throw new IOException(keys.toString());
+            });
+
+            ThrowingFunction<String, String, IOException> batching = ThrowingFunction.batching(loader, 10, Duration.ZERO, 10);
+
+            IOException thrown = assertThrows(IOException.class, () -> batching.apply("foo"));
+            assertEquals("[foo]", thrown.getMessage());
+
+            verify(loader).apply(List.of("foo"));
+            verifyNoMoreInteractions(loader);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testLoaderThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFunction<List<String>, Map<String, String>, IOException> loader = Spied.throwingFunction(
+                    keys -> throwable.throwUnchecked(keys.get(0)));
+
+            ThrowingFunction<String, String, IOException> batching = ThrowingFunction.batching(loader, 10, Duration.ZERO, 10);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> batching.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(loader).apply(List.of("foo"));
+            verifyNoMoreInteractions(loader);
+        }
+
+        @Test
+        void testLoaderReturnsNull() throws IOException {
+            ThrowingFunction<List<String>, Map<String, String>, IOException> loader = Spied.throwingFunction(keys -> null);
+
+            ThrowingFunction<String, String, IOException> batching = ThrowingFunction.batching(loader, 10, Duration.ZERO, 10);
+
+            assertThrows(NullPointerException.class, () -> batching.apply("foo"));
+
+            verify(loader).apply(List.of("foo"));
+            verifyNoMoreInteractions(loader);
+        }
+
+        @Test
+        void testConcurrentCallsFormBatch() throws InterruptedException, ExecutionException {
+            List<List<String>> batches = new CopyOnWriteArrayList<>();
+            ThrowingFunction<List<String>, Map<String, String>, IOException> loader = keys -> {
+                batches.add(keys);
+                return toUpperCase(keys);
+            };
+
+            // The delay is long enough that batches are only loaded when they are full
+            ThrowingFunction<String, String, IOException> batching = ThrowingFunction.batching(loader, 3, Duration.ofMinutes(1), 10);
+
+            List<String> results = applyConcurrently(batching, "foo", "bar", "baz");
+
+            assertEquals(List.of("FOO", "BAR", "BAZ"), results);
+            assertEquals(1, batches.size());
+            assertEquals(Set.of("foo", "bar", "baz"), new HashSet<>(batches.get(0)));
+        }
+
+        @Test
+        void testConcurrentCallsFormMultipleBatches() throws InterruptedException, ExecutionException {
+            List<List<String>> batches = new CopyOnWriteArrayList<>();
+            ThrowingFunction<List<String>, Map<String, String>, IOException> loader = keys -> {
+                batches.add(keys);
+                return toUpperCase(keys);
+            };
+
+            ThrowingFunction<String, String, IOException> batching = ThrowingFunction.batching(loader, 2, Duration.ofMinutes(1), 2);
+
+            List<String> results = applyConcurrently(batching, "a", "b", "c", "d", "e", "f");
+
+            assertEquals(List.of("A", "B", "C", "D", "E", "F"), results);
+            assertEquals(3, batches.size());
+            Set<String> keys = new HashSet<>();
+            for (List<String> batch : batches) {
+                assertEquals(2, batch.size());
+                keys.addAll(batch);
+            }
+            assertEquals(Set.of("a", "b", "c", "d", "e", "f"), keys);
+        }
+
+        @Test
+        void testConcurrentCallsWithEqualInputs() throws InterruptedException, ExecutionException {
+            List<List<String>> batches = new CopyOnWriteArrayList<>();
+            ThrowingFunction<List<String>, Map<String, String>, IOException> loader = keys -> {
+                batches.add(keys);
+                return toUpperCase(keys);
+            };
+
+            ThrowingFunction<String, String, IOException> batching = ThrowingFunction.batching(loader, 3, Duration.ofMinutes(1), 10);
+
+            List<String> results = applyConcurrently(batching, "foo", "bar", "foo");
+
+            assertEquals(List.of("FOO", "BAR", "FOO"), results);
+            assertEquals(1, batches.size());
+            assertEquals(Set.of("foo", "bar"), new HashSet<>(batches.get(0)));
+            assertEquals(2, batches.get(0).size());
+        }
+
+        @Test
+        void testConcurrentCallsShareException() throws InterruptedException {
+            ThrowingFunction<List<String>, Map<String, String>, IOException> loader = keys -> {
+                throw new IOException();
+            };
+
+            ThrowingFunction<String, String, IOException> batching = ThrowingFunction.batching(loader, 3, Duration.ofMinutes(1), 10);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> applyConcurrently(batching, "foo", "bar", "baz"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            for (Throwable suppressed : thrown.getSuppressed()) {
+                assertSame(cause, suppressed.getCause());
+            }
+            assertEquals(2, thrown.getSuppressed().length);
+        }
+
+        @Test
+        void testLookupFailsForOneCall() throws InterruptedException, ExecutionException, TimeoutException {
+            ThrowingFunction<List<String>, Map<String, String>, IOException> loader = keys -> {
+                Map<String, String> values = new HashMap<>();
+                for (String key : keys) {
+                    if (key != null) {
+                        values.put(key, key.toUpperCase());
+                    }
+                }
+                // Map.copyOf returns a map that throws a NullPointerException when looking up null
+                return Map.copyOf(values);
+            };
+
+            ThrowingFunction<String, String, IOException> batching = ThrowingFunction.batching(loader, 3, Duration.ofMinutes(1), 10);
+
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+            try {
+                Future<String> foo = executor.submit(() -> batching.apply("foo"));
+                Future<String> nullKey = executor.submit(() -> batching.apply(null));
+                Future<String> bar = executor.submit(() -> batching.apply("bar"));
+
+                // Use timeouts, so the test fails instead of hanging if a call is never completed
+                assertEquals("FOO", foo.get(10, TimeUnit.SECONDS));
+                assertEquals("BAR", bar.get(10, TimeUnit.SECONDS));
+                ExecutionException thrown = assertThrows(ExecutionException.class, () -> nullKey.get(10, TimeUnit.SECONDS));
+                assertInstanceOf(NullPointerException.class, thrown.getCause());
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        void testManyConcurrentCallsWithFullBatches() throws InterruptedException, ExecutionException, TimeoutException {
+            ThrowingFunction<List<String>, Map<String, String>, IOException> loader = ThrowingFunctionTest::toUpperCase;
+
+            // Every call fills a batch, so leaders are promoted as often as possible
+            ThrowingFunction<String, String, IOException> batching = ThrowingFunction.batching(loader, 1, Duration.ofMinutes(1), 2);
+
+            int threadCount = 16;
+            int callCount = 1000;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            try {
+                List<Future<String>> futures = new ArrayList<>();
+                for (int i = 0; i < threadCount; i++) {
+                    String input = "foo" + i;
+                    futures.add(executor.submit(() -> {
+                        for (int j = 0; j < callCount; j++) {
+                            assertEquals(input.toUpperCase(), batching.apply(input));
+                        }
+                        return input;
+                    }));
+                }
+                for (int i = 0; i < threadCount; i++) {
+                    // Use timeouts, so the test fails instead of hanging if a promoted leader is never notified
+                    assertEquals("foo" + i, futures.get(i).get(30, TimeUnit.SECONDS));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void testInvalidArguments() {
+            ThrowingFunction<List<String>, Map<String, String>, IOException> loader = ThrowingFunctionTest::toUpperCase;
+            Duration maxDelay = Duration.ofMillis(10);
+
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.batching(null, 10, maxDelay, 10));
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.batching(loader, 10, null, 10));
+            assertThrows(IllegalArgumentException.class, () -> ThrowingFunction.batching(loader, 0, maxDelay, 10));
+            assertThrows(IllegalArgumentException.class, () -> ThrowingFunction.batching(loader, 10, Duration.ofMillis(-1), 10));
+            assertThrows(IllegalArgumentException.class, () -> ThrowingFunction.batching(loader, 10, maxDelay, 9));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+
+            Function<String, String> unchecked = ThrowingFunction.unchecked(function);
+
+            assertEquals("FOO", unchecked.apply("foo"));
+
+            verify(function).unchecked();
+            verify(function).apply("foo");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                throw new IOException(s);
+            });
+
+            Function<String, String> unchecked = ThrowingFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).apply("foo");
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(throwable::throwUnchecked);
+
+            Function<String, String> unchecked = ThrowingFunction.unchecked(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).unchecked();
+            verify(function).apply("foo");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(String::toUpperCase);
+
+            Function<String, String> sneaky = ThrowingFunction.sneaky(function);
+
+            assertEquals("FOO", sneaky.apply("foo"));
+
+            verify(function).sneaky();
+            verify(function).apply("foo");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(s -> {
+                throw new IOException(s);
+            });
+
+            Function<String, String> sneaky = ThrowingFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply("foo");
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingFunction<String, String, IOException> function = Spied.throwingFunction(throwable::throwUnchecked);
+
+            Function<String, String> sneaky = ThrowingFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply("foo");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFunction<String, String, IOException> function = ThrowingFunction.checked(String::toUpperCase);
+
+            assertEquals("FOO", function.apply("foo"));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingFunction<String, String, IOException> function = ThrowingFunction.checked(s -> {
+                throw UncheckedException.withoutStackTrace(s, new IOException());
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertNull(cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            Function<String, String> function = String::toUpperCase;
+
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.checked(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFunction<String, String, IOException> function = ThrowingFunction.checked(String::toUpperCase, IOException.class);
+
+            assertEquals("FOO", function.apply("foo"));
+        }
+
+        @Nested
+        class ArgumentThrowsUncheckedException {
+
+            @Test
+            void testWrappingExactType() {
+                ThrowingFunction<String, String, IOException> function = ThrowingFunction.checked(s -> {
+                    throw UncheckedException.withoutStackTrace(new IOException(s));
+                }, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.apply("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testWrappingSubType() {
+                ThrowingFunction<String, String, IOException> function = ThrowingFunction.checked(s -> {
+                    throw UncheckedException.withoutStackTrace(new FileNotFoundException(s));
+                }, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.apply("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testWrappingOther() {
+                ThrowingFunction<String, String, IOException> function = ThrowingFunction.checked(s -> {
+                    throw UncheckedException.withoutStackTrace(new ParseException(s, 0));
+                }, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingFunction<String, String, IOException> function = ThrowingFunction.checked(s -> {
+                throw new IllegalStateException(s);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingFunction<String, String, IOException> function = t -> {
+                throw new IOException("foo");
+            };
+
+            Function<String, String> sneaky = ThrowingFunction.sneaky(function);
+            ThrowingFunction<String, String, IOException> checked = ThrowingFunction.checked(sneaky);
+            ThrowingFunction<String, String, IOException> checkedWithErrorType = ThrowingFunction.checked(sneaky, IOException.class);
+
+            Function<String, String> unchecked = ThrowingFunction.unchecked(checked);
+            Function<String, String> uncheckedWithErrorType = ThrowingFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply("foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            Function<String, String> function = t -> "foo";
+
+            ThrowingFunction<String, String, IOException> checked = ThrowingFunction.checked(function);
+
+            assertSame(function, ThrowingFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingFunction<String, String, IOException> function = t -> "foo";
+
+            Function<String, String> sneaky = ThrowingFunction.sneaky(function);
+
+            assertSame(function, ThrowingFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingFunction<String, String, IOException> function = t -> {
+                throw new IOException("foo");
+            };
+
+            Function<String, String> unchecked = ThrowingFunction.unchecked(function);
+            ThrowingFunction<String, String, IOException> checked = ThrowingFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingFunction<String, String, IOException> function = t -> {
+                throw new IOException("foo");
+            };
+
+            Function<String, String> unchecked = ThrowingFunction.unchecked(function);
+            ThrowingFunction<String, String, ParseException> checked = ThrowingFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingFunction<String, String, IOException> function = t -> {
+                throw new IOException("foo");
+            };
+
+            Function<String, String> unchecked = ThrowingFunction.unchecked(function);
+            ThrowingFunction<String, String, IOException> checked = ThrowingFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            Function<String, String> function = String::toUpperCase;
+
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingFunction<String, String, IOException> function = ThrowingFunction.catching(String::toUpperCase, IOException.class);
+
+            assertEquals("FOO", function.apply("foo"));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                Function<String, String> sneaky = ThrowingFunction.sneaky(s -> {
+                    throw new IOException(s);
+                });
+
+                ThrowingFunction<String, String, IOException> function = ThrowingFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.apply("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                Function<String, String> sneaky = ThrowingFunction.sneaky(s -> {
+                    throw new FileNotFoundException(s);
+                });
+
+                ThrowingFunction<String, String, IOException> function = ThrowingFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.apply("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                Function<String, String> sneaky = ThrowingFunction.sneaky(s -> {
+                    throw new ParseException(s, 0);
+                });
+
+                ThrowingFunction<String, String, IOException> function = ThrowingFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingFunction<String, String, IOException> function = ThrowingFunction.catching(s -> {
+                throw new IllegalStateException(s);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+    }
+
+    private static List<Object> callConcurrently(Callable<?> callable, CountDownLatch entered, CountDownLatch release) throws InterruptedException {
+        int threadCount = 10;
+        Object[] results = new Object[threadCount];
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            int index = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    results[index] = callable.call();
+                } catch (Exception e) {
+                    results[index] = e;
+                }
+            });
+        }
+
+        // Start one thread and let it enter the call, then start the others and wait until they are all waiting for the first one
+        threads[0].start();
+        entered.await();
+        for (int i = 1; i < threadCount; i++) {
+            threads[i].start();
+        }
+        for (int i = 1; i < threadCount; i++) {
+            while (threads[i].getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+        }
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return Arrays.asList(results);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    private static Map<String, String> toUpperCase(List<String> keys) {
+        Map<String, String> result = new HashMap<>();
+        for (String key : keys) {
+            result.put(key, key.toUpperCase());
+        }
+        return result;
+    }
+
+    private static List<String> applyConcurrently(ThrowingFunction<String, String, ? extends Exception> function, String... inputs)
+            throws InterruptedException, ExecutionException {
+
+        ExecutorService executor = Executors.newFixedThreadPool(inputs.length);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (String input : inputs) {
+                futures.add(executor.submit(() -> function.apply(input)));
+            }
+            List<String> results = new ArrayList<>();
+            ExecutionException failure = null;
+            for (Future<String> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return results;
+        } finally {
+            executor.shutdown();
         }
     }
 }
@@ -0,0 +1,894 @@
+/*
+ * ThrowingIntBiConsumerTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingIntBiConsumerTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+            ThrowingIntBiConsumer<IOException> after = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            consumer.andThen(after).accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).andThen(after);
+            verify(after).accept(1, 2);
+            verifyNoMoreInteractions(consumer, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            ThrowingIntBiConsumer<IOException> after = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            ThrowingIntBiConsumer<IOException> composed = consumer.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.accept(1, 2));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).andThen(after);
+            verifyNoMoreInteractions(consumer, after);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingIntBiConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            throwing.accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingIntBiConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.accept(1, 2));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingIntBiConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.accept(1, 2));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingIntBiConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            throwing.accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingIntBiConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.accept(1, 2));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingIntBiConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.accept(1, 2));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            ThrowingConsumer<IOException, ParseException> errorHandler = Spied.throwingConsumer(e -> { });
+
+            ThrowingIntBiConsumer<ParseException> handling = consumer.onErrorHandleChecked(errorHandler);
+
+            handling.accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingConsumer<IOException, ParseException> errorHandler = Spied.throwingConsumer(e -> { });
+
+            ThrowingIntBiConsumer<ParseException> handling = consumer.onErrorHandleChecked(errorHandler);
+
+            handling.accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).accept(any());
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            Consumer<IOException> errorHandler = Spied.consumer(e -> { });
+
+            ThrowingIntBiConsumer<RuntimeException> handling = consumer.onErrorHandleUnchecked(errorHandler);
+
+            handling.accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Consumer<IOException> errorHandler = Spied.consumer(e -> { });
+
+            ThrowingIntBiConsumer<RuntimeException> handling = consumer.onErrorHandleUnchecked(errorHandler);
+
+            handling.accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).accept(any());
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorAcceptChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorAcceptChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            ThrowingIntBiConsumer<ParseException> fallback = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            ThrowingIntBiConsumer<ParseException> fallingBack = consumer.onErrorAcceptChecked(fallback);
+
+            fallingBack.accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorAcceptChecked(fallback);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingIntBiConsumer<ParseException> fallback = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            ThrowingIntBiConsumer<ParseException> fallingBack = consumer.onErrorAcceptChecked(fallback);
+
+            fallingBack.accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorAcceptChecked(fallback);
+            verify(fallback).accept(1, 2);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorAcceptUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorAcceptUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            ThrowingIntBiConsumer<RuntimeException> fallback = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            ThrowingIntBiConsumer<RuntimeException> fallingBack = consumer.onErrorAcceptUnchecked(fallback);
+
+            fallingBack.accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorAcceptUnchecked(fallback);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingIntBiConsumer<RuntimeException> fallback = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            ThrowingIntBiConsumer<RuntimeException> fallingBack = consumer.onErrorAcceptUnchecked(fallback);
+
+            fallingBack.accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorAcceptUnchecked(fallback);
+            verify(fallback).accept(1, 2);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorDiscard {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            ThrowingIntBiConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            discarding.accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingIntBiConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            discarding.accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            ThrowingIntBiConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> discarding.accept(1, 2));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            ThrowingIntBiConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            unchecked.accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingIntBiConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1, 2));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            ThrowingIntBiConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.accept(1, 2));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+
+            ThrowingIntBiConsumer<RuntimeException> sneaky = consumer.sneaky();
+
+            sneaky.accept(1, 2);
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingIntBiConsumer<RuntimeException> sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept(1, 2));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept(1, 2);
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept(1, 2));
+            assertEquals("1,2", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept(1, 2));
+            assertEquals("1,2", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1, 2);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer(ThrowingIntBiConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept(1, 2);
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1, 2);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept(1, 2));
+                assertEquals("1,2", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1, 2);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept(1, 2));
+                assertEquals("1,2", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1, 2);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingIntBiConsumer.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = ThrowingIntBiConsumer.of(ThrowingIntBiConsumerTest::ignore);
+
+            consumer.accept(1, 2);
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingIntBiConsumer.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingIntBiConsumer<RuntimeException> unchecked = ThrowingIntBiConsumer.unchecked(consumer);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1, 2));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+
+            verify(consumer).unchecked();
+            verify(consumer).accept(1, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingIntBiConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = Spied.throwingIntBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingIntBiConsumer<RuntimeException> sneaky = ThrowingIntBiConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept(1, 2));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept(1, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingIntBiConsumer.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = ThrowingIntBiConsumer.checked(ThrowingIntBiConsumerTest::ignore);
+
+            consumer.accept(1, 2);
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingIntBiConsumer<IOException> consumer = ThrowingIntBiConsumer.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t + "," + u));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1, 2));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingIntBiConsumer<RuntimeException> consumer = ThrowingIntBiConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingIntBiConsumer.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingIntBiConsumer.checked(consumer, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingIntBiConsumer<IOException> consumer = ThrowingIntBiConsumer.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t + "," + u));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> consumer.accept(1, 2));
+            assertEquals("1,2", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingIntBiConsumer<IOException> consumer = ThrowingIntBiConsumer.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(t + "," + u, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1, 2));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingIntBiConsumer<IOException> consumer = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingIntBiConsumer<RuntimeException> sneaky = ThrowingIntBiConsumer.sneaky(consumer);
+            ThrowingIntBiConsumer<IOException> checked = ThrowingIntBiConsumer.checked(sneaky);
+            ThrowingIntBiConsumer<IOException> checkedWithErrorType = ThrowingIntBiConsumer.checked(sneaky, IOException.class);
+
+            ThrowingIntBiConsumer<RuntimeException> unchecked = ThrowingIntBiConsumer.unchecked(checked);
+            ThrowingIntBiConsumer<RuntimeException> uncheckedWithErrorType = ThrowingIntBiConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1, 2));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept(1, 2));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingIntBiConsumer<RuntimeException> consumer = ThrowingIntBiConsumerTest::ignore;
+
+            ThrowingIntBiConsumer<IOException> checked = ThrowingIntBiConsumer.checked(consumer);
+
+            assertSame(consumer, ThrowingIntBiConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingIntBiConsumer<IOException> consumer = ThrowingIntBiConsumerTest::ignore;
+
+            ThrowingIntBiConsumer<RuntimeException> sneaky = ThrowingIntBiConsumer.sneaky(consumer);
+
+            assertSame(consumer, ThrowingIntBiConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingIntBiConsumer<IOException> consumer = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingIntBiConsumer<RuntimeException> unchecked = ThrowingIntBiConsumer.unchecked(consumer);
+            ThrowingIntBiConsumer<IOException> checked = ThrowingIntBiConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept(1, 2));
+            assertEquals("1,2", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingIntBiConsumer<IOException> consumer = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingIntBiConsumer<RuntimeException> unchecked = ThrowingIntBiConsumer.unchecked(consumer);
+            ThrowingIntBiConsumer<ParseException> checked = ThrowingIntBiConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept(1, 2));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingIntBiConsumer<RuntimeException> consumer = ThrowingIntBiConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingIntBiConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingIntBiConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntBiConsumer<IOException> consumer = ThrowingIntBiConsumer.catching(ThrowingIntBiConsumerTest::ignore, IOException.class);
+
+            consumer.accept(1, 2);
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingIntBiConsumer<RuntimeException> sneaky = ThrowingIntBiConsumer.sneaky((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingIntBiConsumer<IOException> consumer = ThrowingIntBiConsumer.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> consumer.accept(1, 2));
+            assertEquals("1,2", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingIntBiConsumer<RuntimeException> sneaky = ThrowingIntBiConsumer.sneaky((t, u) -> {
+                throw new ParseException(t + "," + u, 0);
+            });
+
+            ThrowingIntBiConsumer<IOException> consumer = ThrowingIntBiConsumer.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1, 2));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+        }
+    }
+
+    private static void ignore(int t, int u) {
+        // do nothing
+    }
+}
@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -804,7 +806,6 @@ class ThrowingIntBinaryOperatorTest {
 
             verify(operator).applyAsInt(1, 2);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -822,7 +823,6 @@ class ThrowingIntBinaryOperatorTest {
 
             verify(operator).applyAsInt(1, 2);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -838,7 +838,192 @@ class ThrowingIntBinaryOperatorTest {
 
             verify(operator).applyAsInt(1, 2);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntBinaryOperator<IOException> operator = Spied.throwingIntBinaryOperator(Integer::max);
+
+            IntBinaryOperator sneaky = operator.sneaky();
+
+            assertEquals(2, sneaky.applyAsInt(1, 2));
+
+            verify(operator).applyAsInt(1, 2);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntBinaryOperator<IOException> operator = Spied.throwingIntBinaryOperator((i1, i2) -> {
+                throw new IOException(Integer.toString(i1 + i2));
+            });
+
+            IntBinaryOperator sneaky = operator.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsInt(1, 2));
+            assertEquals("3", thrown.getMessage());
+
+            verify(operator).applyAsInt(1, 2);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntBinaryOperator<IOException> operator = Spied.throwingIntBinaryOperator((i1, i2) -> throwable.throwUnchecked(i1 + i2));
+
+            IntBinaryOperator sneaky = operator.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsInt(1, 2));
+            assertEquals("3", thrown.getMessage());
+
+            verify(operator).applyAsInt(1, 2);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntBinaryOperator<IOException> operator = Spied.throwingIntBinaryOperator(Integer::max);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            assertEquals(2, instrumented.applyAsInt(1, 2));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsInt(1, 2);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntBinaryOperator<IOException> operator = Spied.throwingIntBinaryOperator((i1, i2) -> {
+                throw new IOException(Integer.toString(i1 + i2));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsInt(1, 2));
+            assertEquals("3", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsInt(1, 2);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntBinaryOperator<IOException> operator = Spied.throwingIntBinaryOperator((i1, i2) -> throwable.throwUnchecked(i1 + i2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsInt(1, 2));
+            assertEquals("3", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsInt(1, 2);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntBinaryOperator<IOException> operator = Spied.throwingIntBinaryOperator(Integer::max);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(2, instrumented.applyAsInt(1, 2));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsInt(1, 2);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntBinaryOperator<IOException> operator = Spied.throwingIntBinaryOperator((i1, i2) -> {
+                throw new IOException(Integer.toString(i1 + i2));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsInt(1, 2));
+                assertEquals("3", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsInt(1, 2);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntBinaryOperator<IOException> operator = Spied.throwingIntBinaryOperator((i1, i2) -> throwable.throwUnchecked(i1 + i2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsInt(1, 2));
+                assertEquals("3", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsInt(1, 2);
+            verify(operator).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(operator);
         }
     }
@@ -876,7 +1061,6 @@ class ThrowingIntBinaryOperatorTest {
             assertEquals(2, unchecked.applyAsInt(1, 2));
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).applyAsInt(1, 2);
             verifyNoMoreInteractions(operator);
         }
@@ -894,7 +1078,6 @@ class ThrowingIntBinaryOperatorTest {
             assertEquals("3", cause.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).applyAsInt(1, 2);
             verifyNoMoreInteractions(operator);
         }
@@ -910,7 +1093,59 @@ class ThrowingIntBinaryOperatorTest {
             assertEquals("3", thrown.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
+            verify(operator).applyAsInt(1, 2);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntBinaryOperator<IOException> operator = Spied.throwingIntBinaryOperator(Integer::max);
+
+            IntBinaryOperator sneaky = ThrowingIntBinaryOperator.sneaky(operator);
+
+            assertEquals(2, sneaky.applyAsInt(1, 2));
+
+            verify(operator).sneaky();
+            verify(operator).applyAsInt(1, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingIntBinaryOperator<IOException> operator = Spied.throwingIntBinaryOperator((i1, i2) -> {
+                throw new IOException(Integer.toString(i1 + i2));
+            });
+
+            IntBinaryOperator sneaky = ThrowingIntBinaryOperator.sneaky(operator);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsInt(1, 2));
+            assertEquals("3", thrown.getMessage());
+
+            verify(operator).sneaky();
+            verify(operator).applyAsInt(1, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntBinaryOperator<IOException> operator = Spied.throwingIntBinaryOperator((i1, i2) -> throwable.throwUnchecked(i1 + i2));
+
+            IntBinaryOperator sneaky = ThrowingIntBinaryOperator.sneaky(operator);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsInt(1, 2));
+            assertEquals("3", thrown.getMessage());
+
+            verify(operator).sneaky();
             verify(operator).applyAsInt(1, 2);
             verifyNoMoreInteractions(operator);
         }
@@ -1008,4 +1243,158 @@ class ThrowingIntBinaryOperatorTest {
             assertEquals("3", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingIntBinaryOperator<IOException> operator = (left, right) -> {
+                throw new IOException("foo");
+            };
+
+            IntBinaryOperator sneaky = ThrowingIntBinaryOperator.sneaky(operator);
+            ThrowingIntBinaryOperator<IOException> checked = ThrowingIntBinaryOperator.checked(sneaky);
+            ThrowingIntBinaryOperator<IOException> checkedWithErrorType = ThrowingIntBinaryOperator.checked(sneaky, IOException.class);
+
+            IntBinaryOperator unchecked = ThrowingIntBinaryOperator.unchecked(checked);
+            IntBinaryOperator uncheckedWithErrorType = ThrowingIntBinaryOperator.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsInt(1, 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsInt(1, 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            IntBinaryOperator operator = (left, right) -> 1;
+
+            ThrowingIntBinaryOperator<IOException> checked = ThrowingIntBinaryOperator.checked(operator);
+
+            assertSame(operator, ThrowingIntBinaryOperator.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingIntBinaryOperator<IOException> operator = (left, right) -> 1;
+
+            IntBinaryOperator sneaky = ThrowingIntBinaryOperator.sneaky(operator);
+
+            assertSame(operator, ThrowingIntBinaryOperator.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingIntBinaryOperator<IOException> operator = (left, right) -> {
+                throw new IOException("foo");
+            };
+
+            IntBinaryOperator unchecked = ThrowingIntBinaryOperator.unchecked(operator);
+            ThrowingIntBinaryOperator<IOException> checked = ThrowingIntBinaryOperator.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsInt(1, 1));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingIntBinaryOperator<IOException> operator = (left, right) -> {
+                throw new IOException("foo");
+            };
+
+            IntBinaryOperator unchecked = ThrowingIntBinaryOperator.unchecked(operator);
+            ThrowingIntBinaryOperator<ParseException> checked = ThrowingIntBinaryOperator.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsInt(1, 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingIntBinaryOperator<IOException> operator = (left, right) -> {
+                throw new IOException("foo");
+            };
+
+            IntBinaryOperator unchecked = ThrowingIntBinaryOperator.unchecked(operator);
+            ThrowingIntBinaryOperator<IOException> checked = ThrowingIntBinaryOperator.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsInt(1, 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            IntBinaryOperator operator = Integer::max;
+
+            assertThrows(NullPointerException.class, () -> ThrowingIntBinaryOperator.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingIntBinaryOperator.catching(operator, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntBinaryOperator<IOException> operator = ThrowingIntBinaryOperator.catching(Integer::max, IOException.class);
+
+            assertEquals(2, operator.applyAsInt(1, 2));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                IntBinaryOperator sneaky = ThrowingIntBinaryOperator.sneaky((i1, i2) -> {
+                    throw new IOException(Integer.toString(i1 + i2));
+                });
+
+                ThrowingIntBinaryOperator<IOException> operator = ThrowingIntBinaryOperator.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> operator.applyAsInt(1, 2));
+                assertEquals("3", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                IntBinaryOperator sneaky = ThrowingIntBinaryOperator.sneaky((i1, i2) -> {
+                    throw new FileNotFoundException(Integer.toString(i1 + i2));
+                });
+
+                ThrowingIntBinaryOperator<IOException> operator = ThrowingIntBinaryOperator.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> operator.applyAsInt(1, 2));
+                assertEquals("3", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                IntBinaryOperator sneaky = ThrowingIntBinaryOperator.sneaky((i1, i2) -> {
+                    throw new ParseException(Integer.toString(i1 + i2), 0);
+                });
+
+                ThrowingIntBinaryOperator<IOException> operator = ThrowingIntBinaryOperator.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsInt(1, 2));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("3", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingIntBinaryOperator<IOException> operator = ThrowingIntBinaryOperator.catching((i1, i2) -> {
+                throw new IllegalStateException(Integer.toString(i1 + i2));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> operator.applyAsInt(1, 2));
+            assertEquals("3", thrown.getMessage());
+        }
+    }
 }
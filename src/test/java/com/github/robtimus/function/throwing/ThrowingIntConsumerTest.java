@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -705,7 +707,6 @@ class ThrowingIntConsumerTest {
 
             verify(consumer).accept(1);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -723,7 +724,6 @@ class ThrowingIntConsumerTest {
 
             verify(consumer).accept(1);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -739,7 +739,192 @@ class ThrowingIntConsumerTest {
 
             verify(consumer).accept(1);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntConsumer<IOException> consumer = Spied.throwingIntConsumer(Integer::toString);
+
+            IntConsumer sneaky = consumer.sneaky();
+
+            sneaky.accept(1);
+
+            verify(consumer).accept(1);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntConsumer<IOException> consumer = Spied.throwingIntConsumer(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            IntConsumer sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept(1);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntConsumer<IOException> consumer = Spied.throwingIntConsumer(throwable::throwUnchecked);
+
+            IntConsumer sneaky = consumer.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept(1);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntConsumer<IOException> consumer = Spied.throwingIntConsumer(Integer::toString);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept(1);
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntConsumer<IOException> consumer = Spied.throwingIntConsumer(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept(1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntConsumer<IOException> consumer = Spied.throwingIntConsumer(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept(1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntConsumer<IOException> consumer = Spied.throwingIntConsumer(Integer::toString);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept(1);
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntConsumer<IOException> consumer = Spied.throwingIntConsumer(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntConsumer<IOException> consumer = Spied.throwingIntConsumer(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1);
+            verify(consumer).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(consumer);
         }
     }
@@ -782,7 +967,6 @@ class ThrowingIntConsumerTest {
             unchecked.accept(1);
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept(1);
             verifyNoMoreInteractions(consumer);
         }
@@ -800,7 +984,6 @@ class ThrowingIntConsumerTest {
             assertEquals("1", cause.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept(1);
             verifyNoMoreInteractions(consumer);
         }
@@ -816,7 +999,59 @@ class ThrowingIntConsumerTest {
             assertEquals("1", thrown.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verify(consumer).accept(1);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingIntConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntConsumer<IOException> consumer = Spied.throwingIntConsumer(Integer::toString);
+
+            IntConsumer sneaky = ThrowingIntConsumer.sneaky(consumer);
+
+            sneaky.accept(1);
+
+            verify(consumer).sneaky();
+            verify(consumer).accept(1);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingIntConsumer<IOException> consumer = Spied.throwingIntConsumer(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            IntConsumer sneaky = ThrowingIntConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept(1);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntConsumer<IOException> consumer = Spied.throwingIntConsumer(throwable::throwUnchecked);
+
+            IntConsumer sneaky = ThrowingIntConsumer.sneaky(consumer);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).sneaky();
             verify(consumer).accept(1);
             verifyNoMoreInteractions(consumer);
         }
@@ -924,4 +1159,163 @@ class ThrowingIntConsumerTest {
             assertEquals("1", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingIntConsumer<IOException> operation = value -> {
+                throw new IOException("foo");
+            };
+
+            IntConsumer sneaky = ThrowingIntConsumer.sneaky(operation);
+            ThrowingIntConsumer<IOException> checked = ThrowingIntConsumer.checked(sneaky);
+            ThrowingIntConsumer<IOException> checkedWithErrorType = ThrowingIntConsumer.checked(sneaky, IOException.class);
+
+            IntConsumer unchecked = ThrowingIntConsumer.unchecked(checked);
+            IntConsumer uncheckedWithErrorType = ThrowingIntConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept(1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            IntConsumer operation = value -> { /* do nothing */ };
+
+            ThrowingIntConsumer<IOException> checked = ThrowingIntConsumer.checked(operation);
+
+            assertSame(operation, ThrowingIntConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingIntConsumer<IOException> operation = value -> { /* do nothing */ };
+
+            IntConsumer sneaky = ThrowingIntConsumer.sneaky(operation);
+
+            assertSame(operation, ThrowingIntConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingIntConsumer<IOException> operation = value -> {
+                throw new IOException("foo");
+            };
+
+            IntConsumer unchecked = ThrowingIntConsumer.unchecked(operation);
+            ThrowingIntConsumer<IOException> checked = ThrowingIntConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept(1));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingIntConsumer<IOException> operation = value -> {
+                throw new IOException("foo");
+            };
+
+            IntConsumer unchecked = ThrowingIntConsumer.unchecked(operation);
+            ThrowingIntConsumer<ParseException> checked = ThrowingIntConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept(1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingIntConsumer<IOException> operation = value -> {
+                throw new IOException("foo");
+            };
+
+            IntConsumer unchecked = ThrowingIntConsumer.unchecked(operation);
+            ThrowingIntConsumer<IOException> checked = ThrowingIntConsumer.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept(1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            IntConsumer consumer = Integer::toString;
+
+            assertThrows(NullPointerException.class, () -> ThrowingIntConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingIntConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            IntConsumer delegate = Spied.intConsumer(Integer::toString);
+
+            ThrowingIntConsumer<IOException> consumer = ThrowingIntConsumer.catching(delegate, IOException.class);
+
+            consumer.accept(1);
+
+            verify(delegate).accept(1);
+            verifyNoMoreInteractions(delegate);
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                IntConsumer sneaky = ThrowingIntConsumer.sneaky(i -> {
+                    throw new IOException(Integer.toString(i));
+                });
+
+                ThrowingIntConsumer<IOException> consumer = ThrowingIntConsumer.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> consumer.accept(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                IntConsumer sneaky = ThrowingIntConsumer.sneaky(i -> {
+                    throw new FileNotFoundException(Integer.toString(i));
+                });
+
+                ThrowingIntConsumer<IOException> consumer = ThrowingIntConsumer.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> consumer.accept(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                IntConsumer sneaky = ThrowingIntConsumer.sneaky(i -> {
+                    throw new ParseException(Integer.toString(i), 0);
+                });
+
+                ThrowingIntConsumer<IOException> consumer = ThrowingIntConsumer.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingIntConsumer<IOException> consumer = ThrowingIntConsumer.catching(i -> {
+                throw new IllegalStateException(Integer.toString(i));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> consumer.accept(1));
+            assertEquals("1", thrown.getMessage());
+        }
+    }
 }
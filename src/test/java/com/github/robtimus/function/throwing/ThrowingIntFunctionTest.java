@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
@@ -803,7 +806,6 @@ class ThrowingIntFunctionTest {
 
             verify(function).apply(1);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -821,7 +823,6 @@ class ThrowingIntFunctionTest {
 
             verify(function).apply(1);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -837,11 +838,374 @@ class ThrowingIntFunctionTest {
 
             verify(function).apply(1);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(Integer::toString);
+
+            IntFunction<String> sneaky = function.sneaky();
+
+            assertEquals("1", sneaky.apply(1));
+
+            verify(function).apply(1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            IntFunction<String> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).apply(1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(throwable::throwUnchecked);
+
+            IntFunction<String> sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.apply(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).apply(1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(Integer::toString);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals("1", instrumented.apply(1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply(1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply(1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(Integer::toString);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("1", instrumented.apply(1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(Integer::toString);
+
+            ThrowingIntFunction<String, IOException> memoized = function.memoize();
+
+            assertEquals("1", memoized.apply(1));
+            assertEquals("2", memoized.apply(2));
+            assertEquals("1", memoized.apply(1));
+            assertEquals("2", memoized.apply(2));
+
+            verify(function).apply(1);
+            verify(function).apply(2);
+            verify(function).memoize();
+            verify(function).memoizeDense(0);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(i -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingIntFunction<String, IOException> memoized = function.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.apply(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.apply(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).apply(1);
+            verify(function).memoize();
+            verify(function).memoizeDense(0);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(i -> throwable.throwUnchecked("foo"));
+
+            ThrowingIntFunction<String, IOException> memoized = function.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.apply(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.apply(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).apply(1);
+            verify(function).memoize();
+            verify(function).memoizeDense(0);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testNullResult() throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(i -> null);
+
+            ThrowingIntFunction<String, IOException> memoized = function.memoize();
+
+            assertNull(memoized.apply(1));
+            assertNull(memoized.apply(1));
+
+            verify(function).apply(1);
+            verify(function).memoize();
+            verify(function).memoizeDense(0);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingIntFunction<String, IOException> function = i -> {
+                counter.incrementAndGet();
+                return String.valueOf(i);
+            };
+
+            ThrowingIntFunction<String, IOException> memoized = function.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(String.valueOf(i), memoized.apply(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(String.valueOf(i), memoized.apply(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
+    @Nested
+    class MemoizeDense {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(Integer::toString);
+
+            ThrowingIntFunction<String, IOException> memoized = function.memoizeDense(10);
+
+            assertEquals("1", memoized.apply(1));
+            assertEquals("2", memoized.apply(2));
+            assertEquals("1", memoized.apply(1));
+            assertEquals("2", memoized.apply(2));
+
+            verify(function).apply(1);
+            verify(function).apply(2);
+            verify(function).memoizeDense(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testInputsOutsideDenseRange() throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(Integer::toString);
+
+            ThrowingIntFunction<String, IOException> memoized = function.memoizeDense(10);
+
+            assertEquals("-1", memoized.apply(-1));
+            assertEquals("100", memoized.apply(100));
+            assertEquals("-1", memoized.apply(-1));
+            assertEquals("100", memoized.apply(100));
+
+            verify(function).apply(-1);
+            verify(function).apply(100);
+            verify(function).memoizeDense(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(i -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingIntFunction<String, IOException> memoized = function.memoizeDense(10);
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.apply(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.apply(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).apply(1);
+            verify(function).memoizeDense(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(i -> throwable.throwUnchecked("foo"));
+
+            ThrowingIntFunction<String, IOException> memoized = function.memoizeDense(10);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.apply(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.apply(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).apply(1);
+            verify(function).memoizeDense(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testNegativeDenseSize() {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(Integer::toString);
+
+            assertThrows(IllegalArgumentException.class, () -> function.memoizeDense(-1));
+        }
+    }
+
     @Nested
     class Of {
 
@@ -875,7 +1239,6 @@ class ThrowingIntFunctionTest {
             assertEquals("1", unchecked.apply(1));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).apply(1);
             verifyNoMoreInteractions(function);
         }
@@ -893,7 +1256,6 @@ class ThrowingIntFunctionTest {
             assertEquals("1", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).apply(1);
             verifyNoMoreInteractions(function);
         }
@@ -909,7 +1271,59 @@ class ThrowingIntFunctionTest {
             assertEquals("1", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).apply(1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingIntFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(Integer::toString);
+
+            IntFunction<String> sneaky = ThrowingIntFunction.sneaky(function);
+
+            assertEquals("1", sneaky.apply(1));
+
+            verify(function).sneaky();
+            verify(function).apply(1);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            IntFunction<String> sneaky = ThrowingIntFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply(1);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntFunction<String, IOException> function = Spied.throwingIntFunction(throwable::throwUnchecked);
+
+            IntFunction<String> sneaky = ThrowingIntFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.apply(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).apply(1);
             verifyNoMoreInteractions(function);
         }
@@ -1007,4 +1421,158 @@ class ThrowingIntFunctionTest {
             assertEquals("1", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingIntFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            IntFunction<String> sneaky = ThrowingIntFunction.sneaky(function);
+            ThrowingIntFunction<String, IOException> checked = ThrowingIntFunction.checked(sneaky);
+            ThrowingIntFunction<String, IOException> checkedWithErrorType = ThrowingIntFunction.checked(sneaky, IOException.class);
+
+            IntFunction<String> unchecked = ThrowingIntFunction.unchecked(checked);
+            IntFunction<String> uncheckedWithErrorType = ThrowingIntFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply(1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply(1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            IntFunction<String> function = value -> "foo";
+
+            ThrowingIntFunction<String, IOException> checked = ThrowingIntFunction.checked(function);
+
+            assertSame(function, ThrowingIntFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingIntFunction<String, IOException> function = value -> "foo";
+
+            IntFunction<String> sneaky = ThrowingIntFunction.sneaky(function);
+
+            assertSame(function, ThrowingIntFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingIntFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            IntFunction<String> unchecked = ThrowingIntFunction.unchecked(function);
+            ThrowingIntFunction<String, IOException> checked = ThrowingIntFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply(1));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingIntFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            IntFunction<String> unchecked = ThrowingIntFunction.unchecked(function);
+            ThrowingIntFunction<String, ParseException> checked = ThrowingIntFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply(1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingIntFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            IntFunction<String> unchecked = ThrowingIntFunction.unchecked(function);
+            ThrowingIntFunction<String, IOException> checked = ThrowingIntFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply(1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            IntFunction<String> function = Integer::toString;
+
+            assertThrows(NullPointerException.class, () -> ThrowingIntFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingIntFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntFunction<String, IOException> function = ThrowingIntFunction.catching(Integer::toString, IOException.class);
+
+            assertEquals("1", function.apply(1));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                IntFunction<String> sneaky = ThrowingIntFunction.sneaky(i -> {
+                    throw new IOException(Integer.toString(i));
+                });
+
+                ThrowingIntFunction<String, IOException> function = ThrowingIntFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.apply(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                IntFunction<String> sneaky = ThrowingIntFunction.sneaky(i -> {
+                    throw new FileNotFoundException(Integer.toString(i));
+                });
+
+                ThrowingIntFunction<String, IOException> function = ThrowingIntFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.apply(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                IntFunction<String> sneaky = ThrowingIntFunction.sneaky(i -> {
+                    throw new ParseException(Integer.toString(i), 0);
+                });
+
+                ThrowingIntFunction<String, IOException> function = ThrowingIntFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply(1));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingIntFunction<String, IOException> function = ThrowingIntFunction.catching(i -> {
+                throw new IllegalStateException(Integer.toString(i));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.apply(1));
+            assertEquals("1", thrown.getMessage());
+        }
+    }
 }
@@ -21,15 +21,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
@@ -1298,7 +1301,6 @@ class ThrowingIntPredicateTest {
 
             verify(predicate).test(1);
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(predicate);
         }
 
@@ -1316,7 +1318,6 @@ class ThrowingIntPredicateTest {
 
             verify(predicate).test(1);
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(predicate);
         }
 
@@ -1332,11 +1333,359 @@ class ThrowingIntPredicateTest {
 
             verify(predicate).test(1);
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(predicate);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> i % 2 != 0);
+
+            IntPredicate sneaky = predicate.sneaky();
+
+            assertTrue(sneaky.test(1));
+
+            verify(predicate).test(1);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            IntPredicate sneaky = predicate.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).test(1);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(throwable::throwUnchecked);
+
+            IntPredicate sneaky = predicate.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.test(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).test(1);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> i % 2 != 0);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            assertTrue(instrumented.test(1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.test(1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test(1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> i % 2 != 0);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertTrue(instrumented.test(1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.test(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> i % 2 != 0);
+
+            ThrowingIntPredicate<IOException> memoized = predicate.memoize();
+
+            assertTrue(memoized.test(1));
+            assertFalse(memoized.test(2));
+            assertTrue(memoized.test(1));
+            assertFalse(memoized.test(2));
+
+            verify(predicate).test(1);
+            verify(predicate).test(2);
+            verify(predicate).memoize();
+            verify(predicate).memoizeDense(0);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingIntPredicate<IOException> memoized = predicate.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.test(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.test(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(predicate, times(2)).test(1);
+            verify(predicate).memoize();
+            verify(predicate).memoizeDense(0);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> throwable.throwUnchecked("foo"));
+
+            ThrowingIntPredicate<IOException> memoized = predicate.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.test(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.test(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(predicate, times(2)).test(1);
+            verify(predicate).memoize();
+            verify(predicate).memoizeDense(0);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingIntPredicate<IOException> predicate = i -> {
+                counter.incrementAndGet();
+                return i % 2 != 0;
+            };
+
+            ThrowingIntPredicate<IOException> memoized = predicate.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i % 2 != 0, memoized.test(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i % 2 != 0, memoized.test(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
+    @Nested
+    class MemoizeDense {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> i % 2 != 0);
+
+            ThrowingIntPredicate<IOException> memoized = predicate.memoizeDense(10);
+
+            assertTrue(memoized.test(1));
+            assertFalse(memoized.test(2));
+            assertTrue(memoized.test(1));
+            assertFalse(memoized.test(2));
+
+            verify(predicate).test(1);
+            verify(predicate).test(2);
+            verify(predicate).memoizeDense(10);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testInputsOutsideDenseRange() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> i % 2 != 0);
+
+            ThrowingIntPredicate<IOException> memoized = predicate.memoizeDense(10);
+
+            assertTrue(memoized.test(-1));
+            assertFalse(memoized.test(100));
+            assertTrue(memoized.test(-1));
+            assertFalse(memoized.test(100));
+
+            verify(predicate).test(-1);
+            verify(predicate).test(100);
+            verify(predicate).memoizeDense(10);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingIntPredicate<IOException> memoized = predicate.memoizeDense(10);
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.test(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.test(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(predicate, times(2)).test(1);
+            verify(predicate).memoizeDense(10);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> throwable.throwUnchecked("foo"));
+
+            ThrowingIntPredicate<IOException> memoized = predicate.memoizeDense(10);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.test(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.test(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(predicate, times(2)).test(1);
+            verify(predicate).memoizeDense(10);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testNegativeDenseSize() {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> i % 2 != 0);
+
+            assertThrows(IllegalArgumentException.class, () -> predicate.memoizeDense(-1));
+        }
+    }
+
     @Nested
     class Of {
 
@@ -1425,7 +1774,6 @@ class ThrowingIntPredicateTest {
             assertTrue(unchecked.test(1));
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verify(predicate).test(1);
             verifyNoMoreInteractions(predicate);
         }
@@ -1443,7 +1791,6 @@ class ThrowingIntPredicateTest {
             assertEquals("1", cause.getMessage());
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verify(predicate).test(1);
             verifyNoMoreInteractions(predicate);
         }
@@ -1459,7 +1806,59 @@ class ThrowingIntPredicateTest {
             assertEquals("1", thrown.getMessage());
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
+            verify(predicate).test(1);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingIntPredicate.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> i % 2 != 0);
+
+            IntPredicate sneaky = ThrowingIntPredicate.sneaky(predicate);
+
+            assertTrue(sneaky.test(1));
+
+            verify(predicate).sneaky();
+            verify(predicate).test(1);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            IntPredicate sneaky = ThrowingIntPredicate.sneaky(predicate);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).sneaky();
+            verify(predicate).test(1);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(throwable::throwUnchecked);
+
+            IntPredicate sneaky = ThrowingIntPredicate.sneaky(predicate);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.test(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).sneaky();
             verify(predicate).test(1);
             verifyNoMoreInteractions(predicate);
         }
@@ -1557,4 +1956,158 @@ class ThrowingIntPredicateTest {
             assertEquals("1", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingIntPredicate<IOException> predicate = value -> {
+                throw new IOException("foo");
+            };
+
+            IntPredicate sneaky = ThrowingIntPredicate.sneaky(predicate);
+            ThrowingIntPredicate<IOException> checked = ThrowingIntPredicate.checked(sneaky);
+            ThrowingIntPredicate<IOException> checkedWithErrorType = ThrowingIntPredicate.checked(sneaky, IOException.class);
+
+            IntPredicate unchecked = ThrowingIntPredicate.unchecked(checked);
+            IntPredicate uncheckedWithErrorType = ThrowingIntPredicate.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test(1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.test(1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            IntPredicate predicate = value -> true;
+
+            ThrowingIntPredicate<IOException> checked = ThrowingIntPredicate.checked(predicate);
+
+            assertSame(predicate, ThrowingIntPredicate.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingIntPredicate<IOException> predicate = value -> true;
+
+            IntPredicate sneaky = ThrowingIntPredicate.sneaky(predicate);
+
+            assertSame(predicate, ThrowingIntPredicate.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingIntPredicate<IOException> predicate = value -> {
+                throw new IOException("foo");
+            };
+
+            IntPredicate unchecked = ThrowingIntPredicate.unchecked(predicate);
+            ThrowingIntPredicate<IOException> checked = ThrowingIntPredicate.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.test(1));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingIntPredicate<IOException> predicate = value -> {
+                throw new IOException("foo");
+            };
+
+            IntPredicate unchecked = ThrowingIntPredicate.unchecked(predicate);
+            ThrowingIntPredicate<ParseException> checked = ThrowingIntPredicate.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test(1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingIntPredicate<IOException> predicate = value -> {
+                throw new IOException("foo");
+            };
+
+            IntPredicate unchecked = ThrowingIntPredicate.unchecked(predicate);
+            ThrowingIntPredicate<IOException> checked = ThrowingIntPredicate.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test(1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            IntPredicate predicate = i -> i % 2 != 0;
+
+            assertThrows(NullPointerException.class, () -> ThrowingIntPredicate.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingIntPredicate.catching(predicate, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = ThrowingIntPredicate.catching(i -> i % 2 != 0, IOException.class);
+
+            assertTrue(predicate.test(1));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                IntPredicate sneaky = ThrowingIntPredicate.sneaky(i -> {
+                    throw new IOException(Integer.toString(i));
+                });
+
+                ThrowingIntPredicate<IOException> predicate = ThrowingIntPredicate.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> predicate.test(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                IntPredicate sneaky = ThrowingIntPredicate.sneaky(i -> {
+                    throw new FileNotFoundException(Integer.toString(i));
+                });
+
+                ThrowingIntPredicate<IOException> predicate = ThrowingIntPredicate.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> predicate.test(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                IntPredicate sneaky = ThrowingIntPredicate.sneaky(i -> {
+                    throw new ParseException(Integer.toString(i), 0);
+                });
+
+                ThrowingIntPredicate<IOException> predicate = ThrowingIntPredicate.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test(1));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingIntPredicate<IOException> predicate = ThrowingIntPredicate.catching(i -> {
+                throw new IllegalStateException(Integer.toString(i));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> predicate.test(1));
+            assertEquals("1", thrown.getMessage());
+        }
+    }
 }
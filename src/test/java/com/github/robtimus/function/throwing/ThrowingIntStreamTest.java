@@ -0,0 +1,292 @@
+/*
+ * ThrowingIntStreamTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingIntStreamTest {
+
+    @Nested
+    class Filter {
+
+        @Test
+        void testPredicateThrowsNothing() throws IOException {
+            ThrowingIntPredicate<IOException> predicate = Spied.throwingIntPredicate(i -> i > 1);
+
+            assertArrayEquals(new int[] { 2, 3 }, stream(1, 2, 3).filter(predicate).toArray());
+
+            verify(predicate).test(1);
+            verify(predicate).test(2);
+            verify(predicate).test(3);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testPredicateThrowsChecked() {
+            IOException exception = new IOException("2");
+            ThrowingIntPredicate<IOException> predicate = i -> {
+                if (i == 2) {
+                    throw exception;
+                }
+                return true;
+            };
+
+            ThrowingIntStream<IOException> stream = stream(1, 2, 3).filter(predicate);
+
+            IOException thrown = assertThrows(IOException.class, stream::toArray);
+            assertSame(exception, thrown);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testPredicateThrowsUnchecked(UncheckedThrowable<?> throwable) {
+            ThrowingIntPredicate<IOException> predicate = throwable::throwUnchecked;
+
+            ThrowingIntStream<IOException> stream = stream(1).filter(predicate);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), stream::count);
+            assertEquals("1", thrown.getMessage());
+        }
+    }
+
+    @Nested
+    class Map {
+
+        @Test
+        void testMapperThrowsNothing() throws IOException {
+            ThrowingIntUnaryOperator<IOException> mapper = Spied.throwingIntUnaryOperator(i -> i * 2);
+
+            assertArrayEquals(new int[] { 2, 4 }, stream(1, 2).map(mapper).toArray());
+
+            verify(mapper).applyAsInt(1);
+            verify(mapper).applyAsInt(2);
+            verifyNoMoreInteractions(mapper);
+        }
+
+        @Test
+        void testMapperThrowsChecked() {
+            IOException exception = new IOException("1");
+            ThrowingIntUnaryOperator<IOException> mapper = i -> {
+                throw exception;
+            };
+
+            ThrowingIntStream<IOException> stream = stream(1, 2).map(mapper);
+
+            IOException thrown = assertThrows(IOException.class, stream::sum);
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        void testMapToObj() throws IOException {
+            assertEquals(List.of("1", "2"), stream(1, 2).mapToObj(Integer::toString).toList());
+        }
+
+        @Test
+        void testMapToLong() throws IOException {
+            assertArrayEquals(new long[] { 1L, 2L }, stream(1, 2).mapToLong(i -> (long) i).toArray());
+        }
+
+        @Test
+        void testMapToDouble() throws IOException {
+            assertArrayEquals(new double[] { 1.0, 2.0 }, stream(1, 2).mapToDouble(i -> (double) i).toArray());
+        }
+
+        @Test
+        void testAsLongStream() throws IOException {
+            assertArrayEquals(new long[] { 1L, 2L }, stream(1, 2).asLongStream().toArray());
+        }
+
+        @Test
+        void testAsDoubleStream() throws IOException {
+            assertArrayEquals(new double[] { 1.0, 2.0 }, stream(1, 2).asDoubleStream().toArray());
+        }
+
+        @Test
+        void testFlatMap() throws IOException {
+            assertArrayEquals(new int[] { 1, 1, 2, 2 }, stream(1, 2).flatMap(i -> IntStream.of(i, i)).toArray());
+        }
+
+        @Test
+        void testBoxed() throws IOException {
+            assertEquals(List.of(1, 2), stream(1, 2).boxed().toList());
+        }
+    }
+
+    @Nested
+    class Peek {
+
+        @Test
+        void testActionThrowsChecked() {
+            IOException exception = new IOException("1");
+            ThrowingIntConsumer<IOException> action = i -> {
+                throw exception;
+            };
+
+            ThrowingIntStream<IOException> stream = stream(1, 2).peek(action);
+
+            IOException thrown = assertThrows(IOException.class, stream::count);
+            assertSame(exception, thrown);
+        }
+    }
+
+    @Nested
+    class StatefulOperations {
+
+        @Test
+        void testDistinctAndSorted() throws IOException {
+            assertArrayEquals(new int[] { 1, 2, 3 }, stream(3, 1, 3, 2).distinct().sorted().toArray());
+        }
+
+        @Test
+        void testLimitAndSkip() throws IOException {
+            assertArrayEquals(new int[] { 2, 3 }, stream(1, 2, 3, 4).skip(1).limit(2).toArray());
+        }
+
+        @Test
+        void testTakeWhileAndDropWhile() throws IOException {
+            assertArrayEquals(new int[] { 1 }, stream(1, 2, 1).takeWhile(i -> i < 2).toArray());
+            assertArrayEquals(new int[] { 2, 1 }, stream(1, 2, 1).dropWhile(i -> i < 2).toArray());
+        }
+    }
+
+    @Nested
+    class TerminalOperations {
+
+        @Test
+        void testForEach() throws IOException {
+            List<Integer> result = new ArrayList<>();
+
+            stream(1, 2).forEach(result::add);
+            stream(3, 4).parallel().forEachOrdered(result::add);
+
+            assertEquals(List.of(1, 2, 3, 4), result);
+        }
+
+        @Test
+        void testForEachThrowsChecked() {
+            IOException exception = new IOException("1");
+            ThrowingIntConsumer<IOException> action = i -> {
+                throw exception;
+            };
+
+            ThrowingIntStream<IOException> stream = stream(1, 2);
+
+            IOException thrown = assertThrows(IOException.class, () -> stream.forEach(action));
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        void testReduce() throws IOException {
+            assertEquals(3, stream(1, 2).reduce(0, (i1, i2) -> i1 + i2));
+            assertEquals(OptionalInt.of(3), stream(1, 2).reduce((i1, i2) -> i1 + i2));
+        }
+
+        @Test
+        void testReduceThrowsChecked() {
+            IOException exception = new IOException("1");
+            ThrowingIntBinaryOperator<IOException> accumulator = (i1, i2) -> {
+                throw exception;
+            };
+
+            ThrowingIntStream<IOException> stream = stream(1, 2);
+
+            IOException thrown = assertThrows(IOException.class, () -> stream.reduce(0, accumulator));
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        void testCollect() throws IOException {
+            ThrowingSupplier<List<Integer>, IOException> supplier = ArrayList::new;
+            ThrowingObjIntConsumer<List<Integer>, IOException> accumulator = List::add;
+            ThrowingBiConsumer<List<Integer>, List<Integer>, IOException> combiner = List::addAll;
+
+            assertEquals(List.of(1, 2), stream(1, 2).collect(supplier, accumulator, combiner));
+        }
+
+        @Test
+        void testStatistics() throws IOException {
+            assertEquals(4, stream(1, 3).sum());
+            assertEquals(OptionalInt.of(1), stream(1, 3).min());
+            assertEquals(OptionalInt.of(3), stream(1, 3).max());
+            assertEquals(2, stream(1, 3).count());
+            assertEquals(2.0, stream(1, 3).average().getAsDouble());
+            assertEquals(4, stream(1, 3).summaryStatistics().getSum());
+        }
+
+        @Test
+        void testMatch() throws IOException {
+            assertTrue(stream(1, 2).anyMatch(i -> i > 1));
+            assertFalse(stream(1, 2).allMatch(i -> i > 1));
+            assertFalse(stream(1, 2).noneMatch(i -> i > 1));
+        }
+
+        @Test
+        void testFind() throws IOException {
+            assertEquals(OptionalInt.of(1), stream(1, 2).findFirst());
+            assertTrue(stream(1, 2).findAny().isPresent());
+        }
+    }
+
+    @Nested
+    class Close {
+
+        @Test
+        void testOnClose() {
+            AtomicBoolean closed = new AtomicBoolean();
+
+            try (ThrowingIntStream<IOException> stream = stream(1).onClose(() -> closed.set(true))) {
+                assertFalse(closed.get());
+            }
+
+            assertTrue(closed.get());
+        }
+
+        @Test
+        void testParallel() {
+            assertTrue(stream(1).parallel().isParallel());
+            assertFalse(stream(1).parallel().sequential().unordered().isParallel());
+        }
+    }
+
+    @Test
+    void testOfNull() {
+        assertThrows(NullPointerException.class, () -> ThrowingIntStream.of(null));
+    }
+
+    private static ThrowingIntStream<IOException> stream(int... values) {
+        return ThrowingIntStream.of(IntStream.of(values));
+    }
+}
@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.IntSupplier;
 import java.util.function.ToIntFunction;
@@ -611,7 +614,6 @@ class ThrowingIntSupplierTest {
 
             verify(supplier).getAsInt();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
 
@@ -629,7 +631,6 @@ class ThrowingIntSupplierTest {
 
             verify(supplier).getAsInt();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
 
@@ -645,11 +646,283 @@ class ThrowingIntSupplierTest {
 
             verify(supplier).getAsInt();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> 1);
+
+            IntSupplier sneaky = supplier.sneaky();
+
+            assertEquals(1, sneaky.getAsInt());
+
+            verify(supplier).getAsInt();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            IntSupplier sneaky = supplier.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, sneaky::getAsInt);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsInt();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> throwable.throwUnchecked("foo"));
+
+            IntSupplier sneaky = supplier.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), sneaky::getAsInt);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsInt();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            assertEquals(1, instrumented.getAsInt());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsInt();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, instrumented::getAsInt);
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsInt();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), instrumented::getAsInt);
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsInt();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(1, instrumented.getAsInt());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsInt();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, instrumented::getAsInt);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsInt();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), instrumented::getAsInt);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsInt();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> 1);
+
+            ThrowingIntSupplier<IOException> memoized = supplier.memoize();
+
+            assertEquals(1, memoized.getAsInt());
+            assertEquals(1, memoized.getAsInt());
+
+            verify(supplier).getAsInt();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingIntSupplier<IOException> memoized = supplier.memoize();
+
+            IOException thrown = assertThrows(IOException.class, memoized::getAsInt);
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, memoized::getAsInt);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier, times(2)).getAsInt();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> throwable.throwUnchecked("foo"));
+
+            ThrowingIntSupplier<IOException> memoized = supplier.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), memoized::getAsInt);
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), memoized::getAsInt);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier, times(2)).getAsInt();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsCheckedOnce() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> {
+                if (counter.getAndIncrement() == 0) {
+                    throw new IOException("foo");
+                }
+                return 1;
+            });
+
+            ThrowingIntSupplier<IOException> memoized = supplier.memoize();
+
+            IOException thrown = assertThrows(IOException.class, memoized::getAsInt);
+            assertEquals("foo", thrown.getMessage());
+
+            assertEquals(1, memoized.getAsInt());
+            assertEquals(1, memoized.getAsInt());
+
+            verify(supplier, times(2)).getAsInt();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testMemoizeMemoized() {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> 1);
+
+            ThrowingIntSupplier<IOException> memoized = supplier.memoize();
+
+            assertSame(memoized, memoized.memoize());
+        }
+    }
+
     @Nested
     class Of {
 
@@ -683,7 +956,6 @@ class ThrowingIntSupplierTest {
             assertEquals(1, unchecked.getAsInt());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verify(supplier).getAsInt();
             verifyNoMoreInteractions(supplier);
         }
@@ -701,7 +973,6 @@ class ThrowingIntSupplierTest {
             assertEquals("foo", cause.getMessage());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verify(supplier).getAsInt();
             verifyNoMoreInteractions(supplier);
         }
@@ -717,7 +988,59 @@ class ThrowingIntSupplierTest {
             assertEquals("foo", thrown.getMessage());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
+            verify(supplier).getAsInt();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingIntSupplier.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> 1);
+
+            IntSupplier sneaky = ThrowingIntSupplier.sneaky(supplier);
+
+            assertEquals(1, sneaky.getAsInt());
+
+            verify(supplier).sneaky();
+            verify(supplier).getAsInt();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            IntSupplier sneaky = ThrowingIntSupplier.sneaky(supplier);
+
+            IOException thrown = assertThrows(IOException.class, sneaky::getAsInt);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).sneaky();
+            verify(supplier).getAsInt();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntSupplier<IOException> supplier = Spied.throwingIntSupplier(() -> throwable.throwUnchecked("foo"));
+
+            IntSupplier sneaky = ThrowingIntSupplier.sneaky(supplier);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), sneaky::getAsInt);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).sneaky();
             verify(supplier).getAsInt();
             verifyNoMoreInteractions(supplier);
         }
@@ -815,4 +1138,158 @@ class ThrowingIntSupplierTest {
             assertEquals("foo", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingIntSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            IntSupplier sneaky = ThrowingIntSupplier.sneaky(supplier);
+            ThrowingIntSupplier<IOException> checked = ThrowingIntSupplier.checked(sneaky);
+            ThrowingIntSupplier<IOException> checkedWithErrorType = ThrowingIntSupplier.checked(sneaky, IOException.class);
+
+            IntSupplier unchecked = ThrowingIntSupplier.unchecked(checked);
+            IntSupplier uncheckedWithErrorType = ThrowingIntSupplier.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsInt());
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.getAsInt());
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            IntSupplier supplier = () -> 1;
+
+            ThrowingIntSupplier<IOException> checked = ThrowingIntSupplier.checked(supplier);
+
+            assertSame(supplier, ThrowingIntSupplier.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingIntSupplier<IOException> supplier = () -> 1;
+
+            IntSupplier sneaky = ThrowingIntSupplier.sneaky(supplier);
+
+            assertSame(supplier, ThrowingIntSupplier.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingIntSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            IntSupplier unchecked = ThrowingIntSupplier.unchecked(supplier);
+            ThrowingIntSupplier<IOException> checked = ThrowingIntSupplier.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.getAsInt());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingIntSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            IntSupplier unchecked = ThrowingIntSupplier.unchecked(supplier);
+            ThrowingIntSupplier<ParseException> checked = ThrowingIntSupplier.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.getAsInt());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingIntSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            IntSupplier unchecked = ThrowingIntSupplier.unchecked(supplier);
+            ThrowingIntSupplier<IOException> checked = ThrowingIntSupplier.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.getAsInt());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            IntSupplier supplier = () -> 1;
+
+            assertThrows(NullPointerException.class, () -> ThrowingIntSupplier.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingIntSupplier.catching(supplier, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntSupplier<IOException> supplier = ThrowingIntSupplier.catching(() -> 1, IOException.class);
+
+            assertEquals(1, supplier.getAsInt());
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                IntSupplier sneaky = ThrowingIntSupplier.sneaky(() -> {
+                    throw new IOException("foo");
+                });
+
+                ThrowingIntSupplier<IOException> supplier = ThrowingIntSupplier.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, supplier::getAsInt);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                IntSupplier sneaky = ThrowingIntSupplier.sneaky(() -> {
+                    throw new FileNotFoundException("foo");
+                });
+
+                ThrowingIntSupplier<IOException> supplier = ThrowingIntSupplier.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, supplier::getAsInt);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                IntSupplier sneaky = ThrowingIntSupplier.sneaky(() -> {
+                    throw new ParseException("foo", 0);
+                });
+
+                ThrowingIntSupplier<IOException> supplier = ThrowingIntSupplier.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, supplier::getAsInt);
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingIntSupplier<IOException> supplier = ThrowingIntSupplier.catching(() -> {
+                throw new IllegalStateException("foo");
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, supplier::getAsInt);
+            assertEquals("foo", thrown.getMessage());
+        }
+    }
 }
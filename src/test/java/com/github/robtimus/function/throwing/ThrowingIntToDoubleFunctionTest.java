@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.DoubleSupplier;
 import java.util.function.Function;
 import java.util.function.IntToDoubleFunction;
@@ -40,6 +43,74 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 @SuppressWarnings("nls")
 class ThrowingIntToDoubleFunctionTest {
 
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> i + 1);
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> i + 1);
+            ThrowingDoubleUnaryOperator<IOException> after = Spied.throwingDoubleUnaryOperator(d -> d * 3);
+
+            ThrowingIntToDoubleFunction<IOException> composed = function.andThen(after);
+
+            assertEquals(6.0, composed.applyAsDouble(1));
+
+            verify(function).applyAsDouble(1);
+            verify(function).andThen(after);
+            verify(after).applyAsDouble(2.0);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            ThrowingDoubleUnaryOperator<IOException> after = Spied.throwingDoubleUnaryOperator(d -> d * 3);
+
+            ThrowingIntToDoubleFunction<IOException> composed = function.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsDouble(1));
+            assertEquals(Integer.toString(1), thrown.getMessage());
+
+            verify(function).applyAsDouble(1);
+            verify(function).andThen(after);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> i + 1);
+            ThrowingDoubleUnaryOperator<IOException> after = Spied.throwingDoubleUnaryOperator(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            ThrowingIntToDoubleFunction<IOException> composed = function.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsDouble(1));
+            assertEquals(Double.toString(2.0), thrown.getMessage());
+
+            verify(function).applyAsDouble(1);
+            verify(function).andThen(after);
+            verify(after).applyAsDouble(2.0);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> i + 1);
+
+            assertSame(function, function.andThen(ThrowingDoubleUnaryOperator.identity()));
+        }
+    }
+
     @Nested
     class OnErrorThrowAsChecked {
 
@@ -805,7 +876,6 @@ class ThrowingIntToDoubleFunctionTest {
 
             verify(function).applyAsDouble(1);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -823,7 +893,6 @@ class ThrowingIntToDoubleFunctionTest {
 
             verify(function).applyAsDouble(1);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -839,11 +908,359 @@ class ThrowingIntToDoubleFunctionTest {
 
             verify(function).applyAsDouble(1);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> i + 1);
+
+            IntToDoubleFunction sneaky = function.sneaky();
+
+            assertEquals(2D, sneaky.applyAsDouble(1));
+
+            verify(function).applyAsDouble(1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            IntToDoubleFunction sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsDouble(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsDouble(1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(throwable::throwUnchecked);
+
+            IntToDoubleFunction sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsDouble(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsDouble(1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> i + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntToDoubleFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(2D, instrumented.applyAsDouble(1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble(1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntToDoubleFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsDouble(1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble(1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntToDoubleFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsDouble(1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble(1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> i + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntToDoubleFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(2D, instrumented.applyAsDouble(1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble(1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntToDoubleFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsDouble(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble(1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntToDoubleFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsDouble(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble(1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> i + 1);
+
+            ThrowingIntToDoubleFunction<IOException> memoized = function.memoize();
+
+            assertEquals(2D, memoized.applyAsDouble(1));
+            assertEquals(3D, memoized.applyAsDouble(2));
+            assertEquals(2D, memoized.applyAsDouble(1));
+            assertEquals(3D, memoized.applyAsDouble(2));
+
+            verify(function).applyAsDouble(1);
+            verify(function).applyAsDouble(2);
+            verify(function).memoize();
+            verify(function).memoizeDense(0);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingIntToDoubleFunction<IOException> memoized = function.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.applyAsDouble(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.applyAsDouble(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsDouble(1);
+            verify(function).memoize();
+            verify(function).memoizeDense(0);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> throwable.throwUnchecked("foo"));
+
+            ThrowingIntToDoubleFunction<IOException> memoized = function.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsDouble(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsDouble(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsDouble(1);
+            verify(function).memoize();
+            verify(function).memoizeDense(0);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingIntToDoubleFunction<IOException> function = i -> {
+                counter.incrementAndGet();
+                return i + 1D;
+            };
+
+            ThrowingIntToDoubleFunction<IOException> memoized = function.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1D, memoized.applyAsDouble(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1D, memoized.applyAsDouble(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
+    @Nested
+    class MemoizeDense {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> i + 1);
+
+            ThrowingIntToDoubleFunction<IOException> memoized = function.memoizeDense(10);
+
+            assertEquals(2D, memoized.applyAsDouble(1));
+            assertEquals(3D, memoized.applyAsDouble(2));
+            assertEquals(2D, memoized.applyAsDouble(1));
+            assertEquals(3D, memoized.applyAsDouble(2));
+
+            verify(function).applyAsDouble(1);
+            verify(function).applyAsDouble(2);
+            verify(function).memoizeDense(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testInputsOutsideDenseRange() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> i + 1);
+
+            ThrowingIntToDoubleFunction<IOException> memoized = function.memoizeDense(10);
+
+            assertEquals(0D, memoized.applyAsDouble(-1));
+            assertEquals(101D, memoized.applyAsDouble(100));
+            assertEquals(0D, memoized.applyAsDouble(-1));
+            assertEquals(101D, memoized.applyAsDouble(100));
+
+            verify(function).applyAsDouble(-1);
+            verify(function).applyAsDouble(100);
+            verify(function).memoizeDense(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingIntToDoubleFunction<IOException> memoized = function.memoizeDense(10);
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.applyAsDouble(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.applyAsDouble(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsDouble(1);
+            verify(function).memoizeDense(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> throwable.throwUnchecked("foo"));
+
+            ThrowingIntToDoubleFunction<IOException> memoized = function.memoizeDense(10);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsDouble(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsDouble(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsDouble(1);
+            verify(function).memoizeDense(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testNegativeDenseSize() {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> i + 1);
+
+            assertThrows(IllegalArgumentException.class, () -> function.memoizeDense(-1));
+        }
+    }
+
     @Nested
     class Of {
 
@@ -877,7 +1294,6 @@ class ThrowingIntToDoubleFunctionTest {
             assertEquals(2D, unchecked.applyAsDouble(1));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsDouble(1);
             verifyNoMoreInteractions(function);
         }
@@ -895,7 +1311,6 @@ class ThrowingIntToDoubleFunctionTest {
             assertEquals("1", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsDouble(1);
             verifyNoMoreInteractions(function);
         }
@@ -911,7 +1326,59 @@ class ThrowingIntToDoubleFunctionTest {
             assertEquals("1", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).applyAsDouble(1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingIntToDoubleFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> i + 1);
+
+            IntToDoubleFunction sneaky = ThrowingIntToDoubleFunction.sneaky(function);
+
+            assertEquals(2D, sneaky.applyAsDouble(1));
+
+            verify(function).sneaky();
+            verify(function).applyAsDouble(1);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            IntToDoubleFunction sneaky = ThrowingIntToDoubleFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsDouble(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsDouble(1);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = Spied.throwingIntToDoubleFunction(throwable::throwUnchecked);
+
+            IntToDoubleFunction sneaky = ThrowingIntToDoubleFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsDouble(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).applyAsDouble(1);
             verifyNoMoreInteractions(function);
         }
@@ -1009,4 +1476,158 @@ class ThrowingIntToDoubleFunctionTest {
             assertEquals("1", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingIntToDoubleFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            IntToDoubleFunction sneaky = ThrowingIntToDoubleFunction.sneaky(function);
+            ThrowingIntToDoubleFunction<IOException> checked = ThrowingIntToDoubleFunction.checked(sneaky);
+            ThrowingIntToDoubleFunction<IOException> checkedWithErrorType = ThrowingIntToDoubleFunction.checked(sneaky, IOException.class);
+
+            IntToDoubleFunction unchecked = ThrowingIntToDoubleFunction.unchecked(checked);
+            IntToDoubleFunction uncheckedWithErrorType = ThrowingIntToDoubleFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsDouble(1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsDouble(1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            IntToDoubleFunction function = value -> 1D;
+
+            ThrowingIntToDoubleFunction<IOException> checked = ThrowingIntToDoubleFunction.checked(function);
+
+            assertSame(function, ThrowingIntToDoubleFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingIntToDoubleFunction<IOException> function = value -> 1D;
+
+            IntToDoubleFunction sneaky = ThrowingIntToDoubleFunction.sneaky(function);
+
+            assertSame(function, ThrowingIntToDoubleFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingIntToDoubleFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            IntToDoubleFunction unchecked = ThrowingIntToDoubleFunction.unchecked(function);
+            ThrowingIntToDoubleFunction<IOException> checked = ThrowingIntToDoubleFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsDouble(1));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingIntToDoubleFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            IntToDoubleFunction unchecked = ThrowingIntToDoubleFunction.unchecked(function);
+            ThrowingIntToDoubleFunction<ParseException> checked = ThrowingIntToDoubleFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsDouble(1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingIntToDoubleFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            IntToDoubleFunction unchecked = ThrowingIntToDoubleFunction.unchecked(function);
+            ThrowingIntToDoubleFunction<IOException> checked = ThrowingIntToDoubleFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsDouble(1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            IntToDoubleFunction function = i -> i + 1;
+
+            assertThrows(NullPointerException.class, () -> ThrowingIntToDoubleFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingIntToDoubleFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntToDoubleFunction<IOException> function = ThrowingIntToDoubleFunction.catching(i -> i + 1, IOException.class);
+
+            assertEquals(2D, function.applyAsDouble(1));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                IntToDoubleFunction sneaky = ThrowingIntToDoubleFunction.sneaky(i -> {
+                    throw new IOException(Integer.toString(i));
+                });
+
+                ThrowingIntToDoubleFunction<IOException> function = ThrowingIntToDoubleFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.applyAsDouble(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                IntToDoubleFunction sneaky = ThrowingIntToDoubleFunction.sneaky(i -> {
+                    throw new FileNotFoundException(Integer.toString(i));
+                });
+
+                ThrowingIntToDoubleFunction<IOException> function = ThrowingIntToDoubleFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.applyAsDouble(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                IntToDoubleFunction sneaky = ThrowingIntToDoubleFunction.sneaky(i -> {
+                    throw new ParseException(Integer.toString(i), 0);
+                });
+
+                ThrowingIntToDoubleFunction<IOException> function = ThrowingIntToDoubleFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsDouble(1));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingIntToDoubleFunction<IOException> function = ThrowingIntToDoubleFunction.catching(i -> {
+                throw new IllegalStateException(Integer.toString(i));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.applyAsDouble(1));
+            assertEquals("1", thrown.getMessage());
+        }
+    }
 }
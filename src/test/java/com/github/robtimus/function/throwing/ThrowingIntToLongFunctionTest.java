@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.IntToLongFunction;
 import java.util.function.LongSupplier;
@@ -40,6 +43,74 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 @SuppressWarnings("nls")
 class ThrowingIntToLongFunctionTest {
 
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> i + 1);
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> i + 1);
+            ThrowingLongUnaryOperator<IOException> after = Spied.throwingLongUnaryOperator(l -> l * 3);
+
+            ThrowingIntToLongFunction<IOException> composed = function.andThen(after);
+
+            assertEquals(6L, composed.applyAsLong(1));
+
+            verify(function).applyAsLong(1);
+            verify(function).andThen(after);
+            verify(after).applyAsLong(2L);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            ThrowingLongUnaryOperator<IOException> after = Spied.throwingLongUnaryOperator(l -> l * 3);
+
+            ThrowingIntToLongFunction<IOException> composed = function.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsLong(1));
+            assertEquals(Integer.toString(1), thrown.getMessage());
+
+            verify(function).applyAsLong(1);
+            verify(function).andThen(after);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> i + 1);
+            ThrowingLongUnaryOperator<IOException> after = Spied.throwingLongUnaryOperator(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            ThrowingIntToLongFunction<IOException> composed = function.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsLong(1));
+            assertEquals(Long.toString(2L), thrown.getMessage());
+
+            verify(function).applyAsLong(1);
+            verify(function).andThen(after);
+            verify(after).applyAsLong(2L);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> i + 1);
+
+            assertSame(function, function.andThen(ThrowingLongUnaryOperator.identity()));
+        }
+    }
+
     @Nested
     class OnErrorThrowAsChecked {
 
@@ -805,7 +876,6 @@ class ThrowingIntToLongFunctionTest {
 
             verify(function).applyAsLong(1);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -823,7 +893,6 @@ class ThrowingIntToLongFunctionTest {
 
             verify(function).applyAsLong(1);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -839,11 +908,359 @@ class ThrowingIntToLongFunctionTest {
 
             verify(function).applyAsLong(1);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> i + 1);
+
+            IntToLongFunction sneaky = function.sneaky();
+
+            assertEquals(2L, sneaky.applyAsLong(1));
+
+            verify(function).applyAsLong(1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            IntToLongFunction sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsLong(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsLong(1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(throwable::throwUnchecked);
+
+            IntToLongFunction sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsLong(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsLong(1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> i + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntToLongFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(2L, instrumented.applyAsLong(1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong(1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntToLongFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsLong(1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong(1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntToLongFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsLong(1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong(1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> i + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntToLongFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(2L, instrumented.applyAsLong(1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong(1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntToLongFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsLong(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong(1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntToLongFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsLong(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong(1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> i + 1);
+
+            ThrowingIntToLongFunction<IOException> memoized = function.memoize();
+
+            assertEquals(2L, memoized.applyAsLong(1));
+            assertEquals(3L, memoized.applyAsLong(2));
+            assertEquals(2L, memoized.applyAsLong(1));
+            assertEquals(3L, memoized.applyAsLong(2));
+
+            verify(function).applyAsLong(1);
+            verify(function).applyAsLong(2);
+            verify(function).memoize();
+            verify(function).memoizeDense(0);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingIntToLongFunction<IOException> memoized = function.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.applyAsLong(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.applyAsLong(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsLong(1);
+            verify(function).memoize();
+            verify(function).memoizeDense(0);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> throwable.throwUnchecked("foo"));
+
+            ThrowingIntToLongFunction<IOException> memoized = function.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsLong(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsLong(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsLong(1);
+            verify(function).memoize();
+            verify(function).memoizeDense(0);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingIntToLongFunction<IOException> function = i -> {
+                counter.incrementAndGet();
+                return i + 1;
+            };
+
+            ThrowingIntToLongFunction<IOException> memoized = function.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1L, memoized.applyAsLong(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1L, memoized.applyAsLong(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
+    @Nested
+    class MemoizeDense {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> i + 1);
+
+            ThrowingIntToLongFunction<IOException> memoized = function.memoizeDense(10);
+
+            assertEquals(2L, memoized.applyAsLong(1));
+            assertEquals(3L, memoized.applyAsLong(2));
+            assertEquals(2L, memoized.applyAsLong(1));
+            assertEquals(3L, memoized.applyAsLong(2));
+
+            verify(function).applyAsLong(1);
+            verify(function).applyAsLong(2);
+            verify(function).memoizeDense(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testInputsOutsideDenseRange() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> i + 1);
+
+            ThrowingIntToLongFunction<IOException> memoized = function.memoizeDense(10);
+
+            assertEquals(0L, memoized.applyAsLong(-1));
+            assertEquals(101L, memoized.applyAsLong(100));
+            assertEquals(0L, memoized.applyAsLong(-1));
+            assertEquals(101L, memoized.applyAsLong(100));
+
+            verify(function).applyAsLong(-1);
+            verify(function).applyAsLong(100);
+            verify(function).memoizeDense(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingIntToLongFunction<IOException> memoized = function.memoizeDense(10);
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.applyAsLong(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.applyAsLong(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsLong(1);
+            verify(function).memoizeDense(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> throwable.throwUnchecked("foo"));
+
+            ThrowingIntToLongFunction<IOException> memoized = function.memoizeDense(10);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsLong(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsLong(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsLong(1);
+            verify(function).memoizeDense(10);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testNegativeDenseSize() {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> i + 1);
+
+            assertThrows(IllegalArgumentException.class, () -> function.memoizeDense(-1));
+        }
+    }
+
     @Nested
     class Of {
 
@@ -877,7 +1294,6 @@ class ThrowingIntToLongFunctionTest {
             assertEquals(2L, unchecked.applyAsLong(1));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsLong(1);
             verifyNoMoreInteractions(function);
         }
@@ -895,7 +1311,6 @@ class ThrowingIntToLongFunctionTest {
             assertEquals("1", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsLong(1);
             verifyNoMoreInteractions(function);
         }
@@ -911,7 +1326,59 @@ class ThrowingIntToLongFunctionTest {
             assertEquals("1", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).applyAsLong(1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingIntToLongFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> i + 1);
+
+            IntToLongFunction sneaky = ThrowingIntToLongFunction.sneaky(function);
+
+            assertEquals(2L, sneaky.applyAsLong(1));
+
+            verify(function).sneaky();
+            verify(function).applyAsLong(1);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            IntToLongFunction sneaky = ThrowingIntToLongFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsLong(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsLong(1);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntToLongFunction<IOException> function = Spied.throwingIntToLongFunction(throwable::throwUnchecked);
+
+            IntToLongFunction sneaky = ThrowingIntToLongFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsLong(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).applyAsLong(1);
             verifyNoMoreInteractions(function);
         }
@@ -1009,4 +1476,158 @@ class ThrowingIntToLongFunctionTest {
             assertEquals("1", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingIntToLongFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            IntToLongFunction sneaky = ThrowingIntToLongFunction.sneaky(function);
+            ThrowingIntToLongFunction<IOException> checked = ThrowingIntToLongFunction.checked(sneaky);
+            ThrowingIntToLongFunction<IOException> checkedWithErrorType = ThrowingIntToLongFunction.checked(sneaky, IOException.class);
+
+            IntToLongFunction unchecked = ThrowingIntToLongFunction.unchecked(checked);
+            IntToLongFunction uncheckedWithErrorType = ThrowingIntToLongFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsLong(1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsLong(1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            IntToLongFunction function = value -> 1L;
+
+            ThrowingIntToLongFunction<IOException> checked = ThrowingIntToLongFunction.checked(function);
+
+            assertSame(function, ThrowingIntToLongFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingIntToLongFunction<IOException> function = value -> 1L;
+
+            IntToLongFunction sneaky = ThrowingIntToLongFunction.sneaky(function);
+
+            assertSame(function, ThrowingIntToLongFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingIntToLongFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            IntToLongFunction unchecked = ThrowingIntToLongFunction.unchecked(function);
+            ThrowingIntToLongFunction<IOException> checked = ThrowingIntToLongFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsLong(1));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingIntToLongFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            IntToLongFunction unchecked = ThrowingIntToLongFunction.unchecked(function);
+            ThrowingIntToLongFunction<ParseException> checked = ThrowingIntToLongFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsLong(1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingIntToLongFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            IntToLongFunction unchecked = ThrowingIntToLongFunction.unchecked(function);
+            ThrowingIntToLongFunction<IOException> checked = ThrowingIntToLongFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsLong(1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            IntToLongFunction function = i -> i + 1;
+
+            assertThrows(NullPointerException.class, () -> ThrowingIntToLongFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingIntToLongFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntToLongFunction<IOException> function = ThrowingIntToLongFunction.catching(i -> i + 1, IOException.class);
+
+            assertEquals(2L, function.applyAsLong(1));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                IntToLongFunction sneaky = ThrowingIntToLongFunction.sneaky(i -> {
+                    throw new IOException(Integer.toString(i));
+                });
+
+                ThrowingIntToLongFunction<IOException> function = ThrowingIntToLongFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.applyAsLong(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                IntToLongFunction sneaky = ThrowingIntToLongFunction.sneaky(i -> {
+                    throw new FileNotFoundException(Integer.toString(i));
+                });
+
+                ThrowingIntToLongFunction<IOException> function = ThrowingIntToLongFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.applyAsLong(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                IntToLongFunction sneaky = ThrowingIntToLongFunction.sneaky(i -> {
+                    throw new ParseException(Integer.toString(i), 0);
+                });
+
+                ThrowingIntToLongFunction<IOException> function = ThrowingIntToLongFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsLong(1));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingIntToLongFunction<IOException> function = ThrowingIntToLongFunction.catching(i -> {
+                throw new IllegalStateException(Integer.toString(i));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.applyAsLong(1));
+            assertEquals("1", thrown.getMessage());
+        }
+    }
 }
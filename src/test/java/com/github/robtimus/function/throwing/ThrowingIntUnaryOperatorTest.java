@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.IntSupplier;
 import java.util.function.IntUnaryOperator;
@@ -40,6 +43,365 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 @SuppressWarnings("nls")
 class ThrowingIntUnaryOperatorTest {
 
+    @Nested
+    class Compose {
+
+        @Test
+        void testNullArgument() {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.compose(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i * 3);
+            ThrowingIntUnaryOperator<IOException> before = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            ThrowingIntUnaryOperator<IOException> composed = operator.compose(before);
+
+            assertEquals(6, composed.applyAsInt(1));
+
+            verify(before).applyAsInt(1);
+            verify(operator).applyAsInt(2);
+            verify(operator).compose(before);
+            verifyNoMoreInteractions(operator, before);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            ThrowingIntUnaryOperator<IOException> before = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            ThrowingIntUnaryOperator<IOException> composed = operator.compose(before);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsInt(1));
+            assertEquals(Integer.toString(2), thrown.getMessage());
+
+            verify(before).applyAsInt(1);
+            verify(operator).applyAsInt(2);
+            verify(operator).compose(before);
+            verifyNoMoreInteractions(operator, before);
+        }
+
+        @Test
+        void testBeforeThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i * 3);
+            ThrowingIntUnaryOperator<IOException> before = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            ThrowingIntUnaryOperator<IOException> composed = operator.compose(before);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsInt(1));
+            assertEquals(Integer.toString(1), thrown.getMessage());
+
+            verify(before).applyAsInt(1);
+            verify(operator).compose(before);
+            verifyNoMoreInteractions(operator, before);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.identity();
+            ThrowingIntUnaryOperator<IOException> before = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            assertSame(before, operator.compose(before));
+        }
+
+        @Test
+        void testBeforeIsIdentity() {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            assertSame(operator, operator.compose(ThrowingIntUnaryOperator.identity()));
+        }
+    }
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+            ThrowingIntUnaryOperator<IOException> after = Spied.throwingIntUnaryOperator(i -> i * 3);
+
+            ThrowingIntUnaryOperator<IOException> composed = operator.andThen(after);
+
+            assertEquals(6, composed.applyAsInt(1));
+
+            verify(operator).applyAsInt(1);
+            verify(operator).andThen(after);
+            verify(after).applyAsInt(2);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            ThrowingIntUnaryOperator<IOException> after = Spied.throwingIntUnaryOperator(i -> i * 3);
+
+            ThrowingIntUnaryOperator<IOException> composed = operator.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsInt(1));
+            assertEquals(Integer.toString(1), thrown.getMessage());
+
+            verify(operator).applyAsInt(1);
+            verify(operator).andThen(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+            ThrowingIntUnaryOperator<IOException> after = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            ThrowingIntUnaryOperator<IOException> composed = operator.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsInt(1));
+            assertEquals(Integer.toString(2), thrown.getMessage());
+
+            verify(operator).applyAsInt(1);
+            verify(operator).andThen(after);
+            verify(after).applyAsInt(2);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.identity();
+            ThrowingIntUnaryOperator<IOException> after = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            assertSame(after, operator.andThen(after));
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            assertSame(operator, operator.andThen(ThrowingIntUnaryOperator.identity()));
+        }
+    }
+
+    @Nested
+    class AndThenToLong {
+
+        @Test
+        void testNullArgument() {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.andThenToLong(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+            ThrowingIntToLongFunction<IOException> after = Spied.throwingIntToLongFunction(i -> i * 3);
+
+            ThrowingIntToLongFunction<IOException> composed = operator.andThenToLong(after);
+
+            assertEquals(6L, composed.applyAsLong(1));
+
+            verify(operator).applyAsInt(1);
+            verify(operator).andThenToLong(after);
+            verify(after).applyAsLong(2);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            ThrowingIntToLongFunction<IOException> after = Spied.throwingIntToLongFunction(i -> i * 3);
+
+            ThrowingIntToLongFunction<IOException> composed = operator.andThenToLong(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsLong(1));
+            assertEquals(Integer.toString(1), thrown.getMessage());
+
+            verify(operator).applyAsInt(1);
+            verify(operator).andThenToLong(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+            ThrowingIntToLongFunction<IOException> after = Spied.throwingIntToLongFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            ThrowingIntToLongFunction<IOException> composed = operator.andThenToLong(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsLong(1));
+            assertEquals(Integer.toString(2), thrown.getMessage());
+
+            verify(operator).applyAsInt(1);
+            verify(operator).andThenToLong(after);
+            verify(after).applyAsLong(2);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.identity();
+            ThrowingIntToLongFunction<IOException> after = Spied.throwingIntToLongFunction(i -> i * 3);
+
+            assertSame(after, operator.andThenToLong(after));
+        }
+    }
+
+    @Nested
+    class AndThenToDouble {
+
+        @Test
+        void testNullArgument() {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.andThenToDouble(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+            ThrowingIntToDoubleFunction<IOException> after = Spied.throwingIntToDoubleFunction(i -> i * 3);
+
+            ThrowingIntToDoubleFunction<IOException> composed = operator.andThenToDouble(after);
+
+            assertEquals(6.0, composed.applyAsDouble(1));
+
+            verify(operator).applyAsInt(1);
+            verify(operator).andThenToDouble(after);
+            verify(after).applyAsDouble(2);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            ThrowingIntToDoubleFunction<IOException> after = Spied.throwingIntToDoubleFunction(i -> i * 3);
+
+            ThrowingIntToDoubleFunction<IOException> composed = operator.andThenToDouble(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsDouble(1));
+            assertEquals(Integer.toString(1), thrown.getMessage());
+
+            verify(operator).applyAsInt(1);
+            verify(operator).andThenToDouble(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+            ThrowingIntToDoubleFunction<IOException> after = Spied.throwingIntToDoubleFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            ThrowingIntToDoubleFunction<IOException> composed = operator.andThenToDouble(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsDouble(1));
+            assertEquals(Integer.toString(2), thrown.getMessage());
+
+            verify(operator).applyAsInt(1);
+            verify(operator).andThenToDouble(after);
+            verify(after).applyAsDouble(2);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.identity();
+            ThrowingIntToDoubleFunction<IOException> after = Spied.throwingIntToDoubleFunction(i -> i * 3);
+
+            assertSame(after, operator.andThenToDouble(after));
+        }
+    }
+
+    @Nested
+    class AndThenToObj {
+
+        @Test
+        void testNullArgument() {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.andThenToObj(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+            ThrowingIntFunction<String, IOException> after = Spied.throwingIntFunction(Integer::toString);
+
+            ThrowingIntFunction<String, IOException> composed = operator.andThenToObj(after);
+
+            assertEquals(Integer.toString(2), composed.apply(1));
+
+            verify(operator).applyAsInt(1);
+            verify(operator).andThenToObj(after);
+            verify(after).apply(2);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            ThrowingIntFunction<String, IOException> after = Spied.throwingIntFunction(Integer::toString);
+
+            ThrowingIntFunction<String, IOException> composed = operator.andThenToObj(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.apply(1));
+            assertEquals(Integer.toString(1), thrown.getMessage());
+
+            verify(operator).applyAsInt(1);
+            verify(operator).andThenToObj(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+            ThrowingIntFunction<String, IOException> after = Spied.throwingIntFunction(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            ThrowingIntFunction<String, IOException> composed = operator.andThenToObj(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.apply(1));
+            assertEquals(Integer.toString(2), thrown.getMessage());
+
+            verify(operator).applyAsInt(1);
+            verify(operator).andThenToObj(after);
+            verify(after).apply(2);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.identity();
+            ThrowingIntFunction<String, IOException> after = Spied.throwingIntFunction(Integer::toString);
+
+            assertSame(after, operator.andThenToObj(after));
+        }
+    }
+
     @Nested
     class OnErrorThrowAsChecked {
 
@@ -804,7 +1166,6 @@ class ThrowingIntUnaryOperatorTest {
 
             verify(operator).applyAsInt(1);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -822,7 +1183,6 @@ class ThrowingIntUnaryOperatorTest {
 
             verify(operator).applyAsInt(1);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -838,70 +1198,424 @@ class ThrowingIntUnaryOperatorTest {
 
             verify(operator).applyAsInt(1);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
     }
 
     @Nested
-    class Of {
-
-        @Test
-        void testNullArgument() {
-            assertThrows(NullPointerException.class, () -> ThrowingFunction.of(null));
-        }
-
-        @Test
-        void testNonNullArgument() throws IOException {
-            ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.of(i -> i + 1);
-
-            assertEquals(2, operator.applyAsInt(1));
-        }
-    }
-
-    @Test
-    void testIdentity() throws IOException {
-        ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.identity();
-
-        assertEquals(1, operator.applyAsInt(1));
-    }
-
-    @Nested
-    class UncheckedFactory {
-
-        @Test
-        void testNullArgument() {
-            assertThrows(NullPointerException.class, () -> ThrowingFunction.unchecked(null));
-        }
+    class Sneaky {
 
         @Test
-        void testArgumentThrowsNothing() throws IOException {
+        void testThisThrowsNothing() throws IOException {
             ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
 
-            IntUnaryOperator unchecked = ThrowingIntUnaryOperator.unchecked(operator);
+            IntUnaryOperator sneaky = operator.sneaky();
 
-            assertEquals(2, unchecked.applyAsInt(1));
+            assertEquals(2, sneaky.applyAsInt(1));
 
-            verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).applyAsInt(1);
+            verify(operator).sneaky();
             verifyNoMoreInteractions(operator);
         }
 
         @Test
-        void testArgumentThrowsChecked() throws IOException {
+        void testThisThrowsChecked() throws IOException {
             ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> {
                 throw new IOException(Integer.toString(i));
             });
 
-            IntUnaryOperator unchecked = ThrowingIntUnaryOperator.unchecked(operator);
+            IntUnaryOperator sneaky = operator.sneaky();
 
-            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsInt(1));
-            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
-            assertEquals("1", cause.getMessage());
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsInt(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).applyAsInt(1);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(throwable::throwUnchecked);
+
+            IntUnaryOperator sneaky = operator.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsInt(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).applyAsInt(1);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            assertEquals(2, instrumented.applyAsInt(1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsInt(1);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsInt(1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsInt(1);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsInt(1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsInt(1);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(2, instrumented.applyAsInt(1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsInt(1);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsInt(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsInt(1);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingIntUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsInt(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsInt(1);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            ThrowingIntUnaryOperator<IOException> memoized = operator.memoize();
+
+            assertEquals(2, memoized.applyAsInt(1));
+            assertEquals(3, memoized.applyAsInt(2));
+            assertEquals(2, memoized.applyAsInt(1));
+            assertEquals(3, memoized.applyAsInt(2));
+
+            verify(operator).applyAsInt(1);
+            verify(operator).applyAsInt(2);
+            verify(operator).memoize();
+            verify(operator).memoizeDense(0);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingIntUnaryOperator<IOException> memoized = operator.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.applyAsInt(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.applyAsInt(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(operator, times(2)).applyAsInt(1);
+            verify(operator).memoize();
+            verify(operator).memoizeDense(0);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> throwable.throwUnchecked("foo"));
+
+            ThrowingIntUnaryOperator<IOException> memoized = operator.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsInt(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsInt(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(operator, times(2)).applyAsInt(1);
+            verify(operator).memoize();
+            verify(operator).memoizeDense(0);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingIntUnaryOperator<IOException> operator = i -> {
+                counter.incrementAndGet();
+                return i + 1;
+            };
+
+            ThrowingIntUnaryOperator<IOException> memoized = operator.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1, memoized.applyAsInt(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1, memoized.applyAsInt(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
+    @Nested
+    class MemoizeDense {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            ThrowingIntUnaryOperator<IOException> memoized = operator.memoizeDense(10);
+
+            assertEquals(2, memoized.applyAsInt(1));
+            assertEquals(3, memoized.applyAsInt(2));
+            assertEquals(2, memoized.applyAsInt(1));
+            assertEquals(3, memoized.applyAsInt(2));
+
+            verify(operator).applyAsInt(1);
+            verify(operator).applyAsInt(2);
+            verify(operator).memoizeDense(10);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testInputsOutsideDenseRange() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            ThrowingIntUnaryOperator<IOException> memoized = operator.memoizeDense(10);
+
+            assertEquals(0, memoized.applyAsInt(-1));
+            assertEquals(101, memoized.applyAsInt(100));
+            assertEquals(0, memoized.applyAsInt(-1));
+            assertEquals(101, memoized.applyAsInt(100));
+
+            verify(operator).applyAsInt(-1);
+            verify(operator).applyAsInt(100);
+            verify(operator).memoizeDense(10);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingIntUnaryOperator<IOException> memoized = operator.memoizeDense(10);
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.applyAsInt(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.applyAsInt(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(operator, times(2)).applyAsInt(1);
+            verify(operator).memoizeDense(10);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> throwable.throwUnchecked("foo"));
+
+            ThrowingIntUnaryOperator<IOException> memoized = operator.memoizeDense(10);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsInt(1));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsInt(1));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(operator, times(2)).applyAsInt(1);
+            verify(operator).memoizeDense(10);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testNegativeDenseSize() {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            assertThrows(IllegalArgumentException.class, () -> operator.memoizeDense(-1));
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.of(i -> i + 1);
+
+            assertEquals(2, operator.applyAsInt(1));
+        }
+    }
+
+    @Test
+    void testIdentity() throws IOException {
+        ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.identity();
+
+        assertEquals(1, operator.applyAsInt(1));
+    }
+
+    @Test
+    void testIdentitySameInstance() {
+        ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.identity();
+        ThrowingIntUnaryOperator<ParseException> other = ThrowingIntUnaryOperator.identity();
+
+        assertSame(operator, other);
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            IntUnaryOperator unchecked = ThrowingIntUnaryOperator.unchecked(operator);
+
+            assertEquals(2, unchecked.applyAsInt(1));
+
+            verify(operator).unchecked();
+            verify(operator).applyAsInt(1);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            IntUnaryOperator unchecked = ThrowingIntUnaryOperator.unchecked(operator);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsInt(1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).applyAsInt(1);
             verifyNoMoreInteractions(operator);
         }
@@ -917,7 +1631,59 @@ class ThrowingIntUnaryOperatorTest {
             assertEquals("1", thrown.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
+            verify(operator).applyAsInt(1);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> i + 1);
+
+            IntUnaryOperator sneaky = ThrowingIntUnaryOperator.sneaky(operator);
+
+            assertEquals(2, sneaky.applyAsInt(1));
+
+            verify(operator).sneaky();
+            verify(operator).applyAsInt(1);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            IntUnaryOperator sneaky = ThrowingIntUnaryOperator.sneaky(operator);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsInt(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).sneaky();
+            verify(operator).applyAsInt(1);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = Spied.throwingIntUnaryOperator(throwable::throwUnchecked);
+
+            IntUnaryOperator sneaky = ThrowingIntUnaryOperator.sneaky(operator);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsInt(1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).sneaky();
             verify(operator).applyAsInt(1);
             verifyNoMoreInteractions(operator);
         }
@@ -1015,4 +1781,158 @@ class ThrowingIntUnaryOperatorTest {
             assertEquals("1", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingIntUnaryOperator<IOException> operator = operand -> {
+                throw new IOException("foo");
+            };
+
+            IntUnaryOperator sneaky = ThrowingIntUnaryOperator.sneaky(operator);
+            ThrowingIntUnaryOperator<IOException> checked = ThrowingIntUnaryOperator.checked(sneaky);
+            ThrowingIntUnaryOperator<IOException> checkedWithErrorType = ThrowingIntUnaryOperator.checked(sneaky, IOException.class);
+
+            IntUnaryOperator unchecked = ThrowingIntUnaryOperator.unchecked(checked);
+            IntUnaryOperator uncheckedWithErrorType = ThrowingIntUnaryOperator.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsInt(1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsInt(1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            IntUnaryOperator operator = operand -> 1;
+
+            ThrowingIntUnaryOperator<IOException> checked = ThrowingIntUnaryOperator.checked(operator);
+
+            assertSame(operator, ThrowingIntUnaryOperator.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingIntUnaryOperator<IOException> operator = operand -> 1;
+
+            IntUnaryOperator sneaky = ThrowingIntUnaryOperator.sneaky(operator);
+
+            assertSame(operator, ThrowingIntUnaryOperator.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingIntUnaryOperator<IOException> operator = operand -> {
+                throw new IOException("foo");
+            };
+
+            IntUnaryOperator unchecked = ThrowingIntUnaryOperator.unchecked(operator);
+            ThrowingIntUnaryOperator<IOException> checked = ThrowingIntUnaryOperator.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsInt(1));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingIntUnaryOperator<IOException> operator = operand -> {
+                throw new IOException("foo");
+            };
+
+            IntUnaryOperator unchecked = ThrowingIntUnaryOperator.unchecked(operator);
+            ThrowingIntUnaryOperator<ParseException> checked = ThrowingIntUnaryOperator.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsInt(1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingIntUnaryOperator<IOException> operator = operand -> {
+                throw new IOException("foo");
+            };
+
+            IntUnaryOperator unchecked = ThrowingIntUnaryOperator.unchecked(operator);
+            ThrowingIntUnaryOperator<IOException> checked = ThrowingIntUnaryOperator.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsInt(1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            IntUnaryOperator operator = i -> i + 1;
+
+            assertThrows(NullPointerException.class, () -> ThrowingIntUnaryOperator.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingIntUnaryOperator.catching(operator, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.catching(i -> i + 1, IOException.class);
+
+            assertEquals(2, operator.applyAsInt(1));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                IntUnaryOperator sneaky = ThrowingIntUnaryOperator.sneaky(i -> {
+                    throw new IOException(Integer.toString(i));
+                });
+
+                ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> operator.applyAsInt(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                IntUnaryOperator sneaky = ThrowingIntUnaryOperator.sneaky(i -> {
+                    throw new FileNotFoundException(Integer.toString(i));
+                });
+
+                ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> operator.applyAsInt(1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                IntUnaryOperator sneaky = ThrowingIntUnaryOperator.sneaky(i -> {
+                    throw new ParseException(Integer.toString(i), 0);
+                });
+
+                ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsInt(1));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingIntUnaryOperator<IOException> operator = ThrowingIntUnaryOperator.catching(i -> {
+                throw new IllegalStateException(Integer.toString(i));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> operator.applyAsInt(1));
+            assertEquals("1", thrown.getMessage());
+        }
+    }
 }
@@ -0,0 +1,894 @@
+/*
+ * ThrowingLongBiConsumerTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingLongBiConsumerTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+            ThrowingLongBiConsumer<IOException> after = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            consumer.andThen(after).accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).andThen(after);
+            verify(after).accept(1L, 2L);
+            verifyNoMoreInteractions(consumer, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            ThrowingLongBiConsumer<IOException> after = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            ThrowingLongBiConsumer<IOException> composed = consumer.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.accept(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).andThen(after);
+            verifyNoMoreInteractions(consumer, after);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingLongBiConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            throwing.accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingLongBiConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.accept(1L, 2L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingLongBiConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.accept(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingLongBiConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            throwing.accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingLongBiConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.accept(1L, 2L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingLongBiConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.accept(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            ThrowingConsumer<IOException, ParseException> errorHandler = Spied.throwingConsumer(e -> { });
+
+            ThrowingLongBiConsumer<ParseException> handling = consumer.onErrorHandleChecked(errorHandler);
+
+            handling.accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingConsumer<IOException, ParseException> errorHandler = Spied.throwingConsumer(e -> { });
+
+            ThrowingLongBiConsumer<ParseException> handling = consumer.onErrorHandleChecked(errorHandler);
+
+            handling.accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).accept(any());
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            Consumer<IOException> errorHandler = Spied.consumer(e -> { });
+
+            ThrowingLongBiConsumer<RuntimeException> handling = consumer.onErrorHandleUnchecked(errorHandler);
+
+            handling.accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Consumer<IOException> errorHandler = Spied.consumer(e -> { });
+
+            ThrowingLongBiConsumer<RuntimeException> handling = consumer.onErrorHandleUnchecked(errorHandler);
+
+            handling.accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).accept(any());
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorAcceptChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorAcceptChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            ThrowingLongBiConsumer<ParseException> fallback = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            ThrowingLongBiConsumer<ParseException> fallingBack = consumer.onErrorAcceptChecked(fallback);
+
+            fallingBack.accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorAcceptChecked(fallback);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiConsumer<ParseException> fallback = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            ThrowingLongBiConsumer<ParseException> fallingBack = consumer.onErrorAcceptChecked(fallback);
+
+            fallingBack.accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorAcceptChecked(fallback);
+            verify(fallback).accept(1L, 2L);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorAcceptUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorAcceptUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            ThrowingLongBiConsumer<RuntimeException> fallback = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            ThrowingLongBiConsumer<RuntimeException> fallingBack = consumer.onErrorAcceptUnchecked(fallback);
+
+            fallingBack.accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorAcceptUnchecked(fallback);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiConsumer<RuntimeException> fallback = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            ThrowingLongBiConsumer<RuntimeException> fallingBack = consumer.onErrorAcceptUnchecked(fallback);
+
+            fallingBack.accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorAcceptUnchecked(fallback);
+            verify(fallback).accept(1L, 2L);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorDiscard {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            ThrowingLongBiConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            discarding.accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            discarding.accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            ThrowingLongBiConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> discarding.accept(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            ThrowingLongBiConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            unchecked.accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1L, 2L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            ThrowingLongBiConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.accept(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+
+            ThrowingLongBiConsumer<RuntimeException> sneaky = consumer.sneaky();
+
+            sneaky.accept(1L, 2L);
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiConsumer<RuntimeException> sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept(1L, 2L);
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1L, 2L);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer(ThrowingLongBiConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept(1L, 2L);
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1L, 2L);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept(1L, 2L));
+                assertEquals("1,2", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1L, 2L);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> throwable.throwUnchecked(t + "," + u));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBiConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept(1L, 2L));
+                assertEquals("1,2", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1L, 2L);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiConsumer.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = ThrowingLongBiConsumer.of(ThrowingLongBiConsumerTest::ignore);
+
+            consumer.accept(1L, 2L);
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiConsumer.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiConsumer<RuntimeException> unchecked = ThrowingLongBiConsumer.unchecked(consumer);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1L, 2L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+
+            verify(consumer).unchecked();
+            verify(consumer).accept(1L, 2L);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = Spied.throwingLongBiConsumer((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiConsumer<RuntimeException> sneaky = ThrowingLongBiConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept(1L, 2L);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiConsumer.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = ThrowingLongBiConsumer.checked(ThrowingLongBiConsumerTest::ignore);
+
+            consumer.accept(1L, 2L);
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingLongBiConsumer<IOException> consumer = ThrowingLongBiConsumer.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t + "," + u));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1L, 2L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingLongBiConsumer<RuntimeException> consumer = ThrowingLongBiConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiConsumer.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiConsumer.checked(consumer, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingLongBiConsumer<IOException> consumer = ThrowingLongBiConsumer.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t + "," + u));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> consumer.accept(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingLongBiConsumer<IOException> consumer = ThrowingLongBiConsumer.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(t + "," + u, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1L, 2L));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingLongBiConsumer<IOException> consumer = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingLongBiConsumer<RuntimeException> sneaky = ThrowingLongBiConsumer.sneaky(consumer);
+            ThrowingLongBiConsumer<IOException> checked = ThrowingLongBiConsumer.checked(sneaky);
+            ThrowingLongBiConsumer<IOException> checkedWithErrorType = ThrowingLongBiConsumer.checked(sneaky, IOException.class);
+
+            ThrowingLongBiConsumer<RuntimeException> unchecked = ThrowingLongBiConsumer.unchecked(checked);
+            ThrowingLongBiConsumer<RuntimeException> uncheckedWithErrorType = ThrowingLongBiConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1L, 2L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept(1L, 2L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingLongBiConsumer<RuntimeException> consumer = ThrowingLongBiConsumerTest::ignore;
+
+            ThrowingLongBiConsumer<IOException> checked = ThrowingLongBiConsumer.checked(consumer);
+
+            assertSame(consumer, ThrowingLongBiConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingLongBiConsumer<IOException> consumer = ThrowingLongBiConsumerTest::ignore;
+
+            ThrowingLongBiConsumer<RuntimeException> sneaky = ThrowingLongBiConsumer.sneaky(consumer);
+
+            assertSame(consumer, ThrowingLongBiConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingLongBiConsumer<IOException> consumer = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingLongBiConsumer<RuntimeException> unchecked = ThrowingLongBiConsumer.unchecked(consumer);
+            ThrowingLongBiConsumer<IOException> checked = ThrowingLongBiConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingLongBiConsumer<IOException> consumer = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingLongBiConsumer<RuntimeException> unchecked = ThrowingLongBiConsumer.unchecked(consumer);
+            ThrowingLongBiConsumer<ParseException> checked = ThrowingLongBiConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept(1L, 2L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingLongBiConsumer<RuntimeException> consumer = ThrowingLongBiConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongBiConsumer<IOException> consumer = ThrowingLongBiConsumer.catching(ThrowingLongBiConsumerTest::ignore, IOException.class);
+
+            consumer.accept(1L, 2L);
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingLongBiConsumer<RuntimeException> sneaky = ThrowingLongBiConsumer.sneaky((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiConsumer<IOException> consumer = ThrowingLongBiConsumer.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> consumer.accept(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingLongBiConsumer<RuntimeException> sneaky = ThrowingLongBiConsumer.sneaky((t, u) -> {
+                throw new ParseException(t + "," + u, 0);
+            });
+
+            ThrowingLongBiConsumer<IOException> consumer = ThrowingLongBiConsumer.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1L, 2L));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+        }
+    }
+
+    private static void ignore(long t, long u) {
+        // do nothing
+    }
+}
@@ -0,0 +1,955 @@
+/*
+ * ThrowingLongBiFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingLongBiFunctionTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+            ThrowingFunction<String, Integer, IOException> after = Spied.throwingFunction(String::length);
+
+            ThrowingLongBiFunction<Integer, IOException> composed = function.andThen(after);
+
+            assertEquals(Integer.valueOf(3), composed.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).andThen(after);
+            verify(after).apply("1,2");
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            assertSame(function, function.andThen(ThrowingFunction.identity()));
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingLongBiFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals("1,2", throwing.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingLongBiFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.apply(1L, 2L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingLongBiFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingLongBiFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals("1,2", throwing.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingLongBiFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.apply(1L, 2L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingLongBiFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingLongBiFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("1,2", handling.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingLongBiFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("1,2", handling.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingLongBiFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("1,2", handling.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingLongBiFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("1,2", handling.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            ThrowingLongBiFunction<String, ParseException> fallback = Spied.throwingLongBiFunction((t, u) -> "fallback");
+
+            ThrowingLongBiFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("1,2", fallingBack.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiFunction<String, ParseException> fallback = Spied.throwingLongBiFunction((t, u) -> "fallback");
+
+            ThrowingLongBiFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).apply(1L, 2L);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            ThrowingLongBiFunction<String, RuntimeException> fallback = Spied.throwingLongBiFunction((t, u) -> "fallback");
+
+            ThrowingLongBiFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("1,2", fallingBack.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiFunction<String, RuntimeException> fallback = Spied.throwingLongBiFunction((t, u) -> "fallback");
+
+            ThrowingLongBiFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).apply(1L, 2L);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingLongBiFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("1,2", fallingBack.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingLongBiFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingLongBiFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("1,2", fallingBack.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingLongBiFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            ThrowingLongBiFunction<String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("1,2", returning.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiFunction<String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("fallback", returning.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            ThrowingLongBiFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals("1,2", unchecked.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply(1L, 2L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+
+            verify(function).apply(1L, 2L);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> throwable.throwUnchecked(t + "," + u));
+
+            ThrowingLongBiFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.apply(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(function).apply(1L, 2L);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+
+            ThrowingLongBiFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals("1,2", sneaky.apply(1L, 2L));
+
+            verify(function).apply(1L, 2L);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(function).apply(1L, 2L);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBiFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals("1,2", instrumented.apply(1L, 2L));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1L, 2L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBiFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1L, 2L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> throwable.throwUnchecked(t + "," + u));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBiFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1L, 2L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> t + "," + u);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBiFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("1,2", instrumented.apply(1L, 2L));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1L, 2L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBiFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply(1L, 2L));
+                assertEquals("1,2", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1L, 2L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> throwable.throwUnchecked(t + "," + u));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBiFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply(1L, 2L));
+                assertEquals("1,2", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1L, 2L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = ThrowingLongBiFunction.of((t, u) -> t + "," + u);
+
+            assertEquals("1,2", function.apply(1L, 2L));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiFunction<String, RuntimeException> unchecked = ThrowingLongBiFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply(1L, 2L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).apply(1L, 2L);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = Spied.throwingLongBiFunction((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiFunction<String, RuntimeException> sneaky = ThrowingLongBiFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply(1L, 2L);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = ThrowingLongBiFunction.checked((t, u) -> t + "," + u);
+
+            assertEquals("1,2", function.apply(1L, 2L));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingLongBiFunction<String, IOException> function = ThrowingLongBiFunction.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t + "," + u));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply(1L, 2L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingLongBiFunction<String, RuntimeException> function = (t, u) -> t + "," + u;
+
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingLongBiFunction<String, IOException> function = ThrowingLongBiFunction.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t + "," + u));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingLongBiFunction<String, IOException> function = ThrowingLongBiFunction.checked((t, u) -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(t + "," + u, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply(1L, 2L));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingLongBiFunction<String, IOException> function = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingLongBiFunction<String, RuntimeException> sneaky = ThrowingLongBiFunction.sneaky(function);
+            ThrowingLongBiFunction<String, IOException> checked = ThrowingLongBiFunction.checked(sneaky);
+            ThrowingLongBiFunction<String, IOException> checkedWithErrorType = ThrowingLongBiFunction.checked(sneaky, IOException.class);
+
+            ThrowingLongBiFunction<String, RuntimeException> unchecked = ThrowingLongBiFunction.unchecked(checked);
+            ThrowingLongBiFunction<String, RuntimeException> uncheckedWithErrorType = ThrowingLongBiFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply(1L, 2L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply(1L, 2L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingLongBiFunction<String, RuntimeException> function = (t, u) -> t + "," + u;
+
+            ThrowingLongBiFunction<String, IOException> checked = ThrowingLongBiFunction.checked(function);
+
+            assertSame(function, ThrowingLongBiFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingLongBiFunction<String, IOException> function = (t, u) -> t + "," + u;
+
+            ThrowingLongBiFunction<String, RuntimeException> sneaky = ThrowingLongBiFunction.sneaky(function);
+
+            assertSame(function, ThrowingLongBiFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingLongBiFunction<String, IOException> function = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingLongBiFunction<String, RuntimeException> unchecked = ThrowingLongBiFunction.unchecked(function);
+            ThrowingLongBiFunction<String, IOException> checked = ThrowingLongBiFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingLongBiFunction<String, IOException> function = (t, u) -> {
+                throw new IOException(t + "," + u);
+            };
+
+            ThrowingLongBiFunction<String, RuntimeException> unchecked = ThrowingLongBiFunction.unchecked(function);
+            ThrowingLongBiFunction<String, ParseException> checked = ThrowingLongBiFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply(1L, 2L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingLongBiFunction<String, RuntimeException> function = (t, u) -> t + "," + u;
+
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingLongBiFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongBiFunction<String, IOException> function = ThrowingLongBiFunction.catching((t, u) -> t + "," + u, IOException.class);
+
+            assertEquals("1,2", function.apply(1L, 2L));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingLongBiFunction<String, RuntimeException> sneaky = ThrowingLongBiFunction.sneaky((t, u) -> {
+                throw new IOException(t + "," + u);
+            });
+
+            ThrowingLongBiFunction<String, IOException> function = ThrowingLongBiFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply(1L, 2L));
+            assertEquals("1,2", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingLongBiFunction<String, RuntimeException> sneaky = ThrowingLongBiFunction.sneaky((t, u) -> {
+                throw new ParseException(t + "," + u, 0);
+            });
+
+            ThrowingLongBiFunction<String, IOException> function = ThrowingLongBiFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply(1L, 2L));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1,2", cause.getMessage());
+        }
+    }
+}
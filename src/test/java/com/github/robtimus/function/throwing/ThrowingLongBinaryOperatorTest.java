@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -804,7 +806,6 @@ class ThrowingLongBinaryOperatorTest {
 
             verify(operator).applyAsLong(1L, 2L);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -822,7 +823,6 @@ class ThrowingLongBinaryOperatorTest {
 
             verify(operator).applyAsLong(1L, 2L);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -838,7 +838,192 @@ class ThrowingLongBinaryOperatorTest {
 
             verify(operator).applyAsLong(1L, 2L);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBinaryOperator<IOException> operator = Spied.throwingLongBinaryOperator(Long::max);
+
+            LongBinaryOperator sneaky = operator.sneaky();
+
+            assertEquals(2L, sneaky.applyAsLong(1L, 2L));
+
+            verify(operator).applyAsLong(1L, 2L);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBinaryOperator<IOException> operator = Spied.throwingLongBinaryOperator((l1, l2) -> {
+                throw new IOException(Long.toString(l1 + l2));
+            });
+
+            LongBinaryOperator sneaky = operator.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsLong(1L, 2L));
+            assertEquals("3", thrown.getMessage());
+
+            verify(operator).applyAsLong(1L, 2L);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBinaryOperator<IOException> operator = Spied.throwingLongBinaryOperator((l1, l2) -> throwable.throwUnchecked(l1 + l2));
+
+            LongBinaryOperator sneaky = operator.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsLong(1L, 2L));
+            assertEquals("3", thrown.getMessage());
+
+            verify(operator).applyAsLong(1L, 2L);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBinaryOperator<IOException> operator = Spied.throwingLongBinaryOperator(Long::max);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            assertEquals(2L, instrumented.applyAsLong(1L, 2L));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsLong(1L, 2L);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBinaryOperator<IOException> operator = Spied.throwingLongBinaryOperator((l1, l2) -> {
+                throw new IOException(Long.toString(l1 + l2));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsLong(1L, 2L));
+            assertEquals("3", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsLong(1L, 2L);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBinaryOperator<IOException> operator = Spied.throwingLongBinaryOperator((l1, l2) -> throwable.throwUnchecked(l1 + l2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsLong(1L, 2L));
+            assertEquals("3", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsLong(1L, 2L);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongBinaryOperator<IOException> operator = Spied.throwingLongBinaryOperator(Long::max);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(2L, instrumented.applyAsLong(1L, 2L));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsLong(1L, 2L);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongBinaryOperator<IOException> operator = Spied.throwingLongBinaryOperator((l1, l2) -> {
+                throw new IOException(Long.toString(l1 + l2));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsLong(1L, 2L));
+                assertEquals("3", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsLong(1L, 2L);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBinaryOperator<IOException> operator = Spied.throwingLongBinaryOperator((l1, l2) -> throwable.throwUnchecked(l1 + l2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongBinaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsLong(1L, 2L));
+                assertEquals("3", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsLong(1L, 2L);
+            verify(operator).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(operator);
         }
     }
@@ -876,7 +1061,6 @@ class ThrowingLongBinaryOperatorTest {
             assertEquals(2L, unchecked.applyAsLong(1L, 2L));
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).applyAsLong(1L, 2L);
             verifyNoMoreInteractions(operator);
         }
@@ -894,7 +1078,6 @@ class ThrowingLongBinaryOperatorTest {
             assertEquals("3", cause.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).applyAsLong(1L, 2L);
             verifyNoMoreInteractions(operator);
         }
@@ -910,7 +1093,59 @@ class ThrowingLongBinaryOperatorTest {
             assertEquals("3", thrown.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
+            verify(operator).applyAsLong(1L, 2L);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongBinaryOperator<IOException> operator = Spied.throwingLongBinaryOperator(Long::max);
+
+            LongBinaryOperator sneaky = ThrowingLongBinaryOperator.sneaky(operator);
+
+            assertEquals(2L, sneaky.applyAsLong(1L, 2L));
+
+            verify(operator).sneaky();
+            verify(operator).applyAsLong(1L, 2L);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingLongBinaryOperator<IOException> operator = Spied.throwingLongBinaryOperator((l1, l2) -> {
+                throw new IOException(Long.toString(l1 + l2));
+            });
+
+            LongBinaryOperator sneaky = ThrowingLongBinaryOperator.sneaky(operator);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsLong(1L, 2L));
+            assertEquals("3", thrown.getMessage());
+
+            verify(operator).sneaky();
+            verify(operator).applyAsLong(1L, 2L);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongBinaryOperator<IOException> operator = Spied.throwingLongBinaryOperator((l1, l2) -> throwable.throwUnchecked(l1 + l2));
+
+            LongBinaryOperator sneaky = ThrowingLongBinaryOperator.sneaky(operator);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsLong(1L, 2L));
+            assertEquals("3", thrown.getMessage());
+
+            verify(operator).sneaky();
             verify(operator).applyAsLong(1L, 2L);
             verifyNoMoreInteractions(operator);
         }
@@ -1008,4 +1243,158 @@ class ThrowingLongBinaryOperatorTest {
             assertEquals("3", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingLongBinaryOperator<IOException> operator = (left, right) -> {
+                throw new IOException("foo");
+            };
+
+            LongBinaryOperator sneaky = ThrowingLongBinaryOperator.sneaky(operator);
+            ThrowingLongBinaryOperator<IOException> checked = ThrowingLongBinaryOperator.checked(sneaky);
+            ThrowingLongBinaryOperator<IOException> checkedWithErrorType = ThrowingLongBinaryOperator.checked(sneaky, IOException.class);
+
+            LongBinaryOperator unchecked = ThrowingLongBinaryOperator.unchecked(checked);
+            LongBinaryOperator uncheckedWithErrorType = ThrowingLongBinaryOperator.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsLong(1L, 1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsLong(1L, 1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            LongBinaryOperator operator = (left, right) -> 1L;
+
+            ThrowingLongBinaryOperator<IOException> checked = ThrowingLongBinaryOperator.checked(operator);
+
+            assertSame(operator, ThrowingLongBinaryOperator.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingLongBinaryOperator<IOException> operator = (left, right) -> 1L;
+
+            LongBinaryOperator sneaky = ThrowingLongBinaryOperator.sneaky(operator);
+
+            assertSame(operator, ThrowingLongBinaryOperator.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingLongBinaryOperator<IOException> operator = (left, right) -> {
+                throw new IOException("foo");
+            };
+
+            LongBinaryOperator unchecked = ThrowingLongBinaryOperator.unchecked(operator);
+            ThrowingLongBinaryOperator<IOException> checked = ThrowingLongBinaryOperator.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsLong(1L, 1L));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingLongBinaryOperator<IOException> operator = (left, right) -> {
+                throw new IOException("foo");
+            };
+
+            LongBinaryOperator unchecked = ThrowingLongBinaryOperator.unchecked(operator);
+            ThrowingLongBinaryOperator<ParseException> checked = ThrowingLongBinaryOperator.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsLong(1L, 1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingLongBinaryOperator<IOException> operator = (left, right) -> {
+                throw new IOException("foo");
+            };
+
+            LongBinaryOperator unchecked = ThrowingLongBinaryOperator.unchecked(operator);
+            ThrowingLongBinaryOperator<IOException> checked = ThrowingLongBinaryOperator.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsLong(1L, 1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            LongBinaryOperator operator = Long::max;
+
+            assertThrows(NullPointerException.class, () -> ThrowingLongBinaryOperator.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingLongBinaryOperator.catching(operator, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongBinaryOperator<IOException> operator = ThrowingLongBinaryOperator.catching(Long::max, IOException.class);
+
+            assertEquals(2L, operator.applyAsLong(1L, 2L));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                LongBinaryOperator sneaky = ThrowingLongBinaryOperator.sneaky((l1, l2) -> {
+                    throw new IOException(Long.toString(l1 + l2));
+                });
+
+                ThrowingLongBinaryOperator<IOException> operator = ThrowingLongBinaryOperator.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> operator.applyAsLong(1L, 2L));
+                assertEquals("3", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                LongBinaryOperator sneaky = ThrowingLongBinaryOperator.sneaky((l1, l2) -> {
+                    throw new FileNotFoundException(Long.toString(l1 + l2));
+                });
+
+                ThrowingLongBinaryOperator<IOException> operator = ThrowingLongBinaryOperator.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> operator.applyAsLong(1L, 2L));
+                assertEquals("3", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                LongBinaryOperator sneaky = ThrowingLongBinaryOperator.sneaky((l1, l2) -> {
+                    throw new ParseException(Long.toString(l1 + l2), 0);
+                });
+
+                ThrowingLongBinaryOperator<IOException> operator = ThrowingLongBinaryOperator.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsLong(1L, 2L));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("3", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingLongBinaryOperator<IOException> operator = ThrowingLongBinaryOperator.catching((l1, l2) -> {
+                throw new IllegalStateException(Long.toString(l1 + l2));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> operator.applyAsLong(1L, 2L));
+            assertEquals("3", thrown.getMessage());
+        }
+    }
 }
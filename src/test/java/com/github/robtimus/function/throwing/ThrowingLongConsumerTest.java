@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -705,7 +707,6 @@ class ThrowingLongConsumerTest {
 
             verify(consumer).accept(1L);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -723,7 +724,6 @@ class ThrowingLongConsumerTest {
 
             verify(consumer).accept(1L);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -739,7 +739,192 @@ class ThrowingLongConsumerTest {
 
             verify(consumer).accept(1L);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongConsumer<IOException> consumer = Spied.throwingLongConsumer(Long::toString);
+
+            LongConsumer sneaky = consumer.sneaky();
+
+            sneaky.accept(1L);
+
+            verify(consumer).accept(1L);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongConsumer<IOException> consumer = Spied.throwingLongConsumer(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            LongConsumer sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept(1L);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongConsumer<IOException> consumer = Spied.throwingLongConsumer(throwable::throwUnchecked);
+
+            LongConsumer sneaky = consumer.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept(1L);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongConsumer<IOException> consumer = Spied.throwingLongConsumer(Long::toString);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept(1L);
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1L);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongConsumer<IOException> consumer = Spied.throwingLongConsumer(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept(1L));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1L);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongConsumer<IOException> consumer = Spied.throwingLongConsumer(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept(1L));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept(1L);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongConsumer<IOException> consumer = Spied.throwingLongConsumer(Long::toString);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept(1L);
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1L);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongConsumer<IOException> consumer = Spied.throwingLongConsumer(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1L);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongConsumer<IOException> consumer = Spied.throwingLongConsumer(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept(1L);
+            verify(consumer).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(consumer);
         }
     }
@@ -782,7 +967,6 @@ class ThrowingLongConsumerTest {
             unchecked.accept(1L);
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept(1L);
             verifyNoMoreInteractions(consumer);
         }
@@ -800,7 +984,6 @@ class ThrowingLongConsumerTest {
             assertEquals("1", cause.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept(1L);
             verifyNoMoreInteractions(consumer);
         }
@@ -816,7 +999,59 @@ class ThrowingLongConsumerTest {
             assertEquals("1", thrown.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verify(consumer).accept(1L);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingLongConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongConsumer<IOException> consumer = Spied.throwingLongConsumer(Long::toString);
+
+            LongConsumer sneaky = ThrowingLongConsumer.sneaky(consumer);
+
+            sneaky.accept(1L);
+
+            verify(consumer).sneaky();
+            verify(consumer).accept(1L);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingLongConsumer<IOException> consumer = Spied.throwingLongConsumer(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            LongConsumer sneaky = ThrowingLongConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept(1L);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongConsumer<IOException> consumer = Spied.throwingLongConsumer(throwable::throwUnchecked);
+
+            LongConsumer sneaky = ThrowingLongConsumer.sneaky(consumer);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).sneaky();
             verify(consumer).accept(1L);
             verifyNoMoreInteractions(consumer);
         }
@@ -924,4 +1159,163 @@ class ThrowingLongConsumerTest {
             assertEquals("1", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingLongConsumer<IOException> operation = value -> {
+                throw new IOException("foo");
+            };
+
+            LongConsumer sneaky = ThrowingLongConsumer.sneaky(operation);
+            ThrowingLongConsumer<IOException> checked = ThrowingLongConsumer.checked(sneaky);
+            ThrowingLongConsumer<IOException> checkedWithErrorType = ThrowingLongConsumer.checked(sneaky, IOException.class);
+
+            LongConsumer unchecked = ThrowingLongConsumer.unchecked(checked);
+            LongConsumer uncheckedWithErrorType = ThrowingLongConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept(1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept(1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            LongConsumer operation = value -> { /* do nothing */ };
+
+            ThrowingLongConsumer<IOException> checked = ThrowingLongConsumer.checked(operation);
+
+            assertSame(operation, ThrowingLongConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingLongConsumer<IOException> operation = value -> { /* do nothing */ };
+
+            LongConsumer sneaky = ThrowingLongConsumer.sneaky(operation);
+
+            assertSame(operation, ThrowingLongConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingLongConsumer<IOException> operation = value -> {
+                throw new IOException("foo");
+            };
+
+            LongConsumer unchecked = ThrowingLongConsumer.unchecked(operation);
+            ThrowingLongConsumer<IOException> checked = ThrowingLongConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept(1L));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingLongConsumer<IOException> operation = value -> {
+                throw new IOException("foo");
+            };
+
+            LongConsumer unchecked = ThrowingLongConsumer.unchecked(operation);
+            ThrowingLongConsumer<ParseException> checked = ThrowingLongConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept(1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingLongConsumer<IOException> operation = value -> {
+                throw new IOException("foo");
+            };
+
+            LongConsumer unchecked = ThrowingLongConsumer.unchecked(operation);
+            ThrowingLongConsumer<IOException> checked = ThrowingLongConsumer.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept(1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            LongConsumer consumer = Long::toString;
+
+            assertThrows(NullPointerException.class, () -> ThrowingLongConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingLongConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            LongConsumer delegate = Spied.longConsumer(Long::toString);
+
+            ThrowingLongConsumer<IOException> consumer = ThrowingLongConsumer.catching(delegate, IOException.class);
+
+            consumer.accept(1L);
+
+            verify(delegate).accept(1L);
+            verifyNoMoreInteractions(delegate);
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                LongConsumer sneaky = ThrowingLongConsumer.sneaky(l -> {
+                    throw new IOException(Long.toString(l));
+                });
+
+                ThrowingLongConsumer<IOException> consumer = ThrowingLongConsumer.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> consumer.accept(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                LongConsumer sneaky = ThrowingLongConsumer.sneaky(l -> {
+                    throw new FileNotFoundException(Long.toString(l));
+                });
+
+                ThrowingLongConsumer<IOException> consumer = ThrowingLongConsumer.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> consumer.accept(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                LongConsumer sneaky = ThrowingLongConsumer.sneaky(l -> {
+                    throw new ParseException(Long.toString(l), 0);
+                });
+
+                ThrowingLongConsumer<IOException> consumer = ThrowingLongConsumer.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept(1L));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingLongConsumer<IOException> consumer = ThrowingLongConsumer.catching(l -> {
+                throw new IllegalStateException(Long.toString(l));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> consumer.accept(1L));
+            assertEquals("1", thrown.getMessage());
+        }
+    }
 }
@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 import java.util.function.Supplier;
@@ -803,7 +806,6 @@ class ThrowingLongFunctionTest {
 
             verify(function).apply(1L);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -821,7 +823,6 @@ class ThrowingLongFunctionTest {
 
             verify(function).apply(1L);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -837,11 +838,288 @@ class ThrowingLongFunctionTest {
 
             verify(function).apply(1L);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(Long::toString);
+
+            LongFunction<String> sneaky = function.sneaky();
+
+            assertEquals("1", sneaky.apply(1L));
+
+            verify(function).apply(1L);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            LongFunction<String> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).apply(1L);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(throwable::throwUnchecked);
+
+            LongFunction<String> sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.apply(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).apply(1L);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(Long::toString);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals("1", instrumented.apply(1L));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply(1L));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply(1L));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply(1L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(Long::toString);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("1", instrumented.apply(1L));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply(1L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(Long::toString);
+
+            ThrowingLongFunction<String, IOException> memoized = function.memoize();
+
+            assertEquals("1", memoized.apply(1L));
+            assertEquals("2", memoized.apply(2L));
+            assertEquals("1", memoized.apply(1L));
+            assertEquals("2", memoized.apply(2L));
+
+            verify(function).apply(1L);
+            verify(function).apply(2L);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(l -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingLongFunction<String, IOException> memoized = function.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.apply(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.apply(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).apply(1L);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(l -> throwable.throwUnchecked("foo"));
+
+            ThrowingLongFunction<String, IOException> memoized = function.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.apply(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.apply(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).apply(1L);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testNullResult() throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(l -> null);
+
+            ThrowingLongFunction<String, IOException> memoized = function.memoize();
+
+            assertNull(memoized.apply(1L));
+            assertNull(memoized.apply(1L));
+
+            verify(function).apply(1L);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingLongFunction<String, IOException> function = l -> {
+                counter.incrementAndGet();
+                return String.valueOf(l);
+            };
+
+            ThrowingLongFunction<String, IOException> memoized = function.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(String.valueOf(i), memoized.apply(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(String.valueOf(i), memoized.apply(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
     @Nested
     class Of {
 
@@ -875,7 +1153,6 @@ class ThrowingLongFunctionTest {
             assertEquals("1", unchecked.apply(1L));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).apply(1L);
             verifyNoMoreInteractions(function);
         }
@@ -893,7 +1170,6 @@ class ThrowingLongFunctionTest {
             assertEquals("1", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).apply(1L);
             verifyNoMoreInteractions(function);
         }
@@ -909,7 +1185,59 @@ class ThrowingLongFunctionTest {
             assertEquals("1", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).apply(1L);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingLongFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(Long::toString);
+
+            LongFunction<String> sneaky = ThrowingLongFunction.sneaky(function);
+
+            assertEquals("1", sneaky.apply(1L));
+
+            verify(function).sneaky();
+            verify(function).apply(1L);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            LongFunction<String> sneaky = ThrowingLongFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply(1L);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongFunction<String, IOException> function = Spied.throwingLongFunction(throwable::throwUnchecked);
+
+            LongFunction<String> sneaky = ThrowingLongFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.apply(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).apply(1L);
             verifyNoMoreInteractions(function);
         }
@@ -1007,4 +1335,158 @@ class ThrowingLongFunctionTest {
             assertEquals("1", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingLongFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            LongFunction<String> sneaky = ThrowingLongFunction.sneaky(function);
+            ThrowingLongFunction<String, IOException> checked = ThrowingLongFunction.checked(sneaky);
+            ThrowingLongFunction<String, IOException> checkedWithErrorType = ThrowingLongFunction.checked(sneaky, IOException.class);
+
+            LongFunction<String> unchecked = ThrowingLongFunction.unchecked(checked);
+            LongFunction<String> uncheckedWithErrorType = ThrowingLongFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply(1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply(1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            LongFunction<String> function = value -> "foo";
+
+            ThrowingLongFunction<String, IOException> checked = ThrowingLongFunction.checked(function);
+
+            assertSame(function, ThrowingLongFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingLongFunction<String, IOException> function = value -> "foo";
+
+            LongFunction<String> sneaky = ThrowingLongFunction.sneaky(function);
+
+            assertSame(function, ThrowingLongFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingLongFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            LongFunction<String> unchecked = ThrowingLongFunction.unchecked(function);
+            ThrowingLongFunction<String, IOException> checked = ThrowingLongFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply(1L));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingLongFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            LongFunction<String> unchecked = ThrowingLongFunction.unchecked(function);
+            ThrowingLongFunction<String, ParseException> checked = ThrowingLongFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply(1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingLongFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            LongFunction<String> unchecked = ThrowingLongFunction.unchecked(function);
+            ThrowingLongFunction<String, IOException> checked = ThrowingLongFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply(1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            LongFunction<String> function = Long::toString;
+
+            assertThrows(NullPointerException.class, () -> ThrowingLongFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingLongFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongFunction<String, IOException> function = ThrowingLongFunction.catching(Long::toString, IOException.class);
+
+            assertEquals("1", function.apply(1L));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                LongFunction<String> sneaky = ThrowingLongFunction.sneaky(l -> {
+                    throw new IOException(Long.toString(l));
+                });
+
+                ThrowingLongFunction<String, IOException> function = ThrowingLongFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.apply(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                LongFunction<String> sneaky = ThrowingLongFunction.sneaky(l -> {
+                    throw new FileNotFoundException(Long.toString(l));
+                });
+
+                ThrowingLongFunction<String, IOException> function = ThrowingLongFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.apply(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                LongFunction<String> sneaky = ThrowingLongFunction.sneaky(l -> {
+                    throw new ParseException(Long.toString(l), 0);
+                });
+
+                ThrowingLongFunction<String, IOException> function = ThrowingLongFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply(1L));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingLongFunction<String, IOException> function = ThrowingLongFunction.catching(l -> {
+                throw new IllegalStateException(Long.toString(l));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.apply(1L));
+            assertEquals("1", thrown.getMessage());
+        }
+    }
 }
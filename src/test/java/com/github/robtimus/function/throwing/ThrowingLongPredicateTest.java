@@ -21,15 +21,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongPredicate;
@@ -1298,7 +1301,6 @@ class ThrowingLongPredicateTest {
 
             verify(predicate).test(1L);
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(predicate);
         }
 
@@ -1316,7 +1318,6 @@ class ThrowingLongPredicateTest {
 
             verify(predicate).test(1L);
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(predicate);
         }
 
@@ -1332,11 +1333,274 @@ class ThrowingLongPredicateTest {
 
             verify(predicate).test(1L);
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(predicate);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(l -> l % 2 != 0);
+
+            LongPredicate sneaky = predicate.sneaky();
+
+            assertTrue(sneaky.test(1L));
+
+            verify(predicate).test(1L);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            LongPredicate sneaky = predicate.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).test(1L);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(throwable::throwUnchecked);
+
+            LongPredicate sneaky = predicate.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.test(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).test(1L);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(l -> l % 2 != 0);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            assertTrue(instrumented.test(1L));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1L);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.test(1L));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1L);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test(1L));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(1L);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(l -> l % 2 != 0);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertTrue(instrumented.test(1L));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1L);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.test(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1L);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(1L);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(l -> l % 2 != 0);
+
+            ThrowingLongPredicate<IOException> memoized = predicate.memoize();
+
+            assertTrue(memoized.test(1L));
+            assertFalse(memoized.test(2L));
+            assertTrue(memoized.test(1L));
+            assertFalse(memoized.test(2L));
+
+            verify(predicate).test(1L);
+            verify(predicate).test(2L);
+            verify(predicate).memoize();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(l -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingLongPredicate<IOException> memoized = predicate.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.test(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.test(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(predicate, times(2)).test(1L);
+            verify(predicate).memoize();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(l -> throwable.throwUnchecked("foo"));
+
+            ThrowingLongPredicate<IOException> memoized = predicate.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.test(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.test(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(predicate, times(2)).test(1L);
+            verify(predicate).memoize();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingLongPredicate<IOException> predicate = l -> {
+                counter.incrementAndGet();
+                return l % 2 != 0;
+            };
+
+            ThrowingLongPredicate<IOException> memoized = predicate.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i % 2 != 0, memoized.test(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i % 2 != 0, memoized.test(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
     @Nested
     class Of {
 
@@ -1425,7 +1689,6 @@ class ThrowingLongPredicateTest {
             assertTrue(unchecked.test(1L));
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verify(predicate).test(1L);
             verifyNoMoreInteractions(predicate);
         }
@@ -1443,7 +1706,6 @@ class ThrowingLongPredicateTest {
             assertEquals("1", cause.getMessage());
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verify(predicate).test(1L);
             verifyNoMoreInteractions(predicate);
         }
@@ -1459,7 +1721,59 @@ class ThrowingLongPredicateTest {
             assertEquals("1", thrown.getMessage());
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
+            verify(predicate).test(1L);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingLongPredicate.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(l -> l % 2 != 0);
+
+            LongPredicate sneaky = ThrowingLongPredicate.sneaky(predicate);
+
+            assertTrue(sneaky.test(1L));
+
+            verify(predicate).sneaky();
+            verify(predicate).test(1L);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            LongPredicate sneaky = ThrowingLongPredicate.sneaky(predicate);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).sneaky();
+            verify(predicate).test(1L);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(throwable::throwUnchecked);
+
+            LongPredicate sneaky = ThrowingLongPredicate.sneaky(predicate);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.test(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).sneaky();
             verify(predicate).test(1L);
             verifyNoMoreInteractions(predicate);
         }
@@ -1557,4 +1871,158 @@ class ThrowingLongPredicateTest {
             assertEquals("1", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingLongPredicate<IOException> predicate = value -> {
+                throw new IOException("foo");
+            };
+
+            LongPredicate sneaky = ThrowingLongPredicate.sneaky(predicate);
+            ThrowingLongPredicate<IOException> checked = ThrowingLongPredicate.checked(sneaky);
+            ThrowingLongPredicate<IOException> checkedWithErrorType = ThrowingLongPredicate.checked(sneaky, IOException.class);
+
+            LongPredicate unchecked = ThrowingLongPredicate.unchecked(checked);
+            LongPredicate uncheckedWithErrorType = ThrowingLongPredicate.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test(1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.test(1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            LongPredicate predicate = value -> true;
+
+            ThrowingLongPredicate<IOException> checked = ThrowingLongPredicate.checked(predicate);
+
+            assertSame(predicate, ThrowingLongPredicate.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingLongPredicate<IOException> predicate = value -> true;
+
+            LongPredicate sneaky = ThrowingLongPredicate.sneaky(predicate);
+
+            assertSame(predicate, ThrowingLongPredicate.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingLongPredicate<IOException> predicate = value -> {
+                throw new IOException("foo");
+            };
+
+            LongPredicate unchecked = ThrowingLongPredicate.unchecked(predicate);
+            ThrowingLongPredicate<IOException> checked = ThrowingLongPredicate.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.test(1L));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingLongPredicate<IOException> predicate = value -> {
+                throw new IOException("foo");
+            };
+
+            LongPredicate unchecked = ThrowingLongPredicate.unchecked(predicate);
+            ThrowingLongPredicate<ParseException> checked = ThrowingLongPredicate.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test(1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingLongPredicate<IOException> predicate = value -> {
+                throw new IOException("foo");
+            };
+
+            LongPredicate unchecked = ThrowingLongPredicate.unchecked(predicate);
+            ThrowingLongPredicate<IOException> checked = ThrowingLongPredicate.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test(1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            LongPredicate predicate = l -> l % 2 != 0;
+
+            assertThrows(NullPointerException.class, () -> ThrowingLongPredicate.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingLongPredicate.catching(predicate, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongPredicate<IOException> predicate = ThrowingLongPredicate.catching(l -> l % 2 != 0, IOException.class);
+
+            assertTrue(predicate.test(1L));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                LongPredicate sneaky = ThrowingLongPredicate.sneaky(l -> {
+                    throw new IOException(Long.toString(l));
+                });
+
+                ThrowingLongPredicate<IOException> predicate = ThrowingLongPredicate.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> predicate.test(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                LongPredicate sneaky = ThrowingLongPredicate.sneaky(l -> {
+                    throw new FileNotFoundException(Long.toString(l));
+                });
+
+                ThrowingLongPredicate<IOException> predicate = ThrowingLongPredicate.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> predicate.test(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                LongPredicate sneaky = ThrowingLongPredicate.sneaky(l -> {
+                    throw new ParseException(Long.toString(l), 0);
+                });
+
+                ThrowingLongPredicate<IOException> predicate = ThrowingLongPredicate.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test(1L));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingLongPredicate<IOException> predicate = ThrowingLongPredicate.catching(l -> {
+                throw new IllegalStateException(Long.toString(l));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> predicate.test(1L));
+            assertEquals("1", thrown.getMessage());
+        }
+    }
 }
@@ -0,0 +1,287 @@
+/*
+ * ThrowingLongStreamTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingLongStreamTest {
+
+    @Nested
+    class Filter {
+
+        @Test
+        void testPredicateThrowsNothing() throws IOException {
+            ThrowingLongPredicate<IOException> predicate = Spied.throwingLongPredicate(i -> i > 1);
+
+            assertArrayEquals(new long[] { 2L, 3L }, stream(1L, 2L, 3L).filter(predicate).toArray());
+
+            verify(predicate).test(1L);
+            verify(predicate).test(2L);
+            verify(predicate).test(3L);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testPredicateThrowsChecked() {
+            IOException exception = new IOException("2");
+            ThrowingLongPredicate<IOException> predicate = i -> {
+                if (i == 2) {
+                    throw exception;
+                }
+                return true;
+            };
+
+            ThrowingLongStream<IOException> stream = stream(1L, 2L, 3L).filter(predicate);
+
+            IOException thrown = assertThrows(IOException.class, stream::toArray);
+            assertSame(exception, thrown);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testPredicateThrowsUnchecked(UncheckedThrowable<?> throwable) {
+            ThrowingLongPredicate<IOException> predicate = throwable::throwUnchecked;
+
+            ThrowingLongStream<IOException> stream = stream(1L).filter(predicate);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), stream::count);
+            assertEquals("1", thrown.getMessage());
+        }
+    }
+
+    @Nested
+    class Map {
+
+        @Test
+        void testMapperThrowsNothing() throws IOException {
+            ThrowingLongUnaryOperator<IOException> mapper = Spied.throwingLongUnaryOperator(i -> i * 2);
+
+            assertArrayEquals(new long[] { 2L, 4L }, stream(1L, 2L).map(mapper).toArray());
+
+            verify(mapper).applyAsLong(1L);
+            verify(mapper).applyAsLong(2L);
+            verifyNoMoreInteractions(mapper);
+        }
+
+        @Test
+        void testMapperThrowsChecked() {
+            IOException exception = new IOException("1");
+            ThrowingLongUnaryOperator<IOException> mapper = i -> {
+                throw exception;
+            };
+
+            ThrowingLongStream<IOException> stream = stream(1L, 2L).map(mapper);
+
+            IOException thrown = assertThrows(IOException.class, stream::sum);
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        void testMapToObj() throws IOException {
+            assertEquals(List.of("1", "2"), stream(1L, 2L).mapToObj(Long::toString).toList());
+        }
+
+        @Test
+        void testMapToInt() throws IOException {
+            assertArrayEquals(new int[] { 1, 2 }, stream(1L, 2L).mapToInt(i -> (int) i).toArray());
+        }
+
+        @Test
+        void testMapToDouble() throws IOException {
+            assertArrayEquals(new double[] { 1.0, 2.0 }, stream(1L, 2L).mapToDouble(i -> (double) i).toArray());
+        }
+
+        @Test
+        void testAsDoubleStream() throws IOException {
+            assertArrayEquals(new double[] { 1.0, 2.0 }, stream(1L, 2L).asDoubleStream().toArray());
+        }
+
+        @Test
+        void testFlatMap() throws IOException {
+            assertArrayEquals(new long[] { 1L, 1L, 2L, 2L }, stream(1L, 2L).flatMap(i -> LongStream.of(i, i)).toArray());
+        }
+
+        @Test
+        void testBoxed() throws IOException {
+            assertEquals(List.of(1L, 2L), stream(1L, 2L).boxed().toList());
+        }
+    }
+
+    @Nested
+    class Peek {
+
+        @Test
+        void testActionThrowsChecked() {
+            IOException exception = new IOException("1");
+            ThrowingLongConsumer<IOException> action = i -> {
+                throw exception;
+            };
+
+            ThrowingLongStream<IOException> stream = stream(1L, 2L).peek(action);
+
+            IOException thrown = assertThrows(IOException.class, stream::count);
+            assertSame(exception, thrown);
+        }
+    }
+
+    @Nested
+    class StatefulOperations {
+
+        @Test
+        void testDistinctAndSorted() throws IOException {
+            assertArrayEquals(new long[] { 1L, 2L, 3L }, stream(3L, 1L, 3L, 2L).distinct().sorted().toArray());
+        }
+
+        @Test
+        void testLimitAndSkip() throws IOException {
+            assertArrayEquals(new long[] { 2L, 3L }, stream(1L, 2L, 3L, 4L).skip(1).limit(2).toArray());
+        }
+
+        @Test
+        void testTakeWhileAndDropWhile() throws IOException {
+            assertArrayEquals(new long[] { 1L }, stream(1L, 2L, 1L).takeWhile(i -> i < 2).toArray());
+            assertArrayEquals(new long[] { 2L, 1L }, stream(1L, 2L, 1L).dropWhile(i -> i < 2).toArray());
+        }
+    }
+
+    @Nested
+    class TerminalOperations {
+
+        @Test
+        void testForEach() throws IOException {
+            List<Long> result = new ArrayList<>();
+
+            stream(1L, 2L).forEach(result::add);
+            stream(3L, 4L).parallel().forEachOrdered(result::add);
+
+            assertEquals(List.of(1L, 2L, 3L, 4L), result);
+        }
+
+        @Test
+        void testForEachThrowsChecked() {
+            IOException exception = new IOException("1");
+            ThrowingLongConsumer<IOException> action = i -> {
+                throw exception;
+            };
+
+            ThrowingLongStream<IOException> stream = stream(1L, 2L);
+
+            IOException thrown = assertThrows(IOException.class, () -> stream.forEach(action));
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        void testReduce() throws IOException {
+            assertEquals(3L, stream(1L, 2L).reduce(0L, (i1, i2) -> i1 + i2));
+            assertEquals(OptionalLong.of(3L), stream(1L, 2L).reduce((i1, i2) -> i1 + i2));
+        }
+
+        @Test
+        void testReduceThrowsChecked() {
+            IOException exception = new IOException("1");
+            ThrowingLongBinaryOperator<IOException> accumulator = (i1, i2) -> {
+                throw exception;
+            };
+
+            ThrowingLongStream<IOException> stream = stream(1L, 2L);
+
+            IOException thrown = assertThrows(IOException.class, () -> stream.reduce(0L, accumulator));
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        void testCollect() throws IOException {
+            ThrowingSupplier<List<Long>, IOException> supplier = ArrayList::new;
+            ThrowingObjLongConsumer<List<Long>, IOException> accumulator = List::add;
+            ThrowingBiConsumer<List<Long>, List<Long>, IOException> combiner = List::addAll;
+
+            assertEquals(List.of(1L, 2L), stream(1L, 2L).collect(supplier, accumulator, combiner));
+        }
+
+        @Test
+        void testStatistics() throws IOException {
+            assertEquals(4L, stream(1L, 3L).sum());
+            assertEquals(OptionalLong.of(1L), stream(1L, 3L).min());
+            assertEquals(OptionalLong.of(3L), stream(1L, 3L).max());
+            assertEquals(2, stream(1L, 3L).count());
+            assertEquals(2.0, stream(1L, 3L).average().getAsDouble());
+            assertEquals(4L, stream(1L, 3L).summaryStatistics().getSum());
+        }
+
+        @Test
+        void testMatch() throws IOException {
+            assertTrue(stream(1L, 2L).anyMatch(i -> i > 1));
+            assertFalse(stream(1L, 2L).allMatch(i -> i > 1));
+            assertFalse(stream(1L, 2L).noneMatch(i -> i > 1));
+        }
+
+        @Test
+        void testFind() throws IOException {
+            assertEquals(OptionalLong.of(1L), stream(1L, 2L).findFirst());
+            assertTrue(stream(1L, 2L).findAny().isPresent());
+        }
+    }
+
+    @Nested
+    class Close {
+
+        @Test
+        void testOnClose() {
+            AtomicBoolean closed = new AtomicBoolean();
+
+            try (ThrowingLongStream<IOException> stream = stream(1L).onClose(() -> closed.set(true))) {
+                assertFalse(closed.get());
+            }
+
+            assertTrue(closed.get());
+        }
+
+        @Test
+        void testParallel() {
+            assertTrue(stream(1L).parallel().isParallel());
+            assertFalse(stream(1L).parallel().sequential().unordered().isParallel());
+        }
+    }
+
+    @Test
+    void testOfNull() {
+        assertThrows(NullPointerException.class, () -> ThrowingLongStream.of(null));
+    }
+
+    private static ThrowingLongStream<IOException> stream(long... values) {
+        return ThrowingLongStream.of(LongStream.of(values));
+    }
+}
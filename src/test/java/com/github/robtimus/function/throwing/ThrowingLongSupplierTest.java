@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
 import java.util.function.ToLongFunction;
@@ -611,7 +614,6 @@ class ThrowingLongSupplierTest {
 
             verify(supplier).getAsLong();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
 
@@ -629,7 +631,6 @@ class ThrowingLongSupplierTest {
 
             verify(supplier).getAsLong();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
 
@@ -645,11 +646,283 @@ class ThrowingLongSupplierTest {
 
             verify(supplier).getAsLong();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> 1L);
+
+            LongSupplier sneaky = supplier.sneaky();
+
+            assertEquals(1L, sneaky.getAsLong());
+
+            verify(supplier).getAsLong();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            LongSupplier sneaky = supplier.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, sneaky::getAsLong);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsLong();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> throwable.throwUnchecked("foo"));
+
+            LongSupplier sneaky = supplier.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), sneaky::getAsLong);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsLong();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> 1L);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            assertEquals(1L, instrumented.getAsLong());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsLong();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, instrumented::getAsLong);
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsLong();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), instrumented::getAsLong);
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsLong();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> 1L);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(1L, instrumented.getAsLong());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsLong();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, instrumented::getAsLong);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsLong();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), instrumented::getAsLong);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsLong();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> 1L);
+
+            ThrowingLongSupplier<IOException> memoized = supplier.memoize();
+
+            assertEquals(1L, memoized.getAsLong());
+            assertEquals(1L, memoized.getAsLong());
+
+            verify(supplier).getAsLong();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingLongSupplier<IOException> memoized = supplier.memoize();
+
+            IOException thrown = assertThrows(IOException.class, memoized::getAsLong);
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, memoized::getAsLong);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier, times(2)).getAsLong();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> throwable.throwUnchecked("foo"));
+
+            ThrowingLongSupplier<IOException> memoized = supplier.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), memoized::getAsLong);
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), memoized::getAsLong);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier, times(2)).getAsLong();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsCheckedOnce() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> {
+                if (counter.getAndIncrement() == 0) {
+                    throw new IOException("foo");
+                }
+                return 1L;
+            });
+
+            ThrowingLongSupplier<IOException> memoized = supplier.memoize();
+
+            IOException thrown = assertThrows(IOException.class, memoized::getAsLong);
+            assertEquals("foo", thrown.getMessage());
+
+            assertEquals(1L, memoized.getAsLong());
+            assertEquals(1L, memoized.getAsLong());
+
+            verify(supplier, times(2)).getAsLong();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testMemoizeMemoized() {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> 1L);
+
+            ThrowingLongSupplier<IOException> memoized = supplier.memoize();
+
+            assertSame(memoized, memoized.memoize());
+        }
+    }
+
     @Nested
     class Of {
 
@@ -683,7 +956,6 @@ class ThrowingLongSupplierTest {
             assertEquals(1L, unchecked.getAsLong());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verify(supplier).getAsLong();
             verifyNoMoreInteractions(supplier);
         }
@@ -701,7 +973,6 @@ class ThrowingLongSupplierTest {
             assertEquals("foo", cause.getMessage());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verify(supplier).getAsLong();
             verifyNoMoreInteractions(supplier);
         }
@@ -717,7 +988,59 @@ class ThrowingLongSupplierTest {
             assertEquals("foo", thrown.getMessage());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
+            verify(supplier).getAsLong();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingLongSupplier.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> 1L);
+
+            LongSupplier sneaky = ThrowingLongSupplier.sneaky(supplier);
+
+            assertEquals(1L, sneaky.getAsLong());
+
+            verify(supplier).sneaky();
+            verify(supplier).getAsLong();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            LongSupplier sneaky = ThrowingLongSupplier.sneaky(supplier);
+
+            IOException thrown = assertThrows(IOException.class, sneaky::getAsLong);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).sneaky();
+            verify(supplier).getAsLong();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongSupplier<IOException> supplier = Spied.throwingLongSupplier(() -> throwable.throwUnchecked("foo"));
+
+            LongSupplier sneaky = ThrowingLongSupplier.sneaky(supplier);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), sneaky::getAsLong);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).sneaky();
             verify(supplier).getAsLong();
             verifyNoMoreInteractions(supplier);
         }
@@ -815,4 +1138,158 @@ class ThrowingLongSupplierTest {
             assertEquals("foo", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingLongSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            LongSupplier sneaky = ThrowingLongSupplier.sneaky(supplier);
+            ThrowingLongSupplier<IOException> checked = ThrowingLongSupplier.checked(sneaky);
+            ThrowingLongSupplier<IOException> checkedWithErrorType = ThrowingLongSupplier.checked(sneaky, IOException.class);
+
+            LongSupplier unchecked = ThrowingLongSupplier.unchecked(checked);
+            LongSupplier uncheckedWithErrorType = ThrowingLongSupplier.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsLong());
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.getAsLong());
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            LongSupplier supplier = () -> 1L;
+
+            ThrowingLongSupplier<IOException> checked = ThrowingLongSupplier.checked(supplier);
+
+            assertSame(supplier, ThrowingLongSupplier.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingLongSupplier<IOException> supplier = () -> 1L;
+
+            LongSupplier sneaky = ThrowingLongSupplier.sneaky(supplier);
+
+            assertSame(supplier, ThrowingLongSupplier.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingLongSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            LongSupplier unchecked = ThrowingLongSupplier.unchecked(supplier);
+            ThrowingLongSupplier<IOException> checked = ThrowingLongSupplier.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.getAsLong());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingLongSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            LongSupplier unchecked = ThrowingLongSupplier.unchecked(supplier);
+            ThrowingLongSupplier<ParseException> checked = ThrowingLongSupplier.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.getAsLong());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingLongSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            LongSupplier unchecked = ThrowingLongSupplier.unchecked(supplier);
+            ThrowingLongSupplier<IOException> checked = ThrowingLongSupplier.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.getAsLong());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            LongSupplier supplier = () -> 1L;
+
+            assertThrows(NullPointerException.class, () -> ThrowingLongSupplier.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingLongSupplier.catching(supplier, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongSupplier<IOException> supplier = ThrowingLongSupplier.catching(() -> 1L, IOException.class);
+
+            assertEquals(1L, supplier.getAsLong());
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                LongSupplier sneaky = ThrowingLongSupplier.sneaky(() -> {
+                    throw new IOException("foo");
+                });
+
+                ThrowingLongSupplier<IOException> supplier = ThrowingLongSupplier.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, supplier::getAsLong);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                LongSupplier sneaky = ThrowingLongSupplier.sneaky(() -> {
+                    throw new FileNotFoundException("foo");
+                });
+
+                ThrowingLongSupplier<IOException> supplier = ThrowingLongSupplier.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, supplier::getAsLong);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                LongSupplier sneaky = ThrowingLongSupplier.sneaky(() -> {
+                    throw new ParseException("foo", 0);
+                });
+
+                ThrowingLongSupplier<IOException> supplier = ThrowingLongSupplier.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, supplier::getAsLong);
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingLongSupplier<IOException> supplier = ThrowingLongSupplier.catching(() -> {
+                throw new IllegalStateException("foo");
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, supplier::getAsLong);
+            assertEquals("foo", thrown.getMessage());
+        }
+    }
 }
@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.DoubleSupplier;
 import java.util.function.Function;
 import java.util.function.LongToDoubleFunction;
@@ -40,6 +43,74 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 @SuppressWarnings("nls")
 class ThrowingLongToDoubleFunctionTest {
 
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> l + 1);
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> l + 1);
+            ThrowingDoubleUnaryOperator<IOException> after = Spied.throwingDoubleUnaryOperator(d -> d * 3);
+
+            ThrowingLongToDoubleFunction<IOException> composed = function.andThen(after);
+
+            assertEquals(6.0, composed.applyAsDouble(1L));
+
+            verify(function).applyAsDouble(1L);
+            verify(function).andThen(after);
+            verify(after).applyAsDouble(2.0);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            ThrowingDoubleUnaryOperator<IOException> after = Spied.throwingDoubleUnaryOperator(d -> d * 3);
+
+            ThrowingLongToDoubleFunction<IOException> composed = function.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsDouble(1L));
+            assertEquals(Long.toString(1L), thrown.getMessage());
+
+            verify(function).applyAsDouble(1L);
+            verify(function).andThen(after);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> l + 1);
+            ThrowingDoubleUnaryOperator<IOException> after = Spied.throwingDoubleUnaryOperator(d -> {
+                throw new IOException(Double.toString(d));
+            });
+
+            ThrowingLongToDoubleFunction<IOException> composed = function.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsDouble(1L));
+            assertEquals(Double.toString(2.0), thrown.getMessage());
+
+            verify(function).applyAsDouble(1L);
+            verify(function).andThen(after);
+            verify(after).applyAsDouble(2.0);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> l + 1);
+
+            assertSame(function, function.andThen(ThrowingDoubleUnaryOperator.identity()));
+        }
+    }
+
     @Nested
     class OnErrorThrowAsChecked {
 
@@ -804,7 +875,6 @@ class ThrowingLongToDoubleFunctionTest {
 
             verify(function).applyAsDouble(1L);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -822,7 +892,6 @@ class ThrowingLongToDoubleFunctionTest {
 
             verify(function).applyAsDouble(1L);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -838,11 +907,274 @@ class ThrowingLongToDoubleFunctionTest {
 
             verify(function).applyAsDouble(1L);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> l + 1D);
+
+            LongToDoubleFunction sneaky = function.sneaky();
+
+            assertEquals(2D, sneaky.applyAsDouble(1L));
+
+            verify(function).applyAsDouble(1L);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            LongToDoubleFunction sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsDouble(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsDouble(1L);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(throwable::throwUnchecked);
+
+            LongToDoubleFunction sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsDouble(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsDouble(1L);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> l + 1D);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongToDoubleFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(2D, instrumented.applyAsDouble(1L));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble(1L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongToDoubleFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsDouble(1L));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble(1L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongToDoubleFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsDouble(1L));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble(1L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> l + 1D);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongToDoubleFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(2D, instrumented.applyAsDouble(1L));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble(1L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongToDoubleFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsDouble(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble(1L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongToDoubleFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsDouble(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble(1L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> l + 1D);
+
+            ThrowingLongToDoubleFunction<IOException> memoized = function.memoize();
+
+            assertEquals(2D, memoized.applyAsDouble(1L));
+            assertEquals(3D, memoized.applyAsDouble(2L));
+            assertEquals(2D, memoized.applyAsDouble(1L));
+            assertEquals(3D, memoized.applyAsDouble(2L));
+
+            verify(function).applyAsDouble(1L);
+            verify(function).applyAsDouble(2L);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingLongToDoubleFunction<IOException> memoized = function.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.applyAsDouble(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.applyAsDouble(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsDouble(1L);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> throwable.throwUnchecked("foo"));
+
+            ThrowingLongToDoubleFunction<IOException> memoized = function.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsDouble(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsDouble(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsDouble(1L);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingLongToDoubleFunction<IOException> function = l -> {
+                counter.incrementAndGet();
+                return l + 1D;
+            };
+
+            ThrowingLongToDoubleFunction<IOException> memoized = function.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1D, memoized.applyAsDouble(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1D, memoized.applyAsDouble(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
     @Nested
     class Of {
 
@@ -876,7 +1208,6 @@ class ThrowingLongToDoubleFunctionTest {
             assertEquals(2D, unchecked.applyAsDouble(1L));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsDouble(1L);
             verifyNoMoreInteractions(function);
         }
@@ -894,7 +1225,6 @@ class ThrowingLongToDoubleFunctionTest {
             assertEquals("1", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsDouble(1L);
             verifyNoMoreInteractions(function);
         }
@@ -910,7 +1240,59 @@ class ThrowingLongToDoubleFunctionTest {
             assertEquals("1", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).applyAsDouble(1L);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingLongToDoubleFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> l + 1D);
+
+            LongToDoubleFunction sneaky = ThrowingLongToDoubleFunction.sneaky(function);
+
+            assertEquals(2D, sneaky.applyAsDouble(1L));
+
+            verify(function).sneaky();
+            verify(function).applyAsDouble(1L);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            LongToDoubleFunction sneaky = ThrowingLongToDoubleFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsDouble(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsDouble(1L);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = Spied.throwingLongToDoubleFunction(throwable::throwUnchecked);
+
+            LongToDoubleFunction sneaky = ThrowingLongToDoubleFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsDouble(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).applyAsDouble(1L);
             verifyNoMoreInteractions(function);
         }
@@ -1008,4 +1390,158 @@ class ThrowingLongToDoubleFunctionTest {
             assertEquals("1", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingLongToDoubleFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            LongToDoubleFunction sneaky = ThrowingLongToDoubleFunction.sneaky(function);
+            ThrowingLongToDoubleFunction<IOException> checked = ThrowingLongToDoubleFunction.checked(sneaky);
+            ThrowingLongToDoubleFunction<IOException> checkedWithErrorType = ThrowingLongToDoubleFunction.checked(sneaky, IOException.class);
+
+            LongToDoubleFunction unchecked = ThrowingLongToDoubleFunction.unchecked(checked);
+            LongToDoubleFunction uncheckedWithErrorType = ThrowingLongToDoubleFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsDouble(1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsDouble(1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            LongToDoubleFunction function = value -> 1D;
+
+            ThrowingLongToDoubleFunction<IOException> checked = ThrowingLongToDoubleFunction.checked(function);
+
+            assertSame(function, ThrowingLongToDoubleFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingLongToDoubleFunction<IOException> function = value -> 1D;
+
+            LongToDoubleFunction sneaky = ThrowingLongToDoubleFunction.sneaky(function);
+
+            assertSame(function, ThrowingLongToDoubleFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingLongToDoubleFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            LongToDoubleFunction unchecked = ThrowingLongToDoubleFunction.unchecked(function);
+            ThrowingLongToDoubleFunction<IOException> checked = ThrowingLongToDoubleFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsDouble(1L));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingLongToDoubleFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            LongToDoubleFunction unchecked = ThrowingLongToDoubleFunction.unchecked(function);
+            ThrowingLongToDoubleFunction<ParseException> checked = ThrowingLongToDoubleFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsDouble(1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingLongToDoubleFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            LongToDoubleFunction unchecked = ThrowingLongToDoubleFunction.unchecked(function);
+            ThrowingLongToDoubleFunction<IOException> checked = ThrowingLongToDoubleFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsDouble(1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            LongToDoubleFunction function = l -> l + 1D;
+
+            assertThrows(NullPointerException.class, () -> ThrowingLongToDoubleFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingLongToDoubleFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongToDoubleFunction<IOException> function = ThrowingLongToDoubleFunction.catching(l -> l + 1D, IOException.class);
+
+            assertEquals(2D, function.applyAsDouble(1L));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                LongToDoubleFunction sneaky = ThrowingLongToDoubleFunction.sneaky(l -> {
+                    throw new IOException(Long.toString(l));
+                });
+
+                ThrowingLongToDoubleFunction<IOException> function = ThrowingLongToDoubleFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.applyAsDouble(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                LongToDoubleFunction sneaky = ThrowingLongToDoubleFunction.sneaky(l -> {
+                    throw new FileNotFoundException(Long.toString(l));
+                });
+
+                ThrowingLongToDoubleFunction<IOException> function = ThrowingLongToDoubleFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.applyAsDouble(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                LongToDoubleFunction sneaky = ThrowingLongToDoubleFunction.sneaky(l -> {
+                    throw new ParseException(Long.toString(l), 0);
+                });
+
+                ThrowingLongToDoubleFunction<IOException> function = ThrowingLongToDoubleFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsDouble(1L));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingLongToDoubleFunction<IOException> function = ThrowingLongToDoubleFunction.catching(l -> {
+                throw new IllegalStateException(Long.toString(l));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.applyAsDouble(1L));
+            assertEquals("1", thrown.getMessage());
+        }
+    }
 }
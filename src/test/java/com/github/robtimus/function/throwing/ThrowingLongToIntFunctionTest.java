@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.IntSupplier;
 import java.util.function.LongToIntFunction;
@@ -40,6 +43,74 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 @SuppressWarnings("nls")
 class ThrowingLongToIntFunctionTest {
 
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> (int) (l + 1));
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> (int) (l + 1));
+            ThrowingIntUnaryOperator<IOException> after = Spied.throwingIntUnaryOperator(i -> i * 3);
+
+            ThrowingLongToIntFunction<IOException> composed = function.andThen(after);
+
+            assertEquals(6, composed.applyAsInt(1L));
+
+            verify(function).applyAsInt(1L);
+            verify(function).andThen(after);
+            verify(after).applyAsInt(2);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            ThrowingIntUnaryOperator<IOException> after = Spied.throwingIntUnaryOperator(i -> i * 3);
+
+            ThrowingLongToIntFunction<IOException> composed = function.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsInt(1L));
+            assertEquals(Long.toString(1L), thrown.getMessage());
+
+            verify(function).applyAsInt(1L);
+            verify(function).andThen(after);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> (int) (l + 1));
+            ThrowingIntUnaryOperator<IOException> after = Spied.throwingIntUnaryOperator(i -> {
+                throw new IOException(Integer.toString(i));
+            });
+
+            ThrowingLongToIntFunction<IOException> composed = function.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsInt(1L));
+            assertEquals(Integer.toString(2), thrown.getMessage());
+
+            verify(function).applyAsInt(1L);
+            verify(function).andThen(after);
+            verify(after).applyAsInt(2);
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> (int) (l + 1));
+
+            assertSame(function, function.andThen(ThrowingIntUnaryOperator.identity()));
+        }
+    }
+
     @Nested
     class OnErrorThrowAsChecked {
 
@@ -804,7 +875,6 @@ class ThrowingLongToIntFunctionTest {
 
             verify(function).applyAsInt(1L);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -822,7 +892,6 @@ class ThrowingLongToIntFunctionTest {
 
             verify(function).applyAsInt(1L);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -838,11 +907,274 @@ class ThrowingLongToIntFunctionTest {
 
             verify(function).applyAsInt(1L);
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> (int) l + 1);
+
+            LongToIntFunction sneaky = function.sneaky();
+
+            assertEquals(2, sneaky.applyAsInt(1L));
+
+            verify(function).applyAsInt(1L);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            LongToIntFunction sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsInt(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsInt(1L);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(throwable::throwUnchecked);
+
+            LongToIntFunction sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsInt(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsInt(1L);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> (int) l + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongToIntFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(2, instrumented.applyAsInt(1L));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt(1L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongToIntFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsInt(1L));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt(1L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongToIntFunction<IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsInt(1L));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt(1L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> (int) l + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongToIntFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(2, instrumented.applyAsInt(1L));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt(1L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongToIntFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsInt(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt(1L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongToIntFunction<IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsInt(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt(1L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> (int) l + 1);
+
+            ThrowingLongToIntFunction<IOException> memoized = function.memoize();
+
+            assertEquals(2, memoized.applyAsInt(1L));
+            assertEquals(3, memoized.applyAsInt(2L));
+            assertEquals(2, memoized.applyAsInt(1L));
+            assertEquals(3, memoized.applyAsInt(2L));
+
+            verify(function).applyAsInt(1L);
+            verify(function).applyAsInt(2L);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingLongToIntFunction<IOException> memoized = function.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.applyAsInt(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.applyAsInt(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsInt(1L);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> throwable.throwUnchecked("foo"));
+
+            ThrowingLongToIntFunction<IOException> memoized = function.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsInt(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsInt(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function, times(2)).applyAsInt(1L);
+            verify(function).memoize();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingLongToIntFunction<IOException> function = l -> {
+                counter.incrementAndGet();
+                return (int) l + 1;
+            };
+
+            ThrowingLongToIntFunction<IOException> memoized = function.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1, memoized.applyAsInt(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1, memoized.applyAsInt(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
     @Nested
     class Of {
 
@@ -876,7 +1208,6 @@ class ThrowingLongToIntFunctionTest {
             assertEquals(2, unchecked.applyAsInt(1L));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsInt(1L);
             verifyNoMoreInteractions(function);
         }
@@ -894,7 +1225,6 @@ class ThrowingLongToIntFunctionTest {
             assertEquals("1", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsInt(1L);
             verifyNoMoreInteractions(function);
         }
@@ -910,7 +1240,59 @@ class ThrowingLongToIntFunctionTest {
             assertEquals("1", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).applyAsInt(1L);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingLongToIntFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> (int) l + 1);
+
+            LongToIntFunction sneaky = ThrowingLongToIntFunction.sneaky(function);
+
+            assertEquals(2, sneaky.applyAsInt(1L));
+
+            verify(function).sneaky();
+            verify(function).applyAsInt(1L);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            LongToIntFunction sneaky = ThrowingLongToIntFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsInt(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsInt(1L);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongToIntFunction<IOException> function = Spied.throwingLongToIntFunction(throwable::throwUnchecked);
+
+            LongToIntFunction sneaky = ThrowingLongToIntFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsInt(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).applyAsInt(1L);
             verifyNoMoreInteractions(function);
         }
@@ -1008,4 +1390,158 @@ class ThrowingLongToIntFunctionTest {
             assertEquals("1", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingLongToIntFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            LongToIntFunction sneaky = ThrowingLongToIntFunction.sneaky(function);
+            ThrowingLongToIntFunction<IOException> checked = ThrowingLongToIntFunction.checked(sneaky);
+            ThrowingLongToIntFunction<IOException> checkedWithErrorType = ThrowingLongToIntFunction.checked(sneaky, IOException.class);
+
+            LongToIntFunction unchecked = ThrowingLongToIntFunction.unchecked(checked);
+            LongToIntFunction uncheckedWithErrorType = ThrowingLongToIntFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsInt(1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsInt(1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            LongToIntFunction function = value -> 1;
+
+            ThrowingLongToIntFunction<IOException> checked = ThrowingLongToIntFunction.checked(function);
+
+            assertSame(function, ThrowingLongToIntFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingLongToIntFunction<IOException> function = value -> 1;
+
+            LongToIntFunction sneaky = ThrowingLongToIntFunction.sneaky(function);
+
+            assertSame(function, ThrowingLongToIntFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingLongToIntFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            LongToIntFunction unchecked = ThrowingLongToIntFunction.unchecked(function);
+            ThrowingLongToIntFunction<IOException> checked = ThrowingLongToIntFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsInt(1L));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingLongToIntFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            LongToIntFunction unchecked = ThrowingLongToIntFunction.unchecked(function);
+            ThrowingLongToIntFunction<ParseException> checked = ThrowingLongToIntFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsInt(1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingLongToIntFunction<IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            LongToIntFunction unchecked = ThrowingLongToIntFunction.unchecked(function);
+            ThrowingLongToIntFunction<IOException> checked = ThrowingLongToIntFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsInt(1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            LongToIntFunction function = l -> (int) l + 1;
+
+            assertThrows(NullPointerException.class, () -> ThrowingLongToIntFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingLongToIntFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongToIntFunction<IOException> function = ThrowingLongToIntFunction.catching(l -> (int) l + 1, IOException.class);
+
+            assertEquals(2, function.applyAsInt(1L));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                LongToIntFunction sneaky = ThrowingLongToIntFunction.sneaky(l -> {
+                    throw new IOException(Long.toString(l));
+                });
+
+                ThrowingLongToIntFunction<IOException> function = ThrowingLongToIntFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.applyAsInt(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                LongToIntFunction sneaky = ThrowingLongToIntFunction.sneaky(l -> {
+                    throw new FileNotFoundException(Long.toString(l));
+                });
+
+                ThrowingLongToIntFunction<IOException> function = ThrowingLongToIntFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.applyAsInt(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                LongToIntFunction sneaky = ThrowingLongToIntFunction.sneaky(l -> {
+                    throw new ParseException(Long.toString(l), 0);
+                });
+
+                ThrowingLongToIntFunction<IOException> function = ThrowingLongToIntFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsInt(1L));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingLongToIntFunction<IOException> function = ThrowingLongToIntFunction.catching(l -> {
+                throw new IllegalStateException(Long.toString(l));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.applyAsInt(1L));
+            assertEquals("1", thrown.getMessage());
+        }
+    }
 }
@@ -20,14 +20,17 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
 import java.util.function.LongUnaryOperator;
@@ -40,6 +43,365 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 @SuppressWarnings("nls")
 class ThrowingLongUnaryOperatorTest {
 
+    @Nested
+    class Compose {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.compose(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l * 3);
+            ThrowingLongUnaryOperator<IOException> before = Spied.throwingLongUnaryOperator(l -> l + 1);
+
+            ThrowingLongUnaryOperator<IOException> composed = operator.compose(before);
+
+            assertEquals(6L, composed.applyAsLong(1L));
+
+            verify(before).applyAsLong(1L);
+            verify(operator).applyAsLong(2L);
+            verify(operator).compose(before);
+            verifyNoMoreInteractions(operator, before);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            ThrowingLongUnaryOperator<IOException> before = Spied.throwingLongUnaryOperator(l -> l + 1);
+
+            ThrowingLongUnaryOperator<IOException> composed = operator.compose(before);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsLong(1L));
+            assertEquals(Long.toString(2L), thrown.getMessage());
+
+            verify(before).applyAsLong(1L);
+            verify(operator).applyAsLong(2L);
+            verify(operator).compose(before);
+            verifyNoMoreInteractions(operator, before);
+        }
+
+        @Test
+        void testBeforeThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l * 3);
+            ThrowingLongUnaryOperator<IOException> before = Spied.throwingLongUnaryOperator(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            ThrowingLongUnaryOperator<IOException> composed = operator.compose(before);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsLong(1L));
+            assertEquals(Long.toString(1L), thrown.getMessage());
+
+            verify(before).applyAsLong(1L);
+            verify(operator).compose(before);
+            verifyNoMoreInteractions(operator, before);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.identity();
+            ThrowingLongUnaryOperator<IOException> before = Spied.throwingLongUnaryOperator(l -> l + 1);
+
+            assertSame(before, operator.compose(before));
+        }
+
+        @Test
+        void testBeforeIsIdentity() {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+
+            assertSame(operator, operator.compose(ThrowingLongUnaryOperator.identity()));
+        }
+    }
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+            ThrowingLongUnaryOperator<IOException> after = Spied.throwingLongUnaryOperator(l -> l * 3);
+
+            ThrowingLongUnaryOperator<IOException> composed = operator.andThen(after);
+
+            assertEquals(6L, composed.applyAsLong(1L));
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).andThen(after);
+            verify(after).applyAsLong(2L);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            ThrowingLongUnaryOperator<IOException> after = Spied.throwingLongUnaryOperator(l -> l * 3);
+
+            ThrowingLongUnaryOperator<IOException> composed = operator.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsLong(1L));
+            assertEquals(Long.toString(1L), thrown.getMessage());
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).andThen(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+            ThrowingLongUnaryOperator<IOException> after = Spied.throwingLongUnaryOperator(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            ThrowingLongUnaryOperator<IOException> composed = operator.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsLong(1L));
+            assertEquals(Long.toString(2L), thrown.getMessage());
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).andThen(after);
+            verify(after).applyAsLong(2L);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.identity();
+            ThrowingLongUnaryOperator<IOException> after = Spied.throwingLongUnaryOperator(l -> l + 1);
+
+            assertSame(after, operator.andThen(after));
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+
+            assertSame(operator, operator.andThen(ThrowingLongUnaryOperator.identity()));
+        }
+    }
+
+    @Nested
+    class AndThenToInt {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.andThenToInt(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+            ThrowingLongToIntFunction<IOException> after = Spied.throwingLongToIntFunction(l -> (int) (l * 3));
+
+            ThrowingLongToIntFunction<IOException> composed = operator.andThenToInt(after);
+
+            assertEquals(6, composed.applyAsInt(1L));
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).andThenToInt(after);
+            verify(after).applyAsInt(2L);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            ThrowingLongToIntFunction<IOException> after = Spied.throwingLongToIntFunction(l -> (int) (l * 3));
+
+            ThrowingLongToIntFunction<IOException> composed = operator.andThenToInt(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsInt(1L));
+            assertEquals(Long.toString(1L), thrown.getMessage());
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).andThenToInt(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+            ThrowingLongToIntFunction<IOException> after = Spied.throwingLongToIntFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            ThrowingLongToIntFunction<IOException> composed = operator.andThenToInt(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsInt(1L));
+            assertEquals(Long.toString(2L), thrown.getMessage());
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).andThenToInt(after);
+            verify(after).applyAsInt(2L);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.identity();
+            ThrowingLongToIntFunction<IOException> after = Spied.throwingLongToIntFunction(l -> (int) (l * 3));
+
+            assertSame(after, operator.andThenToInt(after));
+        }
+    }
+
+    @Nested
+    class AndThenToDouble {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.andThenToDouble(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+            ThrowingLongToDoubleFunction<IOException> after = Spied.throwingLongToDoubleFunction(l -> l * 3);
+
+            ThrowingLongToDoubleFunction<IOException> composed = operator.andThenToDouble(after);
+
+            assertEquals(6.0, composed.applyAsDouble(1L));
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).andThenToDouble(after);
+            verify(after).applyAsDouble(2L);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            ThrowingLongToDoubleFunction<IOException> after = Spied.throwingLongToDoubleFunction(l -> l * 3);
+
+            ThrowingLongToDoubleFunction<IOException> composed = operator.andThenToDouble(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsDouble(1L));
+            assertEquals(Long.toString(1L), thrown.getMessage());
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).andThenToDouble(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+            ThrowingLongToDoubleFunction<IOException> after = Spied.throwingLongToDoubleFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            ThrowingLongToDoubleFunction<IOException> composed = operator.andThenToDouble(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsDouble(1L));
+            assertEquals(Long.toString(2L), thrown.getMessage());
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).andThenToDouble(after);
+            verify(after).applyAsDouble(2L);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.identity();
+            ThrowingLongToDoubleFunction<IOException> after = Spied.throwingLongToDoubleFunction(l -> l * 3);
+
+            assertSame(after, operator.andThenToDouble(after));
+        }
+    }
+
+    @Nested
+    class AndThenToObj {
+
+        @Test
+        void testNullArgument() {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+
+            assertThrows(NullPointerException.class, () -> operator.andThenToObj(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+            ThrowingLongFunction<String, IOException> after = Spied.throwingLongFunction(Long::toString);
+
+            ThrowingLongFunction<String, IOException> composed = operator.andThenToObj(after);
+
+            assertEquals(Long.toString(2L), composed.apply(1L));
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).andThenToObj(after);
+            verify(after).apply(2L);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            ThrowingLongFunction<String, IOException> after = Spied.throwingLongFunction(Long::toString);
+
+            ThrowingLongFunction<String, IOException> composed = operator.andThenToObj(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.apply(1L));
+            assertEquals(Long.toString(1L), thrown.getMessage());
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).andThenToObj(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+            ThrowingLongFunction<String, IOException> after = Spied.throwingLongFunction(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            ThrowingLongFunction<String, IOException> composed = operator.andThenToObj(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.apply(1L));
+            assertEquals(Long.toString(2L), thrown.getMessage());
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).andThenToObj(after);
+            verify(after).apply(2L);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisIsIdentity() {
+            ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.identity();
+            ThrowingLongFunction<String, IOException> after = Spied.throwingLongFunction(Long::toString);
+
+            assertSame(after, operator.andThenToObj(after));
+        }
+    }
+
     @Nested
     class OnErrorThrowAsChecked {
 
@@ -804,7 +1166,6 @@ class ThrowingLongUnaryOperatorTest {
 
             verify(operator).applyAsLong(1L);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -822,7 +1183,6 @@ class ThrowingLongUnaryOperatorTest {
 
             verify(operator).applyAsLong(1L);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -838,70 +1198,339 @@ class ThrowingLongUnaryOperatorTest {
 
             verify(operator).applyAsLong(1L);
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
     }
 
     @Nested
-    class Of {
-
-        @Test
-        void testNullArgument() {
-            assertThrows(NullPointerException.class, () -> ThrowingFunction.of(null));
-        }
-
-        @Test
-        void testNonNullArgument() throws IOException {
-            ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.of(l -> l + 1);
-
-            assertEquals(2L, operator.applyAsLong(1L));
-        }
-    }
-
-    @Test
-    void testIdentity() throws IOException {
-        ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.identity();
-
-        assertEquals(1L, operator.applyAsLong(1L));
-    }
-
-    @Nested
-    class UncheckedFactory {
-
-        @Test
-        void testNullArgument() {
-            assertThrows(NullPointerException.class, () -> ThrowingFunction.unchecked(null));
-        }
+    class Sneaky {
 
         @Test
-        void testArgumentThrowsNothing() throws IOException {
+        void testThisThrowsNothing() throws IOException {
             ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
 
-            LongUnaryOperator unchecked = ThrowingLongUnaryOperator.unchecked(operator);
+            LongUnaryOperator sneaky = operator.sneaky();
 
-            assertEquals(2L, unchecked.applyAsLong(1L));
+            assertEquals(2L, sneaky.applyAsLong(1L));
 
-            verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).applyAsLong(1L);
+            verify(operator).sneaky();
             verifyNoMoreInteractions(operator);
         }
 
         @Test
-        void testArgumentThrowsChecked() throws IOException {
+        void testThisThrowsChecked() throws IOException {
             ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> {
                 throw new IOException(Long.toString(l));
             });
 
-            LongUnaryOperator unchecked = ThrowingLongUnaryOperator.unchecked(operator);
+            LongUnaryOperator sneaky = operator.sneaky();
 
-            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsLong(1L));
-            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
-            assertEquals("1", cause.getMessage());
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsLong(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(throwable::throwUnchecked);
+
+            LongUnaryOperator sneaky = operator.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsLong(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            assertEquals(2L, instrumented.applyAsLong(1L));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsLong(1L));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsLong(1L));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(2L, instrumented.applyAsLong(1L));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsLong(1L);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> {
+                throw new IOException(Long.toString(l));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsLong(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsLong(1L);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingLongUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsLong(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsLong(1L);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+
+            ThrowingLongUnaryOperator<IOException> memoized = operator.memoize();
+
+            assertEquals(2L, memoized.applyAsLong(1L));
+            assertEquals(3L, memoized.applyAsLong(2L));
+            assertEquals(2L, memoized.applyAsLong(1L));
+            assertEquals(3L, memoized.applyAsLong(2L));
+
+            verify(operator).applyAsLong(1L);
+            verify(operator).applyAsLong(2L);
+            verify(operator).memoize();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingLongUnaryOperator<IOException> memoized = operator.memoize();
+
+            IOException thrown = assertThrows(IOException.class, () -> memoized.applyAsLong(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, () -> memoized.applyAsLong(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(operator, times(2)).applyAsLong(1L);
+            verify(operator).memoize();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> throwable.throwUnchecked("foo"));
+
+            ThrowingLongUnaryOperator<IOException> memoized = operator.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsLong(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), () -> memoized.applyAsLong(1L));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(operator, times(2)).applyAsLong(1L);
+            verify(operator).memoize();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testManyInputs() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingLongUnaryOperator<IOException> operator = l -> {
+                counter.incrementAndGet();
+                return l + 1;
+            };
+
+            ThrowingLongUnaryOperator<IOException> memoized = operator.memoize();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1L, memoized.applyAsLong(i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1L, memoized.applyAsLong(i));
+            }
+
+            assertEquals(1000, counter.get());
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.of(l -> l + 1);
+
+            assertEquals(2L, operator.applyAsLong(1L));
+        }
+    }
+
+    @Test
+    void testIdentity() throws IOException {
+        ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.identity();
+
+        assertEquals(1L, operator.applyAsLong(1L));
+    }
+
+    @Test
+    void testIdentitySameInstance() {
+        ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.identity();
+        ThrowingLongUnaryOperator<ParseException> other = ThrowingLongUnaryOperator.identity();
+
+        assertSame(operator, other);
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+
+            LongUnaryOperator unchecked = ThrowingLongUnaryOperator.unchecked(operator);
+
+            assertEquals(2L, unchecked.applyAsLong(1L));
+
+            verify(operator).unchecked();
+            verify(operator).applyAsLong(1L);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            LongUnaryOperator unchecked = ThrowingLongUnaryOperator.unchecked(operator);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsLong(1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).applyAsLong(1L);
             verifyNoMoreInteractions(operator);
         }
@@ -917,7 +1546,59 @@ class ThrowingLongUnaryOperatorTest {
             assertEquals("1", thrown.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
+            verify(operator).applyAsLong(1L);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> l + 1);
+
+            LongUnaryOperator sneaky = ThrowingLongUnaryOperator.sneaky(operator);
+
+            assertEquals(2L, sneaky.applyAsLong(1L));
+
+            verify(operator).sneaky();
+            verify(operator).applyAsLong(1L);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(l -> {
+                throw new IOException(Long.toString(l));
+            });
+
+            LongUnaryOperator sneaky = ThrowingLongUnaryOperator.sneaky(operator);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsLong(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).sneaky();
+            verify(operator).applyAsLong(1L);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = Spied.throwingLongUnaryOperator(throwable::throwUnchecked);
+
+            LongUnaryOperator sneaky = ThrowingLongUnaryOperator.sneaky(operator);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsLong(1L));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).sneaky();
             verify(operator).applyAsLong(1L);
             verifyNoMoreInteractions(operator);
         }
@@ -1015,4 +1696,158 @@ class ThrowingLongUnaryOperatorTest {
             assertEquals("1", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingLongUnaryOperator<IOException> operator = operand -> {
+                throw new IOException("foo");
+            };
+
+            LongUnaryOperator sneaky = ThrowingLongUnaryOperator.sneaky(operator);
+            ThrowingLongUnaryOperator<IOException> checked = ThrowingLongUnaryOperator.checked(sneaky);
+            ThrowingLongUnaryOperator<IOException> checkedWithErrorType = ThrowingLongUnaryOperator.checked(sneaky, IOException.class);
+
+            LongUnaryOperator unchecked = ThrowingLongUnaryOperator.unchecked(checked);
+            LongUnaryOperator uncheckedWithErrorType = ThrowingLongUnaryOperator.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsLong(1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsLong(1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            LongUnaryOperator operator = operand -> 1L;
+
+            ThrowingLongUnaryOperator<IOException> checked = ThrowingLongUnaryOperator.checked(operator);
+
+            assertSame(operator, ThrowingLongUnaryOperator.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingLongUnaryOperator<IOException> operator = operand -> 1L;
+
+            LongUnaryOperator sneaky = ThrowingLongUnaryOperator.sneaky(operator);
+
+            assertSame(operator, ThrowingLongUnaryOperator.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingLongUnaryOperator<IOException> operator = operand -> {
+                throw new IOException("foo");
+            };
+
+            LongUnaryOperator unchecked = ThrowingLongUnaryOperator.unchecked(operator);
+            ThrowingLongUnaryOperator<IOException> checked = ThrowingLongUnaryOperator.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsLong(1L));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingLongUnaryOperator<IOException> operator = operand -> {
+                throw new IOException("foo");
+            };
+
+            LongUnaryOperator unchecked = ThrowingLongUnaryOperator.unchecked(operator);
+            ThrowingLongUnaryOperator<ParseException> checked = ThrowingLongUnaryOperator.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsLong(1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingLongUnaryOperator<IOException> operator = operand -> {
+                throw new IOException("foo");
+            };
+
+            LongUnaryOperator unchecked = ThrowingLongUnaryOperator.unchecked(operator);
+            ThrowingLongUnaryOperator<IOException> checked = ThrowingLongUnaryOperator.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsLong(1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            LongUnaryOperator operator = l -> l + 1;
+
+            assertThrows(NullPointerException.class, () -> ThrowingLongUnaryOperator.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingLongUnaryOperator.catching(operator, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.catching(l -> l + 1, IOException.class);
+
+            assertEquals(2L, operator.applyAsLong(1L));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                LongUnaryOperator sneaky = ThrowingLongUnaryOperator.sneaky(l -> {
+                    throw new IOException(Long.toString(l));
+                });
+
+                ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> operator.applyAsLong(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                LongUnaryOperator sneaky = ThrowingLongUnaryOperator.sneaky(l -> {
+                    throw new FileNotFoundException(Long.toString(l));
+                });
+
+                ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> operator.applyAsLong(1L));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                LongUnaryOperator sneaky = ThrowingLongUnaryOperator.sneaky(l -> {
+                    throw new ParseException(Long.toString(l), 0);
+                });
+
+                ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsLong(1L));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("1", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingLongUnaryOperator<IOException> operator = ThrowingLongUnaryOperator.catching(l -> {
+                throw new IllegalStateException(Long.toString(l));
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> operator.applyAsLong(1L));
+            assertEquals("1", thrown.getMessage());
+        }
+    }
 }
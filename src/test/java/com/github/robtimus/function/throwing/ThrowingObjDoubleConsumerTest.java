@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -612,7 +614,6 @@ class ThrowingObjDoubleConsumerTest {
 
             verify(consumer).accept("foo", 1D);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -630,7 +631,6 @@ class ThrowingObjDoubleConsumerTest {
 
             verify(consumer).accept("foo", 1D);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -646,7 +646,192 @@ class ThrowingObjDoubleConsumerTest {
 
             verify(consumer).accept("foo", 1D);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjDoubleConsumer<String, IOException> consumer = Spied.throwingObjDoubleConsumer(ThrowingObjDoubleConsumerTest::ignore);
+
+            ObjDoubleConsumer<String> sneaky = consumer.sneaky();
+
+            sneaky.accept("foo", 1D);
+
+            verify(consumer).accept("foo", 1D);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjDoubleConsumer<String, IOException> consumer = Spied.throwingObjDoubleConsumer((s, d) -> {
+                throw new IOException(s + d);
+            });
+
+            ObjDoubleConsumer<String> sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept("foo", 1D));
+            assertEquals("foo1.0", thrown.getMessage());
+
+            verify(consumer).accept("foo", 1D);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjDoubleConsumer<String, IOException> consumer = Spied.throwingObjDoubleConsumer((s, d) -> throwable.throwUnchecked(s + d));
+
+            ObjDoubleConsumer<String> sneaky = consumer.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept("foo", 1D));
+            assertEquals("foo1.0", thrown.getMessage());
+
+            verify(consumer).accept("foo", 1D);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjDoubleConsumer<String, IOException> consumer = Spied.throwingObjDoubleConsumer(ThrowingObjDoubleConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjDoubleConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept("foo", 1D);
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo", 1D);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjDoubleConsumer<String, IOException> consumer = Spied.throwingObjDoubleConsumer((s, d) -> {
+                throw new IOException(s + d);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjDoubleConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept("foo", 1D));
+            assertEquals("foo1.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo", 1D);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjDoubleConsumer<String, IOException> consumer = Spied.throwingObjDoubleConsumer((s, d) -> throwable.throwUnchecked(s + d));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjDoubleConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept("foo", 1D));
+            assertEquals("foo1.0", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo", 1D);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjDoubleConsumer<String, IOException> consumer = Spied.throwingObjDoubleConsumer(ThrowingObjDoubleConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjDoubleConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept("foo", 1D);
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo", 1D);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjDoubleConsumer<String, IOException> consumer = Spied.throwingObjDoubleConsumer((s, d) -> {
+                throw new IOException(s + d);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjDoubleConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept("foo", 1D));
+                assertEquals("foo1.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo", 1D);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjDoubleConsumer<String, IOException> consumer = Spied.throwingObjDoubleConsumer((s, d) -> throwable.throwUnchecked(s + d));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjDoubleConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept("foo", 1D));
+                assertEquals("foo1.0", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo", 1D);
+            verify(consumer).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(consumer);
         }
     }
@@ -689,7 +874,6 @@ class ThrowingObjDoubleConsumerTest {
             unchecked.accept("foo", 1D);
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept("foo", 1D);
             verifyNoMoreInteractions(consumer);
         }
@@ -707,7 +891,6 @@ class ThrowingObjDoubleConsumerTest {
             assertEquals("foo1.0", cause.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept("foo", 1D);
             verifyNoMoreInteractions(consumer);
         }
@@ -723,7 +906,59 @@ class ThrowingObjDoubleConsumerTest {
             assertEquals("foo1.0", thrown.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verify(consumer).accept("foo", 1D);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjDoubleConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjDoubleConsumer<String, IOException> consumer = Spied.throwingObjDoubleConsumer(ThrowingObjDoubleConsumerTest::ignore);
+
+            ObjDoubleConsumer<String> sneaky = ThrowingObjDoubleConsumer.sneaky(consumer);
+
+            sneaky.accept("foo", 1D);
+
+            verify(consumer).sneaky();
+            verify(consumer).accept("foo", 1D);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjDoubleConsumer<String, IOException> consumer = Spied.throwingObjDoubleConsumer((s, d) -> {
+                throw new IOException(s + d);
+            });
+
+            ObjDoubleConsumer<String> sneaky = ThrowingObjDoubleConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept("foo", 1D));
+            assertEquals("foo1.0", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept("foo", 1D);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjDoubleConsumer<String, IOException> consumer = Spied.throwingObjDoubleConsumer((s, d) -> throwable.throwUnchecked(s + d));
+
+            ObjDoubleConsumer<String> sneaky = ThrowingObjDoubleConsumer.sneaky(consumer);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept("foo", 1D));
+            assertEquals("foo1.0", thrown.getMessage());
+
+            verify(consumer).sneaky();
             verify(consumer).accept("foo", 1D);
             verifyNoMoreInteractions(consumer);
         }
@@ -832,6 +1067,165 @@ class ThrowingObjDoubleConsumerTest {
         }
     }
 
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingObjDoubleConsumer<String, IOException> operation = (t, value) -> {
+                throw new IOException("foo");
+            };
+
+            ObjDoubleConsumer<String> sneaky = ThrowingObjDoubleConsumer.sneaky(operation);
+            ThrowingObjDoubleConsumer<String, IOException> checked = ThrowingObjDoubleConsumer.checked(sneaky);
+            ThrowingObjDoubleConsumer<String, IOException> checkedWithErrorType = ThrowingObjDoubleConsumer.checked(sneaky, IOException.class);
+
+            ObjDoubleConsumer<String> unchecked = ThrowingObjDoubleConsumer.unchecked(checked);
+            ObjDoubleConsumer<String> uncheckedWithErrorType = ThrowingObjDoubleConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept("foo", 1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept("foo", 1D));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ObjDoubleConsumer<String> operation = (t, value) -> { /* do nothing */ };
+
+            ThrowingObjDoubleConsumer<String, IOException> checked = ThrowingObjDoubleConsumer.checked(operation);
+
+            assertSame(operation, ThrowingObjDoubleConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingObjDoubleConsumer<String, IOException> operation = (t, value) -> { /* do nothing */ };
+
+            ObjDoubleConsumer<String> sneaky = ThrowingObjDoubleConsumer.sneaky(operation);
+
+            assertSame(operation, ThrowingObjDoubleConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingObjDoubleConsumer<String, IOException> operation = (t, value) -> {
+                throw new IOException("foo");
+            };
+
+            ObjDoubleConsumer<String> unchecked = ThrowingObjDoubleConsumer.unchecked(operation);
+            ThrowingObjDoubleConsumer<String, IOException> checked = ThrowingObjDoubleConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept("foo", 1D));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingObjDoubleConsumer<String, IOException> operation = (t, value) -> {
+                throw new IOException("foo");
+            };
+
+            ObjDoubleConsumer<String> unchecked = ThrowingObjDoubleConsumer.unchecked(operation);
+            ThrowingObjDoubleConsumer<String, ParseException> checked = ThrowingObjDoubleConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept("foo", 1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingObjDoubleConsumer<String, IOException> operation = (t, value) -> {
+                throw new IOException("foo");
+            };
+
+            ObjDoubleConsumer<String> unchecked = ThrowingObjDoubleConsumer.unchecked(operation);
+            ThrowingObjDoubleConsumer<String, IOException> checked = ThrowingObjDoubleConsumer.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept("foo", 1D));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ObjDoubleConsumer<String> consumer = ThrowingObjDoubleConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjDoubleConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjDoubleConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ObjDoubleConsumer<String> delegate = Spied.objDoubleConsumer(ThrowingObjDoubleConsumerTest::ignore);
+
+            ThrowingObjDoubleConsumer<String, IOException> consumer = ThrowingObjDoubleConsumer.catching(delegate, IOException.class);
+
+            consumer.accept("foo", 1D);
+
+            verify(delegate).accept("foo", 1D);
+            verifyNoMoreInteractions(delegate);
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                ObjDoubleConsumer<String> sneaky = ThrowingObjDoubleConsumer.sneaky((s, d) -> {
+                    throw new IOException(s + d);
+                });
+
+                ThrowingObjDoubleConsumer<String, IOException> consumer = ThrowingObjDoubleConsumer.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> consumer.accept("foo", 1D));
+                assertEquals("foo1.0", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                ObjDoubleConsumer<String> sneaky = ThrowingObjDoubleConsumer.sneaky((s, d) -> {
+                    throw new FileNotFoundException(s + d);
+                });
+
+                ThrowingObjDoubleConsumer<String, IOException> consumer = ThrowingObjDoubleConsumer.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> consumer.accept("foo", 1D));
+                assertEquals("foo1.0", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                ObjDoubleConsumer<String> sneaky = ThrowingObjDoubleConsumer.sneaky((s, d) -> {
+                    throw new ParseException(s + d, 0);
+                });
+
+                ThrowingObjDoubleConsumer<String, IOException> consumer = ThrowingObjDoubleConsumer.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept("foo", 1D));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo1.0", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingObjDoubleConsumer<String, IOException> consumer = ThrowingObjDoubleConsumer.catching((s, d) -> {
+                throw new IllegalStateException(s + d);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> consumer.accept("foo", 1D));
+            assertEquals("foo1.0", thrown.getMessage());
+        }
+    }
+
     @SuppressWarnings("unused")
     private static void ignore(String s, double d) {
         // do nothing
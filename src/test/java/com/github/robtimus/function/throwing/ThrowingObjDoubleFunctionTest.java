@@ -0,0 +1,962 @@
+/*
+ * ThrowingObjDoubleFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingObjDoubleFunctionTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+            ThrowingFunction<String, Integer, IOException> after = Spied.throwingFunction(String::length);
+
+            ThrowingObjDoubleFunction<String, Integer, IOException> composed = function.andThen(after);
+
+            assertEquals(Integer.valueOf(6), composed.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).andThen(after);
+            verify(after).apply("foo1.5");
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            assertSame(function, function.andThen(ThrowingFunction.identity()));
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjDoubleFunction<String, String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals("foo1.5", throwing.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjDoubleFunction<String, String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.apply("foo", 1.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1.5", cause.getMessage());
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied
+                    .throwingObjDoubleFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjDoubleFunction<String, String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply("foo", 1.5));
+            assertEquals("foo1.5", thrown.getMessage());
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals("foo1.5", throwing.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.apply("foo", 1.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1.5", cause.getMessage());
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied
+                    .throwingObjDoubleFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply("foo", 1.5));
+            assertEquals("foo1.5", thrown.getMessage());
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingObjDoubleFunction<String, String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("foo1.5", handling.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingObjDoubleFunction<String, String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("foo1.5", handling.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("foo1.5", handling.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("foo1.5", handling.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            ThrowingObjDoubleFunction<String, String, ParseException> fallback = Spied.throwingObjDoubleFunction((s, v) -> "fallback");
+
+            ThrowingObjDoubleFunction<String, String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("foo1.5", fallingBack.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjDoubleFunction<String, String, ParseException> fallback = Spied.throwingObjDoubleFunction((s, v) -> "fallback");
+
+            ThrowingObjDoubleFunction<String, String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).apply("foo", 1.5);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> fallback = Spied.throwingObjDoubleFunction((s, v) -> "fallback");
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("foo1.5", fallingBack.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> fallback = Spied.throwingObjDoubleFunction((s, v) -> "fallback");
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).apply("foo", 1.5);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingObjDoubleFunction<String, String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("foo1.5", fallingBack.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingObjDoubleFunction<String, String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("foo1.5", fallingBack.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("foo1.5", returning.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("fallback", returning.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals("foo1.5", unchecked.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo", 1.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1.5", cause.getMessage());
+
+            verify(function).apply("foo", 1.5);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied
+                    .throwingObjDoubleFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.apply("foo", 1.5));
+            assertEquals("foo1.5", thrown.getMessage());
+
+            verify(function).apply("foo", 1.5);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals("foo1.5", sneaky.apply("foo", 1.5));
+
+            verify(function).apply("foo", 1.5);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply("foo", 1.5));
+            assertEquals("foo1.5", thrown.getMessage());
+
+            verify(function).apply("foo", 1.5);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjDoubleFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals("foo1.5", instrumented.apply("foo", 1.5));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo", 1.5);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjDoubleFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply("foo", 1.5));
+            assertEquals("foo1.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo", 1.5);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied
+                    .throwingObjDoubleFunction((s, v) -> throwable.throwUnchecked(s + v));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjDoubleFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply("foo", 1.5));
+            assertEquals("foo1.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo", 1.5);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> s + v);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjDoubleFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("foo1.5", instrumented.apply("foo", 1.5));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo", 1.5);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjDoubleFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply("foo", 1.5));
+                assertEquals("foo1.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo", 1.5);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied
+                    .throwingObjDoubleFunction((s, v) -> throwable.throwUnchecked(s + v));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjDoubleFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply("foo", 1.5));
+                assertEquals("foo1.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo", 1.5);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjDoubleFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = ThrowingObjDoubleFunction.of((s, v) -> s + v);
+
+            assertEquals("foo1.5", function.apply("foo", 1.5));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjDoubleFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> unchecked = ThrowingObjDoubleFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo", 1.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1.5", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).apply("foo", 1.5);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjDoubleFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = Spied.throwingObjDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> sneaky = ThrowingObjDoubleFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply("foo", 1.5));
+            assertEquals("foo1.5", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply("foo", 1.5);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjDoubleFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = ThrowingObjDoubleFunction.checked((s, v) -> s + v);
+
+            assertEquals("foo1.5", function.apply("foo", 1.5));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = ThrowingObjDoubleFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(s + v));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo", 1.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingObjDoubleFunction<String, String, RuntimeException> function = (s, v) -> s + v;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjDoubleFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjDoubleFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = ThrowingObjDoubleFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(s + v));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply("foo", 1.5));
+            assertEquals("foo1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = ThrowingObjDoubleFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(s + v, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo", 1.5));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> sneaky = ThrowingObjDoubleFunction.sneaky(function);
+            ThrowingObjDoubleFunction<String, String, IOException> checked = ThrowingObjDoubleFunction.checked(sneaky);
+            ThrowingObjDoubleFunction<String, String, IOException> checkedWithErrorType =
+                    ThrowingObjDoubleFunction.checked(sneaky, IOException.class);
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> unchecked = ThrowingObjDoubleFunction.unchecked(checked);
+            ThrowingObjDoubleFunction<String, String, RuntimeException> uncheckedWithErrorType =
+                    ThrowingObjDoubleFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo", 1.5));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply("foo", 1.5));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingObjDoubleFunction<String, String, RuntimeException> function = (s, v) -> s + v;
+
+            ThrowingObjDoubleFunction<String, String, IOException> checked = ThrowingObjDoubleFunction.checked(function);
+
+            assertSame(function, ThrowingObjDoubleFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = (s, v) -> s + v;
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> sneaky = ThrowingObjDoubleFunction.sneaky(function);
+
+            assertSame(function, ThrowingObjDoubleFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> unchecked = ThrowingObjDoubleFunction.unchecked(function);
+            ThrowingObjDoubleFunction<String, String, IOException> checked = ThrowingObjDoubleFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply("foo", 1.5));
+            assertEquals("foo1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingObjDoubleFunction<String, String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjDoubleFunction<String, String, RuntimeException> unchecked = ThrowingObjDoubleFunction.unchecked(function);
+            ThrowingObjDoubleFunction<String, String, ParseException> checked = ThrowingObjDoubleFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply("foo", 1.5));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingObjDoubleFunction<String, String, RuntimeException> function = (s, v) -> s + v;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjDoubleFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjDoubleFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjDoubleFunction<String, String, IOException> function = ThrowingObjDoubleFunction.catching((s, v) -> s + v, IOException.class);
+
+            assertEquals("foo1.5", function.apply("foo", 1.5));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingObjDoubleFunction<String, String, RuntimeException> sneaky = ThrowingObjDoubleFunction.sneaky((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjDoubleFunction<String, String, IOException> function = ThrowingObjDoubleFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply("foo", 1.5));
+            assertEquals("foo1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingObjDoubleFunction<String, String, RuntimeException> sneaky = ThrowingObjDoubleFunction.sneaky((s, v) -> {
+                throw new ParseException(s + v, 0);
+            });
+
+            ThrowingObjDoubleFunction<String, String, IOException> function = ThrowingObjDoubleFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo", 1.5));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo1.5", cause.getMessage());
+        }
+    }
+}
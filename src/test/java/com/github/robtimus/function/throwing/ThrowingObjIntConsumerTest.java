@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -611,7 +613,6 @@ class ThrowingObjIntConsumerTest {
 
             verify(consumer).accept("foo", 1);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -629,7 +630,6 @@ class ThrowingObjIntConsumerTest {
 
             verify(consumer).accept("foo", 1);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -645,7 +645,192 @@ class ThrowingObjIntConsumerTest {
 
             verify(consumer).accept("foo", 1);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntConsumer<String, IOException> consumer = Spied.throwingObjIntConsumer(ThrowingObjIntConsumerTest::ignore);
+
+            ObjIntConsumer<String> sneaky = consumer.sneaky();
+
+            sneaky.accept("foo", 1);
+
+            verify(consumer).accept("foo", 1);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntConsumer<String, IOException> consumer = Spied.throwingObjIntConsumer((s, i) -> {
+                throw new IOException(s + i);
+            });
+
+            ObjIntConsumer<String> sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(consumer).accept("foo", 1);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntConsumer<String, IOException> consumer = Spied.throwingObjIntConsumer((s, i) -> throwable.throwUnchecked(s + i));
+
+            ObjIntConsumer<String> sneaky = consumer.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(consumer).accept("foo", 1);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntConsumer<String, IOException> consumer = Spied.throwingObjIntConsumer(ThrowingObjIntConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept("foo", 1);
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo", 1);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntConsumer<String, IOException> consumer = Spied.throwingObjIntConsumer((s, i) -> {
+                throw new IOException(s + i);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo", 1);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntConsumer<String, IOException> consumer = Spied.throwingObjIntConsumer((s, i) -> throwable.throwUnchecked(s + i));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo", 1);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntConsumer<String, IOException> consumer = Spied.throwingObjIntConsumer(ThrowingObjIntConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept("foo", 1);
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo", 1);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntConsumer<String, IOException> consumer = Spied.throwingObjIntConsumer((s, i) -> {
+                throw new IOException(s + i);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept("foo", 1));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo", 1);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntConsumer<String, IOException> consumer = Spied.throwingObjIntConsumer((s, i) -> throwable.throwUnchecked(s + i));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept("foo", 1));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo", 1);
+            verify(consumer).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(consumer);
         }
     }
@@ -688,7 +873,6 @@ class ThrowingObjIntConsumerTest {
             unchecked.accept("foo", 1);
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept("foo", 1);
             verifyNoMoreInteractions(consumer);
         }
@@ -706,7 +890,6 @@ class ThrowingObjIntConsumerTest {
             assertEquals("foo1", cause.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept("foo", 1);
             verifyNoMoreInteractions(consumer);
         }
@@ -722,7 +905,59 @@ class ThrowingObjIntConsumerTest {
             assertEquals("foo1", thrown.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verify(consumer).accept("foo", 1);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjIntConsumer<String, IOException> consumer = Spied.throwingObjIntConsumer(ThrowingObjIntConsumerTest::ignore);
+
+            ObjIntConsumer<String> sneaky = ThrowingObjIntConsumer.sneaky(consumer);
+
+            sneaky.accept("foo", 1);
+
+            verify(consumer).sneaky();
+            verify(consumer).accept("foo", 1);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjIntConsumer<String, IOException> consumer = Spied.throwingObjIntConsumer((s, i) -> {
+                throw new IOException(s + i);
+            });
+
+            ObjIntConsumer<String> sneaky = ThrowingObjIntConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept("foo", 1);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntConsumer<String, IOException> consumer = Spied.throwingObjIntConsumer((s, i) -> throwable.throwUnchecked(s + i));
+
+            ObjIntConsumer<String> sneaky = ThrowingObjIntConsumer.sneaky(consumer);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(consumer).sneaky();
             verify(consumer).accept("foo", 1);
             verifyNoMoreInteractions(consumer);
         }
@@ -831,6 +1066,165 @@ class ThrowingObjIntConsumerTest {
         }
     }
 
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingObjIntConsumer<String, IOException> operation = (t, value) -> {
+                throw new IOException("foo");
+            };
+
+            ObjIntConsumer<String> sneaky = ThrowingObjIntConsumer.sneaky(operation);
+            ThrowingObjIntConsumer<String, IOException> checked = ThrowingObjIntConsumer.checked(sneaky);
+            ThrowingObjIntConsumer<String, IOException> checkedWithErrorType = ThrowingObjIntConsumer.checked(sneaky, IOException.class);
+
+            ObjIntConsumer<String> unchecked = ThrowingObjIntConsumer.unchecked(checked);
+            ObjIntConsumer<String> uncheckedWithErrorType = ThrowingObjIntConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept("foo", 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept("foo", 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ObjIntConsumer<String> operation = (t, value) -> { /* do nothing */ };
+
+            ThrowingObjIntConsumer<String, IOException> checked = ThrowingObjIntConsumer.checked(operation);
+
+            assertSame(operation, ThrowingObjIntConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingObjIntConsumer<String, IOException> operation = (t, value) -> { /* do nothing */ };
+
+            ObjIntConsumer<String> sneaky = ThrowingObjIntConsumer.sneaky(operation);
+
+            assertSame(operation, ThrowingObjIntConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingObjIntConsumer<String, IOException> operation = (t, value) -> {
+                throw new IOException("foo");
+            };
+
+            ObjIntConsumer<String> unchecked = ThrowingObjIntConsumer.unchecked(operation);
+            ThrowingObjIntConsumer<String, IOException> checked = ThrowingObjIntConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept("foo", 1));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingObjIntConsumer<String, IOException> operation = (t, value) -> {
+                throw new IOException("foo");
+            };
+
+            ObjIntConsumer<String> unchecked = ThrowingObjIntConsumer.unchecked(operation);
+            ThrowingObjIntConsumer<String, ParseException> checked = ThrowingObjIntConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingObjIntConsumer<String, IOException> operation = (t, value) -> {
+                throw new IOException("foo");
+            };
+
+            ObjIntConsumer<String> unchecked = ThrowingObjIntConsumer.unchecked(operation);
+            ThrowingObjIntConsumer<String, IOException> checked = ThrowingObjIntConsumer.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ObjIntConsumer<String> consumer = ThrowingObjIntConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ObjIntConsumer<String> delegate = Spied.objIntConsumer(ThrowingObjIntConsumerTest::ignore);
+
+            ThrowingObjIntConsumer<String, IOException> consumer = ThrowingObjIntConsumer.catching(delegate, IOException.class);
+
+            consumer.accept("foo", 1);
+
+            verify(delegate).accept("foo", 1);
+            verifyNoMoreInteractions(delegate);
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                ObjIntConsumer<String> sneaky = ThrowingObjIntConsumer.sneaky((s, i) -> {
+                    throw new IOException(s + i);
+                });
+
+                ThrowingObjIntConsumer<String, IOException> consumer = ThrowingObjIntConsumer.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> consumer.accept("foo", 1));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                ObjIntConsumer<String> sneaky = ThrowingObjIntConsumer.sneaky((s, i) -> {
+                    throw new FileNotFoundException(s + i);
+                });
+
+                ThrowingObjIntConsumer<String, IOException> consumer = ThrowingObjIntConsumer.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> consumer.accept("foo", 1));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                ObjIntConsumer<String> sneaky = ThrowingObjIntConsumer.sneaky((s, i) -> {
+                    throw new ParseException(s + i, 0);
+                });
+
+                ThrowingObjIntConsumer<String, IOException> consumer = ThrowingObjIntConsumer.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept("foo", 1));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo1", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingObjIntConsumer<String, IOException> consumer = ThrowingObjIntConsumer.catching((s, i) -> {
+                throw new IllegalStateException(s + i);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> consumer.accept("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+        }
+    }
+
     @SuppressWarnings("unused")
     private static void ignore(String s, int i) {
         // do nothing
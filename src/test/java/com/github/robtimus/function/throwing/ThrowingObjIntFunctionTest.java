@@ -0,0 +1,955 @@
+/*
+ * ThrowingObjIntFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingObjIntFunctionTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+            ThrowingFunction<String, Integer, IOException> after = Spied.throwingFunction(String::length);
+
+            ThrowingObjIntFunction<String, Integer, IOException> composed = function.andThen(after);
+
+            assertEquals(Integer.valueOf(4), composed.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).andThen(after);
+            verify(after).apply("foo1");
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            assertSame(function, function.andThen(ThrowingFunction.identity()));
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntFunction<String, String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals("foo1", throwing.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntFunction<String, String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.apply("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntFunction<String, String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntFunction<String, String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals("foo1", throwing.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntFunction<String, String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.apply("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntFunction<String, String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingObjIntFunction<String, String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("foo1", handling.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingObjIntFunction<String, String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("foo1", handling.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingObjIntFunction<String, String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("foo1", handling.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingObjIntFunction<String, String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("foo1", handling.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            ThrowingObjIntFunction<String, String, ParseException> fallback = Spied.throwingObjIntFunction((s, v) -> "fallback");
+
+            ThrowingObjIntFunction<String, String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("foo1", fallingBack.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntFunction<String, String, ParseException> fallback = Spied.throwingObjIntFunction((s, v) -> "fallback");
+
+            ThrowingObjIntFunction<String, String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).apply("foo", 1);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            ThrowingObjIntFunction<String, String, RuntimeException> fallback = Spied.throwingObjIntFunction((s, v) -> "fallback");
+
+            ThrowingObjIntFunction<String, String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("foo1", fallingBack.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntFunction<String, String, RuntimeException> fallback = Spied.throwingObjIntFunction((s, v) -> "fallback");
+
+            ThrowingObjIntFunction<String, String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).apply("foo", 1);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingObjIntFunction<String, String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("foo1", fallingBack.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingObjIntFunction<String, String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingObjIntFunction<String, String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("foo1", fallingBack.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingObjIntFunction<String, String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            ThrowingObjIntFunction<String, String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("foo1", returning.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntFunction<String, String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("fallback", returning.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            ThrowingObjIntFunction<String, String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals("foo1", unchecked.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntFunction<String, String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).apply("foo", 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            ThrowingObjIntFunction<String, String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.apply("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).apply("foo", 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+
+            ThrowingObjIntFunction<String, String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals("foo1", sneaky.apply("foo", 1));
+
+            verify(function).apply("foo", 1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntFunction<String, String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).apply("foo", 1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals("foo1", instrumented.apply("foo", 1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo", 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo", 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> throwable.throwUnchecked(s + v));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo", 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> s + v);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("foo1", instrumented.apply("foo", 1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo", 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply("foo", 1));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo", 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> throwable.throwUnchecked(s + v));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply("foo", 1));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo", 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = ThrowingObjIntFunction.of((s, v) -> s + v);
+
+            assertEquals("foo1", function.apply("foo", 1));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntFunction<String, String, RuntimeException> unchecked = ThrowingObjIntFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).apply("foo", 1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = Spied.throwingObjIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntFunction<String, String, RuntimeException> sneaky = ThrowingObjIntFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply("foo", 1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = ThrowingObjIntFunction.checked((s, v) -> s + v);
+
+            assertEquals("foo1", function.apply("foo", 1));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingObjIntFunction<String, String, IOException> function = ThrowingObjIntFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(s + v));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingObjIntFunction<String, String, RuntimeException> function = (s, v) -> s + v;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingObjIntFunction<String, String, IOException> function = ThrowingObjIntFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(s + v));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingObjIntFunction<String, String, IOException> function = ThrowingObjIntFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(s + v, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo", 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingObjIntFunction<String, String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntFunction<String, String, RuntimeException> sneaky = ThrowingObjIntFunction.sneaky(function);
+            ThrowingObjIntFunction<String, String, IOException> checked = ThrowingObjIntFunction.checked(sneaky);
+            ThrowingObjIntFunction<String, String, IOException> checkedWithErrorType = ThrowingObjIntFunction.checked(sneaky, IOException.class);
+
+            ThrowingObjIntFunction<String, String, RuntimeException> unchecked = ThrowingObjIntFunction.unchecked(checked);
+            ThrowingObjIntFunction<String, String, RuntimeException> uncheckedWithErrorType = ThrowingObjIntFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo", 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply("foo", 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingObjIntFunction<String, String, RuntimeException> function = (s, v) -> s + v;
+
+            ThrowingObjIntFunction<String, String, IOException> checked = ThrowingObjIntFunction.checked(function);
+
+            assertSame(function, ThrowingObjIntFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingObjIntFunction<String, String, IOException> function = (s, v) -> s + v;
+
+            ThrowingObjIntFunction<String, String, RuntimeException> sneaky = ThrowingObjIntFunction.sneaky(function);
+
+            assertSame(function, ThrowingObjIntFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingObjIntFunction<String, String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntFunction<String, String, RuntimeException> unchecked = ThrowingObjIntFunction.unchecked(function);
+            ThrowingObjIntFunction<String, String, IOException> checked = ThrowingObjIntFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingObjIntFunction<String, String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntFunction<String, String, RuntimeException> unchecked = ThrowingObjIntFunction.unchecked(function);
+            ThrowingObjIntFunction<String, String, ParseException> checked = ThrowingObjIntFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingObjIntFunction<String, String, RuntimeException> function = (s, v) -> s + v;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjIntFunction<String, String, IOException> function = ThrowingObjIntFunction.catching((s, v) -> s + v, IOException.class);
+
+            assertEquals("foo1", function.apply("foo", 1));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingObjIntFunction<String, String, RuntimeException> sneaky = ThrowingObjIntFunction.sneaky((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntFunction<String, String, IOException> function = ThrowingObjIntFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingObjIntFunction<String, String, RuntimeException> sneaky = ThrowingObjIntFunction.sneaky((s, v) -> {
+                throw new ParseException(s + v, 0);
+            });
+
+            ThrowingObjIntFunction<String, String, IOException> function = ThrowingObjIntFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo", 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,1032 @@
+/*
+ * ThrowingObjIntPredicateTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingObjIntPredicateTest {
+
+    @Nested
+    class And {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            assertThrows(NullPointerException.class, () -> predicate.and(null));
+        }
+
+        @Test
+        void testBothEvaluated() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+            ThrowingObjIntPredicate<String, IOException> other = Spied.throwingObjIntPredicate((s, v) -> false);
+
+            assertFalse(predicate.and(other).test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).and(other);
+            verify(other).test("foo", 3);
+            verifyNoMoreInteractions(predicate, other);
+        }
+
+        @Test
+        void testShortCircuited() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> false);
+            ThrowingObjIntPredicate<String, IOException> other = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            assertFalse(predicate.and(other).test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).and(other);
+            verifyNoMoreInteractions(predicate, other);
+        }
+    }
+
+    @Nested
+    class Negate {
+
+        @Test
+        void testNegate() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            assertFalse(predicate.negate().test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).negate();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Or {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            assertThrows(NullPointerException.class, () -> predicate.or(null));
+        }
+
+        @Test
+        void testBothEvaluated() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> false);
+            ThrowingObjIntPredicate<String, IOException> other = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            assertTrue(predicate.or(other).test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).or(other);
+            verify(other).test("foo", 3);
+            verifyNoMoreInteractions(predicate, other);
+        }
+
+        @Test
+        void testShortCircuited() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+            ThrowingObjIntPredicate<String, IOException> other = Spied.throwingObjIntPredicate((s, v) -> false);
+
+            assertTrue(predicate.or(other).test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).or(other);
+            verifyNoMoreInteractions(predicate, other);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntPredicate<String, ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals(true, throwing.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntPredicate<String, ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.test("foo", 3));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo3", cause.getMessage());
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> throwable.throwUnchecked(s + v));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntPredicate<String, ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.test("foo", 3));
+            assertEquals("foo3", thrown.getMessage());
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntPredicate<String, RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals(true, throwing.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntPredicate<String, RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.test("foo", 3));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo3", cause.getMessage());
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> throwable.throwUnchecked(s + v));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntPredicate<String, RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.test("foo", 3));
+            assertEquals("foo3", thrown.getMessage());
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            ThrowingPredicate<IOException, ParseException> errorHandler = Spied.throwingPredicate(e -> false);
+
+            ThrowingObjIntPredicate<String, ParseException> handling = predicate.onErrorHandleChecked(errorHandler);
+
+            assertEquals(true, handling.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingPredicate<IOException, ParseException> errorHandler = Spied.throwingPredicate(e -> false);
+
+            ThrowingObjIntPredicate<String, ParseException> handling = predicate.onErrorHandleChecked(errorHandler);
+
+            assertEquals(false, handling.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).test(any());
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            Predicate<IOException> errorHandler = Spied.predicate(e -> false);
+
+            ThrowingObjIntPredicate<String, RuntimeException> handling = predicate.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(true, handling.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Predicate<IOException> errorHandler = Spied.predicate(e -> false);
+
+            ThrowingObjIntPredicate<String, RuntimeException> handling = predicate.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(false, handling.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).test(any());
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorTestChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorTestChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            ThrowingObjIntPredicate<String, ParseException> fallback = Spied.throwingObjIntPredicate((s, v) -> false);
+
+            ThrowingObjIntPredicate<String, ParseException> fallingBack = predicate.onErrorTestChecked(fallback);
+
+            assertEquals(true, fallingBack.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorTestChecked(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntPredicate<String, ParseException> fallback = Spied.throwingObjIntPredicate((s, v) -> false);
+
+            ThrowingObjIntPredicate<String, ParseException> fallingBack = predicate.onErrorTestChecked(fallback);
+
+            assertEquals(false, fallingBack.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorTestChecked(fallback);
+            verify(fallback).test("foo", 3);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorTestUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorTestUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            ThrowingObjIntPredicate<String, RuntimeException> fallback = Spied.throwingObjIntPredicate((s, v) -> false);
+
+            ThrowingObjIntPredicate<String, RuntimeException> fallingBack = predicate.onErrorTestUnchecked(fallback);
+
+            assertEquals(true, fallingBack.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorTestUnchecked(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntPredicate<String, RuntimeException> fallback = Spied.throwingObjIntPredicate((s, v) -> false);
+
+            ThrowingObjIntPredicate<String, RuntimeException> fallingBack = predicate.onErrorTestUnchecked(fallback);
+
+            assertEquals(false, fallingBack.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorTestUnchecked(fallback);
+            verify(fallback).test("foo", 3);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetCheckedAsBoolean {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorGetCheckedAsBoolean(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            ThrowingBooleanSupplier<ParseException> fallback = Spied.throwingBooleanSupplier(() -> false);
+
+            ThrowingObjIntPredicate<String, ParseException> fallingBack = predicate.onErrorGetCheckedAsBoolean(fallback);
+
+            assertEquals(true, fallingBack.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorGetCheckedAsBoolean(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingBooleanSupplier<ParseException> fallback = Spied.throwingBooleanSupplier(() -> false);
+
+            ThrowingObjIntPredicate<String, ParseException> fallingBack = predicate.onErrorGetCheckedAsBoolean(fallback);
+
+            assertEquals(false, fallingBack.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorGetCheckedAsBoolean(fallback);
+            verify(fallback).getAsBoolean();
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUncheckedAsBoolean {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorGetUncheckedAsBoolean(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            BooleanSupplier fallback = Spied.booleanSupplier(() -> false);
+
+            ThrowingObjIntPredicate<String, RuntimeException> fallingBack = predicate.onErrorGetUncheckedAsBoolean(fallback);
+
+            assertEquals(true, fallingBack.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorGetUncheckedAsBoolean(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            BooleanSupplier fallback = Spied.booleanSupplier(() -> false);
+
+            ThrowingObjIntPredicate<String, RuntimeException> fallingBack = predicate.onErrorGetUncheckedAsBoolean(fallback);
+
+            assertEquals(false, fallingBack.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorGetUncheckedAsBoolean(fallback);
+            verify(fallback).getAsBoolean();
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            ThrowingObjIntPredicate<String, RuntimeException> returning = predicate.onErrorReturn(false);
+
+            assertEquals(true, returning.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorReturn(false);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntPredicate<String, RuntimeException> returning = predicate.onErrorReturn(false);
+
+            assertEquals(false, returning.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).onErrorReturn(false);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            ThrowingObjIntPredicate<String, RuntimeException> unchecked = predicate.unchecked();
+
+            assertEquals(true, unchecked.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntPredicate<String, RuntimeException> unchecked = predicate.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test("foo", 3));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo3", cause.getMessage());
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> throwable.throwUnchecked(s + v));
+
+            ThrowingObjIntPredicate<String, RuntimeException> unchecked = predicate.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.test("foo", 3));
+            assertEquals("foo3", thrown.getMessage());
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            ThrowingObjIntPredicate<String, RuntimeException> sneaky = predicate.sneaky();
+
+            assertEquals(true, sneaky.test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntPredicate<String, RuntimeException> sneaky = predicate.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test("foo", 3));
+            assertEquals("foo3", thrown.getMessage());
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntPredicate<String, IOException> instrumented = predicate.instrumented("foo", registry);
+
+            assertEquals(true, instrumented.test("foo", 3));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntPredicate<String, IOException> instrumented = predicate.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.test("foo", 3));
+            assertEquals("foo3", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> throwable.throwUnchecked(s + v));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntPredicate<String, IOException> instrumented = predicate.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test("foo", 3));
+            assertEquals("foo3", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntPredicate<String, IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(true, instrumented.test("foo", 3));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(predicate, times(3)).test("foo", 3);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntPredicate<String, IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.test("foo", 3));
+                assertEquals("foo3", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test("foo", 3);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> throwable.throwUnchecked(s + v));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntPredicate<String, IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test("foo", 3));
+                assertEquals("foo3", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test("foo", 3);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntPredicate.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = ThrowingObjIntPredicate.of((s, v) -> s.length() == v);
+
+            assertEquals(true, predicate.test("foo", 3));
+        }
+    }
+
+    @Nested
+    class Not {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntPredicate.not(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> s.length() == v);
+
+            assertFalse(ThrowingObjIntPredicate.not(predicate).test("foo", 3));
+
+            verify(predicate).test("foo", 3);
+            verify(predicate).negate();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntPredicate.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntPredicate<String, RuntimeException> unchecked = ThrowingObjIntPredicate.unchecked(predicate);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test("foo", 3));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo3", cause.getMessage());
+
+            verify(predicate).unchecked();
+            verify(predicate).test("foo", 3);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntPredicate.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = Spied.throwingObjIntPredicate((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntPredicate<String, RuntimeException> sneaky = ThrowingObjIntPredicate.sneaky(predicate);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test("foo", 3));
+            assertEquals("foo3", thrown.getMessage());
+
+            verify(predicate).sneaky();
+            verify(predicate).test("foo", 3);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntPredicate.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = ThrowingObjIntPredicate.checked((s, v) -> s.length() == v);
+
+            assertEquals(true, predicate.test("foo", 3));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingObjIntPredicate<String, IOException> predicate = ThrowingObjIntPredicate.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(s + v));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test("foo", 3));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo3", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingObjIntPredicate<String, RuntimeException> predicate = (s, v) -> s.length() == v;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntPredicate.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntPredicate.checked(predicate, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingObjIntPredicate<String, IOException> predicate = ThrowingObjIntPredicate.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(s + v));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> predicate.test("foo", 3));
+            assertEquals("foo3", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingObjIntPredicate<String, IOException> predicate = ThrowingObjIntPredicate.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(s + v, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test("foo", 3));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo3", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingObjIntPredicate<String, IOException> predicate = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntPredicate<String, RuntimeException> sneaky = ThrowingObjIntPredicate.sneaky(predicate);
+            ThrowingObjIntPredicate<String, IOException> checked = ThrowingObjIntPredicate.checked(sneaky);
+            ThrowingObjIntPredicate<String, IOException> checkedWithErrorType = ThrowingObjIntPredicate.checked(sneaky, IOException.class);
+
+            ThrowingObjIntPredicate<String, RuntimeException> unchecked = ThrowingObjIntPredicate.unchecked(checked);
+            ThrowingObjIntPredicate<String, RuntimeException> uncheckedWithErrorType = ThrowingObjIntPredicate.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test("foo", 3));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.test("foo", 3));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingObjIntPredicate<String, RuntimeException> predicate = (s, v) -> s.length() == v;
+
+            ThrowingObjIntPredicate<String, IOException> checked = ThrowingObjIntPredicate.checked(predicate);
+
+            assertSame(predicate, ThrowingObjIntPredicate.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingObjIntPredicate<String, IOException> predicate = (s, v) -> s.length() == v;
+
+            ThrowingObjIntPredicate<String, RuntimeException> sneaky = ThrowingObjIntPredicate.sneaky(predicate);
+
+            assertSame(predicate, ThrowingObjIntPredicate.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingObjIntPredicate<String, IOException> predicate = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntPredicate<String, RuntimeException> unchecked = ThrowingObjIntPredicate.unchecked(predicate);
+            ThrowingObjIntPredicate<String, IOException> checked = ThrowingObjIntPredicate.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.test("foo", 3));
+            assertEquals("foo3", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingObjIntPredicate<String, IOException> predicate = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntPredicate<String, RuntimeException> unchecked = ThrowingObjIntPredicate.unchecked(predicate);
+            ThrowingObjIntPredicate<String, ParseException> checked = ThrowingObjIntPredicate.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test("foo", 3));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo3", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingObjIntPredicate<String, RuntimeException> predicate = (s, v) -> s.length() == v;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntPredicate.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntPredicate.catching(predicate, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjIntPredicate<String, IOException> predicate = ThrowingObjIntPredicate.catching((s, v) -> s.length() == v, IOException.class);
+
+            assertEquals(true, predicate.test("foo", 3));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingObjIntPredicate<String, RuntimeException> sneaky = ThrowingObjIntPredicate.sneaky((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntPredicate<String, IOException> predicate = ThrowingObjIntPredicate.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> predicate.test("foo", 3));
+            assertEquals("foo3", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingObjIntPredicate<String, RuntimeException> sneaky = ThrowingObjIntPredicate.sneaky((s, v) -> {
+                throw new ParseException(s + v, 0);
+            });
+
+            ThrowingObjIntPredicate<String, IOException> predicate = ThrowingObjIntPredicate.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test("foo", 3));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo3", cause.getMessage());
+        }
+    }
+}
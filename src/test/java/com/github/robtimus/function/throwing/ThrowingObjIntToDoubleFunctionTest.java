@@ -0,0 +1,931 @@
+/*
+ * ThrowingObjIntToDoubleFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingObjIntToDoubleFunctionTest {
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntToDoubleFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals(4.0, throwing.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntToDoubleFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.applyAsDouble("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied
+                    .throwingObjIntToDoubleFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntToDoubleFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsDouble("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals(4.0, throwing.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.applyAsDouble("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied
+                    .throwingObjIntToDoubleFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsDouble("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            ThrowingToDoubleFunction<IOException, ParseException> errorHandler = Spied.throwingToDoubleFunction(e -> -1.0);
+
+            ThrowingObjIntToDoubleFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals(4.0, handling.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingToDoubleFunction<IOException, ParseException> errorHandler = Spied.throwingToDoubleFunction(e -> -1.0);
+
+            ThrowingObjIntToDoubleFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals(-1.0, handling.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsDouble(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            ToDoubleFunction<IOException> errorHandler = Spied.toDoubleFunction(e -> -1.0);
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(4.0, handling.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ToDoubleFunction<IOException> errorHandler = Spied.toDoubleFunction(e -> -1.0);
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(-1.0, handling.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsDouble(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToDoubleFunction<String, ParseException> fallback = Spied.throwingObjIntToDoubleFunction((s, v) -> -1.0);
+
+            ThrowingObjIntToDoubleFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals(4.0, fallingBack.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToDoubleFunction<String, ParseException> fallback = Spied.throwingObjIntToDoubleFunction((s, v) -> -1.0);
+
+            ThrowingObjIntToDoubleFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals(-1.0, fallingBack.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).applyAsDouble("foo", 1);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> fallback = Spied.throwingObjIntToDoubleFunction((s, v) -> -1.0);
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals(4.0, fallingBack.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> fallback = Spied.throwingObjIntToDoubleFunction((s, v) -> -1.0);
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals(-1.0, fallingBack.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).applyAsDouble("foo", 1);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            ThrowingDoubleSupplier<ParseException> fallback = Spied.throwingDoubleSupplier(() -> -1.0);
+
+            ThrowingObjIntToDoubleFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals(4.0, fallingBack.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingDoubleSupplier<ParseException> fallback = Spied.throwingDoubleSupplier(() -> -1.0);
+
+            ThrowingObjIntToDoubleFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals(-1.0, fallingBack.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).getAsDouble();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            DoubleSupplier fallback = Spied.doubleSupplier(() -> -1.0);
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals(4.0, fallingBack.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            DoubleSupplier fallback = Spied.doubleSupplier(() -> -1.0);
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals(-1.0, fallingBack.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).getAsDouble();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> returning = function.onErrorReturn(-1.0);
+
+            assertEquals(4.0, returning.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorReturn(-1.0);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> returning = function.onErrorReturn(-1.0);
+
+            assertEquals(-1.0, returning.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).onErrorReturn(-1.0);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals(4.0, unchecked.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsDouble("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied
+                    .throwingObjIntToDoubleFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.applyAsDouble("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals(4.0, sneaky.applyAsDouble("foo", 1));
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsDouble("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(4.0, instrumented.applyAsDouble("foo", 1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsDouble("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied
+                    .throwingObjIntToDoubleFunction((s, v) -> throwable.throwUnchecked(s + v));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsDouble("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble("foo", 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> s.length() + v);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(4.0, instrumented.applyAsDouble("foo", 1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble("foo", 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsDouble("foo", 1));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble("foo", 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied
+                    .throwingObjIntToDoubleFunction((s, v) -> throwable.throwUnchecked(s + v));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsDouble("foo", 1));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble("foo", 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToDoubleFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = ThrowingObjIntToDoubleFunction.of((s, v) -> s.length() + v);
+
+            assertEquals(4.0, function.applyAsDouble("foo", 1));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToDoubleFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> unchecked = ThrowingObjIntToDoubleFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsDouble("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).applyAsDouble("foo", 1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToDoubleFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = Spied.throwingObjIntToDoubleFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> sneaky = ThrowingObjIntToDoubleFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsDouble("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsDouble("foo", 1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToDoubleFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = ThrowingObjIntToDoubleFunction.checked((s, v) -> s.length() + v);
+
+            assertEquals(4.0, function.applyAsDouble("foo", 1));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = ThrowingObjIntToDoubleFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(s + v));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsDouble("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> function = (s, v) -> s.length() + v;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToDoubleFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToDoubleFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = ThrowingObjIntToDoubleFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(s + v));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAsDouble("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = ThrowingObjIntToDoubleFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(s + v, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsDouble("foo", 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> sneaky = ThrowingObjIntToDoubleFunction.sneaky(function);
+            ThrowingObjIntToDoubleFunction<String, IOException> checked = ThrowingObjIntToDoubleFunction.checked(sneaky);
+            ThrowingObjIntToDoubleFunction<String, IOException> checkedWithErrorType =
+                    ThrowingObjIntToDoubleFunction.checked(sneaky, IOException.class);
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> unchecked = ThrowingObjIntToDoubleFunction.unchecked(checked);
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> uncheckedWithErrorType =
+                    ThrowingObjIntToDoubleFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsDouble("foo", 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsDouble("foo", 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> function = (s, v) -> s.length() + v;
+
+            ThrowingObjIntToDoubleFunction<String, IOException> checked = ThrowingObjIntToDoubleFunction.checked(function);
+
+            assertSame(function, ThrowingObjIntToDoubleFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = (s, v) -> s.length() + v;
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> sneaky = ThrowingObjIntToDoubleFunction.sneaky(function);
+
+            assertSame(function, ThrowingObjIntToDoubleFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> unchecked = ThrowingObjIntToDoubleFunction.unchecked(function);
+            ThrowingObjIntToDoubleFunction<String, IOException> checked = ThrowingObjIntToDoubleFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsDouble("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingObjIntToDoubleFunction<String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> unchecked = ThrowingObjIntToDoubleFunction.unchecked(function);
+            ThrowingObjIntToDoubleFunction<String, ParseException> checked = ThrowingObjIntToDoubleFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsDouble("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> function = (s, v) -> s.length() + v;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToDoubleFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToDoubleFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjIntToDoubleFunction<String, IOException> function =
+                    ThrowingObjIntToDoubleFunction.catching((s, v) -> s.length() + v, IOException.class);
+
+            assertEquals(4.0, function.applyAsDouble("foo", 1));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> sneaky = ThrowingObjIntToDoubleFunction.sneaky((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToDoubleFunction<String, IOException> function = ThrowingObjIntToDoubleFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAsDouble("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingObjIntToDoubleFunction<String, RuntimeException> sneaky = ThrowingObjIntToDoubleFunction.sneaky((s, v) -> {
+                throw new ParseException(s + v, 0);
+            });
+
+            ThrowingObjIntToDoubleFunction<String, IOException> function = ThrowingObjIntToDoubleFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsDouble("foo", 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,925 @@
+/*
+ * ThrowingObjIntToIntFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingObjIntToIntFunctionTest {
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntToIntFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals(4, throwing.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntToIntFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.applyAsInt("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntToIntFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsInt("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals(4, throwing.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.applyAsInt("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsInt("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            ThrowingToIntFunction<IOException, ParseException> errorHandler = Spied.throwingToIntFunction(e -> -1);
+
+            ThrowingObjIntToIntFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals(4, handling.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingToIntFunction<IOException, ParseException> errorHandler = Spied.throwingToIntFunction(e -> -1);
+
+            ThrowingObjIntToIntFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals(-1, handling.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsInt(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            ToIntFunction<IOException> errorHandler = Spied.toIntFunction(e -> -1);
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(4, handling.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ToIntFunction<IOException> errorHandler = Spied.toIntFunction(e -> -1);
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(-1, handling.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsInt(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToIntFunction<String, ParseException> fallback = Spied.throwingObjIntToIntFunction((s, v) -> -1);
+
+            ThrowingObjIntToIntFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals(4, fallingBack.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToIntFunction<String, ParseException> fallback = Spied.throwingObjIntToIntFunction((s, v) -> -1);
+
+            ThrowingObjIntToIntFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals(-1, fallingBack.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).applyAsInt("foo", 1);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> fallback = Spied.throwingObjIntToIntFunction((s, v) -> -1);
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals(4, fallingBack.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> fallback = Spied.throwingObjIntToIntFunction((s, v) -> -1);
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals(-1, fallingBack.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).applyAsInt("foo", 1);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            ThrowingIntSupplier<ParseException> fallback = Spied.throwingIntSupplier(() -> -1);
+
+            ThrowingObjIntToIntFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals(4, fallingBack.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingIntSupplier<ParseException> fallback = Spied.throwingIntSupplier(() -> -1);
+
+            ThrowingObjIntToIntFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals(-1, fallingBack.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).getAsInt();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            IntSupplier fallback = Spied.intSupplier(() -> -1);
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals(4, fallingBack.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            IntSupplier fallback = Spied.intSupplier(() -> -1);
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals(-1, fallingBack.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).getAsInt();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> returning = function.onErrorReturn(-1);
+
+            assertEquals(4, returning.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorReturn(-1);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> returning = function.onErrorReturn(-1);
+
+            assertEquals(-1, returning.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).onErrorReturn(-1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals(4, unchecked.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsInt("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.applyAsInt("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals(4, sneaky.applyAsInt("foo", 1));
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsInt("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToIntFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(4, instrumented.applyAsInt("foo", 1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToIntFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsInt("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> throwable.throwUnchecked(s + v));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToIntFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsInt("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt("foo", 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> s.length() + v);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToIntFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(4, instrumented.applyAsInt("foo", 1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt("foo", 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToIntFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsInt("foo", 1));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt("foo", 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> throwable.throwUnchecked(s + v));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToIntFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsInt("foo", 1));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt("foo", 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToIntFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = ThrowingObjIntToIntFunction.of((s, v) -> s.length() + v);
+
+            assertEquals(4, function.applyAsInt("foo", 1));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToIntFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> unchecked = ThrowingObjIntToIntFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsInt("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).applyAsInt("foo", 1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToIntFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = Spied.throwingObjIntToIntFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> sneaky = ThrowingObjIntToIntFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsInt("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsInt("foo", 1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToIntFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function = ThrowingObjIntToIntFunction.checked((s, v) -> s.length() + v);
+
+            assertEquals(4, function.applyAsInt("foo", 1));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingObjIntToIntFunction<String, IOException> function = ThrowingObjIntToIntFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(s + v));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsInt("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingObjIntToIntFunction<String, RuntimeException> function = (s, v) -> s.length() + v;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToIntFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToIntFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingObjIntToIntFunction<String, IOException> function = ThrowingObjIntToIntFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(s + v));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAsInt("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingObjIntToIntFunction<String, IOException> function = ThrowingObjIntToIntFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(s + v, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsInt("foo", 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingObjIntToIntFunction<String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> sneaky = ThrowingObjIntToIntFunction.sneaky(function);
+            ThrowingObjIntToIntFunction<String, IOException> checked = ThrowingObjIntToIntFunction.checked(sneaky);
+            ThrowingObjIntToIntFunction<String, IOException> checkedWithErrorType = ThrowingObjIntToIntFunction.checked(sneaky, IOException.class);
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> unchecked = ThrowingObjIntToIntFunction.unchecked(checked);
+            ThrowingObjIntToIntFunction<String, RuntimeException> uncheckedWithErrorType =
+                    ThrowingObjIntToIntFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsInt("foo", 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsInt("foo", 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingObjIntToIntFunction<String, RuntimeException> function = (s, v) -> s.length() + v;
+
+            ThrowingObjIntToIntFunction<String, IOException> checked = ThrowingObjIntToIntFunction.checked(function);
+
+            assertSame(function, ThrowingObjIntToIntFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingObjIntToIntFunction<String, IOException> function = (s, v) -> s.length() + v;
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> sneaky = ThrowingObjIntToIntFunction.sneaky(function);
+
+            assertSame(function, ThrowingObjIntToIntFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingObjIntToIntFunction<String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> unchecked = ThrowingObjIntToIntFunction.unchecked(function);
+            ThrowingObjIntToIntFunction<String, IOException> checked = ThrowingObjIntToIntFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsInt("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingObjIntToIntFunction<String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntToIntFunction<String, RuntimeException> unchecked = ThrowingObjIntToIntFunction.unchecked(function);
+            ThrowingObjIntToIntFunction<String, ParseException> checked = ThrowingObjIntToIntFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsInt("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingObjIntToIntFunction<String, RuntimeException> function = (s, v) -> s.length() + v;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToIntFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToIntFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjIntToIntFunction<String, IOException> function =
+                    ThrowingObjIntToIntFunction.catching((s, v) -> s.length() + v, IOException.class);
+
+            assertEquals(4, function.applyAsInt("foo", 1));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingObjIntToIntFunction<String, RuntimeException> sneaky = ThrowingObjIntToIntFunction.sneaky((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToIntFunction<String, IOException> function = ThrowingObjIntToIntFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAsInt("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingObjIntToIntFunction<String, RuntimeException> sneaky = ThrowingObjIntToIntFunction.sneaky((s, v) -> {
+                throw new ParseException(s + v, 0);
+            });
+
+            ThrowingObjIntToIntFunction<String, IOException> function = ThrowingObjIntToIntFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsInt("foo", 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+}
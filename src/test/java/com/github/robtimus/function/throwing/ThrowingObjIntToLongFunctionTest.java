@@ -0,0 +1,930 @@
+/*
+ * ThrowingObjIntToLongFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingObjIntToLongFunctionTest {
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntToLongFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals(4L, throwing.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntToLongFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.applyAsLong("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied
+                    .throwingObjIntToLongFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjIntToLongFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsLong("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals(4L, throwing.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.applyAsLong("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied
+                    .throwingObjIntToLongFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsLong("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            ThrowingToLongFunction<IOException, ParseException> errorHandler = Spied.throwingToLongFunction(e -> -1L);
+
+            ThrowingObjIntToLongFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals(4L, handling.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingToLongFunction<IOException, ParseException> errorHandler = Spied.throwingToLongFunction(e -> -1L);
+
+            ThrowingObjIntToLongFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals(-1L, handling.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsLong(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            ToLongFunction<IOException> errorHandler = Spied.toLongFunction(e -> -1L);
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(4L, handling.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ToLongFunction<IOException> errorHandler = Spied.toLongFunction(e -> -1L);
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(-1L, handling.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsLong(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToLongFunction<String, ParseException> fallback = Spied.throwingObjIntToLongFunction((s, v) -> -1L);
+
+            ThrowingObjIntToLongFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals(4L, fallingBack.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToLongFunction<String, ParseException> fallback = Spied.throwingObjIntToLongFunction((s, v) -> -1L);
+
+            ThrowingObjIntToLongFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals(-1L, fallingBack.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).applyAsLong("foo", 1);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> fallback = Spied.throwingObjIntToLongFunction((s, v) -> -1L);
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals(4L, fallingBack.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> fallback = Spied.throwingObjIntToLongFunction((s, v) -> -1L);
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals(-1L, fallingBack.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).applyAsLong("foo", 1);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            ThrowingLongSupplier<ParseException> fallback = Spied.throwingLongSupplier(() -> -1L);
+
+            ThrowingObjIntToLongFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals(4L, fallingBack.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingLongSupplier<ParseException> fallback = Spied.throwingLongSupplier(() -> -1L);
+
+            ThrowingObjIntToLongFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals(-1L, fallingBack.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).getAsLong();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            LongSupplier fallback = Spied.longSupplier(() -> -1L);
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals(4L, fallingBack.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            LongSupplier fallback = Spied.longSupplier(() -> -1L);
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals(-1L, fallingBack.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).getAsLong();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> returning = function.onErrorReturn(-1L);
+
+            assertEquals(4L, returning.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorReturn(-1L);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> returning = function.onErrorReturn(-1L);
+
+            assertEquals(-1L, returning.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).onErrorReturn(-1L);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals(4L, unchecked.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsLong("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied
+                    .throwingObjIntToLongFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.applyAsLong("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals(4L, sneaky.applyAsLong("foo", 1));
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsLong("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToLongFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(4L, instrumented.applyAsLong("foo", 1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToLongFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsLong("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied
+                    .throwingObjIntToLongFunction((s, v) -> throwable.throwUnchecked(s + v));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToLongFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsLong("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong("foo", 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> s.length() + v);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToLongFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(4L, instrumented.applyAsLong("foo", 1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong("foo", 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToLongFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsLong("foo", 1));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong("foo", 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied
+                    .throwingObjIntToLongFunction((s, v) -> throwable.throwUnchecked(s + v));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjIntToLongFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsLong("foo", 1));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong("foo", 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToLongFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = ThrowingObjIntToLongFunction.of((s, v) -> s.length() + v);
+
+            assertEquals(4L, function.applyAsLong("foo", 1));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToLongFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> unchecked = ThrowingObjIntToLongFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsLong("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).applyAsLong("foo", 1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToLongFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = Spied.throwingObjIntToLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> sneaky = ThrowingObjIntToLongFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsLong("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsLong("foo", 1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToLongFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function = ThrowingObjIntToLongFunction.checked((s, v) -> s.length() + v);
+
+            assertEquals(4L, function.applyAsLong("foo", 1));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingObjIntToLongFunction<String, IOException> function = ThrowingObjIntToLongFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(s + v));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsLong("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingObjIntToLongFunction<String, RuntimeException> function = (s, v) -> s.length() + v;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToLongFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToLongFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingObjIntToLongFunction<String, IOException> function = ThrowingObjIntToLongFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(s + v));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAsLong("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingObjIntToLongFunction<String, IOException> function = ThrowingObjIntToLongFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(s + v, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsLong("foo", 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingObjIntToLongFunction<String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> sneaky = ThrowingObjIntToLongFunction.sneaky(function);
+            ThrowingObjIntToLongFunction<String, IOException> checked = ThrowingObjIntToLongFunction.checked(sneaky);
+            ThrowingObjIntToLongFunction<String, IOException> checkedWithErrorType = ThrowingObjIntToLongFunction.checked(sneaky, IOException.class);
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> unchecked = ThrowingObjIntToLongFunction.unchecked(checked);
+            ThrowingObjIntToLongFunction<String, RuntimeException> uncheckedWithErrorType =
+                    ThrowingObjIntToLongFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsLong("foo", 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsLong("foo", 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingObjIntToLongFunction<String, RuntimeException> function = (s, v) -> s.length() + v;
+
+            ThrowingObjIntToLongFunction<String, IOException> checked = ThrowingObjIntToLongFunction.checked(function);
+
+            assertSame(function, ThrowingObjIntToLongFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingObjIntToLongFunction<String, IOException> function = (s, v) -> s.length() + v;
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> sneaky = ThrowingObjIntToLongFunction.sneaky(function);
+
+            assertSame(function, ThrowingObjIntToLongFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingObjIntToLongFunction<String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> unchecked = ThrowingObjIntToLongFunction.unchecked(function);
+            ThrowingObjIntToLongFunction<String, IOException> checked = ThrowingObjIntToLongFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsLong("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingObjIntToLongFunction<String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjIntToLongFunction<String, RuntimeException> unchecked = ThrowingObjIntToLongFunction.unchecked(function);
+            ThrowingObjIntToLongFunction<String, ParseException> checked = ThrowingObjIntToLongFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsLong("foo", 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingObjIntToLongFunction<String, RuntimeException> function = (s, v) -> s.length() + v;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToLongFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjIntToLongFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjIntToLongFunction<String, IOException> function =
+                    ThrowingObjIntToLongFunction.catching((s, v) -> s.length() + v, IOException.class);
+
+            assertEquals(4L, function.applyAsLong("foo", 1));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingObjIntToLongFunction<String, RuntimeException> sneaky = ThrowingObjIntToLongFunction.sneaky((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjIntToLongFunction<String, IOException> function = ThrowingObjIntToLongFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAsLong("foo", 1));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingObjIntToLongFunction<String, RuntimeException> sneaky = ThrowingObjIntToLongFunction.sneaky((s, v) -> {
+                throw new ParseException(s + v, 0);
+            });
+
+            ThrowingObjIntToLongFunction<String, IOException> function = ThrowingObjIntToLongFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsLong("foo", 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+}
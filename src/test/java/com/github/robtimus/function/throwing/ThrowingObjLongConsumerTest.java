@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -611,7 +613,6 @@ class ThrowingObjLongConsumerTest {
 
             verify(consumer).accept("foo", 1L);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -629,7 +630,6 @@ class ThrowingObjLongConsumerTest {
 
             verify(consumer).accept("foo", 1L);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(consumer);
         }
 
@@ -645,7 +645,192 @@ class ThrowingObjLongConsumerTest {
 
             verify(consumer).accept("foo", 1L);
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjLongConsumer<String, IOException> consumer = Spied.throwingObjLongConsumer(ThrowingObjLongConsumerTest::ignore);
+
+            ObjLongConsumer<String> sneaky = consumer.sneaky();
+
+            sneaky.accept("foo", 1L);
+
+            verify(consumer).accept("foo", 1L);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjLongConsumer<String, IOException> consumer = Spied.throwingObjLongConsumer((s, l) -> {
+                throw new IOException(s + l);
+            });
+
+            ObjLongConsumer<String> sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(consumer).accept("foo", 1L);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjLongConsumer<String, IOException> consumer = Spied.throwingObjLongConsumer((s, l) -> throwable.throwUnchecked(s + l));
+
+            ObjLongConsumer<String> sneaky = consumer.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(consumer).accept("foo", 1L);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjLongConsumer<String, IOException> consumer = Spied.throwingObjLongConsumer(ThrowingObjLongConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjLongConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept("foo", 1L);
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo", 1L);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjLongConsumer<String, IOException> consumer = Spied.throwingObjLongConsumer((s, l) -> {
+                throw new IOException(s + l);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjLongConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo", 1L);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjLongConsumer<String, IOException> consumer = Spied.throwingObjLongConsumer((s, l) -> throwable.throwUnchecked(s + l));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjLongConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept("foo", 1L);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjLongConsumer<String, IOException> consumer = Spied.throwingObjLongConsumer(ThrowingObjLongConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjLongConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept("foo", 1L);
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo", 1L);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjLongConsumer<String, IOException> consumer = Spied.throwingObjLongConsumer((s, l) -> {
+                throw new IOException(s + l);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjLongConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept("foo", 1L));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo", 1L);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjLongConsumer<String, IOException> consumer = Spied.throwingObjLongConsumer((s, l) -> throwable.throwUnchecked(s + l));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjLongConsumer<String, IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept("foo", 1L));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept("foo", 1L);
+            verify(consumer).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(consumer);
         }
     }
@@ -688,7 +873,6 @@ class ThrowingObjLongConsumerTest {
             unchecked.accept("foo", 1L);
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept("foo", 1L);
             verifyNoMoreInteractions(consumer);
         }
@@ -706,7 +890,6 @@ class ThrowingObjLongConsumerTest {
             assertEquals("foo1", cause.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
             verify(consumer).accept("foo", 1L);
             verifyNoMoreInteractions(consumer);
         }
@@ -722,7 +905,59 @@ class ThrowingObjLongConsumerTest {
             assertEquals("foo1", thrown.getMessage());
 
             verify(consumer).unchecked();
-            verify(consumer).onErrorThrowAsUnchecked(any());
+            verify(consumer).accept("foo", 1L);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjLongConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjLongConsumer<String, IOException> consumer = Spied.throwingObjLongConsumer(ThrowingObjLongConsumerTest::ignore);
+
+            ObjLongConsumer<String> sneaky = ThrowingObjLongConsumer.sneaky(consumer);
+
+            sneaky.accept("foo", 1L);
+
+            verify(consumer).sneaky();
+            verify(consumer).accept("foo", 1L);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjLongConsumer<String, IOException> consumer = Spied.throwingObjLongConsumer((s, l) -> {
+                throw new IOException(s + l);
+            });
+
+            ObjLongConsumer<String> sneaky = ThrowingObjLongConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept("foo", 1L);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjLongConsumer<String, IOException> consumer = Spied.throwingObjLongConsumer((s, l) -> throwable.throwUnchecked(s + l));
+
+            ObjLongConsumer<String> sneaky = ThrowingObjLongConsumer.sneaky(consumer);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.accept("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(consumer).sneaky();
             verify(consumer).accept("foo", 1L);
             verifyNoMoreInteractions(consumer);
         }
@@ -831,6 +1066,165 @@ class ThrowingObjLongConsumerTest {
         }
     }
 
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingObjLongConsumer<String, IOException> operation = (t, value) -> {
+                throw new IOException("foo");
+            };
+
+            ObjLongConsumer<String> sneaky = ThrowingObjLongConsumer.sneaky(operation);
+            ThrowingObjLongConsumer<String, IOException> checked = ThrowingObjLongConsumer.checked(sneaky);
+            ThrowingObjLongConsumer<String, IOException> checkedWithErrorType = ThrowingObjLongConsumer.checked(sneaky, IOException.class);
+
+            ObjLongConsumer<String> unchecked = ThrowingObjLongConsumer.unchecked(checked);
+            ObjLongConsumer<String> uncheckedWithErrorType = ThrowingObjLongConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept("foo", 1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept("foo", 1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ObjLongConsumer<String> operation = (t, value) -> { /* do nothing */ };
+
+            ThrowingObjLongConsumer<String, IOException> checked = ThrowingObjLongConsumer.checked(operation);
+
+            assertSame(operation, ThrowingObjLongConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingObjLongConsumer<String, IOException> operation = (t, value) -> { /* do nothing */ };
+
+            ObjLongConsumer<String> sneaky = ThrowingObjLongConsumer.sneaky(operation);
+
+            assertSame(operation, ThrowingObjLongConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingObjLongConsumer<String, IOException> operation = (t, value) -> {
+                throw new IOException("foo");
+            };
+
+            ObjLongConsumer<String> unchecked = ThrowingObjLongConsumer.unchecked(operation);
+            ThrowingObjLongConsumer<String, IOException> checked = ThrowingObjLongConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept("foo", 1L));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingObjLongConsumer<String, IOException> operation = (t, value) -> {
+                throw new IOException("foo");
+            };
+
+            ObjLongConsumer<String> unchecked = ThrowingObjLongConsumer.unchecked(operation);
+            ThrowingObjLongConsumer<String, ParseException> checked = ThrowingObjLongConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept("foo", 1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingObjLongConsumer<String, IOException> operation = (t, value) -> {
+                throw new IOException("foo");
+            };
+
+            ObjLongConsumer<String> unchecked = ThrowingObjLongConsumer.unchecked(operation);
+            ThrowingObjLongConsumer<String, IOException> checked = ThrowingObjLongConsumer.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept("foo", 1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ObjLongConsumer<String> consumer = ThrowingObjLongConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjLongConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjLongConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ObjLongConsumer<String> delegate = Spied.objLongConsumer(ThrowingObjLongConsumerTest::ignore);
+
+            ThrowingObjLongConsumer<String, IOException> consumer = ThrowingObjLongConsumer.catching(delegate, IOException.class);
+
+            consumer.accept("foo", 1L);
+
+            verify(delegate).accept("foo", 1L);
+            verifyNoMoreInteractions(delegate);
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                ObjLongConsumer<String> sneaky = ThrowingObjLongConsumer.sneaky((s, l) -> {
+                    throw new IOException(s + l);
+                });
+
+                ThrowingObjLongConsumer<String, IOException> consumer = ThrowingObjLongConsumer.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> consumer.accept("foo", 1L));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                ObjLongConsumer<String> sneaky = ThrowingObjLongConsumer.sneaky((s, l) -> {
+                    throw new FileNotFoundException(s + l);
+                });
+
+                ThrowingObjLongConsumer<String, IOException> consumer = ThrowingObjLongConsumer.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> consumer.accept("foo", 1L));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                ObjLongConsumer<String> sneaky = ThrowingObjLongConsumer.sneaky((s, l) -> {
+                    throw new ParseException(s + l, 0);
+                });
+
+                ThrowingObjLongConsumer<String, IOException> consumer = ThrowingObjLongConsumer.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept("foo", 1L));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo1", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingObjLongConsumer<String, IOException> consumer = ThrowingObjLongConsumer.catching((s, l) -> {
+                throw new IllegalStateException(s + l);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> consumer.accept("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+        }
+    }
+
     @SuppressWarnings("unused")
     private static void ignore(String s, long l) {
         // do nothing
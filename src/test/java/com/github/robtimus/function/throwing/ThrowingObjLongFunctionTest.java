@@ -0,0 +1,956 @@
+/*
+ * ThrowingObjLongFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingObjLongFunctionTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+            ThrowingFunction<String, Integer, IOException> after = Spied.throwingFunction(String::length);
+
+            ThrowingObjLongFunction<String, Integer, IOException> composed = function.andThen(after);
+
+            assertEquals(Integer.valueOf(4), composed.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).andThen(after);
+            verify(after).apply("foo1");
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            assertSame(function, function.andThen(ThrowingFunction.identity()));
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjLongFunction<String, String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals("foo1", throwing.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjLongFunction<String, String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.apply("foo", 1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingObjLongFunction<String, String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjLongFunction<String, String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals("foo1", throwing.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjLongFunction<String, String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.apply("foo", 1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingObjLongFunction<String, String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingObjLongFunction<String, String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("foo1", handling.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingObjLongFunction<String, String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("foo1", handling.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingObjLongFunction<String, String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("foo1", handling.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingObjLongFunction<String, String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("foo1", handling.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            ThrowingObjLongFunction<String, String, ParseException> fallback = Spied.throwingObjLongFunction((s, v) -> "fallback");
+
+            ThrowingObjLongFunction<String, String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("foo1", fallingBack.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjLongFunction<String, String, ParseException> fallback = Spied.throwingObjLongFunction((s, v) -> "fallback");
+
+            ThrowingObjLongFunction<String, String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).apply("foo", 1L);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            ThrowingObjLongFunction<String, String, RuntimeException> fallback = Spied.throwingObjLongFunction((s, v) -> "fallback");
+
+            ThrowingObjLongFunction<String, String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("foo1", fallingBack.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjLongFunction<String, String, RuntimeException> fallback = Spied.throwingObjLongFunction((s, v) -> "fallback");
+
+            ThrowingObjLongFunction<String, String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).apply("foo", 1L);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingObjLongFunction<String, String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("foo1", fallingBack.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingObjLongFunction<String, String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingObjLongFunction<String, String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("foo1", fallingBack.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingObjLongFunction<String, String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            ThrowingObjLongFunction<String, String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("foo1", returning.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjLongFunction<String, String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("fallback", returning.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            ThrowingObjLongFunction<String, String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals("foo1", unchecked.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjLongFunction<String, String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo", 1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).apply("foo", 1L);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> throwable.throwUnchecked(s + v));
+
+            ThrowingObjLongFunction<String, String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.apply("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).apply("foo", 1L);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+
+            ThrowingObjLongFunction<String, String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals("foo1", sneaky.apply("foo", 1L));
+
+            verify(function).apply("foo", 1L);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjLongFunction<String, String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).apply("foo", 1L);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjLongFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals("foo1", instrumented.apply("foo", 1L));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo", 1L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjLongFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo", 1L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> throwable.throwUnchecked(s + v));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjLongFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply("foo", 1L);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> s + v);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjLongFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("foo1", instrumented.apply("foo", 1L));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo", 1L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjLongFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply("foo", 1L));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo", 1L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> throwable.throwUnchecked(s + v));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingObjLongFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply("foo", 1L));
+                assertEquals("foo1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply("foo", 1L);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjLongFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = ThrowingObjLongFunction.of((s, v) -> s + v);
+
+            assertEquals("foo1", function.apply("foo", 1L));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjLongFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjLongFunction<String, String, RuntimeException> unchecked = ThrowingObjLongFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo", 1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).apply("foo", 1L);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjLongFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = Spied.throwingObjLongFunction((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjLongFunction<String, String, RuntimeException> sneaky = ThrowingObjLongFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply("foo", 1L);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingObjLongFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = ThrowingObjLongFunction.checked((s, v) -> s + v);
+
+            assertEquals("foo1", function.apply("foo", 1L));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingObjLongFunction<String, String, IOException> function = ThrowingObjLongFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(s + v));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo", 1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingObjLongFunction<String, String, RuntimeException> function = (s, v) -> s + v;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjLongFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjLongFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingObjLongFunction<String, String, IOException> function = ThrowingObjLongFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new IOException(s + v));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingObjLongFunction<String, String, IOException> function = ThrowingObjLongFunction.checked((s, v) -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(s + v, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo", 1L));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingObjLongFunction<String, String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjLongFunction<String, String, RuntimeException> sneaky = ThrowingObjLongFunction.sneaky(function);
+            ThrowingObjLongFunction<String, String, IOException> checked = ThrowingObjLongFunction.checked(sneaky);
+            ThrowingObjLongFunction<String, String, IOException> checkedWithErrorType = ThrowingObjLongFunction.checked(sneaky, IOException.class);
+
+            ThrowingObjLongFunction<String, String, RuntimeException> unchecked = ThrowingObjLongFunction.unchecked(checked);
+            ThrowingObjLongFunction<String, String, RuntimeException> uncheckedWithErrorType =
+                    ThrowingObjLongFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo", 1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply("foo", 1L));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingObjLongFunction<String, String, RuntimeException> function = (s, v) -> s + v;
+
+            ThrowingObjLongFunction<String, String, IOException> checked = ThrowingObjLongFunction.checked(function);
+
+            assertSame(function, ThrowingObjLongFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingObjLongFunction<String, String, IOException> function = (s, v) -> s + v;
+
+            ThrowingObjLongFunction<String, String, RuntimeException> sneaky = ThrowingObjLongFunction.sneaky(function);
+
+            assertSame(function, ThrowingObjLongFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingObjLongFunction<String, String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjLongFunction<String, String, RuntimeException> unchecked = ThrowingObjLongFunction.unchecked(function);
+            ThrowingObjLongFunction<String, String, IOException> checked = ThrowingObjLongFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingObjLongFunction<String, String, IOException> function = (s, v) -> {
+                throw new IOException(s + v);
+            };
+
+            ThrowingObjLongFunction<String, String, RuntimeException> unchecked = ThrowingObjLongFunction.unchecked(function);
+            ThrowingObjLongFunction<String, String, ParseException> checked = ThrowingObjLongFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply("foo", 1L));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingObjLongFunction<String, String, RuntimeException> function = (s, v) -> s + v;
+
+            assertThrows(NullPointerException.class, () -> ThrowingObjLongFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingObjLongFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingObjLongFunction<String, String, IOException> function = ThrowingObjLongFunction.catching((s, v) -> s + v, IOException.class);
+
+            assertEquals("foo1", function.apply("foo", 1L));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingObjLongFunction<String, String, RuntimeException> sneaky = ThrowingObjLongFunction.sneaky((s, v) -> {
+                throw new IOException(s + v);
+            });
+
+            ThrowingObjLongFunction<String, String, IOException> function = ThrowingObjLongFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply("foo", 1L));
+            assertEquals("foo1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingObjLongFunction<String, String, RuntimeException> sneaky = ThrowingObjLongFunction.sneaky((s, v) -> {
+                throw new ParseException(s + v, 0);
+            });
+
+            ThrowingObjLongFunction<String, String, IOException> function = ThrowingObjLongFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply("foo", 1L));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo1", cause.getMessage());
+        }
+    }
+}
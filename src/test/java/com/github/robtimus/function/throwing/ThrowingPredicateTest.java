@@ -21,9 +21,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -1297,7 +1299,6 @@ class ThrowingPredicateTest {
 
             verify(predicate).test(" ");
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(predicate);
         }
 
@@ -1315,7 +1316,6 @@ class ThrowingPredicateTest {
 
             verify(predicate).test("foo");
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(predicate);
         }
 
@@ -1331,7 +1331,192 @@ class ThrowingPredicateTest {
 
             verify(predicate).test("foo");
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingPredicate<String, IOException> predicate = Spied.throwingPredicate(String::isBlank);
+
+            Predicate<String> sneaky = predicate.sneaky();
+
+            assertTrue(sneaky.test(" "));
+
+            verify(predicate).test(" ");
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingPredicate<String, IOException> predicate = Spied.throwingPredicate(s -> {
+                throw new IOException(s);
+            });
+
+            Predicate<String> sneaky = predicate.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(predicate).test("foo");
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingPredicate<String, IOException> predicate = Spied.throwingPredicate(throwable::throwUnchecked);
+
+            Predicate<String> sneaky = predicate.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.test("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(predicate).test("foo");
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingPredicate<String, IOException> predicate = Spied.throwingPredicate(String::isBlank);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingPredicate<String, IOException> instrumented = predicate.instrumented("foo", registry);
+
+            assertTrue(instrumented.test(" "));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test(" ");
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingPredicate<String, IOException> predicate = Spied.throwingPredicate(s -> {
+                throw new IOException(s);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingPredicate<String, IOException> instrumented = predicate.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.test("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test("foo");
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingPredicate<String, IOException> predicate = Spied.throwingPredicate(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingPredicate<String, IOException> instrumented = predicate.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test("foo");
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingPredicate<String, IOException> predicate = Spied.throwingPredicate(String::isBlank);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingPredicate<String, IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertTrue(instrumented.test(" "));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(predicate, times(3)).test(" ");
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingPredicate<String, IOException> predicate = Spied.throwingPredicate(s -> {
+                throw new IOException(s);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingPredicate<String, IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.test("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test("foo");
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingPredicate<String, IOException> predicate = Spied.throwingPredicate(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingPredicate<String, IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test("foo");
+            verify(predicate).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(predicate);
         }
     }
@@ -1424,7 +1609,6 @@ class ThrowingPredicateTest {
             assertTrue(unchecked.test(" "));
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verify(predicate).test(" ");
             verifyNoMoreInteractions(predicate);
         }
@@ -1442,7 +1626,6 @@ class ThrowingPredicateTest {
             assertEquals("foo", cause.getMessage());
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
             verify(predicate).test("foo");
             verifyNoMoreInteractions(predicate);
         }
@@ -1458,7 +1641,59 @@ class ThrowingPredicateTest {
             assertEquals("foo", thrown.getMessage());
 
             verify(predicate).unchecked();
-            verify(predicate).onErrorThrowAsUnchecked(any());
+            verify(predicate).test("foo");
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingPredicate.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingPredicate<String, IOException> predicate = Spied.throwingPredicate(String::isBlank);
+
+            Predicate<String> sneaky = ThrowingPredicate.sneaky(predicate);
+
+            assertTrue(sneaky.test(" "));
+
+            verify(predicate).sneaky();
+            verify(predicate).test(" ");
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingPredicate<String, IOException> predicate = Spied.throwingPredicate(s -> {
+                throw new IOException(s);
+            });
+
+            Predicate<String> sneaky = ThrowingPredicate.sneaky(predicate);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(predicate).sneaky();
+            verify(predicate).test("foo");
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingPredicate<String, IOException> predicate = Spied.throwingPredicate(throwable::throwUnchecked);
+
+            Predicate<String> sneaky = ThrowingPredicate.sneaky(predicate);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.test("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(predicate).sneaky();
             verify(predicate).test("foo");
             verifyNoMoreInteractions(predicate);
         }
@@ -1556,4 +1791,158 @@ class ThrowingPredicateTest {
             assertEquals("foo", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingPredicate<String, IOException> predicate = t -> {
+                throw new IOException("foo");
+            };
+
+            Predicate<String> sneaky = ThrowingPredicate.sneaky(predicate);
+            ThrowingPredicate<String, IOException> checked = ThrowingPredicate.checked(sneaky);
+            ThrowingPredicate<String, IOException> checkedWithErrorType = ThrowingPredicate.checked(sneaky, IOException.class);
+
+            Predicate<String> unchecked = ThrowingPredicate.unchecked(checked);
+            Predicate<String> uncheckedWithErrorType = ThrowingPredicate.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test("foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.test("foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            Predicate<String> predicate = t -> true;
+
+            ThrowingPredicate<String, IOException> checked = ThrowingPredicate.checked(predicate);
+
+            assertSame(predicate, ThrowingPredicate.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingPredicate<String, IOException> predicate = t -> true;
+
+            Predicate<String> sneaky = ThrowingPredicate.sneaky(predicate);
+
+            assertSame(predicate, ThrowingPredicate.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingPredicate<String, IOException> predicate = t -> {
+                throw new IOException("foo");
+            };
+
+            Predicate<String> unchecked = ThrowingPredicate.unchecked(predicate);
+            ThrowingPredicate<String, IOException> checked = ThrowingPredicate.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.test("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingPredicate<String, IOException> predicate = t -> {
+                throw new IOException("foo");
+            };
+
+            Predicate<String> unchecked = ThrowingPredicate.unchecked(predicate);
+            ThrowingPredicate<String, ParseException> checked = ThrowingPredicate.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingPredicate<String, IOException> predicate = t -> {
+                throw new IOException("foo");
+            };
+
+            Predicate<String> unchecked = ThrowingPredicate.unchecked(predicate);
+            ThrowingPredicate<String, IOException> checked = ThrowingPredicate.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            Predicate<String> predicate = String::isBlank;
+
+            assertThrows(NullPointerException.class, () -> ThrowingPredicate.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingPredicate.catching(predicate, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingPredicate<String, IOException> predicate = ThrowingPredicate.catching(String::isBlank, IOException.class);
+
+            assertTrue(predicate.test(" "));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                Predicate<String> sneaky = ThrowingPredicate.sneaky(s -> {
+                    throw new IOException(s);
+                });
+
+                ThrowingPredicate<String, IOException> predicate = ThrowingPredicate.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> predicate.test("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                Predicate<String> sneaky = ThrowingPredicate.sneaky(s -> {
+                    throw new FileNotFoundException(s);
+                });
+
+                ThrowingPredicate<String, IOException> predicate = ThrowingPredicate.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> predicate.test("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                Predicate<String> sneaky = ThrowingPredicate.sneaky(s -> {
+                    throw new ParseException(s, 0);
+                });
+
+                ThrowingPredicate<String, IOException> predicate = ThrowingPredicate.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test("foo"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingPredicate<String, IOException> predicate = ThrowingPredicate.catching(s -> {
+                throw new IllegalStateException(s);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> predicate.test("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+    }
 }
@@ -17,17 +17,29 @@
 
 package com.github.robtimus.function.throwing;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.junit.jupiter.api.Nested;
@@ -38,6 +50,100 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 @SuppressWarnings("nls")
 class ThrowingRunnableTest {
 
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable("foo"::toUpperCase);
+
+            assertThrows(NullPointerException.class, () -> runnable.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable("foo"::toUpperCase);
+            ThrowingRunnable<IOException> after = Spied.throwingRunnable("foo"::toLowerCase);
+
+            ThrowingRunnable<IOException> composed = runnable.andThen(after);
+
+            composed.run();
+
+            verify(runnable).run();
+            verify(runnable).andThen(after);
+            verify(after).run();
+            verifyNoMoreInteractions(runnable, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> {
+                throw new IOException("foo");
+            });
+            ThrowingRunnable<IOException> after = Spied.throwingRunnable("foo"::toLowerCase);
+
+            ThrowingRunnable<IOException> composed = runnable.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, composed::run);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(runnable).run();
+            verify(runnable).andThen(after);
+            verifyNoMoreInteractions(runnable, after);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> throwable.throwUnchecked("foo"));
+            ThrowingRunnable<IOException> after = Spied.throwingRunnable("foo"::toLowerCase);
+
+            ThrowingRunnable<IOException> composed = runnable.andThen(after);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), composed::run);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(runnable).run();
+            verify(runnable).andThen(after);
+            verifyNoMoreInteractions(runnable, after);
+        }
+
+        @Test
+        void testAfterThrowsChecked() throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable("foo"::toUpperCase);
+            ThrowingRunnable<IOException> after = Spied.throwingRunnable(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingRunnable<IOException> composed = runnable.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, composed::run);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(runnable).run();
+            verify(runnable).andThen(after);
+            verify(after).run();
+            verifyNoMoreInteractions(runnable, after);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testAfterThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable("foo"::toUpperCase);
+            ThrowingRunnable<IOException> after = Spied.throwingRunnable(() -> throwable.throwUnchecked("foo"));
+
+            ThrowingRunnable<IOException> composed = runnable.andThen(after);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), composed::run);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(runnable).run();
+            verify(runnable).andThen(after);
+            verify(after).run();
+            verifyNoMoreInteractions(runnable, after);
+        }
+    }
+
     @Nested
     class OnErrorThrowAsChecked {
 
@@ -610,7 +716,6 @@ class ThrowingRunnableTest {
 
             verify(runnable).run();
             verify(runnable).unchecked();
-            verify(runnable).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(runnable);
         }
 
@@ -628,7 +733,6 @@ class ThrowingRunnableTest {
 
             verify(runnable).run();
             verify(runnable).unchecked();
-            verify(runnable).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(runnable);
         }
 
@@ -644,11 +748,414 @@ class ThrowingRunnableTest {
 
             verify(runnable).run();
             verify(runnable).unchecked();
-            verify(runnable).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(runnable);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable("foo"::toUpperCase);
+
+            Runnable sneaky = runnable.sneaky();
+
+            sneaky.run();
+
+            verify(runnable).run();
+            verify(runnable).sneaky();
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> {
+                throw new IOException("foo");
+            });
+
+            Runnable sneaky = runnable.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, sneaky::run);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(runnable).run();
+            verify(runnable).sneaky();
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> throwable.throwUnchecked("foo"));
+
+            Runnable sneaky = runnable.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), sneaky::run);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(runnable).run();
+            verify(runnable).sneaky();
+            verifyNoMoreInteractions(runnable);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable("foo"::toUpperCase);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingRunnable<IOException> instrumented = runnable.instrumented("foo", registry);
+
+            instrumented.run();
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(runnable).run();
+            verify(runnable).instrumented("foo", registry);
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingRunnable<IOException> instrumented = runnable.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, instrumented::run);
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(runnable).run();
+            verify(runnable).instrumented("foo", registry);
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingRunnable<IOException> instrumented = runnable.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), instrumented::run);
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(runnable).run();
+            verify(runnable).instrumented("foo", registry);
+            verifyNoMoreInteractions(runnable);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable("foo"::toUpperCase);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingRunnable<IOException> instrumented = runnable.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.run();
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(runnable, times(3)).run();
+            verify(runnable).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingRunnable<IOException> instrumented = runnable.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, instrumented::run);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(runnable, times(3)).run();
+            verify(runnable).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingRunnable<IOException> instrumented = runnable.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), instrumented::run);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(runnable, times(3)).run();
+            verify(runnable).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(runnable);
+        }
+    }
+
+    @Nested
+    class Retry {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable("foo"::toUpperCase);
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+
+            ThrowingRunnable<IOException> retrying = runnable.retry(policy);
+
+            assertDoesNotThrow(retrying::run);
+
+            verify(runnable).run();
+            verify(runnable).retry(policy);
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @Test
+        void testThisThrowsCheckedThenNothing() throws IOException {
+            int[] attempts = { 0 };
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> {
+                if (++attempts[0] < 3) {
+                    throw new IOException(Integer.toString(attempts[0]));
+                }
+            });
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+
+            ThrowingRunnable<IOException> retrying = runnable.retry(policy);
+
+            assertDoesNotThrow(retrying::run);
+
+            verify(runnable, times(3)).run();
+            verify(runnable).retry(policy);
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            int[] attempts = { 0 };
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> {
+                throw new IOException(Integer.toString(++attempts[0]));
+            });
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3)
+                    .withBackoff(Duration.ofMillis(1), Duration.ofMillis(2))
+                    .withJitter(0.5);
+
+            ThrowingRunnable<IOException> retrying = runnable.retry(policy);
+
+            IOException thrown = assertThrows(IOException.class, () -> retrying.run());
+            assertEquals("3", thrown.getMessage());
+
+            Throwable[] suppressed = thrown.getSuppressed();
+            assertEquals(2, suppressed.length);
+            assertEquals("1", suppressed[0].getMessage());
+            assertEquals("2", suppressed[1].getMessage());
+
+            verify(runnable, times(3)).run();
+            verify(runnable).retry(policy);
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @Test
+        void testThisThrowsNonRetryableChecked() throws IOException {
+            int[] attempts = { 0 };
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> {
+                if (++attempts[0] < 2) {
+                    throw new FileNotFoundException(Integer.toString(attempts[0]));
+                }
+                throw new IOException(Integer.toString(attempts[0]));
+            });
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3)
+                    .withRetryableErrorType(FileNotFoundException.class);
+
+            ThrowingRunnable<IOException> retrying = runnable.retry(policy);
+
+            IOException thrown = assertThrows(IOException.class, () -> retrying.run());
+            assertEquals("2", thrown.getMessage());
+
+            Throwable[] suppressed = thrown.getSuppressed();
+            assertEquals(1, suppressed.length);
+            assertInstanceOf(FileNotFoundException.class, suppressed[0]);
+
+            verify(runnable, times(2)).run();
+            verify(runnable).retry(policy);
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> throwable.throwUnchecked("foo"));
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+
+            ThrowingRunnable<IOException> retrying = runnable.retry(policy);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> retrying.run());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(runnable).run();
+            verify(runnable).retry(policy);
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @Test
+        void testNullPolicy() {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable("foo"::toUpperCase);
+
+            assertThrows(NullPointerException.class, () -> runnable.retry(null));
+        }
+    }
+
+    @Nested
+    class RunAsync {
+
+        @Test
+        void testThisThrowsNothing() throws IOException, InterruptedException, ExecutionException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable("foo"::toUpperCase);
+
+            CompletableFuture<Void> future = runnable.runAsync(Runnable::run);
+
+            assertTrue(future.isDone());
+            assertNull(future.get());
+
+            verify(runnable).run();
+            verify(runnable).runAsync(any());
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, InterruptedException, ExecutionException {
+            IOException exception = new IOException("foo");
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> {
+                throw exception;
+            });
+
+            CompletableFuture<Void> future = runnable.runAsync(Runnable::run);
+
+            assertTrue(future.isCompletedExceptionally());
+            ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+            assertSame(exception, thrown.getCause());
+            // The exception is not wrapped in an UncheckedException or CompletionException
+            assertSame(exception, future.handle((result, error) -> error).get());
+
+            verify(runnable).run();
+            verify(runnable).runAsync(any());
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException, InterruptedException, ExecutionException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> throwable.throwUnchecked("foo"));
+
+            CompletableFuture<Void> future = runnable.runAsync(Runnable::run);
+
+            assertTrue(future.isCompletedExceptionally());
+            ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+            Throwable cause = assertInstanceOf(throwable.throwableType(), thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(runnable).run();
+            verify(runnable).runAsync(any());
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @Test
+        void testCancelBeforeStart() throws IOException, InterruptedException, ExecutionException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable("foo"::toUpperCase);
+
+            List<Runnable> tasks = new ArrayList<>();
+            CompletableFuture<Void> future = runnable.runAsync(tasks::add);
+
+            assertTrue(future.cancel(true));
+            tasks.forEach(Runnable::run);
+
+            assertTrue(future.isCancelled());
+
+            verify(runnable).runAsync(any());
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @Test
+        void testCancelWhileRunning() throws InterruptedException {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+            ThrowingRunnable<IOException> runnable = () -> {
+                entered.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw new IOException(e);
+                }
+            };
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                CompletableFuture<Void> future = runnable.runAsync(executor);
+                entered.await();
+
+                assertTrue(future.cancel(true));
+                interrupted.await();
+
+                assertTrue(future.isCancelled());
+                assertThrows(CancellationException.class, future::get);
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        void testNullExecutor() {
+            ThrowingRunnable<IOException> runnable = "foo"::toUpperCase;
+
+            assertThrows(NullPointerException.class, () -> runnable.runAsync(null));
+        }
+    }
+
     @Nested
     class Of {
 
@@ -670,6 +1177,46 @@ class ThrowingRunnableTest {
         }
     }
 
+    @Nested
+    class Noop {
+
+        @Test
+        void testRun() {
+            ThrowingRunnable<IOException> runnable = ThrowingRunnable.noop();
+
+            assertDoesNotThrow(runnable::run);
+        }
+
+        @Test
+        void testSameInstance() {
+            ThrowingRunnable<IOException> runnable = ThrowingRunnable.noop();
+            ThrowingRunnable<ParseException> other = ThrowingRunnable.noop();
+
+            assertSame(runnable, other);
+        }
+
+        @Test
+        void testAndThen() {
+            ThrowingRunnable<IOException> runnable = ThrowingRunnable.noop();
+            ThrowingRunnable<IOException> after = Spied.throwingRunnable("foo"::toUpperCase);
+
+            assertSame(after, runnable.andThen(after));
+
+            verifyNoMoreInteractions(after);
+        }
+
+        @Test
+        void testAndThenNoop() {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable("foo"::toUpperCase);
+            ThrowingRunnable<IOException> after = ThrowingRunnable.noop();
+
+            assertSame(runnable, runnable.andThen(after));
+
+            verify(runnable).andThen(after);
+            verifyNoMoreInteractions(runnable);
+        }
+    }
+
     @Nested
     class UncheckedFactory {
 
@@ -687,7 +1234,6 @@ class ThrowingRunnableTest {
             unchecked.run();
 
             verify(runnable).unchecked();
-            verify(runnable).onErrorThrowAsUnchecked(any());
             verify(runnable).run();
             verifyNoMoreInteractions(runnable);
         }
@@ -705,7 +1251,6 @@ class ThrowingRunnableTest {
             assertEquals("foo", cause.getMessage());
 
             verify(runnable).unchecked();
-            verify(runnable).onErrorThrowAsUnchecked(any());
             verify(runnable).run();
             verifyNoMoreInteractions(runnable);
         }
@@ -721,7 +1266,59 @@ class ThrowingRunnableTest {
             assertEquals("foo", thrown.getMessage());
 
             verify(runnable).unchecked();
-            verify(runnable).onErrorThrowAsUnchecked(any());
+            verify(runnable).run();
+            verifyNoMoreInteractions(runnable);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingRunnable.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable("foo"::toUpperCase);
+
+            Runnable sneaky = ThrowingRunnable.sneaky(runnable);
+
+            sneaky.run();
+
+            verify(runnable).sneaky();
+            verify(runnable).run();
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> {
+                throw new IOException("foo");
+            });
+
+            Runnable sneaky = ThrowingRunnable.sneaky(runnable);
+
+            IOException thrown = assertThrows(IOException.class, sneaky::run);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(runnable).sneaky();
+            verify(runnable).run();
+            verifyNoMoreInteractions(runnable);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingRunnable<IOException> runnable = Spied.throwingRunnable(() -> throwable.throwUnchecked("foo"));
+
+            Runnable sneaky = ThrowingRunnable.sneaky(runnable);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), sneaky::run);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(runnable).sneaky();
             verify(runnable).run();
             verifyNoMoreInteractions(runnable);
         }
@@ -829,4 +1426,163 @@ class ThrowingRunnableTest {
             assertEquals("foo", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingRunnable<IOException> task = () -> {
+                throw new IOException("foo");
+            };
+
+            Runnable sneaky = ThrowingRunnable.sneaky(task);
+            ThrowingRunnable<IOException> checked = ThrowingRunnable.checked(sneaky);
+            ThrowingRunnable<IOException> checkedWithErrorType = ThrowingRunnable.checked(sneaky, IOException.class);
+
+            Runnable unchecked = ThrowingRunnable.unchecked(checked);
+            Runnable uncheckedWithErrorType = ThrowingRunnable.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.run());
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.run());
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            Runnable task = () -> { /* do nothing */ };
+
+            ThrowingRunnable<IOException> checked = ThrowingRunnable.checked(task);
+
+            assertSame(task, ThrowingRunnable.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingRunnable<IOException> task = () -> { /* do nothing */ };
+
+            Runnable sneaky = ThrowingRunnable.sneaky(task);
+
+            assertSame(task, ThrowingRunnable.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingRunnable<IOException> task = () -> {
+                throw new IOException("foo");
+            };
+
+            Runnable unchecked = ThrowingRunnable.unchecked(task);
+            ThrowingRunnable<IOException> checked = ThrowingRunnable.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.run());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingRunnable<IOException> task = () -> {
+                throw new IOException("foo");
+            };
+
+            Runnable unchecked = ThrowingRunnable.unchecked(task);
+            ThrowingRunnable<ParseException> checked = ThrowingRunnable.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.run());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingRunnable<IOException> task = () -> {
+                throw new IOException("foo");
+            };
+
+            Runnable unchecked = ThrowingRunnable.unchecked(task);
+            ThrowingRunnable<IOException> checked = ThrowingRunnable.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.run());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            Runnable runnable = "foo"::toUpperCase;
+
+            assertThrows(NullPointerException.class, () -> ThrowingRunnable.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingRunnable.catching(runnable, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            Runnable delegate = Spied.runnable("foo"::toUpperCase);
+
+            ThrowingRunnable<IOException> runnable = ThrowingRunnable.catching(delegate, IOException.class);
+
+            runnable.run();
+
+            verify(delegate).run();
+            verifyNoMoreInteractions(delegate);
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                Runnable sneaky = ThrowingRunnable.sneaky(() -> {
+                    throw new IOException("foo");
+                });
+
+                ThrowingRunnable<IOException> runnable = ThrowingRunnable.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, runnable::run);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                Runnable sneaky = ThrowingRunnable.sneaky(() -> {
+                    throw new FileNotFoundException("foo");
+                });
+
+                ThrowingRunnable<IOException> runnable = ThrowingRunnable.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, runnable::run);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                Runnable sneaky = ThrowingRunnable.sneaky(() -> {
+                    throw new ParseException("foo", 0);
+                });
+
+                ThrowingRunnable<IOException> runnable = ThrowingRunnable.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, runnable::run);
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingRunnable<IOException> runnable = ThrowingRunnable.catching(() -> {
+                throw new IllegalStateException("foo");
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, runnable::run);
+            assertEquals("foo", thrown.getMessage());
+        }
+    }
 }
@@ -0,0 +1,894 @@
+/*
+ * ThrowingShortConsumerTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingShortConsumerTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+            ThrowingShortConsumer<IOException> after = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            consumer.andThen(after).accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).andThen(after);
+            verify(after).accept((short) 1);
+            verifyNoMoreInteractions(consumer, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            ThrowingShortConsumer<IOException> after = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            ThrowingShortConsumer<IOException> composed = consumer.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.accept((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).andThen(after);
+            verifyNoMoreInteractions(consumer, after);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            throwing.accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.accept((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortConsumer<ExecutionException> throwing = consumer.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.accept((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            throwing.accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.accept((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortConsumer<RuntimeException> throwing = consumer.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.accept((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(consumer, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            ThrowingConsumer<IOException, ParseException> errorHandler = Spied.throwingConsumer(e -> { });
+
+            ThrowingShortConsumer<ParseException> handling = consumer.onErrorHandleChecked(errorHandler);
+
+            handling.accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingConsumer<IOException, ParseException> errorHandler = Spied.throwingConsumer(e -> { });
+
+            ThrowingShortConsumer<ParseException> handling = consumer.onErrorHandleChecked(errorHandler);
+
+            handling.accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).accept(any());
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            Consumer<IOException> errorHandler = Spied.consumer(e -> { });
+
+            ThrowingShortConsumer<RuntimeException> handling = consumer.onErrorHandleUnchecked(errorHandler);
+
+            handling.accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Consumer<IOException> errorHandler = Spied.consumer(e -> { });
+
+            ThrowingShortConsumer<RuntimeException> handling = consumer.onErrorHandleUnchecked(errorHandler);
+
+            handling.accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).accept(any());
+            verifyNoMoreInteractions(consumer, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorAcceptChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorAcceptChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            ThrowingShortConsumer<ParseException> fallback = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            ThrowingShortConsumer<ParseException> fallingBack = consumer.onErrorAcceptChecked(fallback);
+
+            fallingBack.accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorAcceptChecked(fallback);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortConsumer<ParseException> fallback = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            ThrowingShortConsumer<ParseException> fallingBack = consumer.onErrorAcceptChecked(fallback);
+
+            fallingBack.accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorAcceptChecked(fallback);
+            verify(fallback).accept((short) 1);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorAcceptUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            assertThrows(NullPointerException.class, () -> consumer.onErrorAcceptUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            ThrowingShortConsumer<RuntimeException> fallback = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            ThrowingShortConsumer<RuntimeException> fallingBack = consumer.onErrorAcceptUnchecked(fallback);
+
+            fallingBack.accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorAcceptUnchecked(fallback);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortConsumer<RuntimeException> fallback = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            ThrowingShortConsumer<RuntimeException> fallingBack = consumer.onErrorAcceptUnchecked(fallback);
+
+            fallingBack.accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorAcceptUnchecked(fallback);
+            verify(fallback).accept((short) 1);
+            verifyNoMoreInteractions(consumer, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorDiscard {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            ThrowingShortConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            discarding.accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            discarding.accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingShortConsumer<RuntimeException> discarding = consumer.onErrorDiscard();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> discarding.accept((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).onErrorDiscard();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            ThrowingShortConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            unchecked.accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingShortConsumer<RuntimeException> unchecked = consumer.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.accept((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).unchecked();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+
+            ThrowingShortConsumer<RuntimeException> sneaky = consumer.sneaky();
+
+            sneaky.accept((short) 1);
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortConsumer<RuntimeException> sneaky = consumer.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).sneaky();
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            instrumented.accept((short) 1);
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.accept((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortConsumer<IOException> instrumented = consumer.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(consumer).accept((short) 1);
+            verify(consumer).instrumented("foo", registry);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(ThrowingShortConsumerTest::ignore);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                instrumented.accept((short) 1);
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept((short) 1);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.accept((short) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept((short) 1);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortConsumer<IOException> instrumented = consumer.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.accept((short) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(consumer, times(3)).accept((short) 1);
+            verify(consumer).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortConsumer.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = ThrowingShortConsumer.of(ThrowingShortConsumerTest::ignore);
+
+            consumer.accept((short) 1);
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortConsumer.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortConsumer<RuntimeException> unchecked = ThrowingShortConsumer.unchecked(consumer);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(consumer).unchecked();
+            verify(consumer).accept((short) 1);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortConsumer.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = Spied.throwingShortConsumer(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortConsumer<RuntimeException> sneaky = ThrowingShortConsumer.sneaky(consumer);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.accept((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(consumer).sneaky();
+            verify(consumer).accept((short) 1);
+            verifyNoMoreInteractions(consumer);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortConsumer.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = ThrowingShortConsumer.checked(ThrowingShortConsumerTest::ignore);
+
+            consumer.accept((short) 1);
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingShortConsumer<IOException> consumer = ThrowingShortConsumer.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingShortConsumer<RuntimeException> consumer = ThrowingShortConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingShortConsumer.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingShortConsumer.checked(consumer, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingShortConsumer<IOException> consumer = ThrowingShortConsumer.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> consumer.accept((short) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingShortConsumer<IOException> consumer = ThrowingShortConsumer.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept((short) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingShortConsumer<IOException> consumer = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingShortConsumer<RuntimeException> sneaky = ThrowingShortConsumer.sneaky(consumer);
+            ThrowingShortConsumer<IOException> checked = ThrowingShortConsumer.checked(sneaky);
+            ThrowingShortConsumer<IOException> checkedWithErrorType = ThrowingShortConsumer.checked(sneaky, IOException.class);
+
+            ThrowingShortConsumer<RuntimeException> unchecked = ThrowingShortConsumer.unchecked(checked);
+            ThrowingShortConsumer<RuntimeException> uncheckedWithErrorType = ThrowingShortConsumer.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.accept((short) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.accept((short) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingShortConsumer<RuntimeException> consumer = ThrowingShortConsumerTest::ignore;
+
+            ThrowingShortConsumer<IOException> checked = ThrowingShortConsumer.checked(consumer);
+
+            assertSame(consumer, ThrowingShortConsumer.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingShortConsumer<IOException> consumer = ThrowingShortConsumerTest::ignore;
+
+            ThrowingShortConsumer<RuntimeException> sneaky = ThrowingShortConsumer.sneaky(consumer);
+
+            assertSame(consumer, ThrowingShortConsumer.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingShortConsumer<IOException> consumer = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingShortConsumer<RuntimeException> unchecked = ThrowingShortConsumer.unchecked(consumer);
+            ThrowingShortConsumer<IOException> checked = ThrowingShortConsumer.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.accept((short) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingShortConsumer<IOException> consumer = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingShortConsumer<RuntimeException> unchecked = ThrowingShortConsumer.unchecked(consumer);
+            ThrowingShortConsumer<ParseException> checked = ThrowingShortConsumer.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.accept((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingShortConsumer<RuntimeException> consumer = ThrowingShortConsumerTest::ignore;
+
+            assertThrows(NullPointerException.class, () -> ThrowingShortConsumer.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingShortConsumer.catching(consumer, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingShortConsumer<IOException> consumer = ThrowingShortConsumer.catching(ThrowingShortConsumerTest::ignore, IOException.class);
+
+            consumer.accept((short) 1);
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingShortConsumer<RuntimeException> sneaky = ThrowingShortConsumer.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortConsumer<IOException> consumer = ThrowingShortConsumer.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> consumer.accept((short) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingShortConsumer<RuntimeException> sneaky = ThrowingShortConsumer.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingShortConsumer<IOException> consumer = ThrowingShortConsumer.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> consumer.accept((short) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    private static void ignore(short value) {
+        // do nothing
+    }
+}
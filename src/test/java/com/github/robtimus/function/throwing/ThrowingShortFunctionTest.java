@@ -0,0 +1,955 @@
+/*
+ * ThrowingShortFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingShortFunctionTest {
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+            ThrowingFunction<String, Integer, IOException> after = Spied.throwingFunction(String::length);
+
+            ThrowingShortFunction<Integer, IOException> composed = function.andThen(after);
+
+            assertEquals(Integer.valueOf(1), composed.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).andThen(after);
+            verify(after).apply("1");
+            verifyNoMoreInteractions(function, after);
+        }
+
+        @Test
+        void testAfterIsIdentity() {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            assertSame(function, function.andThen(ThrowingFunction.identity()));
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals("1", throwing.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.apply((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals("1", throwing.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.apply((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.apply((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingShortFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("1", handling.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingFunction<IOException, String, ParseException> errorHandler = Spied.throwingFunction(Exception::getMessage);
+
+            ThrowingShortFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals("1", handling.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingShortFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("1", handling.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, String> errorHandler = Spied.function(Exception::getMessage);
+
+            ThrowingShortFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals("1", handling.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).apply(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            ThrowingShortFunction<String, ParseException> fallback = Spied.throwingShortFunction(t -> "fallback");
+
+            ThrowingShortFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("1", fallingBack.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortFunction<String, ParseException> fallback = Spied.throwingShortFunction(t -> "fallback");
+
+            ThrowingShortFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).apply((short) 1);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            ThrowingShortFunction<String, RuntimeException> fallback = Spied.throwingShortFunction(t -> "fallback");
+
+            ThrowingShortFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("1", fallingBack.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortFunction<String, RuntimeException> fallback = Spied.throwingShortFunction(t -> "fallback");
+
+            ThrowingShortFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).apply((short) 1);
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingShortFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("1", fallingBack.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingSupplier<String, ParseException> fallback = Spied.throwingSupplier(() -> "fallback");
+
+            ThrowingShortFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingShortFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("1", fallingBack.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Supplier<String> fallback = Spied.supplier(() -> "fallback");
+
+            ThrowingShortFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals("fallback", fallingBack.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).get();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            ThrowingShortFunction<String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("1", returning.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortFunction<String, RuntimeException> returning = function.onErrorReturn("fallback");
+
+            assertEquals("fallback", returning.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).onErrorReturn("fallback");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            ThrowingShortFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals("1", unchecked.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).apply((short) 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingShortFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.apply((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).apply((short) 1);
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+
+            ThrowingShortFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals("1", sneaky.apply((short) 1));
+
+            verify(function).apply((short) 1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).apply((short) 1);
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals("1", instrumented.apply((short) 1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply((short) 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply((short) 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).apply((short) 1);
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(String::valueOf);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("1", instrumented.apply((short) 1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).apply((short) 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply((short) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply((short) 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply((short) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).apply((short) 1);
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingShortFunction<String, IOException> function = ThrowingShortFunction.of(String::valueOf);
+
+            assertEquals("1", function.apply((short) 1));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortFunction<String, RuntimeException> unchecked = ThrowingShortFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).apply((short) 1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingShortFunction<String, IOException> function = Spied.throwingShortFunction(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortFunction<String, RuntimeException> sneaky = ThrowingShortFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).apply((short) 1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingShortFunction<String, IOException> function = ThrowingShortFunction.checked(String::valueOf);
+
+            assertEquals("1", function.apply((short) 1));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingShortFunction<String, IOException> function = ThrowingShortFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingShortFunction<String, RuntimeException> function = String::valueOf;
+
+            assertThrows(NullPointerException.class, () -> ThrowingShortFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingShortFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingShortFunction<String, IOException> function = ThrowingShortFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply((short) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingShortFunction<String, IOException> function = ThrowingShortFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply((short) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingShortFunction<String, IOException> function = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingShortFunction<String, RuntimeException> sneaky = ThrowingShortFunction.sneaky(function);
+            ThrowingShortFunction<String, IOException> checked = ThrowingShortFunction.checked(sneaky);
+            ThrowingShortFunction<String, IOException> checkedWithErrorType = ThrowingShortFunction.checked(sneaky, IOException.class);
+
+            ThrowingShortFunction<String, RuntimeException> unchecked = ThrowingShortFunction.unchecked(checked);
+            ThrowingShortFunction<String, RuntimeException> uncheckedWithErrorType = ThrowingShortFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply((short) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply((short) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingShortFunction<String, RuntimeException> function = String::valueOf;
+
+            ThrowingShortFunction<String, IOException> checked = ThrowingShortFunction.checked(function);
+
+            assertSame(function, ThrowingShortFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingShortFunction<String, IOException> function = String::valueOf;
+
+            ThrowingShortFunction<String, RuntimeException> sneaky = ThrowingShortFunction.sneaky(function);
+
+            assertSame(function, ThrowingShortFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingShortFunction<String, IOException> function = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingShortFunction<String, RuntimeException> unchecked = ThrowingShortFunction.unchecked(function);
+            ThrowingShortFunction<String, IOException> checked = ThrowingShortFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply((short) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingShortFunction<String, IOException> function = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingShortFunction<String, RuntimeException> unchecked = ThrowingShortFunction.unchecked(function);
+            ThrowingShortFunction<String, ParseException> checked = ThrowingShortFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingShortFunction<String, RuntimeException> function = String::valueOf;
+
+            assertThrows(NullPointerException.class, () -> ThrowingShortFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingShortFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingShortFunction<String, IOException> function = ThrowingShortFunction.catching(String::valueOf, IOException.class);
+
+            assertEquals("1", function.apply((short) 1));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingShortFunction<String, RuntimeException> sneaky = ThrowingShortFunction.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortFunction<String, IOException> function = ThrowingShortFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.apply((short) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingShortFunction<String, RuntimeException> sneaky = ThrowingShortFunction.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingShortFunction<String, IOException> function = ThrowingShortFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.apply((short) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+}
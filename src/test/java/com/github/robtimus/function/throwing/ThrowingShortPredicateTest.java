@@ -0,0 +1,1032 @@
+/*
+ * ThrowingShortPredicateTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingShortPredicateTest {
+
+    @Nested
+    class And {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.and(null));
+        }
+
+        @Test
+        void testBothEvaluated() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+            ThrowingShortPredicate<IOException> other = Spied.throwingShortPredicate(t -> false);
+
+            assertFalse(predicate.and(other).test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).and(other);
+            verify(other).test((short) 1);
+            verifyNoMoreInteractions(predicate, other);
+        }
+
+        @Test
+        void testShortCircuited() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> false);
+            ThrowingShortPredicate<IOException> other = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            assertFalse(predicate.and(other).test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).and(other);
+            verifyNoMoreInteractions(predicate, other);
+        }
+    }
+
+    @Nested
+    class Negate {
+
+        @Test
+        void testNegate() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            assertFalse(predicate.negate().test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).negate();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Or {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.or(null));
+        }
+
+        @Test
+        void testBothEvaluated() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> false);
+            ThrowingShortPredicate<IOException> other = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            assertTrue(predicate.or(other).test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).or(other);
+            verify(other).test((short) 1);
+            verifyNoMoreInteractions(predicate, other);
+        }
+
+        @Test
+        void testShortCircuited() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+            ThrowingShortPredicate<IOException> other = Spied.throwingShortPredicate(t -> false);
+
+            assertTrue(predicate.or(other).test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).or(other);
+            verifyNoMoreInteractions(predicate, other);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortPredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals(true, throwing.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortPredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.test((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortPredicate<ExecutionException> throwing = predicate.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.test((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortPredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals(true, throwing.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortPredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.test((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortPredicate<RuntimeException> throwing = predicate.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.test((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(predicate, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            ThrowingPredicate<IOException, ParseException> errorHandler = Spied.throwingPredicate(e -> false);
+
+            ThrowingShortPredicate<ParseException> handling = predicate.onErrorHandleChecked(errorHandler);
+
+            assertEquals(true, handling.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingPredicate<IOException, ParseException> errorHandler = Spied.throwingPredicate(e -> false);
+
+            ThrowingShortPredicate<ParseException> handling = predicate.onErrorHandleChecked(errorHandler);
+
+            assertEquals(false, handling.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).test(any());
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            Predicate<IOException> errorHandler = Spied.predicate(e -> false);
+
+            ThrowingShortPredicate<RuntimeException> handling = predicate.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(true, handling.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Predicate<IOException> errorHandler = Spied.predicate(e -> false);
+
+            ThrowingShortPredicate<RuntimeException> handling = predicate.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(false, handling.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).test(any());
+            verifyNoMoreInteractions(predicate, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorTestChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorTestChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            ThrowingShortPredicate<ParseException> fallback = Spied.throwingShortPredicate(t -> false);
+
+            ThrowingShortPredicate<ParseException> fallingBack = predicate.onErrorTestChecked(fallback);
+
+            assertEquals(true, fallingBack.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorTestChecked(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortPredicate<ParseException> fallback = Spied.throwingShortPredicate(t -> false);
+
+            ThrowingShortPredicate<ParseException> fallingBack = predicate.onErrorTestChecked(fallback);
+
+            assertEquals(false, fallingBack.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorTestChecked(fallback);
+            verify(fallback).test((short) 1);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorTestUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorTestUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            ThrowingShortPredicate<RuntimeException> fallback = Spied.throwingShortPredicate(t -> false);
+
+            ThrowingShortPredicate<RuntimeException> fallingBack = predicate.onErrorTestUnchecked(fallback);
+
+            assertEquals(true, fallingBack.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorTestUnchecked(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortPredicate<RuntimeException> fallback = Spied.throwingShortPredicate(t -> false);
+
+            ThrowingShortPredicate<RuntimeException> fallingBack = predicate.onErrorTestUnchecked(fallback);
+
+            assertEquals(false, fallingBack.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorTestUnchecked(fallback);
+            verify(fallback).test((short) 1);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetCheckedAsBoolean {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorGetCheckedAsBoolean(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            ThrowingBooleanSupplier<ParseException> fallback = Spied.throwingBooleanSupplier(() -> false);
+
+            ThrowingShortPredicate<ParseException> fallingBack = predicate.onErrorGetCheckedAsBoolean(fallback);
+
+            assertEquals(true, fallingBack.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorGetCheckedAsBoolean(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingBooleanSupplier<ParseException> fallback = Spied.throwingBooleanSupplier(() -> false);
+
+            ThrowingShortPredicate<ParseException> fallingBack = predicate.onErrorGetCheckedAsBoolean(fallback);
+
+            assertEquals(false, fallingBack.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorGetCheckedAsBoolean(fallback);
+            verify(fallback).getAsBoolean();
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUncheckedAsBoolean {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            assertThrows(NullPointerException.class, () -> predicate.onErrorGetUncheckedAsBoolean(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            BooleanSupplier fallback = Spied.booleanSupplier(() -> false);
+
+            ThrowingShortPredicate<RuntimeException> fallingBack = predicate.onErrorGetUncheckedAsBoolean(fallback);
+
+            assertEquals(true, fallingBack.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorGetUncheckedAsBoolean(fallback);
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            BooleanSupplier fallback = Spied.booleanSupplier(() -> false);
+
+            ThrowingShortPredicate<RuntimeException> fallingBack = predicate.onErrorGetUncheckedAsBoolean(fallback);
+
+            assertEquals(false, fallingBack.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorGetUncheckedAsBoolean(fallback);
+            verify(fallback).getAsBoolean();
+            verifyNoMoreInteractions(predicate, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            ThrowingShortPredicate<RuntimeException> returning = predicate.onErrorReturn(false);
+
+            assertEquals(true, returning.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorReturn(false);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortPredicate<RuntimeException> returning = predicate.onErrorReturn(false);
+
+            assertEquals(false, returning.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).onErrorReturn(false);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            ThrowingShortPredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            assertEquals(true, unchecked.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortPredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(predicate).test((short) 1);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingShortPredicate<RuntimeException> unchecked = predicate.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.test((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).test((short) 1);
+            verify(predicate).unchecked();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            ThrowingShortPredicate<RuntimeException> sneaky = predicate.sneaky();
+
+            assertEquals(true, sneaky.test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortPredicate<RuntimeException> sneaky = predicate.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).test((short) 1);
+            verify(predicate).sneaky();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            assertEquals(true, instrumented.test((short) 1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test((short) 1);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.test((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test((short) 1);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortPredicate<IOException> instrumented = predicate.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(predicate).test((short) 1);
+            verify(predicate).instrumented("foo", registry);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(true, instrumented.test((short) 1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(predicate, times(3)).test((short) 1);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.test((short) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test((short) 1);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortPredicate<IOException> instrumented = predicate.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.test((short) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(predicate, times(3)).test((short) 1);
+            verify(predicate).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortPredicate.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = ThrowingShortPredicate.of(t -> t == (short) 1);
+
+            assertEquals(true, predicate.test((short) 1));
+        }
+    }
+
+    @Nested
+    class Not {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortPredicate.not(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> t == (short) 1);
+
+            assertFalse(ThrowingShortPredicate.not(predicate).test((short) 1));
+
+            verify(predicate).test((short) 1);
+            verify(predicate).negate();
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortPredicate.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortPredicate<RuntimeException> unchecked = ThrowingShortPredicate.unchecked(predicate);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(predicate).unchecked();
+            verify(predicate).test((short) 1);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortPredicate.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = Spied.throwingShortPredicate(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortPredicate<RuntimeException> sneaky = ThrowingShortPredicate.sneaky(predicate);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.test((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(predicate).sneaky();
+            verify(predicate).test((short) 1);
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortPredicate.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = ThrowingShortPredicate.checked(t -> t == (short) 1);
+
+            assertEquals(true, predicate.test((short) 1));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingShortPredicate<IOException> predicate = ThrowingShortPredicate.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingShortPredicate<RuntimeException> predicate = t -> t == (short) 1;
+
+            assertThrows(NullPointerException.class, () -> ThrowingShortPredicate.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingShortPredicate.checked(predicate, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingShortPredicate<IOException> predicate = ThrowingShortPredicate.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> predicate.test((short) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingShortPredicate<IOException> predicate = ThrowingShortPredicate.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test((short) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingShortPredicate<IOException> predicate = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingShortPredicate<RuntimeException> sneaky = ThrowingShortPredicate.sneaky(predicate);
+            ThrowingShortPredicate<IOException> checked = ThrowingShortPredicate.checked(sneaky);
+            ThrowingShortPredicate<IOException> checkedWithErrorType = ThrowingShortPredicate.checked(sneaky, IOException.class);
+
+            ThrowingShortPredicate<RuntimeException> unchecked = ThrowingShortPredicate.unchecked(checked);
+            ThrowingShortPredicate<RuntimeException> uncheckedWithErrorType = ThrowingShortPredicate.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.test((short) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.test((short) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingShortPredicate<RuntimeException> predicate = t -> t == (short) 1;
+
+            ThrowingShortPredicate<IOException> checked = ThrowingShortPredicate.checked(predicate);
+
+            assertSame(predicate, ThrowingShortPredicate.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingShortPredicate<IOException> predicate = t -> t == (short) 1;
+
+            ThrowingShortPredicate<RuntimeException> sneaky = ThrowingShortPredicate.sneaky(predicate);
+
+            assertSame(predicate, ThrowingShortPredicate.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingShortPredicate<IOException> predicate = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingShortPredicate<RuntimeException> unchecked = ThrowingShortPredicate.unchecked(predicate);
+            ThrowingShortPredicate<IOException> checked = ThrowingShortPredicate.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.test((short) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingShortPredicate<IOException> predicate = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingShortPredicate<RuntimeException> unchecked = ThrowingShortPredicate.unchecked(predicate);
+            ThrowingShortPredicate<ParseException> checked = ThrowingShortPredicate.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.test((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingShortPredicate<RuntimeException> predicate = t -> t == (short) 1;
+
+            assertThrows(NullPointerException.class, () -> ThrowingShortPredicate.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingShortPredicate.catching(predicate, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingShortPredicate<IOException> predicate = ThrowingShortPredicate.catching(t -> t == (short) 1, IOException.class);
+
+            assertEquals(true, predicate.test((short) 1));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingShortPredicate<RuntimeException> sneaky = ThrowingShortPredicate.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortPredicate<IOException> predicate = ThrowingShortPredicate.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> predicate.test((short) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingShortPredicate<RuntimeException> sneaky = ThrowingShortPredicate.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingShortPredicate<IOException> predicate = ThrowingShortPredicate.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> predicate.test((short) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,833 @@
+/*
+ * ThrowingShortSupplierTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingShortSupplierTest {
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortSupplier<ExecutionException> throwing = supplier.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals((short) 2, throwing.getAsShort());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortSupplier<ExecutionException> throwing = supplier.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.getAsShort());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> throwable.throwUnchecked("foo"));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortSupplier<ExecutionException> throwing = supplier.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.getAsShort());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortSupplier<RuntimeException> throwing = supplier.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals((short) 2, throwing.getAsShort());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortSupplier<RuntimeException> throwing = supplier.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.getAsShort());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> throwable.throwUnchecked("foo"));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortSupplier<RuntimeException> throwing = supplier.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.getAsShort());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(supplier, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            ThrowingToShortFunction<IOException, ParseException> errorHandler = Spied.throwingToShortFunction(e -> (short) -1);
+
+            ThrowingShortSupplier<ParseException> handling = supplier.onErrorHandleChecked(errorHandler);
+
+            assertEquals((short) 2, handling.getAsShort());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingToShortFunction<IOException, ParseException> errorHandler = Spied.throwingToShortFunction(e -> (short) -1);
+
+            ThrowingShortSupplier<ParseException> handling = supplier.onErrorHandleChecked(errorHandler);
+
+            assertEquals((short) -1, handling.getAsShort());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsShort(any());
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            ThrowingToShortFunction<IOException, RuntimeException> errorHandler = Spied.throwingToShortFunction(e -> (short) -1);
+
+            ThrowingShortSupplier<RuntimeException> handling = supplier.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals((short) 2, handling.getAsShort());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingToShortFunction<IOException, RuntimeException> errorHandler = Spied.throwingToShortFunction(e -> (short) -1);
+
+            ThrowingShortSupplier<RuntimeException> handling = supplier.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals((short) -1, handling.getAsShort());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsShort(any());
+            verifyNoMoreInteractions(supplier, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorGetCheckedAsShort {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorGetCheckedAsShort(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            ThrowingShortSupplier<ParseException> fallback = Spied.throwingShortSupplier(() -> (short) -1);
+
+            ThrowingShortSupplier<ParseException> fallingBack = supplier.onErrorGetCheckedAsShort(fallback);
+
+            assertEquals((short) 2, fallingBack.getAsShort());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorGetCheckedAsShort(fallback);
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingShortSupplier<ParseException> fallback = Spied.throwingShortSupplier(() -> (short) -1);
+
+            ThrowingShortSupplier<ParseException> fallingBack = supplier.onErrorGetCheckedAsShort(fallback);
+
+            assertEquals((short) -1, fallingBack.getAsShort());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorGetCheckedAsShort(fallback);
+            verify(fallback).getAsShort();
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUncheckedAsShort {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            assertThrows(NullPointerException.class, () -> supplier.onErrorGetUncheckedAsShort(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            ThrowingShortSupplier<RuntimeException> fallback = Spied.throwingShortSupplier(() -> (short) -1);
+
+            ThrowingShortSupplier<RuntimeException> fallingBack = supplier.onErrorGetUncheckedAsShort(fallback);
+
+            assertEquals((short) 2, fallingBack.getAsShort());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorGetUncheckedAsShort(fallback);
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingShortSupplier<RuntimeException> fallback = Spied.throwingShortSupplier(() -> (short) -1);
+
+            ThrowingShortSupplier<RuntimeException> fallingBack = supplier.onErrorGetUncheckedAsShort(fallback);
+
+            assertEquals((short) -1, fallingBack.getAsShort());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorGetUncheckedAsShort(fallback);
+            verify(fallback).getAsShort();
+            verifyNoMoreInteractions(supplier, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            ThrowingShortSupplier<RuntimeException> returning = supplier.onErrorReturn((short) -1);
+
+            assertEquals((short) 2, returning.getAsShort());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorReturn((short) -1);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingShortSupplier<RuntimeException> returning = supplier.onErrorReturn((short) -1);
+
+            assertEquals((short) -1, returning.getAsShort());
+
+            verify(supplier).getAsShort();
+            verify(supplier).onErrorReturn((short) -1);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            ThrowingShortSupplier<RuntimeException> unchecked = supplier.unchecked();
+
+            assertEquals((short) 2, unchecked.getAsShort());
+
+            verify(supplier).getAsShort();
+            verify(supplier).unchecked();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingShortSupplier<RuntimeException> unchecked = supplier.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsShort());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).getAsShort();
+            verify(supplier).unchecked();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> throwable.throwUnchecked("foo"));
+
+            ThrowingShortSupplier<RuntimeException> unchecked = supplier.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.getAsShort());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsShort();
+            verify(supplier).unchecked();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+
+            ThrowingShortSupplier<RuntimeException> sneaky = supplier.sneaky();
+
+            assertEquals((short) 2, sneaky.getAsShort());
+
+            verify(supplier).getAsShort();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingShortSupplier<RuntimeException> sneaky = supplier.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.getAsShort());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).getAsShort();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            assertEquals((short) 2, instrumented.getAsShort());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsShort();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.getAsShort());
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsShort();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortSupplier<IOException> instrumented = supplier.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.getAsShort());
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).getAsShort();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> (short) 2);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals((short) 2, instrumented.getAsShort());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsShort();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.getAsShort());
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsShort();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortSupplier<IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.getAsShort());
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).getAsShort();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortSupplier.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = ThrowingShortSupplier.of(() -> (short) 2);
+
+            assertEquals((short) 2, supplier.getAsShort());
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortSupplier.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingShortSupplier<RuntimeException> unchecked = ThrowingShortSupplier.unchecked(supplier);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsShort());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).unchecked();
+            verify(supplier).getAsShort();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortSupplier.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = Spied.throwingShortSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingShortSupplier<RuntimeException> sneaky = ThrowingShortSupplier.sneaky(supplier);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.getAsShort());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).sneaky();
+            verify(supplier).getAsShort();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortSupplier.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = ThrowingShortSupplier.checked(() -> (short) 2);
+
+            assertEquals((short) 2, supplier.getAsShort());
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingShortSupplier<IOException> supplier = ThrowingShortSupplier.checked(() -> {
+                throw UncheckedException.withoutStackTrace(new IOException("foo"));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> supplier.getAsShort());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingShortSupplier<RuntimeException> supplier = () -> (short) 2;
+
+            assertThrows(NullPointerException.class, () -> ThrowingShortSupplier.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingShortSupplier.checked(supplier, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingShortSupplier<IOException> supplier = ThrowingShortSupplier.checked(() -> {
+                throw UncheckedException.withoutStackTrace(new IOException("foo"));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> supplier.getAsShort());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingShortSupplier<IOException> supplier = ThrowingShortSupplier.checked(() -> {
+                throw UncheckedException.withoutStackTrace(new ParseException("foo", 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> supplier.getAsShort());
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingShortSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            ThrowingShortSupplier<RuntimeException> sneaky = ThrowingShortSupplier.sneaky(supplier);
+            ThrowingShortSupplier<IOException> checked = ThrowingShortSupplier.checked(sneaky);
+            ThrowingShortSupplier<IOException> checkedWithErrorType = ThrowingShortSupplier.checked(sneaky, IOException.class);
+
+            ThrowingShortSupplier<RuntimeException> unchecked = ThrowingShortSupplier.unchecked(checked);
+            ThrowingShortSupplier<RuntimeException> uncheckedWithErrorType = ThrowingShortSupplier.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.getAsShort());
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.getAsShort());
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingShortSupplier<RuntimeException> supplier = () -> (short) 2;
+
+            ThrowingShortSupplier<IOException> checked = ThrowingShortSupplier.checked(supplier);
+
+            assertSame(supplier, ThrowingShortSupplier.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingShortSupplier<IOException> supplier = () -> (short) 2;
+
+            ThrowingShortSupplier<RuntimeException> sneaky = ThrowingShortSupplier.sneaky(supplier);
+
+            assertSame(supplier, ThrowingShortSupplier.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingShortSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            ThrowingShortSupplier<RuntimeException> unchecked = ThrowingShortSupplier.unchecked(supplier);
+            ThrowingShortSupplier<IOException> checked = ThrowingShortSupplier.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.getAsShort());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingShortSupplier<IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            ThrowingShortSupplier<RuntimeException> unchecked = ThrowingShortSupplier.unchecked(supplier);
+            ThrowingShortSupplier<ParseException> checked = ThrowingShortSupplier.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.getAsShort());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingShortSupplier<RuntimeException> supplier = () -> (short) 2;
+
+            assertThrows(NullPointerException.class, () -> ThrowingShortSupplier.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingShortSupplier.catching(supplier, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingShortSupplier<IOException> supplier = ThrowingShortSupplier.catching(() -> (short) 2, IOException.class);
+
+            assertEquals((short) 2, supplier.getAsShort());
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingShortSupplier<RuntimeException> sneaky = ThrowingShortSupplier.sneaky(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingShortSupplier<IOException> supplier = ThrowingShortSupplier.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> supplier.getAsShort());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingShortSupplier<RuntimeException> sneaky = ThrowingShortSupplier.sneaky(() -> {
+                throw new ParseException("foo", 0);
+            });
+
+            ThrowingShortSupplier<IOException> supplier = ThrowingShortSupplier.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> supplier.getAsShort());
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+}
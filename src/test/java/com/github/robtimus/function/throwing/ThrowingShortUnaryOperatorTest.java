@@ -0,0 +1,1007 @@
+/*
+ * ThrowingShortUnaryOperatorTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingShortUnaryOperatorTest {
+
+    @Nested
+    class Compose {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.compose(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+            ThrowingShortUnaryOperator<IOException> before = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            ThrowingShortUnaryOperator<IOException> composed = operator.compose(before);
+
+            assertEquals((short) 4, composed.applyAsShort((short) 1));
+
+            verify(before).applyAsShort((short) 1);
+            verify(operator).compose(before);
+            verify(operator).applyAsShort((short) 2);
+            verifyNoMoreInteractions(operator, before);
+        }
+
+        @Test
+        void testBeforeThrowsChecked() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+            ThrowingShortUnaryOperator<IOException> before = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortUnaryOperator<IOException> composed = operator.compose(before);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsShort((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(before).applyAsShort((short) 1);
+            verify(operator).compose(before);
+            verifyNoMoreInteractions(operator, before);
+        }
+    }
+
+    @Nested
+    class AndThen {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.andThen(null));
+        }
+
+        @Test
+        void testNeitherThrows() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+            ThrowingShortUnaryOperator<IOException> after = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            ThrowingShortUnaryOperator<IOException> composed = operator.andThen(after);
+
+            assertEquals((short) 4, composed.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).andThen(after);
+            verify(after).applyAsShort((short) 2);
+            verifyNoMoreInteractions(operator, after);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            ThrowingShortUnaryOperator<IOException> after = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            ThrowingShortUnaryOperator<IOException> composed = operator.andThen(after);
+
+            IOException thrown = assertThrows(IOException.class, () -> composed.applyAsShort((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).andThen(after);
+            verifyNoMoreInteractions(operator, after);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortUnaryOperator<ExecutionException> throwing = operator.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals((short) 2, throwing.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortUnaryOperator<ExecutionException> throwing = operator.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.applyAsShort((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingShortUnaryOperator<ExecutionException> throwing = operator.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsShort((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortUnaryOperator<RuntimeException> throwing = operator.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals((short) 2, throwing.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortUnaryOperator<RuntimeException> throwing = operator.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.applyAsShort((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingShortUnaryOperator<RuntimeException> throwing = operator.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsShort((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(operator, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            ThrowingToShortFunction<IOException, ParseException> errorHandler = Spied.throwingToShortFunction(e -> (short) -1);
+
+            ThrowingShortUnaryOperator<ParseException> handling = operator.onErrorHandleChecked(errorHandler);
+
+            assertEquals((short) 2, handling.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingToShortFunction<IOException, ParseException> errorHandler = Spied.throwingToShortFunction(e -> (short) -1);
+
+            ThrowingShortUnaryOperator<ParseException> handling = operator.onErrorHandleChecked(errorHandler);
+
+            assertEquals((short) -1, handling.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsShort(any());
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            ThrowingToShortFunction<IOException, RuntimeException> errorHandler = Spied.throwingToShortFunction(e -> (short) -1);
+
+            ThrowingShortUnaryOperator<RuntimeException> handling = operator.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals((short) 2, handling.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingToShortFunction<IOException, RuntimeException> errorHandler = Spied.throwingToShortFunction(e -> (short) -1);
+
+            ThrowingShortUnaryOperator<RuntimeException> handling = operator.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals((short) -1, handling.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsShort(any());
+            verifyNoMoreInteractions(operator, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            ThrowingShortUnaryOperator<ParseException> fallback = Spied.throwingShortUnaryOperator(t -> (short) -1);
+
+            ThrowingShortUnaryOperator<ParseException> fallingBack = operator.onErrorApplyChecked(fallback);
+
+            assertEquals((short) 2, fallingBack.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortUnaryOperator<ParseException> fallback = Spied.throwingShortUnaryOperator(t -> (short) -1);
+
+            ThrowingShortUnaryOperator<ParseException> fallingBack = operator.onErrorApplyChecked(fallback);
+
+            assertEquals((short) -1, fallingBack.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorApplyChecked(fallback);
+            verify(fallback).applyAsShort((short) 1);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            ThrowingShortUnaryOperator<RuntimeException> fallback = Spied.throwingShortUnaryOperator(t -> (short) -1);
+
+            ThrowingShortUnaryOperator<RuntimeException> fallingBack = operator.onErrorApplyUnchecked(fallback);
+
+            assertEquals((short) 2, fallingBack.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortUnaryOperator<RuntimeException> fallback = Spied.throwingShortUnaryOperator(t -> (short) -1);
+
+            ThrowingShortUnaryOperator<RuntimeException> fallingBack = operator.onErrorApplyUnchecked(fallback);
+
+            assertEquals((short) -1, fallingBack.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorApplyUnchecked(fallback);
+            verify(fallback).applyAsShort((short) 1);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            ThrowingShortSupplier<ParseException> fallback = Spied.throwingShortSupplier(() -> (short) -1);
+
+            ThrowingShortUnaryOperator<ParseException> fallingBack = operator.onErrorGetChecked(fallback);
+
+            assertEquals((short) 2, fallingBack.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortSupplier<ParseException> fallback = Spied.throwingShortSupplier(() -> (short) -1);
+
+            ThrowingShortUnaryOperator<ParseException> fallingBack = operator.onErrorGetChecked(fallback);
+
+            assertEquals((short) -1, fallingBack.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorGetChecked(fallback);
+            verify(fallback).getAsShort();
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            assertThrows(NullPointerException.class, () -> operator.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            ThrowingShortSupplier<RuntimeException> fallback = Spied.throwingShortSupplier(() -> (short) -1);
+
+            ThrowingShortUnaryOperator<RuntimeException> fallingBack = operator.onErrorGetUnchecked(fallback);
+
+            assertEquals((short) 2, fallingBack.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(operator, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortSupplier<RuntimeException> fallback = Spied.throwingShortSupplier(() -> (short) -1);
+
+            ThrowingShortUnaryOperator<RuntimeException> fallingBack = operator.onErrorGetUnchecked(fallback);
+
+            assertEquals((short) -1, fallingBack.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorGetUnchecked(fallback);
+            verify(fallback).getAsShort();
+            verifyNoMoreInteractions(operator, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            ThrowingShortUnaryOperator<RuntimeException> returning = operator.onErrorReturn((short) -1);
+
+            assertEquals((short) 2, returning.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorReturn((short) -1);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortUnaryOperator<RuntimeException> returning = operator.onErrorReturn((short) -1);
+
+            assertEquals((short) -1, returning.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).onErrorReturn((short) -1);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            ThrowingShortUnaryOperator<RuntimeException> unchecked = operator.unchecked();
+
+            assertEquals((short) 2, unchecked.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).unchecked();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortUnaryOperator<RuntimeException> unchecked = operator.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsShort((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).unchecked();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+
+            ThrowingShortUnaryOperator<RuntimeException> unchecked = operator.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.applyAsShort((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).unchecked();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+
+            ThrowingShortUnaryOperator<RuntimeException> sneaky = operator.sneaky();
+
+            assertEquals((short) 2, sneaky.applyAsShort((short) 1));
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortUnaryOperator<RuntimeException> sneaky = operator.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsShort((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            assertEquals((short) 2, instrumented.applyAsShort((short) 1));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsShort((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsShort((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).applyAsShort((short) 1);
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> (short) (t * 2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals((short) 2, instrumented.applyAsShort((short) 1));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsShort((short) 1);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsShort((short) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsShort((short) 1);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> throwable.throwUnchecked(String.valueOf(t)));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingShortUnaryOperator<IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsShort((short) 1));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).applyAsShort((short) 1);
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortUnaryOperator.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = ThrowingShortUnaryOperator.of(t -> (short) (t * 2));
+
+            assertEquals((short) 2, operator.applyAsShort((short) 1));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortUnaryOperator.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortUnaryOperator<RuntimeException> unchecked = ThrowingShortUnaryOperator.unchecked(operator);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsShort((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(operator).unchecked();
+            verify(operator).applyAsShort((short) 1);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortUnaryOperator.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = Spied.throwingShortUnaryOperator(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortUnaryOperator<RuntimeException> sneaky = ThrowingShortUnaryOperator.sneaky(operator);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsShort((short) 1));
+            assertEquals("1", thrown.getMessage());
+
+            verify(operator).sneaky();
+            verify(operator).applyAsShort((short) 1);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingShortUnaryOperator.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = ThrowingShortUnaryOperator.checked(t -> (short) (t * 2));
+
+            assertEquals((short) 2, operator.applyAsShort((short) 1));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingShortUnaryOperator<IOException> operator = ThrowingShortUnaryOperator.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsShort((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingShortUnaryOperator<RuntimeException> operator = t -> (short) (t * 2);
+
+            assertThrows(NullPointerException.class, () -> ThrowingShortUnaryOperator.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingShortUnaryOperator.checked(operator, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingShortUnaryOperator<IOException> operator = ThrowingShortUnaryOperator.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(String.valueOf(t)));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> operator.applyAsShort((short) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingShortUnaryOperator<IOException> operator = ThrowingShortUnaryOperator.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(String.valueOf(t), 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsShort((short) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingShortUnaryOperator<IOException> operator = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingShortUnaryOperator<RuntimeException> sneaky = ThrowingShortUnaryOperator.sneaky(operator);
+            ThrowingShortUnaryOperator<IOException> checked = ThrowingShortUnaryOperator.checked(sneaky);
+            ThrowingShortUnaryOperator<IOException> checkedWithErrorType = ThrowingShortUnaryOperator.checked(sneaky, IOException.class);
+
+            ThrowingShortUnaryOperator<RuntimeException> unchecked = ThrowingShortUnaryOperator.unchecked(checked);
+            ThrowingShortUnaryOperator<RuntimeException> uncheckedWithErrorType = ThrowingShortUnaryOperator.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsShort((short) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsShort((short) 1));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingShortUnaryOperator<RuntimeException> operator = t -> (short) (t * 2);
+
+            ThrowingShortUnaryOperator<IOException> checked = ThrowingShortUnaryOperator.checked(operator);
+
+            assertSame(operator, ThrowingShortUnaryOperator.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingShortUnaryOperator<IOException> operator = t -> (short) (t * 2);
+
+            ThrowingShortUnaryOperator<RuntimeException> sneaky = ThrowingShortUnaryOperator.sneaky(operator);
+
+            assertSame(operator, ThrowingShortUnaryOperator.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingShortUnaryOperator<IOException> operator = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingShortUnaryOperator<RuntimeException> unchecked = ThrowingShortUnaryOperator.unchecked(operator);
+            ThrowingShortUnaryOperator<IOException> checked = ThrowingShortUnaryOperator.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsShort((short) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingShortUnaryOperator<IOException> operator = t -> {
+                throw new IOException(String.valueOf(t));
+            };
+
+            ThrowingShortUnaryOperator<RuntimeException> unchecked = ThrowingShortUnaryOperator.unchecked(operator);
+            ThrowingShortUnaryOperator<ParseException> checked = ThrowingShortUnaryOperator.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsShort((short) 1));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingShortUnaryOperator<RuntimeException> operator = t -> (short) (t * 2);
+
+            assertThrows(NullPointerException.class, () -> ThrowingShortUnaryOperator.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingShortUnaryOperator.catching(operator, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingShortUnaryOperator<IOException> operator = ThrowingShortUnaryOperator.catching(t -> (short) (t * 2), IOException.class);
+
+            assertEquals((short) 2, operator.applyAsShort((short) 1));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingShortUnaryOperator<RuntimeException> sneaky = ThrowingShortUnaryOperator.sneaky(t -> {
+                throw new IOException(String.valueOf(t));
+            });
+
+            ThrowingShortUnaryOperator<IOException> operator = ThrowingShortUnaryOperator.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> operator.applyAsShort((short) 1));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingShortUnaryOperator<RuntimeException> sneaky = ThrowingShortUnaryOperator.sneaky(t -> {
+                throw new ParseException(String.valueOf(t), 0);
+            });
+
+            ThrowingShortUnaryOperator<IOException> operator = ThrowingShortUnaryOperator.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.applyAsShort((short) 1));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,572 @@
+/*
+ * ThrowingStreamTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingStreamTest {
+
+    @Nested
+    class Filter {
+
+        @Test
+        void testPredicateThrowsNothing() throws IOException {
+            ThrowingPredicate<String, IOException> predicate = Spied.throwingPredicate(s -> s.startsWith("b"));
+
+            List<String> result = stream("foo", "bar", "baz").filter(predicate).toList();
+
+            assertEquals(List.of("bar", "baz"), result);
+
+            verify(predicate).test("foo");
+            verify(predicate).test("bar");
+            verify(predicate).test("baz");
+            verifyNoMoreInteractions(predicate);
+        }
+
+        @Test
+        void testPredicateThrowsChecked() {
+            IOException exception = new IOException("bar");
+            ThrowingPredicate<String, IOException> predicate = s -> {
+                if ("bar".equals(s)) {
+                    throw exception;
+                }
+                return true;
+            };
+
+            ThrowingStream<String, IOException> stream = stream("foo", "bar", "baz").filter(predicate);
+
+            IOException thrown = assertThrows(IOException.class, stream::toList);
+            assertSame(exception, thrown);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testPredicateThrowsUnchecked(UncheckedThrowable<?> throwable) {
+            ThrowingPredicate<String, IOException> predicate = throwable::throwUnchecked;
+
+            ThrowingStream<String, IOException> stream = stream("foo").filter(predicate);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), stream::toList);
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testLazy() {
+            ThrowingPredicate<String, IOException> predicate = Spied.throwingPredicate(s -> true);
+
+            stream("foo", "bar").filter(predicate);
+
+            verifyNoMoreInteractions(predicate);
+        }
+    }
+
+    @Nested
+    class Map {
+
+        @Test
+        void testMapperThrowsNothing() throws IOException {
+            ThrowingFunction<String, String, IOException> mapper = Spied.throwingFunction(String::toUpperCase);
+
+            List<String> result = stream("foo", "bar").map(mapper).toList();
+
+            assertEquals(List.of("FOO", "BAR"), result);
+
+            verify(mapper).apply("foo");
+            verify(mapper).apply("bar");
+            verifyNoMoreInteractions(mapper);
+        }
+
+        @Test
+        void testMapperThrowsChecked() {
+            IOException exception = new IOException("foo");
+            ThrowingFunction<String, String, IOException> mapper = s -> {
+                throw exception;
+            };
+
+            ThrowingStream<String, IOException> stream = stream("foo", "bar").map(mapper);
+
+            IOException thrown = assertThrows(IOException.class, stream::toList);
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        void testMapToInt() throws IOException {
+            ThrowingToIntFunction<String, IOException> mapper = String::length;
+
+            assertArrayEquals(new int[] { 3, 5 }, stream("foo", "hello").mapToInt(mapper).toArray());
+        }
+
+        @Test
+        void testMapToLong() throws IOException {
+            ThrowingToLongFunction<String, IOException> mapper = String::length;
+
+            assertEquals(8L, stream("foo", "hello").mapToLong(mapper).sum());
+        }
+
+        @Test
+        void testMapToDouble() throws IOException {
+            ThrowingToDoubleFunction<String, IOException> mapper = String::length;
+
+            assertEquals(4.0, stream("foo", "hello").mapToDouble(mapper).average().getAsDouble());
+        }
+
+        @Test
+        void testMapToLongThrowsChecked() {
+            IOException exception = new IOException("foo");
+            ThrowingToLongFunction<String, IOException> mapper = s -> {
+                throw exception;
+            };
+
+            ThrowingLongStream<IOException> stream = stream("foo", "bar").mapToLong(mapper);
+
+            IOException thrown = assertThrows(IOException.class, stream::sum);
+            assertSame(exception, thrown);
+        }
+    }
+
+    @Nested
+    class FlatMap {
+
+        @Test
+        void testMapperThrowsNothing() throws IOException {
+            List<String> result = stream("foo", "bar").flatMap(s -> Stream.of(s, s.toUpperCase())).toList();
+
+            assertEquals(List.of("foo", "FOO", "bar", "BAR"), result);
+        }
+
+        @Test
+        void testMapperThrowsChecked() {
+            IOException exception = new IOException("foo");
+            ThrowingFunction<String, Stream<String>, IOException> mapper = s -> {
+                throw exception;
+            };
+
+            ThrowingStream<String, IOException> stream = stream("foo", "bar").flatMap(mapper);
+
+            IOException thrown = assertThrows(IOException.class, stream::toList);
+            assertSame(exception, thrown);
+        }
+    }
+
+    @Nested
+    class Peek {
+
+        @Test
+        void testActionThrowsNothing() throws IOException {
+            ThrowingConsumer<String, IOException> action = Spied.throwingConsumer(s -> { /* do nothing */ });
+
+            assertEquals(2, stream("foo", "bar").peek(action).map(String::toUpperCase).toList().size());
+
+            verify(action).accept("foo");
+            verify(action).accept("bar");
+            verifyNoMoreInteractions(action);
+        }
+
+        @Test
+        void testActionThrowsChecked() {
+            IOException exception = new IOException("foo");
+            ThrowingConsumer<String, IOException> action = s -> {
+                throw exception;
+            };
+
+            ThrowingStream<String, IOException> stream = stream("foo", "bar").peek(action);
+
+            IOException thrown = assertThrows(IOException.class, stream::count);
+            assertSame(exception, thrown);
+        }
+    }
+
+    @Nested
+    class StatefulOperations {
+
+        @Test
+        void testDistinct() throws IOException {
+            assertEquals(List.of("foo", "bar"), stream("foo", "bar", "foo").distinct().toList());
+        }
+
+        @Test
+        void testSorted() throws IOException {
+            assertEquals(List.of("bar", "baz", "foo"), stream("foo", "bar", "baz").sorted().toList());
+            assertEquals(List.of("foo", "baz", "bar"), stream("foo", "bar", "baz").sorted(Comparator.reverseOrder()).toList());
+        }
+
+        @Test
+        void testLimitAndSkip() throws IOException {
+            assertEquals(List.of("bar", "baz"), stream("foo", "bar", "baz", "qux").skip(1).limit(2).toList());
+        }
+
+        @Test
+        void testTakeWhileAndDropWhile() throws IOException {
+            ThrowingPredicate<String, IOException> predicate = s -> !s.startsWith("b");
+
+            assertEquals(List.of("foo"), stream("foo", "bar", "qux").takeWhile(predicate).toList());
+            assertEquals(List.of("bar", "qux"), stream("foo", "bar", "qux").dropWhile(predicate).toList());
+        }
+    }
+
+    @Nested
+    class ForEach {
+
+        @Test
+        void testActionThrowsNothing() throws IOException {
+            List<String> result = new ArrayList<>();
+
+            stream("foo", "bar").forEach(result::add);
+
+            assertEquals(List.of("foo", "bar"), result);
+        }
+
+        @Test
+        void testActionThrowsChecked() {
+            IOException exception = new IOException("foo");
+            ThrowingConsumer<String, IOException> action = s -> {
+                throw exception;
+            };
+
+            ThrowingStream<String, IOException> stream = stream("foo", "bar");
+
+            IOException thrown = assertThrows(IOException.class, () -> stream.forEach(action));
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        void testForEachOrdered() throws IOException {
+            List<String> result = new ArrayList<>();
+
+            stream("foo", "bar", "baz").parallel().forEachOrdered(result::add);
+
+            assertEquals(List.of("foo", "bar", "baz"), result);
+        }
+    }
+
+    @Nested
+    class Collect {
+
+        @Test
+        void testWithCollector() throws IOException {
+            assertEquals("foo,bar", stream("foo", "bar").collect(Collectors.joining(",")));
+        }
+
+        @Test
+        void testWithFunctions() throws IOException {
+            ThrowingSupplier<List<String>, IOException> supplier = ArrayList::new;
+            ThrowingBiConsumer<List<String>, String, IOException> accumulator = List::add;
+            ThrowingBiConsumer<List<String>, List<String>, IOException> combiner = List::addAll;
+
+            assertEquals(List.of("foo", "bar"), stream("foo", "bar").collect(supplier, accumulator, combiner));
+        }
+
+        @Test
+        void testAccumulatorThrowsChecked() {
+            IOException exception = new IOException("foo");
+            ThrowingSupplier<List<String>, IOException> supplier = ArrayList::new;
+            ThrowingBiConsumer<List<String>, String, IOException> accumulator = (l, s) -> {
+                throw exception;
+            };
+            ThrowingBiConsumer<List<String>, List<String>, IOException> combiner = List::addAll;
+
+            ThrowingStream<String, IOException> stream = stream("foo", "bar");
+
+            IOException thrown = assertThrows(IOException.class, () -> stream.collect(supplier, accumulator, combiner));
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        void testToList() throws IOException {
+            List<String> result = stream("foo", null).toList();
+
+            assertEquals(Arrays.asList("foo", null), result);
+            assertThrows(UnsupportedOperationException.class, () -> result.add("bar"));
+        }
+
+        @Test
+        void testToArray() throws IOException {
+            assertArrayEquals(new Object[] { "foo", "bar" }, stream("foo", "bar").toArray());
+            assertArrayEquals(new String[] { "foo", "bar" }, stream("foo", "bar").toArray(String[]::new));
+        }
+    }
+
+    @Nested
+    class Reduce {
+
+        @Test
+        void testWithIdentity() throws IOException {
+            assertEquals("foobar", stream("foo", "bar").reduce("", String::concat));
+        }
+
+        @Test
+        void testWithoutIdentity() throws IOException {
+            assertEquals(Optional.of("foobar"), stream("foo", "bar").reduce(String::concat));
+            assertEquals(Optional.empty(), ThrowingStream.<String, IOException>of(Stream.empty()).reduce(String::concat));
+        }
+
+        @Test
+        void testWithCombiner() throws IOException {
+            assertEquals(Integer.valueOf(6), stream("foo", "bar").reduce(0, (i, s) -> i + s.length(), Integer::sum));
+        }
+
+        @Test
+        void testAccumulatorThrowsChecked() {
+            IOException exception = new IOException("foo");
+            ThrowingBinaryOperator<String, IOException> accumulator = (s1, s2) -> {
+                throw exception;
+            };
+
+            ThrowingStream<String, IOException> stream = stream("foo", "bar");
+
+            IOException thrown = assertThrows(IOException.class, () -> stream.reduce(accumulator));
+            assertSame(exception, thrown);
+        }
+    }
+
+    @Nested
+    class OtherTerminalOperations {
+
+        @Test
+        void testMinAndMax() throws IOException {
+            assertEquals(Optional.of("bar"), stream("foo", "bar").min(Comparator.naturalOrder()));
+            assertEquals(Optional.of("foo"), stream("foo", "bar").max(Comparator.naturalOrder()));
+        }
+
+        @Test
+        void testCount() throws IOException {
+            assertEquals(3, stream("foo", "bar", "baz").count());
+        }
+
+        @Test
+        void testMatch() throws IOException {
+            assertTrue(stream("foo", "bar").anyMatch(s -> s.startsWith("b")));
+            assertFalse(stream("foo", "bar").allMatch(s -> s.startsWith("b")));
+            assertFalse(stream("foo", "bar").noneMatch(s -> s.startsWith("b")));
+        }
+
+        @Test
+        void testMatchThrowsChecked() {
+            IOException exception = new IOException("foo");
+            ThrowingPredicate<String, IOException> predicate = s -> {
+                throw exception;
+            };
+
+            ThrowingStream<String, IOException> stream = stream("foo", "bar");
+
+            IOException thrown = assertThrows(IOException.class, () -> stream.anyMatch(predicate));
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        void testFind() throws IOException {
+            assertEquals(Optional.of("foo"), stream("foo", "bar").findFirst());
+            assertTrue(stream("foo", "bar").findAny().isPresent());
+        }
+    }
+
+    @Nested
+    class Fusion {
+
+        @Test
+        void testStagesAppliedPerElement() throws IOException {
+            List<String> events = new ArrayList<>();
+            List<String> result = stream("foo", "bar", "baz")
+                    .peek(s -> events.add("peek " + s))
+                    .filter(s -> s.startsWith("b"))
+                    .map(String::toUpperCase)
+                    .peek(s -> events.add("peek " + s))
+                    .toList();
+
+            List<String> expectedEvents = new ArrayList<>();
+            List<String> expected = Stream.of("foo", "bar", "baz")
+                    .peek(s -> expectedEvents.add("peek " + s))
+                    .filter(s -> s.startsWith("b"))
+                    .map(String::toUpperCase)
+                    .peek(s -> expectedEvents.add("peek " + s))
+                    .collect(Collectors.toList());
+
+            assertEquals(expected, result);
+            assertEquals(expectedEvents, events);
+        }
+
+        @Test
+        void testStagesAroundStatefulOperation() throws IOException {
+            List<String> result = stream("foo", "bar", "baz", "qux")
+                    .filter(s -> !s.startsWith("q"))
+                    .map(String::toUpperCase)
+                    .sorted()
+                    .map(s -> s + "!")
+                    .filter(s -> !s.startsWith("F"))
+                    .toList();
+
+            assertEquals(List.of("BAR!", "BAZ!"), result);
+        }
+
+        @Test
+        void testStagesBeforeForEach() throws IOException {
+            List<String> result = new ArrayList<>();
+
+            stream("foo", "bar", "baz")
+                    .filter(s -> s.startsWith("b"))
+                    .map(String::toUpperCase)
+                    .forEach(result::add);
+
+            assertEquals(List.of("BAR", "BAZ"), result);
+        }
+
+        @Test
+        void testStagesBeforeForEachOrdered() throws IOException {
+            List<Integer> result = new ArrayList<>();
+
+            ThrowingStream.<Integer, IOException>of(IntStream.range(0, 1000).boxed())
+                    .parallel()
+                    .filter(i -> i % 2 == 0)
+                    .map(i -> i / 2)
+                    .forEachOrdered(result::add);
+
+            assertEquals(500, result.size());
+            for (int i = 0; i < 500; i++) {
+                assertEquals(i, result.get(i).intValue());
+            }
+        }
+
+        @Test
+        void testStagesThrowChecked() {
+            IOException exception = new IOException("bar");
+            ThrowingFunction<String, String, IOException> mapper = s -> {
+                if ("bar".equals(s)) {
+                    throw exception;
+                }
+                return s;
+            };
+
+            ThrowingStream<String, IOException> stream = stream("foo", "bar")
+                    .filter(s -> true)
+                    .map(mapper)
+                    .peek(s -> { /* do nothing */ });
+
+            IOException thrown = assertThrows(IOException.class, () -> stream.forEach(s -> { /* do nothing */ }));
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        void testNullOperations() {
+            ThrowingStream<String, IOException> stream = stream("foo");
+
+            assertThrows(NullPointerException.class, () -> stream.map(null));
+            assertThrows(NullPointerException.class, () -> stream.filter(null));
+            assertThrows(NullPointerException.class, () -> stream.peek(null));
+        }
+
+        @Test
+        void testConsumedTwice() throws IOException {
+            ThrowingStream<String, IOException> stream = stream("foo").map(String::toUpperCase);
+
+            assertEquals(List.of("FOO"), stream.toList());
+            assertThrows(IllegalStateException.class, stream::toList);
+        }
+    }
+
+    @Nested
+    class Parallel {
+
+        @Test
+        void testMapperThrowsNothing() throws IOException {
+            ThrowingStream<Integer, IOException> stream = ThrowingStream.of(IntStream.range(0, 1000).boxed());
+
+            List<Integer> result = stream.parallel().map(i -> i * 2).toList();
+
+            assertEquals(1000, result.size());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i * 2, result.get(i).intValue());
+            }
+        }
+
+        @Test
+        void testMapperThrowsChecked() {
+            IOException exception = new IOException("500");
+            ThrowingFunction<Integer, Integer, IOException> mapper = i -> {
+                if (i == 500) {
+                    throw exception;
+                }
+                return i;
+            };
+
+            ThrowingStream<Integer, IOException> stream = ThrowingStream.<Integer, IOException>of(IntStream.range(0, 1000).boxed())
+                    .parallel()
+                    .map(mapper);
+
+            assertTrue(stream.isParallel());
+
+            // The exception can be a copy created by the fork-join pool, with the original exception as cause
+            IOException thrown = assertThrows(IOException.class, stream::toList);
+            if (thrown != exception) {
+                assertSame(exception, assertInstanceOf(IOException.class, thrown.getCause()));
+            }
+        }
+
+        @Test
+        void testSequential() {
+            assertFalse(stream("foo").parallel().sequential().isParallel());
+        }
+    }
+
+    @Nested
+    class Close {
+
+        @Test
+        void testOnClose() {
+            AtomicBoolean closed = new AtomicBoolean();
+
+            try (ThrowingStream<String, IOException> stream = stream("foo").onClose(() -> closed.set(true))) {
+                assertFalse(closed.get());
+            }
+
+            assertTrue(closed.get());
+        }
+    }
+
+    @Test
+    void testOfNull() {
+        assertThrows(NullPointerException.class, () -> ThrowingStream.of(null));
+    }
+
+    @SafeVarargs
+    private static <T> ThrowingStream<T, IOException> stream(T... values) {
+        return ThrowingStream.of(Stream.of(values));
+    }
+}
@@ -20,14 +20,34 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.Nested;
@@ -610,7 +630,6 @@ class ThrowingSupplierTest {
 
             verify(supplier).get();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
 
@@ -628,7 +647,6 @@ class ThrowingSupplierTest {
 
             verify(supplier).get();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
 
@@ -644,11 +662,892 @@ class ThrowingSupplierTest {
 
             verify(supplier).get();
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(supplier);
         }
     }
 
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo");
+
+            Supplier<String> sneaky = supplier.sneaky();
+
+            assertEquals("foo", sneaky.get());
+
+            verify(supplier).get();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            Supplier<String> sneaky = supplier.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, sneaky::get);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).get();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> throwable.throwUnchecked("foo"));
+
+            Supplier<String> sneaky = supplier.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), sneaky::get);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).get();
+            verify(supplier).sneaky();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo");
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingSupplier<String, IOException> instrumented = supplier.instrumented("foo", registry);
+
+            assertEquals("foo", instrumented.get());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).get();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingSupplier<String, IOException> instrumented = supplier.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, instrumented::get);
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).get();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingSupplier<String, IOException> instrumented = supplier.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), instrumented::get);
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(supplier).get();
+            verify(supplier).instrumented("foo", registry);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo");
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingSupplier<String, IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("foo", instrumented.get());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(supplier, times(3)).get();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                throw new IOException("foo");
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingSupplier<String, IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, instrumented::get);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).get();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> throwable.throwUnchecked("foo"));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingSupplier<String, IOException> instrumented = supplier.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), instrumented::get);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(supplier, times(3)).get();
+            verify(supplier).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class Retry {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo");
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+
+            ThrowingSupplier<String, IOException> retrying = supplier.retry(policy);
+
+            assertEquals("foo", retrying.get());
+
+            verify(supplier).get();
+            verify(supplier).retry(policy);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsCheckedThenNothing() throws IOException {
+            int[] attempts = { 0 };
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                if (++attempts[0] < 3) {
+                    throw new IOException(Integer.toString(attempts[0]));
+                }
+                return "foo";
+            });
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+
+            ThrowingSupplier<String, IOException> retrying = supplier.retry(policy);
+
+            assertEquals("foo", retrying.get());
+
+            verify(supplier, times(3)).get();
+            verify(supplier).retry(policy);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            int[] attempts = { 0 };
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                throw new IOException(Integer.toString(++attempts[0]));
+            });
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3)
+                    .withBackoff(Duration.ofMillis(1), Duration.ofMillis(2))
+                    .withJitter(0.5);
+
+            ThrowingSupplier<String, IOException> retrying = supplier.retry(policy);
+
+            IOException thrown = assertThrows(IOException.class, () -> retrying.get());
+            assertEquals("3", thrown.getMessage());
+
+            Throwable[] suppressed = thrown.getSuppressed();
+            assertEquals(2, suppressed.length);
+            assertEquals("1", suppressed[0].getMessage());
+            assertEquals("2", suppressed[1].getMessage());
+
+            verify(supplier, times(3)).get();
+            verify(supplier).retry(policy);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsNonRetryableChecked() throws IOException {
+            int[] attempts = { 0 };
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                if (++attempts[0] < 2) {
+                    throw new FileNotFoundException(Integer.toString(attempts[0]));
+                }
+                throw new IOException(Integer.toString(attempts[0]));
+            });
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3)
+                    .withRetryableErrorType(FileNotFoundException.class);
+
+            ThrowingSupplier<String, IOException> retrying = supplier.retry(policy);
+
+            IOException thrown = assertThrows(IOException.class, () -> retrying.get());
+            assertEquals("2", thrown.getMessage());
+
+            Throwable[] suppressed = thrown.getSuppressed();
+            assertEquals(1, suppressed.length);
+            assertInstanceOf(FileNotFoundException.class, suppressed[0]);
+
+            verify(supplier, times(2)).get();
+            verify(supplier).retry(policy);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> throwable.throwUnchecked("foo"));
+            RetryPolicy policy = RetryPolicy.ofMaxAttempts(3);
+
+            ThrowingSupplier<String, IOException> retrying = supplier.retry(policy);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> retrying.get());
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).get();
+            verify(supplier).retry(policy);
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testNullPolicy() {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo");
+
+            assertThrows(NullPointerException.class, () -> supplier.retry(null));
+        }
+    }
+
+    @Nested
+    class Memoize {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo");
+
+            ThrowingSupplier<String, IOException> memoized = supplier.memoize();
+
+            assertEquals("foo", memoized.get());
+            assertEquals("foo", memoized.get());
+
+            verify(supplier).get();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingSupplier<String, IOException> memoized = supplier.memoize();
+
+            IOException thrown = assertThrows(IOException.class, memoized::get);
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, memoized::get);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier, times(2)).get();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> throwable.throwUnchecked("foo"));
+
+            ThrowingSupplier<String, IOException> memoized = supplier.memoize();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), memoized::get);
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), memoized::get);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier, times(2)).get();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsCheckedOnce() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                if (counter.getAndIncrement() == 0) {
+                    throw new IOException("foo");
+                }
+                return "foo";
+            });
+
+            ThrowingSupplier<String, IOException> memoized = supplier.memoize();
+
+            IOException thrown = assertThrows(IOException.class, memoized::get);
+            assertEquals("foo", thrown.getMessage());
+
+            assertEquals("foo", memoized.get());
+            assertEquals("foo", memoized.get());
+
+            verify(supplier, times(2)).get();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testMemoizeMemoized() {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo");
+
+            ThrowingSupplier<String, IOException> memoized = supplier.memoize();
+
+            assertSame(memoized, memoized.memoize());
+        }
+
+        @Test
+        void testConcurrentCalls() throws IOException, InterruptedException, ExecutionException {
+            CountDownLatch latch = new CountDownLatch(1);
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                await(latch);
+                return "foo";
+            });
+
+            ThrowingSupplier<String, IOException> memoized = supplier.memoize();
+
+            int threadCount = 10;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            try {
+                List<Future<String>> futures = new ArrayList<>();
+                for (int i = 0; i < threadCount; i++) {
+                    futures.add(executor.submit(memoized::get));
+                }
+                latch.countDown();
+                for (Future<String> future : futures) {
+                    assertEquals("foo", future.get());
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            verify(supplier).get();
+            verify(supplier).memoize();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class MemoizeWithTimeToLive {
+
+        @Test
+        void testCachedUntilExpired() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo" + counter.incrementAndGet());
+            AtomicLong clock = new AtomicLong();
+
+            ThrowingSupplier<String, IOException> memoized = new ExpiringMemoizingSupplier<>(supplier, Duration.ofSeconds(10), null, null, null,
+                    clock::get);
+
+            assertEquals("foo1", memoized.get());
+
+            clock.addAndGet(Duration.ofSeconds(9).toNanos());
+            assertEquals("foo1", memoized.get());
+
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+            assertEquals("foo2", memoized.get());
+            assertEquals("foo2", memoized.get());
+
+            verify(supplier, times(2)).get();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingSupplier<String, IOException> memoized = supplier.memoize(Duration.ofSeconds(10));
+
+            IOException thrown = assertThrows(IOException.class, memoized::get);
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, memoized::get);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier, times(2)).get();
+            verify(supplier).memoize(Duration.ofSeconds(10));
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> throwable.throwUnchecked("foo"));
+
+            ThrowingSupplier<String, IOException> memoized = supplier.memoize(Duration.ofSeconds(10));
+
+            Throwable thrown = assertThrows(throwable.throwableType(), memoized::get);
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(throwable.throwableType(), memoized::get);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier, times(2)).get();
+            verify(supplier).memoize(Duration.ofSeconds(10));
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testInvalidTimeToLive() {
+            ThrowingSupplier<String, IOException> supplier = () -> "foo";
+
+            assertThrows(NullPointerException.class, () -> supplier.memoize(null));
+            assertThrows(IllegalArgumentException.class, () -> supplier.memoize(Duration.ZERO));
+            assertThrows(IllegalArgumentException.class, () -> supplier.memoize(Duration.ofSeconds(-1)));
+        }
+    }
+
+    @Nested
+    class MemoizeWithRefresh {
+
+        @Test
+        void testRefreshedInBackground() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo" + counter.incrementAndGet());
+            AtomicLong clock = new AtomicLong();
+            List<Runnable> tasks = new ArrayList<>();
+
+            ThrowingSupplier<String, IOException> memoized = new ExpiringMemoizingSupplier<>(supplier, Duration.ofSeconds(10), Duration.ofSeconds(5),
+                    Duration.ofSeconds(5), tasks::add, clock::get);
+
+            assertEquals("foo1", memoized.get());
+            assertEquals(0, tasks.size());
+
+            clock.addAndGet(Duration.ofSeconds(6).toNanos());
+
+            // The stale value is returned, and only one refresh is started
+            assertEquals("foo1", memoized.get());
+            assertEquals("foo1", memoized.get());
+            assertEquals(1, tasks.size());
+
+            tasks.remove(0).run();
+
+            assertEquals("foo2", memoized.get());
+            assertEquals(0, tasks.size());
+
+            verify(supplier, times(2)).get();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testRefreshFailureUsesGracePeriod() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                if (counter.incrementAndGet() > 1) {
+                    throw new IOException("foo");
+                }
+                return "foo";
+            });
+            AtomicLong clock = new AtomicLong();
+            List<Runnable> tasks = new ArrayList<>();
+
+            ThrowingSupplier<String, IOException> memoized = new ExpiringMemoizingSupplier<>(supplier, Duration.ofSeconds(10), Duration.ofSeconds(5),
+                    Duration.ofSeconds(5), tasks::add, clock::get);
+
+            assertEquals("foo", memoized.get());
+
+            clock.addAndGet(Duration.ofSeconds(6).toNanos());
+            assertEquals("foo", memoized.get());
+            tasks.remove(0).run();
+
+            // Expired, but still within the grace period; another refresh is started
+            clock.addAndGet(Duration.ofSeconds(6).toNanos());
+            assertEquals("foo", memoized.get());
+            tasks.remove(0).run();
+
+            // The grace period is not extended by another failure
+            clock.addAndGet(Duration.ofSeconds(3).toNanos());
+            IOException thrown = assertThrows(IOException.class, memoized::get);
+            assertEquals("foo", thrown.getMessage());
+
+            assertEquals(0, tasks.size());
+
+            verify(supplier, times(4)).get();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testNoGracePeriodWithoutRefreshFailure() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo" + counter.incrementAndGet());
+            AtomicLong clock = new AtomicLong();
+            List<Runnable> tasks = new ArrayList<>();
+
+            ThrowingSupplier<String, IOException> memoized = new ExpiringMemoizingSupplier<>(supplier, Duration.ofSeconds(10), Duration.ofSeconds(5),
+                    Duration.ofSeconds(5), tasks::add, clock::get);
+
+            assertEquals("foo1", memoized.get());
+
+            clock.addAndGet(Duration.ofSeconds(11).toNanos());
+            assertEquals("foo2", memoized.get());
+            assertEquals(0, tasks.size());
+
+            verify(supplier, times(2)).get();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testSynchronousComputationWaitsForRunningRefresh() throws IOException, InterruptedException, ExecutionException, TimeoutException {
+            CountDownLatch refreshStarted = new CountDownLatch(1);
+            CountDownLatch refreshAllowed = new CountDownLatch(1);
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                int count = counter.incrementAndGet();
+                if (count == 2) {
+                    refreshStarted.countDown();
+                    await(refreshAllowed);
+                }
+                return "foo" + count;
+            });
+            AtomicLong clock = new AtomicLong();
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            try {
+                ThrowingSupplier<String, IOException> memoized = new ExpiringMemoizingSupplier<>(supplier, Duration.ofSeconds(10),
+                        Duration.ofSeconds(5), Duration.ofSeconds(5), executor, clock::get);
+
+                assertEquals("foo1", memoized.get());
+
+                clock.addAndGet(Duration.ofSeconds(6).toNanos());
+                assertEquals("foo1", memoized.get());
+                assertTrue(refreshStarted.await(10, TimeUnit.SECONDS));
+
+                // The value has expired while the refresh is running
+                clock.addAndGet(Duration.ofSeconds(5).toNanos());
+                Future<String> future = executor.submit(memoized::get);
+
+                refreshAllowed.countDown();
+
+                assertEquals("foo2", future.get(10, TimeUnit.SECONDS));
+            } finally {
+                executor.shutdown();
+            }
+
+            verify(supplier, times(2)).get();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testQueuedRefreshSkippedAfterSynchronousComputation() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo" + counter.incrementAndGet());
+            AtomicLong clock = new AtomicLong();
+            List<Runnable> tasks = new ArrayList<>();
+
+            ThrowingSupplier<String, IOException> memoized = new ExpiringMemoizingSupplier<>(supplier, Duration.ofSeconds(10), Duration.ofSeconds(5),
+                    Duration.ofSeconds(5), tasks::add, clock::get);
+
+            assertEquals("foo1", memoized.get());
+
+            clock.addAndGet(Duration.ofSeconds(6).toNanos());
+            assertEquals("foo1", memoized.get());
+            assertEquals(1, tasks.size());
+
+            // The value expires before the refresh is executed; it doesn't wait for the queued refresh
+            clock.addAndGet(Duration.ofSeconds(5).toNanos());
+            assertEquals("foo2", memoized.get());
+
+            // The refresh is no longer needed
+            tasks.remove(0).run();
+            assertEquals("foo2", memoized.get());
+
+            // A new refresh can be started
+            clock.addAndGet(Duration.ofSeconds(6).toNanos());
+            assertEquals("foo2", memoized.get());
+            assertEquals(1, tasks.size());
+
+            verify(supplier, times(2)).get();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testRejectedExecution() throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo" + counter.incrementAndGet());
+            AtomicLong clock = new AtomicLong();
+            AtomicInteger rejected = new AtomicInteger();
+            Executor executor = task -> {
+                rejected.incrementAndGet();
+                throw new RejectedExecutionException();
+            };
+
+            ThrowingSupplier<String, IOException> memoized = new ExpiringMemoizingSupplier<>(supplier, Duration.ofSeconds(10), Duration.ofSeconds(5),
+                    Duration.ofSeconds(5), executor, clock::get);
+
+            assertEquals("foo1", memoized.get());
+
+            clock.addAndGet(Duration.ofSeconds(6).toNanos());
+            assertEquals("foo1", memoized.get());
+            assertEquals("foo1", memoized.get());
+            assertEquals(2, rejected.get());
+
+            verify(supplier).get();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testInvalidArguments() {
+            ThrowingSupplier<String, IOException> supplier = () -> "foo";
+            Duration ttl = Duration.ofSeconds(10);
+            Duration refresh = Duration.ofSeconds(5);
+            Duration grace = Duration.ofSeconds(5);
+            Executor executor = Runnable::run;
+
+            assertThrows(NullPointerException.class, () -> supplier.memoize(null, refresh, grace, executor));
+            assertThrows(NullPointerException.class, () -> supplier.memoize(ttl, null, grace, executor));
+            assertThrows(NullPointerException.class, () -> supplier.memoize(ttl, refresh, null, executor));
+            assertThrows(NullPointerException.class, () -> supplier.memoize(ttl, refresh, grace, null));
+            assertThrows(IllegalArgumentException.class, () -> supplier.memoize(Duration.ZERO, refresh, grace, executor));
+            assertThrows(IllegalArgumentException.class, () -> supplier.memoize(ttl, Duration.ZERO, grace, executor));
+            assertThrows(IllegalArgumentException.class, () -> supplier.memoize(ttl, ttl, grace, executor));
+            assertThrows(IllegalArgumentException.class, () -> supplier.memoize(ttl, refresh, Duration.ofSeconds(-1), executor));
+        }
+    }
+
+    @Nested
+    class Coalescing {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo");
+
+            ThrowingSupplier<String, IOException> coalescing = supplier.coalescing();
+
+            assertEquals("foo", coalescing.get());
+            assertEquals("foo", coalescing.get());
+
+            // Results are not retained
+            verify(supplier, times(2)).get();
+            verify(supplier).coalescing();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            ThrowingSupplier<String, IOException> coalescing = supplier.coalescing();
+
+            IOException thrown = assertThrows(IOException.class, coalescing::get);
+            assertEquals("foo", thrown.getMessage());
+
+            thrown = assertThrows(IOException.class, coalescing::get);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier, times(2)).get();
+            verify(supplier).coalescing();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> throwable.throwUnchecked("foo"));
+
+            ThrowingSupplier<String, IOException> coalescing = supplier.coalescing();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), coalescing::get);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).get();
+            verify(supplier).coalescing();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testConcurrentCallsShareResult() throws IOException, InterruptedException {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger counter = new AtomicInteger();
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                entered.countDown();
+                await(release);
+                return "foo" + counter.incrementAndGet();
+            });
+
+            ThrowingSupplier<String, IOException> coalescing = supplier.coalescing();
+
+            List<Object> results = callConcurrently(coalescing::get, entered, release);
+
+            for (Object result : results) {
+                assertEquals("foo1", result);
+            }
+
+            // A new call starts once the previous call has finished
+            assertEquals("foo2", coalescing.get());
+
+            verify(supplier, times(2)).get();
+            verify(supplier).coalescing();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SupplyAsync {
+
+        @Test
+        void testThisThrowsNothing() throws IOException, InterruptedException, ExecutionException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo");
+
+            CompletableFuture<String> future = supplier.supplyAsync(Runnable::run);
+
+            assertTrue(future.isDone());
+            assertEquals("foo", future.get());
+
+            verify(supplier).get();
+            verify(supplier).supplyAsync(any());
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, InterruptedException, ExecutionException {
+            IOException exception = new IOException("foo");
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                throw exception;
+            });
+
+            CompletableFuture<String> future = supplier.supplyAsync(Runnable::run);
+
+            assertTrue(future.isCompletedExceptionally());
+            ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+            assertSame(exception, thrown.getCause());
+            // The exception is not wrapped in an UncheckedException or CompletionException
+            assertSame(exception, future.handle((result, error) -> error).get());
+
+            verify(supplier).get();
+            verify(supplier).supplyAsync(any());
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException, InterruptedException, ExecutionException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> throwable.throwUnchecked("foo"));
+
+            CompletableFuture<String> future = supplier.supplyAsync(Runnable::run);
+
+            assertTrue(future.isCompletedExceptionally());
+            ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+            Throwable cause = assertInstanceOf(throwable.throwableType(), thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+
+            verify(supplier).get();
+            verify(supplier).supplyAsync(any());
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testCancelBeforeStart() throws IOException, InterruptedException, ExecutionException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo");
+
+            List<Runnable> tasks = new ArrayList<>();
+            CompletableFuture<String> future = supplier.supplyAsync(tasks::add);
+
+            assertTrue(future.cancel(true));
+            tasks.forEach(Runnable::run);
+
+            assertTrue(future.isCancelled());
+
+            verify(supplier).supplyAsync(any());
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testCancelWhileRunning() throws InterruptedException {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+            ThrowingSupplier<String, IOException> supplier = () -> {
+                entered.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw new IOException(e);
+                }
+                return "foo";
+            };
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                CompletableFuture<String> future = supplier.supplyAsync(executor);
+                entered.await();
+
+                assertTrue(future.cancel(true));
+                interrupted.await();
+
+                assertTrue(future.isCancelled());
+                assertThrows(CancellationException.class, future::get);
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        void testNullExecutor() {
+            ThrowingSupplier<String, IOException> supplier = () -> "foo";
+
+            assertThrows(NullPointerException.class, () -> supplier.supplyAsync(null));
+        }
+    }
+
     @Nested
     class Of {
 
@@ -682,7 +1581,6 @@ class ThrowingSupplierTest {
             assertEquals("foo", unchecked.get());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verify(supplier).get();
             verifyNoMoreInteractions(supplier);
         }
@@ -700,7 +1598,6 @@ class ThrowingSupplierTest {
             assertEquals("foo", cause.getMessage());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
             verify(supplier).get();
             verifyNoMoreInteractions(supplier);
         }
@@ -716,7 +1613,59 @@ class ThrowingSupplierTest {
             assertEquals("foo", thrown.getMessage());
 
             verify(supplier).unchecked();
-            verify(supplier).onErrorThrowAsUnchecked(any());
+            verify(supplier).get();
+            verifyNoMoreInteractions(supplier);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingSupplier.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> "foo");
+
+            Supplier<String> sneaky = ThrowingSupplier.sneaky(supplier);
+
+            assertEquals("foo", sneaky.get());
+
+            verify(supplier).sneaky();
+            verify(supplier).get();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> {
+                throw new IOException("foo");
+            });
+
+            Supplier<String> sneaky = ThrowingSupplier.sneaky(supplier);
+
+            IOException thrown = assertThrows(IOException.class, sneaky::get);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).sneaky();
+            verify(supplier).get();
+            verifyNoMoreInteractions(supplier);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingSupplier<String, IOException> supplier = Spied.throwingSupplier(() -> throwable.throwUnchecked("foo"));
+
+            Supplier<String> sneaky = ThrowingSupplier.sneaky(supplier);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), sneaky::get);
+            assertEquals("foo", thrown.getMessage());
+
+            verify(supplier).sneaky();
             verify(supplier).get();
             verifyNoMoreInteractions(supplier);
         }
@@ -814,4 +1763,199 @@ class ThrowingSupplierTest {
             assertEquals("foo", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingSupplier<String, IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            Supplier<String> sneaky = ThrowingSupplier.sneaky(supplier);
+            ThrowingSupplier<String, IOException> checked = ThrowingSupplier.checked(sneaky);
+            ThrowingSupplier<String, IOException> checkedWithErrorType = ThrowingSupplier.checked(sneaky, IOException.class);
+
+            Supplier<String> unchecked = ThrowingSupplier.unchecked(checked);
+            Supplier<String> uncheckedWithErrorType = ThrowingSupplier.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.get());
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.get());
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            Supplier<String> supplier = () -> "foo";
+
+            ThrowingSupplier<String, IOException> checked = ThrowingSupplier.checked(supplier);
+
+            assertSame(supplier, ThrowingSupplier.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingSupplier<String, IOException> supplier = () -> "foo";
+
+            Supplier<String> sneaky = ThrowingSupplier.sneaky(supplier);
+
+            assertSame(supplier, ThrowingSupplier.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingSupplier<String, IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            Supplier<String> unchecked = ThrowingSupplier.unchecked(supplier);
+            ThrowingSupplier<String, IOException> checked = ThrowingSupplier.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.get());
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingSupplier<String, IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            Supplier<String> unchecked = ThrowingSupplier.unchecked(supplier);
+            ThrowingSupplier<String, ParseException> checked = ThrowingSupplier.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.get());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingSupplier<String, IOException> supplier = () -> {
+                throw new IOException("foo");
+            };
+
+            Supplier<String> unchecked = ThrowingSupplier.unchecked(supplier);
+            ThrowingSupplier<String, IOException> checked = ThrowingSupplier.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.get());
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            Supplier<String> supplier = () -> "foo";
+
+            assertThrows(NullPointerException.class, () -> ThrowingSupplier.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingSupplier.catching(supplier, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingSupplier<String, IOException> supplier = ThrowingSupplier.catching(() -> "foo", IOException.class);
+
+            assertEquals("foo", supplier.get());
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                Supplier<String> sneaky = ThrowingSupplier.sneaky(() -> {
+                    throw new IOException("foo");
+                });
+
+                ThrowingSupplier<String, IOException> supplier = ThrowingSupplier.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, supplier::get);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                Supplier<String> sneaky = ThrowingSupplier.sneaky(() -> {
+                    throw new FileNotFoundException("foo");
+                });
+
+                ThrowingSupplier<String, IOException> supplier = ThrowingSupplier.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, supplier::get);
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                Supplier<String> sneaky = ThrowingSupplier.sneaky(() -> {
+                    throw new ParseException("foo", 0);
+                });
+
+                ThrowingSupplier<String, IOException> supplier = ThrowingSupplier.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, supplier::get);
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingSupplier<String, IOException> supplier = ThrowingSupplier.catching(() -> {
+                throw new IllegalStateException("foo");
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, supplier::get);
+            assertEquals("foo", thrown.getMessage());
+        }
+    }
+
+    private static List<Object> callConcurrently(Callable<?> callable, CountDownLatch entered, CountDownLatch release) throws InterruptedException {
+        int threadCount = 10;
+        Object[] results = new Object[threadCount];
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            int index = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    results[index] = callable.call();
+                } catch (Exception e) {
+                    results[index] = e;
+                }
+            });
+        }
+
+        // Start one thread and let it enter the call, then start the others and wait until they are all waiting for the first one
+        threads[0].start();
+        entered.await();
+        for (int i = 1; i < threadCount; i++) {
+            threads[i].start();
+        }
+        for (int i = 1; i < threadCount; i++) {
+            while (threads[i].getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+        }
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return Arrays.asList(results);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
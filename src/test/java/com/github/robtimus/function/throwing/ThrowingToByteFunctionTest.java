@@ -0,0 +1,921 @@
+/*
+ * ThrowingToByteFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingToByteFunctionTest {
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingToByteFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals((byte) 1, throwing.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingToByteFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.applyAsByte("1"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> throwable.throwUnchecked(t));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingToByteFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsByte("1"));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingToByteFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals((byte) 1, throwing.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingToByteFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.applyAsByte("1"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> throwable.throwUnchecked(t));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingToByteFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsByte("1"));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            ThrowingToByteFunction<IOException, ParseException> errorHandler = Spied.throwingToByteFunction(e -> (byte) -1);
+
+            ThrowingToByteFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals((byte) 1, handling.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToByteFunction<IOException, ParseException> errorHandler = Spied.throwingToByteFunction(e -> (byte) -1);
+
+            ThrowingToByteFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals((byte) -1, handling.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsByte(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            ThrowingToByteFunction<IOException, RuntimeException> errorHandler = Spied.throwingToByteFunction(e -> (byte) -1);
+
+            ThrowingToByteFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals((byte) 1, handling.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToByteFunction<IOException, RuntimeException> errorHandler = Spied.throwingToByteFunction(e -> (byte) -1);
+
+            ThrowingToByteFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals((byte) -1, handling.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsByte(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            ThrowingToByteFunction<String, ParseException> fallback = Spied.throwingToByteFunction(t -> (byte) -1);
+
+            ThrowingToByteFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals((byte) 1, fallingBack.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToByteFunction<String, ParseException> fallback = Spied.throwingToByteFunction(t -> (byte) -1);
+
+            ThrowingToByteFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals((byte) -1, fallingBack.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).applyAsByte("1");
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            ThrowingToByteFunction<String, RuntimeException> fallback = Spied.throwingToByteFunction(t -> (byte) -1);
+
+            ThrowingToByteFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals((byte) 1, fallingBack.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToByteFunction<String, RuntimeException> fallback = Spied.throwingToByteFunction(t -> (byte) -1);
+
+            ThrowingToByteFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals((byte) -1, fallingBack.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).applyAsByte("1");
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            ThrowingByteSupplier<ParseException> fallback = Spied.throwingByteSupplier(() -> (byte) -1);
+
+            ThrowingToByteFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals((byte) 1, fallingBack.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingByteSupplier<ParseException> fallback = Spied.throwingByteSupplier(() -> (byte) -1);
+
+            ThrowingToByteFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals((byte) -1, fallingBack.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).getAsByte();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            ThrowingByteSupplier<RuntimeException> fallback = Spied.throwingByteSupplier(() -> (byte) -1);
+
+            ThrowingToByteFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals((byte) 1, fallingBack.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingByteSupplier<RuntimeException> fallback = Spied.throwingByteSupplier(() -> (byte) -1);
+
+            ThrowingToByteFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals((byte) -1, fallingBack.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).getAsByte();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            ThrowingToByteFunction<String, RuntimeException> returning = function.onErrorReturn((byte) -1);
+
+            assertEquals((byte) 1, returning.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorReturn((byte) -1);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToByteFunction<String, RuntimeException> returning = function.onErrorReturn((byte) -1);
+
+            assertEquals((byte) -1, returning.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).onErrorReturn((byte) -1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            ThrowingToByteFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals((byte) 1, unchecked.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToByteFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsByte("1"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).applyAsByte("1");
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> throwable.throwUnchecked(t));
+
+            ThrowingToByteFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.applyAsByte("1"));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsByte("1");
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+
+            ThrowingToByteFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals((byte) 1, sneaky.applyAsByte("1"));
+
+            verify(function).applyAsByte("1");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToByteFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsByte("1"));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsByte("1");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToByteFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals((byte) 1, instrumented.applyAsByte("1"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsByte("1");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToByteFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsByte("1"));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsByte("1");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> throwable.throwUnchecked(t));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToByteFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsByte("1"));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsByte("1");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(Byte::parseByte);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToByteFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals((byte) 1, instrumented.applyAsByte("1"));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsByte("1");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToByteFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsByte("1"));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsByte("1");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> throwable.throwUnchecked(t));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToByteFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsByte("1"));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsByte("1");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToByteFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = ThrowingToByteFunction.of(Byte::parseByte);
+
+            assertEquals((byte) 1, function.applyAsByte("1"));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToByteFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToByteFunction<String, RuntimeException> unchecked = ThrowingToByteFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsByte("1"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).applyAsByte("1");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToByteFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = Spied.throwingToByteFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToByteFunction<String, RuntimeException> sneaky = ThrowingToByteFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsByte("1"));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsByte("1");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToByteFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = ThrowingToByteFunction.checked(Byte::parseByte);
+
+            assertEquals((byte) 1, function.applyAsByte("1"));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingToByteFunction<String, IOException> function = ThrowingToByteFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsByte("1"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingToByteFunction<String, RuntimeException> function = Byte::parseByte;
+
+            assertThrows(NullPointerException.class, () -> ThrowingToByteFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingToByteFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingToByteFunction<String, IOException> function = ThrowingToByteFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAsByte("1"));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingToByteFunction<String, IOException> function = ThrowingToByteFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(t, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsByte("1"));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingToByteFunction<String, IOException> function = t -> {
+                throw new IOException(t);
+            };
+
+            ThrowingToByteFunction<String, RuntimeException> sneaky = ThrowingToByteFunction.sneaky(function);
+            ThrowingToByteFunction<String, IOException> checked = ThrowingToByteFunction.checked(sneaky);
+            ThrowingToByteFunction<String, IOException> checkedWithErrorType = ThrowingToByteFunction.checked(sneaky, IOException.class);
+
+            ThrowingToByteFunction<String, RuntimeException> unchecked = ThrowingToByteFunction.unchecked(checked);
+            ThrowingToByteFunction<String, RuntimeException> uncheckedWithErrorType = ThrowingToByteFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsByte("1"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsByte("1"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingToByteFunction<String, RuntimeException> function = Byte::parseByte;
+
+            ThrowingToByteFunction<String, IOException> checked = ThrowingToByteFunction.checked(function);
+
+            assertSame(function, ThrowingToByteFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingToByteFunction<String, IOException> function = Byte::parseByte;
+
+            ThrowingToByteFunction<String, RuntimeException> sneaky = ThrowingToByteFunction.sneaky(function);
+
+            assertSame(function, ThrowingToByteFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingToByteFunction<String, IOException> function = t -> {
+                throw new IOException(t);
+            };
+
+            ThrowingToByteFunction<String, RuntimeException> unchecked = ThrowingToByteFunction.unchecked(function);
+            ThrowingToByteFunction<String, IOException> checked = ThrowingToByteFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsByte("1"));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingToByteFunction<String, IOException> function = t -> {
+                throw new IOException(t);
+            };
+
+            ThrowingToByteFunction<String, RuntimeException> unchecked = ThrowingToByteFunction.unchecked(function);
+            ThrowingToByteFunction<String, ParseException> checked = ThrowingToByteFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsByte("1"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingToByteFunction<String, RuntimeException> function = Byte::parseByte;
+
+            assertThrows(NullPointerException.class, () -> ThrowingToByteFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingToByteFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToByteFunction<String, IOException> function = ThrowingToByteFunction.catching(Byte::parseByte, IOException.class);
+
+            assertEquals((byte) 1, function.applyAsByte("1"));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingToByteFunction<String, RuntimeException> sneaky = ThrowingToByteFunction.sneaky(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToByteFunction<String, IOException> function = ThrowingToByteFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAsByte("1"));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingToByteFunction<String, RuntimeException> sneaky = ThrowingToByteFunction.sneaky(t -> {
+                throw new ParseException(t, 0);
+            });
+
+            ThrowingToByteFunction<String, IOException> function = ThrowingToByteFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsByte("1"));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,921 @@
+/*
+ * ThrowingToCharFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingToCharFunctionTest {
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingToCharFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals('a', throwing.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingToCharFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.applyAsChar("a"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> throwable.throwUnchecked(t));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingToCharFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsChar("a"));
+            assertEquals("a", thrown.getMessage());
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingToCharFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals('a', throwing.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingToCharFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.applyAsChar("a"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> throwable.throwUnchecked(t));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingToCharFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsChar("a"));
+            assertEquals("a", thrown.getMessage());
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            ThrowingToCharFunction<IOException, ParseException> errorHandler = Spied.throwingToCharFunction(e -> 'z');
+
+            ThrowingToCharFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals('a', handling.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToCharFunction<IOException, ParseException> errorHandler = Spied.throwingToCharFunction(e -> 'z');
+
+            ThrowingToCharFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals('z', handling.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsChar(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            ThrowingToCharFunction<IOException, RuntimeException> errorHandler = Spied.throwingToCharFunction(e -> 'z');
+
+            ThrowingToCharFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals('a', handling.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToCharFunction<IOException, RuntimeException> errorHandler = Spied.throwingToCharFunction(e -> 'z');
+
+            ThrowingToCharFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals('z', handling.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsChar(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            ThrowingToCharFunction<String, ParseException> fallback = Spied.throwingToCharFunction(t -> 'z');
+
+            ThrowingToCharFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals('a', fallingBack.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToCharFunction<String, ParseException> fallback = Spied.throwingToCharFunction(t -> 'z');
+
+            ThrowingToCharFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals('z', fallingBack.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).applyAsChar("a");
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            ThrowingToCharFunction<String, RuntimeException> fallback = Spied.throwingToCharFunction(t -> 'z');
+
+            ThrowingToCharFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals('a', fallingBack.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToCharFunction<String, RuntimeException> fallback = Spied.throwingToCharFunction(t -> 'z');
+
+            ThrowingToCharFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals('z', fallingBack.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).applyAsChar("a");
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            ThrowingCharSupplier<ParseException> fallback = Spied.throwingCharSupplier(() -> 'z');
+
+            ThrowingToCharFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals('a', fallingBack.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingCharSupplier<ParseException> fallback = Spied.throwingCharSupplier(() -> 'z');
+
+            ThrowingToCharFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals('z', fallingBack.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).getAsChar();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            ThrowingCharSupplier<RuntimeException> fallback = Spied.throwingCharSupplier(() -> 'z');
+
+            ThrowingToCharFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals('a', fallingBack.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingCharSupplier<RuntimeException> fallback = Spied.throwingCharSupplier(() -> 'z');
+
+            ThrowingToCharFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals('z', fallingBack.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).getAsChar();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            ThrowingToCharFunction<String, RuntimeException> returning = function.onErrorReturn('z');
+
+            assertEquals('a', returning.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorReturn('z');
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToCharFunction<String, RuntimeException> returning = function.onErrorReturn('z');
+
+            assertEquals('z', returning.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).onErrorReturn('z');
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            ThrowingToCharFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals('a', unchecked.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToCharFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsChar("a"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(function).applyAsChar("a");
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> throwable.throwUnchecked(t));
+
+            ThrowingToCharFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.applyAsChar("a"));
+            assertEquals("a", thrown.getMessage());
+
+            verify(function).applyAsChar("a");
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+
+            ThrowingToCharFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals('a', sneaky.applyAsChar("a"));
+
+            verify(function).applyAsChar("a");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToCharFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsChar("a"));
+            assertEquals("a", thrown.getMessage());
+
+            verify(function).applyAsChar("a");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToCharFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals('a', instrumented.applyAsChar("a"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsChar("a");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToCharFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsChar("a"));
+            assertEquals("a", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsChar("a");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> throwable.throwUnchecked(t));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToCharFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsChar("a"));
+            assertEquals("a", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsChar("a");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> t.charAt(0));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToCharFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals('a', instrumented.applyAsChar("a"));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsChar("a");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToCharFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsChar("a"));
+                assertEquals("a", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsChar("a");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> throwable.throwUnchecked(t));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToCharFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsChar("a"));
+                assertEquals("a", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsChar("a");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToCharFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = ThrowingToCharFunction.of(t -> t.charAt(0));
+
+            assertEquals('a', function.applyAsChar("a"));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToCharFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToCharFunction<String, RuntimeException> unchecked = ThrowingToCharFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsChar("a"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).applyAsChar("a");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToCharFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = Spied.throwingToCharFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToCharFunction<String, RuntimeException> sneaky = ThrowingToCharFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsChar("a"));
+            assertEquals("a", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsChar("a");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToCharFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = ThrowingToCharFunction.checked(t -> t.charAt(0));
+
+            assertEquals('a', function.applyAsChar("a"));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingToCharFunction<String, IOException> function = ThrowingToCharFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsChar("a"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingToCharFunction<String, RuntimeException> function = t -> t.charAt(0);
+
+            assertThrows(NullPointerException.class, () -> ThrowingToCharFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingToCharFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingToCharFunction<String, IOException> function = ThrowingToCharFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAsChar("a"));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingToCharFunction<String, IOException> function = ThrowingToCharFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(t, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsChar("a"));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingToCharFunction<String, IOException> function = t -> {
+                throw new IOException(t);
+            };
+
+            ThrowingToCharFunction<String, RuntimeException> sneaky = ThrowingToCharFunction.sneaky(function);
+            ThrowingToCharFunction<String, IOException> checked = ThrowingToCharFunction.checked(sneaky);
+            ThrowingToCharFunction<String, IOException> checkedWithErrorType = ThrowingToCharFunction.checked(sneaky, IOException.class);
+
+            ThrowingToCharFunction<String, RuntimeException> unchecked = ThrowingToCharFunction.unchecked(checked);
+            ThrowingToCharFunction<String, RuntimeException> uncheckedWithErrorType = ThrowingToCharFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsChar("a"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsChar("a"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingToCharFunction<String, RuntimeException> function = t -> t.charAt(0);
+
+            ThrowingToCharFunction<String, IOException> checked = ThrowingToCharFunction.checked(function);
+
+            assertSame(function, ThrowingToCharFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingToCharFunction<String, IOException> function = t -> t.charAt(0);
+
+            ThrowingToCharFunction<String, RuntimeException> sneaky = ThrowingToCharFunction.sneaky(function);
+
+            assertSame(function, ThrowingToCharFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingToCharFunction<String, IOException> function = t -> {
+                throw new IOException(t);
+            };
+
+            ThrowingToCharFunction<String, RuntimeException> unchecked = ThrowingToCharFunction.unchecked(function);
+            ThrowingToCharFunction<String, IOException> checked = ThrowingToCharFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsChar("a"));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingToCharFunction<String, IOException> function = t -> {
+                throw new IOException(t);
+            };
+
+            ThrowingToCharFunction<String, RuntimeException> unchecked = ThrowingToCharFunction.unchecked(function);
+            ThrowingToCharFunction<String, ParseException> checked = ThrowingToCharFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsChar("a"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingToCharFunction<String, RuntimeException> function = t -> t.charAt(0);
+
+            assertThrows(NullPointerException.class, () -> ThrowingToCharFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingToCharFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToCharFunction<String, IOException> function = ThrowingToCharFunction.catching(t -> t.charAt(0), IOException.class);
+
+            assertEquals('a', function.applyAsChar("a"));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingToCharFunction<String, RuntimeException> sneaky = ThrowingToCharFunction.sneaky(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToCharFunction<String, IOException> function = ThrowingToCharFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAsChar("a"));
+            assertEquals("a", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingToCharFunction<String, RuntimeException> sneaky = ThrowingToCharFunction.sneaky(t -> {
+                throw new ParseException(t, 0);
+            });
+
+            ThrowingToCharFunction<String, IOException> function = ThrowingToCharFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsChar("a"));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("a", cause.getMessage());
+        }
+    }
+}
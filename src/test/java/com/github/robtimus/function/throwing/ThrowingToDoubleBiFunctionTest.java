@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -817,7 +819,6 @@ class ThrowingToDoubleBiFunctionTest {
 
             verify(function).applyAsDouble("foo", "bar");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -835,7 +836,6 @@ class ThrowingToDoubleBiFunctionTest {
 
             verify(function).applyAsDouble("foo", "bar");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -852,7 +852,195 @@ class ThrowingToDoubleBiFunctionTest {
 
             verify(function).applyAsDouble("foo", "bar");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = Spied.throwingToDoubleBiFunction((s1, s2) -> s1.concat(s2).length());
+
+            ToDoubleBiFunction<String, String> sneaky = function.sneaky();
+
+            assertEquals(6D, sneaky.applyAsDouble("foo", "bar"));
+
+            verify(function).applyAsDouble("foo", "bar");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = Spied.throwingToDoubleBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            ToDoubleBiFunction<String, String> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsDouble("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).applyAsDouble("foo", "bar");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = Spied
+                    .throwingToDoubleBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            ToDoubleBiFunction<String, String> sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsDouble("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).applyAsDouble("foo", "bar");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = Spied.throwingToDoubleBiFunction((s1, s2) -> s1.concat(s2).length());
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToDoubleBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(6D, instrumented.applyAsDouble("foo", "bar"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble("foo", "bar");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = Spied.throwingToDoubleBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToDoubleBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsDouble("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble("foo", "bar");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = Spied
+                    .throwingToDoubleBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToDoubleBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsDouble("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble("foo", "bar");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = Spied.throwingToDoubleBiFunction((s1, s2) -> s1.concat(s2).length());
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToDoubleBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(6D, instrumented.applyAsDouble("foo", "bar"));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble("foo", "bar");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = Spied.throwingToDoubleBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToDoubleBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsDouble("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble("foo", "bar");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = Spied
+                    .throwingToDoubleBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToDoubleBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsDouble("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble("foo", "bar");
+            verify(function).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(function);
         }
     }
@@ -890,7 +1078,6 @@ class ThrowingToDoubleBiFunctionTest {
             assertEquals(6D, unchecked.applyAsDouble("foo", "bar"));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsDouble("foo", "bar");
             verifyNoMoreInteractions(function);
         }
@@ -908,7 +1095,6 @@ class ThrowingToDoubleBiFunctionTest {
             assertEquals("foobar", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsDouble("foo", "bar");
             verifyNoMoreInteractions(function);
         }
@@ -925,7 +1111,60 @@ class ThrowingToDoubleBiFunctionTest {
             assertEquals("foobar", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).applyAsDouble("foo", "bar");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = Spied.throwingToDoubleBiFunction((s1, s2) -> s1.concat(s2).length());
+
+            ToDoubleBiFunction<String, String> sneaky = ThrowingToDoubleBiFunction.sneaky(function);
+
+            assertEquals(6D, sneaky.applyAsDouble("foo", "bar"));
+
+            verify(function).sneaky();
+            verify(function).applyAsDouble("foo", "bar");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = Spied.throwingToDoubleBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            ToDoubleBiFunction<String, String> sneaky = ThrowingToDoubleBiFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsDouble("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsDouble("foo", "bar");
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = Spied
+                    .throwingToDoubleBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            ToDoubleBiFunction<String, String> sneaky = ThrowingToDoubleBiFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsDouble("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).applyAsDouble("foo", "bar");
             verifyNoMoreInteractions(function);
         }
@@ -1024,4 +1263,160 @@ class ThrowingToDoubleBiFunctionTest {
             assertEquals("foobar", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            ToDoubleBiFunction<String, String> sneaky = ThrowingToDoubleBiFunction.sneaky(function);
+            ThrowingToDoubleBiFunction<String, String, IOException> checked = ThrowingToDoubleBiFunction.checked(sneaky);
+            ThrowingToDoubleBiFunction<String, String, IOException> checkedWithErrorType =
+                    ThrowingToDoubleBiFunction.checked(sneaky, IOException.class);
+
+            ToDoubleBiFunction<String, String> unchecked = ThrowingToDoubleBiFunction.unchecked(checked);
+            ToDoubleBiFunction<String, String> uncheckedWithErrorType = ThrowingToDoubleBiFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsDouble("foo", "foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsDouble("foo", "foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ToDoubleBiFunction<String, String> function = (t, u) -> 1D;
+
+            ThrowingToDoubleBiFunction<String, String, IOException> checked = ThrowingToDoubleBiFunction.checked(function);
+
+            assertSame(function, ThrowingToDoubleBiFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = (t, u) -> 1D;
+
+            ToDoubleBiFunction<String, String> sneaky = ThrowingToDoubleBiFunction.sneaky(function);
+
+            assertSame(function, ThrowingToDoubleBiFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            ToDoubleBiFunction<String, String> unchecked = ThrowingToDoubleBiFunction.unchecked(function);
+            ThrowingToDoubleBiFunction<String, String, IOException> checked = ThrowingToDoubleBiFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsDouble("foo", "foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            ToDoubleBiFunction<String, String> unchecked = ThrowingToDoubleBiFunction.unchecked(function);
+            ThrowingToDoubleBiFunction<String, String, ParseException> checked = ThrowingToDoubleBiFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsDouble("foo", "foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            ToDoubleBiFunction<String, String> unchecked = ThrowingToDoubleBiFunction.unchecked(function);
+            ThrowingToDoubleBiFunction<String, String, IOException> checked = ThrowingToDoubleBiFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsDouble("foo", "foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ToDoubleBiFunction<String, String> function = (s1, s2) -> s1.concat(s2).length();
+
+            assertThrows(NullPointerException.class, () -> ThrowingToDoubleBiFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingToDoubleBiFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = ThrowingToDoubleBiFunction
+                    .catching((s1, s2) -> s1.concat(s2).length(), IOException.class);
+
+            assertEquals(6D, function.applyAsDouble("foo", "bar"));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                ToDoubleBiFunction<String, String> sneaky = ThrowingToDoubleBiFunction.sneaky((s1, s2) -> {
+                    throw new IOException(s1 + s2);
+                });
+
+                ThrowingToDoubleBiFunction<String, String, IOException> function = ThrowingToDoubleBiFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.applyAsDouble("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                ToDoubleBiFunction<String, String> sneaky = ThrowingToDoubleBiFunction.sneaky((s1, s2) -> {
+                    throw new FileNotFoundException(s1 + s2);
+                });
+
+                ThrowingToDoubleBiFunction<String, String, IOException> function = ThrowingToDoubleBiFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.applyAsDouble("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                ToDoubleBiFunction<String, String> sneaky = ThrowingToDoubleBiFunction.sneaky((s1, s2) -> {
+                    throw new ParseException(s1 + s2, 0);
+                });
+
+                ThrowingToDoubleBiFunction<String, String, IOException> function = ThrowingToDoubleBiFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsDouble("foo", "bar"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foobar", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingToDoubleBiFunction<String, String, IOException> function = ThrowingToDoubleBiFunction.catching((s1, s2) -> {
+                throw new IllegalStateException(s1 + s2);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.applyAsDouble("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+        }
+    }
 }
@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -803,7 +805,6 @@ class ThrowingToDoubleFunctionTest {
 
             verify(function).applyAsDouble("foo");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -821,7 +822,6 @@ class ThrowingToDoubleFunctionTest {
 
             verify(function).applyAsDouble("foo");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -837,7 +837,192 @@ class ThrowingToDoubleFunctionTest {
 
             verify(function).applyAsDouble("foo");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToDoubleFunction<String, IOException> function = Spied.throwingToDoubleFunction(String::length);
+
+            ToDoubleFunction<String> sneaky = function.sneaky();
+
+            assertEquals(3D, sneaky.applyAsDouble("foo"));
+
+            verify(function).applyAsDouble("foo");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToDoubleFunction<String, IOException> function = Spied.throwingToDoubleFunction(s -> {
+                throw new IOException(s);
+            });
+
+            ToDoubleFunction<String> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsDouble("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).applyAsDouble("foo");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToDoubleFunction<String, IOException> function = Spied.throwingToDoubleFunction(throwable::throwUnchecked);
+
+            ToDoubleFunction<String> sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsDouble("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).applyAsDouble("foo");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToDoubleFunction<String, IOException> function = Spied.throwingToDoubleFunction(String::length);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(3D, instrumented.applyAsDouble("foo"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble("foo");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToDoubleFunction<String, IOException> function = Spied.throwingToDoubleFunction(s -> {
+                throw new IOException(s);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsDouble("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble("foo");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToDoubleFunction<String, IOException> function = Spied.throwingToDoubleFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsDouble("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsDouble("foo");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToDoubleFunction<String, IOException> function = Spied.throwingToDoubleFunction(String::length);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(3D, instrumented.applyAsDouble("foo"));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble("foo");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToDoubleFunction<String, IOException> function = Spied.throwingToDoubleFunction(s -> {
+                throw new IOException(s);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsDouble("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble("foo");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToDoubleFunction<String, IOException> function = Spied.throwingToDoubleFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToDoubleFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsDouble("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsDouble("foo");
+            verify(function).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(function);
         }
     }
@@ -875,7 +1060,6 @@ class ThrowingToDoubleFunctionTest {
             assertEquals(3D, unchecked.applyAsDouble("foo"));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsDouble("foo");
             verifyNoMoreInteractions(function);
         }
@@ -893,7 +1077,6 @@ class ThrowingToDoubleFunctionTest {
             assertEquals("foo", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsDouble("foo");
             verifyNoMoreInteractions(function);
         }
@@ -909,7 +1092,59 @@ class ThrowingToDoubleFunctionTest {
             assertEquals("foo", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).applyAsDouble("foo");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToDoubleFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToDoubleFunction<String, IOException> function = Spied.throwingToDoubleFunction(String::length);
+
+            ToDoubleFunction<String> sneaky = ThrowingToDoubleFunction.sneaky(function);
+
+            assertEquals(3D, sneaky.applyAsDouble("foo"));
+
+            verify(function).sneaky();
+            verify(function).applyAsDouble("foo");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingToDoubleFunction<String, IOException> function = Spied.throwingToDoubleFunction(s -> {
+                throw new IOException(s);
+            });
+
+            ToDoubleFunction<String> sneaky = ThrowingToDoubleFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsDouble("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsDouble("foo");
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToDoubleFunction<String, IOException> function = Spied.throwingToDoubleFunction(throwable::throwUnchecked);
+
+            ToDoubleFunction<String> sneaky = ThrowingToDoubleFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsDouble("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).applyAsDouble("foo");
             verifyNoMoreInteractions(function);
         }
@@ -1007,4 +1242,158 @@ class ThrowingToDoubleFunctionTest {
             assertEquals("foo", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingToDoubleFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            ToDoubleFunction<String> sneaky = ThrowingToDoubleFunction.sneaky(function);
+            ThrowingToDoubleFunction<String, IOException> checked = ThrowingToDoubleFunction.checked(sneaky);
+            ThrowingToDoubleFunction<String, IOException> checkedWithErrorType = ThrowingToDoubleFunction.checked(sneaky, IOException.class);
+
+            ToDoubleFunction<String> unchecked = ThrowingToDoubleFunction.unchecked(checked);
+            ToDoubleFunction<String> uncheckedWithErrorType = ThrowingToDoubleFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsDouble("foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsDouble("foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ToDoubleFunction<String> function = value -> 1D;
+
+            ThrowingToDoubleFunction<String, IOException> checked = ThrowingToDoubleFunction.checked(function);
+
+            assertSame(function, ThrowingToDoubleFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingToDoubleFunction<String, IOException> function = value -> 1D;
+
+            ToDoubleFunction<String> sneaky = ThrowingToDoubleFunction.sneaky(function);
+
+            assertSame(function, ThrowingToDoubleFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingToDoubleFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            ToDoubleFunction<String> unchecked = ThrowingToDoubleFunction.unchecked(function);
+            ThrowingToDoubleFunction<String, IOException> checked = ThrowingToDoubleFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsDouble("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingToDoubleFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            ToDoubleFunction<String> unchecked = ThrowingToDoubleFunction.unchecked(function);
+            ThrowingToDoubleFunction<String, ParseException> checked = ThrowingToDoubleFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsDouble("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingToDoubleFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            ToDoubleFunction<String> unchecked = ThrowingToDoubleFunction.unchecked(function);
+            ThrowingToDoubleFunction<String, IOException> checked = ThrowingToDoubleFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsDouble("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ToDoubleFunction<String> function = String::length;
+
+            assertThrows(NullPointerException.class, () -> ThrowingToDoubleFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingToDoubleFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToDoubleFunction<String, IOException> function = ThrowingToDoubleFunction.catching(String::length, IOException.class);
+
+            assertEquals(3D, function.applyAsDouble("foo"));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                ToDoubleFunction<String> sneaky = ThrowingToDoubleFunction.sneaky(s -> {
+                    throw new IOException(s);
+                });
+
+                ThrowingToDoubleFunction<String, IOException> function = ThrowingToDoubleFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.applyAsDouble("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                ToDoubleFunction<String> sneaky = ThrowingToDoubleFunction.sneaky(s -> {
+                    throw new FileNotFoundException(s);
+                });
+
+                ThrowingToDoubleFunction<String, IOException> function = ThrowingToDoubleFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.applyAsDouble("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                ToDoubleFunction<String> sneaky = ThrowingToDoubleFunction.sneaky(s -> {
+                    throw new ParseException(s, 0);
+                });
+
+                ThrowingToDoubleFunction<String, IOException> function = ThrowingToDoubleFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsDouble("foo"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingToDoubleFunction<String, IOException> function = ThrowingToDoubleFunction.catching(s -> {
+                throw new IllegalStateException(s);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.applyAsDouble("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+    }
 }
@@ -0,0 +1,921 @@
+/*
+ * ThrowingToFloatFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingToFloatFunctionTest {
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingToFloatFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals(1.5f, throwing.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingToFloatFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.applyAsFloat("1.5"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> throwable.throwUnchecked(t));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingToFloatFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsFloat("1.5"));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingToFloatFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals(1.5f, throwing.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingToFloatFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.applyAsFloat("1.5"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> throwable.throwUnchecked(t));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingToFloatFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsFloat("1.5"));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            ThrowingToFloatFunction<IOException, ParseException> errorHandler = Spied.throwingToFloatFunction(e -> -1.0f);
+
+            ThrowingToFloatFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals(1.5f, handling.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToFloatFunction<IOException, ParseException> errorHandler = Spied.throwingToFloatFunction(e -> -1.0f);
+
+            ThrowingToFloatFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals(-1.0f, handling.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsFloat(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            ThrowingToFloatFunction<IOException, RuntimeException> errorHandler = Spied.throwingToFloatFunction(e -> -1.0f);
+
+            ThrowingToFloatFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(1.5f, handling.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToFloatFunction<IOException, RuntimeException> errorHandler = Spied.throwingToFloatFunction(e -> -1.0f);
+
+            ThrowingToFloatFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals(-1.0f, handling.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsFloat(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            ThrowingToFloatFunction<String, ParseException> fallback = Spied.throwingToFloatFunction(t -> -1.0f);
+
+            ThrowingToFloatFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals(1.5f, fallingBack.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToFloatFunction<String, ParseException> fallback = Spied.throwingToFloatFunction(t -> -1.0f);
+
+            ThrowingToFloatFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals(-1.0f, fallingBack.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).applyAsFloat("1.5");
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            ThrowingToFloatFunction<String, RuntimeException> fallback = Spied.throwingToFloatFunction(t -> -1.0f);
+
+            ThrowingToFloatFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals(1.5f, fallingBack.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToFloatFunction<String, RuntimeException> fallback = Spied.throwingToFloatFunction(t -> -1.0f);
+
+            ThrowingToFloatFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals(-1.0f, fallingBack.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).applyAsFloat("1.5");
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            ThrowingFloatSupplier<ParseException> fallback = Spied.throwingFloatSupplier(() -> -1.0f);
+
+            ThrowingToFloatFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals(1.5f, fallingBack.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingFloatSupplier<ParseException> fallback = Spied.throwingFloatSupplier(() -> -1.0f);
+
+            ThrowingToFloatFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals(-1.0f, fallingBack.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).getAsFloat();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            ThrowingFloatSupplier<RuntimeException> fallback = Spied.throwingFloatSupplier(() -> -1.0f);
+
+            ThrowingToFloatFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals(1.5f, fallingBack.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingFloatSupplier<RuntimeException> fallback = Spied.throwingFloatSupplier(() -> -1.0f);
+
+            ThrowingToFloatFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals(-1.0f, fallingBack.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).getAsFloat();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            ThrowingToFloatFunction<String, RuntimeException> returning = function.onErrorReturn(-1.0f);
+
+            assertEquals(1.5f, returning.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorReturn(-1.0f);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToFloatFunction<String, RuntimeException> returning = function.onErrorReturn(-1.0f);
+
+            assertEquals(-1.0f, returning.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).onErrorReturn(-1.0f);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            ThrowingToFloatFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals(1.5f, unchecked.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToFloatFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsFloat("1.5"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> throwable.throwUnchecked(t));
+
+            ThrowingToFloatFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.applyAsFloat("1.5"));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+
+            ThrowingToFloatFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals(1.5f, sneaky.applyAsFloat("1.5"));
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToFloatFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsFloat("1.5"));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToFloatFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(1.5f, instrumented.applyAsFloat("1.5"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToFloatFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsFloat("1.5"));
+            assertEquals("1.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> throwable.throwUnchecked(t));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToFloatFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsFloat("1.5"));
+            assertEquals("1.5", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsFloat("1.5");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(Float::parseFloat);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToFloatFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(1.5f, instrumented.applyAsFloat("1.5"));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsFloat("1.5");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToFloatFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsFloat("1.5"));
+                assertEquals("1.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsFloat("1.5");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> throwable.throwUnchecked(t));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToFloatFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsFloat("1.5"));
+                assertEquals("1.5", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsFloat("1.5");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToFloatFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = ThrowingToFloatFunction.of(Float::parseFloat);
+
+            assertEquals(1.5f, function.applyAsFloat("1.5"));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToFloatFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToFloatFunction<String, RuntimeException> unchecked = ThrowingToFloatFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsFloat("1.5"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).applyAsFloat("1.5");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToFloatFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = Spied.throwingToFloatFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToFloatFunction<String, RuntimeException> sneaky = ThrowingToFloatFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsFloat("1.5"));
+            assertEquals("1.5", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsFloat("1.5");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToFloatFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = ThrowingToFloatFunction.checked(Float::parseFloat);
+
+            assertEquals(1.5f, function.applyAsFloat("1.5"));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingToFloatFunction<String, IOException> function = ThrowingToFloatFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsFloat("1.5"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingToFloatFunction<String, RuntimeException> function = Float::parseFloat;
+
+            assertThrows(NullPointerException.class, () -> ThrowingToFloatFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingToFloatFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingToFloatFunction<String, IOException> function = ThrowingToFloatFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAsFloat("1.5"));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingToFloatFunction<String, IOException> function = ThrowingToFloatFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(t, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsFloat("1.5"));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingToFloatFunction<String, IOException> function = t -> {
+                throw new IOException(t);
+            };
+
+            ThrowingToFloatFunction<String, RuntimeException> sneaky = ThrowingToFloatFunction.sneaky(function);
+            ThrowingToFloatFunction<String, IOException> checked = ThrowingToFloatFunction.checked(sneaky);
+            ThrowingToFloatFunction<String, IOException> checkedWithErrorType = ThrowingToFloatFunction.checked(sneaky, IOException.class);
+
+            ThrowingToFloatFunction<String, RuntimeException> unchecked = ThrowingToFloatFunction.unchecked(checked);
+            ThrowingToFloatFunction<String, RuntimeException> uncheckedWithErrorType = ThrowingToFloatFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsFloat("1.5"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsFloat("1.5"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingToFloatFunction<String, RuntimeException> function = Float::parseFloat;
+
+            ThrowingToFloatFunction<String, IOException> checked = ThrowingToFloatFunction.checked(function);
+
+            assertSame(function, ThrowingToFloatFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingToFloatFunction<String, IOException> function = Float::parseFloat;
+
+            ThrowingToFloatFunction<String, RuntimeException> sneaky = ThrowingToFloatFunction.sneaky(function);
+
+            assertSame(function, ThrowingToFloatFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingToFloatFunction<String, IOException> function = t -> {
+                throw new IOException(t);
+            };
+
+            ThrowingToFloatFunction<String, RuntimeException> unchecked = ThrowingToFloatFunction.unchecked(function);
+            ThrowingToFloatFunction<String, IOException> checked = ThrowingToFloatFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsFloat("1.5"));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingToFloatFunction<String, IOException> function = t -> {
+                throw new IOException(t);
+            };
+
+            ThrowingToFloatFunction<String, RuntimeException> unchecked = ThrowingToFloatFunction.unchecked(function);
+            ThrowingToFloatFunction<String, ParseException> checked = ThrowingToFloatFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsFloat("1.5"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingToFloatFunction<String, RuntimeException> function = Float::parseFloat;
+
+            assertThrows(NullPointerException.class, () -> ThrowingToFloatFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingToFloatFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToFloatFunction<String, IOException> function = ThrowingToFloatFunction.catching(Float::parseFloat, IOException.class);
+
+            assertEquals(1.5f, function.applyAsFloat("1.5"));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingToFloatFunction<String, RuntimeException> sneaky = ThrowingToFloatFunction.sneaky(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToFloatFunction<String, IOException> function = ThrowingToFloatFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAsFloat("1.5"));
+            assertEquals("1.5", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingToFloatFunction<String, RuntimeException> sneaky = ThrowingToFloatFunction.sneaky(t -> {
+                throw new ParseException(t, 0);
+            });
+
+            ThrowingToFloatFunction<String, IOException> function = ThrowingToFloatFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsFloat("1.5"));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1.5", cause.getMessage());
+        }
+    }
+}
@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -816,7 +818,6 @@ class ThrowingToIntBiFunctionTest {
 
             verify(function).applyAsInt("foo", "bar");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -834,7 +835,6 @@ class ThrowingToIntBiFunctionTest {
 
             verify(function).applyAsInt("foo", "bar");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -851,7 +851,195 @@ class ThrowingToIntBiFunctionTest {
 
             verify(function).applyAsInt("foo", "bar");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToIntBiFunction<String, String, IOException> function = Spied.throwingToIntBiFunction((s1, s2) -> s1.concat(s2).length());
+
+            ToIntBiFunction<String, String> sneaky = function.sneaky();
+
+            assertEquals(6, sneaky.applyAsInt("foo", "bar"));
+
+            verify(function).applyAsInt("foo", "bar");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToIntBiFunction<String, String, IOException> function = Spied.throwingToIntBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            ToIntBiFunction<String, String> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsInt("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).applyAsInt("foo", "bar");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToIntBiFunction<String, String, IOException> function = Spied
+                    .throwingToIntBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            ToIntBiFunction<String, String> sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsInt("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).applyAsInt("foo", "bar");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToIntBiFunction<String, String, IOException> function = Spied.throwingToIntBiFunction((s1, s2) -> s1.concat(s2).length());
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToIntBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(6, instrumented.applyAsInt("foo", "bar"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt("foo", "bar");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToIntBiFunction<String, String, IOException> function = Spied.throwingToIntBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToIntBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsInt("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt("foo", "bar");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToIntBiFunction<String, String, IOException> function = Spied
+                    .throwingToIntBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToIntBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsInt("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt("foo", "bar");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToIntBiFunction<String, String, IOException> function = Spied.throwingToIntBiFunction((s1, s2) -> s1.concat(s2).length());
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToIntBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(6, instrumented.applyAsInt("foo", "bar"));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt("foo", "bar");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToIntBiFunction<String, String, IOException> function = Spied.throwingToIntBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToIntBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsInt("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt("foo", "bar");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToIntBiFunction<String, String, IOException> function = Spied
+                    .throwingToIntBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToIntBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsInt("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt("foo", "bar");
+            verify(function).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(function);
         }
     }
@@ -889,7 +1077,6 @@ class ThrowingToIntBiFunctionTest {
             assertEquals(6, unchecked.applyAsInt("foo", "bar"));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsInt("foo", "bar");
             verifyNoMoreInteractions(function);
         }
@@ -907,7 +1094,6 @@ class ThrowingToIntBiFunctionTest {
             assertEquals("foobar", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsInt("foo", "bar");
             verifyNoMoreInteractions(function);
         }
@@ -924,7 +1110,60 @@ class ThrowingToIntBiFunctionTest {
             assertEquals("foobar", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).applyAsInt("foo", "bar");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToIntBiFunction<String, String, IOException> function = Spied.throwingToIntBiFunction((s1, s2) -> s1.concat(s2).length());
+
+            ToIntBiFunction<String, String> sneaky = ThrowingToIntBiFunction.sneaky(function);
+
+            assertEquals(6, sneaky.applyAsInt("foo", "bar"));
+
+            verify(function).sneaky();
+            verify(function).applyAsInt("foo", "bar");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingToIntBiFunction<String, String, IOException> function = Spied.throwingToIntBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            ToIntBiFunction<String, String> sneaky = ThrowingToIntBiFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsInt("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsInt("foo", "bar");
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToIntBiFunction<String, String, IOException> function = Spied
+                    .throwingToIntBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            ToIntBiFunction<String, String> sneaky = ThrowingToIntBiFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsInt("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).applyAsInt("foo", "bar");
             verifyNoMoreInteractions(function);
         }
@@ -1023,4 +1262,159 @@ class ThrowingToIntBiFunctionTest {
             assertEquals("foobar", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingToIntBiFunction<String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            ToIntBiFunction<String, String> sneaky = ThrowingToIntBiFunction.sneaky(function);
+            ThrowingToIntBiFunction<String, String, IOException> checked = ThrowingToIntBiFunction.checked(sneaky);
+            ThrowingToIntBiFunction<String, String, IOException> checkedWithErrorType = ThrowingToIntBiFunction.checked(sneaky, IOException.class);
+
+            ToIntBiFunction<String, String> unchecked = ThrowingToIntBiFunction.unchecked(checked);
+            ToIntBiFunction<String, String> uncheckedWithErrorType = ThrowingToIntBiFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsInt("foo", "foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsInt("foo", "foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ToIntBiFunction<String, String> function = (t, u) -> 1;
+
+            ThrowingToIntBiFunction<String, String, IOException> checked = ThrowingToIntBiFunction.checked(function);
+
+            assertSame(function, ThrowingToIntBiFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingToIntBiFunction<String, String, IOException> function = (t, u) -> 1;
+
+            ToIntBiFunction<String, String> sneaky = ThrowingToIntBiFunction.sneaky(function);
+
+            assertSame(function, ThrowingToIntBiFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingToIntBiFunction<String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            ToIntBiFunction<String, String> unchecked = ThrowingToIntBiFunction.unchecked(function);
+            ThrowingToIntBiFunction<String, String, IOException> checked = ThrowingToIntBiFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsInt("foo", "foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingToIntBiFunction<String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            ToIntBiFunction<String, String> unchecked = ThrowingToIntBiFunction.unchecked(function);
+            ThrowingToIntBiFunction<String, String, ParseException> checked = ThrowingToIntBiFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsInt("foo", "foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingToIntBiFunction<String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            ToIntBiFunction<String, String> unchecked = ThrowingToIntBiFunction.unchecked(function);
+            ThrowingToIntBiFunction<String, String, IOException> checked = ThrowingToIntBiFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsInt("foo", "foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ToIntBiFunction<String, String> function = (s1, s2) -> s1.concat(s2).length();
+
+            assertThrows(NullPointerException.class, () -> ThrowingToIntBiFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingToIntBiFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToIntBiFunction<String, String, IOException> function = ThrowingToIntBiFunction
+                    .catching((s1, s2) -> s1.concat(s2).length(), IOException.class);
+
+            assertEquals(6, function.applyAsInt("foo", "bar"));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                ToIntBiFunction<String, String> sneaky = ThrowingToIntBiFunction.sneaky((s1, s2) -> {
+                    throw new IOException(s1 + s2);
+                });
+
+                ThrowingToIntBiFunction<String, String, IOException> function = ThrowingToIntBiFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.applyAsInt("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                ToIntBiFunction<String, String> sneaky = ThrowingToIntBiFunction.sneaky((s1, s2) -> {
+                    throw new FileNotFoundException(s1 + s2);
+                });
+
+                ThrowingToIntBiFunction<String, String, IOException> function = ThrowingToIntBiFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.applyAsInt("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                ToIntBiFunction<String, String> sneaky = ThrowingToIntBiFunction.sneaky((s1, s2) -> {
+                    throw new ParseException(s1 + s2, 0);
+                });
+
+                ThrowingToIntBiFunction<String, String, IOException> function = ThrowingToIntBiFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsInt("foo", "bar"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foobar", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingToIntBiFunction<String, String, IOException> function = ThrowingToIntBiFunction.catching((s1, s2) -> {
+                throw new IllegalStateException(s1 + s2);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.applyAsInt("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+        }
+    }
 }
@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -803,7 +805,6 @@ class ThrowingToIntFunctionTest {
 
             verify(function).applyAsInt("foo");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -821,7 +822,6 @@ class ThrowingToIntFunctionTest {
 
             verify(function).applyAsInt("foo");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -837,7 +837,192 @@ class ThrowingToIntFunctionTest {
 
             verify(function).applyAsInt("foo");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToIntFunction<String, IOException> function = Spied.throwingToIntFunction(String::length);
+
+            ToIntFunction<String> sneaky = function.sneaky();
+
+            assertEquals(3, sneaky.applyAsInt("foo"));
+
+            verify(function).applyAsInt("foo");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToIntFunction<String, IOException> function = Spied.throwingToIntFunction(s -> {
+                throw new IOException(s);
+            });
+
+            ToIntFunction<String> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsInt("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).applyAsInt("foo");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToIntFunction<String, IOException> function = Spied.throwingToIntFunction(throwable::throwUnchecked);
+
+            ToIntFunction<String> sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsInt("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).applyAsInt("foo");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToIntFunction<String, IOException> function = Spied.throwingToIntFunction(String::length);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToIntFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(3, instrumented.applyAsInt("foo"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt("foo");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToIntFunction<String, IOException> function = Spied.throwingToIntFunction(s -> {
+                throw new IOException(s);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToIntFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsInt("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt("foo");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToIntFunction<String, IOException> function = Spied.throwingToIntFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToIntFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsInt("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsInt("foo");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToIntFunction<String, IOException> function = Spied.throwingToIntFunction(String::length);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToIntFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(3, instrumented.applyAsInt("foo"));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt("foo");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToIntFunction<String, IOException> function = Spied.throwingToIntFunction(s -> {
+                throw new IOException(s);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToIntFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsInt("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt("foo");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToIntFunction<String, IOException> function = Spied.throwingToIntFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToIntFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsInt("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsInt("foo");
+            verify(function).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(function);
         }
     }
@@ -875,7 +1060,6 @@ class ThrowingToIntFunctionTest {
             assertEquals(3, unchecked.applyAsInt("foo"));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsInt("foo");
             verifyNoMoreInteractions(function);
         }
@@ -893,7 +1077,6 @@ class ThrowingToIntFunctionTest {
             assertEquals("foo", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsInt("foo");
             verifyNoMoreInteractions(function);
         }
@@ -909,7 +1092,59 @@ class ThrowingToIntFunctionTest {
             assertEquals("foo", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).applyAsInt("foo");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToIntFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToIntFunction<String, IOException> function = Spied.throwingToIntFunction(String::length);
+
+            ToIntFunction<String> sneaky = ThrowingToIntFunction.sneaky(function);
+
+            assertEquals(3, sneaky.applyAsInt("foo"));
+
+            verify(function).sneaky();
+            verify(function).applyAsInt("foo");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingToIntFunction<String, IOException> function = Spied.throwingToIntFunction(s -> {
+                throw new IOException(s);
+            });
+
+            ToIntFunction<String> sneaky = ThrowingToIntFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsInt("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsInt("foo");
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToIntFunction<String, IOException> function = Spied.throwingToIntFunction(throwable::throwUnchecked);
+
+            ToIntFunction<String> sneaky = ThrowingToIntFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsInt("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).applyAsInt("foo");
             verifyNoMoreInteractions(function);
         }
@@ -1007,4 +1242,158 @@ class ThrowingToIntFunctionTest {
             assertEquals("foo", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingToIntFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            ToIntFunction<String> sneaky = ThrowingToIntFunction.sneaky(function);
+            ThrowingToIntFunction<String, IOException> checked = ThrowingToIntFunction.checked(sneaky);
+            ThrowingToIntFunction<String, IOException> checkedWithErrorType = ThrowingToIntFunction.checked(sneaky, IOException.class);
+
+            ToIntFunction<String> unchecked = ThrowingToIntFunction.unchecked(checked);
+            ToIntFunction<String> uncheckedWithErrorType = ThrowingToIntFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsInt("foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsInt("foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ToIntFunction<String> function = value -> 1;
+
+            ThrowingToIntFunction<String, IOException> checked = ThrowingToIntFunction.checked(function);
+
+            assertSame(function, ThrowingToIntFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingToIntFunction<String, IOException> function = value -> 1;
+
+            ToIntFunction<String> sneaky = ThrowingToIntFunction.sneaky(function);
+
+            assertSame(function, ThrowingToIntFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingToIntFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            ToIntFunction<String> unchecked = ThrowingToIntFunction.unchecked(function);
+            ThrowingToIntFunction<String, IOException> checked = ThrowingToIntFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsInt("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingToIntFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            ToIntFunction<String> unchecked = ThrowingToIntFunction.unchecked(function);
+            ThrowingToIntFunction<String, ParseException> checked = ThrowingToIntFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsInt("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingToIntFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            ToIntFunction<String> unchecked = ThrowingToIntFunction.unchecked(function);
+            ThrowingToIntFunction<String, IOException> checked = ThrowingToIntFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsInt("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ToIntFunction<String> function = String::length;
+
+            assertThrows(NullPointerException.class, () -> ThrowingToIntFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingToIntFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToIntFunction<String, IOException> function = ThrowingToIntFunction.catching(String::length, IOException.class);
+
+            assertEquals(3, function.applyAsInt("foo"));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                ToIntFunction<String> sneaky = ThrowingToIntFunction.sneaky(s -> {
+                    throw new IOException(s);
+                });
+
+                ThrowingToIntFunction<String, IOException> function = ThrowingToIntFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.applyAsInt("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                ToIntFunction<String> sneaky = ThrowingToIntFunction.sneaky(s -> {
+                    throw new FileNotFoundException(s);
+                });
+
+                ThrowingToIntFunction<String, IOException> function = ThrowingToIntFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.applyAsInt("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                ToIntFunction<String> sneaky = ThrowingToIntFunction.sneaky(s -> {
+                    throw new ParseException(s, 0);
+                });
+
+                ThrowingToIntFunction<String, IOException> function = ThrowingToIntFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsInt("foo"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingToIntFunction<String, IOException> function = ThrowingToIntFunction.catching(s -> {
+                throw new IllegalStateException(s);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.applyAsInt("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+    }
 }
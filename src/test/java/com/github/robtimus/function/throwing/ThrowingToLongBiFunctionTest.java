@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -817,7 +819,6 @@ class ThrowingToLongBiFunctionTest {
 
             verify(function).applyAsLong("foo", "bar");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -835,7 +836,6 @@ class ThrowingToLongBiFunctionTest {
 
             verify(function).applyAsLong("foo", "bar");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -852,7 +852,195 @@ class ThrowingToLongBiFunctionTest {
 
             verify(function).applyAsLong("foo", "bar");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToLongBiFunction<String, String, IOException> function = Spied.throwingToLongBiFunction((s1, s2) -> s1.concat(s2).length());
+
+            ToLongBiFunction<String, String> sneaky = function.sneaky();
+
+            assertEquals(6L, sneaky.applyAsLong("foo", "bar"));
+
+            verify(function).applyAsLong("foo", "bar");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToLongBiFunction<String, String, IOException> function = Spied.throwingToLongBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            ToLongBiFunction<String, String> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsLong("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).applyAsLong("foo", "bar");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToLongBiFunction<String, String, IOException> function = Spied
+                    .throwingToLongBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            ToLongBiFunction<String, String> sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsLong("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).applyAsLong("foo", "bar");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToLongBiFunction<String, String, IOException> function = Spied.throwingToLongBiFunction((s1, s2) -> s1.concat(s2).length());
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToLongBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(6L, instrumented.applyAsLong("foo", "bar"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong("foo", "bar");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToLongBiFunction<String, String, IOException> function = Spied.throwingToLongBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToLongBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsLong("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong("foo", "bar");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToLongBiFunction<String, String, IOException> function = Spied
+                    .throwingToLongBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToLongBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsLong("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong("foo", "bar");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToLongBiFunction<String, String, IOException> function = Spied.throwingToLongBiFunction((s1, s2) -> s1.concat(s2).length());
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToLongBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(6L, instrumented.applyAsLong("foo", "bar"));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong("foo", "bar");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToLongBiFunction<String, String, IOException> function = Spied.throwingToLongBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToLongBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsLong("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong("foo", "bar");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToLongBiFunction<String, String, IOException> function = Spied
+                    .throwingToLongBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToLongBiFunction<String, String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsLong("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong("foo", "bar");
+            verify(function).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(function);
         }
     }
@@ -890,7 +1078,6 @@ class ThrowingToLongBiFunctionTest {
             assertEquals(6L, unchecked.applyAsLong("foo", "bar"));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsLong("foo", "bar");
             verifyNoMoreInteractions(function);
         }
@@ -908,7 +1095,6 @@ class ThrowingToLongBiFunctionTest {
             assertEquals("foobar", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsLong("foo", "bar");
             verifyNoMoreInteractions(function);
         }
@@ -925,7 +1111,60 @@ class ThrowingToLongBiFunctionTest {
             assertEquals("foobar", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).applyAsLong("foo", "bar");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToLongBiFunction<String, String, IOException> function = Spied.throwingToLongBiFunction((s1, s2) -> s1.concat(s2).length());
+
+            ToLongBiFunction<String, String> sneaky = ThrowingToLongBiFunction.sneaky(function);
+
+            assertEquals(6L, sneaky.applyAsLong("foo", "bar"));
+
+            verify(function).sneaky();
+            verify(function).applyAsLong("foo", "bar");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingToLongBiFunction<String, String, IOException> function = Spied.throwingToLongBiFunction((s1, s2) -> {
+                throw new IOException(s1 + s2);
+            });
+
+            ToLongBiFunction<String, String> sneaky = ThrowingToLongBiFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsLong("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsLong("foo", "bar");
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToLongBiFunction<String, String, IOException> function = Spied
+                    .throwingToLongBiFunction((s1, s2) -> throwable.throwUnchecked(s1 + s2));
+
+            ToLongBiFunction<String, String> sneaky = ThrowingToLongBiFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsLong("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).applyAsLong("foo", "bar");
             verifyNoMoreInteractions(function);
         }
@@ -1024,4 +1263,159 @@ class ThrowingToLongBiFunctionTest {
             assertEquals("foobar", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingToLongBiFunction<String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            ToLongBiFunction<String, String> sneaky = ThrowingToLongBiFunction.sneaky(function);
+            ThrowingToLongBiFunction<String, String, IOException> checked = ThrowingToLongBiFunction.checked(sneaky);
+            ThrowingToLongBiFunction<String, String, IOException> checkedWithErrorType = ThrowingToLongBiFunction.checked(sneaky, IOException.class);
+
+            ToLongBiFunction<String, String> unchecked = ThrowingToLongBiFunction.unchecked(checked);
+            ToLongBiFunction<String, String> uncheckedWithErrorType = ThrowingToLongBiFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsLong("foo", "foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsLong("foo", "foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ToLongBiFunction<String, String> function = (t, u) -> 1L;
+
+            ThrowingToLongBiFunction<String, String, IOException> checked = ThrowingToLongBiFunction.checked(function);
+
+            assertSame(function, ThrowingToLongBiFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingToLongBiFunction<String, String, IOException> function = (t, u) -> 1L;
+
+            ToLongBiFunction<String, String> sneaky = ThrowingToLongBiFunction.sneaky(function);
+
+            assertSame(function, ThrowingToLongBiFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingToLongBiFunction<String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            ToLongBiFunction<String, String> unchecked = ThrowingToLongBiFunction.unchecked(function);
+            ThrowingToLongBiFunction<String, String, IOException> checked = ThrowingToLongBiFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsLong("foo", "foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingToLongBiFunction<String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            ToLongBiFunction<String, String> unchecked = ThrowingToLongBiFunction.unchecked(function);
+            ThrowingToLongBiFunction<String, String, ParseException> checked = ThrowingToLongBiFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsLong("foo", "foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingToLongBiFunction<String, String, IOException> function = (t, u) -> {
+                throw new IOException("foo");
+            };
+
+            ToLongBiFunction<String, String> unchecked = ThrowingToLongBiFunction.unchecked(function);
+            ThrowingToLongBiFunction<String, String, IOException> checked = ThrowingToLongBiFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsLong("foo", "foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ToLongBiFunction<String, String> function = (s1, s2) -> s1.concat(s2).length();
+
+            assertThrows(NullPointerException.class, () -> ThrowingToLongBiFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingToLongBiFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToLongBiFunction<String, String, IOException> function = ThrowingToLongBiFunction
+                    .catching((s1, s2) -> s1.concat(s2).length(), IOException.class);
+
+            assertEquals(6L, function.applyAsLong("foo", "bar"));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                ToLongBiFunction<String, String> sneaky = ThrowingToLongBiFunction.sneaky((s1, s2) -> {
+                    throw new IOException(s1 + s2);
+                });
+
+                ThrowingToLongBiFunction<String, String, IOException> function = ThrowingToLongBiFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.applyAsLong("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                ToLongBiFunction<String, String> sneaky = ThrowingToLongBiFunction.sneaky((s1, s2) -> {
+                    throw new FileNotFoundException(s1 + s2);
+                });
+
+                ThrowingToLongBiFunction<String, String, IOException> function = ThrowingToLongBiFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.applyAsLong("foo", "bar"));
+                assertEquals("foobar", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                ToLongBiFunction<String, String> sneaky = ThrowingToLongBiFunction.sneaky((s1, s2) -> {
+                    throw new ParseException(s1 + s2, 0);
+                });
+
+                ThrowingToLongBiFunction<String, String, IOException> function = ThrowingToLongBiFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsLong("foo", "bar"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foobar", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingToLongBiFunction<String, String, IOException> function = ThrowingToLongBiFunction.catching((s1, s2) -> {
+                throw new IllegalStateException(s1 + s2);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.applyAsLong("foo", "bar"));
+            assertEquals("foobar", thrown.getMessage());
+        }
+    }
 }
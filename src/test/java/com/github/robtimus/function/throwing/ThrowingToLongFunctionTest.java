@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -803,7 +805,6 @@ class ThrowingToLongFunctionTest {
 
             verify(function).applyAsLong("foo");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -821,7 +822,6 @@ class ThrowingToLongFunctionTest {
 
             verify(function).applyAsLong("foo");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(function);
         }
 
@@ -837,7 +837,192 @@ class ThrowingToLongFunctionTest {
 
             verify(function).applyAsLong("foo");
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToLongFunction<String, IOException> function = Spied.throwingToLongFunction(String::length);
+
+            ToLongFunction<String> sneaky = function.sneaky();
+
+            assertEquals(3L, sneaky.applyAsLong("foo"));
+
+            verify(function).applyAsLong("foo");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToLongFunction<String, IOException> function = Spied.throwingToLongFunction(s -> {
+                throw new IOException(s);
+            });
+
+            ToLongFunction<String> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsLong("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).applyAsLong("foo");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToLongFunction<String, IOException> function = Spied.throwingToLongFunction(throwable::throwUnchecked);
+
+            ToLongFunction<String> sneaky = function.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsLong("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).applyAsLong("foo");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToLongFunction<String, IOException> function = Spied.throwingToLongFunction(String::length);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToLongFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals(3L, instrumented.applyAsLong("foo"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong("foo");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToLongFunction<String, IOException> function = Spied.throwingToLongFunction(s -> {
+                throw new IOException(s);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToLongFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsLong("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong("foo");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToLongFunction<String, IOException> function = Spied.throwingToLongFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToLongFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsLong("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsLong("foo");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToLongFunction<String, IOException> function = Spied.throwingToLongFunction(String::length);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToLongFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(3L, instrumented.applyAsLong("foo"));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong("foo");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToLongFunction<String, IOException> function = Spied.throwingToLongFunction(s -> {
+                throw new IOException(s);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToLongFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsLong("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong("foo");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToLongFunction<String, IOException> function = Spied.throwingToLongFunction(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToLongFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsLong("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsLong("foo");
+            verify(function).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(function);
         }
     }
@@ -875,7 +1060,6 @@ class ThrowingToLongFunctionTest {
             assertEquals(3L, unchecked.applyAsLong("foo"));
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsLong("foo");
             verifyNoMoreInteractions(function);
         }
@@ -893,7 +1077,6 @@ class ThrowingToLongFunctionTest {
             assertEquals("foo", cause.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
             verify(function).applyAsLong("foo");
             verifyNoMoreInteractions(function);
         }
@@ -909,7 +1092,59 @@ class ThrowingToLongFunctionTest {
             assertEquals("foo", thrown.getMessage());
 
             verify(function).unchecked();
-            verify(function).onErrorThrowAsUnchecked(any());
+            verify(function).applyAsLong("foo");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToLongFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToLongFunction<String, IOException> function = Spied.throwingToLongFunction(String::length);
+
+            ToLongFunction<String> sneaky = ThrowingToLongFunction.sneaky(function);
+
+            assertEquals(3L, sneaky.applyAsLong("foo"));
+
+            verify(function).sneaky();
+            verify(function).applyAsLong("foo");
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingToLongFunction<String, IOException> function = Spied.throwingToLongFunction(s -> {
+                throw new IOException(s);
+            });
+
+            ToLongFunction<String> sneaky = ThrowingToLongFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsLong("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsLong("foo");
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToLongFunction<String, IOException> function = Spied.throwingToLongFunction(throwable::throwUnchecked);
+
+            ToLongFunction<String> sneaky = ThrowingToLongFunction.sneaky(function);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.applyAsLong("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(function).sneaky();
             verify(function).applyAsLong("foo");
             verifyNoMoreInteractions(function);
         }
@@ -1007,4 +1242,158 @@ class ThrowingToLongFunctionTest {
             assertEquals("foo", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingToLongFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            ToLongFunction<String> sneaky = ThrowingToLongFunction.sneaky(function);
+            ThrowingToLongFunction<String, IOException> checked = ThrowingToLongFunction.checked(sneaky);
+            ThrowingToLongFunction<String, IOException> checkedWithErrorType = ThrowingToLongFunction.checked(sneaky, IOException.class);
+
+            ToLongFunction<String> unchecked = ThrowingToLongFunction.unchecked(checked);
+            ToLongFunction<String> uncheckedWithErrorType = ThrowingToLongFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsLong("foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsLong("foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ToLongFunction<String> function = value -> 1L;
+
+            ThrowingToLongFunction<String, IOException> checked = ThrowingToLongFunction.checked(function);
+
+            assertSame(function, ThrowingToLongFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingToLongFunction<String, IOException> function = value -> 1L;
+
+            ToLongFunction<String> sneaky = ThrowingToLongFunction.sneaky(function);
+
+            assertSame(function, ThrowingToLongFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingToLongFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            ToLongFunction<String> unchecked = ThrowingToLongFunction.unchecked(function);
+            ThrowingToLongFunction<String, IOException> checked = ThrowingToLongFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsLong("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingToLongFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            ToLongFunction<String> unchecked = ThrowingToLongFunction.unchecked(function);
+            ThrowingToLongFunction<String, ParseException> checked = ThrowingToLongFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsLong("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingToLongFunction<String, IOException> function = value -> {
+                throw new IOException("foo");
+            };
+
+            ToLongFunction<String> unchecked = ThrowingToLongFunction.unchecked(function);
+            ThrowingToLongFunction<String, IOException> checked = ThrowingToLongFunction.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsLong("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ToLongFunction<String> function = String::length;
+
+            assertThrows(NullPointerException.class, () -> ThrowingToLongFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingToLongFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToLongFunction<String, IOException> function = ThrowingToLongFunction.catching(String::length, IOException.class);
+
+            assertEquals(3L, function.applyAsLong("foo"));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                ToLongFunction<String> sneaky = ThrowingToLongFunction.sneaky(s -> {
+                    throw new IOException(s);
+                });
+
+                ThrowingToLongFunction<String, IOException> function = ThrowingToLongFunction.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> function.applyAsLong("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                ToLongFunction<String> sneaky = ThrowingToLongFunction.sneaky(s -> {
+                    throw new FileNotFoundException(s);
+                });
+
+                ThrowingToLongFunction<String, IOException> function = ThrowingToLongFunction.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> function.applyAsLong("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                ToLongFunction<String> sneaky = ThrowingToLongFunction.sneaky(s -> {
+                    throw new ParseException(s, 0);
+                });
+
+                ThrowingToLongFunction<String, IOException> function = ThrowingToLongFunction.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsLong("foo"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingToLongFunction<String, IOException> function = ThrowingToLongFunction.catching(s -> {
+                throw new IllegalStateException(s);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> function.applyAsLong("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+    }
 }
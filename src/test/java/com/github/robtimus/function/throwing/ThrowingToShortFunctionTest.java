@@ -0,0 +1,921 @@
+/*
+ * ThrowingToShortFunctionTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+@SuppressWarnings("nls")
+class ThrowingToShortFunctionTest {
+
+    @Nested
+    class OnErrorThrowAsChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ExecutionException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingToShortFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            assertEquals((short) 1, throwing.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingToShortFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> throwing.applyAsShort("1"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> throwable.throwUnchecked(t));
+
+            Function<IOException, ExecutionException> errorMapper = Spied.function(ExecutionException::new);
+
+            ThrowingToShortFunction<String, ExecutionException> throwing = function.onErrorThrowAsChecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsShort("1"));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorThrowAsChecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorThrowAsUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorThrowAsUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingToShortFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            assertEquals((short) 1, throwing.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingToShortFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> throwing.applyAsShort("1"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verify(errorMapper).apply(any());
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> throwable.throwUnchecked(t));
+
+            Function<IOException, IllegalStateException> errorMapper = Spied.function(IllegalStateException::new);
+
+            ThrowingToShortFunction<String, RuntimeException> throwing = function.onErrorThrowAsUnchecked(errorMapper);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> throwing.applyAsShort("1"));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorThrowAsUnchecked(errorMapper);
+            verifyNoMoreInteractions(function, errorMapper);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            ThrowingToShortFunction<IOException, ParseException> errorHandler = Spied.throwingToShortFunction(e -> (short) -1);
+
+            ThrowingToShortFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals((short) 1, handling.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorHandleChecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToShortFunction<IOException, ParseException> errorHandler = Spied.throwingToShortFunction(e -> (short) -1);
+
+            ThrowingToShortFunction<String, ParseException> handling = function.onErrorHandleChecked(errorHandler);
+
+            assertEquals((short) -1, handling.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorHandleChecked(errorHandler);
+            verify(errorHandler).applyAsShort(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorHandleUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorHandleUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            ThrowingToShortFunction<IOException, RuntimeException> errorHandler = Spied.throwingToShortFunction(e -> (short) -1);
+
+            ThrowingToShortFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals((short) 1, handling.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToShortFunction<IOException, RuntimeException> errorHandler = Spied.throwingToShortFunction(e -> (short) -1);
+
+            ThrowingToShortFunction<String, RuntimeException> handling = function.onErrorHandleUnchecked(errorHandler);
+
+            assertEquals((short) -1, handling.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorHandleUnchecked(errorHandler);
+            verify(errorHandler).applyAsShort(any());
+            verifyNoMoreInteractions(function, errorHandler);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            ThrowingToShortFunction<String, ParseException> fallback = Spied.throwingToShortFunction(t -> (short) -1);
+
+            ThrowingToShortFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals((short) 1, fallingBack.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorApplyChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToShortFunction<String, ParseException> fallback = Spied.throwingToShortFunction(t -> (short) -1);
+
+            ThrowingToShortFunction<String, ParseException> fallingBack = function.onErrorApplyChecked(fallback);
+
+            assertEquals((short) -1, fallingBack.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorApplyChecked(fallback);
+            verify(fallback).applyAsShort("1");
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorApplyUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorApplyUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            ThrowingToShortFunction<String, RuntimeException> fallback = Spied.throwingToShortFunction(t -> (short) -1);
+
+            ThrowingToShortFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals((short) 1, fallingBack.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorApplyUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToShortFunction<String, RuntimeException> fallback = Spied.throwingToShortFunction(t -> (short) -1);
+
+            ThrowingToShortFunction<String, RuntimeException> fallingBack = function.onErrorApplyUnchecked(fallback);
+
+            assertEquals((short) -1, fallingBack.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorApplyUnchecked(fallback);
+            verify(fallback).applyAsShort("1");
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetChecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetChecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException, ParseException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            ThrowingShortSupplier<ParseException> fallback = Spied.throwingShortSupplier(() -> (short) -1);
+
+            ThrowingToShortFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals((short) 1, fallingBack.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorGetChecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException, ParseException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingShortSupplier<ParseException> fallback = Spied.throwingShortSupplier(() -> (short) -1);
+
+            ThrowingToShortFunction<String, ParseException> fallingBack = function.onErrorGetChecked(fallback);
+
+            assertEquals((short) -1, fallingBack.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorGetChecked(fallback);
+            verify(fallback).getAsShort();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorGetUnchecked {
+
+        @Test
+        void testNullArgument() {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            assertThrows(NullPointerException.class, () -> function.onErrorGetUnchecked(null));
+        }
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            ThrowingShortSupplier<RuntimeException> fallback = Spied.throwingShortSupplier(() -> (short) -1);
+
+            ThrowingToShortFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals((short) 1, fallingBack.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorGetUnchecked(fallback);
+            verifyNoMoreInteractions(function, fallback);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingShortSupplier<RuntimeException> fallback = Spied.throwingShortSupplier(() -> (short) -1);
+
+            ThrowingToShortFunction<String, RuntimeException> fallingBack = function.onErrorGetUnchecked(fallback);
+
+            assertEquals((short) -1, fallingBack.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorGetUnchecked(fallback);
+            verify(fallback).getAsShort();
+            verifyNoMoreInteractions(function, fallback);
+        }
+    }
+
+    @Nested
+    class OnErrorReturn {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            ThrowingToShortFunction<String, RuntimeException> returning = function.onErrorReturn((short) -1);
+
+            assertEquals((short) 1, returning.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorReturn((short) -1);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToShortFunction<String, RuntimeException> returning = function.onErrorReturn((short) -1);
+
+            assertEquals((short) -1, returning.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).onErrorReturn((short) -1);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Unchecked {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            ThrowingToShortFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            assertEquals((short) 1, unchecked.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToShortFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsShort("1"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).applyAsShort("1");
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> throwable.throwUnchecked(t));
+
+            ThrowingToShortFunction<String, RuntimeException> unchecked = function.unchecked();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> unchecked.applyAsShort("1"));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsShort("1");
+            verify(function).unchecked();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+
+            ThrowingToShortFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            assertEquals((short) 1, sneaky.applyAsShort("1"));
+
+            verify(function).applyAsShort("1");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToShortFunction<String, RuntimeException> sneaky = function.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsShort("1"));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).applyAsShort("1");
+            verify(function).sneaky();
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToShortFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            assertEquals((short) 1, instrumented.applyAsShort("1"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsShort("1");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToShortFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsShort("1"));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsShort("1");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> throwable.throwUnchecked(t));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToShortFunction<String, IOException> instrumented = function.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsShort("1"));
+            assertEquals("1", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(function).applyAsShort("1");
+            verify(function).instrumented("foo", registry);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(Short::parseShort);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToShortFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals((short) 1, instrumented.applyAsShort("1"));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsShort("1");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToShortFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.applyAsShort("1"));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsShort("1");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> throwable.throwUnchecked(t));
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingToShortFunction<String, IOException> instrumented = function.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.applyAsShort("1"));
+                assertEquals("1", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(function, times(3)).applyAsShort("1");
+            verify(function).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToShortFunction.of(null));
+        }
+
+        @Test
+        void testNonNullArgument() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = ThrowingToShortFunction.of(Short::parseShort);
+
+            assertEquals((short) 1, function.applyAsShort("1"));
+        }
+    }
+
+    @Nested
+    class UncheckedFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToShortFunction.unchecked(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToShortFunction<String, RuntimeException> unchecked = ThrowingToShortFunction.unchecked(function);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsShort("1"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+
+            verify(function).unchecked();
+            verify(function).applyAsShort("1");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToShortFunction.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = Spied.throwingToShortFunction(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToShortFunction<String, RuntimeException> sneaky = ThrowingToShortFunction.sneaky(function);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.applyAsShort("1"));
+            assertEquals("1", thrown.getMessage());
+
+            verify(function).sneaky();
+            verify(function).applyAsShort("1");
+            verifyNoMoreInteractions(function);
+        }
+    }
+
+    @Nested
+    class CheckedWrapper {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingToShortFunction.checked(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = ThrowingToShortFunction.checked(Short::parseShort);
+
+            assertEquals((short) 1, function.applyAsShort("1"));
+        }
+
+        @Test
+        void testArgumentThrowsUnchecked() {
+            ThrowingToShortFunction<String, IOException> function = ThrowingToShortFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t));
+            });
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsShort("1"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class CheckedUnwrapper {
+
+        @Test
+        void testNullArguments() {
+            ThrowingToShortFunction<String, RuntimeException> function = Short::parseShort;
+
+            assertThrows(NullPointerException.class, () -> ThrowingToShortFunction.checked(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingToShortFunction.checked(function, null));
+        }
+
+        @Test
+        void testWrappingExactType() {
+            ThrowingToShortFunction<String, IOException> function = ThrowingToShortFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new IOException(t));
+            }, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAsShort("1"));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testWrappingOther() {
+            ThrowingToShortFunction<String, IOException> function = ThrowingToShortFunction.checked(t -> {
+                throw UncheckedException.withoutStackTrace(new ParseException(t, 0));
+            }, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsShort("1"));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingToShortFunction<String, IOException> function = t -> {
+                throw new IOException(t);
+            };
+
+            ThrowingToShortFunction<String, RuntimeException> sneaky = ThrowingToShortFunction.sneaky(function);
+            ThrowingToShortFunction<String, IOException> checked = ThrowingToShortFunction.checked(sneaky);
+            ThrowingToShortFunction<String, IOException> checkedWithErrorType = ThrowingToShortFunction.checked(sneaky, IOException.class);
+
+            ThrowingToShortFunction<String, RuntimeException> unchecked = ThrowingToShortFunction.unchecked(checked);
+            ThrowingToShortFunction<String, RuntimeException> uncheckedWithErrorType = ThrowingToShortFunction.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.applyAsShort("1"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.applyAsShort("1"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            ThrowingToShortFunction<String, RuntimeException> function = Short::parseShort;
+
+            ThrowingToShortFunction<String, IOException> checked = ThrowingToShortFunction.checked(function);
+
+            assertSame(function, ThrowingToShortFunction.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingToShortFunction<String, IOException> function = Short::parseShort;
+
+            ThrowingToShortFunction<String, RuntimeException> sneaky = ThrowingToShortFunction.sneaky(function);
+
+            assertSame(function, ThrowingToShortFunction.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingToShortFunction<String, IOException> function = t -> {
+                throw new IOException(t);
+            };
+
+            ThrowingToShortFunction<String, RuntimeException> unchecked = ThrowingToShortFunction.unchecked(function);
+            ThrowingToShortFunction<String, IOException> checked = ThrowingToShortFunction.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.applyAsShort("1"));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingToShortFunction<String, IOException> function = t -> {
+                throw new IOException(t);
+            };
+
+            ThrowingToShortFunction<String, RuntimeException> unchecked = ThrowingToShortFunction.unchecked(function);
+            ThrowingToShortFunction<String, ParseException> checked = ThrowingToShortFunction.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.applyAsShort("1"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            ThrowingToShortFunction<String, RuntimeException> function = Short::parseShort;
+
+            assertThrows(NullPointerException.class, () -> ThrowingToShortFunction.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingToShortFunction.catching(function, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingToShortFunction<String, IOException> function = ThrowingToShortFunction.catching(Short::parseShort, IOException.class);
+
+            assertEquals((short) 1, function.applyAsShort("1"));
+        }
+
+        @Test
+        void testArgumentThrowsExactType() {
+            ThrowingToShortFunction<String, RuntimeException> sneaky = ThrowingToShortFunction.sneaky(t -> {
+                throw new IOException(t);
+            });
+
+            ThrowingToShortFunction<String, IOException> function = ThrowingToShortFunction.catching(sneaky, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> function.applyAsShort("1"));
+            assertEquals("1", thrown.getMessage());
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingToShortFunction<String, RuntimeException> sneaky = ThrowingToShortFunction.sneaky(t -> {
+                throw new ParseException(t, 0);
+            });
+
+            ThrowingToShortFunction<String, IOException> function = ThrowingToShortFunction.catching(sneaky, IOException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> function.applyAsShort("1"));
+            ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+            assertEquals("1", cause.getMessage());
+        }
+    }
+}
@@ -20,8 +20,10 @@ package com.github.robtimus.function.throwing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.FileNotFoundException;
@@ -803,7 +805,6 @@ class ThrowingUnaryOperatorTest {
 
             verify(operator).apply("foo");
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -821,7 +822,6 @@ class ThrowingUnaryOperatorTest {
 
             verify(operator).apply("foo");
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verifyNoMoreInteractions(operator);
         }
 
@@ -837,7 +837,192 @@ class ThrowingUnaryOperatorTest {
 
             verify(operator).apply("foo");
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Sneaky {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingUnaryOperator<String, IOException> operator = Spied.throwingUnaryOperator(String::toUpperCase);
+
+            UnaryOperator<String> sneaky = operator.sneaky();
+
+            assertEquals("FOO", sneaky.apply("foo"));
+
+            verify(operator).apply("foo");
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingUnaryOperator<String, IOException> operator = Spied.throwingUnaryOperator(s -> {
+                throw new IOException(s);
+            });
+
+            UnaryOperator<String> sneaky = operator.sneaky();
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(operator).apply("foo");
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingUnaryOperator<String, IOException> operator = Spied.throwingUnaryOperator(throwable::throwUnchecked);
+
+            UnaryOperator<String> sneaky = operator.sneaky();
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(operator).apply("foo");
+            verify(operator).sneaky();
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class Instrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingUnaryOperator<String, IOException> operator = Spied.throwingUnaryOperator(String::toUpperCase);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingUnaryOperator<String, IOException> instrumented = operator.instrumented("foo", registry);
+
+            assertEquals("FOO", instrumented.apply("foo"));
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(1, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).apply("foo");
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingUnaryOperator<String, IOException> operator = Spied.throwingUnaryOperator(s -> {
+                throw new IOException(s);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingUnaryOperator<String, IOException> instrumented = operator.instrumented("foo", registry);
+
+            IOException thrown = assertThrows(IOException.class, () -> instrumented.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(IOException.class));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).apply("foo");
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingUnaryOperator<String, IOException> operator = Spied.throwingUnaryOperator(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingUnaryOperator<String, IOException> instrumented = operator.instrumented("foo", registry);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(1, metrics.failureCount(throwable.throwableType()));
+            assertEquals(1, metrics.latencies().count());
+
+            verify(operator).apply("foo");
+            verify(operator).instrumented("foo", registry);
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SampledInstrumented {
+
+        @Test
+        void testThisThrowsNothing() throws IOException {
+            ThrowingUnaryOperator<String, IOException> operator = Spied.throwingUnaryOperator(String::toUpperCase);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingUnaryOperator<String, IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("FOO", instrumented.apply("foo"));
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(4, metrics.successCount());
+            assertEquals(0, metrics.failureCount());
+            assertEquals(4, metrics.latencies().count());
+
+            verify(operator, times(3)).apply("foo");
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testThisThrowsChecked() throws IOException {
+            ThrowingUnaryOperator<String, IOException> operator = Spied.throwingUnaryOperator(s -> {
+                throw new IOException(s);
+            });
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingUnaryOperator<String, IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                IOException thrown = assertThrows(IOException.class, () -> instrumented.apply("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(IOException.class));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).apply("foo");
+            verify(operator).instrumented("foo", registry, 2);
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testThisThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingUnaryOperator<String, IOException> operator = Spied.throwingUnaryOperator(throwable::throwUnchecked);
+            InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+            ThrowingUnaryOperator<String, IOException> instrumented = operator.instrumented("foo", registry, 2);
+
+            for (int i = 0; i < 3; i++) {
+                Throwable thrown = assertThrows(throwable.throwableType(), () -> instrumented.apply("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            InvocationMetrics metrics = registry.metrics("foo");
+            assertEquals(0, metrics.successCount());
+            assertEquals(3, metrics.failureCount(throwable.throwableType()));
+            assertEquals(2, metrics.latencies().count());
+
+            verify(operator, times(3)).apply("foo");
+            verify(operator).instrumented("foo", registry, 2);
             verifyNoMoreInteractions(operator);
         }
     }
@@ -874,6 +1059,24 @@ class ThrowingUnaryOperatorTest {
 
             assertEquals("foo", operator.apply("foo"));
         }
+
+        @Test
+        void testSameInstance() {
+            ThrowingUnaryOperator<String, IOException> operator = ThrowingUnaryOperator.identity();
+            ThrowingFunction<String, String, IOException> function = ThrowingFunction.identity();
+
+            assertSame(operator, function);
+        }
+
+        @Test
+        void testAndThen() {
+            ThrowingUnaryOperator<String, IOException> operator = ThrowingUnaryOperator.identity();
+            ThrowingFunction<String, Integer, IOException> after = Spied.throwingFunction(String::length);
+
+            assertSame(after, operator.andThen(after));
+
+            verifyNoMoreInteractions(after);
+        }
     }
 
     @Nested
@@ -893,7 +1096,6 @@ class ThrowingUnaryOperatorTest {
             assertEquals("FOO", unchecked.apply("foo"));
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).apply("foo");
             verifyNoMoreInteractions(operator);
         }
@@ -911,7 +1113,6 @@ class ThrowingUnaryOperatorTest {
             assertEquals("foo", cause.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
             verify(operator).apply("foo");
             verifyNoMoreInteractions(operator);
         }
@@ -927,7 +1128,59 @@ class ThrowingUnaryOperatorTest {
             assertEquals("foo", thrown.getMessage());
 
             verify(operator).unchecked();
-            verify(operator).onErrorThrowAsUnchecked(any());
+            verify(operator).apply("foo");
+            verifyNoMoreInteractions(operator);
+        }
+    }
+
+    @Nested
+    class SneakyFactory {
+
+        @Test
+        void testNullArgument() {
+            assertThrows(NullPointerException.class, () -> ThrowingUnaryOperator.sneaky(null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingUnaryOperator<String, IOException> operator = Spied.throwingUnaryOperator(String::toUpperCase);
+
+            UnaryOperator<String> sneaky = ThrowingUnaryOperator.sneaky(operator);
+
+            assertEquals("FOO", sneaky.apply("foo"));
+
+            verify(operator).sneaky();
+            verify(operator).apply("foo");
+            verifyNoMoreInteractions(operator);
+        }
+
+        @Test
+        void testArgumentThrowsChecked() throws IOException {
+            ThrowingUnaryOperator<String, IOException> operator = Spied.throwingUnaryOperator(s -> {
+                throw new IOException(s);
+            });
+
+            UnaryOperator<String> sneaky = ThrowingUnaryOperator.sneaky(operator);
+
+            IOException thrown = assertThrows(IOException.class, () -> sneaky.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(operator).sneaky();
+            verify(operator).apply("foo");
+            verifyNoMoreInteractions(operator);
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(UncheckedThrowable.Provider.class)
+        void testArgumentThrowsUnchecked(UncheckedThrowable<?> throwable) throws IOException {
+            ThrowingUnaryOperator<String, IOException> operator = Spied.throwingUnaryOperator(throwable::throwUnchecked);
+
+            UnaryOperator<String> sneaky = ThrowingUnaryOperator.sneaky(operator);
+
+            Throwable thrown = assertThrows(throwable.throwableType(), () -> sneaky.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+
+            verify(operator).sneaky();
             verify(operator).apply("foo");
             verifyNoMoreInteractions(operator);
         }
@@ -1025,4 +1278,158 @@ class ThrowingUnaryOperatorTest {
             assertEquals("foo", thrown.getMessage());
         }
     }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        void testUncheckedOfChecked() {
+            ThrowingUnaryOperator<String, IOException> operator = t -> {
+                throw new IOException("foo");
+            };
+
+            UnaryOperator<String> sneaky = ThrowingUnaryOperator.sneaky(operator);
+            ThrowingUnaryOperator<String, IOException> checked = ThrowingUnaryOperator.checked(sneaky);
+            ThrowingUnaryOperator<String, IOException> checkedWithErrorType = ThrowingUnaryOperator.checked(sneaky, IOException.class);
+
+            UnaryOperator<String> unchecked = ThrowingUnaryOperator.unchecked(checked);
+            UnaryOperator<String> uncheckedWithErrorType = ThrowingUnaryOperator.unchecked(checkedWithErrorType);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> unchecked.apply("foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+
+            thrown = assertThrows(UncheckedException.class, () -> uncheckedWithErrorType.apply("foo"));
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+
+        @Test
+        void testSneakyOfChecked() {
+            UnaryOperator<String> operator = t -> "foo";
+
+            ThrowingUnaryOperator<String, IOException> checked = ThrowingUnaryOperator.checked(operator);
+
+            assertSame(operator, ThrowingUnaryOperator.sneaky(checked));
+        }
+
+        @Test
+        void testCheckedOfSneaky() {
+            ThrowingUnaryOperator<String, IOException> operator = t -> "foo";
+
+            UnaryOperator<String> sneaky = ThrowingUnaryOperator.sneaky(operator);
+
+            assertSame(operator, ThrowingUnaryOperator.checked(sneaky));
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithErrorType() {
+            ThrowingUnaryOperator<String, IOException> operator = t -> {
+                throw new IOException("foo");
+            };
+
+            UnaryOperator<String> unchecked = ThrowingUnaryOperator.unchecked(operator);
+            ThrowingUnaryOperator<String, IOException> checked = ThrowingUnaryOperator.checked(unchecked, IOException.class);
+
+            IOException thrown = assertThrows(IOException.class, () -> checked.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithOtherErrorType() {
+            ThrowingUnaryOperator<String, IOException> operator = t -> {
+                throw new IOException("foo");
+            };
+
+            UnaryOperator<String> unchecked = ThrowingUnaryOperator.unchecked(operator);
+            ThrowingUnaryOperator<String, ParseException> checked = ThrowingUnaryOperator.checked(unchecked, ParseException.class);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+
+        @Test
+        void testCheckedOfUncheckedWithoutErrorType() {
+            ThrowingUnaryOperator<String, IOException> operator = t -> {
+                throw new IOException("foo");
+            };
+
+            UnaryOperator<String> unchecked = ThrowingUnaryOperator.unchecked(operator);
+            ThrowingUnaryOperator<String, IOException> checked = ThrowingUnaryOperator.checked(unchecked);
+
+            UncheckedException thrown = assertThrows(UncheckedException.class, () -> checked.apply("foo"));
+            IOException cause = assertInstanceOf(IOException.class, thrown.getCause());
+            assertEquals("foo", cause.getMessage());
+        }
+    }
+
+    @Nested
+    class Catching {
+
+        @Test
+        void testNullArguments() {
+            UnaryOperator<String> operator = String::toUpperCase;
+
+            assertThrows(NullPointerException.class, () -> ThrowingUnaryOperator.catching(null, IOException.class));
+            assertThrows(NullPointerException.class, () -> ThrowingUnaryOperator.catching(operator, null));
+        }
+
+        @Test
+        void testArgumentThrowsNothing() throws IOException {
+            ThrowingUnaryOperator<String, IOException> operator = ThrowingUnaryOperator.catching(String::toUpperCase, IOException.class);
+
+            assertEquals("FOO", operator.apply("foo"));
+        }
+
+        @Nested
+        class ArgumentThrowsChecked {
+
+            @Test
+            void testExactType() {
+                UnaryOperator<String> sneaky = ThrowingUnaryOperator.sneaky(s -> {
+                    throw new IOException(s);
+                });
+
+                ThrowingUnaryOperator<String, IOException> operator = ThrowingUnaryOperator.catching(sneaky, IOException.class);
+
+                IOException thrown = assertThrows(IOException.class, () -> operator.apply("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testSubType() {
+                UnaryOperator<String> sneaky = ThrowingUnaryOperator.sneaky(s -> {
+                    throw new FileNotFoundException(s);
+                });
+
+                ThrowingUnaryOperator<String, IOException> operator = ThrowingUnaryOperator.catching(sneaky, IOException.class);
+
+                FileNotFoundException thrown = assertThrows(FileNotFoundException.class, () -> operator.apply("foo"));
+                assertEquals("foo", thrown.getMessage());
+            }
+
+            @Test
+            void testOther() {
+                UnaryOperator<String> sneaky = ThrowingUnaryOperator.sneaky(s -> {
+                    throw new ParseException(s, 0);
+                });
+
+                ThrowingUnaryOperator<String, IOException> operator = ThrowingUnaryOperator.catching(sneaky, IOException.class);
+
+                UncheckedException thrown = assertThrows(UncheckedException.class, () -> operator.apply("foo"));
+                ParseException cause = assertInstanceOf(ParseException.class, thrown.getCause());
+                assertEquals("foo", cause.getMessage());
+                assertEquals(0, cause.getErrorOffset());
+            }
+        }
+
+        @Test
+        void testArgumentThrowsOther() {
+            ThrowingUnaryOperator<String, IOException> operator = ThrowingUnaryOperator.catching(s -> {
+                throw new IllegalStateException(s);
+            }, IOException.class);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> operator.apply("foo"));
+            assertEquals("foo", thrown.getMessage());
+        }
+    }
 }
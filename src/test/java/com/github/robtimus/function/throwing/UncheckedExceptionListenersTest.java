@@ -0,0 +1,194 @@
+/*
+ * UncheckedExceptionListenersTest.java
+ * Copyright 2025 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.function.throwing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.ServiceConfigurationError;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+@SuppressWarnings("nls")
+class UncheckedExceptionListenersTest {
+
+    @Test
+    void testNoListenerInstalled() {
+        assertNull(UncheckedExceptionListeners.LISTENER);
+    }
+
+    @Nested
+    class LoadListeners {
+
+        @Test
+        void testNoProviders() {
+            assertEquals(List.of(), UncheckedExceptionListeners.loadListeners(List.<UncheckedExceptionListener>of().iterator()));
+        }
+
+        @Test
+        void testProviderCannotBeInstantiated() {
+            UncheckedExceptionListener listener1 = mock(UncheckedExceptionListener.class);
+            UncheckedExceptionListener listener2 = mock(UncheckedExceptionListener.class);
+
+            Iterator<UncheckedExceptionListener> iterator = providers(
+                    listener1,
+                    new ServiceConfigurationError("provider could not be instantiated"),
+                    new IllegalStateException("provider failed"),
+                    listener2);
+
+            assertEquals(List.of(listener1, listener2), UncheckedExceptionListeners.loadListeners(iterator));
+        }
+
+        @Test
+        void testProviderCannotBeLocated() {
+            UncheckedExceptionListener listener = mock(UncheckedExceptionListener.class);
+
+            Iterator<UncheckedExceptionListener> iterator = new Iterator<>() {
+                private boolean returned = false;
+
+                @Override
+                public boolean hasNext() {
+                    if (returned) {
+                        throw new ServiceConfigurationError("provider not found");
+                    }
+                    return true;
+                }
+
+                @Override
+                public UncheckedExceptionListener next() {
+                    returned = true;
+                    return listener;
+                }
+            };
+
+            assertEquals(List.of(listener), UncheckedExceptionListeners.loadListeners(iterator));
+        }
+
+        private Iterator<UncheckedExceptionListener> providers(Object... providers) {
+            return new Iterator<>() {
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < providers.length;
+                }
+
+                @Override
+                public UncheckedExceptionListener next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Object provider = providers[index++];
+                    if (provider instanceof ServiceConfigurationError) {
+                        throw (ServiceConfigurationError) provider;
+                    }
+                    if (provider instanceof RuntimeException) {
+                        throw (RuntimeException) provider;
+                    }
+                    return (UncheckedExceptionListener) provider;
+                }
+            };
+        }
+    }
+
+    @Nested
+    class Combine {
+
+        @Test
+        void testNoListeners() {
+            assertNull(UncheckedExceptionListeners.combine(List.of()));
+        }
+
+        @Test
+        void testSingleListener() {
+            UncheckedExceptionListener listener = mock(UncheckedExceptionListener.class);
+
+            assertSame(listener, UncheckedExceptionListeners.combine(List.of(listener)));
+        }
+
+        @Test
+        void testMultipleListeners() {
+            UncheckedExceptionListener listener1 = mock(UncheckedExceptionListener.class);
+            UncheckedExceptionListener listener2 = mock(UncheckedExceptionListener.class);
+
+            UncheckedExceptionListener combined = UncheckedExceptionListeners.combine(List.of(listener1, listener2));
+
+            UncheckedException exception = UncheckedException.withoutStackTrace(new IOException());
+            combined.uncheckedExceptionCreated(exception, String.class);
+
+            InOrder inOrder = inOrder(listener1, listener2);
+            inOrder.verify(listener1).uncheckedExceptionCreated(exception, String.class);
+            inOrder.verify(listener2).uncheckedExceptionCreated(exception, String.class);
+            verifyNoMoreInteractions(listener1, listener2);
+        }
+    }
+
+    @Nested
+    class Notify {
+
+        @Test
+        void testListenerCompletesNormally() {
+            UncheckedExceptionListener listener = mock(UncheckedExceptionListener.class);
+            ThrowingRunnable<IOException> task = () -> {
+                throw new IOException();
+            };
+
+            UncheckedException exception = UncheckedException.withoutStackTrace(new IOException());
+            UncheckedExceptionListeners.notify(listener, exception, task);
+
+            verify(listener).uncheckedExceptionCreated(exception, task.getClass());
+            verifyNoMoreInteractions(listener);
+
+            assertArrayEquals(new Throwable[0], exception.getSuppressed());
+        }
+
+        @Test
+        void testListenerThrowsException() {
+            IllegalStateException error = new IllegalStateException("listener failed");
+            UncheckedExceptionListener listener = (exception, source) -> {
+                throw error;
+            };
+
+            UncheckedException exception = UncheckedException.withoutStackTrace(new IOException());
+            UncheckedExceptionListeners.notify(listener, exception, "source");
+
+            assertArrayEquals(new Throwable[] { error }, exception.getSuppressed());
+        }
+    }
+
+    @Test
+    void testAdaptersUnchecked() {
+        IOException cause = new IOException("foo");
+
+        UncheckedException exception = Adapters.unchecked(cause, "source");
+
+        assertSame(cause, exception.getCause());
+        assertEquals(cause.toString(), exception.getMessage());
+        assertArrayEquals(new StackTraceElement[0], exception.getStackTrace());
+    }
+}
@@ -24,6 +24,7 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -97,6 +98,50 @@ class UncheckedExceptionTest {
         assertThat(lines.get(indexOfCause + 1), containsString("UncheckedExceptionTest.testWithoutStackTrace"));
     }
 
+    @Test
+    void testWithStackTraceCreatesMessageLazily() {
+        CountingException cause = new CountingException();
+        UncheckedException exception = UncheckedException.withStackTrace(cause);
+
+        assertEquals(0, cause.toStringCount);
+
+        assertEquals(cause.toString(), exception.getMessage());
+        assertEquals(cause.toString(), exception.getMessage());
+
+        // toString() is called once for each assertion, and once for the message
+        assertEquals(3, cause.toStringCount);
+    }
+
+    @Test
+    void testWithoutStackTraceCreatesMessageLazily() {
+        CountingException cause = new CountingException();
+        UncheckedException exception = UncheckedException.withoutStackTrace(cause);
+
+        assertEquals(0, cause.toStringCount);
+
+        assertEquals(cause.toString(), exception.getMessage());
+        assertEquals(cause.toString(), exception.getMessage());
+
+        // toString() is called once for each assertion, and once for the message
+        assertEquals(3, cause.toStringCount);
+    }
+
+    @Test
+    void testWithExplicitMessage() {
+        IOException cause = new IOException();
+
+        assertEquals("foo", UncheckedException.withStackTrace("foo", cause).getMessage());
+        assertEquals("foo", UncheckedException.withoutStackTrace("foo", cause).getMessage());
+        assertNull(UncheckedException.withStackTrace(null, cause).getMessage());
+        assertNull(UncheckedException.withoutStackTrace(null, cause).getMessage());
+    }
+
+    @Test
+    void testNullCause() {
+        assertThrows(NullPointerException.class, () -> UncheckedException.withStackTrace(null));
+        assertThrows(NullPointerException.class, () -> UncheckedException.withoutStackTrace(null));
+    }
+
     private List<String> getStackTraceLines(UncheckedException exception) {
         StringWriter writer = new StringWriter();
         try (PrintWriter printWriter = new PrintWriter(writer)) {
@@ -223,4 +268,16 @@ class UncheckedExceptionTest {
             }
         }
     }
+
+    @SuppressWarnings("serial")
+    private static final class CountingException extends IOException {
+
+        private int toStringCount = 0;
+
+        @Override
+        public String toString() {
+            toStringCount++;
+            return super.toString();
+        }
+    }
 }